@@ -16,21 +16,49 @@
 
 package com.github.m0nk3y2k4.thetvdb;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Map;
 
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
 import com.github.m0nk3y2k4.thetvdb.api.APIKey;
 import com.github.m0nk3y2k4.thetvdb.api.Proxy;
 import com.github.m0nk3y2k4.thetvdb.api.QueryParameters;
 import com.github.m0nk3y2k4.thetvdb.api.TheTVDBApi;
+import com.github.m0nk3y2k4.thetvdb.api.cache.ResponseCache;
+import com.github.m0nk3y2k4.thetvdb.api.circuitbreaker.CircuitBreaker;
+import com.github.m0nk3y2k4.thetvdb.api.circuitbreaker.CircuitBreakerListener;
+import com.github.m0nk3y2k4.thetvdb.api.endpoint.EndpointGroup;
 import com.github.m0nk3y2k4.thetvdb.api.enumeration.FundingModel;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.LoadBalancing;
+import com.github.m0nk3y2k4.thetvdb.api.hedging.HedgingPolicy;
+import com.github.m0nk3y2k4.thetvdb.api.keypool.KeyPool;
+import com.github.m0nk3y2k4.thetvdb.api.metrics.MetricsRecorder;
 import com.github.m0nk3y2k4.thetvdb.api.model.data.FavoriteRecord;
+import com.github.m0nk3y2k4.thetvdb.api.ratelimit.RateLimiter;
+import com.github.m0nk3y2k4.thetvdb.api.retry.RetryPolicy;
+import com.github.m0nk3y2k4.thetvdb.api.token.TokenStore;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.APIConfigurationImpl;
 import com.github.m0nk3y2k4.thetvdb.internal.api.impl.APIKeyImpl;
 import com.github.m0nk3y2k4.thetvdb.internal.api.impl.QueryParametersImpl;
 import com.github.m0nk3y2k4.thetvdb.internal.api.impl.TheTVDBApiImpl;
 import com.github.m0nk3y2k4.thetvdb.internal.api.impl.model.data.FavoriteRecordDTO;
 import com.github.m0nk3y2k4.thetvdb.internal.connection.RemoteAPI;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.cache.DiskResponseCache;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.cache.MemoryResponseCache;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.cache.TieredResponseCache;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.circuitbreaker.ConsecutiveFailuresCircuitBreaker;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.endpoint.HealthCheckedEndpointGroup;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.hedging.PercentileHedgingPolicy;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.keypool.LeastOutstandingKeyPool;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.metrics.HistogramMetricsRecorder;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.ratelimit.TokenBucketRateLimiter;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.retry.ExponentialBackoffRetryPolicy;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.token.FileTokenStore;
 
 /**
  * Factory used to create new API instances
@@ -80,6 +108,69 @@ public final class TheTVDBApiFactory {
         return new TheTVDBApiImpl(apiKey, proxy);
     }
 
+    /**
+     * Creates a new TheTVDBApi instance. The given <em>{@code apiKey}</em> must be a valid
+     * <a target="_blank" href="https://www.thetvdb.com/dashboard/account/apikey">TheTVDB.com v4 API Key</a> which will
+     * be used for remote service authentication. To authenticate and generate a new session token use the
+     * {@link TheTVDBApi#init()} or {@link TheTVDBApi#login()} methods right after creating a new instance of this API.
+     * The communication with the remote API will be conducted according to the given <em>{@code configuration}</em>.
+     *
+     * @param apiKey        Valid <i>TheTVDB.com</i> v4 API-Key
+     * @param configuration The technical configuration to be used for remote API communication
+     *
+     * @return A new TheTVDBApi instance using the given API key for authentication and the given configuration for
+     *         remote API communication
+     *
+     * @see TheTVDBApiFactory#createConfigurationBuilder()
+     */
+    public static TheTVDBApi createApi(@Nonnull APIKey apiKey, @Nonnull APIConfiguration configuration) {
+        return new TheTVDBApiImpl(apiKey, configuration);
+    }
+
+    /**
+     * Creates a new TheTVDBApi instance. The given <em>{@code apiKey}</em> must be a valid
+     * <a target="_blank" href="https://www.thetvdb.com/dashboard/account/apikey">TheTVDB.com v4 API Key</a> which will
+     * be used for remote service authentication. To authenticate and generate a new session token use the
+     * {@link TheTVDBApi#init()} or {@link TheTVDBApi#login()} methods right after creating a new instance of this API.
+     * All communication to the remote API will be forwarded to the given <em>{@code proxy}</em> and will be conducted
+     * according to the given <em>{@code configuration}</em>.
+     *
+     * @param apiKey        Valid <i>TheTVDB.com</i> v4 API-Key
+     * @param proxy         The proxy service to be used for remote API communication
+     * @param configuration The technical configuration to be used for remote API communication
+     *
+     * @return A new TheTVDBApi instance using the given API key for authentication forwarding all communication to the
+     *         given proxy using the given configuration
+     *
+     * @see TheTVDBApiFactory#createConfigurationBuilder()
+     */
+    public static TheTVDBApi createApi(@Nonnull APIKey apiKey, @Nonnull Proxy proxy,
+            @Nonnull APIConfiguration configuration) {
+        return new TheTVDBApiImpl(apiKey, proxy, configuration);
+    }
+
+    /**
+     * Creates a new TheTVDBApi instance spreading its requests across the keys of the given <em>{@code keyPool}</em>.
+     * All keys of the pool must be valid
+     * <a target="_blank" href="https://www.thetvdb.com/dashboard/account/apikey">TheTVDB.com v4 API Keys</a> as a
+     * separate session will be authenticated for each of them. To authenticate and generate new session tokens for all
+     * keys use the {@link TheTVDBApi#init()} or {@link TheTVDBApi#login()} methods right after creating a new instance
+     * of this API. The communication with the remote API will be conducted according to the given
+     * <em>{@code configuration}</em>.
+     *
+     * @param keyPool       Pool providing the valid <i>TheTVDB.com</i> v4 API-Keys
+     * @param configuration The technical configuration to be used for remote API communication
+     *
+     * @return A new TheTVDBApi instance using the keys of the given pool for authentication and the given configuration
+     *         for remote API communication
+     *
+     * @see TheTVDBApiFactory#createKeyPool(Collection)
+     * @see TheTVDBApiFactory#createConfigurationBuilder()
+     */
+    public static TheTVDBApi createApi(@Nonnull KeyPool keyPool, @Nonnull APIConfiguration configuration) {
+        return new TheTVDBApiImpl(keyPool, configuration);
+    }
+
     /**
      * Creates a new query parameter object to be used with some API calls. The returned object is empty and does not
      * contain any preset query parameters. Those parameters have to be added manually by using the
@@ -200,4 +291,224 @@ public final class TheTVDBApiFactory {
     public static FavoriteRecord.FavoriteRecordBuilder createFavoriteRecordBuilder() {
         return new FavoriteRecordDTO.Builder();
     }
+
+    /**
+     * Creates and returns a new builder for {@link APIConfiguration} objects which can be used to adjust the technical
+     * settings of new TheTVDBApi instances. Use the builder methods to set the properties you would like to change.
+     * Properties which are not set explicitly will keep their default values. Afterwards invoke the
+     * {@link APIConfiguration.APIConfigurationBuilder#build() build} method to create a new configuration object.
+     *
+     * @return A new builder used to create an API configuration
+     *
+     * @see TheTVDBApiFactory#createApi(APIKey, APIConfiguration)
+     * @see TheTVDBApiFactory#createApi(APIKey, Proxy, APIConfiguration)
+     */
+    public static APIConfiguration.APIConfigurationBuilder createConfigurationBuilder() {
+        return new APIConfigurationImpl.Builder();
+    }
+
+    /**
+     * Creates a new in-memory cache which can be {@link APIConfiguration.APIConfigurationBuilder#responseCache set} as
+     * response cache of new TheTVDBApi instances. The cache is bounded by the total size of the cached responses. Once
+     * this size is exceeded, least recently used responses will be evicted, unless the new response has been requested
+     * less frequently than the responses it would replace. The returned cache may be shared by multiple API instances.
+     *
+     * @param maximumSize Maximum total size of all cached responses in bytes
+     *
+     * @return A new, empty in-memory response cache
+     *
+     * @see TheTVDBApiFactory#createConfigurationBuilder()
+     */
+    public static ResponseCache createResponseCache(long maximumSize) {
+        return new MemoryResponseCache(maximumSize);
+    }
+
+    /**
+     * Creates a new two-tier cache which can be {@link APIConfiguration.APIConfigurationBuilder#responseCache set} as
+     * response cache of new TheTVDBApi instances. Popular responses are kept in memory, whereas all responses are also
+     * persisted as gzip-compressed segment files within the given directory. Responses that have been persisted by a
+     * previous cache using the same directory will be available immediately, e.g. after an application restart. Once
+     * the maximum disk size is exceeded, the oldest segment files will be deleted. The directory is owned by a single
+     * cache at a time: it will be locked until the cache is closed and creating another cache for the same directory,
+     * e.g. by another process, fails in the meantime. The cache will be closed together with the API instance it has
+     * been configured for. Closing the cache directly, e.g. when it has not been used by any API instance, is possible
+     * as well.
+     *
+     * @param maximumSize     Maximum total size of all responses cached in memory in bytes
+     * @param directory       Directory in which the responses should be persisted. Will be created if necessary.
+     * @param maximumDiskSize Maximum total size of all segment files in bytes
+     *
+     * @return A new response cache, initialized with the valid responses already persisted in the given directory
+     *
+     * @see TheTVDBApiFactory#createConfigurationBuilder()
+     */
+    public static ResponseCache createResponseCache(long maximumSize, @Nonnull Path directory, long maximumDiskSize) {
+        return new TieredResponseCache(new MemoryResponseCache(maximumSize),
+                new DiskResponseCache(directory, maximumDiskSize));
+    }
+
+    /**
+     * Creates a new token bucket rate limiter which can be {@link APIConfiguration.APIConfigurationBuilder#rateLimiter
+     * set} as rate limiter of new TheTVDBApi instances. Permits are issued at the given rate and may be accumulated up
+     * to the given burst size while the API is idle. Whenever the remote service throttles a request via HTTP-429 or
+     * HTTP-503, the rate will be halved and the time requested via the <em>{@code Retry-After}</em> header will be
+     * honored. Afterwards, the rate will slowly recover with each successful request. The returned limiter may be
+     * shared by multiple API instances.
+     *
+     * @param permitsPerSecond Maximum number of requests per second
+     * @param burst            Maximum number of requests which may be sent at once after an idle period
+     *
+     * @return A new rate limiter with a full bucket
+     *
+     * @see TheTVDBApiFactory#createConfigurationBuilder()
+     */
+    public static RateLimiter createRateLimiter(double permitsPerSecond, int burst) {
+        return new TokenBucketRateLimiter(permitsPerSecond, burst);
+    }
+
+    /**
+     * Creates a new retry policy which can be {@link APIConfiguration.APIConfigurationBuilder#retryPolicy set} as retry
+     * policy of new TheTVDBApi instances. Idempotent requests failing due to a transient error, e.g. a connection reset
+     * or an HTTP-503 status, will be retried up to the given number of times. Before each retry, the policy waits for a
+     * random delay between zero and an upper bound which starts at the given base delay and doubles with each retry
+     * until the given maximum delay is reached. In order to prevent retries from amplifying an outage of the remote
+     * service, the number of retries is additionally limited to the given ratio of all requests.
+     *
+     * @param maxRetries  Maximum number of retries per request
+     * @param baseDelay   The upper bound of the delay before the first retry
+     * @param maxDelay    The upper bound of the delay before any retry
+     * @param budgetRatio Maximum ratio of retries to requests, e.g. <em>{@code 0.1}</em> for at most one retry per ten
+     *                    requests
+     *
+     * @return A new retry policy with a full retry budget
+     *
+     * @see TheTVDBApiFactory#createConfigurationBuilder()
+     */
+    public static RetryPolicy createRetryPolicy(int maxRetries, @Nonnull Duration baseDelay, @Nonnull Duration maxDelay,
+            double budgetRatio) {
+        return new ExponentialBackoffRetryPolicy(maxRetries, baseDelay, maxDelay, budgetRatio);
+    }
+
+    /**
+     * Creates a new circuit breaker which can be {@link APIConfiguration.APIConfigurationBuilder#circuitBreaker set} as
+     * circuit breaker of new TheTVDBApi instances. Each route family, e.g. <em>{@code /series}</em> or
+     * <em>{@code /search}</em>, is guarded by its own circuit. Once the given number of consecutive requests to a route
+     * family failed, its circuit opens and all further requests to this family will be rejected immediately. After the
+     * given open duration, the given number of probe requests will be permitted. If all probes succeed the circuit will
+     * be closed again, otherwise it will be opened for another open duration.
+     *
+     * @param failureThreshold Number of consecutive failures after which a circuit opens
+     * @param openDuration     Time for which an open circuit rejects all requests before probing the remote service
+     * @param probeCount       Number of successful probe requests required to close the circuit again
+     * @param listener         Listener to be notified whenever a circuit changes its state. Might be
+     *                         <em>{@code null}</em>.
+     *
+     * @return A new circuit breaker with closed circuits for all route families
+     *
+     * @see TheTVDBApiFactory#createConfigurationBuilder()
+     */
+    public static CircuitBreaker createCircuitBreaker(int failureThreshold, @Nonnull Duration openDuration,
+            int probeCount, @CheckForNull CircuitBreakerListener listener) {
+        return new ConsecutiveFailuresCircuitBreaker(failureThreshold, openDuration, probeCount, listener);
+    }
+
+    /**
+     * Creates a new hedging policy which can be {@link APIConfiguration.APIConfigurationBuilder#hedgingPolicy set} as
+     * hedging policy of new TheTVDBApi instances. The policy records the latencies of the given number of most recent
+     * responses per route family, e.g. <em>{@code /series}</em> or <em>{@code /search}</em>. If a <em>{@code GET}</em>
+     * request has not been answered within the given percentile of these latencies, a duplicate request will be sent
+     * and the first response received will be used. The number of duplicates is limited by a hedge budget, which is
+     * replenished by each request with the given budget ratio.
+     *
+     * @param percentile  The percentile of the recorded latencies after which a request will be hedged, e.g.
+     *                    <em>{@code 0.95}</em>. Must be a value between <em>{@code 0}</em> and <em>{@code 1}</em> (both
+     *                    exclusive).
+     * @param windowSize  Number of most recent latencies recorded per route family. Must be at least
+     *                    <em>{@code 10}</em>.
+     * @param budgetRatio Maximum ratio of duplicates to requests, e.g. <em>{@code 0.05}</em> for one duplicate per
+     *                    twenty requests. Must be a value between <em>{@code 0}</em> and <em>{@code 1}</em>.
+     *
+     * @return A new hedging policy with a full hedge budget
+     *
+     * @see TheTVDBApiFactory#createConfigurationBuilder()
+     */
+    public static HedgingPolicy createHedgingPolicy(double percentile, int windowSize, double budgetRatio) {
+        return new PercentileHedgingPolicy(percentile, windowSize, budgetRatio);
+    }
+
+    /**
+     * Creates a new file based token store which can be {@link APIConfiguration.APIConfigurationBuilder#tokenStore
+     * set} as token store of new TheTVDBApi instances. Each session token will be stored in a separate file within the
+     * given directory. Tokens that have been stored by a previous instance using the same directory will be adopted,
+     * e.g. after an application restart. The directory may be shared by multiple processes, e.g. via a network file
+     * system, which will then only request a new token from the remote service one at a time.
+     *
+     * @param directory Directory in which the tokens should be stored. Will be created if necessary.
+     *
+     * @return A new token store, providing access to the tokens already stored in the given directory
+     *
+     * @see TheTVDBApiFactory#createConfigurationBuilder()
+     */
+    public static TokenStore createTokenStore(@Nonnull Path directory) {
+        return new FileTokenStore(directory);
+    }
+
+    /**
+     * Creates a new key pool which can be used to {@link #createApi(KeyPool, APIConfiguration) create} TheTVDBApi
+     * instances spreading their requests across multiple API keys. Each request will be sent with the key which
+     * currently has the fewest requests in progress. Keys which have been throttled by the remote service will be
+     * avoided for the time demanded by the service, whereas keys failing authorization will be avoided for five
+     * minutes. Statistics for each key are available via {@link KeyPool#getStatistics()}.
+     *
+     * @param apiKeys Valid <i>TheTVDB.com</i> v4 API-Keys. Must contain at least one key and no duplicates.
+     *
+     * @return A new key pool containing the given keys
+     *
+     * @see TheTVDBApiFactory#createAPIKey(String) createAPIKey(apiKey)
+     * @see TheTVDBApiFactory#createAPIKey(String, String) createAPIKey(apiKey, pin)
+     */
+    public static KeyPool createKeyPool(@Nonnull Collection<APIKey> apiKeys) {
+        return new LeastOutstandingKeyPool(apiKeys);
+    }
+
+    /**
+     * Creates a new endpoint group which can be used to spread the requests of TheTVDBApi instances across multiple
+     * remote endpoints, e.g. several proxies forwarding to <i>TheTVDB.com</i>. Each request will be sent to an endpoint
+     * selected by the given load balancing strategy. Endpoints failing to connect for the given number of consecutive
+     * requests will be marked as down and avoided for the given downtime. Afterwards, the next regular request sent to
+     * the endpoint serves as health check. Idempotent requests failing to connect will be sent to another endpoint of
+     * the group. Statistics for each endpoint are available via {@link EndpointGroup#getStatistics()}.
+     *
+     * @param endpoints        The remote endpoints across which the requests should be spread. Must contain at least
+     *                         one endpoint and no duplicates.
+     * @param loadBalancing    Strategy for selecting the endpoint to which each request will be sent
+     * @param failureThreshold Number of consecutive connection failures after which an endpoint will be marked as down.
+     *                         Must be greater than zero.
+     * @param downtime         Duration for which endpoints marked as down will be avoided. Must be positive.
+     *
+     * @return A new endpoint group containing the given endpoints
+     *
+     * @see TheTVDBApiFactory#createProxy(String, String, int) createProxy(protocol, host, port)
+     * @see TheTVDBApiFactory#createConfigurationBuilder()
+     */
+    public static EndpointGroup createEndpointGroup(@Nonnull Collection<Proxy> endpoints,
+            @Nonnull LoadBalancing loadBalancing, int failureThreshold, @Nonnull Duration downtime) {
+        return new HealthCheckedEndpointGroup(endpoints, loadBalancing, failureThreshold, downtime);
+    }
+
+    /**
+     * Creates a new metrics recorder which can be {@link APIConfiguration.APIConfigurationBuilder#metricsRecorder set}
+     * as metrics recorder of new TheTVDBApi instances. The recorder aggregates the metrics of all exchanges with the
+     * remote service per request method and route template, e.g. <em>{@code /series/{id}/extended}</em>. Times to the
+     * first byte, transfer times and parse times are recorded in histograms providing percentile estimations, whereas
+     * status codes and response sizes are counted. Statistics for each route are available via
+     * {@link MetricsRecorder#getStatistics()}.
+     *
+     * @return A new metrics recorder without any recorded metrics
+     *
+     * @see TheTVDBApiFactory#createConfigurationBuilder()
+     */
+    public static MetricsRecorder createMetricsRecorder() {
+        return new HistogramMetricsRecorder();
+    }
 }
@@ -0,0 +1,454 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import com.github.m0nk3y2k4.thetvdb.TheTVDBApiFactory;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CachePolicy;
+import com.github.m0nk3y2k4.thetvdb.api.cache.ResponseCache;
+import com.github.m0nk3y2k4.thetvdb.api.circuitbreaker.CircuitBreaker;
+import com.github.m0nk3y2k4.thetvdb.api.circuitbreaker.CircuitBreakerListener;
+import com.github.m0nk3y2k4.thetvdb.api.endpoint.EndpointGroup;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.ExecutionMode;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.LoadBalancing;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.Transport;
+import com.github.m0nk3y2k4.thetvdb.api.event.APIEventListener;
+import com.github.m0nk3y2k4.thetvdb.api.hedging.HedgingPolicy;
+import com.github.m0nk3y2k4.thetvdb.api.management.ConnectionMXBean;
+import com.github.m0nk3y2k4.thetvdb.api.management.RateLimiterMXBean;
+import com.github.m0nk3y2k4.thetvdb.api.management.ResponseCacheMXBean;
+import com.github.m0nk3y2k4.thetvdb.api.metrics.MetricsRecorder;
+import com.github.m0nk3y2k4.thetvdb.api.ratelimit.RateLimiter;
+import com.github.m0nk3y2k4.thetvdb.api.retry.RetryPolicy;
+import com.github.m0nk3y2k4.thetvdb.api.token.TokenStore;
+
+/**
+ * Interface representing the technical configuration of a single {@link TheTVDBApi} instance.
+ * <p><br>
+ * The configuration determines how the API instance communicates with the remote service on a technical level. A new
+ * configuration can be {@link APIConfigurationBuilder build} using the
+ * {@link TheTVDBApiFactory#createConfigurationBuilder()} util method. All properties are optional and will fall back
+ * to their documented defaults if not set explicitly.
+ */
+public interface APIConfiguration {
+
+    /**
+     * Returns the HTTP transport used for the communication with the remote service
+     *
+     * @return The HTTP transport of this configuration (default: {@link Transport#URL_CONNECTION})
+     */
+    Transport getTransport();
+
+    /**
+     * Returns the mode in which requests that are not processed by the calling thread will be executed. Unless an
+     * {@link #getExecutor() executor} has been configured explicitly, this mode determines the kind of threads used for
+     * processing asynchronous requests.
+     *
+     * @return The execution mode of this configuration (default: {@link ExecutionMode#PLATFORM_THREADS})
+     */
+    ExecutionMode getExecutionMode();
+
+    /**
+     * Returns the executor used to process asynchronous requests. If no executor has been configured explicitly, a
+     * shared default executor matching the configured {@link #getExecutionMode() execution mode} will be used.
+     *
+     * @return Optional executor for the processing of asynchronous requests
+     *
+     * @see TheTVDBApi#async()
+     */
+    Optional<Executor> getExecutor();
+
+    /**
+     * Returns the cache used to store the responses of the remote service on the client side. If no cache has been
+     * configured, all requests will be sent to the remote service.
+     *
+     * @return Optional cache for the responses of the remote service
+     */
+    Optional<ResponseCache> getResponseCache();
+
+    /**
+     * Returns the policy determining how long responses may be served from the {@link #getResponseCache() cache}. Has
+     * no effect if no cache has been configured.
+     *
+     * @return The cache policy of this configuration (default: time-to-live per route family)
+     */
+    CachePolicy getCachePolicy();
+
+    /**
+     * Returns the limiter throttling the requests sent to the remote service. If no limiter has been configured,
+     * requests will be sent as soon as they are invoked.
+     *
+     * @return Optional rate limiter shared by all requests of the API instance
+     */
+    Optional<RateLimiter> getRateLimiter();
+
+    /**
+     * Returns the policy deciding whether idempotent requests which failed due to a transient error should be retried.
+     * If no policy has been configured, failed requests will not be retried.
+     *
+     * @return Optional retry policy shared by all requests of the API instance
+     */
+    Optional<RetryPolicy> getRetryPolicy();
+
+    /**
+     * Returns the circuit breaker rejecting requests to route families for which the remote service failed repeatedly.
+     * If no breaker has been configured, all requests will be sent to the remote service regardless of previous
+     * failures.
+     *
+     * @return Optional circuit breaker shared by all requests of the API instance
+     */
+    Optional<CircuitBreaker> getCircuitBreaker();
+
+    /**
+     * Returns the policy deciding whether a duplicate of a slow <em>{@code GET}</em> request should be sent to the
+     * remote service. If no policy has been configured, requests will never be hedged.
+     *
+     * @return Optional hedging policy shared by all requests of the API instance
+     */
+    Optional<HedgingPolicy> getHedgingPolicy();
+
+    /**
+     * Returns whether concurrent <em>{@code GET}</em> requests for the same resource and language should be coalesced
+     * into a single request to the remote service
+     *
+     * @return True if identical requests in flight are coalesced (default: <em>{@code false}</em>)
+     */
+    boolean isCoalescingRequests();
+
+    /**
+     * Returns the margin by which the session token should be renewed ahead of its expiration. If no margin has been
+     * configured, the token will only be renewed once it has been rejected by the remote service.
+     *
+     * @return Optional margin for the proactive renewal of the session token
+     */
+    Optional<Duration> getTokenRefreshMargin();
+
+    /**
+     * Returns the store used to share session tokens with other API instances. If no store has been configured, each
+     * API instance will request its own token from the remote service.
+     *
+     * @return Optional token store shared by all API instances using the same API key
+     */
+    Optional<TokenStore> getTokenStore();
+
+    /**
+     * Returns the group of remote endpoints across which all requests should be spread. If no group has been
+     * configured, all requests will be sent to the single remote endpoint of the API instance.
+     *
+     * @return Optional endpoint group shared by all requests of the API instance
+     */
+    Optional<EndpointGroup> getEndpointGroup();
+
+    /**
+     * Returns the maximum time to wait for a connection to the remote service to be established. If no timeout has been
+     * configured, the default of the underlying transport will be used, which might be infinite.
+     *
+     * @return Optional timeout for establishing connections
+     */
+    Optional<Duration> getConnectTimeout();
+
+    /**
+     * Returns the maximum time to wait for data from the remote service once a request has been sent. If no timeout has
+     * been configured, the default of the underlying transport will be used, which might be infinite.
+     *
+     * @return Optional timeout for receiving responses
+     */
+    Optional<Duration> getReadTimeout();
+
+    /**
+     * Returns the maximum time a single API call may take as a whole, including any on-demand authorization, retries,
+     * back-off delays and waiting for the rate limiter. If no timeout has been configured, calls are only limited by
+     * the connect and read timeouts of each individual request.
+     *
+     * @return Optional deadline for each API call, relative to the point in time at which the call has been invoked
+     */
+    Optional<Duration> getCallTimeout();
+
+    /**
+     * Returns the recorder collecting metrics about each exchange with the remote service. If no recorder has been
+     * configured, no metrics will be recorded at all.
+     *
+     * @return Optional metrics recorder shared by all requests of the API instance
+     */
+    Optional<MetricsRecorder> getMetricsRecorder();
+
+    /**
+     * Returns the listener which will be notified about the lifecycle events of each API call. If no listener has been
+     * configured, no events will be fired at all.
+     *
+     * @return Optional event listener shared by all calls of the API instance
+     */
+    Optional<APIEventListener> getEventListener();
+
+    /**
+     * Returns the name under which the JMX MBeans of the API instance will be registered at the platform MBean server.
+     * If no name has been configured, no MBeans will be registered at all.
+     *
+     * @return Optional name of the MBeans of the API instance
+     */
+    Optional<String> getManagementName();
+
+    /**
+     * Builder class used to create new instances of the {@link APIConfiguration} interface.
+     * <p><br>
+     * All properties are optional which means they can be omitted. Properties that have not been set explicitly will be
+     * initialized with their default values when invoking the {@link #build()} method.
+     *
+     * @see TheTVDBApiFactory#createConfigurationBuilder()
+     */
+    interface APIConfigurationBuilder {
+
+        /**
+         * Sets the HTTP transport to be used for the communication with the remote service
+         *
+         * @param transport The HTTP transport
+         *
+         * @return This builder for use in a chained invocation
+         */
+        APIConfigurationBuilder transport(Transport transport);
+
+        /**
+         * Sets the mode in which requests that are not processed by the calling thread should be executed. Using
+         * {@link ExecutionMode#VIRTUAL_THREADS} is recommended in combination with the {@link Transport#HTTP_CLIENT}
+         * transport.
+         *
+         * @param executionMode The execution mode
+         *
+         * @return This builder for use in a chained invocation
+         */
+        APIConfigurationBuilder executionMode(ExecutionMode executionMode);
+
+        /**
+         * Sets the executor to be used for the processing of asynchronous requests. A configured executor takes
+         * precedence over the {@link #executionMode(ExecutionMode) execution mode}. If the
+         * {@link Transport#HTTP_CLIENT} transport is used, the executor will also be handed over to the underlying HTTP
+         * client.
+         *
+         * @param executor The executor for asynchronous requests
+         *
+         * @return This builder for use in a chained invocation
+         */
+        APIConfigurationBuilder executor(Executor executor);
+
+        /**
+         * Sets the cache used to store the responses of the remote service on the client side. The same cache may be
+         * shared by multiple API instances.
+         *
+         * @param responseCache The cache for the responses of the remote service
+         *
+         * @return This builder for use in a chained invocation
+         *
+         * @see TheTVDBApiFactory#createResponseCache(long)
+         */
+        APIConfigurationBuilder responseCache(ResponseCache responseCache);
+
+        /**
+         * Sets the policy determining how long responses may be served from the configured cache
+         *
+         * @param cachePolicy The cache policy
+         *
+         * @return This builder for use in a chained invocation
+         */
+        APIConfigurationBuilder cachePolicy(CachePolicy cachePolicy);
+
+        /**
+         * Sets the limiter throttling the requests sent to the remote service. The same limiter may be shared by
+         * multiple API instances in order to limit their combined rate.
+         *
+         * @param rateLimiter The rate limiter
+         *
+         * @return This builder for use in a chained invocation
+         *
+         * @see TheTVDBApiFactory#createRateLimiter(double, int)
+         */
+        APIConfigurationBuilder rateLimiter(RateLimiter rateLimiter);
+
+        /**
+         * Sets the policy deciding whether idempotent requests which failed due to a transient error should be
+         * retried. As the policy maintains a retry budget per instance, it should not be shared by multiple API
+         * instances.
+         *
+         * @param retryPolicy The retry policy
+         *
+         * @return This builder for use in a chained invocation
+         *
+         * @see TheTVDBApiFactory#createRetryPolicy(int, Duration, Duration, double)
+         */
+        APIConfigurationBuilder retryPolicy(RetryPolicy retryPolicy);
+
+        /**
+         * Sets the circuit breaker rejecting requests to route families for which the remote service failed
+         * repeatedly. The same breaker may be shared by multiple API instances communicating with the same remote
+         * service.
+         *
+         * @param circuitBreaker The circuit breaker
+         *
+         * @return This builder for use in a chained invocation
+         *
+         * @see TheTVDBApiFactory#createCircuitBreaker(int, Duration, int, CircuitBreakerListener)
+         */
+        APIConfigurationBuilder circuitBreaker(CircuitBreaker circuitBreaker);
+
+        /**
+         * Sets the policy deciding whether a duplicate of a slow <em>{@code GET}</em> request should be sent to the
+         * remote service. As the policy maintains a hedge budget per instance, it should not be shared by multiple API
+         * instances.
+         *
+         * @param hedgingPolicy The hedging policy
+         *
+         * @return This builder for use in a chained invocation
+         *
+         * @see TheTVDBApiFactory#createHedgingPolicy(double, int, double)
+         */
+        APIConfigurationBuilder hedgingPolicy(HedgingPolicy hedgingPolicy);
+
+        /**
+         * Sets whether concurrent <em>{@code GET}</em> requests for the same resource and language should be coalesced
+         * into a single request to the remote service. If enabled, requests which are invoked while an identical
+         * request is in flight will not be sent but wait for the response to this request.
+         *
+         * @param coalescingRequests True if identical requests in flight should be coalesced
+         *
+         * @return This builder for use in a chained invocation
+         */
+        APIConfigurationBuilder isCoalescingRequests(boolean coalescingRequests);
+
+        /**
+         * Sets the margin by which the session token should be renewed ahead of its expiration. Once a token stating
+         * its expiration time has been issued, a new token will be requested in the background this margin before the
+         * current token expires. Requests sent in the meantime will continue to use the current token.
+         *
+         * @param tokenRefreshMargin The margin for the proactive renewal of the session token. Must not be negative.
+         *
+         * @return This builder for use in a chained invocation
+         */
+        APIConfigurationBuilder tokenRefreshMargin(Duration tokenRefreshMargin);
+
+        /**
+         * Sets the store used to share session tokens with other API instances. The same store may be shared by
+         * multiple API instances, even across processes, in order to reduce the number of logins on the remote service.
+         * Stores should not be shared by API instances communicating with different remote endpoints.
+         *
+         * @param tokenStore The token store
+         *
+         * @return This builder for use in a chained invocation
+         *
+         * @see TheTVDBApiFactory#createTokenStore(Path)
+         */
+        APIConfigurationBuilder tokenStore(TokenStore tokenStore);
+
+        /**
+         * Sets the group of remote endpoints across which all requests should be spread, e.g. several reverse proxies
+         * in front of the remote service. If set, the endpoints of the group will be used instead of the remote
+         * endpoint or proxy the API instance has been created with. As the group keeps track of the health of its
+         * endpoints, it may be shared by multiple API instances.
+         *
+         * @param endpointGroup The endpoint group
+         *
+         * @return This builder for use in a chained invocation
+         *
+         * @see TheTVDBApiFactory#createEndpointGroup(Collection, LoadBalancing, int, Duration)
+         */
+        APIConfigurationBuilder endpointGroup(EndpointGroup endpointGroup);
+
+        /**
+         * Sets the maximum time to wait for a connection to the remote service to be established. For the
+         * {@link Transport#HTTP_CLIENT} transport, the timeout applies to each new connection of the shared client.
+         *
+         * @param connectTimeout The timeout for establishing connections. Must be positive.
+         *
+         * @return This builder for use in a chained invocation
+         */
+        APIConfigurationBuilder connectTimeout(Duration connectTimeout);
+
+        /**
+         * Sets the maximum time to wait for data from the remote service once a request has been sent. For the
+         * {@link Transport#URL_CONNECTION} transport, the timeout applies to each read from the connection, whereas
+         * for the {@link Transport#HTTP_CLIENT} transport it applies to the time until the response has been received.
+         *
+         * @param readTimeout The timeout for receiving responses. Must be positive.
+         *
+         * @return This builder for use in a chained invocation
+         */
+        APIConfigurationBuilder readTimeout(Duration readTimeout);
+
+        /**
+         * Sets the maximum time a single API call may take as a whole. Each call gets a deadline this timeout after it
+         * has been invoked, which will be shared by all requests sent on behalf of the call, e.g. on-demand logins and
+         * retries. The remaining time will limit the connect and read timeouts of these requests. Calls exceeding
+         * their deadline fail with a dedicated timeout exception rather than waiting any longer.
+         *
+         * @param callTimeout The deadline for each API call. Must be positive.
+         *
+         * @return This builder for use in a chained invocation
+         *
+         * @see TheTVDBApi#withCallTimeout(Duration)
+         */
+        APIConfigurationBuilder callTimeout(Duration callTimeout);
+
+        /**
+         * Sets the recorder collecting metrics about each exchange with the remote service, like the time to the first
+         * byte, the transfer and parse times as well as the size of the responses. The same recorder may be shared by
+         * multiple API instances in order to aggregate their metrics.
+         *
+         * @param metricsRecorder The metrics recorder
+         *
+         * @return This builder for use in a chained invocation
+         *
+         * @see TheTVDBApiFactory#createMetricsRecorder()
+         */
+        APIConfigurationBuilder metricsRecorder(MetricsRecorder metricsRecorder);
+
+        /**
+         * Sets the listener which will be notified about the lifecycle events of each API call, like the start of the
+         * call, the exchanges with the remote service, retries, logins and the final outcome of the call. Each event
+         * carries a correlation ID, so that tracing spans can be built around the calls of the API instance.
+         *
+         * @param eventListener The event listener
+         *
+         * @return This builder for use in a chained invocation
+         */
+        APIConfigurationBuilder eventListener(APIEventListener eventListener);
+
+        /**
+         * Sets the name under which the JMX MBeans of the API instance will be registered at the platform MBean
+         * server. For each API instance, a {@link ConnectionMXBean} will be registered with the object name
+         * <em>{@code com.github.m0nk3y2k4.thetvdb:type=Connection,name=<managementName>}</em>. API instances using a
+         * response cache or a rate limiter additionally register a {@link ResponseCacheMXBean} or
+         * {@link RateLimiterMXBean} of the type <em>{@code ResponseCache}</em> or <em>{@code RateLimiter}</em> with the
+         * same name. The name has to be unique: creating an API instance fails while another API instance using the
+         * same name has not yet been {@link TheTVDBApi#close() closed}, which unregisters its MBeans again.
+         *
+         * @param managementName The name of the MBeans. Must not be blank.
+         *
+         * @return This builder for use in a chained invocation
+         */
+        APIConfigurationBuilder managementName(String managementName);
+
+        /**
+         * Builds a new {@link APIConfiguration}
+         *
+         * @return An immutable instance of APIConfiguration
+         */
+        APIConfiguration build();
+    }
+}
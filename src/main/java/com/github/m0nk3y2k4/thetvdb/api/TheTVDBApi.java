@@ -16,8 +16,10 @@
 
 package com.github.m0nk3y2k4.thetvdb.api;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nonnull;
 
@@ -30,6 +32,7 @@ import com.github.m0nk3y2k4.thetvdb.api.enumeration.SearchType;
 import com.github.m0nk3y2k4.thetvdb.api.enumeration.SeasonMeta;
 import com.github.m0nk3y2k4.thetvdb.api.enumeration.SeriesMeta;
 import com.github.m0nk3y2k4.thetvdb.api.enumeration.SeriesSeasonType;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.Transport;
 import com.github.m0nk3y2k4.thetvdb.api.enumeration.UpdateAction;
 import com.github.m0nk3y2k4.thetvdb.api.enumeration.UpdateEntityType;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
@@ -118,12 +121,19 @@ import com.github.m0nk3y2k4.thetvdb.api.model.data.UserInfo;
  * don't want to parse the JSON data at all (but forward it to some other service for example). It would also be the
  * preferred layout in case you need access to additional (e.g. experimental) properties that are not yet officially
  * declared by the formal API description. This layout does not provide any shortcut-methods though.</li>
+ * <li>{@link Async}<br>
+ * This layout may be used if requests should be sent without blocking the calling thread. It is basically the
+ * asynchronous counterpart of the {@link Extended} layout. All methods within this layout will immediately return a
+ * {@link CompletableFuture} which will eventually be completed with the corresponding {@link APIResponse} object. This
+ * allows multiple requests to be sent in parallel without having to occupy one thread per request. This layout does
+ * not provide any shortcut-methods.</li>
  * </ul>
  * <p><br>
- * Once an API instance has been created, the additional layouts can be accessed via the {@link #extended()} or
- * {@link #json()} method.
+ * Once an API instance has been created, the additional layouts can be accessed via the {@link #extended()},
+ * {@link #json()} or {@link #async()} method. API instances which are no longer needed should be {@link #close()
+ * closed}, in order to release the resources they registered outside of the instance itself.
  */
-public interface TheTVDBApi {
+public interface TheTVDBApi extends AutoCloseable {
 
     /**
      * Initializes the current API session by requesting a new token from the remote API. This token will be used for
@@ -185,6 +195,34 @@ public interface TheTVDBApi {
      */
     void login() throws APIException;
 
+    /**
+     * Prepares this API instance for sending requests, so that the first call to any of the API routes will be about as
+     * fast as all subsequent calls. This includes building the JSON deserializers for the responses of all API routes
+     * as well as initializing the current API session, unless it has already been initialized with a valid token. As
+     * the login request is sent to the remote service, this will also establish the connection to the remote service,
+     * including DNS lookup and TLS handshake, which may then be reused by subsequent requests. Actually this method
+     * will do the same as {@link #warmUp(boolean) warmUp(false)}.
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
+     *                      not found, etc.
+     */
+    void warmUp() throws APIException;
+
+    /**
+     * Prepares this API instance for sending requests, so that the first call to any of the API routes will be about as
+     * fast as all subsequent calls. Like {@link #warmUp()}, this will build the JSON deserializers for the responses of
+     * all API routes and initialize the current API session, unless it has already been initialized with a valid
+     * token. If <em>{@code primeReferenceData}</em> is set, the routes providing reference data like the available
+     * genres, statuses or content ratings will additionally be requested concurrently. These responses will be stored
+     * in the response cache, if one has been configured.
+     *
+     * @param primeReferenceData Whether the API routes providing reference data should be requested as well
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
+     *                      not found, etc.
+     */
+    void warmUp(boolean primeReferenceData) throws APIException;
+
     /**
      * Returns a collection of available artwork statuses mapped as Java DTO.
      * <p><br>
@@ -1649,6 +1687,44 @@ public interface TheTVDBApi {
      */
     Extended extended();
 
+    /**
+     * Provides access to the API's {@link Async Async} layout.
+     * <p><br>
+     * In this layout, all methods will immediately return a {@link CompletableFuture} which will eventually be completed
+     * with a single {@link APIResponse} object, containing the actual request data, mapped as DTO, as well as all
+     * additional information that is available in the corresponding context.
+     *
+     * @return Instance representing the API's <em>{@code Async}</em> layout
+     */
+    Async async();
+
+    /**
+     * Returns a view of this API instance whose calls have to be completed within the given timeout, instead of the
+     * {@link APIConfiguration#getCallTimeout() call timeout} configured for this instance. The deadline of each call
+     * covers all work done on its behalf, including on-demand logins, retries and waiting for the rate limiter. Calls
+     * exceeding their deadline fail with an {@link APIException} rather than waiting any longer.
+     * <p><br>
+     * The returned view shares the session, configuration and all other resources with this API instance. It may be
+     * used for a single call as well as for a whole series of calls, each of them getting its own deadline.
+     *
+     * @param callTimeout The time each call of the returned view may take as a whole. Must be positive.
+     *
+     * @return View of this API instance limiting the duration of its calls to the given timeout
+     */
+    TheTVDBApi withCallTimeout(@Nonnull Duration callTimeout);
+
+    /**
+     * Closes this API instance. The JMX MBeans registered for this instance under its configured
+     * {@link APIConfiguration#getManagementName() management name} will be unregistered, so that the name may be used
+     * by another API instance, and the background renewal of the session token will be stopped. The configured
+     * {@link APIConfiguration#getResponseCache() response cache} will be closed too, e.g. releasing the lock of its
+     * cache directory. Closing an API instance also closes all of its {@link #withCallTimeout(Duration) views}, as
+     * they share the same resources. Closing an instance which has already been closed has no effect. The instance
+     * should not be used for any further calls afterwards.
+     */
+    @Override
+    void close();
+
     /**
      * Interface representing the API's <em>{@code JSON}</em> layout.
      * <p><br>
@@ -3858,6 +3934,1145 @@ public interface TheTVDBApi {
         APIResponse<Void> createUserFavorites(@Nonnull FavoriteRecord favoriteRecord) throws APIException;
     }
 
+    /**
+     * Interface representing the API's <em>{@code Async}</em> layout.
+     * <p><br>
+     * This layout mirrors the {@link Extended} layout but will not block the calling thread. Instead, all methods will
+     * immediately return a {@link CompletableFuture} which will eventually be completed with the {@link APIResponse} or
+     * exceptionally with an {@link APIException}. Multiple requests may therefore be fanned out at once and be combined
+     * afterwards. When using the {@link Transport#HTTP_CLIENT HTTP client} transport, requests are sent via
+     * non-blocking I/O and will not occupy any thread while waiting for the remote service to respond. Otherwise, each
+     * request will be processed by a thread of the {@link APIConfiguration#getExecutor() configured executor}. Please
+     * note that invalid method parameters will still be rejected immediately by throwing an
+     * {@link IllegalArgumentException}. This layout does not provide any shortcut-methods.
+     *
+     * @see #async()
+     */
+    interface Async {
+
+        /**
+         * Asynchronously requests a response object containing a collection of available artwork statuses mapped as
+         * Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Artwork%20Statuses/getAllArtworkStatuses">
+         * <b>[GET]</b> /artwork/statuses</a>
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getAllArtworkStatuses()
+         * @see TheTVDBApi#getAllArtworkStatuses() TheTVDBApi.getAllArtworkStatuses()
+         */
+        CompletableFuture<APIResponse<Collection<ArtworkStatus>>> getAllArtworkStatuses();
+
+        /**
+         * Asynchronously requests a response object containing a collection of available artwork types mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Artwork%20Types/getAllArtworkTypes">
+         * <b>[GET]</b> /artwork/types</a>
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getAllArtworkTypes()
+         * @see TheTVDBApi#getAllArtworkTypes() TheTVDBApi.getAllArtworkTypes()
+         */
+        CompletableFuture<APIResponse<Collection<ArtworkType>>> getAllArtworkTypes();
+
+        /**
+         * Asynchronously requests a response object containing basic information for a specific artwork mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Artwork/getArtworkBase">
+         * <b>[GET]</b> /artwork/{id}</a>
+         *
+         * @param artworkId The <i>TheTVDB.com</i> artwork ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no artwork record with the given ID exists.
+         *
+         * @see Extended#getArtwork(long) TheTVDBApi.Extended.getArtwork(artworkId)
+         * @see TheTVDBApi#getArtwork(long) TheTVDBApi.getArtwork(artworkId)
+         */
+        CompletableFuture<APIResponse<Artwork>> getArtwork(long artworkId);
+
+        /**
+         * Asynchronously requests a response object containing detailed information for a specific artwork mapped as
+         * Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Artwork/getArtworkExtended">
+         * <b>[GET]</b> /artwork/{id}/extended</a>
+         *
+         * @param artworkId The <i>TheTVDB.com</i> artwork ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no artwork record with the given ID exists.
+         *
+         * @see Extended#getArtworkDetails(long) TheTVDBApi.Extended.getArtworkDetails(artworkId)
+         * @see TheTVDBApi#getArtworkDetails(long) TheTVDBApi.getArtworkDetails(artworkId)
+         */
+        CompletableFuture<APIResponse<ArtworkDetails>> getArtworkDetails(long artworkId);
+
+        /**
+         * Asynchronously requests a response object containing basic information for a specific award category mapped
+         * as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Award%20Categories/getAwardCategory">
+         * <b>[GET]</b> /awards/categories/{id}</a>
+         *
+         * @param awardCategoryId The <i>TheTVDB.com</i> award category ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no award category record with the given ID exists.
+         *
+         * @see Extended#getAwardCategory(long) TheTVDBApi.Extended.getAwardCategory(awardCategoryId)
+         * @see TheTVDBApi#getAwardCategory(long) TheTVDBApi.getAwardCategory(awardCategoryId)
+         */
+        CompletableFuture<APIResponse<AwardCategory>> getAwardCategory(long awardCategoryId);
+
+        /**
+         * Asynchronously requests a response object containing detailed information for a specific award category
+         * mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Award%20Categories/getAwardCategoryExtended">
+         * <b>[GET]</b> /awards/categories/{id}/extended</a>
+         *
+         * @param awardCategoryId The <i>TheTVDB.com</i> award category ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no award category record with the given ID exists.
+         *
+         * @see Extended#getAwardCategoryDetails(long) TheTVDBApi.Extended.getAwardCategoryDetails(awardCategoryId)
+         * @see TheTVDBApi#getAwardCategoryDetails(long) TheTVDBApi.getAwardCategoryDetails(awardCategoryId)
+         */
+        CompletableFuture<APIResponse<AwardCategoryDetails>> getAwardCategoryDetails(long awardCategoryId);
+
+        /**
+         * Asynchronously requests a response object containing a collection of available awards mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Awards/getAllAwards">
+         * <b>[GET]</b> /awards</a>
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getAllAwards()
+         * @see TheTVDBApi#getAllAwards() TheTVDBApi.getAllAwards()
+         */
+        CompletableFuture<APIResponse<Collection<Award>>> getAllAwards();
+
+        /**
+         * Asynchronously requests a response object containing basic information for a specific award mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Awards/getAward">
+         * <b>[GET]</b> /awards/{id}</a>
+         *
+         * @param awardId The <i>TheTVDB.com</i> award ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no award record with the given ID exists.
+         *
+         * @see Extended#getAward(long) TheTVDBApi.Extended.getAward(awardId)
+         * @see TheTVDBApi#getAward(long) TheTVDBApi.getAward(awardId)
+         */
+        CompletableFuture<APIResponse<Award>> getAward(long awardId);
+
+        /**
+         * Asynchronously requests a response object containing detailed information for a specific award mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Awards/getAwardExtended">
+         * <b>[GET]</b> /awards/{id}/extended</a>
+         *
+         * @param awardId The <i>TheTVDB.com</i> award ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no award record with the given ID exists.
+         *
+         * @see Extended#getAwardDetails(long) TheTVDBApi.Extended.getAwardDetails(awardId)
+         * @see TheTVDBApi#getAwardDetails(long) TheTVDBApi.getAwardDetails(awardId)
+         */
+        CompletableFuture<APIResponse<AwardDetails>> getAwardDetails(long awardId);
+
+        /**
+         * Asynchronously requests a response object containing information for a specific character mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Characters/getCharacterBase">
+         * <b>[GET]</b> /characters/{id}</a>
+         *
+         * @param characterId The <i>TheTVDB.com</i> character ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no character record with the given ID exists.
+         *
+         * @see Extended#getCharacter(long) TheTVDBApi.Extended.getCharacter(characterId)
+         * @see TheTVDBApi#getCharacter(long) TheTVDBApi.getCharacter(characterId)
+         */
+        CompletableFuture<APIResponse<Character>> getCharacter(long characterId);
+
+        /**
+         * Asynchronously requests a response object containing a collection of companies based on the given query
+         * parameters mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Companies/getAllCompanies">
+         * <b>[GET]</b> /companies</a>
+         *
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getAllCompanies(QueryParameters) TheTVDBApi.Extended.getAllCompanies(queryParameters)
+         * @see TheTVDBApi#getAllCompanies(QueryParameters) TheTVDBApi.getAllCompanies(queryParameters)
+         */
+        CompletableFuture<APIResponse<Collection<Company>>> getAllCompanies(QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests a response object containing a collection of available company types mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Companies/getCompanyTypes">
+         * <b>[GET]</b> /companies/types</a>
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getCompanyTypes()
+         * @see TheTVDBApi#getCompanyTypes() TheTVDBApi.getCompanyTypes()
+         */
+        CompletableFuture<APIResponse<Collection<CompanyType>>> getCompanyTypes();
+
+        /**
+         * Asynchronously requests a response object containing information for a specific company mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Companies/getCompany">
+         * <b>[GET]</b> /companies/{id}</a>
+         *
+         * @param companyId The <i>TheTVDB.com</i> company ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no company record with the given ID exists.
+         *
+         * @see Extended#getCompany(long) TheTVDBApi.Extended.getCompany(companyId)
+         * @see TheTVDBApi#getCompany(long) TheTVDBApi.getCompany(companyId)
+         */
+        CompletableFuture<APIResponse<Company>> getCompany(long companyId);
+
+        /**
+         * Asynchronously requests a response object containing a collection of available content ratings mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Content%20Ratings/getAllContentRatings">
+         * <b>[GET]</b> /content/ratings</a>
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getAllContentRatings()
+         * @see TheTVDBApi#getAllContentRatings() TheTVDBApi.getAllContentRatings()
+         */
+        CompletableFuture<APIResponse<Collection<ContentRating>>> getAllContentRatings();
+
+        /**
+         * Asynchronously requests a response object containing a collection of available entity types mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Entity%20Types/getEntityTypes">
+         * <b>[GET]</b> /entities</a>
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getEntityTypes()
+         * @see TheTVDBApi#getEntityTypes() TheTVDBApi.getEntityTypes()
+         */
+        CompletableFuture<APIResponse<Collection<EntityType>>> getEntityTypes();
+
+        /**
+         * Asynchronously requests a response object containing basic information for a specific episode mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Episodes/getEpisodeBase">
+         * <b>[GET]</b> /episodes/{id}</a>
+         *
+         * @param episodeId The <i>TheTVDB.com</i> episode ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no episode record with the given ID exists.
+         *
+         * @see Extended#getEpisode(long) TheTVDBApi.Extended.getEpisode(episodeId)
+         * @see TheTVDBApi#getEpisode(long) TheTVDBApi.getEpisode(episodeId)
+         */
+        CompletableFuture<APIResponse<Episode>> getEpisode(long episodeId);
+
+        /**
+         * Asynchronously requests a response object containing detailed information for a specific episode based on the
+         * given query parameters mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Episodes/getEpisodeExtended">
+         * <b>[GET]</b> /episodes/{id}/extended</a>
+         *
+         * @param episodeId       The <i>TheTVDB.com</i> episode ID
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no episode record with the given ID exists.
+         *
+         * @see Extended#getEpisodeDetails(long, QueryParameters) TheTVDBApi.Extended.getEpisodeDetails(episodeId,
+         *         queryParameters)
+         * @see TheTVDBApi#getEpisodeDetails(long, QueryParameters) TheTVDBApi.getEpisodeDetails(episodeId,
+         *         queryParameters)
+         */
+        CompletableFuture<APIResponse<EpisodeDetails>> getEpisodeDetails(long episodeId,
+                QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests a response object containing a translation record for a specific episode mapped as
+         * Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Episodes/getEpisodeTranslation">
+         * <b>[GET]</b> /episodes/{id}/translations/{language}</a>
+         *
+         * @param episodeId The <i>TheTVDB.com</i> episode ID
+         * @param language  The 2- or 3-character language code
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no episode translation record exists for the given ID and language.
+         *
+         * @see Extended#getEpisodeTranslation(long, String) TheTVDBApi.Extended.getEpisodeTranslation(episodeId,
+         *         language)
+         * @see TheTVDBApi#getEpisodeTranslation(long, String) TheTVDBApi.getEpisodeTranslation(episodeId, language)
+         */
+        CompletableFuture<APIResponse<EntityTranslation>> getEpisodeTranslation(long episodeId,
+                @Nonnull String language);
+
+        /**
+         * Asynchronously requests a response object containing a collection of translation records for a specific list
+         * mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Lists/getListTranslation">
+         * <b>[GET]</b> /lists/{id}/translations/{language}</a>
+         *
+         * @param listId   The <i>TheTVDB.com</i> list ID
+         * @param language The 2- or 3-character language code
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no list translation record exists for the given ID and language.
+         *
+         * @see Extended#getListTranslation(long, String) TheTVDBApi.Extended.getListTranslation(listId, language)
+         * @see TheTVDBApi#getListTranslation(long, String) TheTVDBApi.getListTranslation(listId, language)
+         */
+        CompletableFuture<APIResponse<Translations<EntityTranslation>>> getListTranslation(long listId,
+                @Nonnull String language);
+
+        /**
+         * Asynchronously requests a response object containing a collection of lists based on the given query
+         * parameters mapped as Java DTO. The collection contains basic information of all lists matching the query
+         * parameters.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Lists/getAllLists">
+         * <b>[GET]</b> /lists</a>
+         *
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getAllLists(QueryParameters) TheTVDBApi.Extended.getAllLists(queryParameters)
+         * @see TheTVDBApi#getAllLists(QueryParameters) TheTVDBApi.getAllLists(queryParameters)
+         */
+        CompletableFuture<APIResponse<Collection<FCList>>> getAllLists(QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests a response object containing basic information for a specific list mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Lists/getList">
+         * <b>[GET]</b> /lists/{id}</a>
+         *
+         * @param listId The <i>TheTVDB.com</i> list ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no list record with the given ID exists.
+         *
+         * @see Extended#getList(long) TheTVDBApi.Extended.getList(listId)
+         * @see TheTVDBApi#getList(long) TheTVDBApi.getList(listId)
+         */
+        CompletableFuture<APIResponse<FCList>> getList(long listId);
+
+        /**
+         * Asynchronously requests a response object containing detailed information for a specific list mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Lists/getListExtended">
+         * <b>[GET]</b> /lists/{id}/extended</a>
+         *
+         * @param listId The <i>TheTVDB.com</i> list ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no list record with the given ID exists.
+         *
+         * @see Extended#getListDetails(long) TheTVDBApi.Extended.getListDetails(listId)
+         * @see TheTVDBApi#getListDetails(long) TheTVDBApi.getListDetails(listId)
+         */
+        CompletableFuture<APIResponse<FCListDetails>> getListDetails(long listId);
+
+        /**
+         * Asynchronously requests a response object containing a collection of available genders mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Genders/getAllGenders">
+         * <b>[GET]</b> /genders</a>
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getAllGenders()
+         * @see TheTVDBApi#getAllGenders() TheTVDBApi.getAllGenders()
+         */
+        CompletableFuture<APIResponse<Collection<Gender>>> getAllGenders();
+
+        /**
+         * Asynchronously requests a response object containing a collection of available genres mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Genres/getAllGenres">
+         * <b>[GET]</b> /genres</a>
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getAllGenres()
+         * @see TheTVDBApi#getAllGenres() TheTVDBApi.getAllGenres()
+         */
+        CompletableFuture<APIResponse<Collection<Genre>>> getAllGenres();
+
+        /**
+         * Asynchronously requests a response object containing information for a specific genre mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Genres/getGenreBase">
+         * <b>[GET]</b> /genres/{id}</a>
+         *
+         * @param genreId The <i>TheTVDB.com</i> genre ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no genre record with the given ID exists.
+         *
+         * @see Extended#getGenre(long) TheTVDBApi.Extended.getGenre(genreId)
+         * @see TheTVDBApi#getGenre(long) TheTVDBApi.getGenre(genreId)
+         */
+        CompletableFuture<APIResponse<Genre>> getGenre(long genreId);
+
+        /**
+         * Asynchronously requests a response object containing a collection of available inspiration types mapped as
+         * Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/InspirationTypes/getAllInspirationTypes">
+         * <b>[GET]</b> /inspiration/types</a>
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getAllInspirationTypes()
+         * @see TheTVDBApi#getAllInspirationTypes() TheTVDBApi.getAllInspirationTypes()
+         */
+        CompletableFuture<APIResponse<Collection<InspirationType>>> getAllInspirationTypes();
+
+        /**
+         * Asynchronously requests a response object containing a collection of available movie statuses mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Movie%20Statuses/getAllMovieStatuses">
+         * <b>[GET]</b> /movies/statuses</a>
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getAllMovieStatuses()
+         * @see TheTVDBApi#getAllMovieStatuses() TheTVDBApi.getAllMovieStatuses()
+         */
+        CompletableFuture<APIResponse<Collection<Status>>> getAllMovieStatuses();
+
+        /**
+         * Asynchronously requests a response object containing a collection of movies based on the given query
+         * parameters mapped as Java DTO. The collection contains basic information of all movies matching the query
+         * parameters.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Movies/getAllMovie">
+         * <b>[GET]</b> /movies</a>
+         *
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getAllMovies(QueryParameters) TheTVDBApi.Extended.getAllMovies(queryParameters)
+         * @see TheTVDBApi#getAllMovies(QueryParameters) TheTVDBApi.getAllMovies(queryParameters)
+         */
+        CompletableFuture<APIResponse<Collection<Movie>>> getAllMovies(QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests a response object containing basic information for a specific movie mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Movies/getMovieBase">
+         * <b>[GET]</b> /movies/{id}</a>
+         *
+         * @param movieId The <i>TheTVDB.com</i> movie ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no movie record with the given ID exists.
+         *
+         * @see Extended#getMovie(long) TheTVDBApi.Extended.getMovie(movieId)
+         * @see TheTVDBApi#getMovie(long) TheTVDBApi.getMovie(movieId)
+         */
+        CompletableFuture<APIResponse<Movie>> getMovie(long movieId);
+
+        /**
+         * Asynchronously requests a response object containing detailed information for a specific movie based on the
+         * given query parameters mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Movies/getMovieExtended">
+         * <b>[GET]</b> /movies/{id}/extended</a>
+         *
+         * @param movieId         The <i>TheTVDB.com</i> movie ID
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no movie record with the given ID exists.
+         *
+         * @see Extended#getMovieDetails(long, QueryParameters) TheTVDBApi.Extended.getMovieDetails(movieId,
+         *         queryParameters)
+         * @see TheTVDBApi#getMovieDetails(long, QueryParameters) TheTVDBApi.getMovieDetails(movieId, queryParameters)
+         */
+        CompletableFuture<APIResponse<MovieDetails>> getMovieDetails(long movieId, QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests a response object containing a collection of movies based on the given filter
+         * parameters mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Movies/getMoviesFilter">
+         * <b>[GET]</b> /movies/filter</a>
+         *
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getMoviesFiltered(QueryParameters) TheTVDBApi.Extended.getMoviesFiltered(queryParameters)
+         * @see TheTVDBApi#getMoviesFiltered(QueryParameters) TheTVDBApi.getMoviesFiltered(queryParameters)
+         */
+        CompletableFuture<APIResponse<Collection<Movie>>> getMoviesFiltered(QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests a response object containing a translation record for a specific movie mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Movies/getMovieTranslation">
+         * <b>[GET]</b> /movies/{id}/translations/{language}</a>
+         *
+         * @param movieId  The <i>TheTVDB.com</i> movie ID
+         * @param language The 2- or 3-character language code
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no movie translation record exists for the given ID and language.
+         *
+         * @see Extended#getMovieTranslation(long, String) TheTVDBApi.Extended.getMovieTranslation(movieId, language)
+         * @see TheTVDBApi#getMovieTranslation(long, String) TheTVDBApi.getMovieTranslation(movieId, language)
+         */
+        CompletableFuture<APIResponse<EntityTranslation>> getMovieTranslation(long movieId, @Nonnull String language);
+
+        /**
+         * Asynchronously requests a response object containing a collection of available people types mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/People%20Types/getAllPeopleTypes">
+         * <b>[GET]</b> /people/types</a>
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getAllPeopleTypes()
+         * @see TheTVDBApi#getAllPeopleTypes() TheTVDBApi.getAllPeopleTypes()
+         */
+        CompletableFuture<APIResponse<Collection<PeopleType>>> getAllPeopleTypes();
+
+        /**
+         * Asynchronously requests a response object containing basic information for a specific people mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/People/getPeopleBase">
+         * <b>[GET]</b> /people/{id}</a>
+         *
+         * @param peopleId The <i>TheTVDB.com</i> people ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no people record with the given ID exists.
+         *
+         * @see Extended#getPeople(long) TheTVDBApi.Extended.getPeople(peopleId)
+         * @see TheTVDBApi#getPeople(long) TheTVDBApi.getPeople(peopleId)
+         */
+        CompletableFuture<APIResponse<People>> getPeople(long peopleId);
+
+        /**
+         * Asynchronously requests a response object containing detailed information for a specific people based on the
+         * given query parameters mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/People/getPeopleExtended">
+         * <b>[GET]</b> /people/{id}/extended</a>
+         *
+         * @param peopleId        The <i>TheTVDB.com</i> people ID
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no people record with the given ID exists.
+         *
+         * @see Extended#getPeopleDetails(long, QueryParameters) TheTVDBApi.Extended.getPeopleDetails(peopleId,
+         *         queryParameters)
+         * @see TheTVDBApi#getPeopleDetails(long, QueryParameters) TheTVDBApi.getPeopleDetails(peopleId,
+         *         queryParameters)
+         */
+        CompletableFuture<APIResponse<PeopleDetails>> getPeopleDetails(long peopleId, QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests a response object containing a translation record for a specific people mapped as
+         * Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/People/getPeopleTranslation">
+         * <b>[GET]</b> /people/{id}/translations/{language}</a>
+         *
+         * @param peopleId The <i>TheTVDB.com</i> people ID
+         * @param language The 2- or 3-character language code
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no people translation record exists for the given ID and language.
+         *
+         * @see Extended#getPeopleTranslation(long, String) TheTVDBApi.Extended.getPeopleTranslation(peopleId, language)
+         * @see TheTVDBApi#getPeopleTranslation(long, String) TheTVDBApi.getPeopleTranslation(peopleId, language)
+         */
+        CompletableFuture<APIResponse<EntityTranslation>> getPeopleTranslation(long peopleId, @Nonnull String language);
+
+        /**
+         * Asynchronously requests a response object containing a collection of search results based on the given query
+         * parameters mapped as Java DTO. Note that the given query parameters must either contain a valid <em>{@value
+         * com.github.m0nk3y2k4.thetvdb.api.constants.Query.Search#Q}</em> or <em>{@value
+         * com.github.m0nk3y2k4.thetvdb.api.constants.Query.Search#QUERY}</em> search term key.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Search/getSearchResults">
+         * <b>[GET]</b> /search</a>
+         *
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getSearchResults(QueryParameters) TheTVDBApi.Extended.getSearchResults(queryParameters)
+         * @see TheTVDBApi#getSearchResults(QueryParameters) TheTVDBApi.getSearchResults(queryParameters)
+         */
+        CompletableFuture<APIResponse<Collection<SearchResult>>> getSearchResults(QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests a response object containing a collection of seasons based on the given query
+         * parameters mapped as Java DTO. The collection contains basic information of all seasons matching the query
+         * parameters.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Seasons/getAllSeasons">
+         * <b>[GET]</b> /seasons</a>
+         *
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getAllSeasons(QueryParameters) TheTVDBApi.Extended.getAllSeasons(queryParameters)
+         * @see TheTVDBApi#getAllSeasons(QueryParameters) TheTVDBApi.getAllSeasons(queryParameters)
+         */
+        CompletableFuture<APIResponse<Collection<Season>>> getAllSeasons(QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests a response object containing basic information for a specific season mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Seasons/getSeasonBase">
+         * <b>[GET]</b> /seasons/{id}</a>
+         *
+         * @param seasonId The <i>TheTVDB.com</i> season ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no season record with the given ID exists.
+         *
+         * @see Extended#getSeason(long) TheTVDBApi.Extended.getSeason(seasonId)
+         * @see TheTVDBApi#getSeason(long) TheTVDBApi.getSeason(seasonId)
+         */
+        CompletableFuture<APIResponse<Season>> getSeason(long seasonId);
+
+        /**
+         * Asynchronously requests a response object containing detailed information for a specific season based on the
+         * given query parameters mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Seasons/getSeasonExtended">
+         * <b>[GET]</b> /seasons/{id}/extended</a>
+         *
+         * @param seasonId        The <i>TheTVDB.com</i> season ID
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no season record with the given ID exists.
+         *
+         * @see Extended#getSeasonDetails(long, QueryParameters) TheTVDBApi.Extended.getSeasonDetails(seasonId,
+         *         queryParameters)
+         * @see TheTVDBApi#getSeasonDetails(long, QueryParameters) TheTVDBApi.getSeasonDetails(seasonId,
+         *         queryParameters)
+         */
+        CompletableFuture<APIResponse<SeasonDetails>> getSeasonDetails(long seasonId, QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests a response object containing a collection of available season types mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Seasons/getSeasonTypes">
+         * <b>[GET]</b> /seasons/types</a>
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getSeasonTypes()
+         * @see TheTVDBApi#getSeasonTypes() TheTVDBApi.getSeasonTypes()
+         */
+        CompletableFuture<APIResponse<Collection<SeasonType>>> getSeasonTypes();
+
+        /**
+         * Asynchronously requests a response object containing a translation record for a specific season mapped as
+         * Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Seasons/getSeasonTranslation">
+         * <b>[GET]</b> /seasons/{id}/translations/{language}</a>
+         *
+         * @param seasonId The <i>TheTVDB.com</i> season ID
+         * @param language The 2- or 3-character language code
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no season translation record exists for the given ID and language.
+         *
+         * @see Extended#getSeasonTranslation(long, String) TheTVDBApi.Extended.getSeasonTranslation(seasonId, language)
+         * @see TheTVDBApi#getSeasonTranslation(long, String) TheTVDBApi.getSeasonTranslation(seasonId, language)
+         */
+        CompletableFuture<APIResponse<EntityTranslation>> getSeasonTranslation(long seasonId, @Nonnull String language);
+
+        /**
+         * Asynchronously requests a response object containing a collection of available series statuses mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Series%20Statuses/getAllSeriesStatuses">
+         * <b>[GET]</b> /series/statuses</a>
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getAllSeriesStatuses()
+         * @see TheTVDBApi#getAllSeriesStatuses() TheTVDBApi.getAllSeriesStatuses()
+         */
+        CompletableFuture<APIResponse<Collection<Status>>> getAllSeriesStatuses();
+
+        /**
+         * Asynchronously requests a response object containing a collection of series based on the given query
+         * parameters mapped as Java DTO. The collection contains basic information of all series matching the query
+         * parameters.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Series/getAllSeries">
+         * <b>[GET]</b> /series</a>
+         *
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getAllSeries(QueryParameters) TheTVDBApi.Extended.getAllSeries(queryParameters)
+         * @see TheTVDBApi#getAllSeries(QueryParameters) TheTVDBApi.getAllSeries(queryParameters)
+         */
+        CompletableFuture<APIResponse<Collection<Series>>> getAllSeries(QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests a response object containing basic information for a specific series mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Series/getSeriesBase">
+         * <b>[GET]</b> /series/{id}</a>
+         *
+         * @param seriesId The <i>TheTVDB.com</i> series ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no series record with the given ID exists.
+         *
+         * @see Extended#getSeries(long) TheTVDBApi.Extended.getSeries(seriesId)
+         * @see TheTVDBApi#getSeries(long) TheTVDBApi.getSeries(seriesId)
+         */
+        CompletableFuture<APIResponse<Series>> getSeries(long seriesId);
+
+        /**
+         * Asynchronously requests a response object containing detailed information for a specific series including
+         * custom artworks based on the given query parameters mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Series/getSeriesArtworks">
+         * <b>[GET]</b> /series/{id}/artworks</a>
+         *
+         * @param seriesId        The <i>TheTVDB.com</i> series ID
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no series record with the given ID exists.
+         *
+         * @see Extended#getSeriesArtworks(long, QueryParameters) TheTVDBApi.Extended.getSeriesArtworks(seriesId,
+         *         queryParameters)
+         * @see TheTVDBApi#getSeriesArtworks(long, QueryParameters) TheTVDBApi.getSeriesArtworks(seriesId,
+         *         queryParameters)
+         */
+        CompletableFuture<APIResponse<SeriesDetails>> getSeriesArtworks(long seriesId, QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests a response object containing detailed information for a specific series based on the
+         * given query parameters mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Series/getSeriesExtended">
+         * <b>[GET]</b> /series/{id}/extended</a>
+         *
+         * @param seriesId        The <i>TheTVDB.com</i> series ID
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no series record with the given ID exists.
+         *
+         * @see Extended#getSeriesDetails(long, QueryParameters) TheTVDBApi.Extended.getSeriesDetails(seriesId,
+         *         queryParameters)
+         * @see TheTVDBApi#getSeriesDetails(long, QueryParameters) TheTVDBApi.getSeriesDetails(seriesId,
+         *         queryParameters)
+         */
+        CompletableFuture<APIResponse<SeriesDetails>> getSeriesDetails(long seriesId, QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests the episodes of a particular series based on the given query parameters mapped as
+         * Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Series/getSeriesEpisodes">
+         * <b>[GET]</b> /series/{id}/episodes/{season-type}</a>
+         *
+         * @param seriesId        The <i>TheTVDB.com</i> series ID
+         * @param seasonType      The type of season for which episodes should be returned
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no series record with the given ID exists.
+         *
+         * @see Extended#getSeriesEpisodes(long, SeriesSeasonType, QueryParameters)
+         *         TheTVDBApi.Extended.getSeriesEpisodes(seriesId, seasonType, queryParameters)
+         * @see TheTVDBApi#getSeriesEpisodes(long, SeriesSeasonType, QueryParameters)
+         *         TheTVDBApi.getSeriesEpisodes(seriesId, seasonType, queryParameters)
+         */
+        CompletableFuture<APIResponse<SeriesEpisodes>> getSeriesEpisodes(long seriesId,
+                @Nonnull SeriesSeasonType seasonType, QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests basic information for a specific series based on the given query parameters mapped as
+         * Java DTO. The contained episodes will be translated to the given language.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Series/getSeriesSeasonEpisodesTranslated">
+         * <b>[GET]</b> /series/{id}/episodes/{season-type}/{lang}</a>
+         *
+         * @param seriesId        The <i>TheTVDB.com</i> series ID
+         * @param seasonType      The type of season for which episodes should be returned
+         * @param language        The 2- or 3-character language code
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no series record with the given ID exists or the language code is invalid.
+         *
+         * @see Extended#getSeriesEpisodesTranslated(long, SeriesSeasonType, String, QueryParameters)
+         *         TheTVDBApi.Extended.getSeriesEpisodesTranslated(seriesId, seasonType, language, queryParameters)
+         * @see TheTVDBApi#getSeriesEpisodesTranslated(long, SeriesSeasonType, String, QueryParameters)
+         *         TheTVDBApi.getSeriesEpisodesTranslated(seriesId, seasonType, language, queryParameters)
+         */
+        CompletableFuture<APIResponse<Series>> getSeriesEpisodesTranslated(long seriesId,
+                @Nonnull SeriesSeasonType seasonType, @Nonnull String language, QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests a response object containing a collection of series based on the given filter
+         * parameters mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Series/getSeriesFilter">
+         * <b>[GET]</b> /series/filter</a>
+         *
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getSeriesFiltered(QueryParameters) TheTVDBApi.Extended.getSeriesFiltered(queryParameters)
+         * @see TheTVDBApi#getSeriesFiltered(QueryParameters) TheTVDBApi.getSeriesFiltered(queryParameters)
+         */
+        CompletableFuture<APIResponse<Collection<Series>>> getSeriesFiltered(QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests a response object containing a translation record for a specific series mapped as
+         * Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Series/getSeriesTranslation">
+         * <b>[GET]</b> /series/{id}/translations/{language}</a>
+         *
+         * @param seriesId The <i>TheTVDB.com</i> series ID
+         * @param language The 2- or 3-character language code
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *         or if no series translation record exists for the given ID and language.
+         *
+         * @see Extended#getSeriesTranslation(long, String) TheTVDBApi.Extended.getSeriesTranslation(seriesId, language)
+         * @see TheTVDBApi#getSeriesTranslation(long, String) TheTVDBApi.getSeriesTranslation(seriesId, language)
+         */
+        CompletableFuture<APIResponse<EntityTranslation>> getSeriesTranslation(long seriesId, @Nonnull String language);
+
+        /**
+         * Asynchronously requests a response object containing a collection of available source types mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Source%20Types/getAllSourceTypes">
+         * <b>[GET]</b> /sources/types</a>
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getAllSourceTypes()
+         * @see TheTVDBApi#getAllSourceTypes() TheTVDBApi.getAllSourceTypes()
+         */
+        CompletableFuture<APIResponse<Collection<SourceType>>> getAllSourceTypes();
+
+        /**
+         * Asynchronously requests a response object containing a collection of recently updated entities based on the
+         * given query parameters mapped as Java DTO. The collection contains basic information of all entities matching
+         * the query parameters. Note that the given query parameters must always contain a valid <em>{@value
+         * com.github.m0nk3y2k4.thetvdb.api.constants.Query.Updates#SINCE}</em> Epoch timestamp key.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Updates/updates">
+         * <b>[GET]</b> /updates</a>
+         *
+         * @param queryParameters Object containing key/value pairs of query parameters
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getUpdates(QueryParameters) TheTVDBApi.Extended.getUpdates(queryParameters)
+         * @see TheTVDBApi#getUpdates(QueryParameters) TheTVDBApi.getUpdates(queryParameters)
+         */
+        CompletableFuture<APIResponse<Collection<EntityUpdate>>> getUpdates(QueryParameters queryParameters);
+
+        /**
+         * Asynchronously requests a response object containing some information about the current user mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/User%20info/getUserInfo">
+         * <b>[GET]</b> /user</a>
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getUserInfo()
+         * @see TheTVDBApi#getUserInfo() TheTVDBApi.getUserInfo()
+         */
+        CompletableFuture<APIResponse<UserInfo>> getUserInfo();
+
+        /**
+         * Asynchronously requests a response object containing some information about a specific user mapped as Java
+         * DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/User%20info/getUserInfoById">
+         * <b>[GET]</b> /user/{id}</a>
+         *
+         * @param userId The <i>TheTVDB.com</i> user ID
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getUserInfo(long) TheTVDBApi.Extended.getUserInfo(userId)
+         * @see TheTVDBApi#getUserInfo(long) TheTVDBApi.getUserInfo(userId)
+         */
+        CompletableFuture<APIResponse<UserInfo>> getUserInfo(long userId);
+
+        /**
+         * Asynchronously requests a response object containing the current favorites of this user mapped as Java DTO.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Favorites/getUserFavorites">
+         * <b>[GET]</b> /user/favorites</a>
+         *
+         * @return Future which will be completed with the extended API response containing the actually requested data
+         *         as well as additional status information, or exceptionally with an {@link APIException} if an
+         *         exception with the remote API occurs, e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#getUserFavorites()
+         * @see TheTVDBApi#getUserFavorites() TheTVDBApi.getUserFavorites()
+         */
+        CompletableFuture<APIResponse<Favorites>> getUserFavorites();
+
+        /**
+         * Adds the given entities to the users list of favorites and asynchronously returns a response object
+         * containing the success status of the operation. To create a new favorite record, use the {@link
+         * TheTVDBApiFactory#createFavoriteRecordBuilder() factory method} to retrieve a corresponding builder instance.
+         * <p><br>
+         * <i>Corresponds to remote API route:</i> <a target="_blank"
+         * href="https://thetvdb.github.io/v4-api/#/Favorites/createUserFavorites">
+         * <b>[POST]</b> /user/favorites</a>
+         *
+         * @param favoriteRecord Record containing one or multiple favorite entities
+         *
+         * @return Future which will be completed with the extended API response containing the success status of the
+         *         operation, or exceptionally with an {@link APIException} if an exception with the remote API occurs,
+         *         e.g. authentication failure, IO error, resource not found, etc.
+         *
+         * @see Extended#createUserFavorites(FavoriteRecord) TheTVDBApi.Extended.createUserFavorites(favoriteRecord)
+         * @see TheTVDBApi#createUserFavorites(FavoriteRecord) TheTVDBApi.createUserFavorites(favoriteRecord)
+         * @see TheTVDBApiFactory#createFavoriteRecordBuilder()
+         */
+        CompletableFuture<APIResponse<Void>> createUserFavorites(@Nonnull FavoriteRecord favoriteRecord);
+    }
+
     /**
      * Specifies the version of the <i>TheTVDB.com</i> remote API to be used by this connector
      */
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.cache;
+
+import java.util.Optional;
+
+/**
+ * Interface representing the key under which a single response of the remote service is stored in a
+ * {@link ResponseCache}.
+ * <p><br>
+ * Keys are created by the API connection for each cacheable request. Two requests are considered to be equal if they
+ * are using the same HTTP request method, address the same resource path, provide the same query parameters (in any
+ * order) and ask for the same response language.
+ */
+public interface CacheKey {
+
+    /**
+     * Returns the name of the HTTP request method, e.g. <em>{@code GET}</em>
+     *
+     * @return The HTTP request method of the cached request
+     */
+    String getMethod();
+
+    /**
+     * Returns the path of the requested resource without any query parameters, e.g. <em>{@code /series/69}</em>
+     *
+     * @return The resource path of the cached request
+     */
+    String getPath();
+
+    /**
+     * Returns the normalized query string of the requested resource. Query parameters are sorted by name and value so
+     * that requests only differing in the order of their parameters share the same key. Might be empty if the request
+     * did not contain any query parameters.
+     *
+     * @return The normalized query string of the cached request
+     */
+    String getQuery();
+
+    /**
+     * Returns the language which has been requested via the <em>{@code Accept-Language}</em> header. Might be empty if
+     * the request has been sent without any language preference.
+     *
+     * @return The requested response language of the cached request
+     */
+    Optional<String> getLanguage();
+}
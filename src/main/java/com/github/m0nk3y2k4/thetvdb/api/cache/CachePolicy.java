@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.cache;
+
+import java.time.Duration;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+
+/**
+ * Functional interface determining how long the response of a specific request may be cached.
+ * <p><br>
+ * A policy can be set via {@link APIConfiguration.APIConfigurationBuilder#cachePolicy(CachePolicy)}. If no specific
+ * policy has been configured, a default policy will be used which applies different time-to-live values per route
+ * family: reference data like genres or languages will be kept for one day, search results for some minutes and
+ * records like series or movies for one hour. User specific data and updates will never be cached.
+ */
+@FunctionalInterface
+public interface CachePolicy {
+
+    /**
+     * Returns the time-to-live of the response to the request represented by the given key. Responses for which a zero
+     * or negative duration is returned will not be cached at all. Only responses to <em>{@code GET}</em> requests will
+     * be subject to caching, i.e. this method will not be invoked for any other request methods.
+     *
+     * @param key Key representing the request whose response is about to be cached
+     *
+     * @return How long the response may be served from the cache
+     */
+    Duration getTimeToLive(@Nonnull CacheKey key);
+}
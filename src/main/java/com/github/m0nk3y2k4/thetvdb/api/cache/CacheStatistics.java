@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.cache;
+
+/**
+ * Interface representing a snapshot of the statistics of a {@link ResponseCache}.
+ * <p><br>
+ * Statistics are collected for the whole lifetime of a cache and can be used to tune its size and the time-to-live
+ * values of the applied {@link CachePolicy}. All counters are cumulative, whereas the size values reflect the state of
+ * the cache at the time the snapshot has been taken.
+ */
+public interface CacheStatistics {
+
+    /**
+     * Returns the number of lookups which could be served from the cache
+     *
+     * @return The number of cache hits
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of lookups for which no valid entry was found in the cache. This includes lookups of entries
+     * that have already been expired.
+     *
+     * @return The number of cache misses
+     */
+    long getMissCount();
+
+    /**
+     * Returns the number of expired entries which have been confirmed to be still up-to-date by the remote service and
+     * whose time-to-live has therefore been refreshed. Each revalidation saved the transfer of a full response, although
+     * it still required a request to the remote service.
+     *
+     * @return The number of revalidated entries
+     */
+    long getRevalidationCount();
+
+    /**
+     * Returns the number of entries which have been removed from the cache in order to make room for new entries
+     *
+     * @return The number of evicted entries
+     */
+    long getEvictionCount();
+
+    /**
+     * Returns the number of new entries which have not been admitted to the cache because they were accessed less
+     * frequently than the entries they would have replaced
+     *
+     * @return The number of rejected entries
+     */
+    long getRejectionCount();
+
+    /**
+     * Returns the number of entries which are currently stored in the cache
+     *
+     * @return The current number of entries
+     */
+    long getEntryCount();
+
+    /**
+     * Returns the total size of all entries which are currently stored in the cache
+     *
+     * @return The current size of the cache in bytes
+     */
+    long getSize();
+
+    /**
+     * Returns the ratio of lookups which could be served from the cache. If no lookups have been performed yet,
+     * <em>{@code 0}</em> will be returned.
+     *
+     * @return The hit rate as value between <em>{@code 0}</em> and <em>{@code 1}</em>
+     */
+    default double getHitRate() {
+        long requests = getHitCount() + getMissCount();
+        return requests == 0 ? 0 : (double)getHitCount() / requests;
+    }
+}
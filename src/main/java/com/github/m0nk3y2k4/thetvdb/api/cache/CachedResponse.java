@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.cache;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Interface representing a single response of the remote service as stored in a {@link ResponseCache}.
+ * <p><br>
+ * Besides the raw content, a cached response carries the validators returned by the remote service, i.e. the values
+ * of the <em>{@code ETag}</em> and <em>{@code Last-Modified}</em> response headers. Once the response has been
+ * expired, these validators allow the API connection to revalidate it via a conditional request: if the remote service
+ * replies with <em>{@code HTTP-304 Not Modified}</em>, the cached content is still up-to-date and may be served again
+ * without transferring the whole response body.
+ */
+public interface CachedResponse {
+
+    /**
+     * Returns the raw, compact JSON content of the response
+     *
+     * @return The raw response content
+     */
+    byte[] getContent();
+
+    /**
+     * Returns the entity tag of the response as received via the <em>{@code ETag}</em> header. Might be empty if the
+     * remote service did not return such a header.
+     *
+     * @return The entity tag of the response
+     */
+    Optional<String> getETag();
+
+    /**
+     * Returns the last modification date of the response as received via the <em>{@code Last-Modified}</em> header.
+     * Might be empty if the remote service did not return such a header.
+     *
+     * @return The last modification date of the response in its original HTTP-date format
+     */
+    Optional<String> getLastModified();
+
+    /**
+     * Returns the point in time at which the response expires and has to be revalidated or requested again
+     *
+     * @return Expiration time of the response
+     */
+    Instant getExpiresAt();
+
+    /**
+     * Checks whether the response has been expired at the given point in time
+     *
+     * @param now The current time
+     *
+     * @return True if the response has been expired
+     */
+    default boolean isExpired(@Nonnull Instant now) {
+        return !now.isBefore(getExpiresAt());
+    }
+
+    /**
+     * Checks whether the response carries any validator which can be used to revalidate it once it has been expired
+     *
+     * @return True if an entity tag or a last modification date is available for the response
+     */
+    default boolean isRevalidatable() {
+        return getETag().isPresent() || getLastModified().isPresent();
+    }
+}
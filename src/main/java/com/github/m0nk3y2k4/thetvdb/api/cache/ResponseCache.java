@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.cache;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.TheTVDBApiFactory;
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+
+/**
+ * Interface for client-side caches storing the raw content of successful responses of the remote service.
+ * <p><br>
+ * A cache can be set via {@link APIConfiguration.APIConfigurationBuilder#responseCache(ResponseCache)}. Once
+ * configured, the content of all cacheable <em>{@code GET}</em> requests will be stored in the cache for the
+ * time-to-live determined by the configured {@link CachePolicy}. Subsequent requests for the same resource will then be
+ * served from the cache without contacting the remote service. A size-bounded in-memory implementation can be created
+ * via {@link TheTVDBApiFactory#createResponseCache(long)}. Implementations must be thread-safe as the same cache might
+ * be used concurrently by multiple requests or even by multiple API instances.
+ * <p><br>
+ * Expired responses carrying an <em>{@code ETag}</em> or <em>{@code Last-Modified}</em> validator may be kept by the
+ * cache. Instead of requesting such responses again, the API connection will revalidate them via a conditional
+ * request and {@link #refresh(CacheKey, Instant) refresh} their expiration time if they have not been modified.
+ * <p><br>
+ * Caches holding resources like open files or directory locks release them when being {@link #close() closed}. The
+ * cache configured for an API instance will be closed together with this instance.
+ */
+public interface ResponseCache extends AutoCloseable {
+
+    /**
+     * Returns the response cached for the given key. Entries whose time-to-live has already been elapsed must only be
+     * returned if they are {@link CachedResponse#isRevalidatable() revalidatable}. Lookups of such stale entries count
+     * as cache misses.
+     *
+     * @param key The key of the request whose response should be looked up
+     *
+     * @return The cached response or an empty Optional if neither a valid nor a revalidatable entry exists for the
+     *         given key
+     */
+    Optional<CachedResponse> get(@Nonnull CacheKey key);
+
+    /**
+     * Stores the given response under the given key until it expires. Implementations may decide not to store the
+     * response at all, e.g. because it exceeds the capacity of the cache.
+     *
+     * @param key      The key of the request whose response should be stored
+     * @param response The response to be stored
+     */
+    void put(@Nonnull CacheKey key, @Nonnull CachedResponse response);
+
+    /**
+     * Extends the expiration time of the response cached for the given key after the remote service confirmed that it
+     * has not been modified. Does nothing if no entry exists for the given key.
+     *
+     * @param key       The key of the request whose response has been revalidated
+     * @param expiresAt The new point in time at which the response expires
+     */
+    void refresh(@Nonnull CacheKey key, @Nonnull Instant expiresAt);
+
+    /**
+     * Removes all entries from the cache
+     */
+    void invalidateAll();
+
+    /**
+     * Returns a snapshot of the current statistics of this cache
+     *
+     * @return Current cache statistics
+     */
+    CacheStatistics getStatistics();
+
+    /**
+     * Closes this cache, releasing any resources held by it. Closing a cache which has already been closed has no
+     * effect. The default implementation does nothing, as caches kept in memory do not hold any resources.
+     */
+    @Override
+    default void close() {
+        // Nothing to release
+    }
+}
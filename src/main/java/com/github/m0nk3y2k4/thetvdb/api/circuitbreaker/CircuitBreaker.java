@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.circuitbreaker;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.TheTVDBApiFactory;
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.CircuitState;
+
+/**
+ * Interface for circuit breakers rejecting requests to route families for which the remote service failed repeatedly.
+ * <p><br>
+ * A circuit breaker can be set via {@link APIConfiguration.APIConfigurationBuilder#circuitBreaker(CircuitBreaker)}.
+ * Once configured, each request has to {@link #tryAcquire(String) acquire} a permission from the circuit of its route
+ * family before it is sent to the remote service. The route family is the first segment of the resource path of the
+ * request, e.g. <em>{@code /series}</em> or <em>{@code /search}</em>. Requests without permission fail immediately
+ * instead of waiting for the response of a degraded remote service. The breaker is notified about the outcome of each
+ * permitted request or, if a request has no conclusive outcome, about the release of its permission. A circuit breaker
+ * based on consecutive failures can be created via
+ * {@link TheTVDBApiFactory#createCircuitBreaker(int, java.time.Duration, int, CircuitBreakerListener)}.
+ * Implementations must be thread-safe as the same breaker will be used concurrently by all requests of an API
+ * instance.
+ */
+public interface CircuitBreaker {
+
+    /**
+     * Asks for permission to send a request of the given route family to the remote service
+     *
+     * @param family The route family of the request, e.g. <em>{@code /series}</em>
+     *
+     * @return <em>{@code true}</em> if the request may be sent or <em>{@code false}</em> if it should be rejected
+     */
+    boolean tryAcquire(@Nonnull String family);
+
+    /**
+     * Notifies this breaker that a permitted request of the given route family has been processed by the remote
+     * service. This includes requests which have been answered with a regular error, e.g. HTTP-404.
+     *
+     * @param family The route family of the request
+     */
+    void onSuccess(@Nonnull String family);
+
+    /**
+     * Notifies this breaker that a permitted request of the given route family failed due to a connection error, a
+     * server error or an unavailable remote service. Requests rejected by the remote service as invalid are reported
+     * as {@link #onSuccess(String) success}.
+     *
+     * @param family The route family of the request
+     */
+    void onFailure(@Nonnull String family);
+
+    /**
+     * Releases the permission of a request of the given route family whose outcome does not tell anything about the
+     * remote service, e.g. because the request has been cancelled or interrupted. No outcome will be recorded for the
+     * request, but a half-open circuit may permit another probe request instead.
+     *
+     * @param family The route family of the request
+     */
+    void release(@Nonnull String family);
+
+    /**
+     * Returns the current state of the circuit guarding the given route family
+     *
+     * @param family The route family
+     *
+     * @return The current state of the circuit
+     */
+    CircuitState getState(@Nonnull String family);
+}
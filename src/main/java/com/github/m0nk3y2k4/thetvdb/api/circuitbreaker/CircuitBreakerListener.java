@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.circuitbreaker;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.CircuitState;
+
+/**
+ * Listener which will be notified whenever a circuit of a {@link CircuitBreaker} changes its state.
+ * <p><br>
+ * Listeners are invoked synchronously by the thread whose request caused the state change and should therefore return
+ * quickly. They are not invoked while holding any locks of the breaker.
+ */
+@FunctionalInterface
+public interface CircuitBreakerListener {
+
+    /**
+     * Invoked after the circuit guarding the given route family changed its state
+     *
+     * @param family The route family guarded by the circuit
+     * @param from   The previous state of the circuit
+     * @param to     The new state of the circuit
+     */
+    void onStateChange(@Nonnull String family, @Nonnull CircuitState from, @Nonnull CircuitState to);
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.endpoint;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.TheTVDBApiFactory;
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+import com.github.m0nk3y2k4.thetvdb.api.Proxy;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.LoadBalancing;
+
+/**
+ * Interface for groups of remote endpoints across which the requests of an API instance will be spread.
+ * <p><br>
+ * An endpoint group can be set via {@link APIConfiguration.APIConfigurationBuilder#endpointGroup(EndpointGroup)}. Once
+ * configured, the group will be asked to {@link #select(Collection) select an endpoint} right before a request is sent.
+ * Afterwards, the group will be notified whether the endpoint could be reached. Idempotent requests which failed at the
+ * connection level will be sent again to another endpoint of the group, as long as there are endpoints left which have
+ * not yet been tried. A group using round-robin or latency-weighted routing can be created via
+ * {@link TheTVDBApiFactory#createEndpointGroup(Collection, LoadBalancing, int, Duration)}. Implementations must be
+ * thread-safe as the same group will be used concurrently by all requests of an API instance.
+ */
+public interface EndpointGroup {
+
+    /**
+     * Returns all endpoints of this group. The returned list must neither be empty nor change over time.
+     *
+     * @return The endpoints of this group
+     */
+    List<Proxy> getEndpoints();
+
+    /**
+     * Selects the endpoint to which the next request should be sent. Endpoints which are currently considered to be
+     * down should be avoided as long as other endpoints are available.
+     *
+     * @param excluded Endpoints which have already been tried for the request and should not be selected again
+     *
+     * @return The endpoint for the request or an empty Optional if all endpoints of this group have been excluded
+     */
+    Optional<Proxy> select(@Nonnull Collection<Proxy> excluded);
+
+    /**
+     * Notifies this group that the given endpoint responded to a request. Any response counts, even error responses
+     * like HTTP-404, as they prove that the endpoint is reachable.
+     *
+     * @param endpoint The endpoint the request has been sent to
+     * @param latency  The time it took the endpoint to respond
+     */
+    void onSuccess(@Nonnull Proxy endpoint, @Nonnull Duration latency);
+
+    /**
+     * Notifies this group that a request could not be sent to the given endpoint due to a connection level failure,
+     * e.g. the endpoint refused the connection or did not respond in time
+     *
+     * @param endpoint The endpoint the request has been sent to
+     */
+    void onFailure(@Nonnull Proxy endpoint);
+
+    /**
+     * Returns a snapshot of the statistics of each endpoint of this group
+     *
+     * @return The current statistics of all endpoints, in the order of {@link #getEndpoints()}
+     */
+    List<EndpointStatistics> getStatistics();
+}
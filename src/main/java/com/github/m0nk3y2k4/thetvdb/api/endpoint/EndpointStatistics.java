@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.endpoint;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import com.github.m0nk3y2k4.thetvdb.api.Proxy;
+
+/**
+ * Interface representing a snapshot of the statistics of a single endpoint of an {@link EndpointGroup}.
+ * <p><br>
+ * Statistics are collected for the whole lifetime of a group and can be used to monitor how the requests are spread
+ * across the endpoints of the group and which endpoints are currently down. All counters are cumulative.
+ */
+public interface EndpointStatistics {
+
+    /**
+     * Returns the endpoint these statistics belong to
+     *
+     * @return The endpoint
+     */
+    Proxy getEndpoint();
+
+    /**
+     * Returns the number of requests which have been sent to this endpoint
+     *
+     * @return The number of requests
+     */
+    long getRequestCount();
+
+    /**
+     * Returns the number of requests which could not be sent to this endpoint due to a connection level failure
+     *
+     * @return The number of failed requests
+     */
+    long getFailureCount();
+
+    /**
+     * Returns the recent latency of this endpoint as exponentially weighted moving average. If the endpoint has not yet
+     * responded to any request, an empty Optional will be returned.
+     *
+     * @return The recent latency of this endpoint
+     */
+    Optional<Duration> getLatency();
+
+    /**
+     * Returns whether this endpoint is currently available for further requests, i.e. it is not considered to be down
+     *
+     * @return <em>{@code true}</em> if this endpoint is available or <em>{@code false}</em> if it is currently down
+     */
+    boolean isAvailable();
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.enumeration;
+
+/**
+ * Represents the states of a circuit guarding the requests of a single route family.
+ * <p><br>
+ * Circuits are maintained by a {@link com.github.m0nk3y2k4.thetvdb.api.circuitbreaker.CircuitBreaker CircuitBreaker}.
+ * A circuit starts closed and opens once the remote service failed repeatedly. After some time, the circuit becomes
+ * half-open and lets a few probe requests pass. Depending on the outcome of these probes, the circuit will either be
+ * closed or opened again.
+ */
+public enum CircuitState {
+    /** Requests are sent to the remote service as usual */
+    CLOSED,
+    /** Requests are rejected immediately without being sent to the remote service */
+    OPEN,
+    /** A limited number of probe requests is sent to the remote service in order to detect its recovery */
+    HALF_OPEN
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.enumeration;
+
+/**
+ * Represents the different modes of executing requests that are not processed by the calling thread itself.
+ * <p><br>
+ * The execution mode determines which kind of threads will be used by an API instance, e.g. for processing requests of
+ * the {@link com.github.m0nk3y2k4.thetvdb.api.TheTVDBApi.Async Async} layout. It can be chosen individually for each API
+ * instance via the {@link com.github.m0nk3y2k4.thetvdb.api.APIConfiguration APIConfiguration} used to create the
+ * instance.
+ */
+public enum ExecutionMode {
+    /** Requests are processed by a shared pool of platform threads */
+    PLATFORM_THREADS,
+    /** Each request is processed by a new virtual thread */
+    VIRTUAL_THREADS
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.enumeration;
+
+/**
+ * Represents the different strategies for spreading requests across the endpoints of an
+ * {@link com.github.m0nk3y2k4.thetvdb.api.endpoint.EndpointGroup EndpointGroup}.
+ * <p><br>
+ * Regardless of the strategy, endpoints which are currently considered to be down will only be selected if no other
+ * endpoint is available.
+ */
+public enum LoadBalancing {
+    /** Requests are sent to all available endpoints in turn */
+    ROUND_ROBIN,
+    /** Requests are sent to available endpoints randomly, weighted by the reciprocal of their recent latency */
+    LATENCY_WEIGHTED
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.enumeration;
+
+/**
+ * Represents the different HTTP transports available for the communication with the remote service.
+ * <p><br>
+ * The transport determines how HTTP connections to the remote API are established and maintained. It can be chosen
+ * individually for each API instance via the {@link com.github.m0nk3y2k4.thetvdb.api.APIConfiguration APIConfiguration}
+ * used to create the instance.
+ */
+public enum Transport {
+    /** A new {@link javax.net.ssl.HttpsURLConnection} is opened and disconnected for each single request */
+    URL_CONNECTION,
+    /** Requests are sent via a shared {@link java.net.http.HttpClient} with connection reuse and HTTP/2 multiplexing */
+    HTTP_CLIENT
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.event;
+
+import java.net.URL;
+import java.time.Duration;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+
+/**
+ * Listener which will be notified about the lifecycle events of each API call, e.g. in order to build tracing spans
+ * around the calls to the remote service.
+ * <p><br>
+ * An event listener can be set via {@link APIConfiguration.APIConfigurationBuilder#eventListener(APIEventListener)}.
+ * Each API call gets a correlation ID which is passed to all events fired on behalf of the call, along with the
+ * resolved resource of the call, e.g. <em>{@code /series/79349/extended?short=true}</em>. Every call starts with a
+ * {@link #onRequestStart request start} event and ends with either a {@link #onDeserialized deserialization} or a
+ * {@link #onFailure failure} event. In between, one or more exchanges with the remote service might take place, e.g.
+ * due to retries or duplicates of hedged requests, each of which fires its own connection, header and body events.
+ * Calls served by a response cache or coalesced with an identical call in flight will not fire any exchange events at
+ * all. Logins requested on behalf of a call are calls on their own with a separate correlation ID.
+ * <p><br>
+ * All methods do nothing by default, so that implementations only have to override the events they are interested in.
+ * Listeners are invoked synchronously by the thread processing the call and should therefore return quickly. As the
+ * same listener will be used concurrently by all calls of an API instance, implementations must be thread-safe.
+ */
+public interface APIEventListener {
+
+    /**
+     * Invoked when a new API call has been started, before any cache lookup or exchange with the remote service
+     *
+     * @param correlationId The ID correlating all events of the call
+     * @param method        The HTTP request method of the call, e.g. <em>{@code GET}</em>
+     * @param resource      The resolved resource of the call
+     */
+    default void onRequestStart(long correlationId, @Nonnull String method, @Nonnull String resource) {}
+
+    /**
+     * Invoked when the connection to the remote service has been acquired for an exchange. For the HTTP client
+     * transport, which manages its connections internally, this event will be fired as soon as the request has been
+     * handed over to the client.
+     *
+     * @param correlationId The ID correlating all events of the call
+     * @param resource      The resolved resource of the call
+     * @param url           The full URL of the exchange, pointing to the remote endpoint it is sent to
+     */
+    default void onConnectionAcquired(long correlationId, @Nonnull String resource, @Nonnull URL url) {}
+
+    /**
+     * Invoked when the response headers of an exchange have been received
+     *
+     * @param correlationId The ID correlating all events of the call
+     * @param resource      The resolved resource of the call
+     * @param statusCode    The HTTP status code returned by the remote service
+     */
+    default void onHeadersReceived(long correlationId, @Nonnull String resource, int statusCode) {}
+
+    /**
+     * Invoked when the body of a successful response has been read completely. Responses without a body, like those to
+     * <em>{@code HEAD}</em> requests or confirming that a cached response has not been modified, will not fire this
+     * event.
+     *
+     * @param correlationId The ID correlating all events of the call
+     * @param resource      The resolved resource of the call
+     */
+    default void onBodyRead(long correlationId, @Nonnull String resource) {}
+
+    /**
+     * Invoked when the response of the call has been deserialized, which successfully completes the call
+     *
+     * @param correlationId The ID correlating all events of the call
+     * @param resource      The resolved resource of the call
+     */
+    default void onDeserialized(long correlationId, @Nonnull String resource) {}
+
+    /**
+     * Invoked when a failed exchange will be retried after the given delay
+     *
+     * @param correlationId The ID correlating all events of the call
+     * @param resource      The resolved resource of the call
+     * @param retry         The number of the upcoming retry, starting with 1
+     * @param delay         The time to wait before sending the retry
+     * @param cause         The error by which the previous exchange failed
+     */
+    default void onRetry(long correlationId, @Nonnull String resource, int retry, @Nonnull Duration delay,
+            @Nonnull APIException cause) {}
+
+    /**
+     * Invoked when the session has to log in again before the call can be continued, as its token has been rejected or
+     * is known to be expired
+     *
+     * @param correlationId The ID correlating all events of the call
+     * @param resource      The resolved resource of the call
+     */
+    default void onLogin(long correlationId, @Nonnull String resource) {}
+
+    /**
+     * Invoked when the call failed, which terminates the call
+     *
+     * @param correlationId The ID correlating all events of the call
+     * @param resource      The resolved resource of the call
+     * @param error         The error by which the call failed
+     */
+    default void onFailure(long correlationId, @Nonnull String resource, @Nonnull Throwable error) {}
+}
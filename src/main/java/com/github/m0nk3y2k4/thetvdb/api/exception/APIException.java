@@ -36,9 +36,15 @@ public class APIException extends Exception {
     /** Indicates that a requested record could not be updated or deleted */
     public static final String API_CONFLICT_ERROR = "Update request caused a conflict (HTTP-409). Original API error message: %s";
 
+    /** Indicates that the remote service rejected a request because too many requests have been sent recently */
+    public static final String API_TOO_MANY_REQUESTS_ERROR = "Too many requests (HTTP-429). Original API error message: %s";
+
     /** Indicates that the remote service is currently unavailable e.g. due to maintenance or server issues */
     public static final String API_SERVICE_UNAVAILABLE = "API Service is currently unavailable. Please try again later.";
 
+    /** Indicates that requests to some route family are rejected on the client side as the remote service failed repeatedly */
+    public static final String API_CIRCUIT_OPEN_ERROR = "Requests to %s are rejected as the remote service failed repeatedly. Please try again later.";
+
     /** Indicates problems encountered when processing (parsing, generating) JSON content */
     public static final String API_JSON_PROCESSING_ERROR = "Error while processing JSON content: %s";
 
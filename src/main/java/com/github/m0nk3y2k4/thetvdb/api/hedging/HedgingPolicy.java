@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.hedging;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.TheTVDBApiFactory;
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+
+/**
+ * Interface for policies deciding whether a duplicate of a slow request should be sent to the remote service.
+ * <p><br>
+ * A hedging policy can be set via {@link APIConfiguration.APIConfigurationBuilder#hedgingPolicy(HedgingPolicy)}. Once
+ * configured, the policy will be consulted for each <em>{@code GET}</em> request. If the request has not been answered
+ * within the {@link #getHedgeDelay(String) hedge delay} of its route family, a duplicate request will be sent. The
+ * first response received will be used while the other request will be cancelled. As each duplicate causes additional
+ * load on the remote service, duplicates have to be {@link #tryHedge() permitted} by the policy right before being
+ * sent. A policy using a percentile of the recently observed latencies as hedge delay can be created via
+ * {@link TheTVDBApiFactory#createHedgingPolicy(double, int, double)}. Implementations must be thread-safe as the same
+ * policy will be used concurrently by all requests of an API instance.
+ */
+public interface HedgingPolicy {
+
+    /**
+     * Notifies this policy that a new request is about to be sent to the remote service. Duplicates of this request
+     * will not be reported again.
+     */
+    void onRequest();
+
+    /**
+     * Returns the time to wait for the response to a request of the given route family before a duplicate request
+     * should be sent
+     *
+     * @param family The route family of the request, e.g. <em>{@code /series}</em>
+     *
+     * @return The hedge delay for the route family or an empty Optional if no duplicate should be sent at all
+     */
+    Optional<Duration> getHedgeDelay(@Nonnull String family);
+
+    /**
+     * Asks for permission to send a duplicate of a request which has not been answered within its hedge delay
+     *
+     * @return <em>{@code true}</em> if the duplicate may be sent or <em>{@code false}</em> if no further load should be
+     *         put on the remote service
+     */
+    boolean tryHedge();
+
+    /**
+     * Notifies this policy that a request of the given route family or one of its duplicates has been answered by the
+     * remote service. Responses to duplicates which arrived after the request had already been answered will be
+     * reported as well.
+     *
+     * @param family  The route family of the request
+     * @param latency The time it took to receive the response, always measured from sending the original request
+     * @param hedge   Whether the response to a duplicate request has been used in favor of the original one
+     */
+    void onResponse(@Nonnull String family, @Nonnull Duration latency, boolean hedge);
+
+    /**
+     * Returns a snapshot of the current statistics of this policy
+     *
+     * @return The current statistics of this policy
+     */
+    HedgingStatistics getStatistics();
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.hedging;
+
+/**
+ * Interface representing a snapshot of the statistics of a {@link HedgingPolicy}.
+ * <p><br>
+ * Statistics are collected for the whole lifetime of a policy and can be used to monitor how many additional requests
+ * are caused by hedging and how often they actually paid off. All counters are cumulative.
+ */
+public interface HedgingStatistics {
+
+    /**
+     * Returns the number of requests reported to the policy, not including any duplicates
+     *
+     * @return The number of requests
+     */
+    long getRequestCount();
+
+    /**
+     * Returns the number of duplicate requests which have been permitted by the policy
+     *
+     * @return The number of hedged requests
+     */
+    long getHedgeCount();
+
+    /**
+     * Returns the number of duplicate requests which have been answered before the original request
+     *
+     * @return The number of hedged requests which won the race
+     */
+    long getHedgeWinCount();
+
+    /**
+     * Returns the number of duplicate requests which have been denied because the hedge budget was exhausted
+     *
+     * @return The number of duplicates denied by the budget
+     */
+    long getBudgetExhaustedCount();
+
+    /**
+     * Returns the ratio of duplicate requests to requests. If no requests have been reported yet, <em>{@code 0}</em>
+     * will be returned.
+     *
+     * @return The number of duplicate requests per request
+     */
+    default double getHedgeRatio() {
+        long requests = getRequestCount();
+        return requests == 0 ? 0 : (double)getHedgeCount() / requests;
+    }
+}
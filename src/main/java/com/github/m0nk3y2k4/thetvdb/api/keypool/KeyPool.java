@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.keypool;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.TheTVDBApiFactory;
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+import com.github.m0nk3y2k4.thetvdb.api.APIKey;
+
+/**
+ * Interface for pools of API keys across which the requests of a single API instance will be spread.
+ * <p><br>
+ * An API instance backed by a key pool can be created via
+ * {@link TheTVDBApiFactory#createApi(KeyPool, APIConfiguration)}. Such an instance keeps a separate session for each
+ * key of the pool and asks the pool to {@link #acquire(Collection) select a key} for each request. Once the request has
+ * been completed, the pool will be notified about its outcome via exactly one of the <em>{@code on...}</em> methods.
+ * Requests throttled by the remote service or rejected due to a failed authorization will be sent again using another
+ * key of the pool, as long as there are keys left which have not yet been tried. A pool selecting the key with the
+ * least outstanding requests can be created via {@link TheTVDBApiFactory#createKeyPool(Collection)}. Implementations
+ * must be thread-safe as the same pool will be used concurrently by all requests of an API instance.
+ */
+public interface KeyPool {
+
+    /**
+     * Returns all keys of this pool. The returned list must neither be empty nor change over time.
+     *
+     * @return The keys of this pool
+     */
+    List<APIKey> getApiKeys();
+
+    /**
+     * Selects the key to be used for the next request. Keys which are currently throttled or failed to authorize should
+     * be avoided as long as other keys are available.
+     *
+     * @param excluded Keys which have already been tried for the request and should not be selected again
+     *
+     * @return The key to be used for the request or an empty Optional if all keys of this pool have been excluded
+     */
+    Optional<APIKey> acquire(@Nonnull Collection<APIKey> excluded);
+
+    /**
+     * Notifies this pool that a request sent with the given key has been completed successfully
+     *
+     * @param apiKey The key used for the request
+     */
+    void onSuccess(@Nonnull APIKey apiKey);
+
+    /**
+     * Notifies this pool that a request sent with the given key has been throttled by the remote service
+     *
+     * @param apiKey     The key used for the request
+     * @param retryAfter The time to wait before sending further requests as demanded by the remote service or
+     *                   {@link Duration#ZERO} if the remote service did not state any such time
+     */
+    void onThrottled(@Nonnull APIKey apiKey, @Nonnull Duration retryAfter);
+
+    /**
+     * Notifies this pool that a request sent with the given key has been rejected as the session of the key could not
+     * be authorized
+     *
+     * @param apiKey The key used for the request
+     */
+    void onUnauthorized(@Nonnull APIKey apiKey);
+
+    /**
+     * Notifies this pool that a request sent with the given key failed for a reason not related to the key itself, e.g.
+     * an IO error or a resource not found
+     *
+     * @param apiKey The key used for the request
+     */
+    void onFailure(@Nonnull APIKey apiKey);
+
+    /**
+     * Returns a snapshot of the statistics of each key of this pool
+     *
+     * @return The current statistics of all keys, in the order of {@link #getApiKeys()}
+     */
+    List<KeyStatistics> getStatistics();
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.keypool;
+
+import com.github.m0nk3y2k4.thetvdb.api.APIKey;
+
+/**
+ * Interface representing a snapshot of the statistics of a single key of a {@link KeyPool}.
+ * <p><br>
+ * Statistics are collected for the whole lifetime of a pool and can be used to monitor how the requests are spread
+ * across the keys of the pool and which keys are currently throttled or failing authorization. Apart from the number
+ * of outstanding requests, all counters are cumulative.
+ */
+public interface KeyStatistics {
+
+    /**
+     * Returns the key these statistics belong to
+     *
+     * @return The API key
+     */
+    APIKey getApiKey();
+
+    /**
+     * Returns the number of requests which have been sent with this key
+     *
+     * @return The number of requests
+     */
+    long getRequestCount();
+
+    /**
+     * Returns the number of requests sent with this key which have not yet been completed
+     *
+     * @return The number of outstanding requests
+     */
+    int getOutstandingCount();
+
+    /**
+     * Returns the number of requests sent with this key which have been throttled by the remote service
+     *
+     * @return The number of throttled requests
+     */
+    long getThrottledCount();
+
+    /**
+     * Returns the number of requests sent with this key which have been rejected due to a failed authorization
+     *
+     * @return The number of unauthorized requests
+     */
+    long getUnauthorizedCount();
+
+    /**
+     * Returns the number of requests sent with this key which failed for a reason not related to the key itself
+     *
+     * @return The number of failed requests
+     */
+    long getFailureCount();
+
+    /**
+     * Returns whether this key is currently available for further requests, i.e. it is neither throttled nor failing
+     * authorization
+     *
+     * @return <em>{@code true}</em> if this key is available or <em>{@code false}</em> if it should currently be
+     *         avoided
+     */
+    boolean isAvailable();
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.management;
+
+import java.util.List;
+
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+import com.github.m0nk3y2k4.thetvdb.api.TheTVDBApi;
+
+/**
+ * Management interface reporting the live state of the connection of an API instance via JMX.
+ * <p><br>
+ * An MXBean implementing this interface will be registered for each API instance for which a
+ * {@link APIConfiguration.APIConfigurationBuilder#managementName(String) management name} has been configured and
+ * remains registered until the API instance is {@link TheTVDBApi#close() closed}. It reports the status of the API
+ * session, the requests currently in flight as well as the requests, errors, retries and latencies of all API calls
+ * per route. Calls answered by a response cache are included, whereas duplicates of hedged requests are not counted
+ * separately. All counters are cumulative.
+ */
+public interface ConnectionMXBean {
+
+    /**
+     * Returns the current status of the API session, which is either <em>{@code NOT_AUTHORIZED}</em>,
+     * <em>{@code AUTHORIZATION_IN_PROGRESS}</em> or <em>{@code AUTHORIZED}</em>
+     *
+     * @return The current session status
+     */
+    String getSessionStatus();
+
+    /**
+     * Returns the time that has elapsed since the current session token has been issued. If the token states the
+     * point in time at which it has been issued, this time will be used. Otherwise, the age will be measured from the
+     * moment the token has been set to the session.
+     *
+     * @return The age of the current session token in seconds or <em>{@code -1}</em> if no token has been set yet
+     */
+    long getTokenAgeSeconds();
+
+    /**
+     * Returns the number of API calls which have been invoked but not yet completed
+     *
+     * @return The number of calls currently in flight
+     */
+    int getInFlightCount();
+
+    /**
+     * Returns the number of API calls invoked so far across all routes
+     *
+     * @return The total number of calls
+     */
+    long getRequestCount();
+
+    /**
+     * Returns the number of API calls that failed so far across all routes
+     *
+     * @return The total number of failed calls
+     */
+    long getErrorCount();
+
+    /**
+     * Returns the number of retries sent so far across all routes
+     *
+     * @return The total number of retries
+     */
+    long getRetryCount();
+
+    /**
+     * Returns the statistics of all routes that have been invoked so far, ordered by their route template
+     *
+     * @return The current statistics, one entry per route template
+     */
+    List<RouteActivity> getRoutes();
+
+    /**
+     * Requests a new session token from the remote service right away, regardless of whether the current token is
+     * still valid. Might be used to recover from a token that has been revoked by the remote service.
+     *
+     * @throws IllegalStateException If the login failed
+     */
+    void forceLogin();
+}
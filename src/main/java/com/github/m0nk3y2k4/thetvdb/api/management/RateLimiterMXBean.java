@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.management;
+
+import com.github.m0nk3y2k4.thetvdb.api.ratelimit.RateLimiter;
+
+/**
+ * Management interface reporting the state of the {@link RateLimiter} of an API instance via JMX.
+ * <p><br>
+ * An MXBean implementing this interface will be registered alongside the {@link ConnectionMXBean} of API instances
+ * which have been configured with a rate limiter.
+ */
+public interface RateLimiterMXBean {
+
+    /**
+     * Returns the rate at which permits are currently issued by the limiter. For adaptive limiters, this rate drops
+     * while the remote service is throttling requests.
+     *
+     * @return The current rate in permits per second
+     */
+    double getRate();
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.management;
+
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheStatistics;
+import com.github.m0nk3y2k4.thetvdb.api.cache.ResponseCache;
+
+/**
+ * Management interface reporting the statistics of the {@link ResponseCache} of an API instance via JMX.
+ * <p><br>
+ * An MXBean implementing this interface will be registered alongside the {@link ConnectionMXBean} of API instances
+ * which have been configured with a response cache. The reported values reflect the {@link CacheStatistics} of the
+ * cache at the time they are read.
+ */
+public interface ResponseCacheMXBean {
+
+    /**
+     * Returns the number of lookups which could be served from the cache
+     *
+     * @return The number of cache hits
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of lookups for which no valid entry was found in the cache
+     *
+     * @return The number of cache misses
+     */
+    long getMissCount();
+
+    /**
+     * Returns the number of expired entries which have been confirmed to be still up-to-date by the remote service
+     *
+     * @return The number of revalidated entries
+     */
+    long getRevalidationCount();
+
+    /**
+     * Returns the number of entries which have been removed from the cache in order to make room for new entries
+     *
+     * @return The number of evicted entries
+     */
+    long getEvictionCount();
+
+    /**
+     * Returns the number of entries which are currently stored in the cache
+     *
+     * @return The current number of entries
+     */
+    long getEntryCount();
+
+    /**
+     * Returns the ratio of lookups which could be served from the cache
+     *
+     * @return The hit rate as value between <em>{@code 0}</em> and <em>{@code 1}</em>
+     */
+    double getHitRate();
+
+    /**
+     * Removes all entries from the cache, so that subsequent requests will be sent to the remote service again
+     */
+    void clear();
+}
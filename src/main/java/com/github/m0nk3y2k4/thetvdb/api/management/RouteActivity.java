@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.management;
+
+/**
+ * Interface representing a snapshot of the activity on a single route, as reported by the {@link ConnectionMXBean}.
+ * <p><br>
+ * The latencies cover API calls as a whole, from the invocation of the call until its response has been mapped or the
+ * call failed, including any on-demand logins, retries and back-off delays.
+ */
+public interface RouteActivity {
+
+    /**
+     * Returns the route template of the invoked resources, with all resource specific path segments being replaced by
+     * their wildcards, e.g. <em>{@code /series/{id}/extended}</em>
+     *
+     * @return The route template
+     */
+    String getRoute();
+
+    /**
+     * Returns the number of API calls invoked on this route
+     *
+     * @return The number of calls
+     */
+    long getRequestCount();
+
+    /**
+     * Returns the number of API calls on this route that failed
+     *
+     * @return The number of failed calls
+     */
+    long getErrorCount();
+
+    /**
+     * Returns the number of retries sent on behalf of API calls on this route
+     *
+     * @return The number of retries
+     */
+    long getRetryCount();
+
+    /**
+     * Returns the average latency of the completed API calls on this route
+     *
+     * @return The mean latency in milliseconds
+     */
+    double getMeanLatencyMillis();
+
+    /**
+     * Returns the median latency of the completed API calls on this route
+     *
+     * @return The 50th percentile of the latency in milliseconds
+     */
+    double getP50LatencyMillis();
+
+    /**
+     * Returns the 90th percentile latency of the completed API calls on this route
+     *
+     * @return The 90th percentile of the latency in milliseconds
+     */
+    double getP90LatencyMillis();
+
+    /**
+     * Returns the 99th percentile latency of the completed API calls on this route
+     *
+     * @return The 99th percentile of the latency in milliseconds
+     */
+    double getP99LatencyMillis();
+}
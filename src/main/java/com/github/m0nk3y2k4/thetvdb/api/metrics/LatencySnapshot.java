@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.metrics;
+
+import java.time.Duration;
+
+/**
+ * Interface representing a snapshot of a latency distribution recorded by a {@link MetricsRecorder}.
+ * <p><br>
+ * Percentiles are estimated from a histogram and may deviate slightly from the exact values. If no latencies have been
+ * recorded yet, all values will be zero.
+ */
+public interface LatencySnapshot {
+
+    /**
+     * Returns the number of latencies recorded
+     *
+     * @return The number of latencies
+     */
+    long getCount();
+
+    /**
+     * Returns the arithmetic mean of all recorded latencies
+     *
+     * @return The mean latency
+     */
+    Duration getMean();
+
+    /**
+     * Returns the highest latency recorded
+     *
+     * @return The maximum latency
+     */
+    Duration getMax();
+
+    /**
+     * Returns the median of the recorded latencies
+     *
+     * @return The 50th percentile
+     */
+    Duration getP50();
+
+    /**
+     * Returns the 90th percentile of the recorded latencies
+     *
+     * @return The 90th percentile
+     */
+    Duration getP90();
+
+    /**
+     * Returns the 99th percentile of the recorded latencies
+     *
+     * @return The 99th percentile
+     */
+    Duration getP99();
+
+    /**
+     * Returns the 99.9th percentile of the recorded latencies
+     *
+     * @return The 99.9th percentile
+     */
+    Duration getP999();
+}
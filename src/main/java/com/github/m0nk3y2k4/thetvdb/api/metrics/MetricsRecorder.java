@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.metrics;
+
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.TheTVDBApiFactory;
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+
+/**
+ * Interface for recorders collecting metrics about the requests sent to the remote service.
+ * <p><br>
+ * A metrics recorder can be set via {@link APIConfiguration.APIConfigurationBuilder#metricsRecorder(MetricsRecorder)}.
+ * Once configured, the recorder will be notified about every single exchange with the remote service, including
+ * logins, retries and duplicates of hedged requests. Requests answered by a response cache without contacting the
+ * remote service will not be recorded. A recorder aggregating the metrics into latency histograms per route can be
+ * created via {@link TheTVDBApiFactory#createMetricsRecorder()}. Implementations must be thread-safe as the same
+ * recorder will be used concurrently by all requests of an API instance. As the recorder is notified on the request
+ * path, implementations should return quickly and must not block.
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Records the metrics of a single exchange with the remote service
+     *
+     * @param metrics The metrics of the exchange
+     */
+    void record(@Nonnull RequestMetrics metrics);
+
+    /**
+     * Returns a snapshot of the statistics aggregated by this recorder for each route that has been recorded so far
+     *
+     * @return The current statistics of this recorder, one entry per request method and route
+     */
+    List<RouteStatistics> getStatistics();
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.metrics;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Interface representing the metrics of a single exchange with the remote service.
+ * <p><br>
+ * The network time of an exchange is split into the time until the response headers have been received and the time
+ * spent waiting for the response body. The time it took to parse the response body does not include any time spent
+ * waiting for the network. Responses transferred gzip-compressed are parsed while being decompressed, so that the time
+ * for decompressing the body will be included in the parse time.
+ */
+public interface RequestMetrics {
+
+    /**
+     * Returns the HTTP request method of the exchange, e.g. <em>{@code GET}</em>
+     *
+     * @return The request method
+     */
+    String getMethod();
+
+    /**
+     * Returns the route template of the requested resource, i.e. its path with all resource specific segments replaced
+     * by their wildcards, e.g. <em>{@code /series/{id}/extended}</em>
+     *
+     * @return The route template of the exchange
+     */
+    String getRoute();
+
+    /**
+     * Returns the HTTP status code returned by the remote service. If no response has been received, e.g. due to a
+     * connection failure, an empty Optional will be returned.
+     *
+     * @return The status code of the response
+     */
+    Optional<Integer> getStatusCode();
+
+    /**
+     * Returns the time from sending the request until the response headers have been received. If no response has been
+     * received, an empty Optional will be returned.
+     *
+     * @return The time to the first byte of the response
+     */
+    Optional<Duration> getTimeToFirstByte();
+
+    /**
+     * Returns the total network time of the exchange, i.e. the time from sending the request until the response has
+     * been received completely, not including the time spent parsing the response body. For failed exchanges this is
+     * the time until the failure occurred.
+     *
+     * @return The network time of the exchange
+     */
+    Duration getTransferTime();
+
+    /**
+     * Returns the time spent parsing the response body, not including any time spent waiting for the network
+     *
+     * @return The parse time of the response body or zero if no body has been parsed
+     */
+    Duration getParseTime();
+
+    /**
+     * Returns the number of bytes of the response body as transferred over the network, i.e. before decompression
+     *
+     * @return The transferred size of the response body
+     */
+    long getCompressedBytes();
+
+    /**
+     * Returns the number of bytes of the response body after decompression. Equals the compressed size if the response
+     * has not been transferred compressed.
+     *
+     * @return The actual size of the response body
+     */
+    long getDecompressedBytes();
+}
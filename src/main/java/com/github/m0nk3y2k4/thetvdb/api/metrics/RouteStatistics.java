@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.metrics;
+
+import java.util.Map;
+
+/**
+ * Interface representing a snapshot of the statistics aggregated by a {@link MetricsRecorder} for a single route.
+ * <p><br>
+ * Statistics are collected for the whole lifetime of a recorder, separately for each request method and route
+ * template. All counters are cumulative.
+ */
+public interface RouteStatistics {
+
+    /**
+     * Returns the HTTP request method these statistics belong to
+     *
+     * @return The request method
+     */
+    String getMethod();
+
+    /**
+     * Returns the route template these statistics belong to, e.g. <em>{@code /series/{id}/extended}</em>
+     *
+     * @return The route template
+     */
+    String getRoute();
+
+    /**
+     * Returns the number of exchanges with the remote service which have been recorded for this route
+     *
+     * @return The number of exchanges
+     */
+    long getRequestCount();
+
+    /**
+     * Returns the number of responses per HTTP status code
+     *
+     * @return The number of responses received per status code
+     */
+    Map<Integer, Long> getStatusCounts();
+
+    /**
+     * Returns the number of exchanges which failed without receiving any response, e.g. due to a connection failure
+     *
+     * @return The number of exchanges without response
+     */
+    long getFailureCount();
+
+    /**
+     * Returns the distribution of the times to the first byte of the responses
+     *
+     * @return Snapshot of the times to the first byte
+     */
+    LatencySnapshot getTimeToFirstByte();
+
+    /**
+     * Returns the distribution of the total network times of all exchanges
+     *
+     * @return Snapshot of the transfer times
+     */
+    LatencySnapshot getTransferTime();
+
+    /**
+     * Returns the distribution of the times spent parsing the response bodies
+     *
+     * @return Snapshot of the parse times
+     */
+    LatencySnapshot getParseTime();
+
+    /**
+     * Returns the total number of response body bytes transferred over the network
+     *
+     * @return The total compressed size of all response bodies
+     */
+    long getCompressedBytes();
+
+    /**
+     * Returns the total number of response body bytes after decompression
+     *
+     * @return The total decompressed size of all response bodies
+     */
+    long getDecompressedBytes();
+
+    /**
+     * Returns the ratio of transferred to decompressed response body bytes. If no response body has been received yet,
+     * <em>{@code 1}</em> will be returned.
+     *
+     * @return The compressed size of the response bodies relative to their decompressed size
+     */
+    default double getCompressionRatio() {
+        long decompressed = getDecompressedBytes();
+        return decompressed == 0 ? 1 : (double)getCompressedBytes() / decompressed;
+    }
+}
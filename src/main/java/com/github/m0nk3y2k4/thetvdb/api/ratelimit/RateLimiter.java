@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.ratelimit;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.TheTVDBApiFactory;
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+
+/**
+ * Interface for client-side rate limiters throttling the requests sent to the remote service.
+ * <p><br>
+ * A rate limiter can be set via {@link APIConfiguration.APIConfigurationBuilder#rateLimiter(RateLimiter)}. Once
+ * configured, a permit will be {@link #reserve() reserved} for each request before it is sent to the remote service
+ * and the request will be delayed until this permit becomes available. The limiter is notified about the outcome of
+ * each request, allowing it to adapt its rate whenever the remote service starts throttling requests. A token bucket
+ * implementation can be created via {@link TheTVDBApiFactory#createRateLimiter(double, int)}. Implementations must be
+ * thread-safe as the same limiter will be used concurrently by all requests of an API instance.
+ */
+public interface RateLimiter {
+
+    /**
+     * Reserves a permit for a new request. The request must not be sent before the returned delay has elapsed.
+     *
+     * @return The time the request has to be delayed or {@link Duration#ZERO} if it may be sent immediately
+     */
+    Duration reserve();
+
+    /**
+     * Reserves a permit for a new request, but only if this permit becomes available before the given timeout has
+     * elapsed. Otherwise, no permit will be reserved at all, so that requests which are not able to wait that long do
+     * not delay any subsequent requests. The default implementation {@link #reserve() reserves} a permit
+     * unconditionally and checks its delay afterwards. Implementations should override this method if they are able to
+     * determine the delay without reserving the permit.
+     *
+     * @param timeout Maximum time the request may be delayed
+     *
+     * @return The time the request has to be delayed, which is shorter than the given timeout, or an empty Optional if
+     *         no permit could be reserved in time
+     */
+    default Optional<Duration> tryReserve(@Nonnull Duration timeout) {
+        Duration delay = reserve();
+        return delay.compareTo(timeout) < 0 ? Optional.of(delay) : Optional.empty();
+    }
+
+    /**
+     * Notifies this limiter that a request has been processed successfully by the remote service
+     */
+    void onSuccess();
+
+    /**
+     * Notifies this limiter that a request has been rejected by the remote service with an HTTP-429 or HTTP-503
+     * status, indicating that requests should be sent less frequently
+     *
+     * @param retryAfter The time to wait before sending new requests as provided by the <em>{@code Retry-After}</em>
+     *                   response header or {@link Duration#ZERO} if no such header has been returned
+     */
+    void onThrottled(@Nonnull Duration retryAfter);
+
+    /**
+     * Returns the rate at which permits are currently issued by this limiter
+     *
+     * @return The current rate in permits per second
+     */
+    double getRate();
+}
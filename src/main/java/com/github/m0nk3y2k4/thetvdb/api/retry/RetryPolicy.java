@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.retry;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.TheTVDBApiFactory;
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+
+/**
+ * Interface for policies deciding whether requests which failed due to a transient error should be retried.
+ * <p><br>
+ * A retry policy can be set via {@link APIConfiguration.APIConfigurationBuilder#retryPolicy(RetryPolicy)}. Once
+ * configured, the policy will be consulted whenever an idempotent request (<em>{@code GET}</em>,
+ * <em>{@code HEAD}</em>, <em>{@code PUT}</em> or <em>{@code DELETE}</em>) fails. Requests which are not idempotent
+ * will never be retried. An implementation using exponential backoff with jitter and a retry budget can be created via
+ * {@link TheTVDBApiFactory#createRetryPolicy(int, Duration, Duration, double)}. Implementations must be thread-safe as
+ * the same policy will be used concurrently by all requests of an API instance.
+ */
+public interface RetryPolicy {
+
+    /**
+     * Notifies this policy that a new request is about to be sent to the remote service. Retries of this request will
+     * not be reported again.
+     */
+    void onRequest();
+
+    /**
+     * Decides whether a failed request should be retried and how long to wait before the next attempt
+     *
+     * @param retry The number of retries which have already been performed for this request
+     * @param error The error by which the latest attempt failed
+     *
+     * @return The time to wait before retrying the request or an empty Optional if the request should not be retried
+     */
+    Optional<Duration> nextRetry(int retry, @Nonnull APIException error);
+
+    /**
+     * Returns a snapshot of the current statistics of this policy
+     *
+     * @return The current statistics of this policy
+     */
+    RetryStatistics getStatistics();
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.retry;
+
+/**
+ * Interface representing a snapshot of the statistics of a {@link RetryPolicy}.
+ * <p><br>
+ * Statistics are collected for the whole lifetime of a policy and can be used to monitor how many additional requests
+ * are caused by retries. All counters are cumulative.
+ */
+public interface RetryStatistics {
+
+    /**
+     * Returns the number of requests reported to the policy, not including any retries
+     *
+     * @return The number of requests
+     */
+    long getRequestCount();
+
+    /**
+     * Returns the number of retries which have been granted by the policy
+     *
+     * @return The number of retries
+     */
+    long getRetryCount();
+
+    /**
+     * Returns the number of retries which have been denied because the retry budget was exhausted. A steadily
+     * increasing value indicates a persistent failure of the remote service rather than a transient one.
+     *
+     * @return The number of retries denied by the budget
+     */
+    long getBudgetExhaustedCount();
+
+    /**
+     * Returns the ratio of retries to requests. If no requests have been reported yet, <em>{@code 0}</em> will be
+     * returned.
+     *
+     * @return The number of retries per request
+     */
+    default double getRetryRatio() {
+        long requests = getRequestCount();
+        return requests == 0 ? 0 : (double)getRetryCount() / requests;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.api.token;
+
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.TheTVDBApiFactory;
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+
+/**
+ * Interface for stores sharing the session tokens issued by the remote service with other API instances.
+ * <p><br>
+ * A store can be set via {@link APIConfiguration.APIConfigurationBuilder#tokenStore(TokenStore)}. Once configured,
+ * each token issued to an API instance will be saved to the store. Before requesting a new token from the remote
+ * service, API instances will first try to adopt a valid token saved by another instance using the same API key, e.g.
+ * by an instance that has been running prior to an application restart or by an instance running on another node.
+ * A file based implementation can be created via {@link TheTVDBApiFactory#createTokenStore(java.nio.file.Path)}.
+ * <p><br>
+ * Tokens are identified by an opaque ID derived from the API key they have been issued for. IDs only consist of
+ * lowercase hexadecimal characters, so that they may safely be used as file names or keys of any kind. The token of an
+ * ID will only be renewed while holding the {@link #lock(String) lock} of this ID, so that only one API instance will
+ * request a new token at a time while all others wait for this token to be saved. Implementations must be thread-safe
+ * as the same store might be used concurrently by multiple API instances.
+ */
+public interface TokenStore {
+
+    /**
+     * Returns the token saved for the given ID
+     *
+     * @param id The ID of the token
+     *
+     * @return The saved token or an empty Optional if no token has been saved for the given ID or it could not be read
+     */
+    Optional<String> load(@Nonnull String id);
+
+    /**
+     * Saves the given token for the given ID, replacing any token previously saved for this ID
+     *
+     * @param id    The ID of the token
+     * @param token The token issued by the remote service
+     */
+    void save(@Nonnull String id, @Nonnull String token);
+
+    /**
+     * Acquires the exclusive lock of the given ID, waiting until the lock has been released by any other API instance
+     * holding it. Locks must be reentrant for the thread holding the lock.
+     *
+     * @param id The ID of the token to be renewed
+     */
+    void lock(@Nonnull String id);
+
+    /**
+     * Releases the lock of the given ID which has previously been acquired by the current thread
+     *
+     * @param id The ID of the token that has been renewed
+     */
+    void unlock(@Nonnull String id);
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.api.impl;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CachePolicy;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.ExecutionMode;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.Transport;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.annotation.WithHiddenImplementation;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.cache.RouteCachePolicy;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
+import org.immutables.value.Value.Check;
+import org.immutables.value.Value.Default;
+import org.immutables.value.Value.Immutable;
+
+/**
+ * Implementation of the {@link APIConfiguration} interface
+ * <p><br>
+ * Objects of this class represent the technical configuration of a specific API instance and are immutable so that
+ * their content can not be changed once an instance has been created. New objects of this class may be created by
+ * using the corresponding {@link APIConfigurationImpl.Builder}.
+ */
+@Immutable
+@WithHiddenImplementation
+public abstract class APIConfigurationImpl implements APIConfiguration {
+
+    /**
+     * Returns a new configuration with all properties being initialized with their default values
+     *
+     * @return Default API configuration
+     */
+    public static APIConfiguration getDefault() {
+        return new APIConfigurationImpl.Builder().build();
+    }
+
+    @Override
+    @Default
+    public Transport getTransport() {
+        return Transport.URL_CONNECTION;
+    }
+
+    @Override
+    @Default
+    public ExecutionMode getExecutionMode() {
+        return ExecutionMode.PLATFORM_THREADS;
+    }
+
+    @Override
+    @Default
+    public CachePolicy getCachePolicy() {
+        return RouteCachePolicy.getDefault();
+    }
+
+    @Override
+    @Default
+    public boolean isCoalescingRequests() {
+        return false;
+    }
+
+    /**
+     * Validates the configured properties
+     *
+     * @throws IllegalArgumentException If a negative token refresh margin, a timeout which is not positive or a blank
+     *                                  management name has been set
+     */
+    @Check
+    protected void validate() {
+        Parameters.validateCondition(margin -> margin.map(value -> !value.isNegative()).orElse(true),
+                getTokenRefreshMargin(), new IllegalArgumentException("Token refresh margin must not be negative"));
+        Parameters.validateCondition(APIConfigurationImpl::isPositive, getConnectTimeout(),
+                new IllegalArgumentException("Connect timeout must be positive"));
+        Parameters.validateCondition(APIConfigurationImpl::isPositive, getReadTimeout(),
+                new IllegalArgumentException("Read timeout must be positive"));
+        Parameters.validateCondition(APIConfigurationImpl::isPositive, getCallTimeout(),
+                new IllegalArgumentException("Call timeout must be positive"));
+        Parameters.validateCondition(name -> name.map(value -> !value.isBlank()).orElse(true), getManagementName(),
+                new IllegalArgumentException("Management name must not be blank"));
+    }
+
+    /**
+     * Checks whether the given optional timeout is either absent or positive
+     *
+     * @param timeout The optional timeout to be checked
+     *
+     * @return True if the timeout has not been set or is greater than zero
+     */
+    private static boolean isPositive(Optional<Duration> timeout) {
+        return timeout.map(value -> !value.isNegative() && !value.isZero()).orElse(true);
+    }
+
+    /**
+     * Builder used to create a new immutable {@link APIConfigurationImpl} implementation
+     * <p><br>
+     * This builder provides a fluent API for setting certain object properties and creating a new immutable
+     * {@link APIConfigurationImpl} instance based on these properties. Properties which are not set explicitly will be
+     * initialized with their default values.
+     */
+    public static class Builder extends APIConfigurationImplBuilder implements APIConfiguration.APIConfigurationBuilder {}
+}
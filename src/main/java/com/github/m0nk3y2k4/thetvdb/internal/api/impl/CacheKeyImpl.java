@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.api.impl;
+
+import static java.util.stream.Collectors.joining;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheKey;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.annotation.WithHiddenImplementation;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
+import org.immutables.value.Value.Check;
+import org.immutables.value.Value.Default;
+import org.immutables.value.Value.Immutable;
+
+/**
+ * Implementation of the {@link CacheKey} interface
+ * <p><br>
+ * Objects of this class represent the key of a single cached response and are immutable so that their content can not
+ * be changed once an instance has been created. New objects of this class may be created by using the corresponding
+ * {@link CacheKeyImpl.Builder} or by {@link #create(String, String, String) normalizing} some requested resource.
+ */
+@Immutable
+@WithHiddenImplementation
+public abstract class CacheKeyImpl implements CacheKey {
+
+    /**
+     * Creates a new cache key for the given request properties. The given resource will be split into its path and
+     * query components, whereby the query parameters will be sorted in order to normalize the query string. Empty query
+     * parameters will be ignored.
+     *
+     * @param method   The name of the HTTP request method
+     * @param resource The requested resource, optionally followed by a query string
+     * @param language The requested response language. Might be <em>{@code null}</em>.
+     *
+     * @return New cache key for the given request properties
+     */
+    public static CacheKey create(@Nonnull String method, @Nonnull String resource, @CheckForNull String language) {
+        int queryStart = resource.indexOf('?');
+        String path = queryStart < 0 ? resource : resource.substring(0, queryStart);
+        String query = queryStart < 0 ? "" : Arrays.stream(resource.substring(queryStart + 1).split("&"))
+                .filter(parameter -> !parameter.isEmpty())
+                .sorted()
+                .collect(joining("&"));
+        return new CacheKeyImpl.Builder().method(method).path(path).query(query)
+                .language(Optional.ofNullable(language)).build();
+    }
+
+    @Override
+    @Default
+    public String getQuery() {
+        return "";
+    }
+
+    /**
+     * Checks whether all required properties are set for this cache key
+     */
+    @Check
+    protected void validate() {
+        Parameters.validateNotEmpty(getMethod(), "HTTP request method must not be NULL or empty");
+        Parameters.validateNotNull(getPath(), "Resource path must not be NULL");
+    }
+
+    /**
+     * Builder used to create a new immutable {@link CacheKeyImpl} implementation
+     * <p><br>
+     * This builder provides a fluent API for setting certain object properties and creating a new immutable
+     * {@link CacheKeyImpl} instance based on these properties.
+     */
+    public static class Builder extends CacheKeyImplBuilder {}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.api.impl;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.cache.CachedResponse;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
+
+/**
+ * Internal implementation of the {@link CachedResponse} interface
+ * <p><br>
+ * Unlike the other value objects of this package, this class is not generated: the raw response content is shared
+ * rather than copied on each access, as it might be large and is handed out for each cache hit. Callers must therefore
+ * not modify the content of a cached response.
+ */
+public final class CachedResponseImpl implements CachedResponse {
+
+    /** The raw content of the response */
+    private final byte[] content;
+
+    /** Value of the ETag response header. Might be <em>{@code null}</em>. */
+    private final String eTag;
+
+    /** Value of the Last-Modified response header. Might be <em>{@code null}</em>. */
+    private final String lastModified;
+
+    /** Point in time at which the response expires */
+    private final Instant expiresAt;
+
+    /**
+     * Creates a new cached response
+     *
+     * @param content      The raw content of the response
+     * @param eTag         Value of the ETag response header. Might be <em>{@code null}</em>.
+     * @param lastModified Value of the Last-Modified response header. Might be <em>{@code null}</em>.
+     * @param expiresAt    Point in time at which the response expires
+     */
+    public CachedResponseImpl(@Nonnull byte[] content, @CheckForNull String eTag, @CheckForNull String lastModified,
+            @Nonnull Instant expiresAt) {
+        Parameters.validateNotNull(content, "Response content must not be NULL");
+        Parameters.validateNotNull(expiresAt, "Expiration time must not be NULL");
+
+        this.content = content;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Creates a copy of the given response which expires at the given point in time
+     *
+     * @param response  The response to copy
+     * @param expiresAt Point in time at which the copy expires
+     *
+     * @return Copy of the given response with a new expiration time
+     */
+    public static CachedResponse withExpiresAt(@Nonnull CachedResponse response, @Nonnull Instant expiresAt) {
+        return new CachedResponseImpl(response.getContent(), response.getETag().orElse(null),
+                response.getLastModified().orElse(null), expiresAt);
+    }
+
+    @Override
+    public byte[] getContent() {
+        return content;
+    }
+
+    @Override
+    public Optional<String> getETag() {
+        return Optional.ofNullable(eTag);
+    }
+
+    @Override
+    public Optional<String> getLastModified() {
+        return Optional.ofNullable(lastModified);
+    }
+
+    @Override
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.api.impl;
+
+import com.github.m0nk3y2k4.thetvdb.api.retry.RetryStatistics;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.annotation.WithHiddenImplementation;
+import org.immutables.value.Value.Immutable;
+
+/**
+ * Implementation of the {@link RetryStatistics} interface
+ * <p><br>
+ * Objects of this class represent a snapshot of the statistics of some retry policy and are immutable so that their
+ * content can not be changed once an instance has been created. New objects of this class may be created by using the
+ * corresponding {@link RetryStatisticsImpl.Builder}.
+ */
+@Immutable
+@WithHiddenImplementation
+public abstract class RetryStatisticsImpl implements RetryStatistics {
+
+    /**
+     * Builder used to create a new immutable {@link RetryStatisticsImpl} implementation
+     * <p><br>
+     * This builder provides a fluent API for setting certain object properties and creating a new immutable
+     * {@link RetryStatisticsImpl} instance based on these properties.
+     */
+    public static class Builder extends RetryStatisticsImplBuilder {}
+}
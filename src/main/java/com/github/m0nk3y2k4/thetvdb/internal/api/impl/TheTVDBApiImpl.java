@@ -18,15 +18,23 @@ package com.github.m0nk3y2k4.thetvdb.internal.api.impl;
 
 import static com.github.m0nk3y2k4.thetvdb.internal.util.APIUtil.convert;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import javax.annotation.Nonnull;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.TheTVDBApiFactory;
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
 import com.github.m0nk3y2k4.thetvdb.api.APIKey;
 import com.github.m0nk3y2k4.thetvdb.api.Proxy;
 import com.github.m0nk3y2k4.thetvdb.api.QueryParameters;
@@ -42,6 +50,7 @@ import com.github.m0nk3y2k4.thetvdb.api.enumeration.SeriesSeasonType;
 import com.github.m0nk3y2k4.thetvdb.api.enumeration.UpdateAction;
 import com.github.m0nk3y2k4.thetvdb.api.enumeration.UpdateEntityType;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.api.keypool.KeyPool;
 import com.github.m0nk3y2k4.thetvdb.api.model.APIResponse;
 import com.github.m0nk3y2k4.thetvdb.api.model.data.Artwork;
 import com.github.m0nk3y2k4.thetvdb.api.model.data.ArtworkDetails;
@@ -84,7 +93,10 @@ import com.github.m0nk3y2k4.thetvdb.api.model.data.Status;
 import com.github.m0nk3y2k4.thetvdb.api.model.data.Translations;
 import com.github.m0nk3y2k4.thetvdb.api.model.data.UserInfo;
 import com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.PooledAPIConnection;
 import com.github.m0nk3y2k4.thetvdb.internal.connection.RemoteAPI;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RequestSender;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.ResponseReader;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.impl.ArtworkAPI;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.impl.AwardsAPI;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.impl.CharactersAPI;
@@ -96,7 +108,6 @@ import com.github.m0nk3y2k4.thetvdb.internal.resource.impl.GendersAPI;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.impl.GenresAPI;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.impl.InspirationTypesAPI;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.impl.ListsAPI;
-import com.github.m0nk3y2k4.thetvdb.internal.resource.impl.LoginAPI;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.impl.MoviesAPI;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.impl.PeopleAPI;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.impl.SearchAPI;
@@ -105,6 +116,7 @@ import com.github.m0nk3y2k4.thetvdb.internal.resource.impl.SeriesAPI;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.impl.SourceTypesAPI;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.impl.UpdatesAPI;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.impl.UserAPI;
+import com.github.m0nk3y2k4.thetvdb.internal.util.functional.ThrowableFunctionalInterfaces;
 import com.github.m0nk3y2k4.thetvdb.internal.util.json.APIJsonMapper;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
 
@@ -120,9 +132,15 @@ public class TheTVDBApiImpl implements TheTVDBApi {
     /** Wrapper API: Consolidates TheTVDBApi calls which return extended response information */
     private final Extended extendedApi = new ExtendedApi();
 
+    /** Wrapper API: Consolidates TheTVDBApi calls which are sent asynchronously */
+    private final Async asyncApi = new AsyncApi();
+
     /** The actual connection to the remote API */
     private final APIConnection con;
 
+    /** Timeout of each call overriding the configured call timeout (optional) */
+    private final Duration callTimeout;
+
     /**
      * Creates a new TheTVDBApi instance. The given <em>{@code apiKey}</em> must be a valid
      * <a target="_blank" href="https://www.thetvdb.com/dashboard/account/apikey">TheTVDB.com v4 API Key</a> as it will
@@ -133,6 +151,7 @@ public class TheTVDBApiImpl implements TheTVDBApi {
      */
     public TheTVDBApiImpl(@Nonnull APIKey apiKey) {
         this.con = new APIConnection(apiKey);
+        this.callTimeout = null;
     }
 
     /**
@@ -148,6 +167,123 @@ public class TheTVDBApiImpl implements TheTVDBApi {
     public TheTVDBApiImpl(@Nonnull APIKey apiKey, @Nonnull Proxy proxy) {
         Parameters.validateNotNull(proxy, "Proxy must not be NULL");
         this.con = new APIConnection(apiKey, new RemoteAPI.Builder().from(proxy).build());
+        this.callTimeout = null;
+    }
+
+    /**
+     * Creates a new TheTVDBApi instance. The given <em>{@code apiKey}</em> must be a valid
+     * <a target="_blank" href="https://www.thetvdb.com/dashboard/account/apikey">TheTVDB.com v4 API Key</a> as it will
+     * be used for remote service authentication. To authenticate and generate a new session token use the
+     * {@link #init()} or {@link #login()} method right after creating a new instance of this API. All communication to
+     * the remote API will be conducted according to the given <em>{@code configuration}</em>.
+     *
+     * @param apiKey        Valid <i>TheTVDB.com</i> v4 API-Key
+     * @param configuration The technical configuration to be used for remote API communication
+     *
+     * @throws IllegalStateException If a management name has been configured which is already used by another API
+     *                               instance that has not yet been closed
+     */
+    public TheTVDBApiImpl(@Nonnull APIKey apiKey, @Nonnull APIConfiguration configuration) {
+        this.con = open(new APIConnection(apiKey, RemoteAPI.getDefault(), configuration));
+        this.callTimeout = null;
+    }
+
+    /**
+     * Creates a new TheTVDBApi instance. The given <em>{@code apiKey}</em> must be a valid
+     * <a target="_blank" href="https://www.thetvdb.com/dashboard/account/apikey">TheTVDB.com v4 API Key</a> as it will
+     * be used for remote service authentication. To authenticate and generate a new session token use the
+     * {@link #init()} or {@link #login()} method right after creating a new instance of this API. All communication to
+     * the remote API will be forwarded to the given <em>{@code proxy}</em> and will be conducted according to the given
+     * <em>{@code configuration}</em>.
+     *
+     * @param apiKey        Valid <i>TheTVDB.com</i> v4 API-Key
+     * @param proxy         The proxy service to be used for remote API communication
+     * @param configuration The technical configuration to be used for remote API communication
+     *
+     * @throws IllegalStateException If a management name has been configured which is already used by another API
+     *                               instance that has not yet been closed
+     */
+    public TheTVDBApiImpl(@Nonnull APIKey apiKey, @Nonnull Proxy proxy, @Nonnull APIConfiguration configuration) {
+        Parameters.validateNotNull(proxy, "Proxy must not be NULL");
+        this.con = open(new APIConnection(apiKey, new RemoteAPI.Builder().from(proxy).build(), configuration));
+        this.callTimeout = null;
+    }
+
+    /**
+     * Creates a new TheTVDBApi instance spreading its requests across the keys of the given <em>{@code keyPool}</em>.
+     * All keys of the pool must be valid
+     * <a target="_blank" href="https://www.thetvdb.com/dashboard/account/apikey">TheTVDB.com v4 API Keys</a> as a
+     * separate session will be authenticated for each of them. To authenticate and generate new session tokens for
+     * all keys use the {@link #init()} or {@link #login()} method right after creating a new instance of this API. All
+     * communication to the remote API will be conducted according to the given <em>{@code configuration}</em>.
+     *
+     * @param keyPool       Pool providing the valid <i>TheTVDB.com</i> v4 API-Keys
+     * @param configuration The technical configuration to be used for remote API communication
+     *
+     * @throws IllegalStateException If a management name has been configured which is already used by another API
+     *                               instance that has not yet been closed
+     */
+    public TheTVDBApiImpl(@Nonnull KeyPool keyPool, @Nonnull APIConfiguration configuration) {
+        this.con = open(new PooledAPIConnection(keyPool, RemoteAPI.getDefault(), configuration));
+        this.callTimeout = null;
+    }
+
+    /**
+     * Creates a new view of some TheTVDBApi instance sharing the given connection. Each call of the view has to be
+     * completed within the given timeout.
+     *
+     * @param con         The connection of the API instance
+     * @param callTimeout The time each call of the view may take as a whole
+     */
+    private TheTVDBApiImpl(@Nonnull APIConnection con, @Nonnull Duration callTimeout) {
+        this.con = con;
+        this.callTimeout = callTimeout;
+    }
+
+    /**
+     * Registers the MBeans of the given, fully constructed connection, if a management name has been configured
+     *
+     * @param con A newly created connection
+     *
+     * @return The given connection
+     *
+     * @throws IllegalStateException If the MBeans could not be registered, e.g. as the management name is already used
+     *                               by another API instance which has not yet been closed
+     */
+    private static APIConnection open(APIConnection con) {
+        con.registerMBeans();
+        return con;
+    }
+
+    /**
+     * Creates a new reader which maps the response body received from the remote service straight into an
+     * {@link APIResponse} object of the given type
+     *
+     * @param typeReference Type reference used to map the response body
+     * @param <T>           The type of the actual data contained in the response
+     *
+     * @return Reader mapping the response body into an API response
+     */
+    private static <T> ResponseReader<APIResponse<T>> responseReader(TypeReference<APIResponse<T>> typeReference) {
+        return parser -> APIJsonMapper.readValue(parser, typeReference);
+    }
+
+    /**
+     * Waits for all the given responses to be received
+     *
+     * @param responses Futures which will be completed with the responses of some requests
+     *
+     * @throws APIException If any of the requests failed
+     */
+    private static void awaitAll(List<CompletableFuture<?>> responses) throws APIException {
+        try {
+            CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof APIException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
     }
 
     /**
@@ -204,7 +340,28 @@ public class TheTVDBApiImpl implements TheTVDBApi {
 
     @Override
     public void login() throws APIException {
-        LoginAPI.login(con);
+        con.login();
+    }
+
+    @Override
+    public void warmUp() throws APIException {
+        warmUp(false);
+    }
+
+    @Override
+    public void warmUp(boolean primeReferenceData) throws APIException {
+        APIJsonMapper.prepareReaders(Arrays.stream(Extended.class.getMethods()).map(Method::getGenericReturnType)
+                .filter(type -> type instanceof ParameterizedType parameterized
+                        && parameterized.getRawType() == APIResponse.class).toList());
+        con.warmUp();
+
+        if (primeReferenceData) {
+            Async async = async();
+            awaitAll(List.of(async.getAllArtworkStatuses(), async.getAllArtworkTypes(), async.getCompanyTypes(),
+                    async.getAllContentRatings(), async.getEntityTypes(), async.getAllGenders(), async.getAllGenres(),
+                    async.getAllInspirationTypes(), async.getAllMovieStatuses(), async.getAllPeopleTypes(),
+                    async.getSeasonTypes(), async.getAllSeriesStatuses(), async.getAllSourceTypes()));
+        }
     }
 
     @Override
@@ -648,6 +805,59 @@ public class TheTVDBApiImpl implements TheTVDBApi {
         return extendedApi;
     }
 
+    @Override
+    public Async async() {
+        return asyncApi;
+    }
+
+    @Override
+    public TheTVDBApi withCallTimeout(@Nonnull Duration callTimeout) {
+        Parameters.validateCondition(timeout -> timeout != null && !timeout.isNegative() && !timeout.isZero(),
+                callTimeout, new IllegalArgumentException("Call timeout must be positive"));
+        return new TheTVDBApiImpl(con, callTimeout);
+    }
+
+    @Override
+    public void close() {
+        con.close();
+    }
+
+    /**
+     * Returns the sender used to invoke requests whose responses should be returned as raw JSON. Requests sent by this
+     * sender will be limited to the call timeout of this API instance.
+     *
+     * @return Sender for requests returning the raw JSON response
+     */
+    private RequestSender<JsonNode> sender() {
+        return callTimeout == null ? con : con.timed(callTimeout);
+    }
+
+    /**
+     * Returns a sender for invoking requests whose responses will be read by the given reader. Requests sent by this
+     * sender will be limited to the call timeout of this API instance.
+     *
+     * @param reader Reader used to map the body of successful responses
+     * @param <T>    Type of the value read from the response body
+     *
+     * @return Sender for requests returning the mapped response
+     */
+    private <T> RequestSender<T> reading(@Nonnull ResponseReader<T> reader) {
+        return callTimeout == null ? con.reading(reader) : con.reading(reader, callTimeout);
+    }
+
+    /**
+     * Returns a sender for invoking requests asynchronously whose responses will be read by the given reader. Requests
+     * sent by this sender will be limited to the call timeout of this API instance.
+     *
+     * @param reader Reader used to map the body of successful responses
+     * @param <T>    Type of the value read from the response body
+     *
+     * @return Sender for asynchronous requests returning the mapped response
+     */
+    private <T> RequestSender<CompletableFuture<T>> readingAsync(@Nonnull ResponseReader<T> reader) {
+        return callTimeout == null ? con.async(reader) : con.async(reader, callTimeout);
+    }
+
     /**
      * Implementation of the {@link TheTVDBApi.JSON} API layout. It provides methods for all sorts of API calls
      * throughout the different API routes. Responses will be returned as raw, untouched JSON as it has been received by
@@ -657,599 +867,975 @@ public class TheTVDBApiImpl implements TheTVDBApi {
 
         @Override
         public JsonNode getAllArtworkStatuses() throws APIException {
-            return ArtworkAPI.getAllArtworkStatuses(con);
+            return ArtworkAPI.getAllArtworkStatuses(sender());
         }
 
         @Override
         public JsonNode getAllArtworkTypes() throws APIException {
-            return ArtworkAPI.getAllArtworkTypes(con);
+            return ArtworkAPI.getAllArtworkTypes(sender());
         }
 
         @Override
         public JsonNode getArtwork(long artworkId) throws APIException {
-            return ArtworkAPI.getArtworkBase(con, artworkId);
+            return ArtworkAPI.getArtworkBase(sender(), artworkId);
         }
 
         @Override
         public JsonNode getArtworkDetails(long artworkId) throws APIException {
-            return ArtworkAPI.getArtworkExtended(con, artworkId);
+            return ArtworkAPI.getArtworkExtended(sender(), artworkId);
         }
 
         @Override
         public JsonNode getAwardCategory(long awardCategoryId) throws APIException {
-            return AwardsAPI.getAwardCategoryBase(con, awardCategoryId);
+            return AwardsAPI.getAwardCategoryBase(sender(), awardCategoryId);
         }
 
         @Override
         public JsonNode getAwardCategoryDetails(long awardCategoryId) throws APIException {
-            return AwardsAPI.getAwardCategoryExtended(con, awardCategoryId);
+            return AwardsAPI.getAwardCategoryExtended(sender(), awardCategoryId);
         }
 
         @Override
         public JsonNode getAllAwards() throws APIException {
-            return AwardsAPI.getAllAwards(con);
+            return AwardsAPI.getAllAwards(sender());
         }
 
         @Override
         public JsonNode getAward(long awardId) throws APIException {
-            return AwardsAPI.getAwardBase(con, awardId);
+            return AwardsAPI.getAwardBase(sender(), awardId);
         }
 
         @Override
         public JsonNode getAwardDetails(long awardId) throws APIException {
-            return AwardsAPI.getAwardExtended(con, awardId);
+            return AwardsAPI.getAwardExtended(sender(), awardId);
         }
 
         @Override
         public JsonNode getCharacter(long characterId) throws APIException {
-            return CharactersAPI.getCharacterBase(con, characterId);
+            return CharactersAPI.getCharacterBase(sender(), characterId);
         }
 
         @Override
         public JsonNode getAllCompanies(QueryParameters queryParameters) throws APIException {
-            return CompaniesAPI.getAllCompanies(con, queryParameters);
+            return CompaniesAPI.getAllCompanies(sender(), queryParameters);
         }
 
         @Override
         public JsonNode getCompanyTypes() throws APIException {
-            return CompaniesAPI.getCompanyTypes(con);
+            return CompaniesAPI.getCompanyTypes(sender());
         }
 
         @Override
         public JsonNode getCompany(long companyId) throws APIException {
-            return CompaniesAPI.getCompany(con, companyId);
+            return CompaniesAPI.getCompany(sender(), companyId);
         }
 
         @Override
         public JsonNode getAllContentRatings() throws APIException {
-            return ContentRatingsAPI.getAllContentRatings(con);
+            return ContentRatingsAPI.getAllContentRatings(sender());
         }
 
         @Override
         public JsonNode getEntityTypes() throws APIException {
-            return EntityTypesAPI.getEntityTypes(con);
+            return EntityTypesAPI.getEntityTypes(sender());
         }
 
         @Override
         public JsonNode getEpisode(long episodeId) throws APIException {
-            return EpisodesAPI.getEpisodeBase(con, episodeId);
+            return EpisodesAPI.getEpisodeBase(sender(), episodeId);
         }
 
         @Override
         public JsonNode getEpisodeDetails(long episodeId, QueryParameters queryParameters) throws APIException {
-            return EpisodesAPI.getEpisodeExtended(con, episodeId, queryParameters);
+            return EpisodesAPI.getEpisodeExtended(sender(), episodeId, queryParameters);
         }
 
         @Override
         public JsonNode getEpisodeTranslation(long episodeId, @Nonnull String language) throws APIException {
-            return EpisodesAPI.getEpisodeTranslation(con, episodeId, language);
+            return EpisodesAPI.getEpisodeTranslation(sender(), episodeId, language);
         }
 
         @Override
         public JsonNode getListTranslation(long listId, @Nonnull String language) throws APIException {
-            return ListsAPI.getListTranslation(con, listId, language);
+            return ListsAPI.getListTranslation(sender(), listId, language);
         }
 
         @Override
         public JsonNode getAllLists(QueryParameters queryParameters) throws APIException {
-            return ListsAPI.getAllLists(con, queryParameters);
+            return ListsAPI.getAllLists(sender(), queryParameters);
         }
 
         @Override
         public JsonNode getList(long listId) throws APIException {
-            return ListsAPI.getListBase(con, listId);
+            return ListsAPI.getListBase(sender(), listId);
         }
 
         @Override
         public JsonNode getListDetails(long listId) throws APIException {
-            return ListsAPI.getListExtended(con, listId);
+            return ListsAPI.getListExtended(sender(), listId);
         }
 
         @Override
         public JsonNode getAllGenders() throws APIException {
-            return GendersAPI.getAllGenders(con);
+            return GendersAPI.getAllGenders(sender());
         }
 
         @Override
         public JsonNode getAllGenres() throws APIException {
-            return GenresAPI.getAllGenres(con);
+            return GenresAPI.getAllGenres(sender());
         }
 
         @Override
         public JsonNode getGenre(long genreId) throws APIException {
-            return GenresAPI.getGenreBase(con, genreId);
+            return GenresAPI.getGenreBase(sender(), genreId);
         }
 
         @Override
         public JsonNode getAllInspirationTypes() throws APIException {
-            return InspirationTypesAPI.getAllInspirationTypes(con);
+            return InspirationTypesAPI.getAllInspirationTypes(sender());
         }
 
         @Override
         public JsonNode getAllMovieStatuses() throws APIException {
-            return MoviesAPI.getAllMovieStatuses(con);
+            return MoviesAPI.getAllMovieStatuses(sender());
         }
 
         @Override
         public JsonNode getAllMovies(QueryParameters queryParameters) throws APIException {
-            return MoviesAPI.getAllMovies(con, queryParameters);
+            return MoviesAPI.getAllMovies(sender(), queryParameters);
         }
 
         @Override
         public JsonNode getMovie(long movieId) throws APIException {
-            return MoviesAPI.getMovieBase(con, movieId);
+            return MoviesAPI.getMovieBase(sender(), movieId);
         }
 
         @Override
         public JsonNode getMovieDetails(long movieId, QueryParameters queryParameters) throws APIException {
-            return MoviesAPI.getMovieExtended(con, movieId, queryParameters);
+            return MoviesAPI.getMovieExtended(sender(), movieId, queryParameters);
         }
 
         @Override
         public JsonNode getMoviesFiltered(QueryParameters queryParameters) throws APIException {
-            return MoviesAPI.getMoviesFilter(con, queryParameters);
+            return MoviesAPI.getMoviesFilter(sender(), queryParameters);
         }
 
         @Override
         public JsonNode getMovieTranslation(long movieId, @Nonnull String language) throws APIException {
-            return MoviesAPI.getMovieTranslation(con, movieId, language);
+            return MoviesAPI.getMovieTranslation(sender(), movieId, language);
         }
 
         @Override
         public JsonNode getAllPeopleTypes() throws APIException {
-            return PeopleAPI.getAllPeopleTypes(con);
+            return PeopleAPI.getAllPeopleTypes(sender());
         }
 
         @Override
         public JsonNode getPeople(long peopleId) throws APIException {
-            return PeopleAPI.getPeopleBase(con, peopleId);
+            return PeopleAPI.getPeopleBase(sender(), peopleId);
         }
 
         @Override
         public JsonNode getPeopleDetails(long peopleId, QueryParameters queryParameters) throws APIException {
-            return PeopleAPI.getPeopleExtended(con, peopleId, queryParameters);
+            return PeopleAPI.getPeopleExtended(sender(), peopleId, queryParameters);
         }
 
         @Override
         public JsonNode getPeopleTranslation(long peopleId, @Nonnull String language) throws APIException {
-            return PeopleAPI.getPeopleTranslation(con, peopleId, language);
+            return PeopleAPI.getPeopleTranslation(sender(), peopleId, language);
         }
 
         @Override
         public JsonNode getSearchResults(QueryParameters queryParameters) throws APIException {
-            return SearchAPI.getSearchResults(con, queryParameters);
+            return SearchAPI.getSearchResults(sender(), queryParameters);
         }
 
         @Override
         public JsonNode getAllSeasons(QueryParameters queryParameters) throws APIException {
-            return SeasonsAPI.getAllSeasons(con, queryParameters);
+            return SeasonsAPI.getAllSeasons(sender(), queryParameters);
         }
 
         @Override
         public JsonNode getSeason(long seasonId) throws APIException {
-            return SeasonsAPI.getSeasonBase(con, seasonId);
+            return SeasonsAPI.getSeasonBase(sender(), seasonId);
         }
 
         @Override
         public JsonNode getSeasonDetails(long seasonId, QueryParameters queryParameters) throws APIException {
-            return SeasonsAPI.getSeasonExtended(con, seasonId, queryParameters);
+            return SeasonsAPI.getSeasonExtended(sender(), seasonId, queryParameters);
         }
 
         @Override
         public JsonNode getSeasonTypes() throws APIException {
-            return SeasonsAPI.getSeasonTypes(con);
+            return SeasonsAPI.getSeasonTypes(sender());
         }
 
         @Override
         public JsonNode getSeasonTranslation(long seasonId, @Nonnull String language) throws APIException {
-            return SeasonsAPI.getSeasonTranslation(con, seasonId, language);
+            return SeasonsAPI.getSeasonTranslation(sender(), seasonId, language);
         }
 
         @Override
         public JsonNode getAllSeriesStatuses() throws APIException {
-            return SeriesAPI.getAllSeriesStatuses(con);
+            return SeriesAPI.getAllSeriesStatuses(sender());
         }
 
         @Override
         public JsonNode getAllSeries(QueryParameters queryParameters) throws APIException {
-            return SeriesAPI.getAllSeries(con, queryParameters);
+            return SeriesAPI.getAllSeries(sender(), queryParameters);
         }
 
         @Override
         public JsonNode getSeries(long seriesId) throws APIException {
-            return SeriesAPI.getSeriesBase(con, seriesId);
+            return SeriesAPI.getSeriesBase(sender(), seriesId);
         }
 
         @Override
         public JsonNode getSeriesArtworks(long seriesId, QueryParameters queryParameters) throws APIException {
-            return SeriesAPI.getSeriesArtworks(con, seriesId, queryParameters);
+            return SeriesAPI.getSeriesArtworks(sender(), seriesId, queryParameters);
         }
 
         @Override
         public JsonNode getSeriesDetails(long seriesId, QueryParameters queryParameters) throws APIException {
-            return SeriesAPI.getSeriesExtended(con, seriesId, queryParameters);
+            return SeriesAPI.getSeriesExtended(sender(), seriesId, queryParameters);
         }
 
         @Override
         public JsonNode getSeriesEpisodes(long seriesId, @Nonnull SeriesSeasonType seasonType,
                 QueryParameters queryParameters) throws APIException {
-            return SeriesAPI.getSeriesEpisodes(con, seriesId, seasonType, queryParameters);
+            return SeriesAPI.getSeriesEpisodes(sender(), seriesId, seasonType, queryParameters);
         }
 
         @Override
         public JsonNode getSeriesEpisodesTranslated(long seriesId, @Nonnull SeriesSeasonType seasonType,
                 @Nonnull String language, QueryParameters queryParameters) throws APIException {
-            return SeriesAPI.getSeriesEpisodesTranslated(con, seriesId, seasonType, language, queryParameters);
+            return SeriesAPI.getSeriesEpisodesTranslated(sender(), seriesId, seasonType, language, queryParameters);
         }
 
         @Override
         public JsonNode getSeriesFiltered(QueryParameters queryParameters) throws APIException {
-            return SeriesAPI.getSeriesFilter(con, queryParameters);
+            return SeriesAPI.getSeriesFilter(sender(), queryParameters);
         }
 
         @Override
         public JsonNode getSeriesTranslation(long seriesId, @Nonnull String language) throws APIException {
-            return SeriesAPI.getSeriesTranslation(con, seriesId, language);
+            return SeriesAPI.getSeriesTranslation(sender(), seriesId, language);
         }
 
         @Override
         public JsonNode getAllSourceTypes() throws APIException {
-            return SourceTypesAPI.getAllSourceTypes(con);
+            return SourceTypesAPI.getAllSourceTypes(sender());
         }
 
         @Override
         public JsonNode getUpdates(QueryParameters queryParameters) throws APIException {
-            return UpdatesAPI.getUpdates(con, queryParameters);
+            return UpdatesAPI.getUpdates(sender(), queryParameters);
         }
 
         @Override
         public JsonNode getUserInfo() throws APIException {
-            return UserAPI.getUserInfo(con);
+            return UserAPI.getUserInfo(sender());
         }
 
         @Override
         public JsonNode getUserInfo(long userId) throws APIException {
-            return UserAPI.getUserInfo(con, userId);
+            return UserAPI.getUserInfo(sender(), userId);
         }
 
         @Override
         public JsonNode getUserFavorites() throws APIException {
-            return UserAPI.getUserFavorites(con);
+            return UserAPI.getUserFavorites(sender());
         }
 
         @Override
         public JsonNode createUserFavorites(@Nonnull FavoriteRecord favoriteRecord) throws APIException {
-            return UserAPI.createUserFavorites(con, favoriteRecord);
+            return UserAPI.createUserFavorites(sender(), favoriteRecord);
         }
     }
 
     /**
      * Implementation of the {@link TheTVDBApi.Extended} API layout. It provides methods for all sorts of API calls
      * throughout the different API routes. Responses will be returned as wrapped
-     * {@link APIResponse APIResponse&lt;DTO&gt;} objects containing additional error and paging information.
+     * {@link APIResponse APIResponse&lt;DTO&gt;} objects containing additional error and paging information. The
+     * responses will be streamed straight into these objects, without parsing them into some raw JSON first.
      */
     private class ExtendedApi implements Extended {
 
+        /**
+         * Invokes the given request via a sender of the underlying connection which maps the response body directly
+         * into an {@link APIResponse} object
+         *
+         * @param request       Request to be invoked via the given sender
+         * @param typeReference Type reference used to map the response body
+         * @param <T>           The type of the actual data contained in the response
+         *
+         * @return The mapped API response
+         *
+         * @throws APIException If an exception with the remote API occurs or the response could not be mapped
+         */
+        private <T> APIResponse<T> extended(ThrowableFunctionalInterfaces.Function<RequestSender<APIResponse<T>>,
+                APIResponse<T>, APIException> request, TypeReference<APIResponse<T>> typeReference)
+                throws APIException {
+            return request.apply(reading(responseReader(typeReference)));
+        }
+
         @Override
         public APIResponse<Collection<ArtworkStatus>> getAllArtworkStatuses() throws APIException {
-            return APIJsonMapper.readValue(json().getAllArtworkStatuses(), new TypeReference<>() {});
+            return extended(sender -> ArtworkAPI.getAllArtworkStatuses(sender), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<ArtworkType>> getAllArtworkTypes() throws APIException {
-            return APIJsonMapper.readValue(json().getAllArtworkTypes(), new TypeReference<>() {});
+            return extended(sender -> ArtworkAPI.getAllArtworkTypes(sender), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Artwork> getArtwork(long artworkId) throws APIException {
-            return APIJsonMapper.readValue(json().getArtwork(artworkId), new TypeReference<>() {});
+            return extended(sender -> ArtworkAPI.getArtworkBase(sender, artworkId), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<ArtworkDetails> getArtworkDetails(long artworkId) throws APIException {
-            return APIJsonMapper.readValue(json().getArtworkDetails(artworkId), new TypeReference<>() {});
+            return extended(sender -> ArtworkAPI.getArtworkExtended(sender, artworkId), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<AwardCategory> getAwardCategory(long awardCategoryId) throws APIException {
-            return APIJsonMapper.readValue(json().getAwardCategory(awardCategoryId), new TypeReference<>() {});
+            return extended(sender -> AwardsAPI.getAwardCategoryBase(sender, awardCategoryId),
+                    new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<AwardCategoryDetails> getAwardCategoryDetails(long awardCategoryId) throws APIException {
-            return APIJsonMapper.readValue(json().getAwardCategoryDetails(awardCategoryId), new TypeReference<>() {});
+            return extended(sender -> AwardsAPI.getAwardCategoryExtended(sender, awardCategoryId),
+                    new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<Award>> getAllAwards() throws APIException {
-            return APIJsonMapper.readValue(json().getAllAwards(), new TypeReference<>() {});
+            return extended(sender -> AwardsAPI.getAllAwards(sender), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Award> getAward(long awardId) throws APIException {
-            return APIJsonMapper.readValue(json().getAward(awardId), new TypeReference<>() {});
+            return extended(sender -> AwardsAPI.getAwardBase(sender, awardId), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<AwardDetails> getAwardDetails(long awardId) throws APIException {
-            return APIJsonMapper.readValue(json().getAwardDetails(awardId), new TypeReference<>() {});
+            return extended(sender -> AwardsAPI.getAwardExtended(sender, awardId), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Character> getCharacter(long characterId) throws APIException {
-            return APIJsonMapper.readValue(json().getCharacter(characterId), new TypeReference<>() {});
+            return extended(sender -> CharactersAPI.getCharacterBase(sender, characterId), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<Company>> getAllCompanies(QueryParameters queryParameters) throws APIException {
-            return APIJsonMapper.readValue(json().getAllCompanies(queryParameters), new TypeReference<>() {});
+            return extended(sender -> CompaniesAPI.getAllCompanies(sender, queryParameters), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<CompanyType>> getCompanyTypes() throws APIException {
-            return APIJsonMapper.readValue(json().getCompanyTypes(), new TypeReference<>() {});
+            return extended(sender -> CompaniesAPI.getCompanyTypes(sender), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Company> getCompany(long companyId) throws APIException {
-            return APIJsonMapper.readValue(json().getCompany(companyId), new TypeReference<>() {});
+            return extended(sender -> CompaniesAPI.getCompany(sender, companyId), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<ContentRating>> getAllContentRatings() throws APIException {
-            return APIJsonMapper.readValue(json().getAllContentRatings(), new TypeReference<>() {});
+            return extended(sender -> ContentRatingsAPI.getAllContentRatings(sender), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<EntityType>> getEntityTypes() throws APIException {
-            return APIJsonMapper.readValue(json().getEntityTypes(), new TypeReference<>() {});
+            return extended(sender -> EntityTypesAPI.getEntityTypes(sender), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Episode> getEpisode(long episodeId) throws APIException {
-            return APIJsonMapper.readValue(json().getEpisode(episodeId), new TypeReference<>() {});
+            return extended(sender -> EpisodesAPI.getEpisodeBase(sender, episodeId), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<EpisodeDetails> getEpisodeDetails(long episodeId, QueryParameters queryParameters)
                 throws APIException {
-            return APIJsonMapper.readValue(json().getEpisodeDetails(episodeId, queryParameters), new TypeReference<>() {});
+            return extended(sender -> EpisodesAPI.getEpisodeExtended(sender, episodeId, queryParameters),
+                    new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<EntityTranslation> getEpisodeTranslation(long episodeId, @Nonnull String language)
                 throws APIException {
-            return APIJsonMapper.readValue(json().getEpisodeTranslation(episodeId, language), new TypeReference<>() {});
+            return extended(sender -> EpisodesAPI.getEpisodeTranslation(sender, episodeId, language),
+                    new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Translations<EntityTranslation>> getListTranslation(long listId, @Nonnull String language)
                 throws APIException {
-            return APIJsonMapper.readValue(json().getListTranslation(listId, language), new TypeReference<>() {});
+            return extended(sender -> ListsAPI.getListTranslation(sender, listId, language), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<FCList>> getAllLists(QueryParameters queryParameters) throws APIException {
-            return APIJsonMapper.readValue(json().getAllLists(queryParameters), new TypeReference<>() {});
+            return extended(sender -> ListsAPI.getAllLists(sender, queryParameters), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<FCList> getList(long listId) throws APIException {
-            return APIJsonMapper.readValue(json().getList(listId), new TypeReference<>() {});
+            return extended(sender -> ListsAPI.getListBase(sender, listId), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<FCListDetails> getListDetails(long listId) throws APIException {
-            return APIJsonMapper.readValue(json().getListDetails(listId), new TypeReference<>() {});
+            return extended(sender -> ListsAPI.getListExtended(sender, listId), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<Gender>> getAllGenders() throws APIException {
-            return APIJsonMapper.readValue(json().getAllGenders(), new TypeReference<>() {});
+            return extended(sender -> GendersAPI.getAllGenders(sender), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<Genre>> getAllGenres() throws APIException {
-            return APIJsonMapper.readValue(json().getAllGenres(), new TypeReference<>() {});
+            return extended(sender -> GenresAPI.getAllGenres(sender), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Genre> getGenre(long genreId) throws APIException {
-            return APIJsonMapper.readValue(json().getGenre(genreId), new TypeReference<>() {});
+            return extended(sender -> GenresAPI.getGenreBase(sender, genreId), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<InspirationType>> getAllInspirationTypes() throws APIException {
-            return APIJsonMapper.readValue(json().getAllInspirationTypes(), new TypeReference<>() {});
+            return extended(sender -> InspirationTypesAPI.getAllInspirationTypes(sender), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<Status>> getAllMovieStatuses() throws APIException {
-            return APIJsonMapper.readValue(json().getAllMovieStatuses(), new TypeReference<>() {});
+            return extended(sender -> MoviesAPI.getAllMovieStatuses(sender), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<Movie>> getAllMovies(QueryParameters queryParameters) throws APIException {
-            return APIJsonMapper.readValue(json().getAllMovies(queryParameters), new TypeReference<>() {});
+            return extended(sender -> MoviesAPI.getAllMovies(sender, queryParameters), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Movie> getMovie(long movieId) throws APIException {
-            return APIJsonMapper.readValue(json().getMovie(movieId), new TypeReference<>() {});
+            return extended(sender -> MoviesAPI.getMovieBase(sender, movieId), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<MovieDetails> getMovieDetails(long movieId, QueryParameters queryParameters)
                 throws APIException {
-            return APIJsonMapper.readValue(json().getMovieDetails(movieId, queryParameters), new TypeReference<>() {});
+            return extended(sender -> MoviesAPI.getMovieExtended(sender, movieId, queryParameters),
+                    new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<Movie>> getMoviesFiltered(QueryParameters queryParameters) throws APIException {
-            return APIJsonMapper.readValue(json().getMoviesFiltered(queryParameters), new TypeReference<>() {});
+            return extended(sender -> MoviesAPI.getMoviesFilter(sender, queryParameters), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<EntityTranslation> getMovieTranslation(long movieId, @Nonnull String language)
                 throws APIException {
-            return APIJsonMapper.readValue(json().getMovieTranslation(movieId, language), new TypeReference<>() {});
+            return extended(sender -> MoviesAPI.getMovieTranslation(sender, movieId, language),
+                    new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<PeopleType>> getAllPeopleTypes() throws APIException {
-            return APIJsonMapper.readValue(json().getAllPeopleTypes(), new TypeReference<>() {});
+            return extended(sender -> PeopleAPI.getAllPeopleTypes(sender), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<People> getPeople(long peopleId) throws APIException {
-            return APIJsonMapper.readValue(json().getPeople(peopleId), new TypeReference<>() {});
+            return extended(sender -> PeopleAPI.getPeopleBase(sender, peopleId), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<PeopleDetails> getPeopleDetails(long peopleId, QueryParameters queryParameters)
                 throws APIException {
-            return APIJsonMapper.readValue(json().getPeopleDetails(peopleId, queryParameters), new TypeReference<>() {});
+            return extended(sender -> PeopleAPI.getPeopleExtended(sender, peopleId, queryParameters),
+                    new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<EntityTranslation> getPeopleTranslation(long peopleId, @Nonnull String language)
                 throws APIException {
-            return APIJsonMapper.readValue(json().getPeopleTranslation(peopleId, language), new TypeReference<>() {});
+            return extended(sender -> PeopleAPI.getPeopleTranslation(sender, peopleId, language),
+                    new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<SearchResult>> getSearchResults(QueryParameters queryParameters)
                 throws APIException {
-            return APIJsonMapper.readValue(json().getSearchResults(queryParameters), new TypeReference<>() {});
+            return extended(sender -> SearchAPI.getSearchResults(sender, queryParameters), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<Season>> getAllSeasons(QueryParameters queryParameters) throws APIException {
-            return APIJsonMapper.readValue(json().getAllSeasons(queryParameters), new TypeReference<>() {});
+            return extended(sender -> SeasonsAPI.getAllSeasons(sender, queryParameters), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Season> getSeason(long seasonId) throws APIException {
-            return APIJsonMapper.readValue(json().getSeason(seasonId), new TypeReference<>() {});
+            return extended(sender -> SeasonsAPI.getSeasonBase(sender, seasonId), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<SeasonDetails> getSeasonDetails(long seasonId, QueryParameters queryParameters)
                 throws APIException {
-            return APIJsonMapper.readValue(json().getSeasonDetails(seasonId, queryParameters), new TypeReference<>() {});
+            return extended(sender -> SeasonsAPI.getSeasonExtended(sender, seasonId, queryParameters),
+                    new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<SeasonType>> getSeasonTypes() throws APIException {
-            return APIJsonMapper.readValue(json().getSeasonTypes(), new TypeReference<>() {});
+            return extended(sender -> SeasonsAPI.getSeasonTypes(sender), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<EntityTranslation> getSeasonTranslation(long seasonId, @Nonnull String language)
                 throws APIException {
-            return APIJsonMapper.readValue(json().getSeasonTranslation(seasonId, language), new TypeReference<>() {});
+            return extended(sender -> SeasonsAPI.getSeasonTranslation(sender, seasonId, language),
+                    new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<Status>> getAllSeriesStatuses() throws APIException {
-            return APIJsonMapper.readValue(json().getAllSeriesStatuses(), new TypeReference<>() {});
+            return extended(sender -> SeriesAPI.getAllSeriesStatuses(sender), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<Series>> getAllSeries(QueryParameters queryParameters) throws APIException {
-            return APIJsonMapper.readValue(json().getAllSeries(queryParameters), new TypeReference<>() {});
+            return extended(sender -> SeriesAPI.getAllSeries(sender, queryParameters), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Series> getSeries(long seriesId) throws APIException {
-            return APIJsonMapper.readValue(json().getSeries(seriesId), new TypeReference<>() {});
+            return extended(sender -> SeriesAPI.getSeriesBase(sender, seriesId), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<SeriesDetails> getSeriesArtworks(long seriesId, QueryParameters queryParameters)
                 throws APIException {
-            return APIJsonMapper.readValue(json().getSeriesArtworks(seriesId, queryParameters), new TypeReference<>() {});
+            return extended(sender -> SeriesAPI.getSeriesArtworks(sender, seriesId, queryParameters),
+                    new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<SeriesDetails> getSeriesDetails(long seriesId, QueryParameters queryParameters)
                 throws APIException {
-            return APIJsonMapper.readValue(json().getSeriesDetails(seriesId, queryParameters), new TypeReference<>() {});
+            return extended(sender -> SeriesAPI.getSeriesExtended(sender, seriesId, queryParameters),
+                    new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<SeriesEpisodes> getSeriesEpisodes(long seriesId, @Nonnull SeriesSeasonType seasonType,
                 QueryParameters queryParameters) throws APIException {
-            return APIJsonMapper.readValue(json()
-                    .getSeriesEpisodes(seriesId, seasonType, queryParameters), new TypeReference<>() {});
+            return extended(sender -> SeriesAPI.getSeriesEpisodes(sender, seriesId, seasonType, queryParameters),
+                    new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Series> getSeriesEpisodesTranslated(long seriesId, @Nonnull SeriesSeasonType seasonType,
                 @Nonnull String language, QueryParameters queryParameters) throws APIException {
-            return APIJsonMapper.readValue(json()
-                    .getSeriesEpisodesTranslated(seriesId, seasonType, language, queryParameters), new TypeReference<>() {});
+            return extended(sender -> SeriesAPI
+                    .getSeriesEpisodesTranslated(sender, seriesId, seasonType, language, queryParameters),
+                    new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<Series>> getSeriesFiltered(QueryParameters queryParameters) throws APIException {
-            return APIJsonMapper.readValue(json().getSeriesFiltered(queryParameters), new TypeReference<>() {});
+            return extended(sender -> SeriesAPI.getSeriesFilter(sender, queryParameters), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<EntityTranslation> getSeriesTranslation(long seriesId, @Nonnull String language)
                 throws APIException {
-            return APIJsonMapper.readValue(json().getSeriesTranslation(seriesId, language), new TypeReference<>() {});
+            return extended(sender -> SeriesAPI.getSeriesTranslation(sender, seriesId, language),
+                    new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<SourceType>> getAllSourceTypes() throws APIException {
-            return APIJsonMapper.readValue(json().getAllSourceTypes(), new TypeReference<>() {});
+            return extended(sender -> SourceTypesAPI.getAllSourceTypes(sender), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Collection<EntityUpdate>> getUpdates(QueryParameters queryParameters) throws APIException {
-            return APIJsonMapper.readValue(json().getUpdates(queryParameters), new TypeReference<>() {});
+            return extended(sender -> UpdatesAPI.getUpdates(sender, queryParameters), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<UserInfo> getUserInfo() throws APIException {
-            return APIJsonMapper.readValue(json().getUserInfo(), new TypeReference<>() {});
+            return extended(sender -> UserAPI.getUserInfo(sender), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<UserInfo> getUserInfo(long userId) throws APIException {
-            return APIJsonMapper.readValue(json().getUserInfo(userId), new TypeReference<>() {});
+            return extended(sender -> UserAPI.getUserInfo(sender, userId), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Favorites> getUserFavorites() throws APIException {
-            return APIJsonMapper.readValue(json().getUserFavorites(), new TypeReference<>() {});
+            return extended(sender -> UserAPI.getUserFavorites(sender), new TypeReference<>() {});
         }
 
         @Override
         public APIResponse<Void> createUserFavorites(@Nonnull FavoriteRecord favoriteRecord) throws APIException {
-            return APIJsonMapper.readValue(json().createUserFavorites(favoriteRecord), new TypeReference<>() {});
+            return extended(sender -> UserAPI.createUserFavorites(sender, favoriteRecord), new TypeReference<>() {});
+        }
+    }
+
+    /**
+     * Implementation of the {@link TheTVDBApi.Async} API layout. It provides methods for all sorts of API calls
+     * throughout the different API routes. Requests will be sent asynchronously and responses will be returned as
+     * futures which will eventually be completed with wrapped {@link APIResponse APIResponse&lt;DTO&gt;} objects.
+     */
+    private class AsyncApi implements Async {
+
+        /**
+         * Invokes the given request via an asynchronous sender of the underlying connection which maps the response
+         * body directly into an {@link APIResponse} object once it has been received
+         *
+         * @param request       Request to be invoked via the given asynchronous sender
+         * @param typeReference Type reference used to map the response body
+         * @param <T>           The type of the actual data contained in the response
+         *
+         * @return Future which will be completed with the mapped API response or exceptionally with an
+         *         {@link APIException} in case of an error
+         */
+        private <T> CompletableFuture<APIResponse<T>> async(ThrowableFunctionalInterfaces.Function<RequestSender<
+                CompletableFuture<APIResponse<T>>>, CompletableFuture<APIResponse<T>>, APIException> request,
+                TypeReference<APIResponse<T>> typeReference) {
+            try {
+                return request.apply(readingAsync(responseReader(typeReference)));
+            } catch (APIException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<ArtworkStatus>>> getAllArtworkStatuses() {
+            return async(sender -> ArtworkAPI.getAllArtworkStatuses(sender), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<ArtworkType>>> getAllArtworkTypes() {
+            return async(sender -> ArtworkAPI.getAllArtworkTypes(sender), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Artwork>> getArtwork(long artworkId) {
+            return async(sender -> ArtworkAPI.getArtworkBase(sender, artworkId), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<ArtworkDetails>> getArtworkDetails(long artworkId) {
+            return async(sender -> ArtworkAPI.getArtworkExtended(sender, artworkId), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<AwardCategory>> getAwardCategory(long awardCategoryId) {
+            return async(sender -> AwardsAPI.getAwardCategoryBase(sender, awardCategoryId), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<AwardCategoryDetails>> getAwardCategoryDetails(long awardCategoryId) {
+            return async(sender -> AwardsAPI.getAwardCategoryExtended(sender, awardCategoryId),
+                    new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<Award>>> getAllAwards() {
+            return async(sender -> AwardsAPI.getAllAwards(sender), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Award>> getAward(long awardId) {
+            return async(sender -> AwardsAPI.getAwardBase(sender, awardId), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<AwardDetails>> getAwardDetails(long awardId) {
+            return async(sender -> AwardsAPI.getAwardExtended(sender, awardId), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Character>> getCharacter(long characterId) {
+            return async(sender -> CharactersAPI.getCharacterBase(sender, characterId), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<Company>>> getAllCompanies(QueryParameters queryParameters) {
+            return async(sender -> CompaniesAPI.getAllCompanies(sender, queryParameters), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<CompanyType>>> getCompanyTypes() {
+            return async(sender -> CompaniesAPI.getCompanyTypes(sender), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Company>> getCompany(long companyId) {
+            return async(sender -> CompaniesAPI.getCompany(sender, companyId), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<ContentRating>>> getAllContentRatings() {
+            return async(sender -> ContentRatingsAPI.getAllContentRatings(sender), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<EntityType>>> getEntityTypes() {
+            return async(sender -> EntityTypesAPI.getEntityTypes(sender), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Episode>> getEpisode(long episodeId) {
+            return async(sender -> EpisodesAPI.getEpisodeBase(sender, episodeId), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<EpisodeDetails>> getEpisodeDetails(long episodeId,
+                QueryParameters queryParameters) {
+            return async(sender -> EpisodesAPI.getEpisodeExtended(sender, episodeId, queryParameters),
+                    new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<EntityTranslation>> getEpisodeTranslation(long episodeId,
+                @Nonnull String language) {
+            return async(sender -> EpisodesAPI.getEpisodeTranslation(sender, episodeId, language),
+                    new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Translations<EntityTranslation>>> getListTranslation(long listId,
+                @Nonnull String language) {
+            return async(sender -> ListsAPI.getListTranslation(sender, listId, language), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<FCList>>> getAllLists(QueryParameters queryParameters) {
+            return async(sender -> ListsAPI.getAllLists(sender, queryParameters), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<FCList>> getList(long listId) {
+            return async(sender -> ListsAPI.getListBase(sender, listId), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<FCListDetails>> getListDetails(long listId) {
+            return async(sender -> ListsAPI.getListExtended(sender, listId), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<Gender>>> getAllGenders() {
+            return async(sender -> GendersAPI.getAllGenders(sender), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<Genre>>> getAllGenres() {
+            return async(sender -> GenresAPI.getAllGenres(sender), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Genre>> getGenre(long genreId) {
+            return async(sender -> GenresAPI.getGenreBase(sender, genreId), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<InspirationType>>> getAllInspirationTypes() {
+            return async(sender -> InspirationTypesAPI.getAllInspirationTypes(sender), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<Status>>> getAllMovieStatuses() {
+            return async(sender -> MoviesAPI.getAllMovieStatuses(sender), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<Movie>>> getAllMovies(QueryParameters queryParameters) {
+            return async(sender -> MoviesAPI.getAllMovies(sender, queryParameters), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Movie>> getMovie(long movieId) {
+            return async(sender -> MoviesAPI.getMovieBase(sender, movieId), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<MovieDetails>> getMovieDetails(long movieId,
+                QueryParameters queryParameters) {
+            return async(sender -> MoviesAPI.getMovieExtended(sender, movieId, queryParameters),
+                    new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<Movie>>> getMoviesFiltered(QueryParameters queryParameters) {
+            return async(sender -> MoviesAPI.getMoviesFilter(sender, queryParameters), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<EntityTranslation>> getMovieTranslation(long movieId,
+                @Nonnull String language) {
+            return async(sender -> MoviesAPI.getMovieTranslation(sender, movieId, language), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<PeopleType>>> getAllPeopleTypes() {
+            return async(sender -> PeopleAPI.getAllPeopleTypes(sender), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<People>> getPeople(long peopleId) {
+            return async(sender -> PeopleAPI.getPeopleBase(sender, peopleId), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<PeopleDetails>> getPeopleDetails(long peopleId,
+                QueryParameters queryParameters) {
+            return async(sender -> PeopleAPI.getPeopleExtended(sender, peopleId, queryParameters),
+                    new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<EntityTranslation>> getPeopleTranslation(long peopleId,
+                @Nonnull String language) {
+            return async(sender -> PeopleAPI.getPeopleTranslation(sender, peopleId, language),
+                    new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<SearchResult>>> getSearchResults(
+                QueryParameters queryParameters) {
+            return async(sender -> SearchAPI.getSearchResults(sender, queryParameters), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<Season>>> getAllSeasons(QueryParameters queryParameters) {
+            return async(sender -> SeasonsAPI.getAllSeasons(sender, queryParameters), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Season>> getSeason(long seasonId) {
+            return async(sender -> SeasonsAPI.getSeasonBase(sender, seasonId), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<SeasonDetails>> getSeasonDetails(long seasonId,
+                QueryParameters queryParameters) {
+            return async(sender -> SeasonsAPI.getSeasonExtended(sender, seasonId, queryParameters),
+                    new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<SeasonType>>> getSeasonTypes() {
+            return async(sender -> SeasonsAPI.getSeasonTypes(sender), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<EntityTranslation>> getSeasonTranslation(long seasonId,
+                @Nonnull String language) {
+            return async(sender -> SeasonsAPI.getSeasonTranslation(sender, seasonId, language),
+                    new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<Status>>> getAllSeriesStatuses() {
+            return async(sender -> SeriesAPI.getAllSeriesStatuses(sender), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<Series>>> getAllSeries(QueryParameters queryParameters) {
+            return async(sender -> SeriesAPI.getAllSeries(sender, queryParameters), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Series>> getSeries(long seriesId) {
+            return async(sender -> SeriesAPI.getSeriesBase(sender, seriesId), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<SeriesDetails>> getSeriesArtworks(long seriesId,
+                QueryParameters queryParameters) {
+            return async(sender -> SeriesAPI.getSeriesArtworks(sender, seriesId, queryParameters),
+                    new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<SeriesDetails>> getSeriesDetails(long seriesId,
+                QueryParameters queryParameters) {
+            return async(sender -> SeriesAPI.getSeriesExtended(sender, seriesId, queryParameters),
+                    new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<SeriesEpisodes>> getSeriesEpisodes(long seriesId,
+                @Nonnull SeriesSeasonType seasonType, QueryParameters queryParameters) {
+            return async(sender -> SeriesAPI.getSeriesEpisodes(sender, seriesId, seasonType, queryParameters),
+                    new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Series>> getSeriesEpisodesTranslated(long seriesId,
+                @Nonnull SeriesSeasonType seasonType, @Nonnull String language, QueryParameters queryParameters) {
+            return async(sender -> SeriesAPI
+                    .getSeriesEpisodesTranslated(sender, seriesId, seasonType, language, queryParameters),
+                    new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<Series>>> getSeriesFiltered(QueryParameters queryParameters) {
+            return async(sender -> SeriesAPI.getSeriesFilter(sender, queryParameters), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<EntityTranslation>> getSeriesTranslation(long seriesId,
+                @Nonnull String language) {
+            return async(sender -> SeriesAPI.getSeriesTranslation(sender, seriesId, language),
+                    new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<SourceType>>> getAllSourceTypes() {
+            return async(sender -> SourceTypesAPI.getAllSourceTypes(sender), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Collection<EntityUpdate>>> getUpdates(QueryParameters queryParameters) {
+            return async(sender -> UpdatesAPI.getUpdates(sender, queryParameters), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<UserInfo>> getUserInfo() {
+            return async(sender -> UserAPI.getUserInfo(sender), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<UserInfo>> getUserInfo(long userId) {
+            return async(sender -> UserAPI.getUserInfo(sender, userId), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Favorites>> getUserFavorites() {
+            return async(sender -> UserAPI.getUserFavorites(sender), new TypeReference<>() {});
+        }
+
+        @Override
+        public CompletableFuture<APIResponse<Void>> createUserFavorites(@Nonnull FavoriteRecord favoriteRecord) {
+            return async(sender -> UserAPI.createUserFavorites(sender, favoriteRecord), new TypeReference<>() {});
         }
     }
 }
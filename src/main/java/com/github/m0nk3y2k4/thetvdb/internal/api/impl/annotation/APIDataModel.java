@@ -22,8 +22,6 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
-import org.atteo.classindex.IndexAnnotated;
-
 /**
  * Labels the actual implementations of API data models returned by the remote service as part of the JSON's
  * {@code data} node.
@@ -45,9 +43,12 @@ import org.atteo.classindex.IndexAnnotated;
  * This will automatically register the mapping of {@code Series/SeriesImpl} to the API's JSON type resolver. So
  * whenever an object of type {@code Series} has to be deserialized, the object mapper will use the{@code SeriesImpl}
  * implementation to create a new instance.
+ * <p><br>
+ * The mappings are collected at build time by the
+ * {@link com.github.m0nk3y2k4.thetvdb.internal.api.impl.annotation.processor.APIDataModelProcessor} and will be
+ * provided by the generated {@code APIDataModelRegistry}.
  */
 @Documented
-@IndexAnnotated
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
 public @interface APIDataModel {
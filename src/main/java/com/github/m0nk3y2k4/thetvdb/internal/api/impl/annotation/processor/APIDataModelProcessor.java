@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.api.impl.annotation.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor generating a static registry of all API data models at build time.
+ * <p><br>
+ * Collects all classes annotated with {@code @APIDataModel} which are also annotated with {@code @JsonDeserialize} and
+ * generates the {@code APIDataModelRegistry} class, binding each of these classes to all the interfaces it directly
+ * implements. The generated registry is used to set up the type resolver for JSON
+ * deserialization without having to scan the classpath for annotated classes at runtime.
+ * <pre>{@code
+ * public static SimpleAbstractTypeResolver addMappings(SimpleAbstractTypeResolver resolver) {
+ *     resolver.addMapping(Series.class, SeriesDTO.class);
+ *     // ...
+ *     return resolver;
+ * }
+ * }</pre>
+ * Like the <em>{@code Immutables}</em> builders, the registry is generated during compilation of the main sources. The
+ * processor is not registered as a service and therefore has to be explicitly named when invoking the compiler.
+ */
+@SupportedAnnotationTypes(APIDataModelProcessor.API_DATA_MODEL)
+public final class APIDataModelProcessor extends AbstractProcessor {
+
+    /** Qualified name of the annotation labeling the API data model implementations */
+    static final String API_DATA_MODEL = "com.github.m0nk3y2k4.thetvdb.internal.api.impl.annotation.APIDataModel";
+
+    /** Qualified name of the annotation required for a data model to be added to the registry */
+    static final String JSON_DESERIALIZE = "com.fasterxml.jackson.databind.annotation.JsonDeserialize";
+
+    /** Package of the generated registry */
+    static final String REGISTRY_PACKAGE = "com.github.m0nk3y2k4.thetvdb.internal.api.impl.model";
+
+    /** Simple name of the generated registry */
+    static final String REGISTRY_NAME = "APIDataModelRegistry";
+
+    /** Interface &lt;-&gt; Implementation mappings collected from the processed data models, sorted by interface */
+    private final Map<String, String> mappings = new TreeMap<>();
+
+    /** Whether the registry has already been generated */
+    private boolean generated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            roundEnv.getElementsAnnotatedWith(annotation).forEach(this::collectMappings);
+        }
+
+        if (!mappings.isEmpty() && !generated) {
+            writeRegistry();
+            generated = true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Adds the mappings of all interfaces directly implemented by the given data model to the registry, provided that
+     * the data model is a class annotated with {@code @JsonDeserialize}
+     *
+     * @param dataModel Element annotated with {@code @APIDataModel}
+     */
+    private void collectMappings(Element dataModel) {
+        if (dataModel.getKind() != ElementKind.CLASS || !isJsonDeserializable(dataModel)) {
+            return;
+        }
+
+        if (generated) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "API data model must be part of the initial compilation round", dataModel);
+            return;
+        }
+
+        String implementation = ((TypeElement)dataModel).getQualifiedName().toString();
+        for (TypeMirror dataModelInterface : ((TypeElement)dataModel).getInterfaces()) {
+            String interfaceName = processingEnv.getTypeUtils().erasure(dataModelInterface).toString();
+            String previous = mappings.put(interfaceName, implementation);
+            if (previous != null && !previous.equals(implementation)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(
+                        "Interface %s is implemented by multiple API data models: %s, %s",
+                        interfaceName, previous, implementation), dataModel);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given element is annotated with {@code @JsonDeserialize}
+     *
+     * @param element The element to check
+     *
+     * @return {@link Boolean#TRUE} if the element is annotated with {@code @JsonDeserialize}
+     */
+    private static boolean isJsonDeserializable(Element element) {
+        return element.getAnnotationMirrors().stream().anyMatch(annotation ->
+                JSON_DESERIALIZE.equals(annotation.getAnnotationType().toString()));
+    }
+
+    /**
+     * Writes the source file of the registry containing all collected mappings
+     */
+    private void writeRegistry() {
+        try (PrintWriter writer = new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(REGISTRY_PACKAGE + "." + REGISTRY_NAME).openWriter())) {
+            writer.println("package " + REGISTRY_PACKAGE + ";");
+            writer.println();
+            writer.println("import javax.annotation.processing.Generated;");
+            writer.println();
+            writer.println("import com.fasterxml.jackson.databind.module.SimpleAbstractTypeResolver;");
+            writer.println();
+            writer.println("/**");
+            writer.println(" * Static registry of all API data models, generated at build time");
+            writer.println(" */");
+            writer.println("@Generated(\"" + getClass().getName() + "\")");
+            writer.println("public final class " + REGISTRY_NAME + " {");
+            writer.println();
+            writer.println("    private " + REGISTRY_NAME + "() {}      // Private constructor. Only static methods");
+            writer.println();
+            writer.println("    /**");
+            writer.println("     * Adds the Interface &lt;-&gt; Implementation mappings of all API data models to the"
+                    + " given type resolver");
+            writer.println("     *");
+            writer.println("     * @param resolver The type resolver to which the mappings should be added");
+            writer.println("     *");
+            writer.println("     * @return The given type resolver");
+            writer.println("     */");
+            writer.println("    public static SimpleAbstractTypeResolver addMappings(SimpleAbstractTypeResolver"
+                    + " resolver) {");
+            mappings.forEach((dataModelInterface, implementation) -> writer.println(
+                    "        resolver.addMapping(" + dataModelInterface + ".class, " + implementation + ".class);"));
+            writer.println("        return resolver;");
+            writer.println("    }");
+            writer.println("}");
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to generate API data model registry: " + ex.getMessage());
+        }
+    }
+}
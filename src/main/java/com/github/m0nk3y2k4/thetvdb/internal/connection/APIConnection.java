@@ -16,54 +16,53 @@
 
 package com.github.m0nk3y2k4.thetvdb.internal.connection;
 
-import static com.github.m0nk3y2k4.thetvdb.api.TheTVDBApi.Version.API_VERSION;
-import static com.github.m0nk3y2k4.thetvdb.api.exception.APIException.API_BAD_METHOD_ERROR;
-import static com.github.m0nk3y2k4.thetvdb.api.exception.APIException.API_CONFLICT_ERROR;
-import static com.github.m0nk3y2k4.thetvdb.api.exception.APIException.API_NOT_FOUND_ERROR;
-import static com.github.m0nk3y2k4.thetvdb.api.exception.APIException.API_SERVICE_UNAVAILABLE;
 import static com.github.m0nk3y2k4.thetvdb.internal.connection.APISession.Status;
+import static com.github.m0nk3y2k4.thetvdb.internal.connection.APISession.Status.AUTHORIZED;
 import static com.github.m0nk3y2k4.thetvdb.internal.connection.APISession.Status.NOT_AUTHORIZED;
-import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.ACCEPT;
-import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.ACCEPT_ENCODING;
-import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.ACCEPT_LANGUAGE;
-import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.ALLOW;
-import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.AUTHORIZATION;
-import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.CONTENT_ENCODING;
-import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.CONTENT_TYPE;
-import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.USER_AGENT;
-import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.stream.Collectors.joining;
-
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map.Entry;
+
+import java.lang.ref.WeakReference;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
-import java.util.zip.GZIPInputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
-import javax.net.ssl.HttpsURLConnection;
 
-import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
 import com.github.m0nk3y2k4.thetvdb.api.APIKey;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CachePolicy;
+import com.github.m0nk3y2k4.thetvdb.api.cache.ResponseCache;
+import com.github.m0nk3y2k4.thetvdb.api.circuitbreaker.CircuitBreaker;
+import com.github.m0nk3y2k4.thetvdb.api.endpoint.EndpointGroup;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.ExecutionMode;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.Transport;
+import com.github.m0nk3y2k4.thetvdb.api.event.APIEventListener;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.api.hedging.HedgingPolicy;
+import com.github.m0nk3y2k4.thetvdb.api.metrics.MetricsRecorder;
+import com.github.m0nk3y2k4.thetvdb.api.ratelimit.RateLimiter;
+import com.github.m0nk3y2k4.thetvdb.api.retry.RetryPolicy;
+import com.github.m0nk3y2k4.thetvdb.api.token.TokenStore;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.APIConfigurationImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICircuitOpenException;
 import com.github.m0nk3y2k4.thetvdb.internal.exception.APICommunicationException;
 import com.github.m0nk3y2k4.thetvdb.internal.exception.APINotAuthorizedException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APITimeoutException;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.impl.LoginAPI;
 import com.github.m0nk3y2k4.thetvdb.internal.util.functional.ThrowableFunctionalInterfaces;
-import com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpRequestMethod;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
-import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Preconditions;
 
 /**
  * Main class for handling communication with the <i>TheTVDB.com</i> REST remote service on a technical level
@@ -77,8 +76,82 @@ import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Preconditions;
  * provides some automatic on-demand authorization. In case an attempt is made to call any of the API routes without
  * previous authorization, the connection will automatically try to resolve the HTTP-401 state by invoking the login()
  * function followed by a retry of requesting the original resource.
+ * <p><br>
+ * Connections are thread-safe and requests will be invoked concurrently. Only the on-demand authorization is
+ * serialized: if multiple requests are rejected at the same time, just one of them will request a new token while all
+ * others wait for the authorization to complete and then retry using the new token. As no monitor locks are held
+ * while sending requests, connections may also be used by virtual threads without pinning them to their carrier.
+ * <p><br>
+ * Besides the regular blocking invocation, requests may also be sent {@link #async() asynchronously}. When using the
+ * {@link Transport#HTTP_CLIENT} transport, asynchronous requests will be sent via non-blocking I/O. Otherwise, they
+ * will be processed by a thread of the configured executor or by a new virtual thread, depending on the configured
+ * {@link ExecutionMode}.
+ * <p><br>
+ * Each request is processed by a pipeline of {@link RequestStage stages}, each of them handling one of the concerns
+ * described below. Only the stages whose concern has been configured will be part of the pipeline.
+ * <p><br>
+ * If a {@link ResponseCache} has been configured, the responses to <em>{@code GET}</em> requests will be stored in
+ * this cache for the time-to-live determined by the configured {@link CachePolicy}. Subsequent requests for the same
+ * resource, query parameters and language will then be served from the cache without contacting the remote service.
+ * Once expired, responses carrying an <em>{@code ETag}</em> or <em>{@code Last-Modified}</em> validator will be
+ * revalidated via a conditional request. If the remote service replies with <em>{@code HTTP-304 Not Modified}</em>,
+ * the cached response will be served again and its time-to-live will be refreshed.
+ * <p><br>
+ * If a {@link RateLimiter} has been configured, each request will be delayed until the limiter issued a permit for it.
+ * The limiter will be notified whenever the remote service throttles a request via HTTP-429 or HTTP-503, so that it
+ * can adapt its rate accordingly.
+ * <p><br>
+ * If a {@link RetryPolicy} has been configured, idempotent requests which failed due to a transient error will be
+ * retried as long as the policy permits. Each retry has to obtain a new permit from the rate limiter, if any.
+ * <p><br>
+ * If a {@link CircuitBreaker} has been configured, each request has to be permitted by the circuit of its route family
+ * right before being sent. Rejected requests fail immediately with an {@link APICircuitOpenException}.
+ * <p><br>
+ * If a {@link HedgingPolicy} has been configured, a duplicate of each <em>{@code GET}</em> request will be sent if the
+ * request has not been answered within the hedge delay of its route family. The first conclusive response will be used
+ * and the other request will be cancelled. Hedged requests are always sent asynchronously, with blocking invocations
+ * waiting for the first response.
+ * <p><br>
+ * If {@link APIConfiguration#isCoalescingRequests() request coalescing} has been enabled, concurrent
+ * <em>{@code GET}</em> requests for the same resource and language will be coalesced into a single request. Only the
+ * first of these requests will be sent to the remote service, whereas all others wait for its response. Each caller
+ * will nevertheless receive its own response object, read from the raw content of the shared response.
+ * <p><br>
+ * Session tokens which are known to be expired will be renewed before sending any further request, rather than waiting
+ * for the remote service to reject the request. If a {@link APIConfiguration#getTokenRefreshMargin() refresh margin}
+ * has been configured, the token will even be renewed in the background ahead of its expiration, so that requests
+ * neither get rejected nor have to wait for a new token. If the background renewal fails, the token will be renewed on
+ * demand as usual.
+ * <p><br>
+ * If a {@link TokenStore} has been configured, session tokens will be shared with all other connections using the same
+ * API key and store, possibly running in other processes. Before requesting a new token from the remote service, the
+ * connection will adopt a valid token from the store if another connection already renewed it. Connections which have
+ * not yet been authorized will do so before sending their first request, so that a shared token can be used right
+ * away.
+ * <p><br>
+ * If an {@link EndpointGroup} has been configured, each request will be sent to an endpoint selected by the group
+ * instead of the remote endpoint of this connection. Idempotent requests which could not be sent due to a connection
+ * level failure will transparently be sent to another endpoint of the group, until all endpoints have been tried.
+ * <p><br>
+ * If a {@link APIConfiguration#getCallTimeout() call timeout} has been configured, each call gets a deadline by which
+ * it has to be completed, including on-demand authorization, retries and waiting for the rate limiter. Waiting will be
+ * aborted with an {@link APITimeoutException} as soon as it becomes clear that the deadline can not be met, and the
+ * time remaining until the deadline limits the connect and read timeouts of each request sent on behalf of the call.
+ * <p><br>
+ * If a {@link MetricsRecorder} has been configured, each exchange with the remote service will be measured and
+ * reported to the recorder along with the route template of the requested resource. Requests which have been cancelled,
+ * e.g. the slower one of a hedged request and its duplicate, will not be reported.
+ * <p><br>
+ * If an {@link APIEventListener} has been configured, each API call gets a correlation ID and the listener will be
+ * notified about the lifecycle events of the call, from its start over each exchange with the remote service, retries
+ * and logins up to its outcome. Without any listener, no correlation IDs will be assigned and no events will be fired.
+ * <p><br>
+ * If a {@link APIConfiguration#getManagementName() management name} has been configured, the MBeans of this connection
+ * have to be {@link #registerMBeans() registered} once the connection has been constructed. Connections which are no
+ * longer needed should be {@link #close() closed}, which unregisters these MBeans and stops the background renewal of
+ * the session token.
  */
-public class APIConnection {
+public class APIConnection implements RequestSender<JsonNode>, AutoCloseable {
 
     /** Error message for max on-demand authentication retries exceeded */
     static final String ERR_MAX_RETRY_EXCEEDED = "Could not connect to API service after %d retries. Please check your API-Key.";
@@ -86,12 +159,105 @@ public class APIConnection {
     /** Maximum number of retries for automatic on-demand authentication */
     static final int MAX_AUTHENTICATION_RETRY_COUNT = 3;
 
+    /** Error message for requests which would have been sent with an expired session token */
+    static final String ERR_TOKEN_EXPIRED = "Session token has expired";
+
+    /** Error message for requests which would have been sent without a session token which may be shared */
+    static final String ERR_TOKEN_MISSING = "Session token has not yet been obtained";
+
+    /** Error message for interruptions while waiting for an ongoing authorization of the session */
+    static final String ERR_AUTHORIZATION_INTERRUPTED = "Interrupted while waiting for the session authorization";
+
+    /** Shared executor for asynchronous requests, used if no specific executor has been configured */
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "thetvdb-api-async");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Shared executor starting a new virtual thread for each asynchronous request */
+    private static final ExecutorService VIRTUAL_THREAD_EXECUTOR = Executors
+            .newThreadPerTaskExecutor(Thread.ofVirtual().name("thetvdb-api-virtual-", 0).factory());
+
+    /**
+     * Shared scheduler triggering the background renewal of session tokens. The scheduled tasks only reference their
+     * connection weakly, so that pending renewals do not prevent discarded connections from being garbage collected.
+     */
+    private static final ScheduledThreadPoolExecutor REFRESH_SCHEDULER = createRefreshScheduler();
+
+    /** Initial delay before a failed background renewal of a session token will be retried */
+    private static final Duration REFRESH_RETRY_DELAY = Duration.ofSeconds(30);
+
+    /** Deadline of the API call on whose behalf the current thread is authorizing a session (if any) */
+    private static final ThreadLocal<Deadline> AUTHORIZATION_DEADLINE = new ThreadLocal<>();
+
+    /** Source of the correlation IDs of all API calls observed by an event listener */
+    private static final AtomicLong CORRELATION_IDS = new AtomicLong();
+
     /** Session used for API communication */
     private final APISession session;
 
     /** Remote endpoint used for API communication (default: <i>TheTVDB.com</i>) */
     private final RemoteAPI remoteAPI;
 
+    /** Technical configuration of this connection */
+    private final APIConfiguration configuration;
+
+    /** Lock ensuring that only one on-demand authorization is performed at a time */
+    private final ReentrantLock authorizationLock = new ReentrantLock();
+
+    /** Pending background renewal of the current session token (if any) */
+    private final AtomicReference<ScheduledFuture<?>> tokenRefresh = new AtomicReference<>();
+
+    /** Whether this connection has been closed, after which no further token renewals will be scheduled */
+    private volatile boolean closed;
+
+    /** Executor used for the processing of asynchronous requests */
+    private final Executor executor;
+
+    /** Cache for the responses of the remote service (optional) */
+    private final ResponseCache responseCache;
+
+    /** Limiter throttling the requests sent to the remote service (optional) */
+    private final RateLimiter rateLimiter;
+
+    /** Margin by which the session token will be renewed ahead of its expiration (optional) */
+    private final Duration tokenRefreshMargin;
+
+    /** Timeouts for establishing connections and for receiving responses (optional) */
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+
+    /** Default timeout of each API call invoked via this connection (optional) */
+    private final Duration callTimeout;
+
+    /** Recorder collecting metrics about each exchange with the remote service (optional) */
+    private final MetricsRecorder metricsRecorder;
+
+    /**
+     * Listener notified about the lifecycle events of each API call (optional). If a management name has been
+     * configured, this is the monitor of this connection, forwarding all events to the configured listener.
+     */
+    private final APIEventListener eventListener;
+
+    /** Monitor exposing this connection via JMX, only set if a management name has been configured (optional) */
+    private final ConnectionMonitor monitor;
+
+    /** Whether this connection owns its resources, e.g. the response cache, rather than sharing those of a template */
+    private final boolean owner;
+
+    /** Coalescer for concurrent identical requests, shared by all connections using the same template (optional) */
+    private final RequestCoalescer coalescer;
+
+    /** Stages sending each request once the session has been authorized, shared with all connections of the template */
+    private final RequestStage pipeline;
+
+    /** First stage of each API call, serving the call from the cache or passing it on to the session authorization */
+    private final RequestStage entry;
+
+    /** Sender for asynchronous requests returning the raw JSON response */
+    private final RequestSender<CompletableFuture<JsonNode>> asyncSender;
+
     /**
      * Creates a new <i>TheTVDB.com</i> API connection using the given <em>{@code apiKey}</em> for remote service
      * authentication. The given key must be a valid
@@ -113,10 +279,150 @@ public class APIConnection {
      * @param remote Supplier providing a specific remote API endpoint to be used by this connection
      */
     public APIConnection(@Nonnull APIKey apiKey, @Nonnull RemoteAPI remote) {
+        this(apiKey, remote, APIConfigurationImpl.getDefault());     // Default: URL connection based transport
+    }
+
+    /**
+     * Creates a new API connection using the given <em>{@code apiKey}</em> for remote service authentication. The given
+     * key must be a valid
+     * <a target="_blank" href="https://www.thetvdb.com/dashboard/account/apikey">TheTVDB.com v4 API Key</a>. All
+     * outgoing communication will be directed towards the given remote endpoint and will be conducted according to the
+     * given configuration.
+     *
+     * @param apiKey        Valid <i>TheTVDB.com</i> v4 API-Key
+     * @param remote        Supplier providing a specific remote API endpoint to be used by this connection
+     * @param configuration The technical configuration of this connection, e.g. the HTTP transport to be used
+     */
+    public APIConnection(@Nonnull APIKey apiKey, @Nonnull RemoteAPI remote, @Nonnull APIConfiguration configuration) {
         Parameters.validateNotNull(remote, "Remote endpoint for this connection needs to be specified");
+        Parameters.validateNotNull(configuration, "Configuration for this connection needs to be specified");
 
-        this.session = new APISession(apiKey);
+        this.session = new APISession(apiKey, configuration.getTokenStore().orElse(null));
         this.remoteAPI = remote;
+        this.configuration = configuration;
+        this.executor = configuration.getExecutor().orElse(
+                configuration.getExecutionMode() == ExecutionMode.VIRTUAL_THREADS ? VIRTUAL_THREAD_EXECUTOR
+                        : DEFAULT_EXECUTOR);
+        this.connectTimeout = configuration.getConnectTimeout().orElse(null);
+        this.readTimeout = configuration.getReadTimeout().orElse(null);
+        this.callTimeout = configuration.getCallTimeout().orElse(null);
+        this.responseCache = configuration.getResponseCache().orElse(null);
+        this.rateLimiter = configuration.getRateLimiter().orElse(null);
+        this.tokenRefreshMargin = configuration.getTokenRefreshMargin().orElse(null);
+        this.metricsRecorder = configuration.getMetricsRecorder().orElse(null);
+        this.monitor = configuration.getManagementName().isPresent()
+                ? new ConnectionMonitor(this, configuration.getEventListener().orElse(null)) : null;
+        this.eventListener = monitor != null ? monitor : configuration.getEventListener().orElse(null);
+        this.owner = true;
+        this.coalescer = configuration.isCoalescingRequests() ? new RequestCoalescer() : null;
+        this.pipeline = createPipeline(configuration, configuration.getTransport() == Transport.HTTP_CLIENT
+                ? createHttpClient(executor, connectTimeout) : null, executor);
+        this.entry = createEntry();
+        this.asyncSender = new AsyncRequestSender<>(APIRequest.JSON_TREE, callTimeout);
+    }
+
+    /**
+     * Creates a new API connection using the given <em>{@code apiKey}</em> for remote service authentication. Apart
+     * from its own session, the new connection shares all of its resources with the given template connection, e.g.
+     * its remote endpoint, configuration, response cache, the requests currently in flight and the stages sending the
+     * requests, including the HTTP client.
+     *
+     * @param template Connection whose resources should be shared with the new connection
+     * @param apiKey   Valid <i>TheTVDB.com</i> v4 API-Key
+     */
+    APIConnection(@Nonnull APIConnection template, @Nonnull APIKey apiKey) {
+        this.session = new APISession(apiKey, template.configuration.getTokenStore().orElse(null));
+        this.remoteAPI = template.remoteAPI;
+        this.configuration = template.configuration;
+        this.executor = template.executor;
+        this.responseCache = template.responseCache;
+        this.rateLimiter = template.rateLimiter;
+        this.tokenRefreshMargin = template.tokenRefreshMargin;
+        this.connectTimeout = template.connectTimeout;
+        this.readTimeout = template.readTimeout;
+        this.callTimeout = template.callTimeout;
+        this.metricsRecorder = template.metricsRecorder;
+        this.eventListener = template.eventListener;
+        this.monitor = null;        // MBeans are registered and unregistered by the template only
+        this.owner = false;         // Shared resources are closed by the template only
+        this.coalescer = template.coalescer;
+        this.pipeline = template.pipeline;
+        this.entry = createEntry();
+        this.asyncSender = new AsyncRequestSender<>(APIRequest.JSON_TREE, callTimeout);
+    }
+
+    /**
+     * Creates a new HTTP client which will be shared by all requests invoked via this connection. The client keeps its
+     * connections alive and prefers HTTP/2, so that concurrent requests to the remote service will be multiplexed over
+     * a single connection rather than performing a new TLS handshake for each request. The given executor will be used
+     * by the client for its asynchronous tasks.
+     *
+     * @param executor       Executor used for asynchronous tasks of the client
+     * @param connectTimeout Timeout for establishing new connections, might be <em>{@code null}</em> if not limited
+     *
+     * @return New HTTP client to be used for all requests of this connection
+     */
+    private static HttpClient createHttpClient(@Nonnull Executor executor, @CheckForNull Duration connectTimeout) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor);
+        Optional.ofNullable(connectTimeout).ifPresent(builder::connectTimeout);
+        return builder.build();
+    }
+
+    /**
+     * Creates the pipeline of stages sending each request once the session has been authorized. Only the stages whose
+     * concern has been configured will be part of the pipeline, in the following order: retrying, hedging, throttling,
+     * circuit breaking and failover. Each retry is thus sent as hedged request whose copies have to obtain their own
+     * permit from the rate limiter and from the circuit breaker, before they are sent to an endpoint of the group. The
+     * pipeline ends with sending the request via the configured transport.
+     *
+     * @param configuration The technical configuration of the connection
+     * @param httpClient    Shared HTTP client used for sending the requests, might be <em>{@code null}</em> in which
+     *                      case each request will be sent via a new URL connection
+     * @param executor      Executor used for the processing of asynchronous requests
+     *
+     * @return The first stage of the new pipeline
+     */
+    private static RequestStage createPipeline(@Nonnull APIConfiguration configuration,
+            @CheckForNull HttpClient httpClient, @Nonnull Executor executor) {
+        RequestStage stage = new TransportStage(httpClient, executor);
+        EndpointGroup endpointGroup = configuration.getEndpointGroup().orElse(null);
+        if (endpointGroup != null) {
+            stage = new FailoverStage(endpointGroup, stage);
+        }
+        CircuitBreaker circuitBreaker = configuration.getCircuitBreaker().orElse(null);
+        if (circuitBreaker != null) {
+            stage = new CircuitBreakingStage(circuitBreaker, stage);
+        }
+        RateLimiter limiter = configuration.getRateLimiter().orElse(null);
+        if (limiter != null) {
+            stage = new ThrottlingStage(limiter, executor, stage);
+        }
+        HedgingPolicy hedgingPolicy = configuration.getHedgingPolicy().orElse(null);
+        if (hedgingPolicy != null) {
+            stage = new HedgingStage(hedgingPolicy, executor, stage);
+        }
+        RetryPolicy retryPolicy = configuration.getRetryPolicy().orElse(null);
+        if (retryPolicy != null) {
+            stage = new RetryingStage(retryPolicy, executor, stage);
+        }
+        return stage;
+    }
+
+    /**
+     * Creates the first stage of each API call invoked via this connection. If a response cache or request coalescing
+     * has been configured, the call will first be passed to the caching stage. Calls which could not be served from the
+     * cache will then be passed on to the authorization of the session and finally to the shared pipeline.
+     *
+     * @return The first stage of each API call
+     */
+    private RequestStage createEntry() {
+        RequestStage authorization = new AuthorizingStage();
+        return responseCache != null || coalescer != null
+                ? new CachingStage(responseCache, configuration.getCachePolicy(), coalescer, session, authorization)
+                : authorization;
     }
 
     /**
@@ -130,8 +436,9 @@ public class APIConnection {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
+    @Override
     public JsonNode sendGET(@Nonnull String resource) throws APIException {
-        return sendRequest(new GetRequest(resource));
+        return sendRequest(new GetRequest(resource), APIRequest.JSON_TREE, callTimeout);
     }
 
     /**
@@ -146,8 +453,9 @@ public class APIConnection {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
+    @Override
     public JsonNode sendPOST(@Nonnull String resource, @Nonnull String data) throws APIException {
-        return sendRequest(new PostRequest(resource, data));
+        return sendRequest(new PostRequest(resource, data), APIRequest.JSON_TREE, callTimeout);
     }
 
     /**
@@ -161,8 +469,9 @@ public class APIConnection {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
+    @Override
     public JsonNode sendHEAD(@Nonnull String resource) throws APIException {
-        return sendRequest(new HeadRequest(resource));
+        return sendRequest(new HeadRequest(resource), APIRequest.JSON_TREE, callTimeout);
     }
 
     /**
@@ -176,8 +485,9 @@ public class APIConnection {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
+    @Override
     public JsonNode sendDELETE(@Nonnull String resource) throws APIException {
-        return sendRequest(new DeleteRequest(resource));
+        return sendRequest(new DeleteRequest(resource), APIRequest.JSON_TREE, callTimeout);
     }
 
     /**
@@ -191,12 +501,181 @@ public class APIConnection {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
+    @Override
     public JsonNode sendPUT(@Nonnull String resource) throws APIException {
-        return sendRequest(new PutRequest(resource));
+        return sendRequest(new PutRequest(resource), APIRequest.JSON_TREE, callTimeout);
+    }
+
+    /**
+     * Returns a sender for invoking requests asynchronously via this connection. All requests sent by the returned
+     * sender will immediately return a future which will eventually be completed with the raw, unmodified JSON as
+     * received from the remote service. Like for regular requests, the on-demand authorization will be triggered
+     * automatically in case this connection has not yet been authorized.
+     *
+     * @return Sender for asynchronous requests sharing the session of this connection
+     */
+    public RequestSender<CompletableFuture<JsonNode>> async() {
+        return asyncSender;
+    }
+
+    /**
+     * Returns a sender for invoking requests via this connection whose responses will be read by the given reader.
+     * Rather than parsing the response into some raw JSON object first, the response body will be streamed straight
+     * into the reader, allowing it to be mapped into the requested Java type in a single pass. Like for regular
+     * requests, the on-demand authorization will be triggered automatically in case this connection has not yet been
+     * authorized.
+     *
+     * @param reader Reader used to map the body of successful responses
+     * @param <T>    Type of the value read from the response body
+     *
+     * @return Sender for requests sharing the session of this connection and returning the mapped response
+     */
+    public <T> RequestSender<T> reading(@Nonnull ResponseReader<T> reader) {
+        Parameters.validateNotNull(reader, "Response reader must not be NULL");
+        return new ReadingRequestSender<>(reader, callTimeout);
+    }
+
+    /**
+     * Returns a sender for invoking requests via this connection whose responses will be read by the given reader.
+     * Other than for the {@link #reading(ResponseReader) default sender}, each request sent by the returned sender has
+     * to be completed within the given timeout instead of the configured call timeout.
+     *
+     * @param reader      Reader used to map the body of successful responses
+     * @param callTimeout The time each request sent by the returned sender may take as a whole. Must be positive.
+     * @param <T>         Type of the value read from the response body
+     *
+     * @return Sender for requests sharing the session of this connection and returning the mapped response
+     */
+    public <T> RequestSender<T> reading(@Nonnull ResponseReader<T> reader, @Nonnull Duration callTimeout) {
+        Parameters.validateNotNull(reader, "Response reader must not be NULL");
+        validateCallTimeout(callTimeout);
+        return new ReadingRequestSender<>(reader, callTimeout);
+    }
+
+    /**
+     * Returns a sender for invoking requests via this connection which will return the responses as raw, unmodified
+     * JSON. Other than for the regular requests of this connection, each request sent by the returned sender has to be
+     * completed within the given timeout instead of the configured call timeout.
+     *
+     * @param callTimeout The time each request sent by the returned sender may take as a whole. Must be positive.
+     *
+     * @return Sender for requests sharing the session of this connection and returning the raw JSON response
+     */
+    public RequestSender<JsonNode> timed(@Nonnull Duration callTimeout) {
+        return reading(APIRequest.JSON_TREE, callTimeout);
+    }
+
+    /**
+     * Returns a sender for invoking requests asynchronously via this connection whose responses will be read by the
+     * given reader. All requests sent by the returned sender will immediately return a future which will eventually be
+     * completed with the value mapped by the reader straight from the response body. Like for regular requests, the
+     * on-demand authorization will be triggered automatically in case this connection has not yet been authorized.
+     *
+     * @param reader Reader used to map the body of successful responses
+     * @param <T>    Type of the value read from the response body
+     *
+     * @return Sender for asynchronous requests sharing the session of this connection and returning the mapped response
+     */
+    public <T> RequestSender<CompletableFuture<T>> async(@Nonnull ResponseReader<T> reader) {
+        Parameters.validateNotNull(reader, "Response reader must not be NULL");
+        return new AsyncRequestSender<>(reader, callTimeout);
+    }
+
+    /**
+     * Returns a sender for invoking requests asynchronously via this connection whose responses will be read by the
+     * given reader. Other than for the {@link #async(ResponseReader) default sender}, each request sent by the returned
+     * sender has to be completed within the given timeout instead of the configured call timeout.
+     *
+     * @param reader      Reader used to map the body of successful responses
+     * @param callTimeout The time each request sent by the returned sender may take as a whole. Must be positive.
+     * @param <T>         Type of the value read from the response body
+     *
+     * @return Sender for asynchronous requests sharing the session of this connection and returning the mapped response
+     */
+    public <T> RequestSender<CompletableFuture<T>> async(@Nonnull ResponseReader<T> reader,
+            @Nonnull Duration callTimeout) {
+        Parameters.validateNotNull(reader, "Response reader must not be NULL");
+        validateCallTimeout(callTimeout);
+        return new AsyncRequestSender<>(reader, callTimeout);
     }
 
     /**
-     * Sets the JWT token of the underlying session which will then be used further communication authentication
+     * Validates that the given call timeout is positive
+     *
+     * @param callTimeout The call timeout to be checked
+     *
+     * @throws IllegalArgumentException If the given timeout is <em>{@code null}</em>, zero or negative
+     */
+    private static void validateCallTimeout(Duration callTimeout) {
+        Parameters.validateCondition(timeout -> timeout != null && timeout.isPositive(), callTimeout,
+                new IllegalArgumentException("Call timeout must be positive"));
+    }
+
+    /**
+     * Registers the MBeans of this connection at the platform MBean server, using the configured management name.
+     * Nothing will be registered if no management name has been configured. As the MBeans reference this connection,
+     * they will be registered on request only, after the connection has been fully constructed, and have to be
+     * unregistered again by {@link #close() closing} the connection.
+     *
+     * @throws IllegalStateException If the MBeans could not be registered, e.g. as another connection which has not
+     *                               yet been closed already registered its MBeans with the same management name
+     */
+    public void registerMBeans() {
+        if (monitor != null) {
+            configuration.getManagementName().ifPresent(name -> monitor.register(name, responseCache, rateLimiter));
+        }
+    }
+
+    /**
+     * Closes this connection. Any MBeans registered for this connection will be unregistered from the platform MBean
+     * server, so that their management name may be reused, and a pending background renewal of the session token will
+     * be cancelled. The configured response cache will be closed as well, unless its resources are shared with the
+     * template of this connection. Closing a connection which has already been closed has no effect. The connection
+     * should not be used for sending further requests afterwards.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        ScheduledFuture<?> refresh = tokenRefresh.getAndSet(null);
+        if (refresh != null) {
+            refresh.cancel(false);
+        }
+        if (monitor != null) {
+            monitor.unregister();
+        }
+        if (owner && responseCache != null) {
+            responseCache.close();
+        }
+    }
+
+    /**
+     * Initializes the underlying session by requesting a new token from the remote service, which will then be used
+     * for the authentication of all subsequent requests
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, etc.
+     */
+    public void login() throws APIException {
+        LoginAPI.login(this);
+    }
+
+    /**
+     * Prepares this connection for sending requests. The underlying session will be authorized, unless it has already
+     * been authorized with a token which is not known to be expired. As the login request is sent via the configured
+     * transport, this will also establish the connection to the remote endpoint, including DNS lookup and TLS
+     * handshake, which may then be reused by subsequent requests.
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, etc.
+     */
+    public void warmUp() throws APIException {
+        if (session.getStatus() != AUTHORIZED || checkToken().isPresent()) {
+            authorizeSession(null, session.getToken(), Optional.empty());
+        }
+    }
+
+    /**
+     * Sets the JWT token of the underlying session which will then be used further communication authentication. If a
+     * token refresh margin has been configured and the token states its expiration time, the renewal of the token will
+     * be scheduled accordingly.
      *
      * @param token The new JWT session token issued by the remote service
      *
@@ -205,6 +684,30 @@ public class APIConnection {
      */
     public void setToken(@Nonnull String token) throws APIException {
         session.setToken(token);
+        scheduleRefresh(token);
+    }
+
+    /**
+     * Renews the JWT token of the underlying session. If a token store has been configured, a valid token saved to the
+     * store by another connection will be adopted. Otherwise, the given issuer will be invoked in order to request a
+     * new token from the remote service, which will then be saved to the store. Like for {@link #setToken(String)}, the
+     * renewal of the new token will be scheduled if a token refresh margin has been configured. Renewals are
+     * serialized with the on-demand authorization of this connection.
+     *
+     * @param issuer Requests a new JWT token from the remote service
+     *
+     * @throws APIException If the issuer failed to request a new token or if the issued token is <em>{@code null}</em>,
+     *                      an empty character sequence or does not match the regular JWT format
+     */
+    public void renewToken(@Nonnull ThrowableFunctionalInterfaces.Supplier<String, APIException> issuer)
+            throws APIException {
+        authorizationLock.lock();
+        try {
+            session.renewToken(issuer);
+            session.getToken().ifPresent(this::scheduleRefresh);
+        } finally {
+            authorizationLock.unlock();
+        }
     }
 
     /**
@@ -259,6 +762,15 @@ public class APIConnection {
         return remoteAPI;
     }
 
+    /**
+     * Returns the technical configuration of this connection
+     *
+     * @return Configuration associated with this connection
+     */
+    APIConfiguration getConfiguration() {
+        return configuration;
+    }
+
     /**
      * Returns the API key related to this connection
      *
@@ -278,461 +790,525 @@ public class APIConnection {
         return session.getToken();
     }
 
+    /**
+     * Invokes the given request as a new API call which has to be completed within the given timeout. If an event
+     * listener has been configured, the call gets a new correlation ID and the listener will be notified about the
+     * start and the outcome of the call.
+     *
+     * @param request The request to be invoked
+     * @param reader  Reader used to map the body of a successful response
+     * @param timeout The time the invocation may take as a whole, might be <em>{@code null}</em> if not limited
+     * @param <T>     Type of the value read from the response body
+     *
+     * @return The response as read by the given reader
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
+     *                      not found, etc.
+     */
+    private <T> T sendRequest(APIRequest request, ResponseReader<T> reader, @CheckForNull Duration timeout)
+            throws APIException {
+        request.setDeadline(createDeadline(timeout));
+        if (eventListener == null) {
+            return entry.send(request, reader);
+        }
+
+        request.observe(eventListener, CORRELATION_IDS.incrementAndGet());
+        try {
+            T response = entry.send(request, reader);
+            request.onDeserialized();
+            return response;
+        } catch (APIException | RuntimeException ex) {
+            request.onFailure(ex);
+            throw ex;
+        }
+    }
+
     /**
      * Invokes the given request. If the remote service responds with an HTTP-401 status this method will automatically
      * try to authorize the underlying session. If the automated on-demand authentication was successful the given
-     * request will be invoked again. Otherwise, an exception will be thrown.
+     * request will be invoked again. Otherwise, an exception will be thrown. This method may be invoked concurrently by
+     * multiple threads.
      *
      * @param request The request to be invoked
+     * @param reader  Reader used to map the body of a successful response
+     * @param <T>     Type of the value read from the response body
      *
-     * @return Raw JSON response as received from the remote service
+     * @return The response as read by the given reader
      *
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    private synchronized JsonNode sendRequest(APIRequest request) throws APIException {
+    <T> T invokeRequest(APIRequest request, ResponseReader<T> reader) throws APIException {
         request.setSession(session);
         request.setRemoteAPI(remoteAPI);
+        request.setTimeouts(connectTimeout, readTimeout);
+        request.setMetricsRecorder(metricsRecorder);
 
         for (int retry = 0; retry < MAX_AUTHENTICATION_RETRY_COUNT; retry++) {
+            // Remember the token used for this attempt in order to detect whether it has been renewed in the meantime
+            Optional<String> token = session.getToken();
             try {
-                return request.send();
+                request.checkDeadline(Duration.ZERO);
+                Optional<String> tokenError = checkToken();
+                if (tokenError.isPresent()) {
+                    throw new APINotAuthorizedException(tokenError.get());      // Don't even try to use this token
+                }
+                return pipeline.send(request, reader);
             } catch (APINotAuthorizedException e) {
                 // If the session is not yet authorized try to request a new token
-                authorizeSession();
+                authorizeSession(request, token, request.getDeadline());
             }
         }
 
-        throw new APIException(String.format(ERR_MAX_RETRY_EXCEEDED, MAX_AUTHENTICATION_RETRY_COUNT));
+        throw new APINotAuthorizedException(String.format(ERR_MAX_RETRY_EXCEEDED, MAX_AUTHENTICATION_RETRY_COUNT));
     }
 
     /**
-     * Tries to authorize the underlying API session in case it has not yet been initialized or the original
-     * authorization has expired.
+     * Invokes the given request asynchronously as a new API call which has to be completed within the given timeout. If
+     * an event listener has been configured, the call gets a new correlation ID and the listener will be notified about
+     * the start and the outcome of the call.
      *
-     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
-     *                      not found, etc. or if the underlying session is not in a proper state to initialize the
-     *                      authorization
-     */
-    private void authorizeSession() throws APIException {
-        switch (session.getStatus()) {
-            case NOT_AUTHORIZED:
-            case AUTHORIZED:
-                LoginAPI.login(this);    // Not yet authorized or authorization expired: Request a new token
-                break;
-            default:
-                // Authorization is already in progress but could not be completed. Do not retry to authorize this session
-                // again but abort processing and notify the calling instance that the session could not be authorized.
-                session.setStatus(NOT_AUTHORIZED);
-                throw new APIException("Remote API authorization failed: Please check your API key and login credentials");
-        }
-    }
-}
-
-/**
- * Abstract base class for API request handling
- * <p><br>
- * This class provides common functionality used in the context of HTTP request based API communication. It handles the
- * invocation of remote resources as well as processing of the received response data. This includes proper
- * configuration of HTTP connections (request headers), Bearer authentication, response state evaluation, parsing
- * response data and proper error handling.
- */
-abstract class APIRequest {
-
-    /** Messages for error/exception handling */
-    static final String ERR_UNEXPECTED_RESPONSE = "Receiver returned an unexpected error: HTTP-%d \nOriginal API error message: %s";
-    static final String ERR_SEND = "An exception occurred while sending %s request to API";
-
-    /** Constants for API error handling */
-    private static final String API_ERROR = "message";
-
-    /** Resource/Route to be called on remote service */
-    private final String resource;
-
-    /** HTTP request method to be used for this request */
-    private final HttpRequestMethod requestMethod;
-
-    /** Session for remote API authentication */
-    private APISession session;
-
-    /** Remote endpoint used for API communication */
-    private RemoteAPI remoteAPI;
-
-    /**
-     * Creates a new request for the given resource using the given request method
+     * @param request The request to be invoked
+     * @param reader  Reader used to map the body of a successful response
+     * @param timeout The time the invocation may take as a whole, might be <em>{@code null}</em> if not limited
+     * @param <T>     Type of the value read from the response body
      *
-     * @param resource      The remote resource to be invoked
-     * @param requestMethod The HTTP request method to be used for this request
+     * @return Future which will be completed with the response as read by the given reader or exceptionally with an
+     *         {@link APIException} in case of an error
      */
-    APIRequest(@Nonnull String resource, @Nonnull HttpRequestMethod requestMethod) {
-        Parameters.validateNotEmpty(resource, "API resource must not be NULL or empty");
-        Parameters.validateNotNull(requestMethod, "HTTP request method must not be NULL");
+    private <T> CompletableFuture<T> sendRequestAsync(APIRequest request, ResponseReader<T> reader,
+            @CheckForNull Duration timeout) {
+        request.setDeadline(createDeadline(timeout));
+        if (eventListener == null) {
+            return entry.sendAsync(request, reader);
+        }
 
-        this.resource = resource;
-        this.requestMethod = requestMethod;
+        request.observe(eventListener, CORRELATION_IDS.incrementAndGet());
+        return entry.sendAsync(request, reader).whenComplete((response, error) -> {
+            if (error == null) {
+                request.onDeserialized();
+            } else {
+                request.onFailure(APIRequest.unwrap(error));
+            }
+        });
     }
 
     /**
-     * Disconnects the given connection if present
+     * Creates the deadline for an API call which has just been invoked. If the current thread is authorizing a session
+     * on behalf of some other API call, the deadline of this call will be inherited if it expires earlier.
+     *
+     * @param timeout The time the API call may take as a whole, might be <em>{@code null}</em> if not limited
      *
-     * @param con The connection to be disconnected
+     * @return Deadline of the API call or <em>{@code null}</em> if the call is not limited at all
      */
-    private static void disconnect(@CheckForNull HttpsURLConnection con) {
-        Optional.ofNullable(con).ifPresent(HttpsURLConnection::disconnect);
+    @CheckForNull
+    private static Deadline createDeadline(@CheckForNull Duration timeout) {
+        return Deadline.earliest(timeout != null ? Deadline.after(timeout) : null, AUTHORIZATION_DEADLINE.get());
     }
 
     /**
-     * Associates this request with an underlying communication session. Most of the requests require an initialized
-     * session to be used for remote service authentication.
+     * Invokes the given request asynchronously. Like its blocking counterpart, this method will automatically try to
+     * authorize the underlying session if the remote service responds with an HTTP-401 status and will then invoke the
+     * request again.
+     *
+     * @param request The request to be invoked
+     * @param reader  Reader used to map the body of a successful response
+     * @param <T>     Type of the value read from the response body
      *
-     * @param session The API session bound to this request
+     * @return Future which will be completed with the response as read by the given reader or exceptionally with an
+     *         {@link APIException} in case of an error
      */
-    void setSession(APISession session) {
-        this.session = session;
+    <T> CompletableFuture<T> invokeRequestAsync(APIRequest request, ResponseReader<T> reader) {
+        return sendRequestAsync(request, reader, 0);
     }
 
     /**
-     * Specifies the remote endpoint (URI) to which the request should be addressed to. Typically, this is the
-     * <i>TheTVDB.com</i> RESTful API, but it may also be set to some proxy for example.
+     * Invokes the given request asynchronously. Like its blocking counterpart, this method will automatically try to
+     * authorize the underlying session if the remote service responds with an HTTP-401 status and will then invoke the
+     * request again. The authorization itself will be performed by a thread of the configured executor.
      *
-     * @param remote The remote endpoint used for API communication
+     * @param request The request to be invoked
+     * @param reader  Reader used to map the body of a successful response
+     * @param attempt The number of previous attempts to invoke this request
+     * @param <T>     Type of the value read from the response body
+     *
+     * @return Future which will be completed with the response as read by the given reader or exceptionally with an
+     *         {@link APIException} in case of an error
      */
-    void setRemoteAPI(@Nonnull RemoteAPI remote) {
-        this.remoteAPI = remote;
+    private <T> CompletableFuture<T> sendRequestAsync(APIRequest request, ResponseReader<T> reader, int attempt) {
+        if (attempt >= MAX_AUTHENTICATION_RETRY_COUNT) {
+            return CompletableFuture.failedFuture(
+                    new APINotAuthorizedException(
+                            String.format(ERR_MAX_RETRY_EXCEEDED, MAX_AUTHENTICATION_RETRY_COUNT)));
+        }
+
+        request.setSession(session);
+        request.setRemoteAPI(remoteAPI);
+        request.setTimeouts(connectTimeout, readTimeout);
+        request.setMetricsRecorder(metricsRecorder);
+        try {
+            request.checkDeadline(Duration.ZERO);
+        } catch (APITimeoutException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+
+        // Remember the token used for this attempt in order to detect whether it has been renewed in the meantime
+        Optional<String> token = session.getToken();
+        CompletableFuture<T> response = checkToken()
+                .<CompletableFuture<T>>map(error -> CompletableFuture
+                        .failedFuture(new APINotAuthorizedException(error)))
+                .orElseGet(() -> pipeline.sendAsync(request, reader));
+
+        return response.exceptionallyComposeAsync(error -> {
+            Throwable cause = APIRequest.unwrap(error);
+            if (!(cause instanceof APINotAuthorizedException)) {
+                return CompletableFuture.failedFuture(cause);
+            }
+            try {
+                // If the session is not yet authorized try to request a new token
+                authorizeSession(request, token, request.getDeadline());
+            } catch (APIException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+            return sendRequestAsync(request, reader, attempt + 1);
+        }, executor);
     }
 
+
+
     /**
-     * Performs the actual request invocation by opening a connection to an API resource, processing the actual response
-     * data and finally closing the connection. Subclasses may hook into this process by implementing the
-     * {@link #prepareRequest(HttpsURLConnection) prepareRequest(connection)} method which allows for additional request
-     * specific preparation.
+     * Tries to authorize the underlying API session in case it has not yet been initialized or the original
+     * authorization has expired. The authorization is performed as single-flight: concurrent invocations will wait for
+     * an ongoing authorization to complete. If the session has been authorized with a new token in the meantime, no
+     * additional authorization will be performed so that the rejected request can simply be retried.
      *
-     * @return Raw JSON as received from the remote service
+     * @param request       The request on whose behalf the session is authorized. Might be <em>{@code null}</em>.
+     * @param rejectedToken The token that has been used for the request which was rejected by the remote service
+     * @param deadline      Deadline of the API call on whose behalf the session is authorized (optional). The call will
+     *                      neither wait for an ongoing authorization nor for the login request beyond this deadline.
      *
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
-     *                      not found, etc.
+     *                      not found, etc. or if the underlying session is not in a proper state to initialize the
+     *                      authorization
      */
-    final JsonNode send() throws APIException {
-        HttpsURLConnection con = null;
-
+    private void authorizeSession(@CheckForNull APIRequest request, Optional<String> rejectedToken,
+            Optional<Deadline> deadline) throws APIException {
+        lockAuthorization(deadline);
+        deadline.ifPresent(AUTHORIZATION_DEADLINE::set);        // Inherited by the login request
         try {
-            // Create new HTTP connection to the remove service
-            con = openConnection();
-
-            // Special preparations for the request to send, e.g. specific connection settings, body for POST request,...
-            prepareRequest(con);
-
-            // Parse response from HTTP connection
-            return getResponse(con);
-        } catch (IOException ex) {
-            throw new APICommunicationException(String.format(ERR_SEND, requestMethod), ex);
+            switch (session.getStatus()) {
+                case AUTHORIZED:
+                    if (!session.getToken().equals(rejectedToken)) {
+                        break;          // Token has been renewed by another request in the meantime: just retry
+                    }
+                    // Fall through: Authorization expired
+                case NOT_AUTHORIZED:
+                    if (request != null) {
+                        request.onLogin();
+                    }
+                    LoginAPI.login(this);    // Not yet authorized or authorization expired: Request a new token
+                    break;
+                default:
+                    // Authorization is already in progress but could not be completed. Do not retry to authorize this session
+                    // again but abort processing and notify the calling instance that the session could not be authorized.
+                    session.setStatus(NOT_AUTHORIZED);
+                    throw new APINotAuthorizedException("Remote API authorization failed: Please check your API key and login credentials");
+            }
         } finally {
-            disconnect(con);
+            AUTHORIZATION_DEADLINE.remove();
+            authorizationLock.unlock();
         }
     }
 
     /**
-     * Opens a new HTTPS connection to the resource URI of this request using a specific request method. The returned
-     * connection comes with some common configuration regarding content types and Bearer authentication.
+     * Acquires the lock for the authorization of the underlying session, waiting for an ongoing authorization to
+     * complete if necessary. If a deadline is given, the current thread will not wait beyond this deadline.
      *
-     * @return A preconfigured HTTPS connection pointing to some remote API endpoint
+     * @param deadline Deadline by which the lock has to be acquired (optional)
      *
-     * @throws IOException Thrown in case of communication issues like malformed URL, invalid request method, etc.
+     * @throws APIException If the deadline expired or the thread has been interrupted while waiting for the lock
      */
-    @SuppressWarnings("java:S3655")    // Auth process guarantees that a session in status AUTHORIZED has a valid token
-    private HttpsURLConnection openConnection() throws IOException {
-        Preconditions.requireNonNull(remoteAPI, "No remote endpoint specified");
-        Preconditions.requireNonEmpty(resource, "No API resource specified");
-        Preconditions.requireNonNull(requestMethod, "No HTTP request method specified");
-
-        HttpsURLConnection con = (HttpsURLConnection)remoteAPI.forResource(resource).openConnection();
-
-        // POST, GET, DELETE, PUT,...
-        con.setRequestMethod(requestMethod.getName());
-
-        // Request properties for API
-        con.setRequestProperty(CONTENT_TYPE, "application/json; charset=utf-8");
-        con.setRequestProperty(ACCEPT, "application/json, application/vnd.thetvdb." + API_VERSION);
-        con.setRequestProperty(ACCEPT_ENCODING, "gzip");
-        con.setRequestProperty(USER_AGENT, "Mozilla/5.0");
-        if (session != null && session.isInitialized()) {
-            // If session has already been initialized, add token information and language key to each request
-            con.setRequestProperty(AUTHORIZATION, "Bearer " + session.getToken().get());
-            con.setRequestProperty(ACCEPT_LANGUAGE, session.getLanguage());
+    private void lockAuthorization(Optional<Deadline> deadline) throws APIException {
+        if (deadline.isEmpty()) {
+            authorizationLock.lock();
+            return;
         }
 
-        return con;
+        try {
+            if (!authorizationLock.tryLock(deadline.get().remaining().toNanos(), TimeUnit.NANOSECONDS)) {
+                throw deadline.get().exceeded();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new APICommunicationException(ERR_AUTHORIZATION_INTERRUPTED, ex);
+        }
     }
 
     /**
-     * Evaluates the status code and parses the response content accordingly. In case of HTTP-200 the content from the
-     * responses <b>input</b> stream will be parsed and returned as raw JSON object. For other status codes the content
-     * from the <b>error</b> stream will be parsed and mapped into a corresponding exception type or a general
-     * {@link APICommunicationException} for unhandled status codes.
+     * Checks whether the underlying session should be authorized before sending any request. This is the case if the
+     * session has been authorized with a token which is known to be expired, as requests using this token would be
+     * rejected by the remote service anyway. Sessions sharing their token via a token store should also be authorized
+     * before sending their first request, as a valid token might already be available in the store.
      *
-     * @param con Fully initialized HTTPS connection pointing to some remote service endpoint
-     *
-     * @return Parsed response content as raw JSON in case of HTTP-200 status. For all other status codes an exception
-     *         will be thrown
-     *
-     * @throws APIException Thrown if a response with a status code other than HTTP-200 was received
-     * @throws IOException  Thrown if an error occurred connecting to the server
+     * @return The reason why the session should be authorized or an empty Optional if requests may be sent right away
      */
-    private JsonNode getResponse(@Nonnull HttpsURLConnection con) throws APIException, IOException {
-        int responseCode = con.getResponseCode();
-
-        switch (responseCode) {
-            case HttpURLConnection.HTTP_OK:
-                return getData(con);
-            case HttpURLConnection.HTTP_UNAUTHORIZED:
-                throw new APINotAuthorizedException(getError(con));
-            case HttpURLConnection.HTTP_NOT_FOUND:
-                throw new APIException(API_NOT_FOUND_ERROR, getError(con));
-            case HttpURLConnection.HTTP_BAD_METHOD:
-                throw new APIException(API_BAD_METHOD_ERROR, getBadMethodError(con));
-            case HttpURLConnection.HTTP_CONFLICT:
-                throw new APIException(API_CONFLICT_ERROR, getError(con));
-            case HttpURLConnection.HTTP_UNAVAILABLE:
-                throw new APIException(API_SERVICE_UNAVAILABLE);
-            default:
-                throw new APICommunicationException(String
-                        .format(ERR_UNEXPECTED_RESPONSE, responseCode, getError(con)));
+    private Optional<String> checkToken() {
+        if (session.isInitialized()) {
+            return session.isTokenExpired() ? Optional.of(ERR_TOKEN_EXPIRED) : Optional.empty();
         }
+        return session.getStatus() == NOT_AUTHORIZED && session.isTokenShared() ? Optional.of(ERR_TOKEN_MISSING)
+                : Optional.empty();
     }
 
     /**
-     * Should only be invoked in case of HTTP-405 status response. Fetches the error message from the connections
-     * <b>error</b> stream and returns it. According to the HTTP-405 status code specification, the server MUST
-     * generate an "Allow" header field in a 405 response containing a list of the target resource's currently supported
-     * methods. These supported methods will - if available - be prepended to the end of the actual error message.
-     *
-     * @param con Fully initialized connection that has returned an HTTP-405 error status code
-     *
-     * @return Content from the error stream plus all available values from the responses Allow header as String
+     * Schedules the renewal of the given session token, replacing any renewal scheduled for a previous token. The token
+     * will be renewed in the background by a thread of the configured executor, the configured margin before it
+     * expires. Nothing will be scheduled if no margin has been configured, if the expiration time of the token is
+     * unknown or if the token expires within the margin anyway.
      *
-     * @throws IOException Thrown if an I/O error occurs while creating the input stream or fetching the error data
+     * @param token The session token to be renewed
      */
-    private static String getBadMethodError(HttpsURLConnection con) throws IOException {
-        String allowedMethods = con.getHeaderFields().getOrDefault(ALLOW, Collections.emptyList())
-                .stream().sorted().collect(joining(", ", "[", "]"));
-        return String.format("%s - Response Allow header: %s", getError(con), allowedMethods);
+    private void scheduleRefresh(String token) {
+        if (tokenRefreshMargin == null) {
+            return;
+        }
+
+        scheduleRefresh(token, 0, session.getTokenExpiration()
+                .map(expiration -> Duration.between(Instant.now(), expiration.minus(tokenRefreshMargin)))
+                .filter(Duration::isPositive)
+                .orElse(null));
     }
 
     /**
-     * Fetches the error message from the connections <b>error</b> stream and returns it
-     *
-     * @param con Fully initialized connection that has returned some HTTP error status code
+     * Schedules another attempt to renew the given session token after a renewal failed. The attempts are delayed with
+     * an exponential backoff, but always take place within half of the time remaining until the token expires. Nothing
+     * will be scheduled once the token has expired.
      *
-     * @return Content from the error stream as String
-     *
-     * @throws IOException Thrown if an I/O error occurs while creating the input stream or fetching the error data
+     * @param token   The session token to be renewed
+     * @param attempt The number of renewals which already failed
      */
-    private static String getError(@Nonnull HttpsURLConnection con) throws IOException {
-        JsonNode response = parseResponseJsonData(con, HttpsURLConnection::getErrorStream);
-        return response.has(API_ERROR) ? response.get(API_ERROR).asText("") : "n/a";
+    private void scheduleRetry(String token, int attempt) {
+        scheduleRefresh(token, attempt, session.getTokenExpiration()
+                .map(expiration -> Duration.between(Instant.now(), expiration).dividedBy(2))
+                .filter(Duration::isPositive)
+                .map(remaining -> {
+                    Duration backoff = REFRESH_RETRY_DELAY.multipliedBy(1L << Math.min(attempt - 1, 16));
+                    return backoff.compareTo(remaining) < 0 ? backoff : remaining;
+                }).orElse(null));
     }
 
     /**
-     * Parses the response data from the given connection as JSON and returns it. If the response JSON content is
-     * gzip-encoded it will be decompressed first.
-     *
-     * @param con                Fully initialized connection from which the data should be parsed
-     * @param dataStreamFunction The response data input stream to parse the JSON from
+     * Schedules the renewal of the given session token after the given delay. Only one renewal will be pending at any
+     * time: a previously scheduled renewal will be cancelled. Nothing will be scheduled once this connection has been
+     * closed.
      *
-     * @return Content from the given response data input stream parsed as JSON object
-     *
-     * @throws IOException Thrown if an I/O error occurs while parsing the JSON data
+     * @param token   The session token to be renewed
+     * @param attempt The number of renewals which already failed
+     * @param delay   The time to wait before renewing the token or <em>{@code null}</em> to not renew it at all
      */
-    private static JsonNode parseResponseJsonData(HttpsURLConnection con,
-            ThrowableFunctionalInterfaces.Function<HttpsURLConnection, InputStream, IOException> dataStreamFunction)
-            throws IOException {
-        // According to the HTTP/1.1 specification, HEAD methods must not return a message-body in the response. In
-        // order to harden the implementation we return an empty JsonNode instead of a null-value.
-        InputStream responseDataStream = Optional.ofNullable(dataStreamFunction.apply(con))
-                .orElseGet(() -> new ByteArrayInputStream("{}".getBytes(UTF_8)));
-
-        if ("gzip".equals(con.getHeaderField(CONTENT_ENCODING))) {
-            responseDataStream = new GZIPInputStream(responseDataStream);
+    private void scheduleRefresh(String token, int attempt, @CheckForNull Duration delay) {
+        ScheduledFuture<?> refresh = delay == null || closed ? null : REFRESH_SCHEDULER
+                .schedule(new TokenRefresh(this, token, attempt), delay.toNanos(), TimeUnit.NANOSECONDS);
+        ScheduledFuture<?> previous = tokenRefresh.getAndSet(refresh);
+        if (previous != null) {
+            previous.cancel(false);
         }
-
-        ObjectMapper mapper = new ObjectMapper();
-        try (JsonParser parser = mapper.getFactory().createParser(responseDataStream)) {
-            return mapper.readTree(parser);
+        if (closed && refresh != null) {
+            refresh.cancel(false);          // Closed concurrently, after the pending renewal has been cancelled
         }
     }
 
     /**
-     * Provides the option for additional request specific preparation. The default implementation does <b>not</b>
-     * perform any additional preparations. However, subclasses may overwrite this method and use the given connection
-     * in order to apply specific preparations like for example, pushing additional payload for <em>{@code POST}</em>
-     * requests. Still, the provided connection will already contain some basic configuration that should be sufficient
-     * for most of the request types without the need of any further preparations.
+     * Renews the given session token by requesting a new token from the remote service. The session will remain
+     * authorized during the renewal, so that concurrent requests continue to use the current token until the new token
+     * has been issued. Nothing will be done if the token has already been replaced in the meantime, e.g. by an
+     * on-demand authorization. If the renewal fails, it will be retried as long as the token has not expired.
      *
-     * @param con New HTTPS connection with some basic configuration already applied
-     *
-     * @throws IOException Thrown in case an I/O error occurred while performing request specific preparations
+     * @param token   The session token to be renewed
+     * @param attempt The number of renewals which already failed
      */
-    void prepareRequest(@Nonnull HttpsURLConnection con) throws IOException {
-        // No default preparation. Overwrite this method in any subclass to add type specific request preparations.
+    private void refreshSession(String token, int attempt) {
+        authorizationLock.lock();
+        try {
+            if (session.isInitialized() && session.getToken().filter(token::equals).isPresent()) {
+                LoginAPI.refresh(this);
+            }
+        } catch (APIException ex) {
+            scheduleRetry(token, attempt + 1);      // Keep the current token meanwhile, it may still be used
+        } finally {
+            authorizationLock.unlock();
+        }
     }
 
     /**
-     * Parses the data from the connections <b>input</b> stream as JSON and returns it
-     *
-     * @param con Fully initialized connection that has returned an HTTP-200 status
-     *
-     * @return Content from the input stream mapped as JSON object
+     * Creates the shared scheduler triggering the background renewal of session tokens. Cancelled renewals will be
+     * removed from the scheduler right away.
      *
-     * @throws IOException Thrown if an I/O error occurs while creating the input stream or parsing the JSON data
+     * @return New scheduler running on a single daemon thread
      */
-    JsonNode getData(@Nonnull HttpsURLConnection con) throws IOException {
-        return parseResponseJsonData(con, HttpsURLConnection::getInputStream);
+    private static ScheduledThreadPoolExecutor createRefreshScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "thetvdb-api-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
     }
-}
-
-/**
- * Implementation for an API <em>{@code GET}</em> request
- * <p><br>
- * Invokes a specific remote service resource via the HTTP GET request method
- */
-final class GetRequest extends APIRequest {
 
     /**
-     * Creates a new <em>{@code GET}</em> request for the given resource
-     *
-     * @param resource Remote service resource to be invoked
+     * Scheduled renewal of a session token. The connection is only referenced weakly, so that the renewal will simply
+     * be skipped if the connection has been discarded in the meantime. The renewal itself will be performed by the
+     * executor of the connection, keeping the shared scheduler available for other renewals.
      */
-    GetRequest(@Nonnull String resource) {
-        super(resource, HttpRequestMethod.GET);
-    }
-}
-
-/**
- * Implementation for an API <em>{@code POST}</em> request
- * <p><br>
- * Invokes a specific remote service resource via the HTTP POST request method. This request type accepts additional
- * payload content to be pushed to the remote endpoint.
- */
-final class PostRequest extends APIRequest {
-
-    /** The requests' payload to be pushed to the remote service */
-    private final String data;
+    private static final class TokenRefresh implements Runnable {
+
+        /** The connection whose session token should be renewed */
+        private final WeakReference<APIConnection> connection;
+
+        /** The session token to be renewed */
+        private final String token;
+
+        /** The number of renewals which already failed */
+        private final int attempt;
+
+        /**
+         * Creates a new renewal of the given session token
+         *
+         * @param connection The connection whose session token should be renewed
+         * @param token      The session token to be renewed
+         * @param attempt    The number of renewals which already failed
+         */
+        private TokenRefresh(APIConnection connection, String token, int attempt) {
+            this.connection = new WeakReference<>(connection);
+            this.token = token;
+            this.attempt = attempt;
+        }
 
-    /**
-     * Creates a new <em>{@code POST}</em> request for the given resource
-     *
-     * @param resource Remote service resource to be invoked
-     * @param data     The actual payload to be pushed to the remote service
-     */
-    PostRequest(@Nonnull String resource, @Nonnull String data) {
-        super(resource, HttpRequestMethod.POST);
-        this.data = data;
+        @Override
+        public void run() {
+            APIConnection con = connection.get();
+            if (con != null && !con.closed) {
+                con.executor.execute(() -> con.refreshSession(token, attempt));
+            }
+        }
     }
 
     /**
-     * Writes the requests' payload into the output stream of the given connection
-     *
-     * @param con New HTTPS connection with some basic configuration already applied
-     *
-     * @throws IOException Thrown if an I/O error occurs while creating the output stream
+     * Stage passing each request on to the {@link #invokeRequest(APIRequest, ResponseReader) authorization} of the
+     * session of the enclosing connection, which then sends the request via the shared pipeline
      */
-    @Override
-    void prepareRequest(@Nonnull HttpsURLConnection con) throws IOException {
-        // Write request body (payload) for POST request
-        Preconditions.requireNonNull(data, "Request payload data is not set");
+    private final class AuthorizingStage implements RequestStage {
 
-        con.setDoOutput(true);
+        @Override
+        public <T> T send(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) throws APIException {
+            return invokeRequest(request, reader);
+        }
 
-        try (OutputStream os = con.getOutputStream()) {
-            os.write(data.getBytes(UTF_8));
-            os.flush();
+        @Override
+        public <T> CompletableFuture<T> sendAsync(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) {
+            return invokeRequestAsync(request, reader);
         }
     }
-}
-
-/**
- * Implementation for an API <em>{@code HEAD}</em> request
- * <p><br>
- * Invokes a specific remote service resource via the HTTP HEAD request method. This request type will not parse any
- * response stream content but only the returned connection headers, assembled into a JSON object.
- */
-final class HeadRequest extends APIRequest {
 
     /**
-     * Creates a new <em>{@code HEAD}</em> request for the given resource
+     * Sender invoking all requests via the enclosing connection and mapping the responses by some specific reader
      *
-     * @param resource Remote service resource to be invoked
+     * @param <T> Type of the value read from the response body
      */
-    HeadRequest(@Nonnull String resource) {
-        super(resource, HttpRequestMethod.HEAD);
-    }
+    private final class ReadingRequestSender<T> implements RequestSender<T> {
+
+        /** Reader used to map the body of successful responses */
+        private final ResponseReader<T> reader;
+
+        /** The time each request may take as a whole (optional) */
+        private final Duration timeout;
+
+        /**
+         * Creates a new sender mapping the responses by the given reader
+         *
+         * @param reader  Reader used to map the body of successful responses
+         * @param timeout The time each request may take as a whole, might be <em>{@code null}</em> if not limited
+         */
+        private ReadingRequestSender(@Nonnull ResponseReader<T> reader, @CheckForNull Duration timeout) {
+            this.reader = reader;
+            this.timeout = timeout;
+        }
 
-    /**
-     * Assembles the response header fields of the given connection into the data node of a JSON object and returns it
-     *
-     * @param con Fully initialized HTTPS connection pointing to some remote service endpoint
-     *
-     * @return Artificial JSON object containing the response header fields
-     */
-    @Override
-    JsonNode getData(@Nonnull HttpsURLConnection con) {
-        // Create JSON object from response header fields
-        JsonNodeFactory factory = new ObjectMapper().getNodeFactory();
-        ObjectNode data = factory.objectNode();
-
-        for (Entry<String, List<String>> header : con.getHeaderFields().entrySet()) {
-            if (header.getKey() == null) {
-                continue;
-            }
+        @Override
+        public T sendGET(@Nonnull String resource) throws APIException {
+            return sendRequest(new GetRequest(resource), reader, timeout);
+        }
 
-            String key = header.getKey();
-            List<String> values = header.getValue();
+        @Override
+        public T sendPOST(@Nonnull String resource, @Nonnull String data) throws APIException {
+            return sendRequest(new PostRequest(resource, data), reader, timeout);
+        }
 
-            if (values.isEmpty()) {
-                data.putNull(key);
-            } else if (values.size() == 1) {
-                data.put(key, values.get(0));
-            } else {
-                ArrayNode arrayNode = factory.arrayNode();
-                values.forEach(arrayNode::add);
-                data.set(key, arrayNode);
-            }
+        @Override
+        public T sendHEAD(@Nonnull String resource) throws APIException {
+            return sendRequest(new HeadRequest(resource), reader, timeout);
         }
 
-        return factory.objectNode().set("data", data);
-    }
-}
+        @Override
+        public T sendDELETE(@Nonnull String resource) throws APIException {
+            return sendRequest(new DeleteRequest(resource), reader, timeout);
+        }
 
-/**
- * Implementation for an API <em>{@code DELETE}</em> request
- * <p><br>
- * Invokes a specific remote service resource via the HTTP DELETE request method
- */
-final class DeleteRequest extends APIRequest {
+        @Override
+        public T sendPUT(@Nonnull String resource) throws APIException {
+            return sendRequest(new PutRequest(resource), reader, timeout);
+        }
+    }
 
     /**
-     * Creates a new <em>{@code DELETE}</em> request for the given resource
+     * Sender invoking all requests asynchronously via the enclosing connection and mapping the responses by some
+     * specific reader
      *
-     * @param resource Remote service resource to be invoked
+     * @param <T> Type of the value read from the response body
      */
-    DeleteRequest(@Nonnull String resource) {
-        super(resource, HttpRequestMethod.DELETE);
-    }
-}
+    private final class AsyncRequestSender<T> implements RequestSender<CompletableFuture<T>> {
+
+        /** Reader used to map the body of successful responses */
+        private final ResponseReader<T> reader;
+
+        /** The time each request may take as a whole (optional) */
+        private final Duration timeout;
+
+        /**
+         * Creates a new asynchronous sender mapping the responses by the given reader
+         *
+         * @param reader  Reader used to map the body of successful responses
+         * @param timeout The time each request may take as a whole, might be <em>{@code null}</em> if not limited
+         */
+        private AsyncRequestSender(@Nonnull ResponseReader<T> reader, @CheckForNull Duration timeout) {
+            this.reader = reader;
+            this.timeout = timeout;
+        }
 
-/**
- * Implementation for an API <em>{@code PUT}</em> request
- * <p><br>
- * Invokes a specific remote service resource via the HTTP PUT request method
- */
-final class PutRequest extends APIRequest {
+        @Override
+        public CompletableFuture<T> sendGET(@Nonnull String resource) {
+            return sendRequestAsync(new GetRequest(resource), reader, timeout);
+        }
 
-    /**
-     * Creates a new <em>{@code PUT}</em> request for the given resource
-     *
-     * @param resource Remote service resource to be invoked
-     */
-    PutRequest(@Nonnull String resource) {
-        super(resource, HttpRequestMethod.PUT);
+        @Override
+        public CompletableFuture<T> sendPOST(@Nonnull String resource, @Nonnull String data) {
+            return sendRequestAsync(new PostRequest(resource, data), reader, timeout);
+        }
+
+        @Override
+        public CompletableFuture<T> sendHEAD(@Nonnull String resource) {
+            return sendRequestAsync(new HeadRequest(resource), reader, timeout);
+        }
+
+        @Override
+        public CompletableFuture<T> sendDELETE(@Nonnull String resource) {
+            return sendRequestAsync(new DeleteRequest(resource), reader, timeout);
+        }
+
+        @Override
+        public CompletableFuture<T> sendPUT(@Nonnull String resource) {
+            return sendRequestAsync(new PutRequest(resource), reader, timeout);
+        }
     }
 }
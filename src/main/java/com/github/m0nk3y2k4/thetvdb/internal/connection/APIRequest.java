@@ -0,0 +1,1475 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import static com.github.m0nk3y2k4.thetvdb.api.TheTVDBApi.Version.API_VERSION;
+import static com.github.m0nk3y2k4.thetvdb.api.exception.APIException.API_BAD_METHOD_ERROR;
+import static com.github.m0nk3y2k4.thetvdb.api.exception.APIException.API_CONFLICT_ERROR;
+import static com.github.m0nk3y2k4.thetvdb.api.exception.APIException.API_NOT_FOUND_ERROR;
+import static com.github.m0nk3y2k4.thetvdb.api.exception.APIException.API_SERVICE_UNAVAILABLE;
+import static com.github.m0nk3y2k4.thetvdb.api.exception.APIException.API_TOO_MANY_REQUESTS_ERROR;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.ACCEPT;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.ACCEPT_ENCODING;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.ACCEPT_LANGUAGE;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.ALLOW;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.AUTHORIZATION;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.CONTENT_ENCODING;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.CONTENT_TYPE;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.ETAG;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.IF_MODIFIED_SINCE;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.IF_NONE_MATCH;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.LAST_MODIFIED;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.RETRY_AFTER;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.USER_AGENT;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.net.ssl.HttpsURLConnection;
+
+import jdk.jfr.EventType;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CachedResponse;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.Transport;
+import com.github.m0nk3y2k4.thetvdb.api.event.APIEventListener;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.api.metrics.MetricsRecorder;
+import com.github.m0nk3y2k4.thetvdb.api.metrics.RequestMetrics;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICommunicationException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APINotAuthorizedException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APIPreconditionException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APIThrottledException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APITimeoutException;
+import com.github.m0nk3y2k4.thetvdb.internal.util.functional.ThrowableFunctionalInterfaces;
+import com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpRequestMethod;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Preconditions;
+
+/**
+ * Abstract base class for API request handling
+ * <p><br>
+ * This class provides common functionality used in the context of HTTP request based API communication. It handles the
+ * invocation of remote resources as well as processing of the received response data. This includes proper
+ * configuration of HTTP connections (request headers), Bearer authentication, response state evaluation, parsing
+ * response data and proper error handling. Requests may either be sent via a new {@link HttpsURLConnection} or via
+ * some shared {@link HttpClient}, depending on the transport configured for the API connection.
+ */
+abstract class APIRequest {
+
+    /** Messages for error/exception handling */
+    static final String ERR_UNEXPECTED_RESPONSE = "Receiver returned an unexpected error: HTTP-%d \nOriginal API error message: %s";
+    static final String ERR_SEND = "An exception occurred while sending %s request to API";
+
+    /** Constants for API error handling */
+    private static final String API_ERROR = "message";
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    /** Shortest timeout handed over to the underlying transport */
+    private static final Duration MIN_TIMEOUT = Duration.ofMillis(1);
+
+    /** Flight recorder event types, checked before creating any events to avoid allocations while not recording */
+    private static final EventType EXCHANGE_EVENT = EventType.getEventType(ExchangeEvent.class);
+    private static final EventType JSON_PARSE_EVENT = EventType.getEventType(JsonParseEvent.class);
+    private static final EventType DECOMPRESSION_EVENT = EventType.getEventType(DecompressionEvent.class);
+
+    /** Shared, unconfigured mapper used for parsing raw JSON responses */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** Reader parsing the response body into a raw JSON object */
+    static final ResponseReader<JsonNode> JSON_TREE = APIRequest::readTree;
+
+    /** Reader copying the response body into its raw, compact JSON representation */
+    static final ResponseReader<byte[]> RAW_CONTENT = APIRequest::copyContent;
+
+    /** Body handler which completes the response not until the whole body has been received */
+    private static final BodyHandler<InputStream> BUFFERED_BODY = responseInfo ->
+            BodySubscribers.mapping(BodySubscribers.ofByteArray(), ByteArrayInputStream::new);
+
+    /** Resource/Route to be called on remote service */
+    private final String resource;
+
+    /** HTTP request method to be used for this request */
+    private final HttpRequestMethod requestMethod;
+
+    /** Session for remote API authentication */
+    private APISession session;
+
+    /** Remote endpoint used for API communication */
+    private RemoteAPI remoteAPI;
+
+    /** Expired response to be revalidated via this request (optional) */
+    private CachedResponse revalidated;
+
+    /** Validators returned by the remote service along with a successful response */
+    private String responseETag;
+    private String responseLastModified;
+
+    /** Whether the remote service confirmed that the revalidated response has not been modified */
+    private boolean notModified;
+
+    /** Whether this request has been cancelled as its response is no longer required */
+    private volatile boolean cancelled;
+
+    /** Ongoing asynchronous exchange with the remote service (only used for {@link Transport#HTTP_CLIENT}) */
+    private volatile CompletableFuture<?> exchange;
+
+    /** Deadline of the API call on whose behalf this request is sent (optional) */
+    private Deadline deadline;
+
+    /** Timeouts for establishing the connection and for receiving the response (optional) */
+    private Duration connectTimeout;
+    private Duration readTimeout;
+
+    /** Whether the timeouts of the current exchange have been shortened to the time remaining until the deadline */
+    private volatile boolean limitedByDeadline;
+
+    /** Recorder to which the metrics of each exchange will be reported (optional) */
+    private MetricsRecorder metricsRecorder;
+
+    /** Meter measuring the current exchange, only present if a metrics recorder has been set or if recorded by JFR */
+    private ExchangeMeter meter;
+
+    /** Flight recorder event of the current exchange, only present if the event is enabled */
+    private ExchangeEvent exchangeEvent;
+
+    /** Whether the response of the current exchange has been read successfully */
+    private boolean exchangeSucceeded;
+
+    /** Listener observing the API call on whose behalf this request is sent (optional) */
+    private APIEventListener eventListener;
+
+    /** ID correlating all events of the observed API call, only assigned if an event listener has been set */
+    private long correlationId;
+
+    /** Whether the listener has already been notified about the response headers of the current exchange */
+    private boolean headersReceived;
+
+    /**
+     * Creates a new request for the given resource using the given request method
+     *
+     * @param resource      The remote resource to be invoked
+     * @param requestMethod The HTTP request method to be used for this request
+     */
+    APIRequest(@Nonnull String resource, @Nonnull HttpRequestMethod requestMethod) {
+        Parameters.validateNotEmpty(resource, "API resource must not be NULL or empty");
+        Parameters.validateNotNull(requestMethod, "HTTP request method must not be NULL");
+
+        this.resource = resource;
+        this.requestMethod = requestMethod;
+    }
+
+    /**
+     * Disconnects the given connection if present
+     *
+     * @param con The connection to be disconnected
+     */
+    private static void disconnect(@CheckForNull HttpsURLConnection con) {
+        Optional.ofNullable(con).ifPresent(HttpsURLConnection::disconnect);
+    }
+
+    /**
+     * Returns the actual cause of the given error if it is a {@link CompletionException} wrapping some other exception
+     *
+     * @param error Error by which some asynchronous request has been completed exceptionally
+     *
+     * @return The underlying cause of the given error or the error itself if it is not wrapping another exception
+     */
+    static Throwable unwrap(@Nonnull Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Streams the given raw response content into the given reader and returns the result
+     *
+     * @param content The raw content of some successful response, e.g. as read by {@link #RAW_CONTENT}
+     * @param reader  Reader used to map the response content
+     * @param <T>     Type of the value read from the response content
+     *
+     * @return The given content as read by the given reader
+     *
+     * @throws APIException If the content could not be mapped by the given reader
+     */
+    static <T> T readContent(@Nonnull byte[] content, @Nonnull ResponseReader<T> reader) throws APIException {
+        try (JsonParser parser = MAPPER.getFactory().createParser(content)) {
+            return reader.read(parser);
+        } catch (IOException ex) {
+            throw new APIException("Unable to read response content", ex);
+        }
+    }
+
+    /**
+     * Returns the resource to be invoked by this request
+     *
+     * @return The remote resource of this request
+     */
+    String getResource() {
+        return resource;
+    }
+
+    /**
+     * Returns the route family of this request, which is the first segment of its resource path, e.g.
+     * <em>{@code /series}</em> for the resource <em>{@code /series/1234/extended}</em>
+     *
+     * @return The route family of this request
+     */
+    String getRouteFamily() {
+        String path = resource.split("\\?", 2)[0];
+        int end = path.indexOf('/', 1);
+        return end < 0 ? path : path.substring(0, end);
+    }
+
+    /**
+     * Returns the route template of this request, which is its resource path with all resource specific segments
+     * replaced by their wildcards, e.g. <em>{@code /series/{id}/extended}</em> for the resource
+     * <em>{@code /series/1234/extended}</em>
+     *
+     * @return The route template of this request
+     */
+    String getRouteTemplate() {
+        return toRouteTemplate(resource);
+    }
+
+    /**
+     * Returns the route template of the given resource, which is its resource path with all resource specific segments
+     * replaced by their wildcards
+     *
+     * @param resource A remote API resource
+     *
+     * @return The route template of the resource
+     */
+    static String toRouteTemplate(@Nonnull String resource) {
+        String[] segments = resource.split("\\?", 2)[0].split("/", -1);
+        for (int i = 2; i < segments.length; i++) {
+            segments[i] = toWildcard(segments[i], segments[i - 1]);
+        }
+        return String.join("/", segments);
+    }
+
+    /**
+     * Returns the wildcard of the given path segment if the segment is resource specific. Numeric segments are IDs,
+     * whereas the segments following a translation or a season type are languages and the segments following a list of
+     * episodes are season types.
+     *
+     * @param segment  A path segment of the resource of this request
+     * @param previous The preceding path segment, already replaced by its wildcard if resource specific
+     *
+     * @return The wildcard of the given segment or the segment itself if it is not resource specific
+     */
+    private static String toWildcard(String segment, String previous) {
+        if (!segment.isEmpty() && segment.chars().allMatch(Character::isDigit)) {
+            return "{id}";
+        }
+        return switch (previous) {
+            case "translations", "{season-type}" -> "{language}";
+            case "episodes" -> "{season-type}";
+            default -> segment;
+        };
+    }
+
+    /**
+     * Returns the HTTP request method to be used for this request
+     *
+     * @return The request method of this request
+     */
+    HttpRequestMethod getRequestMethod() {
+        return requestMethod;
+    }
+
+    /**
+     * Associates this request with an underlying communication session. Most of the requests require an initialized
+     * session to be used for remote service authentication.
+     *
+     * @param session The API session bound to this request
+     */
+    void setSession(APISession session) {
+        this.session = session;
+    }
+
+    /**
+     * Specifies the remote endpoint (URI) to which the request should be addressed to. Typically, this is the
+     * <i>TheTVDB.com</i> RESTful API, but it may also be set to some proxy for example.
+     *
+     * @param remote The remote endpoint used for API communication
+     */
+    void setRemoteAPI(@Nonnull RemoteAPI remote) {
+        this.remoteAPI = remote;
+    }
+
+    /**
+     * Sets the timeouts to be used when sending this request. Timeouts which have not been set will be left to the
+     * default of the underlying transport. If this request has a deadline, the timeouts will be limited by the time
+     * remaining until the deadline expires.
+     *
+     * @param connectTimeout The timeout for establishing the connection, might be <em>{@code null}</em>
+     * @param readTimeout    The timeout for receiving the response, might be <em>{@code null}</em>
+     */
+    void setTimeouts(@CheckForNull Duration connectTimeout, @CheckForNull Duration readTimeout) {
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Sets the recorder to which the metrics of each exchange sent via this request should be reported
+     *
+     * @param metricsRecorder The metrics recorder, might be <em>{@code null}</em> if no metrics should be recorded
+     */
+    void setMetricsRecorder(@CheckForNull MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    /**
+     * Lets the given listener observe the API call on whose behalf this request is sent and notifies it about the start
+     * of the call
+     *
+     * @param eventListener The listener to be notified about the lifecycle events of the call
+     * @param correlationId The ID correlating all events of the call
+     */
+    void observe(@Nonnull APIEventListener eventListener, long correlationId) {
+        this.eventListener = eventListener;
+        this.correlationId = correlationId;
+        eventListener.onRequestStart(correlationId, requestMethod.getName(), resource);
+    }
+
+    /**
+     * Notifies the event listener, if any, that this request will be retried after the given delay
+     *
+     * @param retry The number of the upcoming retry, starting with 1
+     * @param delay The time to wait before sending the retry
+     * @param cause The error by which the previous attempt failed
+     */
+    void onRetry(int retry, @Nonnull Duration delay, @Nonnull APIException cause) {
+        if (eventListener != null) {
+            eventListener.onRetry(correlationId, resource, retry, delay, cause);
+        }
+    }
+
+    /**
+     * Notifies the event listener, if any, that the session has to log in again before this request can be sent
+     */
+    void onLogin() {
+        if (eventListener != null) {
+            eventListener.onLogin(correlationId, resource);
+        }
+    }
+
+    /**
+     * Notifies the event listener, if any, that the response to this request has been deserialized
+     */
+    void onDeserialized() {
+        if (eventListener != null) {
+            eventListener.onDeserialized(correlationId, resource);
+        }
+    }
+
+    /**
+     * Notifies the event listener, if any, that the API call on whose behalf this request has been sent failed
+     *
+     * @param error The error by which the call failed
+     */
+    void onFailure(@Nonnull Throwable error) {
+        if (eventListener != null) {
+            eventListener.onFailure(correlationId, resource, error);
+        }
+    }
+
+    /**
+     * Sets the deadline of the API call on whose behalf this request is sent
+     *
+     * @param deadline The deadline of the API call, might be <em>{@code null}</em> if the call is not limited
+     */
+    void setDeadline(@CheckForNull Deadline deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Returns the deadline of the API call on whose behalf this request is sent
+     *
+     * @return The deadline of the API call or an empty Optional if the call is not limited
+     */
+    Optional<Deadline> getDeadline() {
+        return Optional.ofNullable(deadline);
+    }
+
+    /**
+     * Checks whether the API call on whose behalf this request is sent would still be in time after waiting for the
+     * given delay. Requests without deadline will always be in time.
+     *
+     * @param delay The time to wait before proceeding with the request
+     *
+     * @throws APITimeoutException If the deadline of the API call expires before the delay has elapsed
+     */
+    void checkDeadline(@Nonnull Duration delay) throws APITimeoutException {
+        if (deadline != null) {
+            deadline.check(delay);
+        }
+    }
+
+    /**
+     * Checks whether the API call on whose behalf this request is sent has enough time left to send this request once
+     * more, i.e. at least the shortest timeout handed over to the transport. Requests without deadline may always be
+     * sent again.
+     *
+     * @throws APITimeoutException If the deadline of the API call has been exceeded or is about to expire
+     */
+    void checkRetryable() throws APITimeoutException {
+        checkDeadline(MIN_TIMEOUT);
+    }
+
+    /**
+     * Turns this request into a conditional request revalidating the given expired response. The validators of the
+     * response will be sent via the <em>{@code If-None-Match}</em> and <em>{@code If-Modified-Since}</em> headers. If
+     * the remote service replies with an HTTP-304 status, the content of the given response will be read instead of
+     * the response body.
+     *
+     * @param response The expired response to be revalidated
+     */
+    void revalidate(@Nonnull CachedResponse response) {
+        this.revalidated = response;
+    }
+
+    /**
+     * Returns whether the remote service confirmed that the revalidated response has not been modified, i.e. whether
+     * the request has been answered with an HTTP-304 status
+     *
+     * @return True if the revalidated response is still up-to-date
+     */
+    boolean isNotModified() {
+        return notModified;
+    }
+
+    /**
+     * Returns the value of the <em>{@code ETag}</em> header returned along with the last successful response
+     *
+     * @return The entity tag of the response or an empty Optional if no such header has been returned
+     */
+    Optional<String> getResponseETag() {
+        return Optional.ofNullable(responseETag);
+    }
+
+    /**
+     * Returns the value of the <em>{@code Last-Modified}</em> header returned along with the last successful response
+     *
+     * @return The last modification date of the response or an empty Optional if no such header has been returned
+     */
+    Optional<String> getResponseLastModified() {
+        return Optional.ofNullable(responseLastModified);
+    }
+
+    /**
+     * Associates the given copy of this request with the same session, remote endpoint, timeouts, deadline, metrics
+     * recorder and event listener and lets it revalidate the same expired response, if any. The copy will report its
+     * events using the correlation ID of this request.
+     *
+     * @param copy A new request for the same resource using the same request method
+     * @param <R>  Type of the copy
+     *
+     * @return The given copy
+     */
+    <R extends APIRequest> R shareContext(@Nonnull R copy) {
+        APIRequest target = copy;
+        target.session = session;
+        target.remoteAPI = remoteAPI;
+        target.revalidated = revalidated;
+        target.deadline = deadline;
+        target.connectTimeout = connectTimeout;
+        target.readTimeout = readTimeout;
+        target.metricsRecorder = metricsRecorder;
+        target.eventListener = eventListener;
+        target.correlationId = correlationId;
+        return copy;
+    }
+
+    /**
+     * Takes over the outcome of the given copy which has been sent on behalf of this request. This includes the
+     * validators returned along with the response and whether the revalidated response has not been modified.
+     *
+     * @param copy The copy whose response is used as response to this request
+     */
+    void adoptResponse(@Nonnull APIRequest copy) {
+        this.responseETag = copy.responseETag;
+        this.responseLastModified = copy.responseLastModified;
+        this.notModified = copy.notModified;
+    }
+
+    /**
+     * Cancels this request as its response is no longer required. Asynchronous exchanges via HTTP client will be
+     * aborted. Requests sent via URL connection can not be aborted but their response will be discarded.
+     */
+    void cancel() {
+        cancelled = true;
+        Optional.ofNullable(exchange).ifPresent(ongoing -> ongoing.cancel(true));
+    }
+
+    /**
+     * Returns whether this request has been cancelled
+     *
+     * @return True if the response to this request is no longer required
+     */
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Performs the actual request invocation by opening a connection to an API resource, processing the actual response
+     * data and finally closing the connection. Subclasses may hook into this process by implementing the
+     * {@link #prepareRequest(HttpsURLConnection) prepareRequest(connection)} method which allows for additional request
+     * specific preparation.
+     *
+     * @return Raw JSON as received from the remote service
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
+     *                      not found, etc.
+     */
+    final JsonNode send() throws APIException {
+        return send(JSON_TREE);
+    }
+
+    /**
+     * Performs the actual request invocation by opening a connection to an API resource, streaming the response data
+     * into the given reader and finally closing the connection. Subclasses may hook into this process by implementing
+     * the {@link #prepareRequest(HttpsURLConnection) prepareRequest(connection)} method which allows for additional
+     * request specific preparation.
+     *
+     * @param reader Reader used to map the body of a successful response
+     * @param <T>    Type of the value read from the response body
+     *
+     * @return The response as read by the given reader
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
+     *                      not found, etc.
+     */
+    final <T> T send(@Nonnull ResponseReader<T> reader) throws APIException {
+        HttpsURLConnection con = null;
+
+        try {
+            // Create new HTTP connection to the remove service
+            startExchange();
+            con = openConnection();
+
+            // Special preparations for the request to send, e.g. specific connection settings, body for POST request,...
+            prepareRequest(con);
+            onConnectionAcquired(con);
+
+            // Parse response from HTTP connection
+            return completeExchange(getResponse(con, reader));
+        } catch (IOException ex) {
+            throw communicationError(ex);
+        } finally {
+            disconnect(con);
+            finishExchange();
+        }
+    }
+
+    /**
+     * Performs the actual request invocation via the given HTTP client and processes the response data. The underlying
+     * connection will be managed by the client and may be reused for subsequent requests. Subclasses may hook into this
+     * process by implementing the {@link #prepareRequest(HttpRequest.Builder) prepareRequest(builder)} method which
+     * allows for additional request specific preparation.
+     *
+     * @param client The HTTP client used to send the request
+     *
+     * @return Raw JSON as received from the remote service
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
+     *                      not found, etc.
+     */
+    final JsonNode send(@Nonnull HttpClient client) throws APIException {
+        return send(client, JSON_TREE);
+    }
+
+    /**
+     * Performs the actual request invocation via the given HTTP client and streams the response data into the given
+     * reader. The underlying connection will be managed by the client and may be reused for subsequent requests.
+     * Subclasses may hook into this process by implementing the
+     * {@link #prepareRequest(HttpRequest.Builder) prepareRequest(builder)} method which allows for additional request
+     * specific preparation.
+     *
+     * @param client The HTTP client used to send the request
+     * @param reader Reader used to map the body of a successful response
+     * @param <T>    Type of the value read from the response body
+     *
+     * @return The response as read by the given reader
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
+     *                      not found, etc.
+     */
+    final <T> T send(@Nonnull HttpClient client, @Nonnull ResponseReader<T> reader) throws APIException {
+        try {
+            // Create new HTTP request for the remote service
+            startExchange();
+            HttpRequest.Builder request = newRequest();
+
+            // Special preparations for the request to send, e.g. body for POST request,...
+            prepareRequest(request);
+            HttpRequest httpRequest = request.build();
+            onConnectionAcquired(httpRequest);
+
+            // Parse response received via the HTTP client
+            HttpResponse<InputStream> response = client.send(httpRequest, BodyHandlers.ofInputStream());
+            try (InputStream ignored = response.body()) {
+                return completeExchange(getResponse(response, reader));
+            }
+        } catch (IOException ex) {
+            throw communicationError(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new APICommunicationException(String.format(ERR_SEND, requestMethod), ex);
+        } finally {
+            finishExchange();
+        }
+    }
+
+    /**
+     * Performs the actual request invocation asynchronously via the given HTTP client. The request will be sent via
+     * non-blocking I/O and the returned future will not be completed until the whole response body has been received.
+     * The response data will then be read by the given reader, using the given executor. Subclasses may hook into this
+     * process by implementing the {@link #prepareRequest(HttpRequest.Builder) prepareRequest(builder)} method which
+     * allows for additional request specific preparation.
+     *
+     * @param client   The HTTP client used to send the request
+     * @param executor Executor used to process the response data
+     * @param reader   Reader used to map the body of a successful response
+     * @param <T>      Type of the value read from the response body
+     *
+     * @return Future which will be completed with the response as read by the given reader or exceptionally with an
+     *         {@link APIException} in case of an error
+     */
+    final <T> CompletableFuture<T> sendAsync(@Nonnull HttpClient client, @Nonnull Executor executor,
+            @Nonnull ResponseReader<T> reader) {
+        HttpRequest request;
+        try {
+            // Create and prepare new HTTP request for the remote service
+            HttpRequest.Builder builder = newRequest();
+            prepareRequest(builder);
+            request = builder.build();
+            onConnectionAcquired(request);
+        } catch (IOException ex) {
+            return CompletableFuture.failedFuture(communicationError(ex));
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+
+        startExchange();
+        CompletableFuture<HttpResponse<InputStream>> ongoing = client.sendAsync(request, bodyHandler());
+        exchange = ongoing;
+        if (cancelled) {
+            ongoing.cancel(true);       // Cancelled concurrently, before the exchange has been registered
+        }
+
+        return ongoing.handleAsync((response, error) -> {
+            try {
+                if (error != null) {
+                    throw unwrap(error);
+                }
+                return completeExchange(getResponse(response, reader));
+            } catch (IOException ex) {
+                throw new CompletionException(communicationError(ex));
+            } catch (Throwable ex) {
+                throw new CompletionException(ex);
+            } finally {
+                finishExchange();
+            }
+        }, executor);
+    }
+
+    /**
+     * Returns the body handler used to receive the response of an asynchronous exchange. If the exchange is metered or
+     * observed, the meter and the event listener will be notified as soon as the response headers have been received.
+     * The meter will be notified once the whole body has been received as well.
+     *
+     * @return Body handler buffering the whole response body
+     */
+    private BodyHandler<InputStream> bodyHandler() {
+        ExchangeMeter exchangeMeter = meter;
+        if (exchangeMeter == null && eventListener == null) {
+            return BUFFERED_BODY;
+        }
+        return responseInfo -> {
+            onResponse(exchangeMeter, responseInfo.statusCode());
+            return BodySubscribers.mapping(BodySubscribers.ofByteArray(), body -> {
+                if (exchangeMeter != null) {
+                    exchangeMeter.onReceived();
+                }
+                return new ByteArrayInputStream(body);
+            });
+        };
+    }
+
+    /**
+     * Starts metering a new exchange sent via this request, if a metrics recorder has been set or if the exchange is
+     * recorded by the Java Flight Recorder. Without any recording, neither a meter nor any event will be created.
+     */
+    private void startExchange() {
+        exchangeEvent = EXCHANGE_EVENT.isEnabled() ? new ExchangeEvent() : null;
+        if (exchangeEvent != null) {
+            exchangeEvent.begin();
+        }
+        meter = metricsRecorder != null || exchangeEvent != null || JSON_PARSE_EVENT.isEnabled()
+                || DECOMPRESSION_EVENT.isEnabled() ? ExchangeMeter.start() : null;
+        exchangeSucceeded = false;
+        headersReceived = false;
+    }
+
+    /**
+     * Marks the current exchange as successfully completed
+     *
+     * @param response The response of the exchange as read by the reader
+     * @param <T>      Type of the response
+     *
+     * @return The given response
+     */
+    private <T> T completeExchange(T response) {
+        exchangeSucceeded = true;
+        return response;
+    }
+
+    /**
+     * Notifies the event listener, if any, that the given connection has been acquired for the current exchange. As
+     * URL connections are usually established lazily, the connection will be established right away in this case.
+     *
+     * @param con The prepared HTTPS connection of the current exchange
+     *
+     * @throws IOException Thrown if the connection could not be established
+     */
+    private void onConnectionAcquired(@Nonnull HttpsURLConnection con) throws IOException {
+        if (eventListener != null) {
+            con.connect();
+            eventListener.onConnectionAcquired(correlationId, resource, con.getURL());
+        }
+    }
+
+    /**
+     * Notifies the event listener, if any, that the given request is about to be handed over to the HTTP client, which
+     * acquires the connection for the current exchange internally
+     *
+     * @param request The prepared HTTP request of the current exchange
+     *
+     * @throws MalformedURLException Thrown if the URI of the request can not be converted into a URL
+     */
+    private void onConnectionAcquired(@Nonnull HttpRequest request) throws MalformedURLException {
+        if (eventListener != null) {
+            eventListener.onConnectionAcquired(correlationId, resource, request.uri().toURL());
+        }
+    }
+
+    /**
+     * Reports the metrics of the exchange which has just been completed to the metrics recorder, if the exchange has
+     * been metered. Exchanges of requests which have been cancelled will not be reported. If the exchange is recorded
+     * by the Java Flight Recorder, its event will be committed along with the outcome of the exchange.
+     */
+    private void finishExchange() {
+        ExchangeMeter finished = meter;
+        ExchangeEvent event = exchangeEvent;
+        meter = null;
+        exchangeEvent = null;
+        if (finished == null) {
+            return;
+        }
+
+        RequestMetrics metrics = finished.finish(requestMethod.getName(), getRouteTemplate());
+        if (metricsRecorder != null && !cancelled) {
+            metricsRecorder.record(metrics);
+        }
+        if (event != null && event.shouldCommit()) {
+            event.method = metrics.getMethod();
+            event.route = metrics.getRoute();
+            event.statusCode = metrics.getStatusCode().orElse(0);
+            event.compressedBytes = metrics.getCompressedBytes();
+            event.decompressedBytes = metrics.getDecompressedBytes();
+            if (cancelled) {
+                event.outcome = ExchangeEvent.CANCELLED;
+            } else {
+                event.outcome = exchangeSucceeded ? ExchangeEvent.SUCCESS : ExchangeEvent.FAILURE;
+            }
+            event.commit();
+        }
+    }
+
+    /**
+     * Wraps the given exception which occurred while communicating with the remote service. Timeouts reported by the
+     * underlying transport will be wrapped into a more distinctive {@link APITimeoutException}. If the transport timed
+     * out only because its timeouts had been shortened to the deadline of the API call, the exceeded deadline will be
+     * reported instead, as sending the request once more would not be any more successful.
+     *
+     * @param ex The exception which occurred while sending this request or receiving its response
+     *
+     * @return New communication exception wrapping the given exception
+     */
+    private APICommunicationException communicationError(@Nonnull IOException ex) {
+        if (limitedByDeadline && isTimeout(ex)) {
+            return deadline.exceeded();
+        }
+        String message = String.format(ERR_SEND, requestMethod);
+        return isTimeout(ex) ? new APITimeoutException(message, ex) : new APICommunicationException(message, ex);
+    }
+
+    /**
+     * Checks whether the given exception or any of its causes reports a timeout of the underlying transport. The HTTP
+     * client might for example report connect timeouts of asynchronous requests as a general connection failure which
+     * is caused by the actual timeout.
+     *
+     * @param ex The exception which occurred while sending this request or receiving its response
+     *
+     * @return True if the exception has been caused by a transport timeout
+     */
+    private static boolean isTimeout(@Nonnull IOException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SocketTimeoutException || cause instanceof HttpTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the given timeout limited by the time remaining until the deadline of this request expires. Timeouts
+     * will never be shorter than one millisecond, as a timeout of zero would not limit the transport at all. Whether
+     * the timeout had to be shortened in favor of the deadline will be remembered for the current exchange.
+     *
+     * @param timeout The configured timeout, might be <em>{@code null}</em> if not set
+     *
+     * @return The timeout to be used for this request or an empty Optional if the request should not be limited
+     */
+    private Optional<Duration> getTimeout(@CheckForNull Duration timeout) {
+        Duration limited = deadline != null ? deadline.limit(timeout) : timeout;
+        if (limited != timeout) {
+            limitedByDeadline = true;
+        }
+        return Optional.ofNullable(limited).map(value -> value.compareTo(MIN_TIMEOUT) < 0 ? MIN_TIMEOUT : value);
+    }
+
+    /**
+     * Opens a new HTTPS connection to the resource URI of this request using a specific request method. The returned
+     * connection comes with some common configuration regarding content types, Bearer authentication and timeouts.
+     *
+     * @return A preconfigured HTTPS connection pointing to some remote API endpoint
+     *
+     * @throws IOException Thrown in case of communication issues like malformed URL, invalid request method, etc.
+     */
+    private HttpsURLConnection openConnection() throws IOException {
+        validateRequest();
+
+        HttpsURLConnection con = (HttpsURLConnection)remoteAPI.forResource(resource).openConnection();
+
+        // POST, GET, DELETE, PUT,...
+        con.setRequestMethod(requestMethod.getName());
+
+        // Timeouts, limited by the deadline of the API call
+        limitedByDeadline = false;
+        getTimeout(connectTimeout).ifPresent(timeout -> con.setConnectTimeout(toMillis(timeout)));
+        getTimeout(readTimeout).ifPresent(timeout -> con.setReadTimeout(toMillis(timeout)));
+
+        // Request properties for API
+        getRequestHeaders().forEach(con::setRequestProperty);
+
+        return con;
+    }
+
+    /**
+     * Creates a new HTTP request builder for the resource URI of this request using a specific request method. The
+     * returned builder comes with some common configuration regarding content types, Bearer authentication and the
+     * response timeout. The connect timeout is configured for the HTTP client as a whole.
+     *
+     * @return A preconfigured HTTP request builder pointing to some remote API endpoint
+     *
+     * @throws IOException Thrown in case of communication issues like malformed URL
+     */
+    private HttpRequest.Builder newRequest() throws IOException {
+        validateRequest();
+
+        URL url = remoteAPI.forResource(resource);
+        HttpRequest.Builder request;
+        try {
+            // POST, GET, DELETE, PUT,...
+            request = HttpRequest.newBuilder(url.toURI()).method(requestMethod.getName(), BodyPublishers.noBody());
+        } catch (URISyntaxException | IllegalArgumentException ex) {
+            throw new MalformedURLException(String.format("Invalid resource URL %s: %s", url, ex.getMessage()));
+        }
+
+        // Request properties for API
+        getRequestHeaders().forEach(request::header);
+
+        // Response timeout, limited by the deadline of the API call
+        limitedByDeadline = false;
+        getTimeout(readTimeout).ifPresent(request::timeout);
+
+        return request;
+    }
+
+    /**
+     * Converts the given timeout into milliseconds as expected by URL connections
+     *
+     * @param timeout Some timeout
+     *
+     * @return The timeout in milliseconds, capped to the range of an integer
+     */
+    private static int toMillis(@Nonnull Duration timeout) {
+        return (int)Math.min(timeout.toMillis(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Checks that all properties required to invoke a remote resource have been set for this request
+     *
+     * @throws APIPreconditionException If any of the required properties is missing
+     */
+    private void validateRequest() {
+        Preconditions.requireNonNull(remoteAPI, "No remote endpoint specified");
+        Preconditions.requireNonEmpty(resource, "No API resource specified");
+        Preconditions.requireNonNull(requestMethod, "No HTTP request method specified");
+    }
+
+    /**
+     * Returns the common request headers which are sent along with each request. This includes content types as well
+     * as the Bearer authentication and the preferred language if the associated session has already been initialized.
+     * Conditional requests will additionally send the validators of the response to be revalidated.
+     *
+     * @return Map containing the common request headers of this request
+     */
+    @SuppressWarnings("java:S3655")    // Auth process guarantees that a session in status AUTHORIZED has a valid token
+    private Map<String, String> getRequestHeaders() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put(CONTENT_TYPE, "application/json; charset=utf-8");
+        headers.put(ACCEPT, "application/json, application/vnd.thetvdb." + API_VERSION);
+        headers.put(ACCEPT_ENCODING, "gzip");
+        headers.put(USER_AGENT, "Mozilla/5.0");
+        if (session != null && session.isInitialized()) {
+            // If session has already been initialized, add token information and language key to each request
+            headers.put(AUTHORIZATION, "Bearer " + session.getToken().get());
+            headers.put(ACCEPT_LANGUAGE, session.getLanguage());
+        }
+        if (revalidated != null) {
+            revalidated.getETag().ifPresent(eTag -> headers.put(IF_NONE_MATCH, eTag));
+            revalidated.getLastModified().ifPresent(lastModified -> headers.put(IF_MODIFIED_SINCE, lastModified));
+        }
+
+        return headers;
+    }
+
+    /**
+     * Evaluates the status code and reads the response content accordingly. In case of HTTP-200 the content from the
+     * responses <b>input</b> stream will be read by the given reader and returned. If a conditional request has been
+     * answered with HTTP-304 the content of the revalidated response will be read instead. For other status codes the
+     * content from the <b>error</b> stream will be parsed and mapped into a corresponding exception type or a general
+     * {@link APICommunicationException} for unhandled status codes.
+     *
+     * @param con    Fully initialized HTTPS connection pointing to some remote service endpoint
+     * @param reader Reader used to map the body of a successful response
+     * @param <T>    Type of the value read from the response body
+     *
+     * @return Response content as read by the given reader in case of HTTP-200 status. For all other status codes an
+     *         exception will be thrown
+     *
+     * @throws APIException Thrown if a response with a status code other than HTTP-200 was received or the response
+     *                      content could not be mapped by the given reader
+     * @throws IOException  Thrown if an error occurred connecting to the server
+     */
+    private <T> T getResponse(@Nonnull HttpsURLConnection con, @Nonnull ResponseReader<T> reader)
+            throws APIException, IOException {
+        int responseCode = con.getResponseCode();
+        onResponse(responseCode);
+        if (isNotModified(responseCode)) {
+            return readNotModified(reader);
+        }
+
+        evaluateResponse(responseCode, () -> getError(con),
+                () -> getBadMethodError(con.getHeaderFields(), getError(con)),
+                () -> parseRetryAfter(con.getHeaderField(RETRY_AFTER)));
+        responseETag = con.getHeaderField(ETAG);
+        responseLastModified = con.getHeaderField(LAST_MODIFIED);
+        return getData(con, reader);
+    }
+
+    /**
+     * Evaluates the status code and reads the response body accordingly. In case of HTTP-200 the responses body will
+     * be read by the given reader and returned. If a conditional request has been answered with HTTP-304 the content of
+     * the revalidated response will be read instead. For other status codes the body will be parsed and mapped into a
+     * corresponding exception type or a general {@link APICommunicationException} for unhandled status codes.
+     *
+     * @param response Response received from some remote service endpoint
+     * @param reader   Reader used to map the body of a successful response
+     * @param <T>      Type of the value read from the response body
+     *
+     * @return Response content as read by the given reader in case of HTTP-200 status. For all other status codes an
+     *         exception will be thrown
+     *
+     * @throws APIException Thrown if a response with a status code other than HTTP-200 was received or the response
+     *                      content could not be mapped by the given reader
+     * @throws IOException  Thrown if an error occurred reading the response body
+     */
+    private <T> T getResponse(@Nonnull HttpResponse<InputStream> response, @Nonnull ResponseReader<T> reader)
+            throws APIException, IOException {
+        onResponse(response.statusCode());
+        if (isNotModified(response.statusCode())) {
+            return readNotModified(reader);
+        }
+
+        evaluateResponse(response.statusCode(), () -> getError(response),
+                () -> getBadMethodError(response.headers().map(), getError(response)),
+                () -> parseRetryAfter(response.headers().firstValue(RETRY_AFTER).orElse(null)));
+        responseETag = response.headers().firstValue(ETAG).orElse(null);
+        responseLastModified = response.headers().firstValue(LAST_MODIFIED).orElse(null);
+        return getData(response, reader);
+    }
+
+    /**
+     * Notifies the meter of the current exchange and the event listener, if any, that the response headers have been
+     * received
+     *
+     * @param responseCode The HTTP status code returned by the remote service
+     */
+    private void onResponse(int responseCode) {
+        onResponse(meter, responseCode);
+    }
+
+    /**
+     * Notifies the given meter and the event listener, if any, that the response headers of the current exchange have
+     * been received. The event listener will only be notified once per exchange.
+     *
+     * @param exchangeMeter The meter of the current exchange. Might be <em>{@code null}</em>.
+     * @param responseCode  The HTTP status code returned by the remote service
+     */
+    private void onResponse(@CheckForNull ExchangeMeter exchangeMeter, int responseCode) {
+        if (exchangeMeter != null) {
+            exchangeMeter.onResponse(responseCode);
+        }
+        if (eventListener != null && !headersReceived) {
+            headersReceived = true;
+            eventListener.onHeadersReceived(correlationId, resource, responseCode);
+        }
+    }
+
+    /**
+     * Checks whether the given status code confirms that the response revalidated by this request has not been
+     * modified. Unconditional requests will never be answered with HTTP-304 by the remote service.
+     *
+     * @param responseCode The HTTP status code returned by the remote service
+     *
+     * @return True if this is a conditional request which has been answered with HTTP-304
+     */
+    private boolean isNotModified(int responseCode) {
+        return responseCode == HttpURLConnection.HTTP_NOT_MODIFIED && revalidated != null;
+    }
+
+    /**
+     * Streams the content of the revalidated response into the given reader, as the remote service confirmed that it
+     * is still up-to-date
+     *
+     * @param reader Reader used to map the content of the revalidated response
+     * @param <T>    Type of the value read from the content
+     *
+     * @return The content of the revalidated response as read by the given reader
+     *
+     * @throws APIException If the content could not be mapped by the given reader
+     */
+    private <T> T readNotModified(@Nonnull ResponseReader<T> reader) throws APIException {
+        notModified = true;
+        return readContent(revalidated.getContent(), reader);
+    }
+
+    /**
+     * Maps the given status code to a corresponding exception unless it indicates a successful request (HTTP-200).
+     * This provides a common status code evaluation independent of the transport used to send the request.
+     *
+     * @param responseCode       The HTTP status code returned by the remote service
+     * @param errorSupplier      Supplier providing the error message in case of an HTTP error status code
+     * @param badMethodSupplier  Supplier providing the error message in case of HTTP-405
+     * @param retryAfterSupplier Supplier providing the time to wait as requested in case of HTTP-429 or HTTP-503.
+     *                           Might supply <em>{@code null}</em>.
+     *
+     * @throws APIException Thrown if a response with a status code other than HTTP-200 was received
+     * @throws IOException  Thrown if an error occurred reading the error message
+     */
+    private static void evaluateResponse(int responseCode,
+            ThrowableFunctionalInterfaces.Supplier<String, IOException> errorSupplier,
+            ThrowableFunctionalInterfaces.Supplier<String, IOException> badMethodSupplier,
+            Supplier<Duration> retryAfterSupplier)
+            throws APIException, IOException {
+        switch (responseCode) {
+            case HttpURLConnection.HTTP_OK:
+                return;
+            case HttpURLConnection.HTTP_UNAUTHORIZED:
+                throw new APINotAuthorizedException(errorSupplier.get());
+            case HttpURLConnection.HTTP_NOT_FOUND:
+                throw new APIException(API_NOT_FOUND_ERROR, errorSupplier.get());
+            case HttpURLConnection.HTTP_BAD_METHOD:
+                throw new APIException(API_BAD_METHOD_ERROR, badMethodSupplier.get());
+            case HttpURLConnection.HTTP_CONFLICT:
+                throw new APIException(API_CONFLICT_ERROR, errorSupplier.get());
+            case HTTP_TOO_MANY_REQUESTS:
+                throw new APIThrottledException(String.format(API_TOO_MANY_REQUESTS_ERROR, errorSupplier.get()),
+                        retryAfterSupplier.get());
+            case HttpURLConnection.HTTP_UNAVAILABLE:
+                throw new APIThrottledException(API_SERVICE_UNAVAILABLE, retryAfterSupplier.get());
+            default:
+                throw new APICommunicationException(String
+                        .format(ERR_UNEXPECTED_RESPONSE, responseCode, errorSupplier.get()), responseCode);
+        }
+    }
+
+    /**
+     * Parses the value of a <em>{@code Retry-After}</em> response header. According to the specification, the value
+     * may either be given as number of seconds or as HTTP-date.
+     *
+     * @param retryAfter Value of the Retry-After response header. Might be <em>{@code null}</em>.
+     *
+     * @return The time to wait before sending new requests or <em>{@code null}</em> if the given value is missing or
+     *         invalid
+     */
+    @CheckForNull
+    static Duration parseRetryAfter(@CheckForNull String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(Long.parseLong(retryAfter.trim()), 0));
+        } catch (NumberFormatException ex) {
+            // Not a number of seconds: try HTTP-date instead
+        }
+        try {
+            Duration delay = Duration.between(Instant.now(),
+                    ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Should only be invoked in case of HTTP-405 status response. Appends the values of the responses "Allow" header to
+     * the given error message. According to the HTTP-405 status code specification, the server MUST generate an "Allow"
+     * header field in a 405 response containing a list of the target resource's currently supported methods. These
+     * supported methods will - if available - be prepended to the end of the actual error message.
+     *
+     * @param headers Header fields of a response with an HTTP-405 error status code
+     * @param error   The error message parsed from the response body
+     *
+     * @return Error message plus all available values from the responses Allow header as String
+     */
+    private static String getBadMethodError(Map<String, List<String>> headers, String error) {
+        String allowedMethods = headers.entrySet().stream()
+                .filter(header -> ALLOW.equalsIgnoreCase(header.getKey()))
+                .flatMap(header -> header.getValue().stream())
+                .sorted().collect(joining(", ", "[", "]"));
+        return String.format("%s - Response Allow header: %s", error, allowedMethods);
+    }
+
+    /**
+     * Fetches the error message from the connections <b>error</b> stream and returns it
+     *
+     * @param con Fully initialized connection that has returned some HTTP error status code
+     *
+     * @return Content from the error stream as String
+     *
+     * @throws IOException Thrown if an I/O error occurs while creating the input stream or fetching the error data
+     */
+    private static String getError(@Nonnull HttpsURLConnection con) throws IOException {
+        return getErrorMessage(parseResponseJsonData(con.getErrorStream(), con.getHeaderField(CONTENT_ENCODING)));
+    }
+
+    /**
+     * Fetches the error message from the responses body and returns it
+     *
+     * @param response Response that has returned some HTTP error status code
+     *
+     * @return Content from the response body as String
+     *
+     * @throws IOException Thrown if an I/O error occurs while fetching the error data
+     */
+    private static String getError(@Nonnull HttpResponse<InputStream> response) throws IOException {
+        return getErrorMessage(parseResponseJsonData(response));
+    }
+
+    /**
+     * Extracts the actual error message from the given JSON error response
+     *
+     * @param response Parsed error response
+     *
+     * @return The error message contained in the given response or "n/a" if no such message exists
+     */
+    private static String getErrorMessage(@Nonnull JsonNode response) {
+        return response.has(API_ERROR) ? response.get(API_ERROR).asText("") : "n/a";
+    }
+
+    /**
+     * Parses the body of the given response as JSON and returns it. If the response JSON content is gzip-encoded it
+     * will be decompressed first.
+     *
+     * @param response Response from which the data should be parsed
+     *
+     * @return Content from the responses body parsed as JSON object
+     *
+     * @throws IOException Thrown if an I/O error occurs while parsing the JSON data
+     */
+    private static JsonNode parseResponseJsonData(@Nonnull HttpResponse<InputStream> response) throws IOException {
+        return parseResponseJsonData(response.body(), response.headers().firstValue(CONTENT_ENCODING).orElse(null));
+    }
+
+    /**
+     * Parses the given response data as JSON and returns it. If the response JSON content is gzip-encoded it will be
+     * decompressed first.
+     *
+     * @param responseData    The response data input stream to parse the JSON from
+     * @param contentEncoding Value of the responses Content-Encoding header. Might be <em>{@code null}</em>.
+     *
+     * @return Content from the given response data input stream parsed as JSON object
+     *
+     * @throws IOException Thrown if an I/O error occurs while parsing the JSON data
+     */
+    private static JsonNode parseResponseJsonData(@CheckForNull InputStream responseData,
+            @CheckForNull String contentEncoding) throws IOException {
+        try (JsonParser parser = createParser(responseData, contentEncoding, null)) {
+            return readTree(parser);
+        }
+    }
+
+    /**
+     * Streams the given response data into the given reader and returns the result. If the response JSON content is
+     * gzip-encoded it will be decompressed on the fly. If the current exchange is metered, the size of the response
+     * data and the time it took to parse it will be measured as well. The event listener, if any, will be notified
+     * once the response data has been read completely. Parsing and decompression may also be recorded by the Java
+     * Flight Recorder.
+     *
+     * @param responseData    The response data input stream to be read
+     * @param contentEncoding Value of the responses Content-Encoding header. Might be <em>{@code null}</em>.
+     * @param reader          Reader used to map the response data
+     * @param <T>             Type of the value read from the response data
+     *
+     * @return Content from the given response data input stream as read by the given reader
+     *
+     * @throws IOException  Thrown if an I/O error occurs while reading the response data
+     * @throws APIException Thrown if the response data could not be mapped by the given reader
+     */
+    private <T> T readResponseData(@CheckForNull InputStream responseData, @CheckForNull String contentEncoding,
+            @Nonnull ResponseReader<T> reader) throws IOException, APIException {
+        JsonParseEvent parseEvent = JSON_PARSE_EVENT.isEnabled() ? new JsonParseEvent() : null;
+        DecompressionEvent decompressionEvent = "gzip".equals(contentEncoding) && DECOMPRESSION_EVENT.isEnabled()
+                ? new DecompressionEvent() : null;
+        if (parseEvent != null) {
+            parseEvent.begin();
+        }
+        if (decompressionEvent != null) {
+            decompressionEvent.begin();
+        }
+        String outcome = ExchangeEvent.FAILURE;
+        T data;
+        try (JsonParser parser = createParser(responseData, contentEncoding, meter)) {
+            data = meter != null ? meter.parse(reader, parser) : reader.read(parser);
+            outcome = ExchangeEvent.SUCCESS;
+        } finally {
+            commitParseEvents(parseEvent, decompressionEvent, outcome);
+        }
+        if (eventListener != null) {
+            eventListener.onBodyRead(correlationId, resource);
+        }
+        return data;
+    }
+
+    /**
+     * Commits the flight recorder events covering the parsing and decompression of the response data, if enabled. The
+     * sizes of the response data will only be recorded if the exchange has been metered.
+     *
+     * @param parseEvent         Event covering the parsing of the response data. Might be <em>{@code null}</em> if the
+     *                           event is not enabled.
+     * @param decompressionEvent Event covering the decompression of the response data. Might be <em>{@code null}</em>
+     *                           if the response data has not been compressed or if the event is not enabled.
+     * @param outcome            The outcome of parsing the response data
+     */
+    private void commitParseEvents(@CheckForNull JsonParseEvent parseEvent,
+            @CheckForNull DecompressionEvent decompressionEvent, @Nonnull String outcome) {
+        if (parseEvent != null && parseEvent.shouldCommit()) {
+            parseEvent.route = getRouteTemplate();
+            parseEvent.bytes = meter != null ? meter.getDecompressedBytes() : 0;
+            parseEvent.outcome = outcome;
+            parseEvent.commit();
+        }
+        if (decompressionEvent != null && decompressionEvent.shouldCommit()) {
+            decompressionEvent.route = getRouteTemplate();
+            if (meter != null) {
+                decompressionEvent.compressedBytes = meter.getCompressedBytes();
+                decompressionEvent.decompressedBytes = meter.getDecompressedBytes();
+                decompressionEvent.inflateTime = meter.getInflateTime().toNanos();
+            }
+            decompressionEvent.outcome = outcome;
+            decompressionEvent.commit();
+        }
+    }
+
+    /**
+     * Creates a new JSON parser for the given response data. If the response JSON content is gzip-encoded the data
+     * will be decompressed on the fly. If a meter is given, the size of the response data will be counted before and
+     * after decompression.
+     *
+     * @param responseData    The response data input stream to create the parser for
+     * @param contentEncoding Value of the responses Content-Encoding header. Might be <em>{@code null}</em>.
+     * @param meter           Meter of the current exchange. Might be <em>{@code null}</em>.
+     *
+     * @return New parser reading from the given response data input stream
+     *
+     * @throws IOException Thrown if an I/O error occurs while creating the parser
+     */
+    private static JsonParser createParser(@CheckForNull InputStream responseData,
+            @CheckForNull String contentEncoding, @CheckForNull ExchangeMeter meter) throws IOException {
+        // According to the HTTP/1.1 specification, HEAD methods must not return a message-body in the response. In
+        // order to harden the implementation we return an empty JsonNode instead of a null-value.
+        InputStream responseDataStream = Optional.ofNullable(responseData)
+                .orElseGet(() -> new ByteArrayInputStream("{}".getBytes(UTF_8)));
+
+        if (meter != null) {
+            responseDataStream = meter.transferred(responseDataStream);
+        }
+        if ("gzip".equals(contentEncoding)) {
+            responseDataStream = new GZIPInputStream(responseDataStream);
+        }
+        if (meter != null) {
+            responseDataStream = meter.decompressed(responseDataStream);
+        }
+
+        return MAPPER.getFactory().createParser(responseDataStream);
+    }
+
+    /**
+     * Parses the content provided by the given parser into a raw JSON object. Empty content will be mapped into an
+     * empty JSON object.
+     *
+     * @param parser Parser providing the JSON content
+     *
+     * @return Content from the given parser as JSON object
+     *
+     * @throws IOException Thrown if an I/O error occurs while parsing the JSON data
+     */
+    private static JsonNode readTree(@Nonnull JsonParser parser) throws IOException {
+        // Unlike the URL connection, the HTTP client provides an empty stream for responses without a body
+        return Optional.<JsonNode>ofNullable(MAPPER.readTree(parser)).orElseGet(MAPPER::createObjectNode);
+    }
+
+    /**
+     * Copies the content provided by the given parser into its raw, compact JSON representation. Empty content will be
+     * copied into an empty byte array.
+     *
+     * @param parser Parser providing the JSON content
+     *
+     * @return Content from the given parser as raw JSON
+     *
+     * @throws IOException Thrown if an I/O error occurs while copying the JSON data
+     */
+    private static byte[] copyContent(@Nonnull JsonParser parser) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        if (parser.nextToken() != null) {
+            try (JsonGenerator generator = MAPPER.getFactory().createGenerator(content)) {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+        return content.toByteArray();
+    }
+
+    /**
+     * Provides the option for additional request specific preparation. The default implementation does <b>not</b>
+     * perform any additional preparations. However, subclasses may overwrite this method and use the given connection
+     * in order to apply specific preparations like for example, pushing additional payload for <em>{@code POST}</em>
+     * requests. Still, the provided connection will already contain some basic configuration that should be sufficient
+     * for most of the request types without the need of any further preparations.
+     *
+     * @param con New HTTPS connection with some basic configuration already applied
+     *
+     * @throws IOException Thrown in case an I/O error occurred while performing request specific preparations
+     */
+    void prepareRequest(@Nonnull HttpsURLConnection con) throws IOException {
+        // No default preparation. Overwrite this method in any subclass to add type specific request preparations.
+    }
+
+    /**
+     * Provides the option for additional request specific preparation when sending the request via some HTTP client.
+     * The default implementation does <b>not</b> perform any additional preparations. However, subclasses may
+     * overwrite this method and use the given builder in order to apply specific preparations like for example, adding
+     * additional payload for <em>{@code POST}</em> requests.
+     *
+     * @param request New HTTP request builder with some basic configuration already applied
+     */
+    void prepareRequest(@Nonnull HttpRequest.Builder request) {
+        // No default preparation. Overwrite this method in any subclass to add type specific request preparations.
+    }
+
+    /**
+     * Streams the data from the connections <b>input</b> stream into the given reader and returns the result
+     *
+     * @param con    Fully initialized connection that has returned an HTTP-200 status
+     * @param reader Reader used to map the response data
+     * @param <T>    Type of the value read from the response data
+     *
+     * @return Content from the input stream as read by the given reader
+     *
+     * @throws IOException  Thrown if an I/O error occurs while creating the input stream or reading the response data
+     * @throws APIException Thrown if the response data could not be mapped by the given reader
+     */
+    <T> T getData(@Nonnull HttpsURLConnection con, @Nonnull ResponseReader<T> reader) throws IOException, APIException {
+        return readResponseData(con.getInputStream(), con.getHeaderField(CONTENT_ENCODING), reader);
+    }
+
+    /**
+     * Streams the data from the responses body into the given reader and returns the result
+     *
+     * @param response Response that has returned an HTTP-200 status
+     * @param reader   Reader used to map the response data
+     * @param <T>      Type of the value read from the response data
+     *
+     * @return Content from the response body as read by the given reader
+     *
+     * @throws IOException  Thrown if an I/O error occurs while reading the response data
+     * @throws APIException Thrown if the response data could not be mapped by the given reader
+     */
+    <T> T getData(@Nonnull HttpResponse<InputStream> response, @Nonnull ResponseReader<T> reader)
+            throws IOException, APIException {
+        return readResponseData(response.body(), response.headers().firstValue(CONTENT_ENCODING).orElse(null), reader);
+    }
+}
@@ -16,14 +16,27 @@
 
 package com.github.m0nk3y2k4.thetvdb.internal.connection;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.m0nk3y2k4.thetvdb.api.APIKey;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.api.token.TokenStore;
 import com.github.m0nk3y2k4.thetvdb.internal.util.APIUtil;
+import com.github.m0nk3y2k4.thetvdb.internal.util.functional.ThrowableFunctionalInterfaces;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
 
 /**
@@ -31,7 +44,16 @@ import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
  * <p><br>
  * All connections to the <i>TheTVDB.com</i> API are backed by an instance of this class. These sessions contain all
  * information required for client authentication on the remote service, locale settings as well as session tokens used
- * for remote service communication.
+ * for remote service communication. Sessions may be shared by multiple threads, so all of its state is safely
+ * published to concurrently running requests.
+ * <p><br>
+ * Whenever a new token is set, its payload will be decoded in order to determine the point in time at which the token
+ * expires, as stated by its <em>{@code exp}</em> claim. Tokens without such a claim, or with a payload that cannot be
+ * decoded, are considered to never expire.
+ * <p><br>
+ * If a {@link TokenStore} has been assigned, new tokens will be shared with all other sessions using the same API key
+ * via this store. Rather than requesting a new token from the remote service, sessions will adopt a valid token from
+ * the store if another session already renewed it.
  */
 public final class APISession {
 
@@ -43,6 +65,9 @@ public final class APISession {
     private static final Pattern JWT_PATTERN = Pattern
             .compile("^[A-Za-z0-9-_=]+\\.[A-Za-z0-9-_=]+\\.?[A-Za-z0-9-_.+/=]*$");
 
+    /** Mapper used to read the payload of JSON Web Tokens */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     /** Accept english by default if no language was specified */
     private static final String DEFAULT_LANGUAGE = "en";
 
@@ -67,14 +92,26 @@ public final class APISession {
     /** The API key used to request a session token */
     private final APIKey apiKey;
 
+    /** Store used to share the session token with other sessions (optional) */
+    private final TokenStore tokenStore;
+
+    /** The ID of the session token within the token store, derived from the API key */
+    private final String tokenId;
+
     /** The JWT token for this session, issued by the remote service */
     private volatile String token;
 
+    /** The point in time at which the JWT token of this session expires (might be null if unknown) */
+    private volatile Instant tokenExpiration;
+
+    /** The point in time at which the JWT token of this session has been issued (null if no token has been set yet) */
+    private volatile Instant tokenIssued;
+
     /** The preferred language for API communication based on this session */
-    private String language = DEFAULT_LANGUAGE;
+    private volatile String language = DEFAULT_LANGUAGE;
 
     /** The current status of this session in terms of authorization */
-    private Status status = Status.NOT_AUTHORIZED;
+    private volatile Status status = Status.NOT_AUTHORIZED;
 
     /**
      * Creates a new API session with the given API key. The <em>{@code apiKey}</em> must be a valid
@@ -84,10 +121,25 @@ public final class APISession {
      * @param apiKey The v4 API key used to request a session token
      */
     APISession(@Nonnull APIKey apiKey) {
+        this(apiKey, null);
+    }
+
+    /**
+     * Creates a new API session with the given API key, sharing its session tokens via the given store. The
+     * <em>{@code apiKey}</em> must be a valid
+     * <a target="_blank" href="https://www.thetvdb.com/dashboard/account/apikey">TheTVDB.com v4 API Key</a>
+     * which will be used for remote service authentication.
+     *
+     * @param apiKey     The v4 API key used to request a session token
+     * @param tokenStore Store used to share the session token with other sessions. Might be <em>{@code null}</em>.
+     */
+    APISession(@Nonnull APIKey apiKey, @CheckForNull TokenStore tokenStore) {
         Parameters.validateNotNull(apiKey, "API key must not be NULL");
         Parameters.validateApiKey(apiKey);
 
         this.apiKey = apiKey;
+        this.tokenStore = tokenStore;
+        this.tokenId = tokenStore != null ? createTokenId(apiKey) : null;
     }
 
     /**
@@ -108,6 +160,60 @@ public final class APISession {
         }
     }
 
+    /**
+     * Creates the ID under which the tokens issued for the given API key will be stored. The ID is a hash of the API
+     * key and PIN, so that these will not be disclosed by the store.
+     *
+     * @param apiKey The API key the tokens are issued for
+     *
+     * @return Hexadecimal ID of the tokens issued for the given API key
+     */
+    private static String createTokenId(APIKey apiKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(apiKey.getApiKey().getBytes(UTF_8));
+            apiKey.getPin().ifPresent(pin -> digest.update(("\n" + pin).getBytes(UTF_8)));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not supported by this platform", ex);
+        }
+    }
+
+    /**
+     * Reads the point in time at which the given token expires from the <em>{@code exp}</em> claim of its payload. The
+     * claim is expected to contain the expiration time in seconds since the epoch.
+     *
+     * @param token A valid JSON Web Token
+     *
+     * @return The expiration time of the token or <em>{@code null}</em> if the token carries no expiration claim or its
+     *         payload could not be decoded
+     */
+    @CheckForNull
+    private static Instant readExpiration(String token) {
+        return readTimestamp(token, "exp");
+    }
+
+    /**
+     * Reads a point in time from the given claim of the payload of the given token. The claim is expected to contain
+     * the number of seconds since the epoch, like the registered <em>{@code exp}</em> and <em>{@code iat}</em> claims.
+     *
+     * @param token A valid JSON Web Token
+     * @param claim The name of the claim to be read
+     *
+     * @return The point in time stated by the claim or <em>{@code null}</em> if the token does not carry this claim or
+     *         its payload could not be decoded
+     */
+    @CheckForNull
+    private static Instant readTimestamp(String token, String claim) {
+        String[] parts = token.split("\\.");
+        try {
+            JsonNode timestamp = MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1])).path(claim);
+            return timestamp.canConvertToLong() ? Instant.ofEpochSecond(timestamp.asLong()) : null;
+        } catch (IllegalArgumentException | IOException ex) {
+            return null;        // Not a Base64URL encoded JSON payload: claim of the token is unknown
+        }
+    }
+
     /**
      * Returns the API key of this session
      *
@@ -138,10 +244,104 @@ public final class APISession {
         // Validate token - throws an exception if not a valid JWT
         validateJWT(token);
 
+        this.tokenExpiration = readExpiration(token);
+        this.tokenIssued = Optional.ofNullable(readTimestamp(token, "iat")).orElseGet(Instant::now);
         this.token = token;
         this.status = Status.AUTHORIZED;
     }
 
+    /**
+     * Returns the point in time at which the current session token expires. Might be empty if the session has not yet
+     * been initialized or if the token does not state its expiration time.
+     *
+     * @return Expiration time of the current session token or empty Optional if unknown
+     */
+    Optional<Instant> getTokenExpiration() {
+        return Optional.ofNullable(tokenExpiration);
+    }
+
+    /**
+     * Returns the point in time at which the current session token has been issued, as stated by its
+     * <em>{@code iat}</em> claim. For tokens without such claim, this is the point in time at which the token has been
+     * set to this session. Might be empty if the session has not yet been initialized.
+     *
+     * @return Issue time of the current session token or empty Optional if no token has been set yet
+     */
+    Optional<Instant> getTokenIssued() {
+        return Optional.ofNullable(tokenIssued);
+    }
+
+    /**
+     * Checks if the current session token has already expired. Tokens whose expiration time is unknown are considered
+     * to be valid.
+     *
+     * @return True if the session token is known to be expired, otherwise false
+     */
+    boolean isTokenExpired() {
+        return getTokenExpiration().map(expiration -> !Instant.now().isBefore(expiration)).orElse(false);
+    }
+
+    /**
+     * Renews the JWT token of this session. If a token store has been assigned, the renewal will be performed while
+     * holding the lock of the store. A valid token found in the store will then be adopted, given that it differs from
+     * the current token of this session. Otherwise, the given issuer will be invoked to request a new token from the
+     * remote service, which will then be saved to the store. Without any store, the token provided by the issuer will
+     * simply be set.
+     *
+     * @param issuer Requests a new JWT token from the remote service
+     *
+     * @throws APIException If the issuer failed to request a new token or if the issued token is <em>{@code null}</em>,
+     *                      an empty character sequence or does not match the regular JWT format
+     */
+    void renewToken(@Nonnull ThrowableFunctionalInterfaces.Supplier<String, APIException> issuer)
+            throws APIException {
+        if (tokenStore == null) {
+            setToken(issuer.get());
+            return;
+        }
+
+        tokenStore.lock(tokenId);
+        try {
+            Optional<String> shared = tokenStore.load(tokenId).filter(this::isAdoptable);
+            if (shared.isPresent()) {
+                setToken(shared.get());
+            } else {
+                String token = issuer.get();
+                setToken(token);
+                tokenStore.save(tokenId, token);
+            }
+        } finally {
+            tokenStore.unlock(tokenId);
+        }
+    }
+
+    /**
+     * Checks if the given token, which has been saved to the token store, may be adopted by this session. Tokens will
+     * only be adopted if they are valid JSON Web Tokens that have not yet expired and differ from the current token of
+     * this session, which is about to be renewed.
+     *
+     * @param token The token loaded from the token store
+     *
+     * @return True if the token may be adopted, otherwise false
+     */
+    private boolean isAdoptable(String token) {
+        if (token.equals(this.token) || !JWT_PATTERN.matcher(token).matches()) {
+            return false;
+        }
+
+        Instant expiration = readExpiration(token);
+        return expiration == null || Instant.now().isBefore(expiration);
+    }
+
+    /**
+     * Checks if session tokens are shared with other sessions via a token store
+     *
+     * @return True if a token store has been assigned to this session, otherwise false
+     */
+    boolean isTokenShared() {
+        return tokenStore != null;
+    }
+
     /**
      * Set the preferred language used for API communication. If available, search results will be returned in this
      * language. If the given language parameter is <em>{@code null}</em> the sessions language will be reset to
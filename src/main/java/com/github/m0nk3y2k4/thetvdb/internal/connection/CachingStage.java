@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheKey;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CachePolicy;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CachedResponse;
+import com.github.m0nk3y2k4.thetvdb.api.cache.ResponseCache;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.CacheKeyImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.CachedResponseImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.util.functional.ThrowableFunctionalInterfaces;
+import com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpRequestMethod;
+
+/**
+ * Stage of the request pipeline serving <em>{@code GET}</em> requests from a {@link ResponseCache} and coalescing
+ * identical requests in flight
+ * <p><br>
+ * If a response cache has been configured, the responses to <em>{@code GET}</em> requests will be stored in this cache
+ * for the time-to-live determined by the cache policy. Subsequent requests for the same resource and language will then
+ * be served from the cache without passing the request on. Expired responses carrying validators will be revalidated
+ * by the request. If a coalescer has been configured, concurrent identical <em>{@code GET}</em> requests will be
+ * coalesced into a single request. Both concerns are handled by the same stage, as only the leading one of several
+ * coalesced requests may store its response, along with its validators, in the cache.
+ * <p><br>
+ * This stage precedes the authorization of the session, so that cached responses will be served without authorizing
+ * the session at all. Other than the subsequent stages, each connection therefore has a stage of its own, keyed by the
+ * language of its session.
+ */
+final class CachingStage implements RequestStage {
+
+    /** Cache for the responses of the remote service (optional) */
+    private final ResponseCache responseCache;
+
+    /** Policy determining how long the responses will be cached */
+    private final CachePolicy cachePolicy;
+
+    /** Coalescer for concurrent identical requests (optional) */
+    private final RequestCoalescer coalescer;
+
+    /** Session whose language is part of the cache key */
+    private final APISession session;
+
+    /** The next stage of the pipeline */
+    private final RequestStage next;
+
+    /**
+     * Creates a new caching stage
+     *
+     * @param responseCache Cache for the responses of the remote service. Might be <em>{@code null}</em> if responses
+     *                      should not be cached.
+     * @param cachePolicy   Policy determining how long the responses will be cached
+     * @param coalescer     Coalescer for concurrent identical requests. Might be <em>{@code null}</em> if requests
+     *                      should not be coalesced.
+     * @param session       Session whose language is part of the cache key
+     * @param next          The next stage of the pipeline
+     */
+    CachingStage(@CheckForNull ResponseCache responseCache, @Nonnull CachePolicy cachePolicy,
+            @CheckForNull RequestCoalescer coalescer, @Nonnull APISession session, @Nonnull RequestStage next) {
+        this.responseCache = responseCache;
+        this.cachePolicy = cachePolicy;
+        this.coalescer = coalescer;
+        this.session = session;
+        this.next = next;
+    }
+
+    @Override
+    public <T> T send(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) throws APIException {
+        Optional<CacheKey> key = getCacheKey(request);
+        if (key.isPresent()) {
+            Optional<CachedResponse> cached = lookupResponse(key.get(), request);
+            if (cached.isPresent()) {
+                return APIRequest.readContent(cached.get().getContent(), reader);
+            }
+        }
+
+        Optional<CacheKey> flightKey = getFlightKey(request);
+        if (key.isEmpty() && flightKey.isEmpty()) {
+            return next.send(request, reader);
+        }
+
+        ThrowableFunctionalInterfaces.Supplier<byte[], APIException> invocation = () -> {
+            byte[] content = next.send(request, APIRequest.RAW_CONTENT);
+            key.ifPresent(cacheKey -> cacheResponse(cacheKey, request, content));
+            return content;
+        };
+        byte[] content = flightKey.isPresent() ? coalescer.send(flightKey.get(), invocation, request.getDeadline())
+                : invocation.get();
+        return APIRequest.readContent(content, reader);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> sendAsync(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) {
+        Optional<CacheKey> key = getCacheKey(request);
+        if (key.isPresent()) {
+            Optional<CachedResponse> cached = lookupResponse(key.get(), request);
+            if (cached.isPresent()) {
+                return readContentAsync(cached.get().getContent(), reader);
+            }
+        }
+
+        Optional<CacheKey> flightKey = getFlightKey(request);
+        if (key.isEmpty() && flightKey.isEmpty()) {
+            return next.sendAsync(request, reader);
+        }
+
+        Supplier<CompletableFuture<byte[]>> invocation = () -> next.sendAsync(request, APIRequest.RAW_CONTENT)
+                .thenApply(content -> {
+                    key.ifPresent(cacheKey -> cacheResponse(cacheKey, request, content));
+                    return content;
+                });
+        CompletableFuture<byte[]> content = flightKey.isPresent() ? coalescer.sendAsync(flightKey.get(), invocation)
+                : invocation.get();
+        return content.thenCompose(raw -> readContentAsync(raw, reader));
+    }
+
+    /**
+     * Returns the key under which the response to the given request is cached. Only <em>{@code GET}</em> requests
+     * for which the cache policy grants a positive time-to-live are cacheable.
+     *
+     * @param request The request to be invoked
+     *
+     * @return Cache key of the given request or an empty Optional if no cache has been configured or the response to
+     *         the request should not be cached
+     */
+    private Optional<CacheKey> getCacheKey(APIRequest request) {
+        if (responseCache == null || request.getRequestMethod() != HttpRequestMethod.GET) {
+            return Optional.empty();
+        }
+
+        return Optional.of(createKey(request)).filter(cacheKey -> cachePolicy.getTimeToLive(cacheKey).isPositive());
+    }
+
+    /**
+     * Returns the key identifying requests which are identical to the given request. Only <em>{@code GET}</em>
+     * requests will be coalesced, if a coalescer has been configured.
+     *
+     * @param request The request to be invoked
+     *
+     * @return Key identifying identical requests or an empty Optional if the request should not be coalesced
+     */
+    private Optional<CacheKey> getFlightKey(APIRequest request) {
+        if (coalescer == null || request.getRequestMethod() != HttpRequestMethod.GET) {
+            return Optional.empty();
+        }
+
+        return Optional.of(createKey(request));
+    }
+
+    /**
+     * Creates a new key for the given request, consisting of its request method, its resource and the language of the
+     * underlying session
+     *
+     * @param request The request to be invoked
+     *
+     * @return Key of the given request
+     */
+    private CacheKey createKey(APIRequest request) {
+        return CacheKeyImpl.create(request.getRequestMethod().getName(), request.getResource(),
+                session.isInitialized() ? session.getLanguage() : null);
+    }
+
+    /**
+     * Looks up the response cached for the given key. Valid responses will be returned, whereas expired responses will
+     * be handed to the given request in order to be revalidated with the remote service.
+     *
+     * @param key     Key of the request whose response should be looked up
+     * @param request The request to be invoked if no valid response has been cached
+     *
+     * @return The valid cached response or an empty Optional if the request has to be invoked
+     */
+    private Optional<CachedResponse> lookupResponse(CacheKey key, APIRequest request) {
+        Optional<CachedResponse> cached = responseCache.get(key);
+        if (cached.isPresent() && cached.get().isExpired(Instant.now())) {
+            request.revalidate(cached.get());       // Ask the remote service whether the response is still valid
+            return Optional.empty();
+        }
+        return cached;
+    }
+
+    /**
+     * Stores the response of the given request in the cache using the time-to-live granted by the cache policy. If the
+     * request revalidated an expired response which has not been modified, only the time-to-live of the cached
+     * response will be refreshed. Empty responses will not be cached.
+     *
+     * @param key     Key of the request whose response should be cached
+     * @param request The request that has been invoked
+     * @param content The raw content of the response
+     */
+    private void cacheResponse(CacheKey key, APIRequest request, byte[] content) {
+        Duration timeToLive = cachePolicy.getTimeToLive(key);
+        if (!timeToLive.isPositive()) {
+            return;
+        }
+
+        Instant expiresAt = Instant.now().plus(timeToLive);
+        if (request.isNotModified()) {
+            responseCache.refresh(key, expiresAt);
+        } else if (content.length > 0) {
+            responseCache.put(key, new CachedResponseImpl(content, request.getResponseETag().orElse(null),
+                    request.getResponseLastModified().orElse(null), expiresAt));
+        }
+    }
+
+    /**
+     * Reads the given response content by the given reader and returns a future which has already been completed with
+     * the result
+     *
+     * @param content The raw content of a successful response
+     * @param reader  Reader used to map the response content
+     * @param <T>     Type of the value read from the response content
+     *
+     * @return Future completed with the content as read by the given reader or exceptionally in case of an error
+     */
+    private static <T> CompletableFuture<T> readContentAsync(byte[] content, ResponseReader<T> reader) {
+        try {
+            return CompletableFuture.completedFuture(APIRequest.readContent(content, reader));
+        } catch (APIException | RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+}
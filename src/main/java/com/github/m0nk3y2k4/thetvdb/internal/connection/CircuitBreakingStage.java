@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.circuitbreaker.CircuitBreaker;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICircuitOpenException;
+
+/**
+ * Stage of the request pipeline guarding the remote service by a {@link CircuitBreaker}
+ * <p><br>
+ * Each request has to be permitted by the circuit of its route family right before being sent. Rejected requests fail
+ * immediately with an {@link APICircuitOpenException}. The breaker will be notified about the outcome of each permitted
+ * request.
+ */
+final class CircuitBreakingStage implements RequestStage {
+
+    /** Breaker rejecting requests to route families for which the remote service failed repeatedly */
+    private final CircuitBreaker circuitBreaker;
+
+    /** The next stage of the pipeline */
+    private final RequestStage next;
+
+    /**
+     * Creates a new circuit breaking stage
+     *
+     * @param circuitBreaker Breaker rejecting requests to route families for which the remote service failed repeatedly
+     * @param next           The next stage of the pipeline
+     */
+    CircuitBreakingStage(@Nonnull CircuitBreaker circuitBreaker, @Nonnull RequestStage next) {
+        this.circuitBreaker = circuitBreaker;
+        this.next = next;
+    }
+
+    @Override
+    public <T> T send(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) throws APIException {
+        String family = request.getRouteFamily();
+        if (!circuitBreaker.tryAcquire(family)) {
+            throw new APICircuitOpenException(family);
+        }
+        T response;
+        try {
+            response = next.send(request, reader);
+        } catch (Throwable ex) {
+            reportOutcome(family, ex);
+            throw ex;
+        }
+        reportOutcome(family, null);
+        return response;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> sendAsync(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) {
+        String family = request.getRouteFamily();
+        if (!circuitBreaker.tryAcquire(family)) {
+            return CompletableFuture.failedFuture(new APICircuitOpenException(family));
+        }
+        return next.sendAsync(request, reader).whenComplete(
+                (result, error) -> reportOutcome(family, error != null ? APIRequest.unwrap(error) : null));
+    }
+
+    /**
+     * Notifies the circuit breaker about the outcome of a permitted request of the given route family. Requests which
+     * have been answered by the remote service count as success, even if answered with a regular error or rejected as
+     * invalid. Only {@link ErrorClassification#isServiceFailure(Throwable) service failures} count as failure. Requests
+     * which have been cancelled, interrupted or which exceeded their deadline as well as requests which failed for any
+     * other reason do not tell anything about the remote service, so their permission will just be released.
+     *
+     * @param family The route family of the request
+     * @param error  The error by which the request failed or <em>{@code null}</em> if the request succeeded
+     */
+    private void reportOutcome(String family, @CheckForNull Throwable error) {
+        if (error == null) {
+            circuitBreaker.onSuccess(family);
+        } else if (!(error instanceof APIException) || ErrorClassification.isAbandoned(error)) {
+            circuitBreaker.release(family);
+        } else if (ErrorClassification.isServiceFailure(error)) {
+            circuitBreaker.onFailure(family);
+        } else {
+            circuitBreaker.onSuccess(family);
+        }
+    }
+}
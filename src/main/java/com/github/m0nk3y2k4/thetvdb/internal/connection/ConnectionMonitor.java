@@ -0,0 +1,417 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import com.github.m0nk3y2k4.thetvdb.api.cache.ResponseCache;
+import com.github.m0nk3y2k4.thetvdb.api.event.APIEventListener;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.api.management.ConnectionMXBean;
+import com.github.m0nk3y2k4.thetvdb.api.management.RateLimiterMXBean;
+import com.github.m0nk3y2k4.thetvdb.api.management.ResponseCacheMXBean;
+import com.github.m0nk3y2k4.thetvdb.api.management.RouteActivity;
+import com.github.m0nk3y2k4.thetvdb.api.metrics.LatencySnapshot;
+import com.github.m0nk3y2k4.thetvdb.api.ratelimit.RateLimiter;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.RouteActivityImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.metrics.LatencyHistogram;
+
+/**
+ * Monitor exposing the live state of an API connection via JMX
+ * <p><br>
+ * The monitor observes all API calls of the connection as an event listener and counts the calls, errors and retries
+ * as well as the latency of the calls per route template. All events will be forwarded to the event listener
+ * configured for the connection, if any. Once the connection has been constructed, the monitor will be
+ * {@link #register(String, ResponseCache, RateLimiter) registered} at the platform MBean server as
+ * {@link ConnectionMXBean}, accompanied by MBeans reporting the statistics of the response cache and rate limiter of
+ * the connection. As the platform MBean server references these MBeans, and thereby the connection, for the lifetime of
+ * the JVM, they have to be {@link #unregister() unregistered} again when the connection is closed.
+ * <p><br>
+ * This class is thread-safe.
+ */
+final class ConnectionMonitor implements APIEventListener, ConnectionMXBean {
+
+    /** Domain of the object names of all MBeans registered for API connections */
+    static final String DOMAIN = "com.github.m0nk3y2k4.thetvdb";
+
+    /** The monitored connection */
+    private final APIConnection connection;
+
+    /** Listener configured for the connection to which all events will be forwarded (optional) */
+    private final APIEventListener delegate;
+
+    /** Point in time at which each API call currently in flight has been invoked, by correlation ID */
+    private final Map<Long, Long> started = new ConcurrentHashMap<>();
+
+    /** The activity per route template */
+    private final Map<String, Activity> routes = new ConcurrentHashMap<>();
+
+    /** Object names of the MBeans currently registered for the connection (guarded by this monitor) */
+    private final List<ObjectName> registered = new ArrayList<>();
+
+    /**
+     * Creates a new monitor for the given connection
+     *
+     * @param connection The connection to be monitored
+     * @param delegate   Listener to which all events should be forwarded, might be <em>{@code null}</em>
+     */
+    ConnectionMonitor(@Nonnull APIConnection connection, @CheckForNull APIEventListener delegate) {
+        this.connection = connection;
+        this.delegate = delegate;
+    }
+
+    /**
+     * Registers this monitor at the platform MBean server using the given name. If a response cache or rate limiter
+     * are given, additional MBeans reporting their statistics will be registered with the same name. Registration
+     * fails if MBeans have already been registered under the same object names, e.g. by another connection which has
+     * not yet been closed. In this case, none of the MBeans of this monitor will remain registered.
+     *
+     * @param name          The name of the MBeans
+     * @param responseCache The response cache of the connection, might be <em>{@code null}</em>
+     * @param rateLimiter   The rate limiter of the connection, might be <em>{@code null}</em>
+     *
+     * @throws IllegalStateException If the MBeans could not be registered, e.g. as the name is already in use
+     */
+    synchronized void register(@Nonnull String name, @CheckForNull ResponseCache responseCache,
+            @CheckForNull RateLimiter rateLimiter) {
+        try {
+            register("Connection", name, this, ConnectionMXBean.class);
+            if (responseCache != null) {
+                register("ResponseCache", name, new CacheMonitor(responseCache), ResponseCacheMXBean.class);
+            }
+            if (rateLimiter != null) {
+                register("RateLimiter", name, (RateLimiterMXBean)rateLimiter::getRate, RateLimiterMXBean.class);
+            }
+        } catch (IllegalStateException ex) {
+            unregister();
+            throw ex;
+        }
+    }
+
+    /**
+     * Unregisters all MBeans which have been registered for the connection from the platform MBean server. MBeans which
+     * have already been unregistered in the meantime, e.g. by some JMX client, will be skipped.
+     */
+    synchronized void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName objectName : registered) {
+            try {
+                server.unregisterMBean(objectName);
+            } catch (InstanceNotFoundException ex) {
+                // Already unregistered, nothing left to release
+            } catch (JMException ex) {
+                throw new IllegalStateException(String.format("Unable to unregister MBean [%s]", objectName), ex);
+            }
+        }
+        registered.clear();
+    }
+
+    /**
+     * Registers the given MBean at the platform MBean server
+     *
+     * @param type            The type of the MBean
+     * @param name            The name of the MBean
+     * @param mbean           The MBean to be registered
+     * @param mxbeanInterface The management interface implemented by the MBean
+     * @param <T>             Type of the management interface
+     *
+     * @throws IllegalStateException If the MBean could not be registered, e.g. as another MBean has already been
+     *                               registered under the same object name
+     */
+    private <T> void register(String type, String name, T mbean, Class<T> mxbeanInterface) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = objectName(type, name);
+            server.registerMBean(new StandardMBean(mbean, mxbeanInterface, true), objectName);
+            registered.add(objectName);
+        } catch (InstanceAlreadyExistsException ex) {
+            throw new IllegalStateException(String.format("%s MBean [%s] has already been registered", type, name), ex);
+        } catch (JMException ex) {
+            throw new IllegalStateException(String.format("Unable to register %s MBean [%s]", type, name), ex);
+        }
+    }
+
+    /**
+     * Returns the object name of the MBean with the given type and name
+     *
+     * @param type The type of the MBean, e.g. <em>{@code Connection}</em>
+     * @param name The name of the MBean
+     *
+     * @return The object name of the MBean within the {@link #DOMAIN}
+     *
+     * @throws JMException If no valid object name could be created
+     */
+    static ObjectName objectName(@Nonnull String type, @Nonnull String name) throws JMException {
+        return new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+    }
+
+    @Override
+    public void onRequestStart(long correlationId, @Nonnull String method, @Nonnull String resource) {
+        started.put(correlationId, System.nanoTime());
+        activity(resource).requests.increment();
+        if (delegate != null) {
+            delegate.onRequestStart(correlationId, method, resource);
+        }
+    }
+
+    @Override
+    public void onConnectionAcquired(long correlationId, @Nonnull String resource, @Nonnull URL url) {
+        if (delegate != null) {
+            delegate.onConnectionAcquired(correlationId, resource, url);
+        }
+    }
+
+    @Override
+    public void onHeadersReceived(long correlationId, @Nonnull String resource, int statusCode) {
+        if (delegate != null) {
+            delegate.onHeadersReceived(correlationId, resource, statusCode);
+        }
+    }
+
+    @Override
+    public void onBodyRead(long correlationId, @Nonnull String resource) {
+        if (delegate != null) {
+            delegate.onBodyRead(correlationId, resource);
+        }
+    }
+
+    @Override
+    public void onDeserialized(long correlationId, @Nonnull String resource) {
+        complete(correlationId, resource, false);
+        if (delegate != null) {
+            delegate.onDeserialized(correlationId, resource);
+        }
+    }
+
+    @Override
+    public void onRetry(long correlationId, @Nonnull String resource, int retry, @Nonnull Duration delay,
+            @Nonnull APIException cause) {
+        activity(resource).retries.increment();
+        if (delegate != null) {
+            delegate.onRetry(correlationId, resource, retry, delay, cause);
+        }
+    }
+
+    @Override
+    public void onLogin(long correlationId, @Nonnull String resource) {
+        if (delegate != null) {
+            delegate.onLogin(correlationId, resource);
+        }
+    }
+
+    @Override
+    public void onFailure(long correlationId, @Nonnull String resource, @Nonnull Throwable error) {
+        complete(correlationId, resource, true);
+        if (delegate != null) {
+            delegate.onFailure(correlationId, resource, error);
+        }
+    }
+
+    /**
+     * Records the completion of the API call with the given correlation ID
+     *
+     * @param correlationId The ID of the completed call
+     * @param resource      The resource invoked by the call
+     * @param failed        Whether the call failed
+     */
+    private void complete(long correlationId, String resource, boolean failed) {
+        Activity activity = activity(resource);
+        Long start = started.remove(correlationId);
+        if (start != null) {
+            activity.latency.record(System.nanoTime() - start);
+        }
+        if (failed) {
+            activity.errors.increment();
+        }
+    }
+
+    /**
+     * Returns the activity of the route template of the given resource, creating it if necessary
+     *
+     * @param resource An invoked resource
+     *
+     * @return The activity of the route template of the resource
+     */
+    private Activity activity(String resource) {
+        return routes.computeIfAbsent(APIRequest.toRouteTemplate(resource), route -> new Activity());
+    }
+
+    @Override
+    public String getSessionStatus() {
+        return connection.getSession().getStatus().name();
+    }
+
+    @Override
+    public long getTokenAgeSeconds() {
+        return connection.getSession().getTokenIssued()
+                .map(issued -> Math.max(Duration.between(issued, Instant.now()).toSeconds(), 0)).orElse(-1L);
+    }
+
+    @Override
+    public int getInFlightCount() {
+        return started.size();
+    }
+
+    @Override
+    public long getRequestCount() {
+        return routes.values().stream().mapToLong(activity -> activity.requests.sum()).sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return routes.values().stream().mapToLong(activity -> activity.errors.sum()).sum();
+    }
+
+    @Override
+    public long getRetryCount() {
+        return routes.values().stream().mapToLong(activity -> activity.retries.sum()).sum();
+    }
+
+    @Override
+    public List<RouteActivity> getRoutes() {
+        return routes.entrySet().stream().map(route -> route.getValue().snapshot(route.getKey()))
+                .sorted(Comparator.comparing(RouteActivity::getRoute)).collect(Collectors.toList());
+    }
+
+    @Override
+    public void forceLogin() {
+        try {
+            connection.login();
+        } catch (APIException ex) {
+            // Not passing the cause, as remote JMX clients might not be able to deserialize it
+            throw new IllegalStateException("Login failed: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Returns the given duration in fractional milliseconds
+     *
+     * @param duration Some duration
+     *
+     * @return The duration in milliseconds
+     */
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000d;
+    }
+
+    /**
+     * Counters and latency histogram of a single route template
+     */
+    private static final class Activity {
+
+        /** Number of calls invoked on the route */
+        private final LongAdder requests = new LongAdder();
+
+        /** Number of failed calls on the route */
+        private final LongAdder errors = new LongAdder();
+
+        /** Number of retries sent on behalf of calls on the route */
+        private final LongAdder retries = new LongAdder();
+
+        /** Latency of the completed calls on the route */
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        /**
+         * Creates a snapshot of the current activity on the given route
+         *
+         * @param route The route template of this activity
+         *
+         * @return Snapshot of this activity
+         */
+        private RouteActivity snapshot(String route) {
+            LatencySnapshot latencies = latency.snapshot();
+            return new RouteActivityImpl.Builder().route(route).requestCount(requests.sum())
+                    .errorCount(errors.sum()).retryCount(retries.sum())
+                    .meanLatencyMillis(toMillis(latencies.getMean()))
+                    .p50LatencyMillis(toMillis(latencies.getP50()))
+                    .p90LatencyMillis(toMillis(latencies.getP90()))
+                    .p99LatencyMillis(toMillis(latencies.getP99())).build();
+        }
+    }
+
+    /**
+     * MBean reporting the statistics of a response cache
+     */
+    private static final class CacheMonitor implements ResponseCacheMXBean {
+
+        /** The monitored response cache */
+        private final ResponseCache responseCache;
+
+        /**
+         * Creates a new monitor for the given cache
+         *
+         * @param responseCache The response cache to be monitored
+         */
+        private CacheMonitor(ResponseCache responseCache) {
+            this.responseCache = responseCache;
+        }
+
+        @Override
+        public long getHitCount() {
+            return responseCache.getStatistics().getHitCount();
+        }
+
+        @Override
+        public long getMissCount() {
+            return responseCache.getStatistics().getMissCount();
+        }
+
+        @Override
+        public long getRevalidationCount() {
+            return responseCache.getStatistics().getRevalidationCount();
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return responseCache.getStatistics().getEvictionCount();
+        }
+
+        @Override
+        public long getEntryCount() {
+            return responseCache.getStatistics().getEntryCount();
+        }
+
+        @Override
+        public double getHitRate() {
+            return responseCache.getStatistics().getHitRate();
+        }
+
+        @Override
+        public void clear() {
+            responseCache.invalidateAll();
+        }
+    }
+}
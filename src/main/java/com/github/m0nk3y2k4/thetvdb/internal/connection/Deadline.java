@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APITimeoutException;
+
+/**
+ * Point in time by which an API call has to be completed. The deadline is determined once the call has been invoked
+ * and will be shared by all requests sent on behalf of this call, e.g. on-demand logins and retries. The time which is
+ * remaining until the deadline limits the time these requests may wait, either for some permit or for the response of
+ * the remote service.
+ */
+final class Deadline {
+
+    /** Error message for calls which could not be completed within their timeout */
+    static final String ERR_DEADLINE_EXCEEDED = "API call could not be completed within its timeout of %d ms";
+
+    /** The timeout of the API call this deadline has been determined for */
+    private final Duration timeout;
+
+    /** Point in time (nanoseconds as returned by the ticker) at which the deadline expires */
+    private final long expiration;
+
+    /** Source of the current point in time in nanoseconds */
+    private final LongSupplier ticker;
+
+    /**
+     * Creates a new deadline expiring the given timeout after the current point in time as returned by the given ticker
+     *
+     * @param timeout The timeout of the API call
+     * @param ticker  Source of the current point in time in nanoseconds
+     */
+    private Deadline(Duration timeout, LongSupplier ticker) {
+        this.timeout = timeout;
+        this.ticker = ticker;
+        this.expiration = ticker.getAsLong() + timeout.toNanos();
+    }
+
+    /**
+     * Creates a new deadline expiring the given timeout from now
+     *
+     * @param timeout The timeout of the API call
+     *
+     * @return New deadline for an API call invoked right now
+     */
+    static Deadline after(@Nonnull Duration timeout) {
+        return after(timeout, System::nanoTime);
+    }
+
+    /**
+     * Creates a new deadline expiring the given timeout after the current point in time as returned by the given ticker
+     *
+     * @param timeout The timeout of the API call
+     * @param ticker  Source of the current point in time in nanoseconds
+     *
+     * @return New deadline for an API call invoked right now
+     */
+    static Deadline after(@Nonnull Duration timeout, @Nonnull LongSupplier ticker) {
+        return new Deadline(timeout, ticker);
+    }
+
+    /**
+     * Returns the earlier of the given deadlines
+     *
+     * @param first  Some deadline, might be <em>{@code null}</em>
+     * @param second Some other deadline, might be <em>{@code null}</em>
+     *
+     * @return The deadline expiring first or <em>{@code null}</em> if neither of the deadlines is present
+     */
+    @CheckForNull
+    static Deadline earliest(@CheckForNull Deadline first, @CheckForNull Deadline second) {
+        if (first == null || second == null) {
+            return first != null ? first : second;
+        }
+        return first.expiration - second.expiration <= 0 ? first : second;
+    }
+
+    /**
+     * Returns the time remaining until this deadline expires
+     *
+     * @return The remaining time or {@link Duration#ZERO} if this deadline has already expired
+     */
+    Duration remaining() {
+        return Duration.ofNanos(Math.max(0, expiration - ticker.getAsLong()));
+    }
+
+    /**
+     * Limits the given timeout to the time remaining until this deadline expires
+     *
+     * @param timeout Some timeout to be limited, might be <em>{@code null}</em> if not set
+     *
+     * @return The given timeout or the remaining time, whichever is shorter
+     */
+    Duration limit(@CheckForNull Duration timeout) {
+        Duration remaining = remaining();
+        return timeout == null || timeout.compareTo(remaining) > 0 ? remaining : timeout;
+    }
+
+    /**
+     * Checks whether the API call would still be in time after waiting for the given delay
+     *
+     * @param delay The time to wait before proceeding with the call
+     *
+     * @throws APITimeoutException If the deadline expires before the delay has elapsed
+     */
+    void check(@Nonnull Duration delay) throws APITimeoutException {
+        if (remaining().compareTo(delay) <= 0) {
+            throw exceeded();
+        }
+    }
+
+    /**
+     * Creates a new exception reporting that the API call could not be completed within its timeout
+     *
+     * @return Exception reporting that this deadline has been exceeded
+     */
+    APITimeoutException exceeded() {
+        return new APITimeoutException(String.format(ERR_DEADLINE_EXCEEDED, timeout.toMillis()));
+    }
+}
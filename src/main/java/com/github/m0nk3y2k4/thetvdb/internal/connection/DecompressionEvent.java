@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event covering the decompression of a gzip-encoded response body. As the body is decompressed on the
+ * fly while being parsed, the event spans the whole parsing of the body. The time actually spent inflating the body,
+ * not including the time spent waiting for the network, is recorded separately.
+ */
+@Name("com.github.m0nk3y2k4.thetvdb.Decompression")
+@Label("TheTVDB Decompression")
+@Category("TheTVDB API")
+@Description("Decompression of a gzip-encoded response body while it is being parsed")
+final class DecompressionEvent extends Event {
+
+    @Label("Route")
+    @Description("Route template of the requested resource")
+    String route;
+
+    @Label("Compressed Bytes")
+    @DataAmount
+    long compressedBytes;
+
+    @Label("Decompressed Bytes")
+    @DataAmount
+    long decompressedBytes;
+
+    @Label("Inflate Time")
+    @Description("Time spent inflating the response body, not including the time spent waiting for the network")
+    @Timespan
+    long inflateTime;
+
+    @Label("Outcome")
+    String outcome;
+}
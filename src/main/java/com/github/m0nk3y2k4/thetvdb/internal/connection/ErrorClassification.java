@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICommunicationException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APIThrottledException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APITimeoutException;
+
+/**
+ * Classification of the errors by which requests to the remote service may fail
+ * <p><br>
+ * Provides a common classification used by all stages of request processing which react to failed requests, e.g. the
+ * retry policy, the circuit breaker, hedging and endpoint failover. Only errors indicating that the remote service
+ * could not be reached or failed to process a request are considered as failure of the remote service. Regular error
+ * responses as well as requests rejected as invalid, e.g. via HTTP-400 or HTTP-403, prove that the remote service is
+ * working and will not be any different when sending the same request again.
+ */
+public final class ErrorClassification {
+
+    private ErrorClassification() {}        // Private constructor. Only static methods
+
+    /**
+     * Checks whether the given error indicates that a request could not be sent to the remote endpoint at all, e.g.
+     * because the endpoint refused the connection or did not respond in time. Errors occurring while parsing the
+     * response prove that the endpoint could be reached and are therefore not considered as connection failure.
+     *
+     * @param error The error by which a request failed
+     *
+     * @return <em>{@code true}</em> if the error indicates a connection level failure
+     */
+    public static boolean isConnectionFailure(@Nonnull Throwable error) {
+        return error instanceof APICommunicationException && error.getCause() instanceof IOException cause
+                && !(cause instanceof JsonProcessingException);
+    }
+
+    /**
+     * Checks whether the given error indicates that the remote service failed to process a request. This is the case
+     * for connection level failures including timeouts reported by the transport, server errors (HTTP-5xx) as well as
+     * throttling via HTTP-429 or HTTP-503. Any such failure is transient, i.e. the request might succeed when being
+     * sent again later.
+     *
+     * @param error The error by which a request failed
+     *
+     * @return <em>{@code true}</em> if the error indicates a failure of the remote service
+     */
+    public static boolean isServiceFailure(@Nonnull Throwable error) {
+        return error instanceof APIThrottledException || isConnectionFailure(error)
+                || (error instanceof APICommunicationException communicationError && communicationError.getStatusCode()
+                        .orElse(0) >= HttpURLConnection.HTTP_INTERNAL_ERROR);
+    }
+
+    /**
+     * Checks whether the given error indicates that a request has been given up by the API call that sent it. This is
+     * the case if the calling thread has been interrupted or if the call exceeded its own deadline before a response
+     * was received. Such errors are specific to the calling side and do not tell anything about the remote service.
+     *
+     * @param error The error by which a request failed
+     *
+     * @return <em>{@code true}</em> if the request failed for reasons specific to the API call that sent it
+     */
+    public static boolean isAbandoned(@Nonnull Throwable error) {
+        return error.getCause() instanceof InterruptedException
+                || (error instanceof APITimeoutException && error.getCause() == null);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event covering a single exchange with the remote service, from sending the request until its
+ * response has been read. Exchanges sent via the HTTP client transport will be recorded by the thread which read the
+ * response.
+ */
+@Name("com.github.m0nk3y2k4.thetvdb.Exchange")
+@Label("TheTVDB Exchange")
+@Category("TheTVDB API")
+@Description("Exchange with the remote service, from sending the request until its response has been read")
+final class ExchangeEvent extends Event {
+
+    /** Outcome of exchanges whose response has been read successfully */
+    static final String SUCCESS = "success";
+
+    /** Outcome of exchanges which failed, e.g. due to an I/O error or an error status code */
+    static final String FAILURE = "failure";
+
+    /** Outcome of exchanges which have been cancelled as their response was no longer required */
+    static final String CANCELLED = "cancelled";
+
+    @Label("Method")
+    String method;
+
+    @Label("Route")
+    @Description("Route template of the requested resource")
+    String route;
+
+    @Label("Status Code")
+    @Description("HTTP status code of the response or 0 if no response has been received")
+    int statusCode;
+
+    @Label("Compressed Bytes")
+    @Description("Size of the response body as transferred over the network")
+    @DataAmount
+    long compressedBytes;
+
+    @Label("Decompressed Bytes")
+    @Description("Size of the response body after decompression")
+    @DataAmount
+    long decompressedBytes;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.api.metrics.RequestMetrics;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.RequestMetricsImpl;
+
+/**
+ * Measures a single exchange with the remote service on behalf of a configured metrics recorder. A new meter will be
+ * started right before a request is sent. The meter has to be notified as soon as the response headers have been
+ * received. The response body is metered by wrapping its input stream twice: once as transferred over the network, in
+ * order to count the compressed bytes and the time spent waiting for them, and once more after decompression, in order
+ * to count the decompressed bytes. The time spent waiting for the network is subtracted from the time it took to parse
+ * the response body as well as from the time it took to read the decompressed data, which is the time spent inflating
+ * the response body.
+ * <p><br>
+ * The meter is not thread-safe. It must only be used by one thread at a time, e.g. by the subsequent stages of an
+ * asynchronous exchange.
+ */
+final class ExchangeMeter {
+
+    /** Source of the current point in time in nanoseconds */
+    private final LongSupplier ticker;
+
+    /** Point in time at which the request has been sent */
+    private final long start;
+
+    /** Point in time at which the response headers have been received */
+    private long firstByte;
+
+    /** Status code of the response or <em>{@code null}</em> if no response has been received */
+    private Integer statusCode;
+
+    /** Time spent waiting for the response body, in nanoseconds */
+    private long waited;
+
+    /** Time spent parsing the response body, in nanoseconds */
+    private long parsed;
+
+    /** Time spent decompressing the response body, in nanoseconds */
+    private long inflated;
+
+    /** Size of the response body before and after decompression */
+    private long compressedBytes;
+    private long decompressedBytes;
+
+    /**
+     * Creates a new meter starting at the current point in time as returned by the given ticker
+     *
+     * @param ticker Source of the current point in time in nanoseconds
+     */
+    private ExchangeMeter(LongSupplier ticker) {
+        this.ticker = ticker;
+        this.start = ticker.getAsLong();
+    }
+
+    /**
+     * Starts metering a new exchange right now
+     *
+     * @return New meter for an exchange which is about to be sent
+     */
+    static ExchangeMeter start() {
+        return start(System::nanoTime);
+    }
+
+    /**
+     * Starts metering a new exchange at the current point in time as returned by the given ticker
+     *
+     * @param ticker Source of the current point in time in nanoseconds
+     *
+     * @return New meter for an exchange which is about to be sent
+     */
+    static ExchangeMeter start(@Nonnull LongSupplier ticker) {
+        return new ExchangeMeter(ticker);
+    }
+
+    /**
+     * Notifies this meter that the response headers have been received. Only the first notification will be taken into
+     * account.
+     *
+     * @param status The status code of the response
+     */
+    void onResponse(int status) {
+        if (statusCode == null) {
+            firstByte = ticker.getAsLong();
+            statusCode = status;
+        }
+    }
+
+    /**
+     * Notifies this meter that the response body has been received completely, in case it has been buffered rather than
+     * being streamed into the parser
+     */
+    void onReceived() {
+        if (statusCode != null) {
+            waited += ticker.getAsLong() - firstByte;
+        }
+    }
+
+    /**
+     * Wraps the given stream providing the response body as transferred over the network. Each byte read from the
+     * returned stream will be counted as compressed byte and the time spent reading will be accounted as network time.
+     *
+     * @param body The response body as received from the remote service
+     *
+     * @return Stream counting the compressed bytes of the response body
+     */
+    InputStream transferred(@Nonnull InputStream body) {
+        return new MeteredInputStream(body, true);
+    }
+
+    /**
+     * Wraps the given stream providing the decompressed response body. Each byte read from the returned stream will be
+     * counted as decompressed byte.
+     *
+     * @param content The decompressed response body
+     *
+     * @return Stream counting the decompressed bytes of the response body
+     */
+    InputStream decompressed(@Nonnull InputStream content) {
+        return new MeteredInputStream(content, false);
+    }
+
+    /**
+     * Lets the given reader parse the response body from the given parser and measures the time it took, not including
+     * the time spent waiting for the network
+     *
+     * @param reader Reader used to map the response body
+     * @param parser Parser providing the response body
+     * @param <T>    Type of the value read from the response body
+     *
+     * @return The response body as read by the given reader
+     *
+     * @throws IOException  If an I/O error occurred while reading the response body
+     * @throws APIException If the response body could not be mapped by the given reader
+     */
+    <T> T parse(@Nonnull ResponseReader<T> reader, @Nonnull JsonParser parser) throws IOException, APIException {
+        long waitedBefore = waited;
+        long begin = ticker.getAsLong();
+        try {
+            return reader.read(parser);
+        } finally {
+            parsed += Math.max(ticker.getAsLong() - begin - (waited - waitedBefore), 0);
+        }
+    }
+
+    /**
+     * Returns the number of bytes of the response body which have been transferred over the network so far
+     *
+     * @return The compressed size of the response body read so far
+     */
+    long getCompressedBytes() {
+        return compressedBytes;
+    }
+
+    /**
+     * Returns the number of bytes of the response body which have been read after decompression so far
+     *
+     * @return The decompressed size of the response body read so far
+     */
+    long getDecompressedBytes() {
+        return decompressedBytes;
+    }
+
+    /**
+     * Returns the time spent reading the decompressed response body, not including the time spent waiting for the
+     * network. For gzip-encoded responses, this is the time it took to inflate the response body.
+     *
+     * @return The time spent decompressing the response body
+     */
+    Duration getInflateTime() {
+        return Duration.ofNanos(inflated);
+    }
+
+    /**
+     * Completes the measurement of the exchange and returns its metrics. If no response has been received, the transfer
+     * time of the exchange is the time until now.
+     *
+     * @param method The request method of the exchange
+     * @param route  The route template of the requested resource
+     *
+     * @return The metrics of the exchange
+     */
+    RequestMetrics finish(@Nonnull String method, @Nonnull String route) {
+        RequestMetricsImpl.Builder metrics = new RequestMetricsImpl.Builder().method(method).route(route)
+                .parseTime(Duration.ofNanos(parsed)).compressedBytes(compressedBytes)
+                .decompressedBytes(decompressedBytes);
+        if (statusCode == null) {
+            return metrics.transferTime(Duration.ofNanos(ticker.getAsLong() - start)).build();
+        }
+        return metrics.statusCode(statusCode).timeToFirstByte(Duration.ofNanos(firstByte - start))
+                .transferTime(Duration.ofNanos(firstByte - start + waited)).build();
+    }
+
+    /**
+     * Input stream counting the bytes read from the underlying stream
+     */
+    private final class MeteredInputStream extends FilterInputStream {
+
+        /** Whether this stream provides the data transferred over the network rather than the decompressed data */
+        private final boolean transferred;
+
+        /**
+         * Creates a new metered stream reading from the given stream
+         *
+         * @param in          The underlying stream
+         * @param transferred Whether the given stream provides the data as transferred over the network
+         */
+        private MeteredInputStream(InputStream in, boolean transferred) {
+            super(in);
+            this.transferred = transferred;
+        }
+
+        @Override
+        public int read() throws IOException {
+            long waitedBefore = waited;
+            long begin = ticker.getAsLong();
+            int data = super.read();
+            count(data < 0 ? -1 : 1, begin, waitedBefore);
+            return data;
+        }
+
+        @Override
+        public int read(@Nonnull byte[] buffer, int offset, int length) throws IOException {
+            long waitedBefore = waited;
+            long begin = ticker.getAsLong();
+            int count = super.read(buffer, offset, length);
+            count(count, begin, waitedBefore);
+            return count;
+        }
+
+        /**
+         * Counts the given number of bytes which have just been read as well as the time it took to read them
+         *
+         * @param count        Number of bytes read or a negative value if the end of the stream has been reached
+         * @param begin        Point in time at which reading started
+         * @param waitedBefore Time spent waiting for the network before reading started
+         */
+        private void count(int count, long begin, long waitedBefore) {
+            long elapsed = ticker.getAsLong() - begin;
+            if (transferred) {
+                waited += elapsed;
+                compressedBytes += Math.max(count, 0);
+            } else {
+                inflated += Math.max(elapsed - (waited - waitedBefore), 0);
+                decompressedBytes += Math.max(count, 0);
+            }
+        }
+    }
+}
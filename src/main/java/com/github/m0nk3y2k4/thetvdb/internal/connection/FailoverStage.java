@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.Proxy;
+import com.github.m0nk3y2k4.thetvdb.api.endpoint.EndpointGroup;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICommunicationException;
+
+/**
+ * Stage of the request pipeline spreading the requests across the endpoints of an {@link EndpointGroup}
+ * <p><br>
+ * Each request will be sent to an endpoint selected by the group instead of the remote endpoint of the connection.
+ * Idempotent requests which could not be sent due to a {@link ErrorClassification#isConnectionFailure(Throwable)
+ * connection failure} will be sent again to another endpoint of the group, until all endpoints have been tried. The
+ * group will be notified whether each endpoint could be reached, along with the latency of the endpoints which have
+ * been reached. If the request could not be sent to any endpoint, the error of the last endpoint will be returned.
+ */
+final class FailoverStage implements RequestStage {
+
+    /** Error message for requests which could not be sent as the endpoint group did not provide any endpoint */
+    static final String ERR_NO_ENDPOINT_AVAILABLE = "No endpoint available for sending the request";
+
+    /** Group of remote endpoints across which the requests will be spread */
+    private final EndpointGroup endpointGroup;
+
+    /** The next stage of the pipeline */
+    private final RequestStage next;
+
+    /**
+     * Creates a new failover stage
+     *
+     * @param endpointGroup Group of remote endpoints across which the requests will be spread
+     * @param next          The next stage of the pipeline
+     */
+    FailoverStage(@Nonnull EndpointGroup endpointGroup, @Nonnull RequestStage next) {
+        this.endpointGroup = endpointGroup;
+        this.next = next;
+    }
+
+    @Override
+    public <T> T send(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) throws APIException {
+        Set<Proxy> tried = new HashSet<>();
+        APIException failure = new APICommunicationException(ERR_NO_ENDPOINT_AVAILABLE);
+        for (Optional<Proxy> endpoint = endpointGroup.select(tried); endpoint.isPresent();
+                endpoint = endpointGroup.select(tried)) {
+            tried.add(endpoint.get());
+            request.setRemoteAPI(toRemoteAPI(endpoint.get()));
+            long start = System.nanoTime();
+            try {
+                T response = next.send(request, reader);
+                endpointGroup.onSuccess(endpoint.get(), Duration.ofNanos(System.nanoTime() - start));
+                return response;
+            } catch (APIException ex) {
+                if (!ErrorClassification.isConnectionFailure(ex)) {
+                    endpointGroup.onSuccess(endpoint.get(), Duration.ofNanos(System.nanoTime() - start));
+                    throw ex;
+                }
+                endpointGroup.onFailure(endpoint.get());
+                if (!request.getRequestMethod().isIdempotent() || Thread.currentThread().isInterrupted()) {
+                    throw ex;
+                }
+                failure = ex;
+            }
+        }
+        throw failure;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> sendAsync(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) {
+        return sendAsync(request, reader, new HashSet<>(), new APICommunicationException(ERR_NO_ENDPOINT_AVAILABLE));
+    }
+
+    /**
+     * Sends the given request asynchronously to an endpoint of the endpoint group which has not yet been tried
+     *
+     * @param request The request to be sent
+     * @param reader  Reader used to map the body of a successful response
+     * @param tried   The endpoints which have already been tried for this request
+     * @param failure The error of the endpoint which has been tried last
+     * @param <T>     Type of the value read from the response body
+     *
+     * @return Future which will be completed with the response as read by the given reader or exceptionally with an
+     *         {@link APIException} in case of an error
+     */
+    private <T> CompletableFuture<T> sendAsync(APIRequest request, ResponseReader<T> reader, Set<Proxy> tried,
+            APIException failure) {
+        Optional<Proxy> endpoint = endpointGroup.select(tried);
+        if (endpoint.isEmpty()) {
+            return CompletableFuture.failedFuture(failure);
+        }
+
+        tried.add(endpoint.get());
+        request.setRemoteAPI(toRemoteAPI(endpoint.get()));
+        long start = System.nanoTime();
+        return next.sendAsync(request, reader).handle((response, error) -> {
+            Duration latency = Duration.ofNanos(System.nanoTime() - start);
+            if (error == null) {
+                endpointGroup.onSuccess(endpoint.get(), latency);
+                return CompletableFuture.completedFuture(response);
+            }
+            Throwable cause = APIRequest.unwrap(error);
+            if (!ErrorClassification.isConnectionFailure(cause)) {
+                if (!(cause instanceof CancellationException)) {
+                    endpointGroup.onSuccess(endpoint.get(), latency);
+                }
+                return CompletableFuture.<T>failedFuture(cause);
+            }
+            endpointGroup.onFailure(endpoint.get());
+            if (!request.getRequestMethod().isIdempotent() || request.isCancelled()) {
+                return CompletableFuture.<T>failedFuture(cause);
+            }
+            return sendAsync(request, reader, tried, (APIException)cause);
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * Returns the remote API representation of the given endpoint
+     *
+     * @param endpoint Endpoint selected by the endpoint group
+     *
+     * @return The given endpoint as remote API
+     */
+    private static RemoteAPI toRemoteAPI(Proxy endpoint) {
+        return endpoint instanceof RemoteAPI remote ? remote : new RemoteAPI.Builder().from(endpoint).build();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpRequestMethod;
+
+/**
+ * Implementation for an API <em>{@code GET}</em> request
+ * <p><br>
+ * Invokes a specific remote service resource via the HTTP GET request method
+ */
+final class GetRequest extends APIRequest {
+
+    /**
+     * Creates a new <em>{@code GET}</em> request for the given resource
+     *
+     * @param resource Remote service resource to be invoked
+     */
+    GetRequest(@Nonnull String resource) {
+        super(resource, HttpRequestMethod.GET);
+    }
+
+    /**
+     * Creates a copy of this request which can be sent on behalf of this request, e.g. in order to hedge it. The copy
+     * shares the session, the remote endpoint and the response to be revalidated with this request.
+     *
+     * @return A new request for the same resource
+     */
+    GetRequest duplicate() {
+        return shareContext(new GetRequest(getResource()));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.annotation.Nonnull;
+import javax.net.ssl.HttpsURLConnection;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpRequestMethod;
+
+/**
+ * Implementation for an API <em>{@code HEAD}</em> request
+ * <p><br>
+ * Invokes a specific remote service resource via the HTTP HEAD request method. This request type will not parse any
+ * response stream content but only the returned connection headers, assembled into a JSON object.
+ */
+final class HeadRequest extends APIRequest {
+
+    /**
+     * Creates a new <em>{@code HEAD}</em> request for the given resource
+     *
+     * @param resource Remote service resource to be invoked
+     */
+    HeadRequest(@Nonnull String resource) {
+        super(resource, HttpRequestMethod.HEAD);
+    }
+
+    /**
+     * Assembles the response header fields of the given connection into the data node of a JSON object and passes it
+     * to the given reader
+     *
+     * @param con    Fully initialized HTTPS connection pointing to some remote service endpoint
+     * @param reader Reader used to map the artificial JSON object
+     * @param <T>    Type of the value read from the artificial JSON object
+     *
+     * @return Artificial JSON object containing the response header fields as read by the given reader
+     *
+     * @throws IOException  Thrown if an I/O error occurs while reading the artificial JSON object
+     * @throws APIException Thrown if the artificial JSON object could not be mapped by the given reader
+     */
+    @Override
+    <T> T getData(@Nonnull HttpsURLConnection con, @Nonnull ResponseReader<T> reader) throws IOException, APIException {
+        return readHeaderData(con.getHeaderFields(), reader);
+    }
+
+    /**
+     * Assembles the response header fields of the given response into the data node of a JSON object and passes it to
+     * the given reader
+     *
+     * @param response Response received from some remote service endpoint
+     * @param reader   Reader used to map the artificial JSON object
+     * @param <T>      Type of the value read from the artificial JSON object
+     *
+     * @return Artificial JSON object containing the response header fields as read by the given reader
+     *
+     * @throws IOException  Thrown if an I/O error occurs while reading the artificial JSON object
+     * @throws APIException Thrown if the artificial JSON object could not be mapped by the given reader
+     */
+    @Override
+    <T> T getData(@Nonnull HttpResponse<InputStream> response, @Nonnull ResponseReader<T> reader)
+            throws IOException, APIException {
+        return readHeaderData(response.headers().map(), reader);
+    }
+
+    /**
+     * Assembles the given header fields into the data node of a JSON object and passes it to the given reader
+     *
+     * @param headers The response header fields
+     * @param reader  Reader used to map the artificial JSON object
+     * @param <T>     Type of the value read from the artificial JSON object
+     *
+     * @return Artificial JSON object containing the given header fields as read by the given reader
+     *
+     * @throws IOException  Thrown if an I/O error occurs while reading the artificial JSON object
+     * @throws APIException Thrown if the artificial JSON object could not be mapped by the given reader
+     */
+    private static <T> T readHeaderData(@Nonnull Map<String, List<String>> headers, @Nonnull ResponseReader<T> reader)
+            throws IOException, APIException {
+        try (JsonParser parser = getHeaderData(headers).traverse()) {
+            return reader.read(parser);
+        }
+    }
+
+    /**
+     * Assembles the given header fields into the data node of a JSON object and returns it
+     *
+     * @param headers The response header fields
+     *
+     * @return Artificial JSON object containing the given header fields
+     */
+    private static JsonNode getHeaderData(@Nonnull Map<String, List<String>> headers) {
+        // Create JSON object from response header fields
+        JsonNodeFactory factory = JsonNodeFactory.instance;
+        ObjectNode data = factory.objectNode();
+
+        for (Entry<String, List<String>> header : headers.entrySet()) {
+            // Skip the status line (URL connection) as well as HTTP/2 pseudo-headers like ":status" (HTTP client)
+            if (header.getKey() == null || header.getKey().startsWith(":")) {
+                continue;
+            }
+
+            String key = header.getKey();
+            List<String> values = header.getValue();
+
+            if (values.isEmpty()) {
+                data.putNull(key);
+            } else if (values.size() == 1) {
+                data.put(key, values.get(0));
+            } else {
+                ArrayNode arrayNode = factory.arrayNode();
+                values.forEach(arrayNode::add);
+                data.set(key, arrayNode);
+            }
+        }
+
+        return factory.objectNode().set("data", data);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.api.hedging.HedgingPolicy;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICircuitOpenException;
+
+/**
+ * Stage of the request pipeline hedging slow requests according to a {@link HedgingPolicy}
+ * <p><br>
+ * A duplicate of each <em>{@code GET}</em> request will be sent if the request has not been answered within the hedge
+ * delay of its route family. The original request and its duplicate are both sent as separate copies of the request,
+ * so that their responses do not interfere with each other. The first conclusive response will be used and the other
+ * copy will be cancelled. Hedged requests are always sent asynchronously, with blocking invocations waiting for the
+ * first response. All other requests will be passed on unchanged.
+ */
+final class HedgingStage implements RequestStage {
+
+    /** Error message for being interrupted while waiting for the response to a hedged request */
+    static final String ERR_HEDGE_INTERRUPTED = "Interrupted while waiting for the response to a hedged request";
+
+    /** Policy for sending duplicates of slow requests */
+    private final HedgingPolicy hedgingPolicy;
+
+    /** Executor used for sending the duplicates once the hedge delay has elapsed */
+    private final Executor executor;
+
+    /** The next stage of the pipeline */
+    private final RequestStage next;
+
+    /**
+     * Creates a new hedging stage
+     *
+     * @param hedgingPolicy Policy for sending duplicates of slow requests
+     * @param executor      Executor used for sending the duplicates once the hedge delay has elapsed
+     * @param next          The next stage of the pipeline
+     */
+    HedgingStage(@Nonnull HedgingPolicy hedgingPolicy, @Nonnull Executor executor, @Nonnull RequestStage next) {
+        this.hedgingPolicy = hedgingPolicy;
+        this.executor = executor;
+        this.next = next;
+    }
+
+    @Override
+    public <T> T send(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) throws APIException {
+        if (!(request instanceof GetRequest)) {
+            return next.send(request, reader);
+        }
+
+        CompletableFuture<T> response = sendAsync(request, reader);
+        try {
+            return Waiting.await(response, ERR_HEDGE_INTERRUPTED, request.getDeadline());
+        } finally {
+            response.cancel(true);      // Cancels all copies still in flight if the thread has been interrupted
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> sendAsync(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) {
+        if (!(request instanceof GetRequest get)) {
+            return next.sendAsync(request, reader);
+        }
+
+        hedgingPolicy.onRequest();
+        HedgedResponse<T> response = new HedgedResponse<>(request, reader);
+        response.send(get.duplicate(), false);
+        hedgingPolicy.getHedgeDelay(request.getRouteFamily()).ifPresent(hedgeDelay -> Waiting
+                .delay(hedgeDelay, executor).thenRun(() -> {
+                    if (!response.isDone() && hedgingPolicy.tryHedge()) {
+                        response.send(get.duplicate(), true);
+                    }
+                }));
+        return response;
+    }
+
+    /**
+     * Checks whether the given error is a conclusive answer to a hedged request. Errors indicating that the remote
+     * service failed to process a request or that the request has been rejected by the circuit breaker are not
+     * conclusive, as a duplicate of the request might still succeed.
+     *
+     * @param error The error by which a hedged request failed
+     *
+     * @return <em>{@code true}</em> if the error is the final answer to the request
+     */
+    private static boolean isConclusive(Throwable error) {
+        return !ErrorClassification.isServiceFailure(error) && !(error instanceof APICircuitOpenException);
+    }
+
+    /**
+     * Response to a hedged request which will be completed by the first conclusive response to any of the copies sent
+     * on behalf of the request. If none of the copies is answered conclusively, the response will be completed with
+     * the error of the copy which failed last. Once completed, all copies which are still in progress will be
+     * cancelled. The latency of each answered copy is measured from sending the original request, i.e. it reflects the
+     * time the caller had to wait rather than the time the copy itself took.
+     *
+     * @param <T> Type of the value read from the response body
+     */
+    private final class HedgedResponse<T> extends CompletableFuture<T> {
+
+        /** The request being hedged */
+        private final APIRequest request;
+
+        /** Reader used to map the body of a successful response */
+        private final ResponseReader<T> reader;
+
+        /** All copies which have been sent on behalf of the hedged request */
+        private final List<APIRequest> copies = new CopyOnWriteArrayList<>();
+
+        /** Number of copies which have not been answered yet */
+        private final AtomicInteger pending = new AtomicInteger();
+
+        /** Whether the outcome of the hedged request has already been decided */
+        private final AtomicBoolean decided = new AtomicBoolean();
+
+        /** Point in time (nanoseconds) at which the original request has been sent */
+        private final long start = System.nanoTime();
+
+        /**
+         * Creates a new response to the given hedged request
+         *
+         * @param request The request being hedged
+         * @param reader  Reader used to map the body of a successful response
+         */
+        private HedgedResponse(APIRequest request, ResponseReader<T> reader) {
+            this.request = request;
+            this.reader = reader;
+            whenComplete((result, error) -> copies.forEach(APIRequest::cancel));
+        }
+
+        /**
+         * Sends the given copy of the hedged request
+         *
+         * @param copy  The copy to be sent
+         * @param hedge Whether the copy is a duplicate sent because the original request has not been answered in time
+         */
+        private void send(APIRequest copy, boolean hedge) {
+            copies.add(copy);
+            pending.incrementAndGet();
+            if (isDone()) {
+                copy.cancel();      // Completed concurrently, the copy will not be sent at all
+                return;
+            }
+
+            next.sendAsync(copy, reader).whenComplete((result, error) -> receive(copy, hedge, result, error));
+        }
+
+        /**
+         * Processes the response to some copy of the hedged request. The first conclusive response will complete this
+         * response. Each successful response will be reported to the hedging policy, even if it arrived too late.
+         *
+         * @param copy   The answered copy
+         * @param hedge  Whether the copy is a duplicate sent because the original request has not been answered in time
+         * @param result The response as read by the reader or <em>{@code null}</em> in case of an error
+         * @param error  The error by which the copy failed or <em>{@code null}</em> in case of a successful response
+         */
+        private void receive(APIRequest copy, boolean hedge, T result, Throwable error) {
+            Throwable cause = error != null ? APIRequest.unwrap(error) : null;
+            boolean first = (cause == null || isConclusive(cause)) && decided.compareAndSet(false, true);
+            if (cause == null) {
+                hedgingPolicy.onResponse(request.getRouteFamily(), Duration.ofNanos(System.nanoTime() - start),
+                        hedge && first);
+            }
+            if (first) {
+                request.adoptResponse(copy);
+                if (cause == null) {
+                    complete(result);
+                } else {
+                    completeExceptionally(cause);
+                }
+            } else if (pending.decrementAndGet() == 0 && decided.compareAndSet(false, true)) {
+                completeExceptionally(cause);       // None of the copies has been answered conclusively
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event covering the parsing of a response body by the reader of a request, e.g. into a raw JSON tree
+ * or straight into the DTOs of the response
+ */
+@Name("com.github.m0nk3y2k4.thetvdb.JsonParse")
+@Label("TheTVDB JSON Parsing")
+@Category("TheTVDB API")
+@Description("Parsing of a response body, e.g. into a JSON tree or straight into the DTOs of the response")
+final class JsonParseEvent extends Event {
+
+    @Label("Route")
+    @Description("Route template of the requested resource")
+    String route;
+
+    @Label("Bytes")
+    @Description("Size of the parsed response body after decompression")
+    @DataAmount
+    long bytes;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+import com.github.m0nk3y2k4.thetvdb.api.APIKey;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.api.keypool.KeyPool;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICommunicationException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APINotAuthorizedException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APIThrottledException;
+import com.github.m0nk3y2k4.thetvdb.internal.util.functional.ThrowableFunctionalInterfaces;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
+
+/**
+ * API connection spreading its requests across the keys of a {@link KeyPool}
+ * <p><br>
+ * The connection keeps a separate session for each key of the pool, each of which will be authorized independently.
+ * Apart from these sessions, all resources are shared by the requests of all keys, e.g. the HTTP client, the response
+ * cache or the requests currently in flight. Cached responses will therefore be served regardless of the key used to
+ * request them, and identical requests will be coalesced even if they would have been sent with different keys.
+ * <p><br>
+ * For each request, the pool selects the key whose session should be used. Requests throttled by the remote service
+ * or rejected as the session of the selected key could not be authorized will be sent again using another key, until
+ * all keys of the pool have been tried. The pool will be notified about the outcome of each attempt, so that it can
+ * route further requests around keys which are currently throttled or failing authorization. Note that a configured
+ * rate limiter is shared by all keys as well and should therefore permit the combined rate of the whole pool.
+ * <p><br>
+ * Session related methods like {@link #getToken()} or {@link #setToken(String)} refer to the session of the first key
+ * of the pool, whereas {@link #login()} and {@link #setLanguage(String)} apply to the sessions of all keys.
+ */
+public class PooledAPIConnection extends APIConnection {
+
+    /** Error message for requests which could not be sent as the key pool did not provide any key */
+    static final String ERR_NO_KEY_AVAILABLE = "Key pool did not provide any API key for sending the request";
+
+    /** Pool selecting the key to be used for each request */
+    private final KeyPool keyPool;
+
+    /** Connections holding the session of each key of the pool, in the order of the pool keys */
+    private final Map<APIKey, APIConnection> members = new LinkedHashMap<>();
+
+    /**
+     * Creates a new API connection spreading its requests across the keys of the given pool. All outgoing
+     * communication will be directed towards the given remote endpoint and will be conducted according to the given
+     * configuration.
+     *
+     * @param keyPool       Pool providing the <i>TheTVDB.com</i> v4 API-Keys to be used by this connection
+     * @param remote        Supplier providing a specific remote API endpoint to be used by this connection
+     * @param configuration The technical configuration of this connection, e.g. the HTTP transport to be used
+     */
+    public PooledAPIConnection(@Nonnull KeyPool keyPool, @Nonnull RemoteAPI remote,
+            @Nonnull APIConfiguration configuration) {
+        super(primaryKey(keyPool), remote, configuration);
+
+        this.keyPool = keyPool;
+        keyPool.getApiKeys().forEach(apiKey -> members.put(apiKey, new APIConnection(this, apiKey)));
+    }
+
+    /**
+     * Returns the first key of the given pool, which will be used for all session related methods
+     *
+     * @param keyPool Pool providing the API keys
+     *
+     * @return The first key of the pool
+     */
+    private static APIKey primaryKey(KeyPool keyPool) {
+        Parameters.validateNotNull(keyPool, "Key pool for this connection needs to be specified");
+        List<APIKey> apiKeys = keyPool.getApiKeys();
+        Parameters.validateNotEmpty(apiKeys, "Key pool must provide at least one API key");
+        return apiKeys.get(0);
+    }
+
+    /**
+     * Initializes the sessions of all keys of the pool by requesting a new token for each key. Keys whose session
+     * could not be initialized will be skipped, as they will be authorized on-demand once they are selected for some
+     * request. Only if none of the sessions could be initialized, the initialization fails.
+     *
+     * @throws APIException If none of the sessions could be initialized, e.g. due to an authentication failure or IO
+     *                      error
+     */
+    @Override
+    public void login() throws APIException {
+        APIException failure = null;
+        boolean authorized = false;
+
+        for (APIConnection member : members.values()) {
+            try {
+                member.login();
+                authorized = true;
+            } catch (APIException ex) {
+                failure = ex;
+            }
+        }
+
+        if (!authorized) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Prepares the sessions of all keys of the pool for sending requests. Sessions which have already been authorized
+     * with a valid token will be left untouched. Like for {@link #login()}, this will only fail if none of the sessions
+     * could be authorized.
+     *
+     * @throws APIException If an exception with the remote API occurs for all keys of the pool, e.g. authentication
+     *                      failure, IO error, etc.
+     */
+    @Override
+    public void warmUp() throws APIException {
+        APIException failure = null;
+        boolean authorized = false;
+
+        for (APIConnection member : members.values()) {
+            try {
+                member.warmUp();
+                authorized = true;
+            } catch (APIException ex) {
+                failure = ex;
+            }
+        }
+
+        if (!authorized) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void setToken(@Nonnull String token) throws APIException {
+        primary().setToken(token);
+    }
+
+    @Override
+    public void renewToken(@Nonnull ThrowableFunctionalInterfaces.Supplier<String, APIException> issuer)
+            throws APIException {
+        primary().renewToken(issuer);
+    }
+
+    @Override
+    public void setStatus(APISession.Status status) {
+        primary().setStatus(status);
+    }
+
+    @Override
+    protected APISession.Status getStatus() {
+        return primary().getStatus();
+    }
+
+    /**
+     * Set the preferred language used for API communication for the sessions of all keys of the pool
+     *
+     * @param language The preferred language of the data returned by the remote service
+     */
+    @Override
+    public void setLanguage(String language) {
+        members.values().forEach(member -> member.setLanguage(language));
+    }
+
+    /**
+     * Closes this connection as well as the sessions of all keys of the pool, cancelling their pending background token
+     * renewals
+     */
+    @Override
+    public void close() {
+        super.close();
+        members.values().forEach(APIConnection::close);
+    }
+
+    @Override
+    APISession getSession() {
+        return primary().getSession();
+    }
+
+    @Override
+    public APIKey getApiKey() {
+        return primary().getApiKey();
+    }
+
+    @Override
+    public Optional<String> getToken() {
+        return primary().getToken();
+    }
+
+    /**
+     * Returns the pool providing the keys used by this connection
+     *
+     * @return Key pool of this connection
+     */
+    KeyPool getKeyPool() {
+        return keyPool;
+    }
+
+    /**
+     * Invokes the given request using the session of the key selected by the pool. If the request is throttled or
+     * could not be authorized, it will be invoked again using another key until all keys have been tried.
+     *
+     * @param request The request to be invoked
+     * @param reader  Reader used to map the body of a successful response
+     * @param <T>     Type of the value read from the response body
+     *
+     * @return The response as read by the given reader
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
+     *                      not found, etc. If the request failed for all keys, the error of the last key will be
+     *                      thrown.
+     */
+    @Override
+    <T> T invokeRequest(APIRequest request, ResponseReader<T> reader) throws APIException {
+        Set<APIKey> tried = new HashSet<>();
+        APIException failure = new APIException(ERR_NO_KEY_AVAILABLE);
+
+        for (Optional<APIKey> apiKey = keyPool.acquire(tried); apiKey.isPresent(); apiKey = keyPool.acquire(tried)) {
+            tried.add(apiKey.get());
+            try {
+                T response = members.get(apiKey.get()).invokeRequest(request, reader);
+                keyPool.onSuccess(apiKey.get());
+                return response;
+            } catch (APIThrottledException | APINotAuthorizedException ex) {
+                release(apiKey.get(), ex);
+                failure = ex;
+            } catch (Throwable ex) {
+                keyPool.onFailure(apiKey.get());
+                throw ex;
+            }
+        }
+
+        throw failure;
+    }
+
+    /**
+     * Invokes the given request asynchronously using the session of the key selected by the pool. Like its blocking
+     * counterpart, the request will be invoked again using another key if it is throttled or could not be authorized.
+     *
+     * @param request The request to be invoked
+     * @param reader  Reader used to map the body of a successful response
+     * @param <T>     Type of the value read from the response body
+     *
+     * @return Future which will be completed with the response as read by the given reader or exceptionally with an
+     *         {@link APIException} in case of an error
+     */
+    @Override
+    <T> CompletableFuture<T> invokeRequestAsync(APIRequest request, ResponseReader<T> reader) {
+        return invokeRequestAsync(request, reader, new HashSet<>(), null);
+    }
+
+    /**
+     * Invokes the given request asynchronously using the session of a key which has not yet been tried
+     *
+     * @param request The request to be invoked
+     * @param reader  Reader used to map the body of a successful response
+     * @param tried   The keys which have already been tried for this request
+     * @param failure The error of the key which has been tried last. Might be <em>{@code null}</em>.
+     * @param <T>     Type of the value read from the response body
+     *
+     * @return Future which will be completed with the response as read by the given reader or exceptionally with an
+     *         {@link APIException} in case of an error
+     */
+    private <T> CompletableFuture<T> invokeRequestAsync(APIRequest request, ResponseReader<T> reader,
+            Set<APIKey> tried, @CheckForNull APIException failure) {
+        Optional<APIKey> apiKey = keyPool.acquire(tried);
+        if (apiKey.isEmpty()) {
+            return CompletableFuture.failedFuture(failure != null ? failure : new APIException(ERR_NO_KEY_AVAILABLE));
+        }
+
+        tried.add(apiKey.get());
+        return members.get(apiKey.get()).invokeRequestAsync(request, reader).handle((response, error) -> {
+            if (error == null) {
+                keyPool.onSuccess(apiKey.get());
+                return CompletableFuture.completedFuture(response);
+            }
+            Throwable cause = APIRequest.unwrap(error);
+            if (cause instanceof APIThrottledException || cause instanceof APINotAuthorizedException) {
+                release(apiKey.get(), (APICommunicationException)cause);
+                return invokeRequestAsync(request, reader, tried, (APIException)cause);
+            }
+            keyPool.onFailure(apiKey.get());
+            return CompletableFuture.<T>failedFuture(cause);
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * Notifies the pool that a request sent with the given key has been throttled or could not be authorized
+     *
+     * @param apiKey The key used for the request
+     * @param error  The error of the request
+     */
+    private void release(APIKey apiKey, APICommunicationException error) {
+        if (error instanceof APIThrottledException throttled) {
+            keyPool.onThrottled(apiKey, throttled.getRetryAfter().orElse(Duration.ZERO));
+        } else {
+            keyPool.onUnauthorized(apiKey);
+        }
+    }
+
+    /**
+     * Returns the connection holding the session of the first key of the pool
+     *
+     * @return Connection of the first pool key
+     */
+    private APIConnection primary() {
+        return members.values().iterator().next();
+    }
+}
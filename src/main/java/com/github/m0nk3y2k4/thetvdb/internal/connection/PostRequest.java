@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+
+import javax.annotation.Nonnull;
+import javax.net.ssl.HttpsURLConnection;
+
+import com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpRequestMethod;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Preconditions;
+
+/**
+ * Implementation for an API <em>{@code POST}</em> request
+ * <p><br>
+ * Invokes a specific remote service resource via the HTTP POST request method. This request type accepts additional
+ * payload content to be pushed to the remote endpoint.
+ */
+final class PostRequest extends APIRequest {
+
+    /** The requests' payload to be pushed to the remote service */
+    private final String data;
+
+    /**
+     * Creates a new <em>{@code POST}</em> request for the given resource
+     *
+     * @param resource Remote service resource to be invoked
+     * @param data     The actual payload to be pushed to the remote service
+     */
+    PostRequest(@Nonnull String resource, @Nonnull String data) {
+        super(resource, HttpRequestMethod.POST);
+        this.data = data;
+    }
+
+    /**
+     * Writes the requests' payload into the output stream of the given connection
+     *
+     * @param con New HTTPS connection with some basic configuration already applied
+     *
+     * @throws IOException Thrown if an I/O error occurs while creating the output stream
+     */
+    @Override
+    void prepareRequest(@Nonnull HttpsURLConnection con) throws IOException {
+        // Write request body (payload) for POST request
+        Preconditions.requireNonNull(data, "Request payload data is not set");
+
+        con.setDoOutput(true);
+
+        try (OutputStream os = con.getOutputStream()) {
+            os.write(data.getBytes(UTF_8));
+            os.flush();
+        }
+    }
+
+    /**
+     * Adds the requests' payload as body to the given HTTP request
+     *
+     * @param request New HTTP request builder with some basic configuration already applied
+     */
+    @Override
+    void prepareRequest(@Nonnull HttpRequest.Builder request) {
+        // Set request body (payload) for POST request
+        Preconditions.requireNonNull(data, "Request payload data is not set");
+
+        request.POST(BodyPublishers.ofString(data, UTF_8));
+    }
+}
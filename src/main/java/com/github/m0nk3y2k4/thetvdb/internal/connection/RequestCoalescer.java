@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheKey;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.internal.util.functional.ThrowableFunctionalInterfaces;
+
+/**
+ * Coalesces concurrent identical requests into a single request
+ * <p><br>
+ * Only the first of several identical requests will actually be sent, whereas all others wait for its response. The
+ * raw content of this response will then be shared with all of them. If the request in flight has been abandoned by
+ * the API call that sent it, e.g. because this call ran out of time, one of the waiting requests will take over
+ * instead. Coalescers are thread-safe and may be shared by several connections.
+ */
+final class RequestCoalescer {
+
+    /** Error message for being interrupted while waiting for the response to an identical request */
+    static final String ERR_COALESCING_INTERRUPTED = "Interrupted while waiting for the response to an identical request";
+
+    /** Raw responses of the requests currently in flight, which are shared by all concurrent identical requests */
+    private final Map<CacheKey, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Invokes the given invocation unless an identical request is already in flight. In this case, the response of the
+     * request in flight will be awaited and returned instead. Otherwise, the response of the given invocation will be
+     * shared with all identical requests invoked in the meantime.
+     *
+     * @param key        Key identifying identical requests
+     * @param invocation Invocation sending the request and returning its raw response content
+     * @param deadline   Deadline by which the response has to be received (optional)
+     *
+     * @return The raw content of the response
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
+     *                      not found, etc. or if the thread has been interrupted while waiting for the response
+     */
+    byte[] send(@Nonnull CacheKey key, @Nonnull ThrowableFunctionalInterfaces.Supplier<byte[], APIException> invocation,
+            @Nonnull Optional<Deadline> deadline) throws APIException {
+        CompletableFuture<byte[]> flight = new CompletableFuture<>();
+        for (CompletableFuture<byte[]> leader = inFlight.putIfAbsent(key, flight); leader != null;
+                leader = inFlight.putIfAbsent(key, flight)) {
+            try {
+                return Waiting.await(leader, ERR_COALESCING_INTERRUPTED, deadline);
+            } catch (APIException | RuntimeException ex) {
+                if (!isAbandoned(leader)) {
+                    throw ex;
+                }
+                // Otherwise, the leading call gave up for reasons of its own and this call will take over
+            }
+        }
+
+        byte[] content;
+        try {
+            content = invocation.get();
+        } catch (Throwable ex) {
+            inFlight.remove(key, flight);       // Removed first, so that abandoned flights can be taken over right away
+            flight.completeExceptionally(ex);
+            throw ex;
+        }
+        inFlight.remove(key, flight);
+        flight.complete(content);
+        return content;
+    }
+
+    /**
+     * Invokes the given asynchronous invocation unless an identical request is already in flight. In this case, the
+     * response of the request in flight will be shared. Otherwise, the response of the given invocation will be shared
+     * with all identical requests invoked in the meantime. Each caller receives a future of its own, so that cancelling
+     * it does not affect any other caller.
+     *
+     * @param key        Key identifying identical requests
+     * @param invocation Invocation sending the request asynchronously and returning its raw response content
+     *
+     * @return Future which will be completed with the raw content of the response or exceptionally with an
+     *         {@link APIException} in case of an error
+     */
+    CompletableFuture<byte[]> sendAsync(@Nonnull CacheKey key,
+            @Nonnull Supplier<CompletableFuture<byte[]>> invocation) {
+        CompletableFuture<byte[]> flight = new CompletableFuture<>();
+        CompletableFuture<byte[]> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            return leader.handle((content, error) -> isAbandoned(leader) ? sendAsync(key, invocation)
+                    : leader.copy()).thenCompose(Function.identity());
+        }
+
+        invocation.get().whenComplete((content, error) -> {
+            inFlight.remove(key, flight);
+            if (error == null) {
+                flight.complete(content);
+            } else {
+                flight.completeExceptionally(APIRequest.unwrap(error));
+            }
+        });
+        return flight.copy();
+    }
+
+    /**
+     * Checks whether the given request in flight has been abandoned by the API call that sent it. This is the case if
+     * the call has been cancelled or interrupted or if it exceeded its own deadline. Such errors are specific to the
+     * leading call and must not be shared with any other call awaiting the same response.
+     *
+     * @param flight The request in flight
+     *
+     * @return <em>{@code true}</em> if the request failed for reasons specific to the API call that sent it
+     */
+    private static boolean isAbandoned(CompletableFuture<byte[]> flight) {
+        if (flight.isCancelled()) {
+            return true;
+        } else if (!flight.isCompletedExceptionally()) {
+            return false;
+        }
+        return ErrorClassification.isAbandoned(APIRequest.unwrap(flight.exceptionNow()));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+
+/**
+ * Interface for sending requests to the remote service
+ * <p><br>
+ * Provides options to invoke different types of HTTP requests to any given API route. The type of the value returned
+ * for each request depends on the actual implementation, e.g. the raw JSON response for regular blocking connections or
+ * some future which will eventually be completed with the response for non-blocking connections. This allows the
+ * connectors in the <i>{@link com.github.m0nk3y2k4.thetvdb.internal.resource.impl}</i> package to be used regardless
+ * of how the remote communication is actually conducted.
+ *
+ * @param <T> Type of the value returned for each request
+ */
+public interface RequestSender<T> {
+
+    /**
+     * Invokes a new <em>{@code GET}</em> request onto the given resource
+     *
+     * @param resource The remote API resource to be invoked
+     *
+     * @return The response of the remote service
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
+     *                      not found, etc.
+     */
+    T sendGET(@Nonnull String resource) throws APIException;
+
+    /**
+     * Invokes a new <em>{@code POST}</em> request onto the given resource
+     *
+     * @param resource The remote API resource to be invoked
+     * @param data     The request payload to be pushed to the remote service
+     *
+     * @return The response of the remote service
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
+     *                      not found, etc.
+     */
+    T sendPOST(@Nonnull String resource, @Nonnull String data) throws APIException;
+
+    /**
+     * Invokes a new <em>{@code HEAD}</em> request onto the given resource
+     *
+     * @param resource The remote API resource to be invoked
+     *
+     * @return The response of the remote service
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
+     *                      not found, etc.
+     */
+    T sendHEAD(@Nonnull String resource) throws APIException;
+
+    /**
+     * Invokes a new <em>{@code DELETE}</em> request onto the given resource
+     *
+     * @param resource The remote API resource to be invoked
+     *
+     * @return The response of the remote service
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
+     *                      not found, etc.
+     */
+    T sendDELETE(@Nonnull String resource) throws APIException;
+
+    /**
+     * Invokes a new <em>{@code PUT}</em> request onto the given resource
+     *
+     * @param resource The remote API resource to be invoked
+     *
+     * @return The response of the remote service
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
+     *                      not found, etc.
+     */
+    T sendPUT(@Nonnull String resource) throws APIException;
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+
+/**
+ * Stage of the pipeline by which an API connection sends its requests to the remote service
+ * <p><br>
+ * Each stage adds a single concern to the processing of a request, e.g. retrying failed requests or throttling them
+ * via a rate limiter, and hands the request over to the next stage of the pipeline. The last stage finally sends the
+ * request via the configured transport. Stages are only part of the pipeline if their concern has been configured for
+ * the connection. All stages must be thread-safe, as they are shared by all requests of a connection and possibly by
+ * several connections sharing the same resources.
+ */
+interface RequestStage {
+
+    /**
+     * Processes the given request, blocking the current thread until the response has been received
+     *
+     * @param request The request to be sent
+     * @param reader  Reader used to map the body of a successful response
+     * @param <T>     Type of the value read from the response body
+     *
+     * @return The response as read by the given reader
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
+     *                      not found, etc.
+     */
+    <T> T send(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) throws APIException;
+
+    /**
+     * Processes the given request asynchronously
+     *
+     * @param request The request to be sent
+     * @param reader  Reader used to map the body of a successful response
+     * @param <T>     Type of the value read from the response body
+     *
+     * @return Future which will be completed with the response as read by the given reader or exceptionally with an
+     *         {@link APIException} in case of an error
+     */
+    <T> CompletableFuture<T> sendAsync(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader);
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.io.IOException;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+
+/**
+ * Functional interface for reading the body of a successful response received from the remote service
+ * <p><br>
+ * The reader will be invoked with a parser positioned in front of the response body, which allows the content to be
+ * mapped straight from the (decompressed) input stream into any specific Java type in a single pass, without building
+ * an intermediate JSON tree first. The parser will be closed by the invoking request once the reader has returned.
+ *
+ * @param <T> Type of the value read from the response body
+ */
+@FunctionalInterface
+public interface ResponseReader<T> {
+
+    /**
+     * Reads the response body from the given parser
+     *
+     * @param parser Parser providing the content of the response body
+     *
+     * @return The value read from the response body
+     *
+     * @throws IOException  If an I/O error occurred while reading the response body
+     * @throws APIException If the response body could not be mapped into the expected type
+     */
+    T read(@Nonnull JsonParser parser) throws IOException, APIException;
+}
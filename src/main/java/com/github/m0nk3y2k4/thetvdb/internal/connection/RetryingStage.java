@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.api.retry.RetryPolicy;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APITimeoutException;
+
+/**
+ * Stage of the request pipeline retrying failed requests according to a {@link RetryPolicy}
+ * <p><br>
+ * Idempotent requests will be retried as long as the policy permits, whereas all other requests will only be sent
+ * once. Rather than blocking any thread, asynchronous retries will be scheduled for the point in time at which they
+ * should be sent. Calls which already ran out of time will not consume any retries and no retry will be awaited which
+ * would exceed the deadline of the call anyway.
+ */
+final class RetryingStage implements RequestStage {
+
+    /** Error message for being interrupted while waiting for the retry of a failed request */
+    static final String ERR_RETRY_INTERRUPTED = "Interrupted while waiting for the retry of a failed request";
+
+    /** Policy for retrying requests which failed due to transient errors */
+    private final RetryPolicy retryPolicy;
+
+    /** Executor used for sending asynchronous retries once their delay has elapsed */
+    private final Executor executor;
+
+    /** The next stage of the pipeline */
+    private final RequestStage next;
+
+    /**
+     * Creates a new retrying stage
+     *
+     * @param retryPolicy Policy for retrying requests which failed due to transient errors
+     * @param executor    Executor used for sending asynchronous retries once their delay has elapsed
+     * @param next        The next stage of the pipeline
+     */
+    RetryingStage(@Nonnull RetryPolicy retryPolicy, @Nonnull Executor executor, @Nonnull RequestStage next) {
+        this.retryPolicy = retryPolicy;
+        this.executor = executor;
+        this.next = next;
+    }
+
+    @Override
+    public <T> T send(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) throws APIException {
+        if (!request.getRequestMethod().isIdempotent()) {
+            return next.send(request, reader);
+        }
+
+        retryPolicy.onRequest();
+        for (int retry = 0; ; retry++) {
+            try {
+                return next.send(request, reader);
+            } catch (APIException ex) {
+                request.checkRetryable();      // Calls which already ran out of time must not consume any retries
+                Optional<Duration> delay = retryPolicy.nextRetry(retry, ex);
+                if (delay.isEmpty()) {
+                    throw ex;
+                }
+                request.onRetry(retry + 1, delay.get(), ex);
+                request.checkDeadline(delay.get());     // Don't wait for a retry which would exceed the deadline anyway
+                Waiting.sleep(delay.get(), ERR_RETRY_INTERRUPTED);
+            }
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> sendAsync(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) {
+        if (!request.getRequestMethod().isIdempotent()) {
+            return next.sendAsync(request, reader);
+        }
+
+        retryPolicy.onRequest();
+        return sendAsync(request, reader, 0);
+    }
+
+    /**
+     * Sends the given request asynchronously and schedules a retry in case of an error if the retry policy permits
+     *
+     * @param request The request to be sent
+     * @param reader  Reader used to map the body of a successful response
+     * @param retry   The number of retries which have already been performed for this request
+     * @param <T>     Type of the value read from the response body
+     *
+     * @return Future which will be completed with the response as read by the given reader or exceptionally with an
+     *         {@link APIException} in case of an error which should not be retried any more
+     */
+    private <T> CompletableFuture<T> sendAsync(APIRequest request, ResponseReader<T> reader, int retry) {
+        return next.sendAsync(request, reader).exceptionallyCompose(error -> {
+            Throwable cause = APIRequest.unwrap(error);
+            try {
+                request.checkRetryable();      // Calls which already ran out of time must not consume any retries
+            } catch (APITimeoutException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+            Optional<Duration> delay = cause instanceof APIException ex ? retryPolicy.nextRetry(retry, ex)
+                    : Optional.empty();
+            if (delay.isEmpty()) {
+                return CompletableFuture.failedFuture(cause);
+            }
+            request.onRetry(retry + 1, delay.get(), (APIException)cause);
+            return Waiting.delay(request, delay.get(), executor)
+                    .thenCompose(ignored -> sendAsync(request, reader, retry + 1));
+        });
+    }
+}
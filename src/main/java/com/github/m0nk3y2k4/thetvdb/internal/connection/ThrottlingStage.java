@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.api.ratelimit.RateLimiter;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APIThrottledException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APITimeoutException;
+
+/**
+ * Stage of the request pipeline throttling the requests via a {@link RateLimiter}
+ * <p><br>
+ * Each request will be delayed until the limiter issued a permit for it. Rather than blocking any thread, asynchronous
+ * requests will be scheduled for the point in time at which their permit becomes available. Requests which have been
+ * cancelled while waiting for their permit will not be sent at all. The limiter will be notified whenever the remote
+ * service throttles a request, so that it can adapt its rate accordingly.
+ */
+final class ThrottlingStage implements RequestStage {
+
+    /** Error message for being interrupted while waiting for a permit of the rate limiter */
+    static final String ERR_RATE_LIMIT_INTERRUPTED = "Interrupted while waiting for a permit of the rate limiter";
+
+    /** Error message for requests which have been cancelled before being sent */
+    static final String ERR_REQUEST_CANCELLED = "Request has been cancelled before being sent";
+
+    /** Limiter throttling the requests sent to the remote service */
+    private final RateLimiter rateLimiter;
+
+    /** Executor used for sending asynchronous requests once their permit becomes available */
+    private final Executor executor;
+
+    /** The next stage of the pipeline */
+    private final RequestStage next;
+
+    /**
+     * Creates a new throttling stage
+     *
+     * @param rateLimiter Limiter throttling the requests sent to the remote service
+     * @param executor    Executor used for sending asynchronous requests once their permit becomes available
+     * @param next        The next stage of the pipeline
+     */
+    ThrottlingStage(@Nonnull RateLimiter rateLimiter, @Nonnull Executor executor, @Nonnull RequestStage next) {
+        this.rateLimiter = rateLimiter;
+        this.executor = executor;
+        this.next = next;
+    }
+
+    @Override
+    public <T> T send(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) throws APIException {
+        Waiting.sleep(reservePermit(request), ERR_RATE_LIMIT_INTERRUPTED);
+        try {
+            T response = next.send(request, reader);
+            rateLimiter.onSuccess();
+            return response;
+        } catch (APIThrottledException ex) {
+            rateLimiter.onThrottled(ex.getRetryAfter().orElse(Duration.ZERO));
+            throw ex;
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> sendAsync(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) {
+        Duration delay;
+        try {
+            delay = reservePermit(request);
+        } catch (APITimeoutException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        CompletableFuture<T> response = Waiting.delay(delay, executor).thenCompose(ignored -> request.isCancelled()
+                ? CompletableFuture.failedFuture(new CancellationException(ERR_REQUEST_CANCELLED))
+                : next.sendAsync(request, reader));
+
+        return response.whenComplete((result, error) -> {
+            if (error == null) {
+                rateLimiter.onSuccess();
+            } else if (APIRequest.unwrap(error) instanceof APIThrottledException throttled) {
+                rateLimiter.onThrottled(throttled.getRetryAfter().orElse(Duration.ZERO));
+            }
+        });
+    }
+
+    /**
+     * Reserves a permit of the rate limiter for the given request. If the API call on whose behalf the request is sent
+     * is limited by a deadline, a permit will only be reserved if it is issued before this deadline. Calls which would
+     * run out of time while waiting for their permit will therefore not take any permit away from subsequent requests.
+     *
+     * @param request The request to be sent
+     *
+     * @return The time to wait before the request may be sent
+     *
+     * @throws APITimeoutException If no permit will be issued before the deadline of the API call expires
+     */
+    private Duration reservePermit(APIRequest request) throws APITimeoutException {
+        Optional<Deadline> deadline = request.getDeadline();
+        if (deadline.isEmpty()) {
+            return rateLimiter.reserve();
+        }
+        return rateLimiter.tryReserve(deadline.get().remaining()).orElseThrow(deadline.get()::exceeded);
+    }
+}
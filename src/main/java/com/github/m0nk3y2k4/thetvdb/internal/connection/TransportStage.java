@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.Transport;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+
+/**
+ * Final stage of the request pipeline, sending each request via the configured transport
+ * <p><br>
+ * Requests will either be sent via a shared {@link HttpClient} or via a new URL connection. When using the
+ * {@link Transport#HTTP_CLIENT} transport, asynchronous requests will be sent via non-blocking I/O. Otherwise, they
+ * will be sent by a thread of the given executor, which blocks until the response has been received.
+ */
+final class TransportStage implements RequestStage {
+
+    /** Shared HTTP client used for sending the requests (optional) */
+    private final HttpClient httpClient;
+
+    /** Executor used for the processing of asynchronous requests */
+    private final Executor executor;
+
+    /**
+     * Creates a new transport stage
+     *
+     * @param httpClient Shared HTTP client used for sending the requests. Might be <em>{@code null}</em> in which case
+     *                   each request will be sent via a new URL connection.
+     * @param executor   Executor used for the processing of asynchronous requests
+     */
+    TransportStage(@CheckForNull HttpClient httpClient, @Nonnull Executor executor) {
+        this.httpClient = httpClient;
+        this.executor = executor;
+    }
+
+    @Override
+    public <T> T send(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) throws APIException {
+        return httpClient != null ? request.send(httpClient, reader) : request.send(reader);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> sendAsync(@Nonnull APIRequest request, @Nonnull ResponseReader<T> reader) {
+        return httpClient != null ? request.sendAsync(httpClient, executor, reader)
+                : CompletableFuture.supplyAsync(() -> sendBlocking(request, reader), executor);
+    }
+
+    /**
+     * Invokes the given request via a new URL connection, blocking the current thread until the response has been
+     * received. Exceptions will be wrapped into a {@link CompletionException}.
+     *
+     * @param request The request to be invoked
+     * @param reader  Reader used to map the body of a successful response
+     * @param <T>     Type of the value read from the response body
+     *
+     * @return The response as read by the given reader
+     */
+    private static <T> T sendBlocking(APIRequest request, ResponseReader<T> reader) {
+        try {
+            return request.send(reader);
+        } catch (APIException ex) {
+            throw new CompletionException(ex);
+        }
+    }
+}
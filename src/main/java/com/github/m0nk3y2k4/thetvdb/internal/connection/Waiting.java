@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICommunicationException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APITimeoutException;
+
+/**
+ * Helpers for the request stages waiting for some delay or for the response to a request
+ * <p><br>
+ * Blocking waits translate interruptions into an {@link APICommunicationException} and restore the interrupt flag of
+ * the current thread. Asynchronous waits will never block any thread but complete their future by a thread of the
+ * given executor instead.
+ */
+final class Waiting {
+
+    private Waiting() {}        // Private constructor. Only static methods
+
+    /**
+     * Blocks the current thread for the given delay
+     *
+     * @param delay   The time to wait. Zero or negative delays will not block at all.
+     * @param message Error message used in case the thread gets interrupted while waiting
+     *
+     * @throws APIException If the thread has been interrupted while waiting
+     */
+    static void sleep(@Nonnull Duration delay, @Nonnull String message) throws APIException {
+        if (!delay.isPositive()) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new APICommunicationException(message, ex);
+        }
+    }
+
+    /**
+     * Returns a future which will be completed by a thread of the given executor once the given delay has elapsed
+     *
+     * @param delay    The time to wait. Zero or negative delays will complete the future immediately.
+     * @param executor Executor completing the future
+     *
+     * @return Future which will be completed after the given delay
+     */
+    static CompletableFuture<Void> delay(@Nonnull Duration delay, @Nonnull Executor executor) {
+        return !delay.isPositive() ? CompletableFuture.completedFuture(null) : CompletableFuture.runAsync(() -> {},
+                CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS, executor));
+    }
+
+    /**
+     * Returns a future which will be completed once the given delay has elapsed, unless the deadline of the given
+     * request would be exceeded by waiting for the delay. In this case, the returned future fails immediately.
+     *
+     * @param request  The request which should be delayed
+     * @param delay    The time to wait. Zero or negative delays will complete the future immediately.
+     * @param executor Executor completing the future
+     *
+     * @return Future which will be completed after the given delay or exceptionally with an {@link APITimeoutException}
+     */
+    static CompletableFuture<Void> delay(@Nonnull APIRequest request, @Nonnull Duration delay,
+            @Nonnull Executor executor) {
+        try {
+            request.checkDeadline(delay);
+        } catch (APITimeoutException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        return delay(delay, executor);
+    }
+
+    /**
+     * Blocks the current thread until the given future has been completed and returns its result. If a deadline is
+     * given, the thread will not wait beyond this deadline.
+     *
+     * @param response Future of some response
+     * @param message  Error message used in case the thread gets interrupted while waiting
+     * @param deadline Deadline by which the future has to be completed (optional)
+     * @param <T>      Type of the response
+     *
+     * @return The result the future has been completed with
+     *
+     * @throws APIException If the future has been completed exceptionally with an {@link APIException}, if the thread
+     *                      has been interrupted while waiting or if the deadline expired while waiting
+     */
+    static <T> T await(@Nonnull CompletableFuture<T> response, @Nonnull String message,
+            @Nonnull Optional<Deadline> deadline) throws APIException {
+        try {
+            return deadline.isPresent() ? response.get(deadline.get().remaining().toNanos(), TimeUnit.NANOSECONDS)
+                    : response.get();
+        } catch (TimeoutException ex) {
+            throw deadline.orElseThrow().exceeded();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new APICommunicationException(message, ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof APIException apiException) {
+                throw apiException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new APIException(cause.getMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,768 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheKey;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheStatistics;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CachedResponse;
+import com.github.m0nk3y2k4.thetvdb.api.cache.ResponseCache;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIRuntimeException;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.CacheKeyImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.CacheStatisticsImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.CachedResponseImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
+
+/**
+ * Persistent implementation of the {@link ResponseCache} interface storing all responses in the file system
+ * <p><br>
+ * Responses are gzip-compressed and appended to segment files within the cache directory. Each record carries its cache
+ * key, validators and expiration time, so that the index mapping the keys to the position of their latest record can
+ * be rebuilt by scanning the record headers when the cache is opened again, e.g. after a restart of the application.
+ * Expired records are ignored unless they carry validators allowing them to be revalidated. Records are read via
+ * positional {@link FileChannel} access without holding any locks, allowing concurrent lookups.
+ * <p><br>
+ * The total size of all segment files is bounded by the configured maximum size. Whenever this size is exceeded, the
+ * oldest segment will be deleted as a whole, evicting all entries whose latest record is stored in this segment.
+ * Replaced and expired records will not be removed until their segment is evicted.
+ * <p><br>
+ * The cache directory is owned by a single cache at a time. As the index only exists in memory, multiple caches
+ * appending to and evicting the same segment files would corrupt each other. While being open, the cache therefore
+ * holds an exclusive {@link FileLock} on a lock file within its directory. Opening a second cache for the same
+ * directory, whether within the same or another process, will fail until the first cache has been closed.
+ */
+public final class DiskResponseCache implements ResponseCache {
+
+    /** Marker at the beginning of each record, used to detect corrupted segments */
+    private static final int RECORD_MAGIC = 0x54564442;
+
+    /** Size of the fixed-length parts of a record: magic, header length, expiration time and content length */
+    private static final int RECORD_OVERHEAD = Integer.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    /** Maximum length of the serialized cache key and validators of a single record */
+    private static final int MAX_KEY_LENGTH = 64 * 1024;
+
+    /** Number of segments among which the maximum cache size is distributed */
+    private static final int SEGMENT_COUNT = 8;
+
+    /** Format and pattern of the segment file names */
+    private static final String SEGMENT_FILE = "segment-%016d.dat";
+    private static final Pattern SEGMENT_FILE_PATTERN = Pattern.compile("segment-(\\d{16})\\.dat");
+
+    /** Name of the file locked by the cache currently owning the directory */
+    private static final String LOCK_FILE = "cache.lock";
+
+    /** Separator of the properties within serialized cache keys and validators */
+    private static final String KEY_SEPARATOR = "\n";
+
+    /** Directory containing the segment files */
+    private final Path directory;
+
+    /** Maximum total size of all segment files in bytes */
+    private final long maximumSize;
+
+    /** Size at which the active segment will be rolled over to a new one */
+    private final long segmentSize;
+
+    /** Source of the current time, used to expire entries */
+    private final Clock clock;
+
+    /** Lock guarding the index, the segments and the size of this cache */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Position of the latest record of each cached key */
+    private final Map<CacheKey, IndexEntry> index = new HashMap<>();
+
+    /** All segments by their ID, i.e. in the order in which they have been created */
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+
+    /** Exclusive lock on the lock file, held while this cache is open */
+    private FileLock directoryLock;
+
+    /** The segment to which new records are appended */
+    private Segment activeSegment;
+
+    /** Current total size of all segment files in bytes */
+    private long size;
+
+    /** Statistic counters */
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder revalidationCount = new LongAdder();
+    private long evictionCount;
+    private long rejectionCount;
+
+    /**
+     * Opens the cache stored within the given directory. If the directory does not exist, it will be created. Any
+     * valid responses already stored in this directory will be available immediately. The directory will be locked
+     * until the cache is closed.
+     *
+     * @param directory   Directory containing the segment files of the cache
+     * @param maximumSize Maximum total size of all segment files in bytes
+     *
+     * @throws APIRuntimeException If the cache directory could not be created or read or if it is already in use by
+     *                             another cache
+     */
+    public DiskResponseCache(@Nonnull Path directory, long maximumSize) {
+        this(directory, maximumSize, Clock.systemUTC());
+    }
+
+    /**
+     * Opens the cache stored within the given directory, using the given clock in order to determine whether entries
+     * have been expired
+     *
+     * @param directory   Directory containing the segment files of the cache
+     * @param maximumSize Maximum total size of all segment files in bytes
+     * @param clock       Source of the current time
+     *
+     * @throws APIRuntimeException If the cache directory could not be created or read or if it is already in use by
+     *                             another cache
+     */
+    DiskResponseCache(@Nonnull Path directory, long maximumSize, @Nonnull Clock clock) {
+        Parameters.validateNotNull(directory, "Cache directory must not be NULL");
+        Parameters.validateCondition(max -> max > 0, maximumSize,
+                new IllegalArgumentException("Maximum cache size must be greater than zero"));
+
+        this.directory = directory;
+        this.maximumSize = maximumSize;
+        this.segmentSize = Math.max(maximumSize / SEGMENT_COUNT, 1);
+        this.clock = clock;
+
+        try {
+            Files.createDirectories(directory);
+            lockDirectory();
+            loadSegments();
+            activeSegment = openSegment(segments.isEmpty() ? 1 : segments.lastKey() + 1);
+        } catch (IOException ex) {
+            close();
+            throw new APIRuntimeException("Unable to open response cache in directory " + directory, ex);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><br>
+     * The content is read without holding the lock, so that lookups of different keys will not block each other. If
+     * the segment has been evicted in the meantime, the lookup is treated as miss.
+     */
+    @Override
+    public Optional<CachedResponse> get(@Nonnull CacheKey key) {
+        IndexEntry entry;
+        boolean expired = false;
+        lock.lock();
+        try {
+            entry = index.get(key);
+            if (entry != null) {
+                expired = entry.isExpired(clock.millis());
+                if (expired && !entry.isRevalidatable()) {
+                    unindex(key);
+                    entry = null;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (entry != null) {
+            try {
+                byte[] content = decompress(entry.segment.read(entry.position, entry.length));
+                (expired ? missCount : hitCount).increment();
+                return Optional.of(new CachedResponseImpl(content, entry.eTag, entry.lastModified,
+                        Instant.ofEpochMilli(entry.expiresAt)));
+            } catch (IOException ex) {
+                // Segment has been evicted or closed concurrently: treat as miss
+            }
+        }
+
+        missCount.increment();
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(@Nonnull CacheKey key, @Nonnull CachedResponse response) {
+        long expiresAt = response.getExpiresAt().toEpochMilli();
+        if (expiresAt <= clock.millis() && !response.isRevalidatable()) {
+            return;     // Not supposed to be cached at all
+        }
+
+        try {
+            append(key, response.getETag().orElse(null), response.getLastModified().orElse(null), expiresAt,
+                    compress(response.getContent()));
+        } catch (IOException ex) {
+            reject();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><br>
+     * As records are never modified, the still compressed content of the latest record will be appended to the active
+     * segment again, using the new expiration time.
+     */
+    @Override
+    public void refresh(@Nonnull CacheKey key, @Nonnull Instant expiresAt) {
+        IndexEntry entry;
+        lock.lock();
+        try {
+            entry = index.get(key);
+        } finally {
+            lock.unlock();
+        }
+
+        if (entry != null) {
+            try {
+                append(key, entry.eTag, entry.lastModified, expiresAt.toEpochMilli(),
+                        entry.segment.read(entry.position, entry.length));
+                revalidationCount.increment();
+            } catch (IOException ex) {
+                // Segment has been evicted or closed concurrently: nothing left to refresh
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            long nextSegment = activeSegment.id + 1;
+            segments.values().forEach(Segment::delete);
+            segments.clear();
+            index.clear();
+            size = 0;
+            activeSegment = openSegment(nextSegment);
+        } catch (IOException ex) {
+            throw new APIRuntimeException("Unable to invalidate response cache in directory " + directory, ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        lock.lock();
+        try {
+            return new CacheStatisticsImpl.Builder().hitCount(hitCount.sum()).missCount(missCount.sum())
+                    .revalidationCount(revalidationCount.sum()).evictionCount(evictionCount)
+                    .rejectionCount(rejectionCount)
+                    .entryCount(index.size()).size(size).build();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes all segment files of this cache and releases the lock of the cache directory. The cached responses will
+     * remain in the cache directory and will be available again when opening a new cache for this directory.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            segments.values().forEach(Segment::close);
+            if (directoryLock != null) {
+                directoryLock.channel().close();    // Also releases the lock
+                directoryLock = null;
+            }
+        } catch (IOException ex) {
+            // File lock will be released by the operating system once the channel is gone
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acquires an exclusive lock on the lock file within the cache directory, without waiting for other caches
+     *
+     * @throws IOException         If the lock file could not be opened
+     * @throws APIRuntimeException If the directory is already locked by another cache
+     */
+    private void lockDirectory() throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        try {
+            directoryLock = channel.tryLock();
+        } catch (OverlappingFileLockException ex) {
+            directoryLock = null;       // Locked by another cache of this process
+        }
+        if (directoryLock == null) {
+            channel.close();
+            throw new APIRuntimeException("Response cache directory " + directory
+                    + " is already in use by another cache");
+        }
+    }
+
+    /**
+     * Appends a new record to the active segment and points the index entry of the given key to it. The oldest
+     * segments will be evicted if the maximum cache size has been exceeded afterwards.
+     *
+     * @param key               The key of the record
+     * @param eTag              Value of the ETag response header. Might be <em>{@code null}</em>.
+     * @param lastModified      Value of the Last-Modified response header. Might be <em>{@code null}</em>.
+     * @param expiresAt         Point in time (epoch milliseconds) at which the record expires
+     * @param compressedContent The gzip-compressed response content
+     */
+    private void append(CacheKey key, @CheckForNull String eTag, @CheckForNull String lastModified, long expiresAt,
+            byte[] compressedContent) {
+        byte[] header = serialize(key, eTag, lastModified);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_OVERHEAD + header.length + compressedContent.length)
+                .putInt(RECORD_MAGIC).putInt(header.length).put(header)
+                .putLong(expiresAt).putInt(compressedContent.length).put(compressedContent).flip();
+
+        lock.lock();
+        try {
+            if (record.remaining() > maximumSize) {
+                rejectionCount++;
+                return;
+            }
+            if (activeSegment.size >= segmentSize) {
+                activeSegment = openSegment(activeSegment.id + 1);
+            }
+
+            long position = activeSegment.append(record);
+            index(key, new IndexEntry(activeSegment, position + RECORD_OVERHEAD + header.length,
+                    compressedContent.length, expiresAt, eTag, lastModified));
+            size += record.limit();
+            evictSegments();
+        } catch (IOException ex) {
+            rejectionCount++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Opens all existing segment files within the cache directory and rebuilds the index from their records
+     *
+     * @throws IOException If the cache directory or any of the segment files could not be read
+     */
+    private void loadSegments() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher matcher = SEGMENT_FILE_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    openSegment(Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+
+        // Scan segments from oldest to newest, so that the latest record of each key wins
+        long now = clock.millis();
+        for (Segment segment : segments.values()) {
+            scanSegment(segment, now);
+            size += segment.size;
+        }
+    }
+
+    /**
+     * Adds the records of the given segment to the index. Scanning stops at the first incomplete or corrupted record,
+     * e.g. if the application terminated while the record was written.
+     *
+     * @param segment The segment to scan
+     * @param now     The current time in milliseconds, used to skip expired records without validators
+     *
+     * @throws IOException If the segment file could not be read
+     */
+    private void scanSegment(Segment segment, long now) throws IOException {
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + Integer.BYTES);
+        while (position + RECORD_OVERHEAD <= segment.size) {
+            segment.readFully(header.clear(), position);
+            int headerLength = header.getInt(Integer.BYTES);
+            if (header.getInt(0) != RECORD_MAGIC || headerLength < 0 || headerLength > MAX_KEY_LENGTH
+                    || position + RECORD_OVERHEAD + headerLength > segment.size) {
+                break;
+            }
+
+            ByteBuffer body = ByteBuffer.allocate(headerLength + Long.BYTES + Integer.BYTES);
+            segment.readFully(body, position + header.capacity());
+            long expiresAt = body.getLong(headerLength);
+            int contentLength = body.getInt(headerLength + Long.BYTES);
+            long contentPosition = position + RECORD_OVERHEAD + headerLength;
+            String[] properties = new String(body.array(), 0, headerLength, UTF_8).split(KEY_SEPARATOR, -1);
+            Optional<CacheKey> key = deserialize(properties);
+            if (key.isEmpty() || contentLength < 0 || contentPosition + contentLength > segment.size) {
+                break;
+            }
+
+            IndexEntry entry = new IndexEntry(segment, contentPosition, contentLength, expiresAt,
+                    emptyToNull(properties[4]), emptyToNull(properties[5]));
+            if (!entry.isExpired(now) || entry.isRevalidatable()) {
+                index(key.get(), entry);
+            } else {
+                unindex(key.get());     // Any older record of this key has been superseded
+            }
+            position = contentPosition + contentLength;
+        }
+    }
+
+    /**
+     * Opens the segment file with the given ID. The file will be created if it does not yet exist.
+     *
+     * @param id The ID of the segment
+     *
+     * @return The opened segment
+     *
+     * @throws IOException If the segment file could not be opened
+     */
+    private Segment openSegment(long id) throws IOException {
+        Path file = directory.resolve(String.format(SEGMENT_FILE, id));
+        Segment segment = new Segment(id, file, FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE));
+        segments.put(id, segment);
+        return segment;
+    }
+
+    /**
+     * Deletes the oldest segments until the total size of all segment files no longer exceeds the maximum cache size.
+     * The active segment will never be deleted. Must only be invoked while holding the lock.
+     */
+    private void evictSegments() {
+        while (size > maximumSize && segments.size() > 1) {
+            Segment oldest = segments.pollFirstEntry().getValue();
+            oldest.keys.forEach(index::remove);
+            evictionCount += oldest.keys.size();
+            size -= oldest.size;
+            oldest.delete();
+        }
+    }
+
+    /**
+     * Points the index entry of the given key to some new record. Must only be invoked while holding the lock.
+     *
+     * @param key   The key of the record
+     * @param entry The position of the record
+     */
+    private void index(CacheKey key, IndexEntry entry) {
+        IndexEntry previous = index.put(key, entry);
+        if (previous != null) {
+            previous.segment.keys.remove(key);
+        }
+        entry.segment.keys.add(key);
+    }
+
+    /**
+     * Removes the index entry of the given key if present. Must only be invoked while holding the lock.
+     *
+     * @param key The key to be removed
+     */
+    private void unindex(CacheKey key) {
+        IndexEntry removed = index.remove(key);
+        if (removed != null) {
+            removed.segment.keys.remove(key);
+        }
+    }
+
+    /**
+     * Counts a rejected entry
+     */
+    private void reject() {
+        lock.lock();
+        try {
+            rejectionCount++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Serializes the given cache key and validators into the binary header representation of a record
+     *
+     * @param key          The key to serialize
+     * @param eTag         Value of the ETag response header. Might be <em>{@code null}</em>.
+     * @param lastModified Value of the Last-Modified response header. Might be <em>{@code null}</em>.
+     *
+     * @return Serialized record header
+     */
+    private static byte[] serialize(CacheKey key, @CheckForNull String eTag, @CheckForNull String lastModified) {
+        return String.join(KEY_SEPARATOR, key.getMethod(), key.getPath(), key.getQuery(),
+                key.getLanguage().orElse(""), Optional.ofNullable(eTag).orElse(""),
+                Optional.ofNullable(lastModified).orElse("")).getBytes(UTF_8);
+    }
+
+    /**
+     * Deserializes a cache key from the properties of a record header. The header is expected to consist of the four
+     * key properties followed by the two validators.
+     *
+     * @param properties The properties of the record header
+     *
+     * @return Deserialized cache key or an empty Optional if the properties do not represent a valid record header
+     */
+    private static Optional<CacheKey> deserialize(String[] properties) {
+        if (properties.length != 6) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new CacheKeyImpl.Builder().method(properties[0]).path(properties[1])
+                    .query(properties[2]).language(Optional.of(properties[3]).filter(lang -> !lang.isEmpty()))
+                    .build());
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Maps empty strings to <em>{@code null}</em>
+     *
+     * @param value The value to map
+     *
+     * @return The given value or <em>{@code null}</em> if it is empty
+     */
+    @CheckForNull
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Compresses the given content using gzip
+     *
+     * @param content The content to compress
+     *
+     * @return Compressed content
+     *
+     * @throws IOException If the content could not be compressed
+     */
+    private static byte[] compress(byte[] content) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(content);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Decompresses the given gzip-compressed content
+     *
+     * @param compressed The content to decompress
+     *
+     * @return Decompressed content
+     *
+     * @throws IOException If the content could not be decompressed
+     */
+    private static byte[] decompress(byte[] compressed) throws IOException {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readAllBytes();
+        }
+    }
+
+    /**
+     * Position of the latest record of some cache key
+     */
+    private static final class IndexEntry {
+
+        /** The segment containing the record */
+        private final Segment segment;
+
+        /** Position of the compressed content within the segment file */
+        private final long position;
+
+        /** Length of the compressed content */
+        private final int length;
+
+        /** Point in time (epoch milliseconds) at which the record expires */
+        private final long expiresAt;
+
+        /** Value of the ETag response header. Might be <em>{@code null}</em>. */
+        private final String eTag;
+
+        /** Value of the Last-Modified response header. Might be <em>{@code null}</em>. */
+        private final String lastModified;
+
+        /**
+         * Creates a new index entry
+         *
+         * @param segment      The segment containing the record
+         * @param position     Position of the compressed content within the segment file
+         * @param length       Length of the compressed content
+         * @param expiresAt    Point in time at which the record expires
+         * @param eTag         Value of the ETag response header. Might be <em>{@code null}</em>.
+         * @param lastModified Value of the Last-Modified response header. Might be <em>{@code null}</em>.
+         */
+        private IndexEntry(Segment segment, long position, int length, long expiresAt, @CheckForNull String eTag,
+                @CheckForNull String lastModified) {
+            this.segment = segment;
+            this.position = position;
+            this.length = length;
+            this.expiresAt = expiresAt;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Checks whether the record has been expired at the given point in time
+         *
+         * @param now The current time in milliseconds
+         *
+         * @return True if the record has been expired
+         */
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        /**
+         * Checks whether the record carries any validator allowing it to be revalidated once it has been expired
+         *
+         * @return True if an entity tag or a last modification date is available for the record
+         */
+        private boolean isRevalidatable() {
+            return eTag != null || lastModified != null;
+        }
+    }
+
+    /**
+     * A single segment file containing a sequence of records
+     */
+    private static final class Segment {
+
+        /** The ID of this segment, reflecting the order of creation */
+        private final long id;
+
+        /** The segment file */
+        private final Path file;
+
+        /** Channel used for reading and appending records */
+        private final FileChannel channel;
+
+        /** Keys whose latest record is stored in this segment */
+        private final Set<CacheKey> keys = new HashSet<>();
+
+        /** Current size of the segment file in bytes */
+        private long size;
+
+        /**
+         * Creates a new segment
+         *
+         * @param id      The ID of the segment
+         * @param file    The segment file
+         * @param channel Channel opened for the segment file
+         *
+         * @throws IOException If the size of the segment file could not be determined
+         */
+        private Segment(long id, Path file, FileChannel channel) throws IOException {
+            this.id = id;
+            this.file = file;
+            this.channel = channel;
+            this.size = channel.size();
+        }
+
+        /**
+         * Appends the given record to the end of this segment
+         *
+         * @param record The record to append
+         *
+         * @return The position of the record within the segment file
+         *
+         * @throws IOException If the record could not be written
+         */
+        private long append(ByteBuffer record) throws IOException {
+            long position = size;
+            while (record.hasRemaining()) {
+                channel.write(record, position + record.position());
+            }
+            size += record.limit();
+            return position;
+        }
+
+        /**
+         * Reads the given number of bytes starting at the given position
+         *
+         * @param position Position within the segment file
+         * @param length   Number of bytes to read
+         *
+         * @return The bytes read
+         *
+         * @throws IOException If the data could not be read
+         */
+        private byte[] read(long position, int length) throws IOException {
+            ByteBuffer data = ByteBuffer.allocate(length);
+            readFully(data, position);
+            return data.array();
+        }
+
+        /**
+         * Fills the given buffer with the data starting at the given position
+         *
+         * @param buffer   Buffer to fill
+         * @param position Position within the segment file
+         *
+         * @throws IOException If the data could not be read or the end of the file has been reached
+         */
+        private void readFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new EOFException("Unexpected end of segment file " + file);
+                }
+            }
+        }
+
+        /**
+         * Closes the channel of this segment
+         */
+        private void close() {
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                // Nothing left to do: the segment is no longer used
+            }
+        }
+
+        /**
+         * Closes and deletes this segment. Files which could not be deleted will be loaded and evicted again the next
+         * time the cache is opened.
+         */
+        private void delete() {
+            close();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ex) {
+                // Best effort: the file will be evicted again the next time the cache is opened
+            }
+        }
+    }
+}
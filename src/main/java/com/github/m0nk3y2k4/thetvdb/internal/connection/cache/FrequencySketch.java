@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.cache;
+
+/**
+ * Probabilistic estimator for the access frequency of cache entries
+ * <p><br>
+ * The sketch is implemented as a Count-Min sketch using 4-bit counters, i.e. the estimated frequency of an entry is
+ * saturated at <em>{@code 15}</em>. Each entry is mapped to four counters and its frequency is estimated as the minimum
+ * of these counters. In order to keep the estimations fresh, all counters will be halved once a certain number of
+ * accesses has been recorded, so that entries which have been popular a long time ago will eventually age out.
+ * <p><br>
+ * This class is not thread-safe. Callers are responsible for proper synchronization.
+ */
+final class FrequencySketch {
+
+    /** Seeds used to derive the four counter positions of an entry */
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+            0xcbf29ce484222325L};
+
+    /** Mask used to halve all 4-bit counters of a table slot at once */
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    /** Maximum value of a single 4-bit counter */
+    private static final int MAX_FREQUENCY = 15;
+
+    /** The counters, each table slot holding sixteen 4-bit counters */
+    private final long[] table;
+
+    /** Number of recorded accesses after which all counters will be halved */
+    private final int sampleSize;
+
+    /** Number of accesses recorded since the last reset */
+    private int additions;
+
+    /**
+     * Creates a new sketch sized for the given number of distinct entries
+     *
+     * @param expectedEntries The expected number of distinct entries whose frequency should be estimated
+     */
+    FrequencySketch(int expectedEntries) {
+        int slots = Integer.highestOneBit(Math.max(expectedEntries, 16) - 1) << 1;
+        this.table = new long[slots];
+        this.sampleSize = 10 * slots;
+    }
+
+    /**
+     * Returns the estimated number of recorded accesses of the entry with the given hash code
+     *
+     * @param hashCode Hash code of the entry
+     *
+     * @return Estimated access frequency of the entry between <em>{@code 0}</em> and <em>{@code 15}</em>
+     */
+    int frequency(int hashCode) {
+        int frequency = MAX_FREQUENCY;
+        for (long seed : SEEDS) {
+            int counter = counterOf(hashCode, seed);
+            frequency = Math.min(frequency, (int)((table[counter >>> 4] >>> ((counter & 15) << 2)) & 0xfL));
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the entry with the given hash code. If the number of recorded accesses reaches the sample
+     * size, all counters will be halved.
+     *
+     * @param hashCode Hash code of the entry
+     */
+    void increment(int hashCode) {
+        for (long seed : SEEDS) {
+            int counter = counterOf(hashCode, seed);
+            int slot = counter >>> 4;
+            int offset = (counter & 15) << 2;
+            if (((table[slot] >>> offset) & 0xfL) < MAX_FREQUENCY) {
+                table[slot] += 1L << offset;
+            }
+        }
+
+        if (++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Halves all counters of this sketch
+     */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    /**
+     * Returns the position of one of the counters associated with the given hash code
+     *
+     * @param hashCode Hash code of the entry
+     * @param seed     Seed determining which of the entries counters should be returned
+     *
+     * @return Position of the counter among all counters of this sketch
+     */
+    private int counterOf(int hashCode, long seed) {
+        long hash = (hashCode + seed) * seed;
+        hash ^= hash >>> 32;
+        return (int)hash & ((table.length << 4) - 1);
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.cache;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheKey;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheStatistics;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CachedResponse;
+import com.github.m0nk3y2k4.thetvdb.api.cache.ResponseCache;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.CacheStatisticsImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.CachedResponseImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
+
+/**
+ * In-memory implementation of the {@link ResponseCache} interface which is bounded by the total size of the cached
+ * content
+ * <p><br>
+ * Entries are kept in least-recently-used order. Whenever a new entry would exceed the maximum size of the cache, the
+ * least recently used entries will be evicted. In order to prevent rarely requested resources from flushing out
+ * popular entries, new entries have to pass a frequency-aware admission (TinyLFU): the access frequency of all keys
+ * is estimated via a {@link FrequencySketch} and a new entry will only replace an existing one if it has been
+ * requested more often than each of the entries it would evict. Otherwise, the new entry will be rejected and all
+ * existing entries, including any previous content cached for the same key, will be kept.
+ * <p><br>
+ * Expired entries will be removed lazily, either when they are looked up or when room has to be made for new entries.
+ * Expired entries carrying validators are kept until they are evicted, so that they can still be revalidated with the
+ * remote service. This cache is thread-safe. As no monitor
+ * locks are held, it may also be used by virtual threads without pinning them to their carrier.
+ */
+public final class MemoryResponseCache implements ResponseCache {
+
+    /** Assumed average size of a single response, used to size the frequency sketch */
+    private static final int AVERAGE_ENTRY_SIZE = 4096;
+
+    /** Maximum number of distinct keys the frequency sketch is sized for */
+    private static final int MAX_SKETCH_ENTRIES = 1 << 20;
+
+    /** Maximum total size of all cached content in bytes */
+    private final long maximumSize;
+
+    /** Source of the current time, used to expire entries */
+    private final Clock clock;
+
+    /** Lock guarding all entries, the sketch and the statistics of this cache */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** All cached entries in least-recently-used order */
+    private final LinkedHashMap<CacheKey, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Estimator for the access frequency of all requested keys */
+    private final FrequencySketch sketch;
+
+    /** Current total size of all cached content in bytes */
+    private long size;
+
+    /** Statistic counters */
+    private long hitCount;
+    private long missCount;
+    private long revalidationCount;
+    private long evictionCount;
+    private long rejectionCount;
+
+    /**
+     * Creates a new in-memory cache whose total content must not exceed the given size
+     *
+     * @param maximumSize Maximum total size of all cached content in bytes
+     */
+    public MemoryResponseCache(long maximumSize) {
+        this(maximumSize, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a new in-memory cache whose total content must not exceed the given size, using the given clock in order
+     * to determine whether entries have been expired
+     *
+     * @param maximumSize Maximum total size of all cached content in bytes
+     * @param clock       Source of the current time
+     */
+    MemoryResponseCache(long maximumSize, @Nonnull Clock clock) {
+        Parameters.validateCondition(max -> max > 0, maximumSize,
+                new IllegalArgumentException("Maximum cache size must be greater than zero"));
+
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+        this.sketch = new FrequencySketch((int)Math.min(maximumSize / AVERAGE_ENTRY_SIZE, MAX_SKETCH_ENTRIES));
+    }
+
+    @Override
+    public Optional<CachedResponse> get(@Nonnull CacheKey key) {
+        lock.lock();
+        try {
+            sketch.increment(key.hashCode());
+
+            CachedResponse entry = entries.get(key);
+            if (entry == null) {
+                missCount++;
+                return Optional.empty();
+            }
+            if (entry.isExpired(clock.instant())) {
+                missCount++;
+                if (!entry.isRevalidatable()) {
+                    remove(key);
+                    return Optional.empty();
+                }
+                return Optional.of(entry);      // Stale, but might still be revalidated
+            }
+
+            hitCount++;
+            return Optional.of(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(@Nonnull CacheKey key, @Nonnull CachedResponse response) {
+        if (response.isExpired(clock.instant()) && !response.isRevalidatable()) {
+            return;     // Not supposed to be cached at all
+        }
+
+        int required = response.getContent().length;
+        lock.lock();
+        try {
+            if (required > maximumSize || !makeRoom(key, required)) {
+                rejectionCount++;       // Any previously cached content will be kept
+                return;
+            }
+
+            remove(key);        // Replace any previously cached content
+            entries.put(key, response);
+            size += required;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void refresh(@Nonnull CacheKey key, @Nonnull Instant expiresAt) {
+        lock.lock();
+        try {
+            CachedResponse entry = entries.get(key);
+            if (entry != null) {
+                entries.put(key, CachedResponseImpl.withExpiresAt(entry, expiresAt));
+                revalidationCount++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+            size = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        lock.lock();
+        try {
+            return new CacheStatisticsImpl.Builder().hitCount(hitCount).missCount(missCount)
+                    .revalidationCount(revalidationCount).evictionCount(evictionCount).rejectionCount(rejectionCount)
+                    .entryCount(entries.size()).size(size).build();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Makes room for the given number of bytes, taking into account that any content previously cached for the
+     * candidate with the given key will be replaced. First, the entries which would have to be evicted are selected in
+     * least-recently-used order. Expired entries may always be evicted, whereas valid entries may only be evicted if
+     * the candidate has been requested more frequently than each of them. Only if the candidate has been admitted this
+     * way, the selected entries will actually be evicted. Must only be invoked while holding the lock.
+     *
+     * @param candidate Key of the new entry for which room should be made
+     * @param required  The size of the new entry in bytes
+     *
+     * @return True if enough room has been made for the new entry or false if it has been rejected by the admission,
+     *         in which case no entry has been evicted at all
+     */
+    private boolean makeRoom(CacheKey candidate, long required) {
+        Instant now = clock.instant();
+        CachedResponse previous = entries.get(candidate);
+        long available = maximumSize - size + (previous != null ? previous.getContent().length : 0);
+        int frequency = sketch.frequency(candidate.hashCode());
+
+        List<CacheKey> victims = new ArrayList<>();
+        Iterator<Map.Entry<CacheKey, CachedResponse>> entryIterator = entries.entrySet().iterator();
+        while (available < required) {
+            Map.Entry<CacheKey, CachedResponse> victim = entryIterator.next();
+            if (victim.getKey().equals(candidate)) {
+                continue;       // Already taken into account, will be replaced by the candidate anyway
+            }
+            if (!victim.getValue().isExpired(now) && frequency <= sketch.frequency(victim.getKey().hashCode())) {
+                return false;   // The candidate is less popular than one of the entries it would replace
+            }
+
+            victims.add(victim.getKey());
+            available += victim.getValue().getContent().length;
+        }
+
+        victims.forEach(this::remove);
+        evictionCount += victims.size();
+        return true;
+    }
+
+    /**
+     * Removes the entry with the given key if present. Must only be invoked while holding the lock.
+     *
+     * @param key Key of the entry to be removed
+     */
+    private void remove(CacheKey key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            size -= removed.getContent().length;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.cache;
+
+import java.time.Duration;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheKey;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CachePolicy;
+
+/**
+ * Default {@link CachePolicy} applying a fixed time-to-live per route family
+ * <p><br>
+ * The route family of a request is determined by the first segment of its resource path. Responses are cached as
+ * follows:
+ * <ul>
+ * <li>Reference data like genres, content ratings or the various status and type lists: {@link #REFERENCE_DATA}</li>
+ * <li>Search results: {@link #SEARCH_RESULTS}</li>
+ * <li>Records like series, movies or people as well as their listings: {@link #RECORDS}</li>
+ * <li>Authentication, user specific data and updates will never be cached</li>
+ * </ul>
+ */
+public final class RouteCachePolicy implements CachePolicy {
+
+    /** Time-to-live for reference data which changes very rarely */
+    public static final Duration REFERENCE_DATA = Duration.ofDays(1);
+
+    /** Time-to-live for search results */
+    public static final Duration SEARCH_RESULTS = Duration.ofMinutes(15);
+
+    /** Time-to-live for all other records */
+    public static final Duration RECORDS = Duration.ofHours(1);
+
+    /** Route families whose responses must never be cached */
+    private static final Set<String> UNCACHED_ROUTES = Set.of("login", "user", "updates");
+
+    /** Route families which exclusively provide reference data */
+    private static final Set<String> REFERENCE_ROUTES = Set.of("awards", "content", "entities", "genders", "genres");
+
+    /** Trailing path segments of resources providing reference data within other route families */
+    private static final Set<String> REFERENCE_RESOURCES = Set.of("statuses", "types");
+
+    /** Route family of search requests */
+    private static final String SEARCH_ROUTE = "search";
+
+    /** Shared instance of this stateless policy */
+    private static final CachePolicy INSTANCE = new RouteCachePolicy();
+
+    private RouteCachePolicy() {}       // Use getDefault() instead
+
+    /**
+     * Returns the default cache policy
+     *
+     * @return Shared instance of the default cache policy
+     */
+    public static CachePolicy getDefault() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Duration getTimeToLive(@Nonnull CacheKey key) {
+        String[] segments = key.getPath().replaceFirst("^/+", "").split("/");
+        String route = segments[0];
+
+        if (UNCACHED_ROUTES.contains(route)) {
+            return Duration.ZERO;
+        }
+        if (SEARCH_ROUTE.equals(route)) {
+            return SEARCH_RESULTS;
+        }
+        if (REFERENCE_ROUTES.contains(route) || REFERENCE_RESOURCES.contains(segments[segments.length - 1])) {
+            return REFERENCE_DATA;
+        }
+        return RECORDS;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.cache;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheKey;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheStatistics;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CachedResponse;
+import com.github.m0nk3y2k4.thetvdb.api.cache.ResponseCache;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.CacheStatisticsImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
+
+/**
+ * Two-tier implementation of the {@link ResponseCache} interface combining an in-memory cache with a persistent cache
+ * <p><br>
+ * New responses are written through to both tiers. Lookups are served by the {@link MemoryResponseCache} if possible.
+ * Otherwise, the {@link DiskResponseCache} will be consulted and responses found on disk will be promoted to the memory
+ * tier for their remaining time-to-live. Revalidated responses are refreshed in both tiers. As the disk tier survives
+ * restarts of the application, previously cached responses are available immediately after a new cache has been
+ * opened for the same directory.
+ * <p><br>
+ * The statistics of this cache combine the statistics of both tiers: hits of either tier count as hits, whereas only
+ * lookups missed by both tiers count as misses. As each revalidated response is refreshed in both tiers, only the
+ * revalidations of the disk tier are counted. All other values are the sum of both tiers.
+ */
+public final class TieredResponseCache implements ResponseCache {
+
+    /** The first tier, serving the most popular responses from memory */
+    private final MemoryResponseCache memory;
+
+    /** The second tier, persisting all responses on disk */
+    private final DiskResponseCache disk;
+
+    /** Source of the current time, used to determine whether responses of the first tier have been expired */
+    private final Clock clock;
+
+    /**
+     * Creates a new two-tier cache
+     *
+     * @param memory The in-memory first tier
+     * @param disk   The persistent second tier
+     */
+    public TieredResponseCache(@Nonnull MemoryResponseCache memory, @Nonnull DiskResponseCache disk) {
+        this(memory, disk, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a new two-tier cache, using the given clock in order to determine whether responses of the first tier
+     * have been expired
+     *
+     * @param memory The in-memory first tier
+     * @param disk   The persistent second tier
+     * @param clock  Source of the current time
+     */
+    TieredResponseCache(@Nonnull MemoryResponseCache memory, @Nonnull DiskResponseCache disk, @Nonnull Clock clock) {
+        Parameters.validateNotNull(memory, "Memory tier must not be NULL");
+        Parameters.validateNotNull(disk, "Disk tier must not be NULL");
+
+        this.memory = memory;
+        this.disk = disk;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<CachedResponse> get(@Nonnull CacheKey key) {
+        Optional<CachedResponse> response = memory.get(key);
+        if (response.isPresent() && !response.get().isExpired(clock.instant())) {
+            return response;
+        }
+
+        // Stale responses are looked up on disk as well, so that all misses are counted by the second tier
+        Optional<CachedResponse> persisted = disk.get(key);
+        persisted.filter(cached -> !cached.isExpired(clock.instant())).ifPresent(cached -> memory.put(key, cached));
+        return persisted.isPresent() ? persisted : response;
+    }
+
+    @Override
+    public void put(@Nonnull CacheKey key, @Nonnull CachedResponse response) {
+        memory.put(key, response);
+        disk.put(key, response);
+    }
+
+    @Override
+    public void refresh(@Nonnull CacheKey key, @Nonnull Instant expiresAt) {
+        memory.refresh(key, expiresAt);
+        disk.refresh(key, expiresAt);
+    }
+
+    @Override
+    public void invalidateAll() {
+        memory.invalidateAll();
+        disk.invalidateAll();
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        CacheStatistics first = memory.getStatistics();
+        CacheStatistics second = disk.getStatistics();
+        return new CacheStatisticsImpl.Builder()
+                .hitCount(first.getHitCount() + second.getHitCount())
+                .missCount(second.getMissCount())
+                .revalidationCount(second.getRevalidationCount())
+                .evictionCount(first.getEvictionCount() + second.getEvictionCount())
+                .rejectionCount(first.getRejectionCount() + second.getRejectionCount())
+                .entryCount(first.getEntryCount() + second.getEntryCount())
+                .size(first.getSize() + second.getSize()).build();
+    }
+
+    /**
+     * Closes the disk tier of this cache. The cached responses will remain on disk.
+     */
+    @Override
+    public void close() {
+        disk.close();
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.circuitbreaker;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.circuitbreaker.CircuitBreaker;
+import com.github.m0nk3y2k4.thetvdb.api.circuitbreaker.CircuitBreakerListener;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.CircuitState;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
+
+/**
+ * Implementation of the {@link CircuitBreaker} interface opening the circuit of a route family after a number of
+ * consecutive failures
+ * <p><br>
+ * Each route family is guarded by its own circuit, so that a degraded part of the remote service does not affect
+ * requests to other parts. A closed circuit opens once the configured number of consecutive requests failed. An open
+ * circuit rejects all requests until the configured open duration has elapsed. Afterwards, the circuit becomes
+ * half-open and permits the configured number of probe requests. If all of these probes succeed, the circuit will be
+ * closed again. A single failed probe will open the circuit again for another open duration. Probes which have been
+ * released without any outcome will be permitted once more. The optional listener will be notified about each state
+ * change. This breaker is thread-safe.
+ */
+public final class ConsecutiveFailuresCircuitBreaker implements CircuitBreaker {
+
+    /** Number of consecutive failures after which a closed circuit opens */
+    private final int failureThreshold;
+
+    /** Time in nanoseconds for which an open circuit rejects all requests */
+    private final long openDuration;
+
+    /** Number of probe requests permitted by a half-open circuit */
+    private final int probeCount;
+
+    /** Listener to be notified about state changes (optional) */
+    private final CircuitBreakerListener listener;
+
+    /** Source of the current time in nanoseconds */
+    private final LongSupplier ticker;
+
+    /** The circuits of all route families which have been requested so far */
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new circuit breaker with closed circuits for all route families
+     *
+     * @param failureThreshold Number of consecutive failures after which a circuit opens
+     * @param openDuration     Time for which an open circuit rejects all requests before probing the remote service
+     * @param probeCount       Number of successful probe requests required to close a half-open circuit
+     * @param listener         Listener to be notified about state changes. Might be <em>{@code null}</em>.
+     */
+    public ConsecutiveFailuresCircuitBreaker(int failureThreshold, @Nonnull Duration openDuration, int probeCount,
+            @CheckForNull CircuitBreakerListener listener) {
+        this(failureThreshold, openDuration, probeCount, listener, System::nanoTime);
+    }
+
+    /**
+     * Creates a new circuit breaker with closed circuits for all route families, using the given ticker as source of
+     * the current time
+     *
+     * @param failureThreshold Number of consecutive failures after which a circuit opens
+     * @param openDuration     Time for which an open circuit rejects all requests before probing the remote service
+     * @param probeCount       Number of successful probe requests required to close a half-open circuit
+     * @param listener         Listener to be notified about state changes. Might be <em>{@code null}</em>.
+     * @param ticker           Source of the current time in nanoseconds
+     */
+    ConsecutiveFailuresCircuitBreaker(int failureThreshold, @Nonnull Duration openDuration, int probeCount,
+            @CheckForNull CircuitBreakerListener listener, @Nonnull LongSupplier ticker) {
+        Parameters.validateCondition(threshold -> threshold > 0, failureThreshold,
+                new IllegalArgumentException("Failure threshold must be greater than zero"));
+        Parameters.validateNotNull(openDuration, "Open duration must not be NULL");
+        Parameters.validateCondition(duration -> !duration.isNegative() && !duration.isZero(), openDuration,
+                new IllegalArgumentException("Open duration must be greater than zero"));
+        Parameters.validateCondition(count -> count > 0, probeCount,
+                new IllegalArgumentException("Probe count must be greater than zero"));
+
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration.toNanos();
+        this.probeCount = probeCount;
+        this.listener = listener;
+        this.ticker = ticker;
+    }
+
+    @Override
+    public boolean tryAcquire(@Nonnull String family) {
+        Circuit circuit = circuit(family);
+        CircuitState previous;
+        CircuitState current;
+        boolean permitted;
+
+        circuit.lock.lock();
+        try {
+            previous = circuit.state;
+            if (circuit.state == CircuitState.OPEN && ticker.getAsLong() - circuit.openedAt >= openDuration) {
+                circuit.state = CircuitState.HALF_OPEN;
+                circuit.permittedProbes = 0;
+                circuit.successfulProbes = 0;
+            }
+            if (circuit.state == CircuitState.HALF_OPEN && circuit.permittedProbes < probeCount) {
+                circuit.permittedProbes++;
+                permitted = true;
+            } else {
+                permitted = circuit.state == CircuitState.CLOSED;
+            }
+            current = circuit.state;
+        } finally {
+            circuit.lock.unlock();
+        }
+
+        notifyListener(family, previous, current);
+        return permitted;
+    }
+
+    @Override
+    public void onSuccess(@Nonnull String family) {
+        Circuit circuit = circuit(family);
+        CircuitState previous;
+        CircuitState current;
+
+        circuit.lock.lock();
+        try {
+            previous = circuit.state;
+            if (circuit.state == CircuitState.CLOSED) {
+                circuit.consecutiveFailures = 0;
+            } else if (circuit.state == CircuitState.HALF_OPEN && ++circuit.successfulProbes >= probeCount) {
+                circuit.state = CircuitState.CLOSED;
+                circuit.consecutiveFailures = 0;
+            }
+            current = circuit.state;
+        } finally {
+            circuit.lock.unlock();
+        }
+
+        notifyListener(family, previous, current);
+    }
+
+    @Override
+    public void onFailure(@Nonnull String family) {
+        Circuit circuit = circuit(family);
+        CircuitState previous;
+        CircuitState current;
+
+        circuit.lock.lock();
+        try {
+            previous = circuit.state;
+            if (circuit.state == CircuitState.HALF_OPEN
+                    || (circuit.state == CircuitState.CLOSED && ++circuit.consecutiveFailures >= failureThreshold)) {
+                circuit.state = CircuitState.OPEN;
+                circuit.openedAt = ticker.getAsLong();
+            }
+            current = circuit.state;
+        } finally {
+            circuit.lock.unlock();
+        }
+
+        notifyListener(family, previous, current);
+    }
+
+    @Override
+    public void release(@Nonnull String family) {
+        Circuit circuit = circuit(family);
+
+        circuit.lock.lock();
+        try {
+            if (circuit.state == CircuitState.HALF_OPEN && circuit.permittedProbes > circuit.successfulProbes) {
+                circuit.permittedProbes--;
+            }
+        } finally {
+            circuit.lock.unlock();
+        }
+    }
+
+    @Override
+    public CircuitState getState(@Nonnull String family) {
+        Circuit circuit = circuits.get(family);
+        if (circuit == null) {
+            return CircuitState.CLOSED;
+        }
+
+        circuit.lock.lock();
+        try {
+            return circuit.state;
+        } finally {
+            circuit.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the circuit guarding the given route family. A new closed circuit will be created if the family has not
+     * been requested before.
+     *
+     * @param family The route family
+     *
+     * @return The circuit guarding the given route family
+     */
+    private Circuit circuit(String family) {
+        return circuits.computeIfAbsent(family, f -> new Circuit());
+    }
+
+    /**
+     * Notifies the listener, if any, about the state change of a circuit. Nothing happens if the state did not change.
+     *
+     * @param family The route family guarded by the circuit
+     * @param from   The previous state of the circuit
+     * @param to     The new state of the circuit
+     */
+    private void notifyListener(String family, CircuitState from, CircuitState to) {
+        if (listener != null && from != to) {
+            listener.onStateChange(family, from, to);
+        }
+    }
+
+    /**
+     * The mutable state of the circuit guarding a single route family
+     */
+    private static final class Circuit {
+
+        /** Lock guarding the state of this circuit */
+        private final ReentrantLock lock = new ReentrantLock();
+
+        /** The current state of this circuit */
+        private CircuitState state = CircuitState.CLOSED;
+
+        /** Number of consecutive failures while being closed */
+        private int consecutiveFailures;
+
+        /** Point in time (ticker nanoseconds) at which this circuit has been opened */
+        private long openedAt;
+
+        /** Number of probe requests permitted while being half-open */
+        private int permittedProbes;
+
+        /** Number of successful probe requests while being half-open */
+        private int successfulProbes;
+    }
+}
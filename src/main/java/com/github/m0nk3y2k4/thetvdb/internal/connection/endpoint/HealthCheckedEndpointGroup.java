@@ -0,0 +1,284 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.endpoint;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.Proxy;
+import com.github.m0nk3y2k4.thetvdb.api.endpoint.EndpointGroup;
+import com.github.m0nk3y2k4.thetvdb.api.endpoint.EndpointStatistics;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.LoadBalancing;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.EndpointStatisticsImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RemoteAPI;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
+
+/**
+ * Implementation of the {@link EndpointGroup} interface marking endpoints down after consecutive connection failures
+ * <p><br>
+ * The health of the endpoints is checked passively by observing the outcome of the regular requests. An endpoint will
+ * be marked down once the configured number of consecutive requests could not be sent to it. Endpoints which are down
+ * will be avoided for the configured downtime. Afterwards, the next request sent to the endpoint serves as health
+ * check: if it succeeds, the endpoint is up again, otherwise it will be marked down for another downtime. If all
+ * endpoints are down, the endpoint whose downtime ends first will be selected anyway.
+ * <p><br>
+ * Available endpoints are selected according to the configured {@link LoadBalancing} strategy. For latency-weighted
+ * routing, the latency of each endpoint is tracked as exponentially weighted moving average of its response times.
+ * Endpoints which have not yet responded to any request are weighted like the fastest endpoint, so that they will be
+ * tried early on. This group is thread-safe.
+ */
+public final class HealthCheckedEndpointGroup implements EndpointGroup {
+
+    /** Weight of the most recent response time in the moving average of the endpoint latency */
+    static final double LATENCY_SMOOTHING = 0.3;
+
+    /** The state of all endpoints of this group, in the order they have been added to the group */
+    private final Map<Proxy, EndpointState> states = new LinkedHashMap<>();
+
+    /** The endpoints of this group */
+    private final List<Proxy> endpoints;
+
+    /** Strategy for selecting one of the available endpoints */
+    private final LoadBalancing loadBalancing;
+
+    /** Number of consecutive connection failures after which an endpoint will be marked down */
+    private final int failureThreshold;
+
+    /** Time in nanoseconds for which an endpoint marked down will be avoided */
+    private final long downtime;
+
+    /** Source of the current time in nanoseconds */
+    private final LongSupplier ticker;
+
+    /** Source of random numbers between 0 (inclusive) and 1 (exclusive) used for latency-weighted routing */
+    private final DoubleSupplier random;
+
+    /** Counter used for round-robin routing */
+    private final AtomicInteger rotation = new AtomicInteger();
+
+    /**
+     * Creates a new group containing the given endpoints, all of which are initially considered to be up
+     *
+     * @param endpoints        The endpoints of this group
+     * @param loadBalancing    Strategy for selecting one of the available endpoints
+     * @param failureThreshold Number of consecutive connection failures after which an endpoint will be marked down
+     * @param downtime         Time for which an endpoint marked down will be avoided
+     */
+    public HealthCheckedEndpointGroup(@Nonnull Collection<Proxy> endpoints, @Nonnull LoadBalancing loadBalancing,
+            int failureThreshold, @Nonnull Duration downtime) {
+        this(endpoints, loadBalancing, failureThreshold, downtime, System::nanoTime,
+                () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Creates a new group containing the given endpoints, using the given ticker as source of the current time and
+     * the given source of random numbers for latency-weighted routing
+     *
+     * @param endpoints        The endpoints of this group
+     * @param loadBalancing    Strategy for selecting one of the available endpoints
+     * @param failureThreshold Number of consecutive connection failures after which an endpoint will be marked down
+     * @param downtime         Time for which an endpoint marked down will be avoided
+     * @param ticker           Source of the current time in nanoseconds
+     * @param random           Source of random numbers between 0 (inclusive) and 1 (exclusive)
+     */
+    HealthCheckedEndpointGroup(@Nonnull Collection<Proxy> endpoints, @Nonnull LoadBalancing loadBalancing,
+            int failureThreshold, @Nonnull Duration downtime, @Nonnull LongSupplier ticker,
+            @Nonnull DoubleSupplier random) {
+        Parameters.validateNotEmpty(endpoints, "At least one endpoint is required");
+        Parameters.validateNotNull(loadBalancing, "Load balancing strategy must not be NULL");
+        Parameters.validateCondition(threshold -> threshold > 0, failureThreshold,
+                new IllegalArgumentException("Failure threshold must be greater than zero"));
+        Parameters.validateNotNull(downtime, "Downtime must not be NULL");
+        Parameters.validateCondition(duration -> !duration.isNegative() && !duration.isZero(), downtime,
+                new IllegalArgumentException("Downtime must be greater than zero"));
+
+        List<Proxy> remotes = new ArrayList<>();
+        for (Proxy endpoint : endpoints) {
+            Parameters.validateNotNull(endpoint, "Endpoints must not be NULL");
+            remotes.add(endpoint instanceof RemoteAPI ? endpoint : new RemoteAPI.Builder().from(endpoint).build());
+        }
+        Parameters.validateCondition(list -> new HashSet<>(list).size() == list.size(), remotes,
+                new IllegalArgumentException("Endpoints must not contain duplicates"));
+
+        remotes.forEach(endpoint -> states.put(endpoint, new EndpointState()));
+        this.endpoints = List.copyOf(remotes);
+        this.loadBalancing = loadBalancing;
+        this.failureThreshold = failureThreshold;
+        this.downtime = downtime.toNanos();
+        this.ticker = ticker;
+        this.random = random;
+    }
+
+    @Override
+    public List<Proxy> getEndpoints() {
+        return endpoints;
+    }
+
+    @Override
+    public Optional<Proxy> select(@Nonnull Collection<Proxy> excluded) {
+        long now = ticker.getAsLong();
+        List<Proxy> available = new ArrayList<>();
+        Proxy recovering = null;
+
+        for (Proxy endpoint : endpoints) {
+            if (excluded.contains(endpoint)) {
+                continue;
+            }
+            EndpointState state = states.get(endpoint);
+            if (state.isAvailable(now)) {
+                available.add(endpoint);
+            } else if (recovering == null || state.downUntil - states.get(recovering).downUntil < 0) {
+                recovering = endpoint;
+            }
+        }
+
+        Proxy selected = available.isEmpty() ? recovering : switch (loadBalancing) {
+            case ROUND_ROBIN -> available.get(Math.floorMod(rotation.getAndIncrement(), available.size()));
+            case LATENCY_WEIGHTED -> selectWeighted(available);
+        };
+
+        if (selected == null) {
+            return Optional.empty();
+        }
+        states.get(selected).requests.increment();
+        return Optional.of(selected);
+    }
+
+    @Override
+    public void onSuccess(@Nonnull Proxy endpoint, @Nonnull Duration latency) {
+        EndpointState state = state(endpoint);
+        long sample = Math.max(latency.toNanos(), 1);
+        state.consecutiveFailures.set(0);
+        state.downUntil = 0;
+        state.latency.updateAndGet(average -> average == 0 ? sample
+                : average + Math.round((sample - average) * LATENCY_SMOOTHING));
+    }
+
+    @Override
+    public void onFailure(@Nonnull Proxy endpoint) {
+        EndpointState state = state(endpoint);
+        state.failures.increment();
+        if (state.consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            state.downUntil = ticker.getAsLong() + downtime;
+        }
+    }
+
+    @Override
+    public List<EndpointStatistics> getStatistics() {
+        long now = ticker.getAsLong();
+        return endpoints.stream().map(endpoint -> {
+            EndpointState state = states.get(endpoint);
+            long latency = state.latency.get();
+            return (EndpointStatistics)new EndpointStatisticsImpl.Builder().endpoint(endpoint)
+                    .requestCount(state.requests.sum())
+                    .failureCount(state.failures.sum())
+                    .latency(latency == 0 ? Optional.empty() : Optional.of(Duration.ofNanos(latency)))
+                    .isAvailable(state.isAvailable(now))
+                    .build();
+        }).toList();
+    }
+
+    /**
+     * Selects one of the given endpoints randomly, weighted by the reciprocal of their latency
+     *
+     * @param available Endpoints which are currently available
+     *
+     * @return The selected endpoint
+     */
+    private Proxy selectWeighted(List<Proxy> available) {
+        long fastest = available.stream().mapToLong(endpoint -> states.get(endpoint).latency.get())
+                .filter(latency -> latency > 0).min().orElse(1);
+
+        double[] weights = new double[available.size()];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            long latency = states.get(available.get(i)).latency.get();
+            weights[i] = 1.0 / (latency > 0 ? latency : fastest);
+            total += weights[i];
+        }
+
+        double target = random.getAsDouble() * total;
+        for (int i = 0; i < weights.length - 1; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return available.get(i);
+            }
+        }
+        return available.get(weights.length - 1);
+    }
+
+    /**
+     * Returns the state of the given endpoint
+     *
+     * @param endpoint Endpoint of this group
+     *
+     * @return The state of the endpoint
+     */
+    private EndpointState state(Proxy endpoint) {
+        EndpointState state = states.get(endpoint);
+        Parameters.validateCondition(s -> s != null, state,
+                new IllegalArgumentException("Endpoint is not part of this group"));
+        return state;
+    }
+
+    /**
+     * The state of a single endpoint of the group
+     */
+    private static final class EndpointState {
+
+        /** Number of requests which have been sent to the endpoint */
+        private final LongAdder requests = new LongAdder();
+
+        /** Number of requests which could not be sent to the endpoint */
+        private final LongAdder failures = new LongAdder();
+
+        /** Number of connection failures since the endpoint responded last */
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+        /** Moving average of the response times of the endpoint in nanoseconds or 0 if it did not yet respond */
+        private final AtomicLong latency = new AtomicLong();
+
+        /** Time in nanoseconds until which the endpoint is down or 0 if the endpoint is up */
+        private volatile long downUntil;
+
+        /**
+         * Returns whether the endpoint is available at the given time
+         *
+         * @param now The current time in nanoseconds
+         *
+         * @return <em>{@code true}</em> if the endpoint is not down at the given time
+         */
+        private boolean isAvailable(long now) {
+            long until = downUntil;
+            return until == 0 || now - until >= 0;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.hedging;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.hedging.HedgingPolicy;
+import com.github.m0nk3y2k4.thetvdb.api.hedging.HedgingStatistics;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.HedgingStatisticsImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
+
+/**
+ * Implementation of the {@link HedgingPolicy} interface using a percentile of the recently observed latencies of a
+ * route family as hedge delay
+ * <p><br>
+ * The latencies of the most recent responses are recorded separately for each route family, as the response times of
+ * different parts of the remote service might vary considerably. Once enough latencies have been recorded for a route
+ * family, a duplicate will be sent for each request which has not been answered within the configured percentile of
+ * these latencies, e.g. a percentile of <em>{@code 0.95}</em> will hedge the slowest five percent of the requests.
+ * <p><br>
+ * In order to limit the additional load put on the remote service, each duplicate has to be paid from a hedge budget.
+ * The budget initially holds a small reserve of duplicates and is replenished by each new request with the configured
+ * budget ratio, e.g. a ratio of <em>{@code 0.05}</em> allows one duplicate per twenty requests. The budget will never
+ * grow beyond its initial reserve. This policy is thread-safe.
+ */
+public final class PercentileHedgingPolicy implements HedgingPolicy {
+
+    /** Number of duplicates the budget holds initially, which is also the maximum size of the budget */
+    static final int BUDGET_RESERVE = 10;
+
+    /** Number of latencies which have to be recorded for a route family before any of its requests will be hedged */
+    static final int MINIMUM_SAMPLES = 10;
+
+    /** The percentile of the recorded latencies used as hedge delay */
+    private final double percentile;
+
+    /** Number of most recent latencies recorded per route family */
+    private final int windowSize;
+
+    /** Fraction of a duplicate added to the budget for each new request */
+    private final double budgetRatio;
+
+    /** The recorded latencies of all route families which have been answered so far */
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    /** Lock guarding the budget and the statistics of this policy */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Number of duplicates currently available in the budget */
+    private double budget = BUDGET_RESERVE;
+
+    /** Statistic counters */
+    private long requestCount;
+    private long hedgeCount;
+    private long hedgeWinCount;
+    private long budgetExhaustedCount;
+
+    /**
+     * Creates a new percentile based hedging policy with a full hedge budget
+     *
+     * @param percentile  The percentile of the recorded latencies used as hedge delay, between <em>{@code 0}</em> and
+     *                    <em>{@code 1}</em> (both exclusive)
+     * @param windowSize  Number of most recent latencies recorded per route family
+     * @param budgetRatio Maximum ratio of duplicates to requests, between <em>{@code 0}</em> and <em>{@code 1}</em>
+     */
+    public PercentileHedgingPolicy(double percentile, int windowSize, double budgetRatio) {
+        Parameters.validateCondition(value -> value > 0 && value < 1, percentile,
+                new IllegalArgumentException("Percentile must be a value between 0 and 1 (both exclusive)"));
+        Parameters.validateCondition(size -> size >= MINIMUM_SAMPLES, windowSize,
+                new IllegalArgumentException("Window size must not be less than " + MINIMUM_SAMPLES));
+        Parameters.validateCondition(ratio -> ratio >= 0 && ratio <= 1, budgetRatio,
+                new IllegalArgumentException("Budget ratio must be a value between 0 and 1"));
+
+        this.percentile = percentile;
+        this.windowSize = windowSize;
+        this.budgetRatio = budgetRatio;
+    }
+
+    @Override
+    public void onRequest() {
+        lock.lock();
+        try {
+            requestCount++;
+            budget = Math.min(budget + budgetRatio, BUDGET_RESERVE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Duration> getHedgeDelay(@Nonnull String family) {
+        return Optional.ofNullable(latencies.get(family)).flatMap(window -> window.percentile(percentile));
+    }
+
+    @Override
+    public boolean tryHedge() {
+        lock.lock();
+        try {
+            if (budget < 1) {
+                budgetExhaustedCount++;
+                return false;
+            }
+            budget--;
+            hedgeCount++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onResponse(@Nonnull String family, @Nonnull Duration latency, boolean hedge) {
+        latencies.computeIfAbsent(family, f -> new LatencyWindow(windowSize)).record(latency.toNanos());
+        if (hedge) {
+            lock.lock();
+            try {
+                hedgeWinCount++;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public HedgingStatistics getStatistics() {
+        lock.lock();
+        try {
+            return new HedgingStatisticsImpl.Builder().requestCount(requestCount).hedgeCount(hedgeCount)
+                    .hedgeWinCount(hedgeWinCount).budgetExhaustedCount(budgetExhaustedCount).build();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ring buffer holding the most recent latencies of a single route family
+     */
+    private static final class LatencyWindow {
+
+        /** Lock guarding the recorded latencies */
+        private final ReentrantLock lock = new ReentrantLock();
+
+        /** The recorded latencies in nanoseconds */
+        private final long[] samples;
+
+        /** Number of latencies recorded so far, limited by the size of the window */
+        private int count;
+
+        /** Index at which the next latency will be recorded */
+        private int next;
+
+        /**
+         * Creates a new empty latency window
+         *
+         * @param size Maximum number of latencies held by this window
+         */
+        private LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        /**
+         * Records the given latency, replacing the oldest one if the window is full
+         *
+         * @param latency The latency in nanoseconds
+         */
+        private void record(long latency) {
+            lock.lock();
+            try {
+                samples[next] = latency;
+                next = (next + 1) % samples.length;
+                count = Math.min(count + 1, samples.length);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Returns the given percentile of the recorded latencies
+         *
+         * @param percentile The percentile, between <em>{@code 0}</em> and <em>{@code 1}</em>
+         *
+         * @return The percentile of the recorded latencies or an empty Optional if not enough latencies have been
+         *         recorded yet
+         */
+        private Optional<Duration> percentile(double percentile) {
+            long[] sorted;
+            lock.lock();
+            try {
+                if (count < MINIMUM_SAMPLES) {
+                    return Optional.empty();
+                }
+                sorted = Arrays.copyOf(samples, count);
+            } finally {
+                lock.unlock();
+            }
+
+            Arrays.sort(sorted);
+            return Optional.of(Duration.ofNanos(sorted[Math.max((int)Math.ceil(percentile * sorted.length) - 1, 0)]));
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.keypool;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.APIKey;
+import com.github.m0nk3y2k4.thetvdb.api.keypool.KeyPool;
+import com.github.m0nk3y2k4.thetvdb.api.keypool.KeyStatistics;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.KeyStatisticsImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
+
+/**
+ * Implementation of the {@link KeyPool} interface selecting the key with the least outstanding requests
+ * <p><br>
+ * Each request will be sent with the available key which currently has the fewest requests in progress, so that slow
+ * or busy keys automatically receive less work. Ties are broken in a round-robin fashion. A key throttled by the remote
+ * service will be avoided for the time demanded by the service, but at least for {@link #MINIMUM_THROTTLE_PENALTY}. A
+ * key whose session could not be authorized will be avoided for {@link #UNAUTHORIZED_PENALTY}. If all keys are to be
+ * avoided, the key which becomes available again first will be selected anyway, leaving it to the remote service to
+ * decide whether the request can be processed. This pool is thread-safe.
+ */
+public final class LeastOutstandingKeyPool implements KeyPool {
+
+    /** Minimum time for which a throttled key will be avoided */
+    static final Duration MINIMUM_THROTTLE_PENALTY = Duration.ofSeconds(1);
+
+    /** Time for which a key failing authorization will be avoided */
+    static final Duration UNAUTHORIZED_PENALTY = Duration.ofMinutes(5);
+
+    /** The state of all keys of this pool, in the order they have been added to the pool */
+    private final Map<APIKey, KeyState> keys = new LinkedHashMap<>();
+
+    /** The keys of this pool */
+    private final List<APIKey> apiKeys;
+
+    /** Source of the current time in nanoseconds */
+    private final LongSupplier ticker;
+
+    /** Counter used to break ties between equally loaded keys in a round-robin fashion */
+    private final AtomicInteger rotation = new AtomicInteger();
+
+    /**
+     * Creates a new pool containing the given keys
+     *
+     * @param apiKeys The keys of this pool
+     */
+    public LeastOutstandingKeyPool(@Nonnull Collection<APIKey> apiKeys) {
+        this(apiKeys, System::nanoTime);
+    }
+
+    /**
+     * Creates a new pool containing the given keys, using the given ticker as source of the current time
+     *
+     * @param apiKeys The keys of this pool
+     * @param ticker  Source of the current time in nanoseconds
+     */
+    LeastOutstandingKeyPool(@Nonnull Collection<APIKey> apiKeys, @Nonnull LongSupplier ticker) {
+        Parameters.validateNotEmpty(apiKeys, "At least one API key is required");
+        apiKeys.forEach(Parameters::validateApiKey);
+        Parameters.validateCondition(keys -> new HashSet<>(keys).size() == keys.size(), apiKeys,
+                new IllegalArgumentException("API keys must not contain duplicates"));
+
+        apiKeys.forEach(apiKey -> keys.put(apiKey, new KeyState()));
+        this.apiKeys = List.copyOf(apiKeys);
+        this.ticker = ticker;
+    }
+
+    @Override
+    public List<APIKey> getApiKeys() {
+        return apiKeys;
+    }
+
+    @Override
+    public Optional<APIKey> acquire(@Nonnull Collection<APIKey> excluded) {
+        long now = ticker.getAsLong();
+        int offset = Math.floorMod(rotation.getAndIncrement(), apiKeys.size());
+        APIKey selected = null;
+        KeyState selectedState = null;
+
+        for (int i = 0; i < apiKeys.size(); i++) {
+            APIKey apiKey = apiKeys.get((offset + i) % apiKeys.size());
+            KeyState state = keys.get(apiKey);
+            if (!excluded.contains(apiKey) && (selectedState == null || state.isPreferredTo(selectedState, now))) {
+                selected = apiKey;
+                selectedState = state;
+            }
+        }
+
+        if (selectedState == null) {
+            return Optional.empty();
+        }
+
+        selectedState.requests.increment();
+        selectedState.outstanding.incrementAndGet();
+        return Optional.of(selected);
+    }
+
+    @Override
+    public void onSuccess(@Nonnull APIKey apiKey) {
+        KeyState state = release(apiKey);
+        state.blockedUntil = 0;
+    }
+
+    @Override
+    public void onThrottled(@Nonnull APIKey apiKey, @Nonnull Duration retryAfter) {
+        KeyState state = release(apiKey);
+        state.throttled.increment();
+        state.block(ticker.getAsLong() + max(retryAfter, MINIMUM_THROTTLE_PENALTY).toNanos());
+    }
+
+    @Override
+    public void onUnauthorized(@Nonnull APIKey apiKey) {
+        KeyState state = release(apiKey);
+        state.unauthorized.increment();
+        state.block(ticker.getAsLong() + UNAUTHORIZED_PENALTY.toNanos());
+    }
+
+    @Override
+    public void onFailure(@Nonnull APIKey apiKey) {
+        KeyState state = release(apiKey);
+        state.failures.increment();
+    }
+
+    @Override
+    public List<KeyStatistics> getStatistics() {
+        long now = ticker.getAsLong();
+        return apiKeys.stream().map(apiKey -> {
+            KeyState state = keys.get(apiKey);
+            return (KeyStatistics)new KeyStatisticsImpl.Builder().apiKey(apiKey)
+                    .requestCount(state.requests.sum())
+                    .outstandingCount(state.outstanding.get())
+                    .throttledCount(state.throttled.sum())
+                    .unauthorizedCount(state.unauthorized.sum())
+                    .failureCount(state.failures.sum())
+                    .isAvailable(state.isAvailable(now))
+                    .build();
+        }).toList();
+    }
+
+    /**
+     * Releases a request sent with the given key, which has been completed in some way
+     *
+     * @param apiKey The key used for the request
+     *
+     * @return The state of the given key
+     */
+    private KeyState release(APIKey apiKey) {
+        KeyState state = keys.get(apiKey);
+        Parameters.validateCondition(s -> s != null && s.outstanding.get() > 0, state,
+                new IllegalArgumentException("API key has not been acquired from this pool"));
+        state.outstanding.decrementAndGet();
+        return state;
+    }
+
+    /**
+     * Returns the longer of the two given durations
+     *
+     * @param first  Some duration
+     * @param second Another duration
+     *
+     * @return The longer of both durations
+     */
+    private static Duration max(Duration first, Duration second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+
+    /**
+     * The state of a single key of the pool
+     */
+    private static final class KeyState {
+
+        /** Number of requests which have been sent with the key */
+        private final LongAdder requests = new LongAdder();
+
+        /** Number of requests sent with the key which have not yet been completed */
+        private final AtomicInteger outstanding = new AtomicInteger();
+
+        /** Number of requests sent with the key which have been throttled */
+        private final LongAdder throttled = new LongAdder();
+
+        /** Number of requests sent with the key which have been rejected due to a failed authorization */
+        private final LongAdder unauthorized = new LongAdder();
+
+        /** Number of requests sent with the key which failed for some other reason */
+        private final LongAdder failures = new LongAdder();
+
+        /** Time in nanoseconds until which the key should be avoided or 0 if the key is available */
+        private volatile long blockedUntil;
+
+        /**
+         * Avoids the key until the given time, unless it is already blocked for longer
+         *
+         * @param until Time in nanoseconds until which the key should be avoided
+         */
+        private void block(long until) {
+            long current = blockedUntil;
+            if (current == 0 || until - current > 0) {
+                blockedUntil = until;
+            }
+        }
+
+        /**
+         * Returns whether the key is available at the given time
+         *
+         * @param now The current time in nanoseconds
+         *
+         * @return <em>{@code true}</em> if the key is not blocked at the given time
+         */
+        private boolean isAvailable(long now) {
+            long until = blockedUntil;
+            return until == 0 || now - until >= 0;
+        }
+
+        /**
+         * Returns whether this key should be preferred to the given other key. Available keys are preferred to blocked
+         * keys. Available keys are compared by their number of outstanding requests, whereas blocked keys are compared
+         * by the time at which they become available again.
+         *
+         * @param other Key state to compare with
+         * @param now   The current time in nanoseconds
+         *
+         * @return <em>{@code true}</em> if this key should be preferred to the other one
+         */
+        private boolean isPreferredTo(KeyState other, long now) {
+            boolean available = isAvailable(now);
+            if (available != other.isAvailable(now)) {
+                return available;
+            }
+            return available ? outstanding.get() < other.outstanding.get() : blockedUntil - other.blockedUntil < 0;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.metrics;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.metrics.MetricsRecorder;
+import com.github.m0nk3y2k4.thetvdb.api.metrics.RequestMetrics;
+import com.github.m0nk3y2k4.thetvdb.api.metrics.RouteStatistics;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.RouteStatisticsImpl;
+
+/**
+ * Implementation of the {@link MetricsRecorder} interface aggregating the recorded metrics per request method and route
+ * <p><br>
+ * The times to the first byte, the transfer times and the parse times of each route are recorded in separate
+ * {@link LatencyHistogram histograms}, which allow for estimating percentiles with a relative error of less than two
+ * percent. The response status codes and the transferred and decompressed bytes are counted per route. Once a route
+ * has been recorded before, recording the metrics of another exchange only involves a few atomic updates, which keeps
+ * the overhead on the request path low. This recorder is thread-safe.
+ */
+public final class HistogramMetricsRecorder implements MetricsRecorder {
+
+    /** Orders the route statistics by route and request method */
+    private static final Comparator<RouteStatistics> BY_ROUTE = Comparator.comparing(RouteStatistics::getRoute)
+            .thenComparing(RouteStatistics::getMethod);
+
+    /** The recorded metrics of all routes, by request method and route */
+    private final Map<String, Map<String, RouteMetrics>> routes = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(@Nonnull RequestMetrics metrics) {
+        routes.computeIfAbsent(metrics.getMethod(), method -> new ConcurrentHashMap<>())
+                .computeIfAbsent(metrics.getRoute(), route -> new RouteMetrics()).record(metrics);
+    }
+
+    @Override
+    public List<RouteStatistics> getStatistics() {
+        return routes.entrySet().stream().flatMap(method -> method.getValue().entrySet().stream()
+                        .map(route -> route.getValue().snapshot(method.getKey(), route.getKey())))
+                .sorted(BY_ROUTE).collect(Collectors.toList());
+    }
+
+    /**
+     * The metrics recorded for a single request method and route
+     */
+    private static final class RouteMetrics {
+
+        /** Histograms of the recorded latencies */
+        private final LatencyHistogram timeToFirstByte = new LatencyHistogram();
+        private final LatencyHistogram transferTime = new LatencyHistogram();
+        private final LatencyHistogram parseTime = new LatencyHistogram();
+
+        /** The number of responses per status code */
+        private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+        /** Counters of the recorded exchanges */
+        private final LongAdder requestCount = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder compressedBytes = new LongAdder();
+        private final LongAdder decompressedBytes = new LongAdder();
+
+        /**
+         * Records the given metrics of a single exchange
+         *
+         * @param metrics The metrics of the exchange
+         */
+        private void record(RequestMetrics metrics) {
+            requestCount.increment();
+            metrics.getStatusCode().ifPresentOrElse(
+                    status -> statusCounts.computeIfAbsent(status, s -> new LongAdder()).increment(),
+                    failureCount::increment);
+            metrics.getTimeToFirstByte().map(Duration::toNanos).ifPresent(timeToFirstByte::record);
+            transferTime.record(metrics.getTransferTime().toNanos());
+            parseTime.record(metrics.getParseTime().toNanos());
+            compressedBytes.add(metrics.getCompressedBytes());
+            decompressedBytes.add(metrics.getDecompressedBytes());
+        }
+
+        /**
+         * Creates a snapshot of the metrics recorded so far
+         *
+         * @param method The request method these metrics belong to
+         * @param route  The route these metrics belong to
+         *
+         * @return The current statistics of the route
+         */
+        private RouteStatistics snapshot(String method, String route) {
+            return new RouteStatisticsImpl.Builder().method(method).route(route).requestCount(requestCount.sum())
+                    .statusCounts(statusCounts.entrySet().stream()
+                            .collect(Collectors.toMap(Map.Entry::getKey, count -> count.getValue().sum())))
+                    .failureCount(failureCount.sum()).timeToFirstByte(timeToFirstByte.snapshot())
+                    .transferTime(transferTime.snapshot()).parseTime(parseTime.snapshot())
+                    .compressedBytes(compressedBytes.sum()).decompressedBytes(decompressedBytes.sum()).build();
+        }
+    }
+}
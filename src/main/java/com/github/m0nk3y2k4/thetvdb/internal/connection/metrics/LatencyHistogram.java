@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.m0nk3y2k4.thetvdb.api.metrics.LatencySnapshot;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.LatencySnapshotImpl;
+
+/**
+ * Histogram recording latencies in nanoseconds with a bounded relative error
+ * <p><br>
+ * The histogram uses log-linear buckets: each power of two is split into {@value #SUB_BUCKETS} buckets of equal width,
+ * so that a recorded value can be restored with a relative error of less than two percent, regardless of whether it
+ * is a matter of microseconds or minutes. Latencies exceeding {@link #MAX_VALUE} will be recorded as this maximum.
+ * Recording a latency is lock-free and does not allocate any memory, which keeps the overhead on the request path
+ * negligible. Snapshots may be taken concurrently to the recording but do not necessarily reflect latencies recorded
+ * at the very same time.
+ * <p><br>
+ * This class is thread-safe.
+ */
+public final class LatencyHistogram {
+
+    /** Number of bits used to distinguish the buckets within the same power of two */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /** Number of buckets per power of two */
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** Highest latency which can be recorded, which is about 18 minutes */
+    static final long MAX_VALUE = (1L << 40) - 1;
+
+    /** The recorded number of latencies per bucket */
+    private final AtomicLongArray counts = new AtomicLongArray(bucketOf(MAX_VALUE) + 1);
+
+    /** Sum of all recorded latencies */
+    private final LongAdder sum = new LongAdder();
+
+    /** The highest latency recorded so far */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records the given latency
+     *
+     * @param latency The latency in nanoseconds. Negative values will be recorded as zero.
+     */
+    public void record(long latency) {
+        long value = Math.min(Math.max(latency, 0), MAX_VALUE);
+        counts.incrementAndGet(bucketOf(value));
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Creates a snapshot of the latencies recorded so far
+     *
+     * @return Snapshot of the current latency distribution
+     */
+    public LatencySnapshot snapshot() {
+        long[] buckets = new long[counts.length()];
+        long count = 0;
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            buckets[bucket] = counts.get(bucket);
+            count += buckets[bucket];
+        }
+
+        long highest = max.get();
+        return new LatencySnapshotImpl.Builder().count(count)
+                .mean(Duration.ofNanos(count == 0 ? 0 : Math.min(sum.sum() / count, highest)))
+                .max(Duration.ofNanos(highest))
+                .p50(percentile(buckets, count, 0.5, highest))
+                .p90(percentile(buckets, count, 0.9, highest))
+                .p99(percentile(buckets, count, 0.99, highest))
+                .p999(percentile(buckets, count, 0.999, highest)).build();
+    }
+
+    /**
+     * Returns the index of the bucket the given value belongs to
+     *
+     * @param value A value between zero and {@link #MAX_VALUE}
+     *
+     * @return The bucket index of the value
+     */
+    static int bucketOf(long value) {
+        int shift = Math.max(Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS, 0);
+        return (shift << SUB_BUCKET_BITS) + (int)(value >>> shift);
+    }
+
+    /**
+     * Returns the value representing all values of the given bucket, which is the center of the bucket
+     *
+     * @param bucket The bucket index
+     *
+     * @return The representative value of the bucket
+     */
+    static long valueOf(int bucket) {
+        int shift = Math.max((bucket >>> SUB_BUCKET_BITS) - 1, 0);
+        long lowest = (long)(bucket - (shift << SUB_BUCKET_BITS)) << shift;
+        return lowest + ((1L << shift) >>> 1);
+    }
+
+    /**
+     * Estimates the given percentile of the latencies recorded in the given buckets
+     *
+     * @param buckets    The recorded number of latencies per bucket
+     * @param count      The total number of recorded latencies
+     * @param percentile The percentile, between <em>{@code 0}</em> and <em>{@code 1}</em>
+     * @param highest    The highest latency recorded, which limits the estimation
+     *
+     * @return The estimated percentile or zero if no latencies have been recorded
+     */
+    private static Duration percentile(long[] buckets, long count, double percentile, long highest) {
+        long rank = Math.max((long)Math.ceil(percentile * count), 1);
+        long seen = 0;
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            seen += buckets[bucket];
+            if (seen >= rank) {
+                return Duration.ofNanos(Math.min(valueOf(bucket), highest));
+            }
+        }
+        return Duration.ZERO;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.ratelimit;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.ratelimit.RateLimiter;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
+
+/**
+ * Token bucket implementation of the {@link RateLimiter} interface adapting its rate to the throttling of the remote
+ * service
+ * <p><br>
+ * Permits are issued at a steady rate. Permits which have not been used are accumulated in a bucket up to the
+ * configured burst size, allowing short bursts of requests after idle periods. Once the bucket is empty, permits are
+ * reserved in advance: each new request is delayed until the point in time at which its permit will be available.
+ * <p><br>
+ * The rate is adapted using additive-increase/multiplicative-decrease (AIMD): whenever the remote service throttles a
+ * request, the rate will be halved, all accumulated permits will be discarded and no permits will be issued until the
+ * time requested via the <em>{@code Retry-After}</em> header has elapsed. As concurrent requests are usually throttled
+ * together, the rate is decreased at most once per second. Each successful request will then increase the rate again
+ * by a small fraction of the configured rate until the configured rate is reached. This limiter is thread-safe. As no
+ * monitor locks are held, it may also be used by virtual threads without pinning them to their carrier.
+ */
+public final class TokenBucketRateLimiter implements RateLimiter {
+
+    /** Factor by which the rate is multiplied whenever a request has been throttled */
+    private static final double DECREASE_FACTOR = 0.5;
+
+    /** Fraction of the configured rate by which the rate is increased for each successful request */
+    private static final double INCREASE_FRACTION = 0.01;
+
+    /** Fraction of the configured rate below which the rate will never be decreased */
+    private static final double MINIMUM_FRACTION = 0.01;
+
+    /** Minimum time between two rate decreases in nanoseconds */
+    private static final long DECREASE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    /** The configured rate in permits per second, which is the upper bound of the adaptive rate */
+    private final double maximumRate;
+
+    /** The lower bound of the adaptive rate in permits per second */
+    private final double minimumRate;
+
+    /** Maximum number of permits accumulated in the bucket */
+    private final int burst;
+
+    /** Source of the current time in nanoseconds */
+    private final LongSupplier ticker;
+
+    /** Lock guarding the state of this limiter */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** The current rate in permits per second */
+    private double rate;
+
+    /** Number of permits currently accumulated in the bucket */
+    private double storedPermits;
+
+    /** Point in time (ticker nanoseconds) at which the next permit not taken from the bucket will be available */
+    private long nextFreePermit;
+
+    /** Point in time (ticker nanoseconds) of the latest rate decrease */
+    private long lastDecrease;
+
+    /**
+     * Creates a new token bucket rate limiter with a full bucket
+     *
+     * @param permitsPerSecond The rate at which permits are issued as long as the remote service does not throttle
+     * @param burst            Maximum number of permits accumulated while the limiter is idle
+     */
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    /**
+     * Creates a new token bucket rate limiter with a full bucket, using the given ticker as source of the current time
+     *
+     * @param permitsPerSecond The rate at which permits are issued as long as the remote service does not throttle
+     * @param burst            Maximum number of permits accumulated while the limiter is idle
+     * @param ticker           Source of the current time in nanoseconds
+     */
+    TokenBucketRateLimiter(double permitsPerSecond, int burst, @Nonnull LongSupplier ticker) {
+        Parameters.validateCondition(rate -> rate > 0 && Double.isFinite(rate), permitsPerSecond,
+                new IllegalArgumentException("Permits per second must be a finite value greater than zero"));
+        Parameters.validateCondition(size -> size > 0, burst,
+                new IllegalArgumentException("Burst size must be greater than zero"));
+
+        this.maximumRate = permitsPerSecond;
+        this.minimumRate = permitsPerSecond * MINIMUM_FRACTION;
+        this.burst = burst;
+        this.ticker = ticker;
+        this.rate = permitsPerSecond;
+        this.storedPermits = burst;
+        this.nextFreePermit = ticker.getAsLong();
+        this.lastDecrease = nextFreePermit - DECREASE_INTERVAL;
+    }
+
+    @Override
+    public Duration reserve() {
+        lock.lock();
+        try {
+            long now = ticker.getAsLong();
+            refill(now);
+            return Duration.ofNanos(take(now));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><br>
+     * The delay is determined before taking the permit, so that declined reservations leave the bucket untouched.
+     */
+    @Override
+    public Optional<Duration> tryReserve(@Nonnull Duration timeout) {
+        lock.lock();
+        try {
+            long now = ticker.getAsLong();
+            refill(now);
+            if (Duration.ofNanos(Math.max(nextFreePermit - now, 0)).compareTo(timeout) >= 0) {
+                return Optional.empty();
+            }
+            return Optional.of(Duration.ofNanos(take(now)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onSuccess() {
+        lock.lock();
+        try {
+            refill(ticker.getAsLong());
+            rate = Math.min(rate + maximumRate * INCREASE_FRACTION, maximumRate);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onThrottled(@Nonnull Duration retryAfter) {
+        lock.lock();
+        try {
+            long now = ticker.getAsLong();
+            refill(now);
+
+            storedPermits = 0;
+            nextFreePermit = Math.max(nextFreePermit, now + saturatedNanos(retryAfter));
+            if (now - lastDecrease >= DECREASE_INTERVAL) {
+                rate = Math.max(rate * DECREASE_FACTOR, minimumRate);
+                lastDecrease = now;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public double getRate() {
+        lock.lock();
+        try {
+            return rate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the permits issued since the last free permit to the bucket. Must only be invoked while holding the lock.
+     *
+     * @param now The current ticker value
+     */
+    private void refill(long now) {
+        if (now > nextFreePermit) {
+            double issued = (now - nextFreePermit) * rate / TimeUnit.SECONDS.toNanos(1);
+            storedPermits = Math.min(storedPermits + issued, burst);
+            nextFreePermit = now;
+        }
+    }
+
+    /**
+     * Takes the next permit, preferably from the bucket. If the bucket is empty, the permit will be reserved in
+     * advance. Must only be invoked while holding the lock.
+     *
+     * @param now The current ticker value
+     *
+     * @return The time in nanoseconds until the permit will be available
+     */
+    private long take(long now) {
+        long delay = Math.max(nextFreePermit - now, 0);
+        double fromBucket = Math.min(storedPermits, 1);
+        storedPermits -= fromBucket;
+        nextFreePermit += toNanos(1 - fromBucket);
+        return delay;
+    }
+
+    /**
+     * Returns the time needed to issue the given number of permits at the current rate. Must only be invoked while
+     * holding the lock.
+     *
+     * @param permits The number of permits
+     *
+     * @return The time needed in nanoseconds
+     */
+    private long toNanos(double permits) {
+        return (long)(permits * TimeUnit.SECONDS.toNanos(1) / rate);
+    }
+
+    /**
+     * Converts the given duration into nanoseconds, limited to the range between zero and one day
+     *
+     * @param duration The duration to convert
+     *
+     * @return The given duration in nanoseconds
+     */
+    private static long saturatedNanos(Duration duration) {
+        long maximum = TimeUnit.DAYS.toNanos(1);
+        return duration.isNegative() ? 0 : duration.compareTo(Duration.ofNanos(maximum)) > 0 ? maximum
+                : duration.toNanos();
+    }
+}
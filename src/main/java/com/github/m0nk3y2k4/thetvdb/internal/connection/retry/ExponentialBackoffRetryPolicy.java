@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.retry;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleSupplier;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.api.retry.RetryPolicy;
+import com.github.m0nk3y2k4.thetvdb.api.retry.RetryStatistics;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.RetryStatisticsImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.ErrorClassification;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APIThrottledException;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
+
+/**
+ * Implementation of the {@link RetryPolicy} interface using exponential backoff with full jitter and a retry budget
+ * <p><br>
+ * Only transient errors are retried, which are connection errors like connection resets or timeouts reported by the
+ * transport, server errors (HTTP-5xx) and throttling via HTTP-429 or HTTP-503. Client errors like HTTP-400, HTTP-403 or
+ * HTTP-404, failed authorizations as well as calls which exceeded their own deadline will not be retried. The delay
+ * before each retry is chosen randomly between zero and an upper bound which starts at the configured base delay and
+ * doubles with each retry until the configured maximum delay is reached. If the remote service requested a longer delay
+ * via the <em>{@code Retry-After}</em> header, this delay will be used instead. Requests for which the remote service
+ * requested a delay beyond the maximum delay will not be retried at all.
+ * <p><br>
+ * In order to prevent retries from amplifying an outage of the remote service, each retry has to be paid from a retry
+ * budget. The budget initially holds a small reserve of retries and is replenished by each new request with the
+ * configured budget ratio, e.g. a ratio of <em>{@code 0.1}</em> allows one retry per ten requests. The budget will
+ * never grow beyond its initial reserve, so that a long period of successful requests does not allow for an unlimited
+ * burst of retries. This policy is thread-safe.
+ */
+public final class ExponentialBackoffRetryPolicy implements RetryPolicy {
+
+    /** Number of retries the budget holds initially, which is also the maximum size of the budget */
+    static final int BUDGET_RESERVE = 10;
+
+    /** Maximum exponent used for doubling the delay, preventing numeric overflows */
+    private static final int MAXIMUM_EXPONENT = 30;
+
+    /** Maximum number of retries per request */
+    private final int maxRetries;
+
+    /** The upper bound of the delay before the first retry */
+    private final Duration baseDelay;
+
+    /** The upper bound of the delay before any retry */
+    private final Duration maxDelay;
+
+    /** Fraction of a retry added to the budget for each new request */
+    private final double budgetRatio;
+
+    /** Source of random values between 0 (inclusive) and 1 (exclusive) used for jittering the delays */
+    private final DoubleSupplier random;
+
+    /** Lock guarding the budget and the statistics of this policy */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Number of retries currently available in the budget */
+    private double budget = BUDGET_RESERVE;
+
+    /** Statistic counters */
+    private long requestCount;
+    private long retryCount;
+    private long budgetExhaustedCount;
+
+    /**
+     * Creates a new exponential backoff retry policy with a full retry budget
+     *
+     * @param maxRetries  Maximum number of retries per request
+     * @param baseDelay   The upper bound of the delay before the first retry
+     * @param maxDelay    The upper bound of the delay before any retry
+     * @param budgetRatio Maximum ratio of retries to requests, between <em>{@code 0}</em> and <em>{@code 1}</em>
+     */
+    public ExponentialBackoffRetryPolicy(int maxRetries, @Nonnull Duration baseDelay, @Nonnull Duration maxDelay,
+            double budgetRatio) {
+        this(maxRetries, baseDelay, maxDelay, budgetRatio, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Creates a new exponential backoff retry policy with a full retry budget, using the given source of random values
+     * for jittering the delays
+     *
+     * @param maxRetries  Maximum number of retries per request
+     * @param baseDelay   The upper bound of the delay before the first retry
+     * @param maxDelay    The upper bound of the delay before any retry
+     * @param budgetRatio Maximum ratio of retries to requests, between <em>{@code 0}</em> and <em>{@code 1}</em>
+     * @param random      Source of random values between <em>{@code 0}</em> (inclusive) and <em>{@code 1}</em>
+     *                    (exclusive)
+     */
+    ExponentialBackoffRetryPolicy(int maxRetries, @Nonnull Duration baseDelay, @Nonnull Duration maxDelay,
+            double budgetRatio, @Nonnull DoubleSupplier random) {
+        Parameters.validateNotNegative(maxRetries, "Maximum number of retries must not be negative");
+        Parameters.validateNotNull(baseDelay, "Base delay must not be NULL");
+        Parameters.validateNotNull(maxDelay, "Maximum delay must not be NULL");
+        Parameters.validateCondition(delay -> !delay.isNegative() && !delay.isZero(), baseDelay,
+                new IllegalArgumentException("Base delay must be greater than zero"));
+        Parameters.validateCondition(delay -> delay.compareTo(baseDelay) >= 0, maxDelay,
+                new IllegalArgumentException("Maximum delay must not be less than the base delay"));
+        Parameters.validateCondition(ratio -> ratio >= 0 && ratio <= 1, budgetRatio,
+                new IllegalArgumentException("Budget ratio must be a value between 0 and 1"));
+
+        this.maxRetries = maxRetries;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.budgetRatio = budgetRatio;
+        this.random = random;
+    }
+
+    @Override
+    public void onRequest() {
+        lock.lock();
+        try {
+            requestCount++;
+            budget = Math.min(budget + budgetRatio, BUDGET_RESERVE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Duration> nextRetry(int retry, @Nonnull APIException error) {
+        if (retry >= maxRetries || !isTransient(error)) {
+            return Optional.empty();
+        }
+
+        Duration delay = jitteredDelay(retry);
+        if (error instanceof APIThrottledException throttled && throttled.getRetryAfter().isPresent()) {
+            Duration retryAfter = throttled.getRetryAfter().get();
+            if (retryAfter.compareTo(maxDelay) > 0) {
+                return Optional.empty();
+            }
+            delay = retryAfter.compareTo(delay) > 0 ? retryAfter : delay;
+        }
+
+        lock.lock();
+        try {
+            if (budget < 1) {
+                budgetExhaustedCount++;
+                return Optional.empty();
+            }
+            budget--;
+            retryCount++;
+            return Optional.of(delay);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public RetryStatistics getStatistics() {
+        lock.lock();
+        try {
+            return new RetryStatisticsImpl.Builder().requestCount(requestCount).retryCount(retryCount)
+                    .budgetExhaustedCount(budgetExhaustedCount).build();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a random delay between zero and the exponentially growing upper bound for the given retry
+     *
+     * @param retry The number of retries which have already been performed
+     *
+     * @return The delay before the next retry
+     */
+    private Duration jitteredDelay(int retry) {
+        double bound = Math.min(baseDelay.toNanos() * Math.pow(2, Math.min(retry, MAXIMUM_EXPONENT)),
+                maxDelay.toNanos());
+        return Duration.ofNanos((long)(random.getAsDouble() * bound));
+    }
+
+    /**
+     * Checks whether the given error is a transient one, which might not occur again when retrying the request. This
+     * applies to {@link ErrorClassification#isServiceFailure(Throwable) failures of the remote service} only. Requests
+     * rejected as invalid will be rejected again, and a timeout without any cause reports that the deadline of the API
+     * call has been exceeded, which will not be any different for a retry.
+     *
+     * @param error The error by which a request failed
+     *
+     * @return <em>{@code true}</em> if the request may succeed when being retried
+     */
+    private static boolean isTransient(APIException error) {
+        return ErrorClassification.isServiceFailure(error);
+    }
+}
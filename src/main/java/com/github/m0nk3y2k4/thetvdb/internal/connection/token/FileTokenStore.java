@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.token;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIRuntimeException;
+import com.github.m0nk3y2k4.thetvdb.api.token.TokenStore;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
+
+/**
+ * Persistent implementation of the {@link TokenStore} interface storing all tokens in the file system
+ * <p><br>
+ * Each token is stored in a separate file named after its ID within the store directory. Tokens are written to a
+ * temporary file first which will then atomically replace the current token file, so that concurrent readers will
+ * never see a partially written token. The store directory may be shared by multiple processes, e.g. via a network
+ * file system mounted by multiple nodes.
+ * <p><br>
+ * Locks are maintained per ID and consist of an in-process lock, guarding against concurrent threads of the same
+ * process, as well as an exclusive {@link FileLock} on a separate lock file, guarding against other processes. As file
+ * locks are held on behalf of the whole process, in-process locks are shared by all stores using the same directory.
+ * If the lock file cannot be locked, e.g. because the file system does not support file locks, only the in-process
+ * lock will be held.
+ */
+public final class FileTokenStore implements TokenStore {
+
+    /** Extension of the files containing the tokens */
+    private static final String TOKEN_FILE = ".jwt";
+
+    /** Extension of the files used to lock the tokens across processes */
+    private static final String LOCK_FILE = ".lock";
+
+    /** The locks of all lock files that have been locked by any store so far */
+    private static final Map<Path, TokenLock> LOCKS = new ConcurrentHashMap<>();
+
+    /** Directory containing the token files */
+    private final Path directory;
+
+    /**
+     * Opens the token store within the given directory. If the directory does not exist, it will be created. Any
+     * tokens already stored in this directory will be available immediately.
+     *
+     * @param directory Directory containing the token files
+     *
+     * @throws APIRuntimeException If the store directory could not be created
+     */
+    public FileTokenStore(@Nonnull Path directory) {
+        Parameters.validateNotNull(directory, "Token store directory must not be NULL");
+
+        this.directory = directory.toAbsolutePath().normalize();
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new APIRuntimeException("Unable to open token store in directory " + directory, ex);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><br>
+     * Token files which cannot be read are treated as if no token has been saved at all.
+     */
+    @Override
+    public Optional<String> load(@Nonnull String id) {
+        try {
+            return Optional.of(Files.readString(directory.resolve(id + TOKEN_FILE), UTF_8).trim())
+                    .filter(token -> !token.isEmpty());
+        } catch (IOException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><br>
+     * The temporary file will be created with the default permissions for temporary files, i.e. being only accessible
+     * by the owner on POSIX file systems. If the token cannot be written, it will not be shared with other API
+     * instances but will nevertheless be used by the instance it has been issued to.
+     */
+    @Override
+    public void save(@Nonnull String id, @Nonnull String token) {
+        Path file = null;
+        try {
+            file = Files.createTempFile(directory, id, ".tmp");
+            Files.writeString(file, token, UTF_8);
+            Files.move(file, directory.resolve(id + TOKEN_FILE), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            delete(file);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><br>
+     * Other processes are locked out by acquiring an exclusive lock on the lock file of the given ID once the current
+     * thread holds the in-process lock.
+     */
+    @Override
+    public void lock(@Nonnull String id) {
+        LOCKS.computeIfAbsent(directory.resolve(id + LOCK_FILE), TokenLock::new).lock();
+    }
+
+    @Override
+    public void unlock(@Nonnull String id) {
+        TokenLock lock = LOCKS.get(directory.resolve(id + LOCK_FILE));
+        Parameters.validateCondition(held -> held != null && held.isHeldByCurrentThread(), lock,
+                new IllegalMonitorStateException("Token lock is not held by the current thread: " + id));
+        lock.unlock();
+    }
+
+    /**
+     * Deletes the given file, if any. Failures will be ignored.
+     *
+     * @param file The file to be deleted
+     */
+    private static void delete(@CheckForNull Path file) {
+        try {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException ex) {
+            // Leftover temporary files do not affect the store
+        }
+    }
+
+    /**
+     * Lock of a single ID, combining an in-process lock with an exclusive file lock
+     */
+    private static final class TokenLock extends ReentrantLock {
+
+        /** The file locked in order to lock out other processes */
+        private final Path file;
+
+        /** Channel of the lock file while being locked (might be null if the file could not be locked) */
+        private FileChannel channel;
+
+        /**
+         * Creates a new lock for the given lock file
+         *
+         * @param file The file to be locked
+         */
+        private TokenLock(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public void lock() {
+            super.lock();
+            if (getHoldCount() == 1) {
+                try {
+                    channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                    channel.lock();     // Blocks until the lock has been released by other processes
+                } catch (IOException | OverlappingFileLockException ex) {
+                    release();          // Continue with the in-process lock only
+                }
+            }
+        }
+
+        @Override
+        public void unlock() {
+            if (getHoldCount() == 1) {
+                release();
+            }
+            super.unlock();
+        }
+
+        /**
+         * Closes the channel of the lock file, which also releases the file lock
+         */
+        private void release() {
+            try {
+                if (channel != null) {
+                    channel.close();
+                }
+            } catch (IOException ex) {
+                // File lock will be released by the operating system once the channel is gone
+            } finally {
+                channel = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.exception;
+
+import javax.annotation.Nonnull;
+
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+
+/**
+ * Specific type of {@link APIException} which is thrown if a request has been rejected by a circuit breaker on the
+ * client side without being sent to the remote service.
+ */
+public final class APICircuitOpenException extends APIException {
+
+    /**
+     * Creates a new API circuit open exception for the given route family.
+     *
+     * @param family The route family whose circuit rejected the request
+     */
+    public APICircuitOpenException(@Nonnull String family) {
+        super(API_CIRCUIT_OPEN_ERROR, family);
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.github.m0nk3y2k4.thetvdb.internal.exception;
 
+import java.util.OptionalInt;
+
 import javax.annotation.Nonnull;
 
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
@@ -25,10 +27,15 @@ import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
  * checked communication level errors returned by the API as declared in the interface description.
  * <p><br>
  * The only checked response error that is <b>not</b> covered by this exception is HTTP-401 which is handled by a more
- * distinctive exception type: {@link APINotAuthorizedException}
+ * distinctive exception type: {@link APINotAuthorizedException}. Exceptions reporting an unexpected HTTP status code
+ * returned by the remote service carry this {@link #getStatusCode() status code}, so that server errors can be told
+ * apart from requests the remote service rejected as invalid.
  */
 public class APICommunicationException extends APIException {
 
+    /** The unexpected HTTP status code returned by the remote service or <em>{@code 0}</em> if not applicable */
+    private final int statusCode;
+
     /**
      * Creates a new API communication exception with the given error message
      *
@@ -36,6 +43,18 @@ public class APICommunicationException extends APIException {
      */
     public APICommunicationException(String message) {
         super(message);
+        this.statusCode = 0;
+    }
+
+    /**
+     * Creates a new API communication exception reporting an unexpected HTTP status code of the remote service
+     *
+     * @param message    Brief error message describing the problem
+     * @param statusCode The HTTP status code returned by the remote service
+     */
+    public APICommunicationException(@Nonnull String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
     }
 
     /**
@@ -47,6 +66,7 @@ public class APICommunicationException extends APIException {
      */
     public APICommunicationException(@Nonnull String message, @Nonnull String details) {
         super(message, details);
+        this.statusCode = 0;
     }
 
     /**
@@ -57,5 +77,16 @@ public class APICommunicationException extends APIException {
      */
     public APICommunicationException(String message, Throwable cause) {
         super(message, cause);
+        this.statusCode = 0;
+    }
+
+    /**
+     * Returns the unexpected HTTP status code returned by the remote service, if this exception has been thrown due to
+     * such a status code
+     *
+     * @return The HTTP status code or an empty Optional if this exception does not report an unexpected status code
+     */
+    public OptionalInt getStatusCode() {
+        return statusCode > 0 ? OptionalInt.of(statusCode) : OptionalInt.empty();
     }
 }
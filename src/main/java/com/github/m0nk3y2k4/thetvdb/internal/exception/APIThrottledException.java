@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.exception;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Specific type of {@link APICommunicationException} which handles HTTP-429 and HTTP-503 responses received from the
+ * remote API. Such responses indicate that the remote service is currently not willing or able to process any further
+ * requests, e.g. because too many requests have been sent recently. The time the client should wait before sending
+ * new requests might be provided by the remote service via the <em>{@code Retry-After}</em> response header.
+ */
+public final class APIThrottledException extends APICommunicationException {
+
+    /** Time to wait before sending new requests as requested by the remote service. Might be <em>{@code null}</em>. */
+    private final Duration retryAfter;
+
+    /**
+     * Creates a new API throttling exception with the given error message
+     *
+     * @param message    Brief error message describing the throttling
+     * @param retryAfter Time to wait before sending new requests as provided by the <em>{@code Retry-After}</em>
+     *                   response header. Might be <em>{@code null}</em>.
+     */
+    public APIThrottledException(@Nonnull String message, @CheckForNull Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns the time the client should wait before sending new requests to the remote service
+     *
+     * @return The time to wait as requested by the remote service or an empty Optional if the response did not contain
+     *         a valid <em>{@code Retry-After}</em> header
+     */
+    public Optional<Duration> getRetryAfter() {
+        return Optional.ofNullable(retryAfter);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.exception;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Specific type of {@link APICommunicationException} which is thrown if a request could not be completed in time. This
+ * is either the case if the remote service did not accept the connection or did not respond within the configured
+ * connect or read timeout, or if the deadline of the API call on whose behalf the request has been sent has been
+ * exceeded, e.g. due to retries or waiting for the rate limiter.
+ */
+public final class APITimeoutException extends APICommunicationException {
+
+    /**
+     * Creates a new API timeout exception with the given error message
+     *
+     * @param message Brief error message describing the timeout
+     */
+    public APITimeoutException(@Nonnull String message) {
+        super(message);
+    }
+
+    /**
+     * Creates a nested API timeout exception wrapping the timeout reported by the underlying transport
+     *
+     * @param message Brief error message describing the timeout
+     * @param cause   The original timeout exception
+     */
+    public APITimeoutException(@Nonnull String message, @Nonnull Throwable cause) {
+        super(message, cause);
+    }
+}
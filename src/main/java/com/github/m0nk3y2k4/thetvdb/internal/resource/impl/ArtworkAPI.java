@@ -18,9 +18,8 @@ package com.github.m0nk3y2k4.thetvdb.internal.resource.impl;
 
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
-import com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RequestSender;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.Resource;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
 
@@ -45,6 +44,7 @@ public final class ArtworkAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/Artwork%20Statuses/getAllArtworkStatuses">
      * <b>[GET]</b> /artwork/statuses</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      *
      * @return JSON object containing an overview of available artwork statuses
@@ -52,7 +52,7 @@ public final class ArtworkAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getAllArtworkStatuses(@Nonnull APIConnection con) throws APIException {
+    public static <T> T getAllArtworkStatuses(@Nonnull RequestSender<T> con) throws APIException {
         return con.sendGET(createResource("/artwork/statuses"));
     }
 
@@ -63,6 +63,7 @@ public final class ArtworkAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/Artwork%20Types/getAllArtworkTypes">
      * <b>[GET]</b> /artwork/types</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      *
      * @return JSON object containing an overview of available artwork types
@@ -70,7 +71,7 @@ public final class ArtworkAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getAllArtworkTypes(@Nonnull APIConnection con) throws APIException {
+    public static <T> T getAllArtworkTypes(@Nonnull RequestSender<T> con) throws APIException {
         return con.sendGET(createResource("/artwork/types"));
     }
 
@@ -81,6 +82,7 @@ public final class ArtworkAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/Artwork/getArtworkBase">
      * <b>[GET]</b> /artwork/{id}</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> artwork ID
      *
@@ -89,7 +91,7 @@ public final class ArtworkAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no
      *                      artwork record with the given ID exists, etc.
      */
-    public static JsonNode getArtworkBase(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getArtworkBase(@Nonnull RequestSender<T> con, long id) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createResource("/artwork/{id}", id));
     }
@@ -101,6 +103,7 @@ public final class ArtworkAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/Artwork/getArtworkExtended">
      * <b>[GET]</b> /artwork/{id}/extended</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> artwork ID
      *
@@ -109,7 +112,7 @@ public final class ArtworkAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no
      *                      artwork record with the given ID exists, etc.
      */
-    public static JsonNode getArtworkExtended(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getArtworkExtended(@Nonnull RequestSender<T> con, long id) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createResource("/artwork/{id}/extended", id));
     }
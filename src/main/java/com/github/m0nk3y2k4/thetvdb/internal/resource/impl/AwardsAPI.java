@@ -18,9 +18,8 @@ package com.github.m0nk3y2k4.thetvdb.internal.resource.impl;
 
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
-import com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RequestSender;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.Resource;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
 
@@ -44,6 +43,7 @@ public final class AwardsAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/Award%20Categories/getAwardCategory">
      * <b>[GET]</b> /awards/categories/{id}</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> award category ID
      *
@@ -52,7 +52,7 @@ public final class AwardsAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no award
      *                      category record with the given ID exists, etc.
      */
-    public static JsonNode getAwardCategoryBase(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getAwardCategoryBase(@Nonnull RequestSender<T> con, long id) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createResource("/awards/categories/{id}", id));
     }
@@ -64,6 +64,7 @@ public final class AwardsAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/Award%20Categories/getAwardCategoryExtended">
      * <b>[GET]</b> /awards/categories/{id}/extended</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> award category ID
      *
@@ -72,7 +73,7 @@ public final class AwardsAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no award
      *                      category record with the given ID exists, etc.
      */
-    public static JsonNode getAwardCategoryExtended(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getAwardCategoryExtended(@Nonnull RequestSender<T> con, long id) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createResource("/awards/categories/{id}/extended", id));
     }
@@ -84,6 +85,7 @@ public final class AwardsAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/Awards/getAllAwards">
      * <b>[GET]</b> /awards</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      *
      * @return JSON object containing an overview of available awards
@@ -91,7 +93,7 @@ public final class AwardsAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getAllAwards(@Nonnull APIConnection con) throws APIException {
+    public static <T> T getAllAwards(@Nonnull RequestSender<T> con) throws APIException {
         return con.sendGET(createResource("/awards"));
     }
 
@@ -102,6 +104,7 @@ public final class AwardsAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/Awards/getAward">
      * <b>[GET]</b> /awards/{id}</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> award ID
      *
@@ -110,7 +113,7 @@ public final class AwardsAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no award
      *                      record with the given ID exists, etc.
      */
-    public static JsonNode getAwardBase(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getAwardBase(@Nonnull RequestSender<T> con, long id) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createResource("/awards/{id}", id));
     }
@@ -122,6 +125,7 @@ public final class AwardsAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/Awards/getAwardExtended">
      * <b>[GET]</b> /awards/{id}/extended</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> award ID
      *
@@ -130,7 +134,7 @@ public final class AwardsAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no award
      *                      record with the given ID exists, etc.
      */
-    public static JsonNode getAwardExtended(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getAwardExtended(@Nonnull RequestSender<T> con, long id) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createResource("/awards/{id}/extended", id));
     }
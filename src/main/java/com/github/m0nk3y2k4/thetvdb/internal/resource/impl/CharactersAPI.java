@@ -18,9 +18,8 @@ package com.github.m0nk3y2k4.thetvdb.internal.resource.impl;
 
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
-import com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RequestSender;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.Resource;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
 
@@ -43,6 +42,7 @@ public final class CharactersAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/Characters/getCharacterBase">
      * <b>[GET]</b> /characters/{id}</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> character ID
      *
@@ -51,7 +51,7 @@ public final class CharactersAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no
      *                      character record with the given ID exists, etc.
      */
-    public static JsonNode getCharacterBase(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getCharacterBase(@Nonnull RequestSender<T> con, long id) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createResource("/characters/{id}", id));
     }
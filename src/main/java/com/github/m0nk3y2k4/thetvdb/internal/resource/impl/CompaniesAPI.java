@@ -18,10 +18,9 @@ package com.github.m0nk3y2k4.thetvdb.internal.resource.impl;
 
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.api.QueryParameters;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
-import com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RequestSender;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.QueryResource;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
 
@@ -43,6 +42,7 @@ public final class CompaniesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Companies/getAllCompanies">
      * <b>[GET]</b> /companies</a>
      *
+     * @param <T>    Type of the response returned by the given connection
      * @param con    Initialized connection to be used for API communication
      * @param params Object containing key/value pairs of query parameters
      *
@@ -51,7 +51,7 @@ public final class CompaniesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getAllCompanies(@Nonnull APIConnection con, QueryParameters params) throws APIException {
+    public static <T> T getAllCompanies(@Nonnull RequestSender<T> con, QueryParameters params) throws APIException {
         return con.sendGET(createQueryResource("/companies", params));
     }
 
@@ -62,6 +62,7 @@ public final class CompaniesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Companies/getCompanyTypes">
      * <b>[GET]</b> /companies/types</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      *
      * @return JSON object containing an overview of available company types
@@ -69,7 +70,7 @@ public final class CompaniesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getCompanyTypes(@Nonnull APIConnection con) throws APIException {
+    public static <T> T getCompanyTypes(@Nonnull RequestSender<T> con) throws APIException {
         return con.sendGET(createResource("/companies/types"));
     }
 
@@ -80,6 +81,7 @@ public final class CompaniesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Companies/getCompany">
      * <b>[GET]</b> /companies/{id}</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> company ID
      *
@@ -88,7 +90,7 @@ public final class CompaniesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no
      *                      company record with the given ID exists, etc.
      */
-    public static JsonNode getCompany(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getCompany(@Nonnull RequestSender<T> con, long id) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createResource("/companies/{id}", id));
     }
@@ -20,10 +20,9 @@ import static com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters.i
 
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.api.QueryParameters;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
-import com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RequestSender;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.QueryResource;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
 
@@ -46,6 +45,7 @@ public final class EpisodesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Episodes/getEpisodeBase">
      * <b>[GET]</b> /episodes/{id}</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> episode ID
      *
@@ -54,7 +54,7 @@ public final class EpisodesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no
      *                      episode record with the given ID exists, etc.
      */
-    public static JsonNode getEpisodeBase(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getEpisodeBase(@Nonnull RequestSender<T> con, long id) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createResource("/episodes/{id}", id));
     }
@@ -66,6 +66,7 @@ public final class EpisodesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Episodes/getEpisodeExtended">
      * <b>[GET]</b> /episodes/{id}/extended</a>
      *
+     * @param <T>    Type of the response returned by the given connection
      * @param con    Initialized connection to be used for API communication
      * @param id     The <i>TheTVDB.com</i> episode ID
      * @param params Object containing key/value pairs of query parameters
@@ -75,7 +76,7 @@ public final class EpisodesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no
      *                      episode record with the given ID exists, etc.
      */
-    public static JsonNode getEpisodeExtended(@Nonnull APIConnection con, long id, QueryParameters params)
+    public static <T> T getEpisodeExtended(@Nonnull RequestSender<T> con, long id, QueryParameters params)
             throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createQueryResource("/episodes/{id}/extended", params, id));
@@ -88,6 +89,7 @@ public final class EpisodesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Episodes/getEpisodeTranslation">
      * <b>[GET]</b> /episodes/{id}/translations/{language}</a>
      *
+     * @param <T>      Type of the response returned by the given connection
      * @param con      Initialized connection to be used for API communication
      * @param id       The <i>TheTVDB.com</i> episode ID
      * @param language The 2- or 3-character language code
@@ -97,7 +99,7 @@ public final class EpisodesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no
      *                      episode translation record exists for the given ID and language, etc.
      */
-    public static JsonNode getEpisodeTranslation(@Nonnull APIConnection con, long id, @Nonnull String language)
+    public static <T> T getEpisodeTranslation(@Nonnull RequestSender<T> con, long id, @Nonnull String language)
             throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         Parameters.validatePathParam(PATH_LANGUAGE, language, isValidLanguageCode());
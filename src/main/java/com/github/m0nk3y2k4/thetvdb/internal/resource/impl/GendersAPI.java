@@ -18,9 +18,8 @@ package com.github.m0nk3y2k4.thetvdb.internal.resource.impl;
 
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
-import com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RequestSender;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.Resource;
 
 /**
@@ -42,6 +41,7 @@ public final class GendersAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/Genders/getAllGenders">
      * <b>[GET]</b> /genders</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      *
      * @return JSON object containing an overview of available genders
@@ -49,7 +49,7 @@ public final class GendersAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getAllGenders(@Nonnull APIConnection con) throws APIException {
+    public static <T> T getAllGenders(@Nonnull RequestSender<T> con) throws APIException {
         return con.sendGET(createResource("/genders"));
     }
 }
@@ -18,9 +18,8 @@ package com.github.m0nk3y2k4.thetvdb.internal.resource.impl;
 
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
-import com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RequestSender;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.Resource;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
 
@@ -42,6 +41,7 @@ public final class GenresAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/Genres/getAllGenres">
      * <b>[GET]</b> /genres</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      *
      * @return JSON object containing an overview of available genres
@@ -49,7 +49,7 @@ public final class GenresAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getAllGenres(@Nonnull APIConnection con) throws APIException {
+    public static <T> T getAllGenres(@Nonnull RequestSender<T> con) throws APIException {
         return con.sendGET(createResource("/genres"));
     }
 
@@ -60,6 +60,7 @@ public final class GenresAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/Genres/getGenreBase">
      * <b>[GET]</b> /genres/{id}</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> genre ID
      *
@@ -68,7 +69,7 @@ public final class GenresAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, the given
      *                      genre ID does not exist, etc.
      */
-    public static JsonNode getGenreBase(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getGenreBase(@Nonnull RequestSender<T> con, long id) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createResource("/genres/{id}", id));
     }
@@ -20,10 +20,9 @@ import static com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters.i
 
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.api.QueryParameters;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
-import com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RequestSender;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.QueryResource;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
 
@@ -46,6 +45,7 @@ public final class ListsAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Lists/getListTranslation">
      * <b>[GET]</b> /lists/{id}/translations/{language}</a>
      *
+     * @param <T>      Type of the response returned by the given connection
      * @param con      Initialized connection to be used for API communication
      * @param id       The <i>TheTVDB.com</i> list ID
      * @param language The 2- or 3-character language code
@@ -55,7 +55,7 @@ public final class ListsAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no list
      *                      translation record exists for the given ID and language, etc.
      */
-    public static JsonNode getListTranslation(@Nonnull APIConnection con, long id, @Nonnull String language)
+    public static <T> T getListTranslation(@Nonnull RequestSender<T> con, long id, @Nonnull String language)
             throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         Parameters.validatePathParam(PATH_LANGUAGE, language, isValidLanguageCode());
@@ -69,6 +69,7 @@ public final class ListsAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Lists/getAllLists">
      * <b>[GET]</b> /lists</a>
      *
+     * @param <T>    Type of the response returned by the given connection
      * @param con    Initialized connection to be used for API communication
      * @param params Object containing key/value pairs of query parameters
      *
@@ -77,7 +78,7 @@ public final class ListsAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getAllLists(@Nonnull APIConnection con, QueryParameters params) throws APIException {
+    public static <T> T getAllLists(@Nonnull RequestSender<T> con, QueryParameters params) throws APIException {
         return con.sendGET(createQueryResource("/lists", params));
     }
 
@@ -88,6 +89,7 @@ public final class ListsAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Lists/getList">
      * <b>[GET]</b> /lists/{id}</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> list ID
      *
@@ -96,7 +98,7 @@ public final class ListsAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, the given
      *                      list ID does not exist, etc.
      */
-    public static JsonNode getListBase(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getListBase(@Nonnull RequestSender<T> con, long id) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createResource("/lists/{id}", id));
     }
@@ -108,6 +110,7 @@ public final class ListsAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Lists/getListExtended">
      * <b>[GET]</b> /lists/{id}/extended</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> list ID
      *
@@ -116,7 +119,7 @@ public final class ListsAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no list
      *                      record with the given ID exists, etc.
      */
-    public static JsonNode getListExtended(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getListExtended(@Nonnull RequestSender<T> con, long id) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createResource("/lists/{id}/extended", id));
     }
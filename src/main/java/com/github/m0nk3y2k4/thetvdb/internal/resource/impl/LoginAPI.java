@@ -20,8 +20,10 @@ import static com.github.m0nk3y2k4.thetvdb.api.enumeration.FundingModel.SUBSCRIP
 
 import javax.annotation.Nonnull;
 
+import jdk.jfr.EventType;
+
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.m0nk3y2k4.thetvdb.api.APIKey;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
@@ -40,6 +42,12 @@ import com.github.m0nk3y2k4.thetvdb.internal.util.functional.ThrowableFunctional
  */
 public final class LoginAPI {
 
+    /** Remote API route used to request new tokens */
+    private static final String LOGIN = "/login";
+
+    /** Flight recorder type of the login events, queried before creating an event for each token request */
+    private static final EventType LOGIN_EVENT = EventType.getEventType(LoginEvent.class);
+
     private LoginAPI() {}       // Private constructor. Only static methods
 
     /**
@@ -60,8 +68,41 @@ public final class LoginAPI {
      *                      an invalid or unparsable JWT token
      */
     public static void login(@Nonnull APIConnection con) throws APIException {
-        ObjectNode authentication = new ObjectMapper().getNodeFactory().objectNode();
-        APIKey auth = con.getApiKey();
+        String authentication = createAuthentication(con.getApiKey());
+
+        con.setStatus(APISession.Status.AUTHORIZATION_IN_PROGRESS);
+        setToken(con, () -> con.sendPOST(LOGIN, authentication), false);
+        con.setStatus(APISession.Status.AUTHORIZED);
+    }
+
+    /**
+     * Renews the token of the given, already initialized connection by requesting a new token from the remote API.
+     * Other than {@link #login(APIConnection)}, the connection will remain authorized while the new token is being
+     * requested, so that concurrent requests will continue to use the current token until it has been replaced.
+     * <p><br>
+     * <i>Corresponds to remote API route:</i> <a target="_blank"
+     * href="https://thetvdb.github.io/v4-api/#/Login/post_login">
+     * <b>[POST]</b> /login</a>
+     *
+     * @param con Connection to be used for API communication and to which the Issued JWT token should be propagated to
+     *
+     * @throws APIException If an exception with the remote API occurs, e.g. due to an IO error or if the API returned
+     *                      an invalid or unparsable JWT token
+     */
+    public static void refresh(@Nonnull APIConnection con) throws APIException {
+        String authentication = createAuthentication(con.getApiKey());
+        setToken(con, () -> con.sendPOST(LOGIN, authentication), true);
+    }
+
+    /**
+     * Creates the JSON payload used to authenticate on the remote service based on the given API key
+     *
+     * @param auth The API key to authenticate with
+     *
+     * @return Authentication payload for the login route
+     */
+    private static String createAuthentication(@Nonnull APIKey auth) {
+        ObjectNode authentication = JsonNodeFactory.instance.objectNode();
 
         authentication.put("apikey", auth.getApiKey());
         if (auth.getFundingModel() == SUBSCRIPTION) {
@@ -69,29 +110,45 @@ public final class LoginAPI {
                     .orElseThrow(() -> new IllegalStateException("For user subscription based authentication a PIN is required")));
         }
 
-        con.setStatus(APISession.Status.AUTHORIZATION_IN_PROGRESS);
-        setToken(con, () -> con.sendPOST("/login", authentication.toString()));
-        con.setStatus(APISession.Status.AUTHORIZED);
+        return authentication.toString();
     }
 
     /**
-     * Invokes the given request and parses the JWT token from the responded JSON which will then be set to the given
-     * connection.
+     * Renews the token of the given connection. If the connection shares its tokens via a token store, a valid token
+     * already saved to this store will be adopted. Otherwise, the given request will be invoked and the JWT token will
+     * be parsed from the responded JSON, which will then be set to the given connection. The renewal may be recorded
+     * by the Java Flight Recorder.
      *
      * @param con         Connection to be used for API communication and to which the Issued JWT token should be
      *                    propagated to
      * @param sendRequest Prepared API request which returns a valid JWT token in its payload
+     * @param renewal     Whether the token of an already authorized connection is renewed in the background
      *
      * @throws APIException If an exception with the remote API occurs, e.g. due to an IO error or if the API returned
      *                      an invalid or unparsable JWT token
      */
     private static void setToken(@Nonnull APIConnection con,
-            @Nonnull ThrowableFunctionalInterfaces.Supplier<JsonNode, APIException> sendRequest) throws APIException {
-        // Request token
-        JsonNode response = sendRequest.get();              // Throws exception if authorization fails
-        String token = response.findPath("token").requireNonNull().asText();
-
-        // Set token on connection
-        con.setToken(token);
+            @Nonnull ThrowableFunctionalInterfaces.Supplier<JsonNode, APIException> sendRequest, boolean renewal)
+            throws APIException {
+        LoginEvent event = LOGIN_EVENT.isEnabled() ? new LoginEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        boolean renewed = false;
+        try {
+            con.renewToken(() -> {
+                // Request token
+                JsonNode response = sendRequest.get();              // Throws exception if authorization fails
+                return response.findPath("token").requireNonNull().asText();
+            });
+            renewed = true;
+        } finally {
+            if (event != null && event.shouldCommit()) {
+                event.route = LOGIN;
+                event.renewal = renewal;
+                event.outcome = renewed ? "success" : "failure";
+                event.commit();
+            }
+        }
     }
 }
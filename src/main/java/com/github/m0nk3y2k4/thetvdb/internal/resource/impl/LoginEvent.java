@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.resource.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event covering the login of a connection, including the adoption of a token shared via a token store
+ */
+@Name("com.github.m0nk3y2k4.thetvdb.Login")
+@Label("TheTVDB Login")
+@Category("TheTVDB API")
+@Description("Login requesting a new session token, either on demand or renewing the token in the background")
+final class LoginEvent extends Event {
+
+    @Label("Route")
+    String route;
+
+    @Label("Renewal")
+    @Description("Whether the token of an already authorized connection has been renewed in the background")
+    boolean renewal;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -20,10 +20,9 @@ import static com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters.i
 
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.api.QueryParameters;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
-import com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RequestSender;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.QueryResource;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
 
@@ -47,6 +46,7 @@ public final class MoviesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Movie%20Statuses/getAllMovieStatuses">
      * <b>[GET]</b> /movies/statuses</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      *
      * @return JSON object containing an overview of available movie statuses
@@ -54,7 +54,7 @@ public final class MoviesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getAllMovieStatuses(@Nonnull APIConnection con) throws APIException {
+    public static <T> T getAllMovieStatuses(@Nonnull RequestSender<T> con) throws APIException {
         return con.sendGET(createResource("/movies/statuses"));
     }
 
@@ -65,6 +65,7 @@ public final class MoviesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Movies/getAllMovie">
      * <b>[GET]</b> /movies</a>
      *
+     * @param <T>    Type of the response returned by the given connection
      * @param con    Initialized connection to be used for API communication
      * @param params Object containing key/value pairs of query parameters
      *
@@ -73,7 +74,7 @@ public final class MoviesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getAllMovies(@Nonnull APIConnection con, QueryParameters params) throws APIException {
+    public static <T> T getAllMovies(@Nonnull RequestSender<T> con, QueryParameters params) throws APIException {
         return con.sendGET(createQueryResource("/movies", params));
     }
 
@@ -84,6 +85,7 @@ public final class MoviesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Movies/getMovieBase">
      * <b>[GET]</b> /movies/{id}</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> movie ID
      *
@@ -92,7 +94,7 @@ public final class MoviesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, the given
      *                      movie ID does not exist, etc.
      */
-    public static JsonNode getMovieBase(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getMovieBase(@Nonnull RequestSender<T> con, long id) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createResource("/movies/{id}", id));
     }
@@ -104,6 +106,7 @@ public final class MoviesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Movies/getMovieExtended">
      * <b>[GET]</b> /movies/{id}/extended</a>
      *
+     * @param <T>    Type of the response returned by the given connection
      * @param con    Initialized connection to be used for API communication
      * @param id     The <i>TheTVDB.com</i> movie ID
      * @param params Object containing key/value pairs of query parameters
@@ -113,7 +116,7 @@ public final class MoviesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no movie
      *                      record with the given ID exists, etc.
      */
-    public static JsonNode getMovieExtended(@Nonnull APIConnection con, long id, QueryParameters params)
+    public static <T> T getMovieExtended(@Nonnull RequestSender<T> con, long id, QueryParameters params)
             throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createQueryResource("/movies/{id}/extended", params, id));
@@ -126,6 +129,7 @@ public final class MoviesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Movies/getMoviesFilter">
      * <b>[GET]</b> /movies/filter</a>
      *
+     * @param <T>    Type of the response returned by the given connection
      * @param con    Initialized connection to be used for API communication
      * @param params Object containing key/value pairs of query parameters
      *
@@ -134,7 +138,7 @@ public final class MoviesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getMoviesFilter(@Nonnull APIConnection con, QueryParameters params) throws APIException {
+    public static <T> T getMoviesFilter(@Nonnull RequestSender<T> con, QueryParameters params) throws APIException {
         Parameters.validateFilterQueryParams(params);
         return con.sendGET(createQueryResource("/movies/filter", params));
     }
@@ -146,6 +150,7 @@ public final class MoviesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Movies/getMovieTranslation">
      * <b>[GET]</b> /movies/{id}/translations/{language}</a>
      *
+     * @param <T>      Type of the response returned by the given connection
      * @param con      Initialized connection to be used for API communication
      * @param id       The <i>TheTVDB.com</i> movie ID
      * @param language The 2- or 3-character language code
@@ -155,7 +160,7 @@ public final class MoviesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no movie
      *                      translation record exists for the given ID and language, etc.
      */
-    public static JsonNode getMovieTranslation(@Nonnull APIConnection con, long id, @Nonnull String language)
+    public static <T> T getMovieTranslation(@Nonnull RequestSender<T> con, long id, @Nonnull String language)
             throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         Parameters.validatePathParam(PATH_LANGUAGE, language, isValidLanguageCode());
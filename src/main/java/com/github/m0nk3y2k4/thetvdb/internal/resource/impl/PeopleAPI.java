@@ -20,10 +20,9 @@ import static com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters.i
 
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.api.QueryParameters;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
-import com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RequestSender;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.QueryResource;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
 
@@ -47,6 +46,7 @@ public final class PeopleAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/People%20Types/getAllPeopleTypes">
      * <b>[GET]</b> /people/types</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      *
      * @return JSON object containing an overview of available people types
@@ -54,7 +54,7 @@ public final class PeopleAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getAllPeopleTypes(@Nonnull APIConnection con) throws APIException {
+    public static <T> T getAllPeopleTypes(@Nonnull RequestSender<T> con) throws APIException {
         return con.sendGET(createResource("/people/types"));
     }
 
@@ -65,6 +65,7 @@ public final class PeopleAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/People/getPeopleBase">
      * <b>[GET]</b> /people/{id}</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> people ID
      *
@@ -73,7 +74,7 @@ public final class PeopleAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no people
      *                      record with the given ID exists, etc.
      */
-    public static JsonNode getPeopleBase(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getPeopleBase(@Nonnull RequestSender<T> con, long id) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createResource("/people/{id}", id));
     }
@@ -85,6 +86,7 @@ public final class PeopleAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/People/getPeopleExtended">
      * <b>[GET]</b> /people/{id}/extended</a>
      *
+     * @param <T>    Type of the response returned by the given connection
      * @param con    Initialized connection to be used for API communication
      * @param id     The <i>TheTVDB.com</i> people ID
      * @param params Object containing key/value pairs of query parameters
@@ -94,7 +96,7 @@ public final class PeopleAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no people
      *                      record with the given ID exists, etc.
      */
-    public static JsonNode getPeopleExtended(@Nonnull APIConnection con, long id, QueryParameters params)
+    public static <T> T getPeopleExtended(@Nonnull RequestSender<T> con, long id, QueryParameters params)
             throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createQueryResource("/people/{id}/extended", params, id));
@@ -107,6 +109,7 @@ public final class PeopleAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/People/getPeopleTranslation">
      * <b>[GET]</b> /people/{id}/translations/{language}</a>
      *
+     * @param <T>      Type of the response returned by the given connection
      * @param con      Initialized connection to be used for API communication
      * @param id       The <i>TheTVDB.com</i> people ID
      * @param language The 2- or 3-character language code
@@ -116,7 +119,7 @@ public final class PeopleAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no people
      *                      translation record exists for the given ID and language, etc.
      */
-    public static JsonNode getPeopleTranslation(@Nonnull APIConnection con, long id, @Nonnull String language)
+    public static <T> T getPeopleTranslation(@Nonnull RequestSender<T> con, long id, @Nonnull String language)
             throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         Parameters.validatePathParam(PATH_LANGUAGE, language, isValidLanguageCode());
@@ -18,11 +18,10 @@ package com.github.m0nk3y2k4.thetvdb.internal.resource.impl;
 
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.api.QueryParameters;
 import com.github.m0nk3y2k4.thetvdb.api.constants.Query;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
-import com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RequestSender;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.QueryResource;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
 
@@ -45,6 +44,7 @@ public final class SearchAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Search/getSearchResults">
      * <b>[GET]</b> /search</a>
      *
+     * @param <T>    Type of the response returned by the given connection
      * @param con    Initialized connection to be used for API communication
      * @param params Object containing key/value pairs of query parameters
      *
@@ -53,7 +53,7 @@ public final class SearchAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found etc.
      */
-    public static JsonNode getSearchResults(@Nonnull APIConnection con, QueryParameters params) throws APIException {
+    public static <T> T getSearchResults(@Nonnull RequestSender<T> con, QueryParameters params) throws APIException {
         Parameters.validateEitherMandatoryQueryParam(Query.Search.Q, Query.Search.QUERY, params);
         return con.sendGET(createQueryResource("/search", params));
     }
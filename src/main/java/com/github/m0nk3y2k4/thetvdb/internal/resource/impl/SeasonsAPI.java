@@ -20,10 +20,9 @@ import static com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters.i
 
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.api.QueryParameters;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
-import com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RequestSender;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.QueryResource;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
 
@@ -46,6 +45,7 @@ public final class SeasonsAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Seasons/getAllSeasons">
      * <b>[GET]</b> /seasons</a>
      *
+     * @param <T>    Type of the response returned by the given connection
      * @param con    Initialized connection to be used for API communication
      * @param params Object containing key/value pairs of query parameters
      *
@@ -54,7 +54,7 @@ public final class SeasonsAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getAllSeasons(@Nonnull APIConnection con, QueryParameters params) throws APIException {
+    public static <T> T getAllSeasons(@Nonnull RequestSender<T> con, QueryParameters params) throws APIException {
         return con.sendGET(createQueryResource("/seasons", params));
     }
 
@@ -65,6 +65,7 @@ public final class SeasonsAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Seasons/getSeasonBase">
      * <b>[GET]</b> /seasons/{id}</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> season ID
      *
@@ -73,7 +74,7 @@ public final class SeasonsAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no season
      *                      record with the given ID exists, etc.
      */
-    public static JsonNode getSeasonBase(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getSeasonBase(@Nonnull RequestSender<T> con, long id) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createResource("/seasons/{id}", id));
     }
@@ -85,6 +86,7 @@ public final class SeasonsAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Seasons/getSeasonExtended">
      * <b>[GET]</b> /seasons/{id}/extended</a>
      *
+     * @param <T>    Type of the response returned by the given connection
      * @param con    Initialized connection to be used for API communication
      * @param id     The <i>TheTVDB.com</i> season ID
      * @param params Object containing key/value pairs of query parameters
@@ -95,7 +97,7 @@ public final class SeasonsAPI extends QueryResource {
      *                      record with the given ID exists, etc.
      */
     // ToDo: Currently no query parameters are declared in the documentation but should be supported according to GitHub issue. Check again after the next API update.
-    public static JsonNode getSeasonExtended(@Nonnull APIConnection con, long id, QueryParameters params)
+    public static <T> T getSeasonExtended(@Nonnull RequestSender<T> con, long id, QueryParameters params)
             throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createQueryResource("/seasons/{id}/extended", params, id));
@@ -108,6 +110,7 @@ public final class SeasonsAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Seasons/getSeasonTypes">
      * <b>[GET]</b> /seasons/types</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      *
      * @return JSON object containing an overview of available season types
@@ -115,7 +118,7 @@ public final class SeasonsAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getSeasonTypes(@Nonnull APIConnection con) throws APIException {
+    public static <T> T getSeasonTypes(@Nonnull RequestSender<T> con) throws APIException {
         return con.sendGET(createResource("/seasons/types"));
     }
 
@@ -126,6 +129,7 @@ public final class SeasonsAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Seasons/getSeasonTranslation">
      * <b>[GET]</b> /seasons/{id}/translations/{language}</a>
      *
+     * @param <T>      Type of the response returned by the given connection
      * @param con      Initialized connection to be used for API communication
      * @param id       The <i>TheTVDB.com</i> season ID
      * @param language The 2- or 3-character language code
@@ -135,7 +139,7 @@ public final class SeasonsAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no season
      *                      translation record exists for the given ID and language, etc.
      */
-    public static JsonNode getSeasonTranslation(@Nonnull APIConnection con, long id, @Nonnull String language)
+    public static <T> T getSeasonTranslation(@Nonnull RequestSender<T> con, long id, @Nonnull String language)
             throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         Parameters.validatePathParam(PATH_LANGUAGE, language, isValidLanguageCode());
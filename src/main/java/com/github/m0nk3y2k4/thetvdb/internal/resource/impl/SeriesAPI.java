@@ -28,11 +28,10 @@ import java.util.regex.Pattern;
 
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.api.QueryParameters;
 import com.github.m0nk3y2k4.thetvdb.api.enumeration.SeriesSeasonType;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
-import com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RequestSender;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.QueryResource;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
 
@@ -69,6 +68,7 @@ public final class SeriesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Series%20Statuses/getAllSeriesStatuses">
      * <b>[GET]</b> /series/statuses</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      *
      * @return JSON object containing an overview of available series statuses
@@ -76,7 +76,7 @@ public final class SeriesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getAllSeriesStatuses(@Nonnull APIConnection con) throws APIException {
+    public static <T> T getAllSeriesStatuses(@Nonnull RequestSender<T> con) throws APIException {
         return con.sendGET(createResource("/series/statuses"));
     }
 
@@ -87,6 +87,7 @@ public final class SeriesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Series/getAllSeries">
      * <b>[GET]</b> /series</a>
      *
+     * @param <T>    Type of the response returned by the given connection
      * @param con    Initialized connection to be used for API communication
      * @param params Object containing key/value pairs of query parameters
      *
@@ -95,7 +96,7 @@ public final class SeriesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getAllSeries(@Nonnull APIConnection con, QueryParameters params) throws APIException {
+    public static <T> T getAllSeries(@Nonnull RequestSender<T> con, QueryParameters params) throws APIException {
         return con.sendGET(createQueryResource("/series", params));
     }
 
@@ -106,6 +107,7 @@ public final class SeriesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Series/getSeriesBase">
      * <b>[GET]</b> /series/{id}</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> series ID
      *
@@ -114,7 +116,7 @@ public final class SeriesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no series
      *                      record with the given ID exists, etc.
      */
-    public static JsonNode getSeriesBase(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getSeriesBase(@Nonnull RequestSender<T> con, long id) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createResource("/series/{id}", id));
     }
@@ -127,6 +129,7 @@ public final class SeriesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Series/getSeriesArtworks">
      * <b>[GET]</b> /series/{id}/artworks</a>
      *
+     * @param <T>    Type of the response returned by the given connection
      * @param con    Initialized connection to be used for API communication
      * @param id     The <i>TheTVDB.com</i> series ID
      * @param params Object containing key/value pairs of query parameters
@@ -136,7 +139,7 @@ public final class SeriesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no series
      *                      record with the given ID exists, etc.
      */
-    public static JsonNode getSeriesArtworks(@Nonnull APIConnection con, long id, QueryParameters params)
+    public static <T> T getSeriesArtworks(@Nonnull RequestSender<T> con, long id, QueryParameters params)
             throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createQueryResource("/series/{id}/artworks", params, id));
@@ -149,6 +152,7 @@ public final class SeriesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Series/getSeriesExtended">
      * <b>[GET]</b> /series/{id}/extended</a>
      *
+     * @param <T>    Type of the response returned by the given connection
      * @param con    Initialized connection to be used for API communication
      * @param id     The <i>TheTVDB.com</i> series ID
      * @param params Object containing key/value pairs of query parameters
@@ -158,7 +162,7 @@ public final class SeriesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no series
      *                      record with the given ID exists, etc.
      */
-    public static JsonNode getSeriesExtended(@Nonnull APIConnection con, long id, QueryParameters params)
+    public static <T> T getSeriesExtended(@Nonnull RequestSender<T> con, long id, QueryParameters params)
             throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         return con.sendGET(createQueryResource("/series/{id}/extended", params, id));
@@ -171,6 +175,7 @@ public final class SeriesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Series/getSeriesEpisodes">
      * <b>[GET]</b> /series/{id}/episodes/{season-type}</a>
      *
+     * @param <T>        Type of the response returned by the given connection
      * @param con        Initialized connection to be used for API communication
      * @param id         The <i>TheTVDB.com</i> series ID
      * @param seasonType The type of season for which episodes should be returned
@@ -181,8 +186,8 @@ public final class SeriesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no series
      *                      record with the given ID exists, etc.
      */
-    public static JsonNode getSeriesEpisodes(@Nonnull APIConnection con, long id, @Nonnull SeriesSeasonType seasonType,
-            QueryParameters params) throws APIException {
+    public static <T> T getSeriesEpisodes(@Nonnull RequestSender<T> con, long id,
+            @Nonnull SeriesSeasonType seasonType, QueryParameters params) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         Parameters.validatePathParam(PATH_SEASONTYPE, seasonType, SEASONTYPE_VALIDATOR);
         Parameters.validateOptionalQueryParam(AIR_DATE, params, AIR_DATE_VALIDATOR);
@@ -201,6 +206,7 @@ public final class SeriesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Series/getSeriesSeasonEpisodesTranslated">
      * <b>[GET]</b> /series/{id}/episodes/{season-type}/{lang}</a>
      *
+     * @param <T>        Type of the response returned by the given connection
      * @param con        Initialized connection to be used for API communication
      * @param id         The <i>TheTVDB.com</i> series ID
      * @param seasonType The type of season for which episodes should be returned
@@ -212,9 +218,9 @@ public final class SeriesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no series
      *                      record with the given ID exists, invalid language code, etc.
      */
-    public static JsonNode getSeriesEpisodesTranslated(@Nonnull APIConnection con, long id,
-            @Nonnull SeriesSeasonType seasonType, @Nonnull String language, QueryParameters params)
-            throws APIException {
+    public static <T> T getSeriesEpisodesTranslated(@Nonnull RequestSender<T> con, long id,
+            @Nonnull SeriesSeasonType seasonType, @Nonnull String language,
+            QueryParameters params) throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         Parameters.validatePathParam(PATH_SEASONTYPE, seasonType, SEASONTYPE_VALIDATOR);
         Parameters.validatePathParam(PATH_LANGUAGE, language, isValidLanguageCode());
@@ -228,6 +234,7 @@ public final class SeriesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Series/getSeriesFilter">
      * <b>[GET]</b> /series/filter</a>
      *
+     * @param <T>    Type of the response returned by the given connection
      * @param con    Initialized connection to be used for API communication
      * @param params Object containing key/value pairs of query parameters
      *
@@ -236,7 +243,7 @@ public final class SeriesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getSeriesFilter(@Nonnull APIConnection con, QueryParameters params) throws APIException {
+    public static <T> T getSeriesFilter(@Nonnull RequestSender<T> con, QueryParameters params) throws APIException {
         Parameters.validateFilterQueryParams(params);
         return con.sendGET(createQueryResource("/series/filter", params));
     }
@@ -248,6 +255,7 @@ public final class SeriesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Series/getSeriesTranslation">
      * <b>[GET]</b> /series/{id}/translations/{language}</a>
      *
+     * @param <T>      Type of the response returned by the given connection
      * @param con      Initialized connection to be used for API communication
      * @param id       The <i>TheTVDB.com</i> series ID
      * @param language The 2- or 3-character language code
@@ -257,7 +265,7 @@ public final class SeriesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, no series
      *                      translation record exists for the given ID and language, etc.
      */
-    public static JsonNode getSeriesTranslation(@Nonnull APIConnection con, long id, @Nonnull String language)
+    public static <T> T getSeriesTranslation(@Nonnull RequestSender<T> con, long id, @Nonnull String language)
             throws APIException {
         Parameters.validatePathParam(PATH_ID, id, ID_VALIDATOR);
         Parameters.validatePathParam(PATH_LANGUAGE, language, isValidLanguageCode());
@@ -20,11 +20,10 @@ import static com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters.i
 
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.api.QueryParameters;
 import com.github.m0nk3y2k4.thetvdb.api.constants.Query;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
-import com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RequestSender;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.QueryResource;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
 
@@ -49,6 +48,7 @@ public final class UpdatesAPI extends QueryResource {
      * href="https://thetvdb.github.io/v4-api/#/Updates/updates">
      * <b>[GET]</b> /updates</a>
      *
+     * @param <T>    Type of the response returned by the given connection
      * @param con    Initialized connection to be used for API communication
      * @param params Object containing key/value pairs of query parameters
      *
@@ -57,7 +57,7 @@ public final class UpdatesAPI extends QueryResource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getUpdates(@Nonnull APIConnection con, QueryParameters params) throws APIException {
+    public static <T> T getUpdates(@Nonnull RequestSender<T> con, QueryParameters params) throws APIException {
         Parameters.validateMandatoryQueryParam(Query.Updates.SINCE, params, isPositiveInteger());
         return con.sendGET(createQueryResource("/updates", params));
     }
@@ -18,10 +18,9 @@ package com.github.m0nk3y2k4.thetvdb.internal.resource.impl;
 
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
 import com.github.m0nk3y2k4.thetvdb.api.model.data.FavoriteRecord;
-import com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RequestSender;
 import com.github.m0nk3y2k4.thetvdb.internal.resource.Resource;
 import com.github.m0nk3y2k4.thetvdb.internal.util.json.APIJsonMapper;
 import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
@@ -44,6 +43,7 @@ public final class UserAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/User%20info/getUserInfo">
      * <b>[GET]</b> /user</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      *
      * @return JSON object containing information about the current user
@@ -51,7 +51,7 @@ public final class UserAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getUserInfo(@Nonnull APIConnection con) throws APIException {
+    public static <T> T getUserInfo(@Nonnull RequestSender<T> con) throws APIException {
         return con.sendGET(createResource("/user"));
     }
 
@@ -62,6 +62,7 @@ public final class UserAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/User%20info/getUserInfoById">
      * <b>[GET]</b> /user/{id}</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      * @param id  The <i>TheTVDB.com</i> user ID
      *
@@ -70,7 +71,7 @@ public final class UserAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getUserInfo(@Nonnull APIConnection con, long id) throws APIException {
+    public static <T> T getUserInfo(@Nonnull RequestSender<T> con, long id) throws APIException {
         return con.sendGET(createResource("/user/{id}", id));
     }
 
@@ -81,6 +82,7 @@ public final class UserAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/Favorites/getUserFavorites">
      * <b>[GET]</b> /user/favorites</a>
      *
+     * @param <T> Type of the response returned by the given connection
      * @param con Initialized connection to be used for API communication
      *
      * @return JSON object containing the current favorites of this user
@@ -88,7 +90,7 @@ public final class UserAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode getUserFavorites(@Nonnull APIConnection con) throws APIException {
+    public static <T> T getUserFavorites(@Nonnull RequestSender<T> con) throws APIException {
         return con.sendGET(createResource("/user/favorites"));
     }
 
@@ -99,6 +101,7 @@ public final class UserAPI extends Resource {
      * href="https://thetvdb.github.io/v4-api/#/Favorites/createUserFavorites">
      * <b>[POST]</b> /user/favorites</a>
      *
+     * @param <T>       Type of the response returned by the given connection
      * @param con       Initialized connection to be used for API communication
      * @param favRecord The user favorites record to create
      *
@@ -107,7 +110,7 @@ public final class UserAPI extends Resource {
      * @throws APIException If an exception with the remote API occurs, e.g. authentication failure, IO error, resource
      *                      not found, etc.
      */
-    public static JsonNode createUserFavorites(@Nonnull APIConnection con, @Nonnull FavoriteRecord favRecord)
+    public static <T> T createUserFavorites(@Nonnull RequestSender<T> con, @Nonnull FavoriteRecord favRecord)
             throws APIException {
         Parameters.validateNotNull(favRecord, "Favorite record must not be NULL");
         return con.sendPOST(createResource("/user/favorites"), APIJsonMapper.writeValue(favRecord));
@@ -42,6 +42,21 @@ public final class HttpHeaders {
     /** <i>Content-Type</i> header according to <a href="https://tools.ietf.org/html/rfc1945#section-10.5">RFC1945</a> */
     public static final String CONTENT_TYPE = "Content-Type";
 
+    /** <i>ETag</i> header according to <a href="https://tools.ietf.org/html/rfc7232#section-2.3">RFC7232</a> */
+    public static final String ETAG = "ETag";
+
+    /** <i>If-Modified-Since</i> header according to <a href="https://tools.ietf.org/html/rfc7232#section-3.3">RFC7232</a> */
+    public static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    /** <i>If-None-Match</i> header according to <a href="https://tools.ietf.org/html/rfc7232#section-3.2">RFC7232</a> */
+    public static final String IF_NONE_MATCH = "If-None-Match";
+
+    /** <i>Last-Modified</i> header according to <a href="https://tools.ietf.org/html/rfc7232#section-2.2">RFC7232</a> */
+    public static final String LAST_MODIFIED = "Last-Modified";
+
+    /** <i>Retry-After</i> header according to <a href="https://tools.ietf.org/html/rfc7231#section-7.1.3">RFC7231</a> */
+    public static final String RETRY_AFTER = "Retry-After";
+
     /** <i>User-Agent</i> header according to <a href="https://tools.ietf.org/html/rfc1945#section-10.15">RFC1945</a> */
     public static final String USER_AGENT = "User-Agent";
 
@@ -32,4 +32,14 @@ public enum HttpRequestMethod {
     public String getName() {
         return toString();
     }
+
+    /**
+     * Checks whether sending a request with this method multiple times has the same effect on the remote service as
+     * sending it only once. Such requests can safely be retried.
+     *
+     * @return <em>{@code true}</em> if requests with this method are idempotent
+     */
+    public boolean isIdempotent() {
+        return this != POST;
+    }
 }
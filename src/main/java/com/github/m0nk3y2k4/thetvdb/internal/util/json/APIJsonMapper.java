@@ -21,17 +21,23 @@ import static com.github.m0nk3y2k4.thetvdb.api.exception.APIException.API_JSON_P
 import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nonnull;
 
+import jdk.jfr.EventType;
+
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.module.SimpleAbstractTypeResolver;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -40,12 +46,12 @@ import com.github.m0nk3y2k4.thetvdb.api.model.APIResponse;
 import com.github.m0nk3y2k4.thetvdb.api.model.data.EntityTranslation;
 import com.github.m0nk3y2k4.thetvdb.api.model.data.Translated;
 import com.github.m0nk3y2k4.thetvdb.internal.api.impl.annotation.APIDataModel;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.model.APIDataModelRegistry;
 import com.github.m0nk3y2k4.thetvdb.internal.util.functional.ThrowableFunctionalInterfaces;
 import com.github.m0nk3y2k4.thetvdb.internal.util.json.deser.APIResponseDeserializer;
 import com.github.m0nk3y2k4.thetvdb.internal.util.json.deser.CollectionDeserializerModifier;
 import com.github.m0nk3y2k4.thetvdb.internal.util.json.deser.StaticTypeReference;
-import org.atteo.classindex.ClassFilter;
-import org.atteo.classindex.ClassIndex;
+import com.github.m0nk3y2k4.thetvdb.internal.util.validation.Parameters;
 
 /**
  * Utility class for JSON response deserialization.
@@ -62,6 +68,24 @@ public final class APIJsonMapper {
     /** Module used to extend the object mappers functionality in terms of mapping JDK8 Optionals */
     private static final Module JDK8_MODULE = new Jdk8Module();
 
+    /** Shared mapper used for parsing the JSON's {@code data} node. Unknown properties will be ignored. */
+    private static final ObjectMapper DATA_MAPPER = new ObjectMapper().registerModules(JDK8_MODULE, DATA_MODULE)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /** Shared writer used for serializing objects into JSON */
+    private static final ObjectWriter WRITER = new ObjectMapper().writer();
+
+    /**
+     * Registry of readers for all the different API response types. Each reader will be built once, on first use of
+     * its response type, and will then be shared by all subsequent requests. As readers are immutable and thread-safe
+     * this allows Jackson to reuse the deserializers it has built for the corresponding DTO types rather than having
+     * to introspect these types again for each response.
+     */
+    private static final Map<Type, ObjectReader> RESPONSE_READERS = new ConcurrentHashMap<>();
+
+    /** Flight recorder type of the deserialization events. Events are only created while a recording enables it. */
+    private static final EventType DESERIALIZATION_EVENT = EventType.getEventType(DeserializationEvent.class);
+
     private APIJsonMapper() {}      // Private constructor. Only static methods
 
     /**
@@ -78,13 +102,51 @@ public final class APIJsonMapper {
      */
     public static <T> APIResponse<T> readValue(@Nonnull JsonNode json,
             @Nonnull TypeReference<APIResponse<T>> typeReference) throws APIException {
+        try (JsonParser parser = json.traverse()) {
+            return readValue(parser, typeReference);
+        } catch (IOException ex) {
+            throw new APIException(String.format(API_JSON_PROCESSING_ERROR, ex.getMessage()), ex);
+        }
+    }
+
+    /**
+     * Maps some <i>TheTVDB.com</i> API response JSON, provided by the given parser, into it's Java model representation.
+     * The JSON will be streamed straight into the Java model in a single pass, without creating any intermediate JSON
+     * tree. This allows the response to be mapped directly from the (decompressed) input stream received from the
+     * remote service. The mapping may be recorded by the Java Flight Recorder.
+     *
+     * @param json          Parser providing the full JSON as returned by the remote service
+     * @param typeReference Type reference representing the Java model structure to which the JSON should be mapped to
+     * @param <T>           The DTO type to which the JSON's {@code data} node should be mapped to
+     *
+     * @return Extended API response containing the requested data parsed from the given JSON as well as additional
+     *         status information.
+     *
+     * @throws APIException If the provided JSON could not be mapped into the given Java model structure
+     * @throws IOException  If an IO error occurred while reading the JSON from the underlying source
+     */
+    public static <T> APIResponse<T> readValue(@Nonnull JsonParser json,
+            @Nonnull TypeReference<APIResponse<T>> typeReference) throws APIException, IOException {
+        DeserializationEvent event = DESERIALIZATION_EVENT.isEnabled() ? new DeserializationEvent() : null;
+        long offset = 0;
+        if (event != null) {
+            event.begin();
+            offset = json.currentLocation().getByteOffset();
+        }
+        boolean mapped = false;
         try {
-            return new ObjectMapper()
-                    .registerModule(createAPIResponseModule(((ParameterizedType)typeReference.getType())
-                            .getActualTypeArguments()[0]))
-                    .readValue(json.toString(), typeReference);
+            APIResponse<T> response = getResponseReader(typeReference).readValue(json);
+            mapped = true;
+            return response;
         } catch (JsonProcessingException | IllegalArgumentException ex) {
             throw new APIException(String.format(API_JSON_PROCESSING_ERROR, ex.getMessage()), ex);
+        } finally {
+            if (event != null && event.shouldCommit()) {
+                event.responseType = typeReference.getType().getTypeName();
+                event.bytes = Math.max(json.currentLocation().getByteOffset() - offset, 0);
+                event.outcome = mapped ? "success" : "failure";
+                event.commit();
+            }
         }
     }
 
@@ -99,12 +161,60 @@ public final class APIJsonMapper {
      */
     public static String writeValue(Object object) throws APIException {
         try {
-            return new ObjectMapper().writeValueAsString(object);
+            return WRITER.writeValueAsString(object);
         } catch (JsonProcessingException ex) {
             throw new APIException(String.format(API_JSON_PROCESSING_ERROR, ex.getMessage()), ex);
         }
     }
 
+    /**
+     * Builds the shared readers for all the given API response types ahead of time. Readers eagerly create the
+     * deserializers for their DTO types, so that the first response of each type can be mapped as fast as any
+     * subsequent response. Readers which already exist will not be built again.
+     *
+     * @param responseTypes Types representing the Java model structure of API responses, each of them being a
+     *                      parameterized {@link APIResponse} type
+     *
+     * @throws IllegalArgumentException If any of the given types is not a parameterized API response type
+     */
+    public static void prepareReaders(@Nonnull Collection<? extends Type> responseTypes) {
+        Parameters.validateNotNull(responseTypes, "Response types must not be NULL");
+        for (Type responseType : responseTypes) {
+            Parameters.validateCondition(type -> type instanceof ParameterizedType parameterized
+                            && parameterized.getRawType() == APIResponse.class, responseType,
+                    new IllegalArgumentException("Not a parameterized API response type: " + responseType));
+            getResponseReader(responseType);
+        }
+    }
+
+    /**
+     * Returns the shared reader for the given API response type. If no such reader exists yet, it will be created and
+     * added to the readers registry.
+     *
+     * @param typeReference Type reference representing the Java model structure of the API response
+     *
+     * @return Shared reader mapping JSON into the given API response type
+     */
+    private static ObjectReader getResponseReader(@Nonnull TypeReference<? extends APIResponse<?>> typeReference) {
+        return getResponseReader(typeReference.getType());
+    }
+
+    /**
+     * Returns the shared reader for the given API response type. If no such reader exists yet, it will be created and
+     * added to the readers registry.
+     *
+     * @param responseType Type representing the Java model structure of the API response
+     *
+     * @return Shared reader mapping JSON into the given API response type
+     */
+    private static ObjectReader getResponseReader(@Nonnull Type responseType) {
+        return RESPONSE_READERS.computeIfAbsent(responseType, type -> {
+            ObjectMapper mapper = new ObjectMapper()
+                    .registerModule(createAPIResponseModule(((ParameterizedType)type).getActualTypeArguments()[0]));
+            return mapper.readerFor(mapper.getTypeFactory().constructType(type));
+        });
+    }
+
     /**
      * Creates a JSON module with enhanced functionality regarding the deserialization of <i>TheTVDB.com</i> API JSON
      * responses. This includes the creation of a new API response deserializer for the given DTO type which also
@@ -116,32 +226,24 @@ public final class APIJsonMapper {
      * @return JSON module with enhanced functionality for parsing JSON responses received from the remote service
      */
     private static Module createAPIResponseModule(@Nonnull Type dataType) {
-        ThrowableFunctionalInterfaces.Function<JsonNode, ?, IOException> dataFunction = dataNode ->
-                new ObjectMapper().registerModules(JDK8_MODULE, DATA_MODULE)
-                        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-                        .readValue(dataNode.toString(), new StaticTypeReference<>(dataType));
+        ObjectReader dataReader = DATA_MAPPER.readerFor(new StaticTypeReference<>(dataType));
+        ThrowableFunctionalInterfaces.Function<JsonParser, ?, IOException> dataFunction = dataReader::readValue;
         return new SimpleModule().addDeserializer(APIResponse.class, new APIResponseDeserializer<>(dataFunction));
     }
 
     /**
      * Creates a JSON module with enhanced functionality regarding the deserialization of the JSON's {@code data} node.
      * This includes proper handling of nullable collections and well as type resolver mappings for DTO model
-     * interfaces. The latter will automatically be resolved via the {@link APIDataModel} annotation.
-     *
-     * @param <T> the API model interface type, used for adding type resolver mappings
+     * interfaces. The latter will automatically be resolved via the {@link APIDataModel} annotation at build time and
+     * are provided by the generated {@link APIDataModelRegistry}.
      *
      * @return JSON module with enhanced functionality for parsing the actual response DTO models
      */
-    @SuppressWarnings("unchecked")  // dto implements dtoInterface
-    private static <T> SimpleModule createDataModule() {
+    private static SimpleModule createDataModule() {
         // Add Interface <-> Implementation mappings to the module. The object mapper will use these mappings to determine the
         // proper builder to be used to create new instances of a specific interface (via @JsonDeserialize annotation).
-        SimpleAbstractTypeResolver dtoTypeResolver = new SimpleAbstractTypeResolver()
-                .addMapping(Translated.class, EntityTranslation.class); // Use EntityTranslation as default implementation
-        ClassFilter.only().classes().annotatedWith(JsonDeserialize.class)
-                .from(ClassIndex.getAnnotated(APIDataModel.class)).forEach(dto ->
-                        Arrays.stream(dto.getInterfaces()).forEach(dtoInterface ->
-                                dtoTypeResolver.addMapping((Class<T>)dtoInterface, (Class<? extends T>)dto)));
+        SimpleAbstractTypeResolver dtoTypeResolver = APIDataModelRegistry.addMappings(new SimpleAbstractTypeResolver()
+                .addMapping(Translated.class, EntityTranslation.class)); // Use EntityTranslation as default implementation
 
         SimpleModule dataModule = new SimpleModule();
         dataModule.setDeserializerModifier(new CollectionDeserializerModifier()).setAbstractTypes(dtoTypeResolver);
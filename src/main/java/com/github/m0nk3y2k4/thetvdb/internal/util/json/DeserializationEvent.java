@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.util.json;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event covering the mapping of an API response JSON into its DTOs. When mapping a response body
+ * streamed from the remote service, the event will be nested within the parsing event of the exchange, which carries
+ * the route of the requested resource.
+ */
+@Name("com.github.m0nk3y2k4.thetvdb.Deserialization")
+@Label("TheTVDB Deserialization")
+@Category("TheTVDB API")
+@Description("Mapping of an API response JSON into its DTOs")
+final class DeserializationEvent extends Event {
+
+    @Label("Response Type")
+    @Description("Java model structure to which the JSON has been mapped")
+    String responseType;
+
+    @Label("Bytes")
+    @Description("Size of the mapped JSON or 0 if it has not been streamed from raw bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Outcome")
+    String outcome;
+}
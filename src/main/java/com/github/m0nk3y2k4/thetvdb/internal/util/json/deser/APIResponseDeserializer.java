@@ -17,17 +17,17 @@
 package com.github.m0nk3y2k4.thetvdb.internal.util.json.deser;
 
 import java.io.IOException;
-import java.util.Optional;
 
 import javax.annotation.Nonnull;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -47,31 +47,46 @@ import com.github.m0nk3y2k4.thetvdb.internal.util.json.APIJsonMapper;
  * result of this invocation will be set to the returned API response. Technically it means that the object mapper will
  * simply leave it up to the function to deserialize the <em>{@code data}</em> node rather than using its native
  * deserialization implementation.
+ * <p><br>
+ * The response is deserialized in a single pass: the top-level properties are processed one after another directly
+ * from the given parser. No intermediate JSON tree will be created for the response, neither for its
+ * <em>{@code data}</em> node, which will be handed over to the mapping function via the same parser.
  *
  * @param <T> The type of object that should be the outcome of the deserialization
  * @param <X> The type of exception which the given mapping function is permitted to throw
  */
 public final class APIResponseDeserializer<T, X extends IOException> extends JsonDeserializer<APIResponse<T>> {
 
+    /** Error message for missing mandatory top-level properties */
+    private static final String ERR_MISSING_PROPERTY = "Mandatory property \"%s\" is missing in API response";
+
     /** Module used to extend the object mappers functionality in terms of mapping the responses DTO interfaces */
     private static final Module RESPONSE_MODULE = createResponseModule();
 
     /** Module used to extend the object mappers functionality in terms of mapping JDK8 Optionals */
     private static final Module JDK8_MODULE = new Jdk8Module();
 
-    /** Mapper used for parsing the API response JSON */
-    private final ObjectMapper mapper = new ObjectMapper().registerModules(JDK8_MODULE, RESPONSE_MODULE)
+    /** Shared mapper used for parsing the top-level properties of the API response JSON */
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModules(JDK8_MODULE, RESPONSE_MODULE)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
+    /** Reader used for parsing the <em>{@code status}</em> property */
+    private static final ObjectReader STATUS_READER = MAPPER.readerFor(String.class);
+
+    /** Reader used for parsing the <em>{@code links}</em> property */
+    private static final ObjectReader LINKS_READER = MAPPER.readerFor(Links.class);
+
     /** The mapping function to be invoked in order to parse the <em>{@code data}</em> node */
-    private final ThrowableFunctionalInterfaces.Function<JsonNode, T, X> dataFunction;
+    private final ThrowableFunctionalInterfaces.Function<JsonParser, T, X> dataFunction;
 
     /**
-     * Creates a new functional deserializer which is backed by the given data mapping function.
+     * Creates a new functional deserializer which is backed by the given data mapping function. The function will be
+     * invoked with a parser positioned at the first token of the <em>{@code data}</em> node value and has to consume
+     * the whole value, e.g. by passing the parser to some object mapper.
      *
      * @param dataFunction Mapping function to be invoked in order to deserialize the JSON's <em>{@code data}</em> node
      */
-    public APIResponseDeserializer(@Nonnull ThrowableFunctionalInterfaces.Function<JsonNode, T, X> dataFunction) {
+    public APIResponseDeserializer(@Nonnull ThrowableFunctionalInterfaces.Function<JsonParser, T, X> dataFunction) {
         this.dataFunction = dataFunction;
     }
 
@@ -89,63 +104,61 @@ public final class APIResponseDeserializer<T, X extends IOException> extends Jso
     }
 
     /**
-     * Checks if the specified field exists in the given JSON. If so, the node will be applied to the given mapping
-     * function, and its result will be returned. If the JSON does not contain a node with the specified name an
-     * {@link IllegalArgumentException} will be thrown.
-     *
-     * @param json      Base JSON object used for parsing
-     * @param fieldName Name of the top-level node to be deserialized
-     * @param mapping   Mapping function returning the deserialized object of type <b>U</b>
-     * @param <U>       The type of object that the JSON node should be mapped to
-     *
-     * @return The result of deserializing the referenced top-level node of this JSON object
-     *
-     * @throws IOException              If an IO error occurred during the deserialization of the given JSON object
-     * @throws IllegalArgumentException If either no node with the given name exists on top-level of this JSON object or
-     *                                  the node exists but is a "null node"
-     */
-    private static <U> U parseMandatoryNode(JsonNode json, String fieldName, Mapping<U> mapping) throws IOException {
-        return mapping.apply(json.path(fieldName).require());
-    }
-
-    /**
-     * Applies the specified field to the given mapping function and returns its result. If the JSON does not contain a
-     * node with the specified name the mapping function will be invoked with a {@link NullNode} object instead. In this
-     * case it depends on the actual deserializer implementation whether the mapping (and so this method) returns
-     * {@code NULL} or a new, plain instance of type <b>U</b>.
-     *
-     * @param json      Base JSON object used for parsing
-     * @param fieldName Name of the top-level node to be deserialized
-     * @param mapping   Mapping function returning the deserialized object of type <b>U</b>
-     * @param <U>       The type of object that the JSON node should be mapped to
+     * Checks if the given mandatory top-level property has been present in the parsed JSON
      *
-     * @return The result of deserializing the referenced top-level node of this JSON object
+     * @param present   Whether the property has been present
+     * @param fieldName Name of the top-level property
      *
-     * @throws IOException If an IO error occurred during the deserialization of the given JSON object
+     * @throws IllegalArgumentException If the property has not been present
      */
-    @SuppressWarnings("SameParameterValue")
-    private static <U> U parseOptionalNode(JsonNode json, String fieldName, Mapping<U> mapping) throws IOException {
-        return mapping.apply(Optional.ofNullable(json.get(fieldName)).orElse(NullNode.getInstance()));
+    private static void requireProperty(boolean present, String fieldName) {
+        if (!present) {
+            throw new IllegalArgumentException(String.format(ERR_MISSING_PROPERTY, fieldName));
+        }
     }
 
     @Override
     public APIResponse<T> deserialize(JsonParser jsonParser, DeserializationContext ctxt) throws IOException {
-        JsonNode json = mapper.readTree(jsonParser);
-
-        T data = parseMandatoryNode(json, "data", dataFunction::apply);
-        String status = parseMandatoryNode(json, "status", node -> mapper.readValue(node.toString(), String.class));
-        Links links = parseOptionalNode(json, "links", node -> mapper.treeToValue(node, Links.class));
+        T data = null;
+        String status = null;
+        Links links = null;
+        boolean hasData = false;
+        boolean hasStatus = false;
+        boolean hasLinks = false;
+
+        JsonToken token = jsonParser.hasCurrentToken() ? jsonParser.currentToken() : jsonParser.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+            for (String fieldName = jsonParser.nextFieldName(); fieldName != null;
+                    fieldName = jsonParser.nextFieldName()) {
+                jsonParser.nextToken();     // Move to the properties value
+                switch (fieldName) {
+                    case "data":
+                        data = dataFunction.apply(jsonParser);
+                        hasData = true;
+                        break;
+                    case "status":
+                        status = STATUS_READER.readValue(jsonParser);
+                        hasStatus = true;
+                        break;
+                    case "links":
+                        links = LINKS_READER.readValue(jsonParser);
+                        hasLinks = true;
+                        break;
+                    default:
+                        jsonParser.skipChildren();      // Not part of the API response model
+                }
+            }
+        } else {
+            jsonParser.skipChildren();
+        }
+
+        requireProperty(hasData, "data");
+        requireProperty(hasStatus, "status");
+        if (!hasLinks) {
+            // Optional property: map to an empty DTO rather than NULL
+            links = LINKS_READER.readValue(NullNode.getInstance());
+        }
 
         return new APIResponseDTO.Builder<T>().data(data).status(status).links(links).build();
     }
-
-    /**
-     * Functional interface representing a simple mapping function to convert a given JSON node into a specific
-     * Java-type DTO model. The mapping is allowed to throw an {@link IOException} if required.
-     *
-     * @param <U> The type of object that the JSON node should be mapped to
-     */
-    @FunctionalInterface
-    private interface Mapping<U> extends ThrowableFunctionalInterfaces.Function<JsonNode, U, IOException> {
-    }
 }
@@ -17,16 +17,35 @@
 package com.github.m0nk3y2k4.thetvdb;
 
 import static com.github.m0nk3y2k4.thetvdb.testutils.APITestUtil.CONTRACT_APIKEY;
+import static com.github.m0nk3y2k4.thetvdb.testutils.APITestUtil.SUBSCRIPTION_APIKEY;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
 import com.github.m0nk3y2k4.thetvdb.api.APIKey;
 import com.github.m0nk3y2k4.thetvdb.api.Proxy;
 import com.github.m0nk3y2k4.thetvdb.api.QueryParameters;
+import com.github.m0nk3y2k4.thetvdb.api.cache.ResponseCache;
+import com.github.m0nk3y2k4.thetvdb.api.circuitbreaker.CircuitBreaker;
+import com.github.m0nk3y2k4.thetvdb.api.endpoint.EndpointGroup;
+import com.github.m0nk3y2k4.thetvdb.api.endpoint.EndpointStatistics;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.CircuitState;
 import com.github.m0nk3y2k4.thetvdb.api.enumeration.FundingModel;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.LoadBalancing;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.Transport;
+import com.github.m0nk3y2k4.thetvdb.api.hedging.HedgingPolicy;
+import com.github.m0nk3y2k4.thetvdb.api.keypool.KeyPool;
+import com.github.m0nk3y2k4.thetvdb.api.keypool.KeyStatistics;
+import com.github.m0nk3y2k4.thetvdb.api.ratelimit.RateLimiter;
+import com.github.m0nk3y2k4.thetvdb.api.retry.RetryPolicy;
+import com.github.m0nk3y2k4.thetvdb.api.token.TokenStore;
 import com.github.m0nk3y2k4.thetvdb.internal.connection.RemoteAPI;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class TheTVDBApiFactoryTest {
 
@@ -40,6 +59,26 @@ class TheTVDBApiFactoryTest {
         assertThat(TheTVDBApiFactory.createApi(CONTRACT_APIKEY, RemoteAPI.getDefault())).isNotNull();
     }
 
+    @Test
+    void createApi_withApiKeyAndConfiguration_verifyApiIsCreated() {
+        APIConfiguration configuration = TheTVDBApiFactory.createConfigurationBuilder()
+                .transport(Transport.HTTP_CLIENT).build();
+        assertThat(TheTVDBApiFactory.createApi(CONTRACT_APIKEY, configuration)).isNotNull();
+    }
+
+    @Test
+    void createApi_withApiKeyProxyAndConfiguration_verifyApiIsCreated() {
+        APIConfiguration configuration = TheTVDBApiFactory.createConfigurationBuilder().build();
+        assertThat(TheTVDBApiFactory.createApi(CONTRACT_APIKEY, RemoteAPI.getDefault(), configuration)).isNotNull();
+    }
+
+    @Test
+    void createApi_withKeyPoolAndConfiguration_verifyApiIsCreated() {
+        KeyPool keyPool = TheTVDBApiFactory.createKeyPool(List.of(CONTRACT_APIKEY, SUBSCRIPTION_APIKEY));
+        APIConfiguration configuration = TheTVDBApiFactory.createConfigurationBuilder().build();
+        assertThat(TheTVDBApiFactory.createApi(keyPool, configuration)).isNotNull();
+    }
+
     @Test
     void createQueryParameters_verifyThatNoActualQueryParametersArePresent() {
         QueryParameters parameters = TheTVDBApiFactory.createQueryParameters();
@@ -97,4 +136,92 @@ class TheTVDBApiFactoryTest {
         assertThat(apiKey.getPin()).contains(pin);
         assertThat(apiKey.getFundingModel()).isEqualTo(FundingModel.SUBSCRIPTION);
     }
+
+    @Test
+    void createConfigurationBuilder_withoutProperties_verifyDefaultConfiguration() {
+        APIConfiguration configuration = TheTVDBApiFactory.createConfigurationBuilder().build();
+        assertThat(configuration.getTransport()).isEqualTo(Transport.URL_CONNECTION);
+    }
+
+    @Test
+    void createConfigurationBuilder_withTransport_verifyConfigurationProperties() {
+        APIConfiguration configuration = TheTVDBApiFactory.createConfigurationBuilder()
+                .transport(Transport.HTTP_CLIENT).build();
+        assertThat(configuration.getTransport()).isEqualTo(Transport.HTTP_CLIENT);
+    }
+
+    @Test
+    void createResponseCache_verifyEmptyCacheIsCreated() {
+        ResponseCache cache = TheTVDBApiFactory.createResponseCache(1024);
+        assertThat(cache).isNotNull();
+        assertThat(cache.getStatistics().getEntryCount()).isZero();
+    }
+
+    @Test
+    void createResponseCache_withDirectory_verifyPersistentCacheIsCreated(@TempDir Path directory) {
+        ResponseCache cache = TheTVDBApiFactory.createResponseCache(1024, directory, 4096);
+        assertThat(cache).isNotNull();
+        assertThat(directory).isNotEmptyDirectory();
+        cache.close();
+    }
+
+    @Test
+    void createRateLimiter_verifyLimiterWithConfiguredRateIsCreated() {
+        RateLimiter limiter = TheTVDBApiFactory.createRateLimiter(10, 20);
+        assertThat(limiter.getRate()).isEqualTo(10);
+        assertThat(limiter.reserve()).isZero();
+    }
+
+    @Test
+    void createRetryPolicy_verifyPolicyWithoutRetriesIsCreated() {
+        RetryPolicy policy = TheTVDBApiFactory.createRetryPolicy(3, Duration.ofMillis(100), Duration.ofSeconds(5), 0.1);
+        assertThat(policy).isNotNull();
+        assertThat(policy.getStatistics().getRetryCount()).isZero();
+    }
+
+    @Test
+    void createCircuitBreaker_verifyBreakerWithClosedCircuitsIsCreated() {
+        CircuitBreaker breaker = TheTVDBApiFactory.createCircuitBreaker(5, Duration.ofSeconds(30), 1, null);
+        assertThat(breaker.getState("/series")).isEqualTo(CircuitState.CLOSED);
+        assertThat(breaker.tryAcquire("/series")).isTrue();
+    }
+
+    @Test
+    void createHedgingPolicy_verifyPolicyWithoutRecordedLatenciesIsCreated() {
+        HedgingPolicy policy = TheTVDBApiFactory.createHedgingPolicy(0.95, 100, 0.05);
+        assertThat(policy.getHedgeDelay("/series")).isEmpty();
+        assertThat(policy.getStatistics().getHedgeCount()).isZero();
+    }
+
+    @Test
+    void createTokenStore_verifyStoreIsCreated(@TempDir Path directory) {
+        TokenStore store = TheTVDBApiFactory.createTokenStore(directory.resolve("tokens"));
+        assertThat(store).isNotNull();
+        assertThat(store.load("0123456789abcdef")).isEmpty();
+        assertThat(directory.resolve("tokens")).isEmptyDirectory();
+    }
+
+    @Test
+    void createKeyPool_verifyPoolWithAllKeysAvailableIsCreated() {
+        KeyPool keyPool = TheTVDBApiFactory.createKeyPool(List.of(CONTRACT_APIKEY, SUBSCRIPTION_APIKEY));
+        assertThat(keyPool.getApiKeys()).containsExactly(CONTRACT_APIKEY, SUBSCRIPTION_APIKEY);
+        assertThat(keyPool.getStatistics()).allMatch(KeyStatistics::isAvailable)
+                .extracting(KeyStatistics::getRequestCount).containsOnly(0L);
+    }
+
+    @Test
+    void createEndpointGroup_verifyGroupWithAllEndpointsAvailableIsCreated() {
+        Proxy primary = TheTVDBApiFactory.createProxy("https", "primary.proxy", 8443);
+        Proxy secondary = TheTVDBApiFactory.createProxy("https", "secondary.proxy", 8443);
+        EndpointGroup group = TheTVDBApiFactory.createEndpointGroup(List.of(primary, secondary),
+                LoadBalancing.LATENCY_WEIGHTED, 3, Duration.ofSeconds(30));
+        assertThat(group.getEndpoints()).extracting(Proxy::getHost).containsExactly("primary.proxy", "secondary.proxy");
+        assertThat(group.getStatistics()).allMatch(EndpointStatistics::isAvailable)
+                .extracting(EndpointStatistics::getRequestCount).containsOnly(0L);
+    }
+
+    @Test
+    void createMetricsRecorder_verifyRecorderWithoutRecordedMetricsIsCreated() {
+        assertThat(TheTVDBApiFactory.createMetricsRecorder().getStatistics()).isEmpty();
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.benchmark;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.m0nk3y2k4.thetvdb.TheTVDBApiFactory;
+import com.github.m0nk3y2k4.thetvdb.api.model.APIResponse;
+import com.github.m0nk3y2k4.thetvdb.api.model.data.SeriesDetails;
+import com.github.m0nk3y2k4.thetvdb.internal.util.json.APIJsonMapper;
+
+/**
+ * Measures the cold-start time from {@link TheTVDBApiFactory#createApi(com.github.m0nk3y2k4.thetvdb.api.APIKey)} up
+ * to the first fully parsed API response.
+ * <p><br>
+ * Each sample is taken in a freshly forked JVM so that class loading and the one-time initialization of the JSON
+ * mapping are part of the measurement. The response payload is read from disk before the clock starts, i.e. only
+ * the library side is timed. Run with the test classpath, e.g.
+ * <pre>{@code
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.github.m0nk3y2k4.thetvdb.benchmark.ColdStartBenchmark -Dexec.args=20
+ * }</pre>
+ */
+public final class ColdStartBenchmark {
+
+    private static final String PROBE = "probe";
+
+    private static final Path RESPONSE = Path.of("src/test/resources/json/example/series_extended.json");
+
+    private ColdStartBenchmark() {}     // Hidden constructor. Only static methods
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && PROBE.equals(args[0])) {
+            probe();
+            return;
+        }
+
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        List<Long> samples = new ArrayList<>(runs);
+        for (int i = 0; i < runs; i++) {
+            samples.add(fork());
+        }
+        Collections.sort(samples);
+        System.out.printf("cold start over %d JVMs: min %.1f ms, median %.1f ms, max %.1f ms%n", runs,
+                samples.get(0) / 1e6, samples.get(runs / 2) / 1e6, samples.get(runs - 1) / 1e6);
+    }
+
+    private static long fork() throws Exception {
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        Process process = new ProcessBuilder(java.toString(), "-cp", System.getProperty("java.class.path"),
+                ColdStartBenchmark.class.getName(), PROBE).redirectErrorStream(true).start();
+        try (BufferedReader out = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line = out.readLine();
+            if (process.waitFor() != 0 || line == null) {
+                throw new IllegalStateException("Probe JVM failed: " + line);
+            }
+            return Long.parseLong(line.trim());
+        }
+    }
+
+    private static void probe() throws Exception {
+        byte[] response = Files.readAllBytes(RESPONSE);
+
+        long start = System.nanoTime();
+        TheTVDBApiFactory.createApi(TheTVDBApiFactory.createAPIKey("benchmark"));
+        try (JsonParser parser = new JsonFactory().createParser(response)) {
+            APIJsonMapper.readValue(parser, new TypeReference<APIResponse<SeriesDetails>>() {});
+        }
+        System.out.println(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.api.impl;
+
+import static com.github.m0nk3y2k4.thetvdb.api.enumeration.LoadBalancing.ROUND_ROBIN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CachePolicy;
+import com.github.m0nk3y2k4.thetvdb.api.cache.ResponseCache;
+import com.github.m0nk3y2k4.thetvdb.api.circuitbreaker.CircuitBreaker;
+import com.github.m0nk3y2k4.thetvdb.api.endpoint.EndpointGroup;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.ExecutionMode;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.Transport;
+import com.github.m0nk3y2k4.thetvdb.api.event.APIEventListener;
+import com.github.m0nk3y2k4.thetvdb.api.hedging.HedgingPolicy;
+import com.github.m0nk3y2k4.thetvdb.api.metrics.MetricsRecorder;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.cache.MemoryResponseCache;
+import com.github.m0nk3y2k4.thetvdb.api.ratelimit.RateLimiter;
+import com.github.m0nk3y2k4.thetvdb.api.retry.RetryPolicy;
+import com.github.m0nk3y2k4.thetvdb.api.token.TokenStore;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RemoteAPI;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.cache.RouteCachePolicy;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.circuitbreaker.ConsecutiveFailuresCircuitBreaker;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.endpoint.HealthCheckedEndpointGroup;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.hedging.PercentileHedgingPolicy;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.metrics.HistogramMetricsRecorder;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.ratelimit.TokenBucketRateLimiter;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.retry.ExponentialBackoffRetryPolicy;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.token.FileTokenStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class APIConfigurationImplTest {
+
+    @Test
+    void getDefault_verifyDefaultProperties() {
+        assertThat(APIConfigurationImpl.getDefault().getTransport()).isEqualTo(Transport.URL_CONNECTION);
+        assertThat(APIConfigurationImpl.getDefault().getExecutionMode()).isEqualTo(ExecutionMode.PLATFORM_THREADS);
+        assertThat(APIConfigurationImpl.getDefault().getExecutor()).isEmpty();
+        assertThat(APIConfigurationImpl.getDefault().getResponseCache()).isEmpty();
+        assertThat(APIConfigurationImpl.getDefault().getCachePolicy()).isSameAs(RouteCachePolicy.getDefault());
+        assertThat(APIConfigurationImpl.getDefault().getRateLimiter()).isEmpty();
+        assertThat(APIConfigurationImpl.getDefault().getRetryPolicy()).isEmpty();
+        assertThat(APIConfigurationImpl.getDefault().getCircuitBreaker()).isEmpty();
+        assertThat(APIConfigurationImpl.getDefault().getHedgingPolicy()).isEmpty();
+        assertThat(APIConfigurationImpl.getDefault().isCoalescingRequests()).isFalse();
+        assertThat(APIConfigurationImpl.getDefault().getTokenRefreshMargin()).isEmpty();
+        assertThat(APIConfigurationImpl.getDefault().getTokenStore()).isEmpty();
+        assertThat(APIConfigurationImpl.getDefault().getConnectTimeout()).isEmpty();
+        assertThat(APIConfigurationImpl.getDefault().getReadTimeout()).isEmpty();
+        assertThat(APIConfigurationImpl.getDefault().getCallTimeout()).isEmpty();
+        assertThat(APIConfigurationImpl.getDefault().getMetricsRecorder()).isEmpty();
+        assertThat(APIConfigurationImpl.getDefault().getEventListener()).isEmpty();
+        assertThat(APIConfigurationImpl.getDefault().getManagementName()).isEmpty();
+    }
+
+    @Test
+    void build_withTransport_verifyProperties() {
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().transport(Transport.HTTP_CLIENT).build();
+        assertThat(configuration.getTransport()).isEqualTo(Transport.HTTP_CLIENT);
+    }
+
+    @Test
+    void build_withExecutionMode_verifyProperties() {
+        APIConfiguration configuration = new APIConfigurationImpl.Builder()
+                .executionMode(ExecutionMode.VIRTUAL_THREADS).build();
+        assertThat(configuration.getExecutionMode()).isEqualTo(ExecutionMode.VIRTUAL_THREADS);
+    }
+
+    @Test
+    void build_withExecutor_verifyProperties() {
+        Executor executor = Runnable::run;
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().executor(executor).build();
+        assertThat(configuration.getExecutor()).contains(executor);
+    }
+
+    @Test
+    void build_withResponseCache_verifyProperties() {
+        ResponseCache cache = new MemoryResponseCache(1024);
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().responseCache(cache).build();
+        assertThat(configuration.getResponseCache()).contains(cache);
+    }
+
+    @Test
+    void build_withCachePolicy_verifyProperties() {
+        CachePolicy policy = key -> Duration.ofSeconds(30);
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().cachePolicy(policy).build();
+        assertThat(configuration.getCachePolicy()).isSameAs(policy);
+    }
+
+    @Test
+    void build_withRateLimiter_verifyProperties() {
+        RateLimiter limiter = new TokenBucketRateLimiter(10, 5);
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().rateLimiter(limiter).build();
+        assertThat(configuration.getRateLimiter()).contains(limiter);
+    }
+
+    @Test
+    void build_withRetryPolicy_verifyProperties() {
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(3, Duration.ofMillis(100), Duration.ofSeconds(5), 0.1);
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().retryPolicy(policy).build();
+        assertThat(configuration.getRetryPolicy()).contains(policy);
+    }
+
+    @Test
+    void build_withCircuitBreaker_verifyProperties() {
+        CircuitBreaker breaker = new ConsecutiveFailuresCircuitBreaker(5, Duration.ofSeconds(30), 1, null);
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().circuitBreaker(breaker).build();
+        assertThat(configuration.getCircuitBreaker()).contains(breaker);
+    }
+
+    @Test
+    void build_withHedgingPolicy_verifyProperties() {
+        HedgingPolicy policy = new PercentileHedgingPolicy(0.95, 100, 0.05);
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().hedgingPolicy(policy).build();
+        assertThat(configuration.getHedgingPolicy()).contains(policy);
+    }
+
+    @Test
+    void build_withCoalescingRequests_verifyProperties() {
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().isCoalescingRequests(true).build();
+        assertThat(configuration.isCoalescingRequests()).isTrue();
+    }
+
+    @Test
+    void build_withTokenRefreshMargin_verifyProperties() {
+        APIConfiguration configuration = new APIConfigurationImpl.Builder()
+                .tokenRefreshMargin(Duration.ofHours(1)).build();
+        assertThat(configuration.getTokenRefreshMargin()).contains(Duration.ofHours(1));
+    }
+
+    @Test
+    void build_withTokenStore_verifyProperties(@TempDir Path directory) {
+        TokenStore store = new FileTokenStore(directory);
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().tokenStore(store).build();
+        assertThat(configuration.getTokenStore()).contains(store);
+    }
+
+    @Test
+    void build_withEndpointGroup_verifyProperties() {
+        EndpointGroup group = new HealthCheckedEndpointGroup(List.of(RemoteAPI.getDefault()), ROUND_ROBIN, 3,
+                Duration.ofSeconds(30));
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().endpointGroup(group).build();
+        assertThat(configuration.getEndpointGroup()).contains(group);
+    }
+
+    @Test
+    void build_withTimeouts_verifyProperties() {
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().connectTimeout(Duration.ofSeconds(2))
+                .readTimeout(Duration.ofSeconds(5)).callTimeout(Duration.ofSeconds(10)).build();
+        assertThat(configuration.getConnectTimeout()).contains(Duration.ofSeconds(2));
+        assertThat(configuration.getReadTimeout()).contains(Duration.ofSeconds(5));
+        assertThat(configuration.getCallTimeout()).contains(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void build_withMetricsRecorder_verifyProperties() {
+        MetricsRecorder recorder = new HistogramMetricsRecorder();
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().metricsRecorder(recorder).build();
+        assertThat(configuration.getMetricsRecorder()).contains(recorder);
+    }
+
+    @Test
+    void build_withEventListener_verifyProperties() {
+        APIEventListener listener = new APIEventListener() {};
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().eventListener(listener).build();
+        assertThat(configuration.getEventListener()).contains(listener);
+    }
+
+    @Test
+    void build_withManagementName_verifyProperties() {
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().managementName("series-sync").build();
+        assertThat(configuration.getManagementName()).contains("series-sync");
+    }
+
+    @ParameterizedTest(name = "[{index}] Configuration is not created with management name \"{0}\"")
+    @ValueSource(strings = {"", "  "})
+    void build_withBlankManagementName_verifyParameterValidation(String managementName) {
+        APIConfigurationImpl.Builder builder = new APIConfigurationImpl.Builder().managementName(managementName);
+        assertThatIllegalArgumentException().isThrownBy(builder::build);
+    }
+
+    @ParameterizedTest(name = "[{index}] Configuration is not created with a timeout of {0} seconds")
+    @ValueSource(longs = {0, -1})
+    void build_withNonPositiveTimeouts_verifyParameterValidation(long seconds) {
+        Duration timeout = Duration.ofSeconds(seconds);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new APIConfigurationImpl.Builder().connectTimeout(timeout).build());
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new APIConfigurationImpl.Builder().readTimeout(timeout).build());
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new APIConfigurationImpl.Builder().callTimeout(timeout).build());
+    }
+
+    @Test
+    void build_withNegativeTokenRefreshMargin_verifyParameterValidation() {
+        APIConfigurationImpl.Builder builder = new APIConfigurationImpl.Builder()
+                .tokenRefreshMargin(Duration.ofSeconds(-1));
+        assertThatIllegalArgumentException().isThrownBy(builder::build);
+    }
+
+    @Test
+    void staticBuilderClass_newInstance_extendsDTOBuilder() {
+        assertThat(new APIConfigurationImpl.Builder()).isInstanceOf(APIConfigurationImplBuilder.class)
+                .isInstanceOf(APIConfiguration.APIConfigurationBuilder.class);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.api.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheKey;
+import org.junit.jupiter.api.Test;
+
+class CacheKeyImplTest {
+
+    @Test
+    void create_withoutQuery_verifyProperties() {
+        CacheKey key = CacheKeyImpl.create("GET", "/series/69", "eng");
+        assertThat(key.getMethod()).isEqualTo("GET");
+        assertThat(key.getPath()).isEqualTo("/series/69");
+        assertThat(key.getQuery()).isEmpty();
+        assertThat(key.getLanguage()).contains("eng");
+    }
+
+    @Test
+    void create_withQuery_verifyQueryIsNormalized() {
+        CacheKey key = CacheKeyImpl.create("GET", "/series/69/extended?short=true&&meta=translations", null);
+        assertThat(key.getPath()).isEqualTo("/series/69/extended");
+        assertThat(key.getQuery()).isEqualTo("meta=translations&short=true");
+        assertThat(key.getLanguage()).isEmpty();
+    }
+
+    @Test
+    void create_withDifferentParameterOrder_verifyKeysAreEqual() {
+        assertThat(CacheKeyImpl.create("GET", "/search?query=Simpsons&type=series", "eng"))
+                .isEqualTo(CacheKeyImpl.create("GET", "/search?type=series&query=Simpsons", "eng"))
+                .hasSameHashCodeAs(CacheKeyImpl.create("GET", "/search?type=series&query=Simpsons", "eng"));
+    }
+
+    @Test
+    void create_withDifferentLanguage_verifyKeysAreNotEqual() {
+        assertThat(CacheKeyImpl.create("GET", "/series/69", "eng"))
+                .isNotEqualTo(CacheKeyImpl.create("GET", "/series/69", "deu"))
+                .isNotEqualTo(CacheKeyImpl.create("GET", "/series/69", null));
+    }
+
+    @Test
+    void build_withMissingMethod_verifyParameterValidation() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new CacheKeyImpl.Builder().path("/series").build());
+    }
+
+    @Test
+    void staticBuilderClass_newInstance_extendsDTOBuilder() {
+        assertThat(new CacheKeyImpl.Builder()).isInstanceOf(CacheKeyImplBuilder.class);
+    }
+}
@@ -81,15 +81,25 @@ import static com.github.m0nk3y2k4.thetvdb.testutils.ResponseData.USERINFO;
 import static com.github.m0nk3y2k4.thetvdb.testutils.parameterized.TestTheTVDBAPICall.route;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
 import static org.junit.jupiter.params.provider.Arguments.of;
 import static org.mockserver.model.Parameter.param;
 
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Stream;
 
+import javax.management.ObjectName;
+
+import com.github.m0nk3y2k4.thetvdb.TheTVDBApiFactory;
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
 import com.github.m0nk3y2k4.thetvdb.api.Proxy;
 import com.github.m0nk3y2k4.thetvdb.api.TheTVDBApi;
+import com.github.m0nk3y2k4.thetvdb.api.cache.ResponseCache;
 import com.github.m0nk3y2k4.thetvdb.api.constants.Query.Companies;
 import com.github.m0nk3y2k4.thetvdb.api.constants.Query.Episodes;
 import com.github.m0nk3y2k4.thetvdb.api.constants.Query.Filter;
@@ -106,7 +116,9 @@ import com.github.m0nk3y2k4.thetvdb.api.enumeration.PeopleMeta;
 import com.github.m0nk3y2k4.thetvdb.api.enumeration.SearchType;
 import com.github.m0nk3y2k4.thetvdb.api.enumeration.SeasonMeta;
 import com.github.m0nk3y2k4.thetvdb.api.enumeration.SeriesMeta;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.Transport;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.cache.MemoryResponseCache;
 import com.github.m0nk3y2k4.thetvdb.internal.exception.APIPreconditionException;
 import com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders;
 import com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpRequestMethod;
@@ -118,11 +130,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockserver.client.MockServerClient;
 import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
 
 @WithHttpsMockServer
 class TheTVDBApiImplTest {
@@ -142,6 +156,29 @@ class TheTVDBApiImplTest {
         assertThatCode(() -> new TheTVDBApiImpl(CONTRACT_APIKEY, remoteApi)).doesNotThrowAnyException();
     }
 
+    @Test
+    void close_withManagementName_verifyNameCanBeReused(Proxy remoteApi) throws Exception {
+        ObjectName name = new ObjectName("com.github.m0nk3y2k4.thetvdb:type=Connection,name=\"closeable\"");
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().managementName("closeable").build();
+        TheTVDBApi api = new TheTVDBApiImpl(CONTRACT_APIKEY, remoteApi, configuration);
+        assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(name)).isTrue();
+        assertThatIllegalStateException().isThrownBy(() -> new TheTVDBApiImpl(CONTRACT_APIKEY, remoteApi,
+                configuration));
+        api.withCallTimeout(Duration.ofSeconds(1)).close();
+        assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(name)).isFalse();
+        assertThatCode(() -> new TheTVDBApiImpl(CONTRACT_APIKEY, remoteApi, configuration).close())
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void close_withPersistentResponseCache_verifyCacheDirectoryCanBeReopened(Proxy remoteApi, @TempDir Path directory) {
+        APIConfiguration configuration = new APIConfigurationImpl.Builder()
+                .responseCache(TheTVDBApiFactory.createResponseCache(1024, directory, 4096)).build();
+        new TheTVDBApiImpl(CONTRACT_APIKEY, remoteApi, configuration).close();
+        assertThatCode(() -> TheTVDBApiFactory.createResponseCache(1024, directory, 4096).close())
+                .doesNotThrowAnyException();
+    }
+
     @Nested
     @TestInstance(PER_CLASS)
     @DisplayName("Tests for the basic TheTVDBApi layout")
@@ -375,6 +412,33 @@ class TheTVDBApiImplTest {
             assertThat(api.getToken()).contains(token);
         }
 
+        @Test
+        void warmUp_withoutSession_verifySessionIsAuthorized(Proxy remoteAPI) throws Exception {
+            TheTVDBApi api = new TheTVDBApiImpl(CONTRACT_APIKEY, remoteAPI);
+            api.warmUp();
+            assertThat(api.getToken()).contains("Header.Payload.Signature");
+        }
+
+        @Test
+        void warmUp_withValidToken_verifyTokenIsRetained(Proxy remoteAPI) throws Exception {
+            final String token = "D78W4F5W.8F7WG4F.A69J7E";
+            TheTVDBApi api = new TheTVDBApiImpl(CONTRACT_APIKEY, remoteAPI);
+            api.init(token);
+            api.warmUp();
+            assertThat(api.getToken()).contains(token);
+        }
+
+        @Test
+        void warmUp_withReferenceData_verifyReferenceDataIsCached(Proxy remoteAPI) throws Exception {
+            ResponseCache cache = new MemoryResponseCache(1 << 20);
+            APIConfiguration configuration = new APIConfigurationImpl.Builder().responseCache(cache).build();
+            TheTVDBApi api = new TheTVDBApiImpl(CONTRACT_APIKEY, remoteAPI, configuration);
+            api.warmUp(true);
+            assertThat(cache.getStatistics().getEntryCount()).isEqualTo(13);
+            assertThat(api.getAllGenres()).isEqualTo(GENRE_OVERVIEW.getDTO().getData());
+            assertThat(cache.getStatistics().getHitCount()).isEqualTo(1);
+        }
+
         @Test
         void setLanguage_withValidLanguage_verifyLanguageIsSetInApiRequests(MockServerClient client, Proxy remoteAPI)
                 throws Exception {
@@ -676,4 +740,163 @@ class TheTVDBApiImplTest {
             TestTheTVDBAPICallAssert.assertThat(route).usingMockServer(client).matchesExpectation(expected);
         }
     }
+
+    @Nested
+    @TestInstance(PER_CLASS)
+    @DisplayName("Tests for the API's Async layout")
+    class AsyncApiTest {
+
+        private TheTVDBApi.Async theTVDBApi;
+
+        @BeforeAll
+        void setUpAPI(Proxy remoteAPI) throws Exception {
+            APIConfiguration configuration = new APIConfigurationImpl.Builder().transport(Transport.HTTP_CLIENT).build();
+            theTVDBApi = init(new TheTVDBApiImpl(CONTRACT_APIKEY, remoteAPI, configuration)).async();
+        }
+
+        //@DisableFormatting
+        @BeforeAll
+        void setUpRoutes(MockServerClient client) throws Exception {
+            client.when(request("/artwork/statuses", GET)).respond(jsonResponse(ARTWORKSTATUS_OVERVIEW));
+            client.when(request("/artwork/types", GET)).respond(jsonResponse(ARTWORKTYPE_OVERVIEW));
+            client.when(request("/artwork/7099", GET)).respond(jsonResponse(ARTWORK));
+            client.when(request("/artwork/6471/extended", GET)).respond(jsonResponse(ARTWORK_DETAILS));
+            client.when(request("/awards", GET)).respond(jsonResponse(AWARD_OVERVIEW));
+            client.when(request("/awards/3004", GET)).respond(jsonResponse(AWARD));
+            client.when(request("/awards/5973/extended", GET)).respond(jsonResponse(AWARD_DETAILS));
+            client.when(request("/awards/categories/355", GET)).respond(jsonResponse(AWARDCATEGORY));
+            client.when(request("/awards/categories/495/extended", GET)).respond(jsonResponse(AWARDCATEGORY_DETAILS));
+            client.when(request("/characters/66470", GET)).respond(jsonResponse(CHARACTER));
+            client.when(request("/companies", GET, param("value", "QueryCompaniesAsync"))).respond(jsonResponse(COMPANY_OVERVIEW));
+            client.when(request("/companies/types", GET)).respond(jsonResponse(COMPANYTYPE_OVERVIEW));
+            client.when(request("/companies/64", GET)).respond(jsonResponse(COMPANY));
+            client.when(request("/content/ratings", GET)).respond(jsonResponse(CONTENTRATING_OVERVIEW));
+            client.when(request("/entities", GET)).respond(jsonResponse(ENTITYTYPE_OVERVIEW));
+            client.when(request("/episodes/30619", GET)).respond(jsonResponse(EPISODE));
+            client.when(request("/episodes/47149/extended", GET, param("value", "QueryEpisodeDetailsAsync"))).respond(jsonResponse(EPISODE_DETAILS));
+            client.when(request("/episodes/34771/translations/eng", GET)).respond(jsonResponse(TRANSLATION));
+            client.when(request("/lists/64114/translations/fra", GET)).respond(jsonResponse(TRANSLATIONS));
+            client.when(request("/lists", GET, param("value", "QueryListsAsync"))).respond(jsonResponse(LIST_OVERVIEW));
+            client.when(request("/lists/4641", GET)).respond(jsonResponse(LIST));
+            client.when(request("/lists/3169/extended", GET)).respond(jsonResponse(LIST_DETAILS));
+            client.when(request("/genders", GET)).respond(jsonResponse(GENDER_OVERVIEW));
+            client.when(request("/genres", GET)).respond(jsonResponse(GENRE_OVERVIEW));
+            client.when(request("/genres/35", GET)).respond(jsonResponse(GENRE));
+            client.when(request("/inspiration/types", GET)).respond(jsonResponse(INSPIRATIONTYPE_OVERVIEW));
+            client.when(request("/movies/statuses", GET)).respond(jsonResponse(STATUS_OVERVIEW));
+            client.when(request("/movies", GET, param("value", "QueryMoviesAsync"))).respond(jsonResponse(MOVIE_OVERVIEW));
+            client.when(request("/movies/90034", GET)).respond(jsonResponse(MOVIE));
+            client.when(request("/movies/31101/extended", GET, param("value", "QueryMovieDetailsAsync"))).respond(jsonResponse(MOVIE_DETAILS));
+            client.when(request("/movies/filter", GET, param(Filter.COUNTRY, "mys"), param(Filter.LANGUAGE, "msa"))).respond(jsonResponse(MOVIE_OVERVIEW));
+            client.when(request("/movies/46011/translations/eng", GET)).respond(jsonResponse(TRANSLATION));
+            client.when(request("/people/types", GET)).respond(jsonResponse(PEOPLETYPE_OVERVIEW));
+            client.when(request("/people/9891", GET)).respond(jsonResponse(PEOPLE));
+            client.when(request("/people/1067/extended", GET, param("value", "QueryPeopleDetailsAsync"))).respond(jsonResponse(PEOPLE_DETAILS));
+            client.when(request("/people/8733/translations/por", GET)).respond(jsonResponse(TRANSLATION));
+            client.when(request("/search", GET, param(Search.Q, "SearchTermAsync"), param("value", "QuerySearchAsync"))).respond(jsonResponse(SEARCH_OVERVIEW));
+            client.when(request("/seasons", GET, param("value", "QuerySeasonsAsync"))).respond(jsonResponse(SEASON_OVERVIEW));
+            client.when(request("/seasons/52270", GET)).respond(jsonResponse(SEASON));
+            client.when(request("/seasons/69714/extended", GET, param("value", "QuerySeasonDetailsAsync"))).respond(jsonResponse(SEASON_DETAILS));
+            client.when(request("/seasons/types", GET)).respond(jsonResponse(SEASONTYPE_OVERVIEW));
+            client.when(request("/seasons/64714/translations/eng", GET)).respond(jsonResponse(TRANSLATION));
+            client.when(request("/series/statuses", GET)).respond(jsonResponse(STATUS_OVERVIEW));
+            client.when(request("/series", GET, param("value", "QuerySeriesAsync"))).respond(jsonResponse(SERIES_OVERVIEW));
+            client.when(request("/series/8131", GET)).respond(jsonResponse(SERIES));
+            client.when(request("/series/4713/artworks", GET, param("value", "QuerySeriesArtworksAsync"))).respond(jsonResponse(SERIES_DETAILS));
+            client.when(request("/series/5444/extended", GET, param("value", "QuerySeriesDetailsAsync"))).respond(jsonResponse(SERIES_DETAILS));
+            client.when(request("/series/5711/episodes/dvd", GET, param("value", "QuerySeriesEpisodesAsync"))).respond(jsonResponse(SERIESEPISODES));
+            client.when(request("/series/2312/episodes/alternate/por", GET, param("value", "QuerySeriesEpisodesTranslatedAsync"))).respond(jsonResponse(SERIESEPISODES_TRANSLATED));
+            client.when(request("/series/filter", GET, param(Filter.COUNTRY, "grl"), param(Filter.LANGUAGE, "nor"))).respond(jsonResponse(SERIES_OVERVIEW));
+            client.when(request("/series/6170/translations/eng", GET)).respond(jsonResponse(TRANSLATION));
+            client.when(request("/sources/types", GET)).respond(jsonResponse(SOURCETYPE_OVERVIEW));
+            client.when(request("/updates", GET, param(Updates.SINCE, "16245743"), param("value", "QueryUpdatesAsync"))).respond(jsonResponse(UPDATE_OVERVIEW));
+            client.when(request("/user", GET)).respond(jsonResponse(USERINFO));
+            client.when(request("/user/60045", GET)).respond(jsonResponse(USERINFO));
+            client.when(request("/user/favorites", GET)).respond(jsonResponse(FAVORITES));
+            client.when(request("/user/favorites", POST)).respond(jsonResponse(NO_DATA));
+        }
+
+        private Stream<Arguments> withValidParameters() {
+            return Stream.of(
+                    of(route(() -> theTVDBApi.getAllArtworkStatuses().join(), "getAllArtworkStatuses()"), ARTWORKSTATUS_OVERVIEW),
+                    of(route(() -> theTVDBApi.getAllArtworkTypes().join(), "getAllArtworkTypes()"), ARTWORKTYPE_OVERVIEW),
+                    of(route(() -> theTVDBApi.getArtwork(7099).join(), "getArtwork()"), ARTWORK),
+                    of(route(() -> theTVDBApi.getArtworkDetails(6471).join(), "getArtworkDetails()"), ARTWORK_DETAILS),
+                    of(route(() -> theTVDBApi.getAllAwards().join(), "getAllAwards()"), AWARD_OVERVIEW),
+                    of(route(() -> theTVDBApi.getAward(3004).join(), "getAward()"), AWARD),
+                    of(route(() -> theTVDBApi.getAwardDetails(5973).join(), "getAwardDetails()"), AWARD_DETAILS),
+                    of(route(() -> theTVDBApi.getAwardCategory(355).join(), "getAwardCategory()"), AWARDCATEGORY),
+                    of(route(() -> theTVDBApi.getAwardCategoryDetails(495).join(), "getAwardCategoryDetails()"), AWARDCATEGORY_DETAILS),
+                    of(route(() -> theTVDBApi.getCharacter(66470).join(), "getCharacter()"), CHARACTER),
+                    of(route(() -> theTVDBApi.getAllCompanies(params("value", "QueryCompaniesAsync")).join(), "getAllCompanies() with query parameters"), COMPANY_OVERVIEW),
+                    of(route(() -> theTVDBApi.getCompany(64).join(), "getCompany()"), COMPANY),
+                    of(route(() -> theTVDBApi.getCompanyTypes().join(), "getCompanyTypes()"), COMPANYTYPE_OVERVIEW),
+                    of(route(() -> theTVDBApi.getAllContentRatings().join(), "getAllContentRatings()"), CONTENTRATING_OVERVIEW),
+                    of(route(() -> theTVDBApi.getEntityTypes().join(), "getEntityTypes()"), ENTITYTYPE_OVERVIEW),
+                    of(route(() -> theTVDBApi.getEpisode(30619).join(), "getEpisode()"), EPISODE),
+                    of(route(() -> theTVDBApi.getEpisodeDetails(47149, params("value", "QueryEpisodeDetailsAsync")).join(), "getEpisodeDetails() with query parameters"), EPISODE_DETAILS),
+                    of(route(() -> theTVDBApi.getEpisodeTranslation(34771, "eng").join(), "getEpisodeTranslation()"), TRANSLATION),
+                    of(route(() -> theTVDBApi.getListTranslation(64114, "fra").join(), "getListTranslation()"), TRANSLATIONS),
+                    of(route(() -> theTVDBApi.getAllLists(params("value", "QueryListsAsync")).join(), "getAllLists() with query parameters"), LIST_OVERVIEW),
+                    of(route(() -> theTVDBApi.getList(4641).join(), "getList()"), LIST),
+                    of(route(() -> theTVDBApi.getListDetails(3169).join(), "getListDetails()"), LIST_DETAILS),
+                    of(route(() -> theTVDBApi.getAllGenders().join(), "getAllGenders()"), GENDER_OVERVIEW),
+                    of(route(() -> theTVDBApi.getAllGenres().join(), "getAllGenres()"), GENRE_OVERVIEW),
+                    of(route(() -> theTVDBApi.getGenre(35).join(), "getGenre()"), GENRE),
+                    of(route(() -> theTVDBApi.getAllInspirationTypes().join(), "getAllInspirationTypes()"), INSPIRATIONTYPE_OVERVIEW),
+                    of(route(() -> theTVDBApi.getAllMovieStatuses().join(), "getAllMovieStatuses()"), STATUS_OVERVIEW),
+                    of(route(() -> theTVDBApi.getAllMovies(params("value", "QueryMoviesAsync")).join(), "getAllMovies() with query parameters"), MOVIE_OVERVIEW),
+                    of(route(() -> theTVDBApi.getMovie(90034).join(), "getMovie()"), MOVIE),
+                    of(route(() -> theTVDBApi.getMovieDetails(31101, params("value", "QueryMovieDetailsAsync")).join(), "getMovieDetails() with query parameters"), MOVIE_DETAILS),
+                    of(route(() -> theTVDBApi.getMoviesFiltered(params(Filter.COUNTRY, "mys", Filter.LANGUAGE, "msa")).join(), "getMoviesFiltered()"), MOVIE_OVERVIEW),
+                    of(route(() -> theTVDBApi.getMovieTranslation(46011, "eng").join(), "getMovieTranslation()"), TRANSLATION),
+                    of(route(() -> theTVDBApi.getAllPeopleTypes().join(), "getAllPeopleTypes()"), PEOPLETYPE_OVERVIEW),
+                    of(route(() -> theTVDBApi.getPeople(9891).join(), "getPeople()"), PEOPLE),
+                    of(route(() -> theTVDBApi.getPeopleDetails(1067, params("value", "QueryPeopleDetailsAsync")).join(), "getPeopleDetails() with query parameters"), PEOPLE_DETAILS),
+                    of(route(() -> theTVDBApi.getPeopleTranslation(8733, "por").join(), "getPeopleTranslation()"), TRANSLATION),
+                    of(route(() -> theTVDBApi.getSearchResults(params(Search.Q, "SearchTermAsync", "value", "QuerySearchAsync")).join(), "getSearchResults() with query parameters"), SEARCH_OVERVIEW),
+                    of(route(() -> theTVDBApi.getAllSeasons(params("value", "QuerySeasonsAsync")).join(), "getAllSeasons() with query parameters"), SEASON_OVERVIEW),
+                    of(route(() -> theTVDBApi.getSeason(52270).join(), "getSeason()"), SEASON),
+                    of(route(() -> theTVDBApi.getSeasonDetails(69714, params("value", "QuerySeasonDetailsAsync")).join(), "getSeasonDetails() with query parameters"), SEASON_DETAILS),
+                    of(route(() -> theTVDBApi.getSeasonTypes().join(), "getSeasonTypes()"), SEASONTYPE_OVERVIEW),
+                    of(route(() -> theTVDBApi.getSeasonTranslation(64714, "eng").join(), "getSeasonTranslation()"), TRANSLATION),
+                    of(route(() -> theTVDBApi.getAllSeriesStatuses().join(), "getAllSeriesStatuses()"), STATUS_OVERVIEW),
+                    of(route(() -> theTVDBApi.getAllSeries(params("value", "QuerySeriesAsync")).join(), "getAllSeries() with query parameters"), SERIES_OVERVIEW),
+                    of(route(() -> theTVDBApi.getSeries(8131).join(), "getSeries()"), SERIES),
+                    of(route(() -> theTVDBApi.getSeriesArtworks(4713, params("value", "QuerySeriesArtworksAsync")).join(), "getSeriesArtworks() with query parameters"), SERIES_DETAILS),
+                    of(route(() -> theTVDBApi.getSeriesDetails(5444, params("value", "QuerySeriesDetailsAsync")).join(), "getSeriesDetails() with query parameters"), SERIES_DETAILS),
+                    of(route(() -> theTVDBApi.getSeriesEpisodes(5711, DVD, params("value", "QuerySeriesEpisodesAsync")).join(), "getSeriesEpisodes() with query parameters"), SERIESEPISODES),
+                    of(route(() -> theTVDBApi.getSeriesEpisodesTranslated(2312, ALTERNATE, "por", params("value", "QuerySeriesEpisodesTranslatedAsync")).join(), "getSeriesEpisodesTranslated() with query parameters"), SERIESEPISODES_TRANSLATED),
+                    of(route(() -> theTVDBApi.getSeriesFiltered(params(Filter.COUNTRY, "grl", Filter.LANGUAGE, "nor")).join(), "getSeriesFiltered()"), SERIES_OVERVIEW),
+                    of(route(() -> theTVDBApi.getSeriesTranslation(6170, "eng").join(), "getSeriesTranslation()"), TRANSLATION),
+                    of(route(() -> theTVDBApi.getAllSourceTypes().join(), "getAllSourceTypes()"), SOURCETYPE_OVERVIEW),
+                    of(route(() -> theTVDBApi.getUpdates(params(Updates.SINCE, "16245743", "value", "QueryUpdatesAsync")).join(), "getUpdates() with query parameters"), UPDATE_OVERVIEW),
+                    of(route(() -> theTVDBApi.getUserInfo().join(), "getUserInfo()"), USERINFO),
+                    of(route(() -> theTVDBApi.getUserInfo(60045).join(), "getUserInfo() with user ID"), USERINFO),
+                    of(route(() -> theTVDBApi.getUserFavorites().join(), "getUserFavorites()"), FAVORITES),
+                    of(route(() -> theTVDBApi.createUserFavorites(favoriteRecord(3447)).join(), "createUserFavorites() with favorite record"), NO_DATA)
+            );
+        }
+        //@EnableFormatting
+
+        @ParameterizedTest(name = "[{index}] Route TheTVDBApi.{0} successfully invoked")
+        @MethodSource("withValidParameters")
+        <T> void invokeRoute_withValidParameters_verifyResponse(TestTheTVDBAPICall<T> route, Object expected,
+                MockServerClient client) throws Exception {
+            TestTheTVDBAPICallAssert.assertThat(route).usingMockServer(client).matchesExpectation(expected);
+        }
+
+        @Test
+        void invokeRoute_withInvalidParameters_verifyExceptionIsThrownImmediately() {
+            assertThat(catchThrowable(() -> theTVDBApi.getEpisodeTranslation(34771, null)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void invokeRoute_withErrorResponse_verifyFutureIsCompletedExceptionally(MockServerClient client) {
+            client.when(request("/artwork/404", GET)).respond(HttpResponse.response().withStatusCode(404));
+            assertThat(catchThrowable(() -> theTVDBApi.getArtwork(404).join()))
+                    .isInstanceOf(CompletionException.class).hasCauseInstanceOf(APIException.class);
+        }
+    }
 }
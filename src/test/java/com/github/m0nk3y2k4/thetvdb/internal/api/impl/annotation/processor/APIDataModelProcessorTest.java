@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.api.impl.annotation.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class APIDataModelProcessorTest {
+
+    private static final String REGISTRY =
+            "com/github/m0nk3y2k4/thetvdb/internal/api/impl/model/APIDataModelRegistry.java";
+
+    //@DisableFormatting
+    private static final String IMPORTS =
+            "import com.fasterxml.jackson.databind.annotation.JsonDeserialize;" +
+            "import com.github.m0nk3y2k4.thetvdb.internal.api.impl.annotation.APIDataModel;";
+    //@EnableFormatting
+
+    @TempDir
+    Path outputDir;
+
+    private static JavaFileObject source(String className, String content) {
+        URI uri = URI.create("string:///test/" + className + ".java");
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return "package test;" + IMPORTS + content;
+            }
+        };
+    }
+
+    private boolean compile(DiagnosticCollector<JavaFileObject> diagnostics, JavaFileObject... sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                List.of("-proc:only", "-s", outputDir.toString(), "-classpath", System.getProperty("java.class.path")),
+                null, List.of(sources));
+        task.setProcessors(List.of(new APIDataModelProcessor()));
+        return task.call();
+    }
+
+    @Test
+    void process_withAPIDataModels_verifyRegistryIsGenerated() throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertThat(compile(diagnostics,
+                source("Series", "public interface Series {}"),
+                source("Episode", "public interface Episode {}"),
+                source("Movie", "public interface Movie {}"),
+                source("SeriesDTO",
+                        "@APIDataModel @JsonDeserialize public abstract class SeriesDTO implements Series {}"),
+                source("EpisodeDTO", "@APIDataModel @JsonDeserialize public class EpisodeDTO implements Episode {}"),
+                source("MovieDTO", "@APIDataModel public class MovieDTO implements Movie {}"))).isTrue();
+
+        assertThat(Files.readString(outputDir.resolve(REGISTRY)))
+                .contains("resolver.addMapping(test.Series.class, test.SeriesDTO.class);")
+                .contains("resolver.addMapping(test.Episode.class, test.EpisodeDTO.class);")
+                .doesNotContain("test.Movie");
+    }
+
+    @Test
+    void process_withInterfaceImplementedByMultipleAPIDataModels_verifyCompilationFails() {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertThat(compile(diagnostics,
+                source("Series", "public interface Series {}"),
+                source("SeriesDTO", "@APIDataModel @JsonDeserialize public class SeriesDTO implements Series {}"),
+                source("OtherDTO", "@APIDataModel @JsonDeserialize public class OtherDTO implements Series {}")))
+                .isFalse();
+
+        assertThat(diagnostics.getDiagnostics()).filteredOn(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .extracting(d -> d.getMessage(Locale.ENGLISH))
+                .anyMatch(message -> message.startsWith("Interface test.Series is implemented by multiple"));
+    }
+}
@@ -16,32 +16,117 @@
 
 package com.github.m0nk3y2k4.thetvdb.internal.connection;
 
+import static com.github.m0nk3y2k4.thetvdb.api.enumeration.LoadBalancing.ROUND_ROBIN;
+import static com.github.m0nk3y2k4.thetvdb.api.enumeration.Transport.HTTP_CLIENT;
 import static com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection.ERR_MAX_RETRY_EXCEEDED;
 import static com.github.m0nk3y2k4.thetvdb.internal.connection.APIConnection.MAX_AUTHENTICATION_RETRY_COUNT;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.ETAG;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.IF_MODIFIED_SINCE;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.IF_NONE_MATCH;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.LAST_MODIFIED;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.RETRY_AFTER;
 import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpRequestMethod.DELETE;
 import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpRequestMethod.GET;
 import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpRequestMethod.HEAD;
 import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpRequestMethod.POST;
 import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpRequestMethod.PUT;
 import static com.github.m0nk3y2k4.thetvdb.testutils.APITestUtil.CONTRACT_APIKEY;
+import static com.github.m0nk3y2k4.thetvdb.testutils.APITestUtil.jwt;
 import static com.github.m0nk3y2k4.thetvdb.testutils.MockServerUtil.JSON_DATA;
+import static com.github.m0nk3y2k4.thetvdb.testutils.MockServerUtil.createJWTResponse;
+import static com.github.m0nk3y2k4.thetvdb.testutils.MockServerUtil.createResponse;
+import static com.github.m0nk3y2k4.thetvdb.testutils.MockServerUtil.createSuccessResponse;
 import static com.github.m0nk3y2k4.thetvdb.testutils.MockServerUtil.createUnauthorizedResponse;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpStatusCode.BAD_REQUEST_400;
+import static org.mockserver.model.HttpStatusCode.BAD_GATEWAY_502;
+import static org.mockserver.model.HttpStatusCode.FORBIDDEN_403;
+import static org.mockserver.model.HttpStatusCode.NOT_FOUND_404;
+import static org.mockserver.model.HttpStatusCode.NOT_MODIFIED_304;
+import static org.mockserver.model.HttpStatusCode.SERVICE_UNAVAILABLE_503;
 
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nonnull;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheStatistics;
+import com.github.m0nk3y2k4.thetvdb.api.cache.ResponseCache;
+import com.github.m0nk3y2k4.thetvdb.api.circuitbreaker.CircuitBreaker;
+import com.github.m0nk3y2k4.thetvdb.api.endpoint.EndpointGroup;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.CircuitState;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.ExecutionMode;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.Transport;
+import com.github.m0nk3y2k4.thetvdb.api.event.APIEventListener;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.api.hedging.HedgingPolicy;
+import com.github.m0nk3y2k4.thetvdb.api.hedging.HedgingStatistics;
+import com.github.m0nk3y2k4.thetvdb.api.metrics.MetricsRecorder;
+import com.github.m0nk3y2k4.thetvdb.api.metrics.RouteStatistics;
+import com.github.m0nk3y2k4.thetvdb.api.ratelimit.RateLimiter;
+import com.github.m0nk3y2k4.thetvdb.api.retry.RetryPolicy;
+import com.github.m0nk3y2k4.thetvdb.api.retry.RetryStatistics;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.APIConfigurationImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.HedgingStatisticsImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.RetryStatisticsImpl;
 import com.github.m0nk3y2k4.thetvdb.internal.connection.APISession.Status;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.cache.DiskResponseCache;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.cache.MemoryResponseCache;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.cache.TieredResponseCache;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.circuitbreaker.ConsecutiveFailuresCircuitBreaker;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.endpoint.HealthCheckedEndpointGroup;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.hedging.PercentileHedgingPolicy;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.metrics.HistogramMetricsRecorder;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.ratelimit.TokenBucketRateLimiter;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.retry.ExponentialBackoffRetryPolicy;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.token.FileTokenStore;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICircuitOpenException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICommunicationException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APIThrottledException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APITimeoutException;
 import com.github.m0nk3y2k4.thetvdb.testutils.junit.jupiter.WithHttpsMockServer;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockserver.client.MockServerClient;
 import org.mockserver.matchers.Times;
+import org.mockserver.model.Delay;
 import org.mockserver.verify.VerificationTimes;
 
 @WithHttpsMockServer
@@ -85,6 +170,19 @@ class APIConnectionTest {
         assertThatIllegalArgumentException().isThrownBy(() -> new APIConnection(CONTRACT_APIKEY, null));
     }
 
+    @Test
+    void newAPIConnection_withConfiguration_verifyConnectionProperties(RemoteAPI remoteAPI) {
+        final APIConfiguration configuration = new APIConfigurationImpl.Builder().transport(HTTP_CLIENT).build();
+        APIConnection simpleConnection = new APIConnection(CONTRACT_APIKEY, remoteAPI, configuration);
+        assertThat(simpleConnection.getRemoteAPI()).isEqualTo(remoteAPI);
+        assertThat(simpleConnection.getConfiguration()).isEqualTo(configuration);
+    }
+
+    @Test
+    void newAPIConnection_withMissingConfiguration_verifyParameterValidation(RemoteAPI remoteAPI) {
+        assertThatIllegalArgumentException().isThrownBy(() -> new APIConnection(CONTRACT_APIKEY, remoteAPI, null));
+    }
+
     @ParameterizedTest(name = "[{index}] Verifying {1} request")
     @MethodSource
     void sendRequest_verifyHTTPMethodInRequest(Request request, String httpMethod, MockServerClient client)
@@ -94,6 +192,28 @@ class APIConnectionTest {
                 .once());
     }
 
+    @ParameterizedTest(name = "[{index}] Verifying {1} request via HTTP client")
+    @MethodSource("sendRequest_verifyHTTPMethodInRequest")
+    void sendRequestViaHttpClient_verifyHTTPMethodInRequest(Request request, String httpMethod, MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        request.send(new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().transport(HTTP_CLIENT).build()));
+        client.verify(request().withMethod(httpMethod).withPath(METHOD_RESOURCE + httpMethod), VerificationTimes
+                .once());
+    }
+
+    @Test
+    void sendRequestViaHttpClient_automaticAuthorizationSuccess(MockServerClient client, RemoteAPI remoteAPI)
+            throws Exception {
+        final String resource = "/auth/httpClientAutoAuthSuccess";
+        APIConnection httpClientConnection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().transport(HTTP_CLIENT).build());
+        httpClientConnection.sendGET(resource);
+        httpClientConnection.sendGET(resource);
+        client.verify(request(resource), VerificationTimes.exactly(3));
+        client.verify(request("/login"), VerificationTimes.once());
+    }
+
     @Test
     void setToken_verifyToken() throws Exception {
         final String token = "Header.Payload.Signature";
@@ -101,6 +221,101 @@ class APIConnectionTest {
         assertThat(con.getToken()).contains(token);
     }
 
+    @ParameterizedTest(name = "[{index}] Expired token is renewed before sending the request via {0}")
+    @EnumSource(Transport.class)
+    void sendRequest_withExpiredToken_verifyTokenIsRenewedBeforeSending(Transport transport, MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/auth/expiredToken" + transport;
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().transport(transport).build());
+        connection.setToken(jwt(Instant.now().minusSeconds(1)));
+        assertThat(connection.sendGET(resource)).isNotNull();
+        connection.setToken(jwt(Instant.now().minusSeconds(1)));
+        assertThat(connection.async().sendGET(resource).join()).isNotNull();
+        client.verify(request(resource), VerificationTimes.exactly(2));     // Neither request has been rejected
+        client.verify(request("/login"), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void warmUp_verifySessionIsOnlyAuthorizedWithoutValidToken(MockServerClient client, RemoteAPI remoteAPI)
+            throws Exception {
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, APIConfigurationImpl.getDefault());
+        connection.warmUp();
+        assertThat(connection.getStatus()).isEqualTo(Status.AUTHORIZED);
+        connection.warmUp();
+        client.verify(request("/login"), VerificationTimes.once());
+        connection.setToken(jwt(Instant.now().minusSeconds(1)));
+        connection.warmUp();
+        assertThat(connection.getToken()).contains("Header.Payload.Signature");
+        client.verify(request("/login"), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void sendRequest_withTokenStore_verifyTokenIsSharedBetweenConnections(MockServerClient client, RemoteAPI remoteAPI,
+            @TempDir Path directory) throws Exception {
+        final String resource = "/auth/sharedToken";
+        APIConfiguration configuration = new APIConfigurationImpl.Builder()
+                .tokenStore(new FileTokenStore(directory)).build();
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, configuration);
+        APIConnection otherConnection = new APIConnection(CONTRACT_APIKEY, remoteAPI, configuration);
+        assertThat(connection.sendGET(resource)).isNotNull();
+        assertThat(otherConnection.async().sendGET(resource).join()).isNotNull();
+        assertThat(otherConnection.getToken()).isPresent().isEqualTo(connection.getToken());
+        client.verify(request(resource), VerificationTimes.exactly(2));     // Neither request has been rejected
+        client.verify(request("/login"), VerificationTimes.once());
+    }
+
+    @Test
+    void setToken_withTokenRefreshMargin_verifyTokenIsRenewedAheadOfExpiration(MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final Duration margin = Duration.ofHours(1);
+        final String token = jwt(Instant.now().plus(margin).plusSeconds(2));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().tokenRefreshMargin(margin).build());
+        connection.setToken(token);
+        assertThat(connection.getToken()).contains(token);
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (connection.getToken().filter(token::equals).isPresent() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(connection.getToken()).isPresent().get().isNotEqualTo(token);
+        assertThat(connection.getStatus()).isEqualTo(Status.AUTHORIZED);
+        client.verify(request("/login"), VerificationTimes.once());
+    }
+
+    @Test
+    void setToken_withFailedTokenRefresh_verifyRenewalIsRetriedBeforeExpiration(MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final Duration margin = Duration.ofSeconds(4);
+        final String token = jwt(Instant.now().plus(margin).plusSeconds(2));
+        client.when(request("/login"), Times.once()).respond(createResponse(SERVICE_UNAVAILABLE_503, ""));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().tokenRefreshMargin(margin).build());
+        connection.setToken(token);
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (connection.getToken().filter(token::equals).isPresent() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(connection.getToken()).isPresent().get().isNotEqualTo(token);
+        assertThat(connection.getStatus()).isEqualTo(Status.AUTHORIZED);
+        client.verify(request("/login"), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void setToken_withTokenRefreshMargin_verifyPendingRenewalDoesNotRetainConnection(RemoteAPI remoteAPI)
+            throws Exception {
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().tokenRefreshMargin(Duration.ofHours(1)).build());
+        connection.setToken(jwt(Instant.now().plus(Duration.ofDays(30))));
+        WeakReference<APIConnection> reference = new WeakReference<>(connection);
+        connection = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertThat(reference.get()).isNull();
+    }
+
     @Test
     void setStatus_verifyStatus() {
         con.setStatus(Status.AUTHORIZED);
@@ -140,6 +355,1131 @@ class APIConnectionTest {
         assertThat(exception).hasMessageContaining("authorization failed");
     }
 
+    @Test
+    void sendRequest_concurrentRequests_verifyRequestsAreNotSerialized(MockServerClient client) throws Exception {
+        final String resource = "/test/concurrentRequests";
+        final int requests = 8;
+        client.when(request(resource)).respond(createSuccessResponse().withDelay(Delay.milliseconds(500)));
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Callable<JsonNode>> tasks = Collections.nCopies(requests, () -> con.sendGET(resource));
+            long start = System.nanoTime();
+            for (Future<JsonNode> response : executor.invokeAll(tasks)) {
+                assertThat(response.get()).isNotNull();
+            }
+            // Serialized requests would take at least 8 x 500ms
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(2500));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest(name = "[{index}] Single-flight authorization via {0}")
+    @EnumSource(Transport.class)
+    void sendRequest_concurrentUnauthorizedRequests_verifySingleAuthorization(Transport transport,
+            MockServerClient client, RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/auth/concurrentAutoAuth";
+        final int requests = 16;
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().transport(transport).build());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Callable<JsonNode>> tasks = Collections.nCopies(requests, () -> {
+                start.await();
+                return connection.sendGET(resource);
+            });
+            List<Future<JsonNode>> responses = tasks.stream().map(executor::submit).collect(Collectors.toList());
+            start.countDown();
+            for (Future<JsonNode> response : responses) {
+                assertThat(response.get()).isNotNull();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        client.verify(request("/login"), VerificationTimes.once());
+        assertThat(connection.getStatus()).isEqualTo(Status.AUTHORIZED);
+    }
+
+    @ParameterizedTest(name = "[{index}] Asynchronous authorization via {0}")
+    @EnumSource(Transport.class)
+    void sendRequestAsync_automaticAuthorizationSuccess(Transport transport, MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/auth/asyncAutoAuthSuccess" + transport;
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().transport(transport).build());
+        assertThat(connection.async().sendGET(resource).join()).isNotNull();
+        client.verify(request(resource), VerificationTimes.exactly(2));
+        client.verify(request("/login"), VerificationTimes.once());
+    }
+
+    @Test
+    void sendRequestAsync_abortAfterMaxRetryCount(MockServerClient client) {
+        final String resource = "/auth/asyncRetry";
+        client.when(request(resource), Times.exactly(3)).respond(createUnauthorizedResponse());
+        CompletionException exception = catchThrowableOfType(() -> con.async().sendGET(resource).join(),
+                CompletionException.class);
+        assertThat(exception).cause().isInstanceOf(APIException.class)
+                .hasMessageContaining(ERR_MAX_RETRY_EXCEEDED, MAX_AUTHENTICATION_RETRY_COUNT);
+    }
+
+    @Test
+    void sendRequestAsync_withConfiguredExecutor_verifyExecutorIsUsed(MockServerClient client, RemoteAPI remoteAPI)
+            throws Exception {
+        final String resource = "/test/asyncExecutor";
+        client.when(request(resource)).respond(createSuccessResponse());
+        AtomicInteger tasks = new AtomicInteger();
+        Executor executor = task -> {
+            tasks.incrementAndGet();
+            new Thread(task).start();
+        };
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().executor(executor).build());
+        assertThat(connection.async().sendGET(resource).join()).isNotNull();
+        assertThat(tasks).hasPositiveValue();
+    }
+
+    @Test
+    void sendRequestAsync_viaHttpClient_verifyRequestsDoNotOccupyExecutorThreads(MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/asyncConcurrentRequests";
+        final int requests = 8;
+        client.when(request(resource)).respond(createSuccessResponse().withDelay(Delay.milliseconds(500)));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                    new APIConfigurationImpl.Builder().transport(HTTP_CLIENT).executor(executor).build());
+            long start = System.nanoTime();
+            CompletableFuture<?>[] responses = new CompletableFuture<?>[requests];
+            for (int i = 0; i < requests; i++) {
+                responses[i] = connection.async().sendGET(resource);
+            }
+            CompletableFuture.allOf(responses).join();
+            // Sending the requests one after another would take at least 4 seconds
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(2500));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void sendRequest_withVirtualThreads_verifyRequestsAreInFlightConcurrently(MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/virtualThreads";
+        final int requests = 1000;
+        client.when(request(resource)).respond(createSuccessResponse().withDelay(Delay.seconds(1)));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .transport(HTTP_CLIENT).executionMode(ExecutionMode.VIRTUAL_THREADS).build());
+        connection.sendGET(resource);       // Establish the shared HTTP/2 connection first
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<JsonNode>> responses = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                responses.add(executor.submit(() -> connection.sendGET(resource)));
+            }
+            for (Future<JsonNode> response : responses) {
+                assertThat(response.get()).isNotNull();
+            }
+        }
+        // Sending the requests one after another would take at least 1000 seconds
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(60));
+    }
+
+    @Test
+    void sendRequestAsync_withVirtualThreads_verifyResponseIsProcessedByVirtualThread(MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/asyncVirtualThread";
+        client.when(request(resource)).respond(createSuccessResponse().withDelay(Delay.milliseconds(200)));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().executionMode(ExecutionMode.VIRTUAL_THREADS).build());
+        assertThat(connection.async().sendGET(resource).thenApply(json -> Thread.currentThread().isVirtual()).join())
+                .isTrue();
+    }
+
+    @ParameterizedTest(name = "[{index}] Streaming response into reader via {0}")
+    @EnumSource(Transport.class)
+    void sendRequest_withResponseReader_verifyResponseIsStreamedIntoReader(Transport transport,
+            MockServerClient client, RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/responseReader" + transport;
+        client.when(request(resource)).respond(createSuccessResponse());
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().transport(transport).build());
+        ResponseReader<String> reader = parser -> parser.nextToken() == JsonToken.START_OBJECT
+                ? parser.nextFieldName() : null;
+        assertThat(connection.reading(reader).sendGET(resource)).isEqualTo("Success");
+        assertThat(connection.async(reader).sendGET(resource).join()).isEqualTo("Success");
+    }
+
+    @Test
+    void sendRequest_withFailingResponseReader_verifyExceptionIsPropagated(MockServerClient client) {
+        final String resource = "/test/responseReaderFailure";
+        client.when(request(resource)).respond(createSuccessResponse());
+        APIException error = new APIException("Response could not be mapped");
+        ResponseReader<String> reader = parser -> {
+            throw error;
+        };
+        assertThat(catchThrowableOfType(() -> con.reading(reader).sendGET(resource), APIException.class))
+                .isSameAs(error);
+        assertThat(catchThrowableOfType(() -> con.async(reader).sendGET(resource).join(), CompletionException.class))
+                .cause().isSameAs(error);
+    }
+
+    @Test
+    void reading_withMissingResponseReader_verifyParameterValidation() {
+        assertThatIllegalArgumentException().isThrownBy(() -> con.reading(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> con.async(null));
+    }
+
+    @ParameterizedTest(name = "[{index}] Serving cached responses via {0}")
+    @EnumSource(Transport.class)
+    void sendRequest_withResponseCache_verifyResponseIsServedFromCache(Transport transport, MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/cachedResponse" + transport;
+        ResponseCache cache = new MemoryResponseCache(1024);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().transport(transport).responseCache(cache).build());
+        JsonNode response = connection.sendGET(resource);
+        assertThat(connection.sendGET(resource)).isEqualTo(response);
+        assertThat(connection.async().sendGET(resource).join()).isEqualTo(response);
+        ResponseReader<String> reader = parser -> parser.nextToken() == JsonToken.START_OBJECT
+                ? parser.nextFieldName() : null;
+        assertThat(connection.reading(reader).sendGET(resource)).isEqualTo("Success");
+        client.verify(request(resource), VerificationTimes.once());
+        CacheStatistics statistics = cache.getStatistics();
+        assertThat(statistics.getHitCount()).isEqualTo(3);
+        assertThat(statistics.getMissCount()).isEqualTo(1);
+        assertThat(statistics.getEntryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void sendRequest_withResponseCache_verifyQueryParametersAreNormalized(MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/cachedQuery";
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().responseCache(new MemoryResponseCache(1024)).build());
+        connection.sendGET(resource + "?meta=translations&short=true");
+        connection.sendGET(resource + "?short=true&meta=translations");
+        connection.sendGET(resource + "?short=false&meta=translations");
+        client.verify(request(resource), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void sendRequest_withResponseCache_verifyLanguageIsPartOfCacheKey(MockServerClient client, RemoteAPI remoteAPI)
+            throws Exception {
+        final String resource = "/test/cachedLanguage";
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().responseCache(new MemoryResponseCache(1024)).build());
+        connection.setToken("Header.Payload.Signature");
+        connection.setStatus(Status.AUTHORIZED);
+        connection.sendGET(resource);
+        connection.setLanguage("deu");
+        connection.sendGET(resource);
+        connection.sendGET(resource);
+        client.verify(request(resource), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void sendRequest_withResponseCache_verifyOnlyGetRequestsAreCached(MockServerClient client, RemoteAPI remoteAPI)
+            throws Exception {
+        final String resource = "/test/cachedPost";
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .responseCache(new MemoryResponseCache(1024)).cachePolicy(key -> Duration.ofHours(1)).build());
+        connection.sendPOST(resource, JSON_DATA);
+        connection.sendPOST(resource, JSON_DATA);
+        connection.async().sendPOST(resource, JSON_DATA).join();
+        client.verify(request(resource), VerificationTimes.exactly(3));
+    }
+
+    @Test
+    void sendRequest_withResponseCache_verifyCachePolicyIsApplied(MockServerClient client, RemoteAPI remoteAPI)
+            throws Exception {
+        final String resource = "/test/uncached";
+        ResponseCache cache = new MemoryResponseCache(1024);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .responseCache(cache).cachePolicy(key -> Duration.ZERO).build());
+        connection.sendGET(resource);
+        connection.async().sendGET(resource).join();
+        client.verify(request(resource), VerificationTimes.exactly(2));
+        assertThat(cache.getStatistics().getEntryCount()).isZero();
+    }
+
+    @Test
+    void sendRequest_withResponseCache_verifyErrorResponsesAreNotCached(MockServerClient client, RemoteAPI remoteAPI)
+            throws Exception {
+        final String resource = "/test/cachedError";
+        client.when(request(resource), Times.once()).respond(createResponse(NOT_FOUND_404, JSON_DATA));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().responseCache(new MemoryResponseCache(1024)).build());
+        assertThat(catchThrowableOfType(() -> connection.sendGET(resource), APIException.class)).isNotNull();
+        assertThat(connection.sendGET(resource)).isNotNull();
+        assertThat(connection.sendGET(resource)).isNotNull();
+        client.verify(request(resource), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void sendRequest_withPersistentResponseCache_verifyResponsesSurviveRestart(MockServerClient client,
+            RemoteAPI remoteAPI, @TempDir Path directory) throws Exception {
+        final String resource = "/test/persistentCache";
+        JsonNode response;
+        try (DiskResponseCache cache = new DiskResponseCache(directory, 4096)) {
+            response = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                    new APIConfigurationImpl.Builder().responseCache(cache).build()).sendGET(resource);
+        }
+        try (TieredResponseCache cache = new TieredResponseCache(new MemoryResponseCache(1024),
+                new DiskResponseCache(directory, 4096))) {
+            APIConnection restarted = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                    new APIConfigurationImpl.Builder().responseCache(cache).build());
+            assertThat(restarted.sendGET(resource)).isEqualTo(response);
+            assertThat(restarted.async().sendGET(resource).join()).isEqualTo(response);
+        }
+        client.verify(request(resource), VerificationTimes.once());
+    }
+
+    @ParameterizedTest(name = "[{index}] Revalidating expired responses via {0}")
+    @EnumSource(Transport.class)
+    void sendRequest_withExpiredResponse_verifyResponseIsRevalidated(Transport transport, MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/revalidatedResponse" + transport;
+        final String eTag = "\"v1\"";
+        final String lastModified = "Sat, 01 Jan 2022 00:00:00 GMT";
+        client.when(request(resource).withHeader(IF_NONE_MATCH, eTag).withHeader(IF_MODIFIED_SINCE, lastModified))
+                .respond(createResponse(NOT_MODIFIED_304, ""));
+        client.when(request(resource), Times.once())
+                .respond(createSuccessResponse().withHeader(ETAG, eTag).withHeader(LAST_MODIFIED, lastModified));
+        ResponseCache cache = new MemoryResponseCache(1024);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .transport(transport).responseCache(cache).cachePolicy(key -> Duration.ofMillis(1)).build());
+        JsonNode response = connection.sendGET(resource);
+        Thread.sleep(5);
+        assertThat(connection.sendGET(resource)).isEqualTo(response);
+        Thread.sleep(5);
+        assertThat(connection.async().sendGET(resource).join()).isEqualTo(response);
+        client.verify(request(resource), VerificationTimes.exactly(3));
+        client.verify(request(resource).withHeader(IF_NONE_MATCH, eTag), VerificationTimes.exactly(2));
+        assertThat(cache.getStatistics().getRevalidationCount()).isEqualTo(2);
+    }
+
+    @Test
+    void sendRequest_withResponseWithoutValidators_verifyExpiredResponseIsRequestedAgain(MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/unvalidatedResponse";
+        ResponseCache cache = new MemoryResponseCache(1024);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .responseCache(cache).cachePolicy(key -> Duration.ofMillis(1)).build());
+        connection.sendGET(resource);
+        Thread.sleep(5);
+        connection.sendGET(resource);
+        client.verify(request(resource).withHeader(IF_NONE_MATCH), VerificationTimes.never());
+        client.verify(request(resource), VerificationTimes.exactly(2));
+        assertThat(cache.getStatistics().getRevalidationCount()).isZero();
+    }
+
+    @ParameterizedTest(name = "[{index}] Rate limiting requests sent via {0}")
+    @EnumSource(Transport.class)
+    void sendRequest_withRateLimiter_verifyLimiterIsNotifiedAboutSuccess(Transport transport, MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/rateLimited" + transport;
+        RecordingRateLimiter limiter = new RecordingRateLimiter(Duration.ofMillis(20));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .transport(transport).rateLimiter(limiter).build());
+        assertThat(connection.sendGET(resource)).isNotNull();
+        assertThat(connection.async().sendGET(resource).join()).isNotNull();
+        assertThat(limiter.reservations).hasValue(2);
+        assertThat(limiter.successes).hasValue(2);
+        assertThat(limiter.throttles).isEmpty();
+        client.verify(request(resource), VerificationTimes.exactly(2));
+    }
+
+    @ParameterizedTest(name = "[{index}] Throttling of requests sent via {0}")
+    @EnumSource(Transport.class)
+    void sendRequest_withRateLimiter_verifyLimiterIsNotifiedAboutThrottling(Transport transport,
+            MockServerClient client, RemoteAPI remoteAPI) {
+        final String resource = "/test/throttled" + transport;
+        client.when(request(resource))
+                .respond(createResponse(SERVICE_UNAVAILABLE_503, "").withHeader(RETRY_AFTER, "3"));
+        RecordingRateLimiter limiter = new RecordingRateLimiter(Duration.ZERO);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .transport(transport).rateLimiter(limiter).build());
+        assertThat(catchThrowableOfType(() -> connection.sendGET(resource), APIThrottledException.class)).isNotNull();
+        CompletionException exception = catchThrowableOfType(() -> connection.async().sendGET(resource).join(),
+                CompletionException.class);
+        assertThat(exception).cause().isInstanceOf(APIThrottledException.class);
+        assertThat(limiter.successes).hasValue(0);
+        assertThat(limiter.throttles).containsExactly(Duration.ofSeconds(3), Duration.ofSeconds(3));
+    }
+
+    @ParameterizedTest(name = "[{index}] Retrying failed requests sent via {0}")
+    @EnumSource(Transport.class)
+    void sendRequest_withRetryPolicy_verifyTransientErrorsAreRetried(Transport transport, MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/retried" + transport;
+        client.when(request(resource + "Sync"), Times.once()).respond(createResponse(SERVICE_UNAVAILABLE_503, ""));
+        client.when(request(resource + "Async"), Times.once()).respond(createResponse(BAD_GATEWAY_502, ""));
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(10), 0.1);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .transport(transport).retryPolicy(policy).build());
+        assertThat(connection.sendGET(resource + "Sync")).isNotNull();
+        assertThat(connection.async().sendGET(resource + "Async").join()).isNotNull();
+        client.verify(request(resource + "Sync"), VerificationTimes.exactly(2));
+        client.verify(request(resource + "Async"), VerificationTimes.exactly(2));
+        assertThat(policy.getStatistics().getRequestCount()).isEqualTo(2);
+        assertThat(policy.getStatistics().getRetryCount()).isEqualTo(2);
+    }
+
+    @Test
+    void sendRequest_withRetryPolicy_verifyRetriesAreLimitedByPolicy(MockServerClient client, RemoteAPI remoteAPI) {
+        final String resource = "/test/retriedUnavailable";
+        client.when(request(resource)).respond(createResponse(SERVICE_UNAVAILABLE_503, ""));
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(2, Duration.ofMillis(1), Duration.ofMillis(10), 0.1);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().retryPolicy(policy).build());
+        assertThat(catchThrowableOfType(() -> connection.sendGET(resource), APIThrottledException.class)).isNotNull();
+        client.verify(request(resource), VerificationTimes.exactly(3));
+    }
+
+    @Test
+    void sendRequest_withRetryPolicy_verifyNonIdempotentRequestsAreNotRetried(MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String resource = "/test/retriedPost";
+        client.when(request(resource)).respond(createResponse(SERVICE_UNAVAILABLE_503, ""));
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(10), 0.1);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().retryPolicy(policy).build());
+        assertThat(catchThrowableOfType(() -> connection.sendPOST(resource, JSON_DATA),
+                APICommunicationException.class)).isNotNull();
+        CompletionException exception = catchThrowableOfType(
+                () -> connection.async().sendPOST(resource, JSON_DATA).join(), CompletionException.class);
+        assertThat(exception).cause().isInstanceOf(APICommunicationException.class);
+        client.verify(request(resource), VerificationTimes.exactly(2));
+        assertThat(policy.getStatistics().getRequestCount()).isZero();
+    }
+
+    @Test
+    void sendRequest_withRetryPolicy_verifyPermanentErrorsAreNotRetried(MockServerClient client, RemoteAPI remoteAPI) {
+        final String resource = "/test/retriedNotFound";
+        client.when(request(resource)).respond(createResponse(NOT_FOUND_404, JSON_DATA));
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(10), 0.1);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().retryPolicy(policy).build());
+        assertThat(catchThrowableOfType(() -> connection.sendGET(resource), APIException.class)).isNotNull();
+        client.verify(request(resource), VerificationTimes.once());
+        assertThat(policy.getStatistics().getRetryCount()).isZero();
+    }
+
+    @Test
+    void sendRequest_withRetryPolicy_verifyClientErrorsAreNotRetried(MockServerClient client, RemoteAPI remoteAPI) {
+        final String resource = "/test/retriedBadRequest";
+        client.when(request(resource)).respond(createResponse(BAD_REQUEST_400, JSON_DATA));
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(10), 0.1);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().retryPolicy(policy).build());
+        assertThat(catchThrowableOfType(() -> connection.sendGET(resource), APICommunicationException.class))
+                .isNotNull();
+        client.verify(request(resource), VerificationTimes.once());
+        assertThat(policy.getStatistics().getRetryCount()).isZero();
+    }
+
+    @ParameterizedTest(name = "[{index}] Circuit breaking requests sent via {0}")
+    @EnumSource(Transport.class)
+    void sendRequest_withCircuitBreaker_verifyOpenCircuitFailsFast(Transport transport, MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String family = "/breaker" + transport;
+        client.when(request(family + "/unavailable")).respond(createResponse(SERVICE_UNAVAILABLE_503, ""));
+        List<CircuitState> transitions = Collections.synchronizedList(new ArrayList<>());
+        CircuitBreaker breaker = new ConsecutiveFailuresCircuitBreaker(2, Duration.ofMinutes(1), 1,
+                (route, from, to) -> transitions.add(to));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .transport(transport).circuitBreaker(breaker).build());
+        assertThat(catchThrowableOfType(() -> connection.sendGET(family + "/unavailable"), APIThrottledException.class))
+                .isNotNull();
+        CompletionException exception = catchThrowableOfType(
+                () -> connection.async().sendGET(family + "/unavailable").join(), CompletionException.class);
+        assertThat(exception).cause().isInstanceOf(APIThrottledException.class);
+        assertThat(breaker.getState(family)).isEqualTo(CircuitState.OPEN);
+        assertThat(catchThrowableOfType(() -> connection.sendGET(family + "/other"), APICircuitOpenException.class))
+                .hasMessageContaining(family);
+        exception = catchThrowableOfType(() -> connection.async().sendGET(family + "/other").join(),
+                CompletionException.class);
+        assertThat(exception).cause().isInstanceOf(APICircuitOpenException.class);
+        assertThat(transitions).containsExactly(CircuitState.OPEN);
+        client.verify(request(family + "/unavailable"), VerificationTimes.exactly(2));
+        client.verify(request(family + "/other"), VerificationTimes.never());
+    }
+
+    @Test
+    void sendRequest_withCircuitBreaker_verifyRegularErrorsDoNotOpenCircuit(MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String family = "/breakerNotFound";
+        client.when(request(family + "/missing")).respond(createResponse(NOT_FOUND_404, JSON_DATA));
+        CircuitBreaker breaker = new ConsecutiveFailuresCircuitBreaker(1, Duration.ofMinutes(1), 1, null);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().circuitBreaker(breaker).build());
+        assertThat(catchThrowableOfType(() -> connection.sendGET(family + "/missing"), APIException.class)).isNotNull();
+        assertThat(breaker.getState(family)).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void sendRequest_withCircuitBreaker_verifyClientErrorsDoNotOpenCircuit(MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String family = "/breakerClientError";
+        client.when(request(family + "/invalid")).respond(createResponse(BAD_REQUEST_400, JSON_DATA));
+        client.when(request(family + "/forbidden")).respond(createResponse(FORBIDDEN_403, JSON_DATA));
+        CircuitBreaker breaker = new ConsecutiveFailuresCircuitBreaker(1, Duration.ofMinutes(1), 1, null);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().circuitBreaker(breaker).build());
+        assertThat(catchThrowableOfType(() -> connection.sendGET(family + "/invalid"), APIException.class)).isNotNull();
+        assertThat(catchThrowableOfType(() -> connection.sendGET(family + "/forbidden"), APIException.class))
+                .isNotNull();
+        assertThat(breaker.getState(family)).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void sendRequest_withCircuitBreaker_verifyExpiredProbesDoNotChangeCircuit(MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String family = "/breakerExpired";
+        client.when(request(family + "/unavailable")).respond(createResponse(SERVICE_UNAVAILABLE_503, ""));
+        client.when(request(family + "/slow")).respond(createSuccessResponse().withDelay(Delay.seconds(2)));
+        CircuitBreaker breaker = new ConsecutiveFailuresCircuitBreaker(1, Duration.ofMillis(10), 1, null);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .circuitBreaker(breaker).callTimeout(Duration.ofMillis(200)).build());
+        assertThat(catchThrowableOfType(() -> connection.sendGET(family + "/unavailable"), APIThrottledException.class))
+                .isNotNull();
+        Thread.sleep(20);
+        assertThat(catchThrowableOfType(() -> connection.sendGET(family + "/slow"), APITimeoutException.class))
+                .isNotNull();
+        CompletionException exception = catchThrowableOfType(() -> connection.async().sendGET(family + "/slow").join(),
+                CompletionException.class);
+        assertThat(exception).cause().isInstanceOf(APITimeoutException.class);
+        assertThat(breaker.getState(family)).isEqualTo(CircuitState.HALF_OPEN);
+    }
+
+    @Test
+    void sendRequest_withCircuitBreaker_verifyCrashedProbesDoNotCloseCircuit(MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String family = "/breakerProbe";
+        client.when(request(family + "/unavailable")).respond(createResponse(SERVICE_UNAVAILABLE_503, ""));
+        client.when(request(family + "/available")).respond(createSuccessResponse());
+        CircuitBreaker breaker = new ConsecutiveFailuresCircuitBreaker(1, Duration.ofMillis(10), 1, null);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().circuitBreaker(breaker).build());
+        assertThat(catchThrowableOfType(() -> connection.sendGET(family + "/unavailable"), APIThrottledException.class))
+                .isNotNull();
+        Thread.sleep(20);
+        ResponseReader<String> reader = parser -> {
+            throw new IllegalStateException("Response reader crashed");
+        };
+        assertThat(catchThrowableOfType(() -> connection.reading(reader).sendGET(family + "/available"),
+                IllegalStateException.class)).isNotNull();
+        assertThat(catchThrowableOfType(() -> connection.async(reader).sendGET(family + "/available").join(),
+                CompletionException.class)).cause().isInstanceOf(IllegalStateException.class);
+        assertThat(breaker.getState(family)).isEqualTo(CircuitState.HALF_OPEN);
+        connection.sendGET(family + "/available");
+        assertThat(breaker.getState(family)).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void sendRequest_withCircuitBreakerAndRetryPolicy_verifyRejectedRequestsAreNotRetried(MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String family = "/breakerRetried";
+        client.when(request(family + "/unavailable")).respond(createResponse(SERVICE_UNAVAILABLE_503, ""));
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(5, Duration.ofMillis(1), Duration.ofMillis(10), 0.1);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .retryPolicy(policy).circuitBreaker(new ConsecutiveFailuresCircuitBreaker(2, Duration.ofMinutes(1), 1,
+                        null)).build());
+        assertThat(catchThrowableOfType(() -> connection.sendGET(family + "/unavailable"),
+                APICircuitOpenException.class)).isNotNull();
+        client.verify(request(family + "/unavailable"), VerificationTimes.exactly(2));
+        assertThat(policy.getStatistics().getRetryCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest(name = "[{index}] Hedging slow requests sent via {0}")
+    @EnumSource(Transport.class)
+    void sendRequest_withHedgingPolicy_verifySlowRequestsAreHedged(Transport transport, MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/hedged" + transport;
+        client.when(request(resource + "Sync"), Times.once())
+                .respond(createSuccessResponse().withDelay(Delay.seconds(5)));
+        client.when(request(resource + "Async"), Times.once())
+                .respond(createSuccessResponse().withDelay(Delay.seconds(5)));
+        HedgingPolicy policy = new PercentileHedgingPolicy(0.5, 10, 0.1);
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().transport(transport).hedgingPolicy(policy)
+                .build();
+        // Separate connections, as the mock server closes the whole connection when an HTTP/2 stream is cancelled
+        APIConnection syncConnection = new APIConnection(CONTRACT_APIKEY, remoteAPI, configuration);
+        APIConnection asyncConnection = new APIConnection(CONTRACT_APIKEY, remoteAPI, configuration);
+        for (int i = 0; i < 5; i++) {
+            syncConnection.sendGET(resource + "Warmup");
+            asyncConnection.sendGET(resource + "Warmup");
+        }
+        long start = System.nanoTime();
+        assertThat(syncConnection.sendGET(resource + "Sync")).isNotNull();
+        assertThat(asyncConnection.async().sendGET(resource + "Async").join()).isNotNull();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        client.verify(request(resource + "Sync"), VerificationTimes.exactly(2));
+        client.verify(request(resource + "Async"), VerificationTimes.exactly(2));
+        assertThat(policy.getStatistics().getRequestCount()).isEqualTo(12);
+        assertThat(policy.getStatistics().getHedgeCount()).isEqualTo(2);
+        assertThat(policy.getStatistics().getHedgeWinCount()).isEqualTo(2);
+    }
+
+    @Test
+    void sendRequest_withHedgingPolicy_verifyLatencyIsMeasuredFromOriginalRequest(MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/hedgedLatency";
+        client.when(request(resource), Times.once()).respond(createSuccessResponse().withDelay(Delay.seconds(2)));
+        client.when(request(resource)).respond(createSuccessResponse());
+        RecordingHedgingPolicy policy = new RecordingHedgingPolicy(Duration.ofMillis(300));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().hedgingPolicy(policy).build());
+        connection.sendGET(resource + "Warmup");
+        policy.responses.clear();
+        assertThat(connection.sendGET(resource)).isNotNull();
+        assertThat(policy.responses).filteredOn(Map.Entry::getValue).singleElement()
+                .satisfies(response -> assertThat(response.getKey()).isGreaterThanOrEqualTo(Duration.ofMillis(300)));
+    }
+
+    @Test
+    void sendRequest_withHedgingPolicy_verifyConclusiveErrorsAreNotHedged(MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String resource = "/test/hedgedNotFound";
+        client.when(request(resource)).respond(createResponse(NOT_FOUND_404, JSON_DATA));
+        HedgingPolicy policy = new PercentileHedgingPolicy(0.5, 10, 0.1);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().hedgingPolicy(policy).build());
+        assertThat(catchThrowableOfType(() -> connection.sendGET(resource), APIException.class)).isNotNull();
+        client.verify(request(resource), VerificationTimes.once());
+        assertThat(policy.getStatistics().getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void sendRequest_withHedgingPolicy_verifyOnlyGetRequestsAreHedged(MockServerClient client, RemoteAPI remoteAPI)
+            throws Exception {
+        final String resource = "/test/hedgedPost";
+        HedgingPolicy policy = new PercentileHedgingPolicy(0.5, 10, 0.1);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().hedgingPolicy(policy).build());
+        assertThat(connection.sendPOST(resource, JSON_DATA)).isNotNull();
+        assertThat(connection.async().sendHEAD(resource).join()).isNotNull();
+        client.verify(request(resource), VerificationTimes.exactly(2));
+        assertThat(policy.getStatistics().getRequestCount()).isZero();
+    }
+
+    @ParameterizedTest(name = "[{index}] Coalescing identical requests sent via {0}")
+    @EnumSource(Transport.class)
+    void sendRequest_withRequestCoalescing_verifyIdenticalRequestsAreSentOnce(Transport transport,
+            MockServerClient client, RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/coalesced" + transport;
+        final int requests = 8;
+        client.when(request(resource)).respond(createSuccessResponse().withDelay(Delay.milliseconds(500)));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .transport(transport).isCoalescingRequests(true).build());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        List<JsonNode> results = new ArrayList<>();
+        try {
+            List<Callable<JsonNode>> tasks = Collections.nCopies(requests, () -> {
+                start.await();
+                return connection.sendGET(resource);
+            });
+            List<Future<JsonNode>> responses = tasks.stream().map(executor::submit).collect(Collectors.toList());
+            start.countDown();
+            CompletableFuture<JsonNode> asyncResponse = connection.async().sendGET(resource);
+            for (Future<JsonNode> response : responses) {
+                results.add(response.get());
+            }
+            results.add(asyncResponse.join());
+        } finally {
+            executor.shutdownNow();
+        }
+        JsonNode first = results.get(0);
+        assertThat(first).isNotNull();
+        assertThat(results.subList(1, results.size()))
+                .allSatisfy(result -> assertThat(result).isEqualTo(first).isNotSameAs(first));
+        client.verify(request(resource), VerificationTimes.once());
+    }
+
+    @Test
+    void sendRequest_withRequestCoalescing_verifyErrorsAreShared(MockServerClient client, RemoteAPI remoteAPI)
+            throws Exception {
+        final String resource = "/test/coalescedNotFound";
+        client.when(request(resource))
+                .respond(createResponse(NOT_FOUND_404, JSON_DATA).withDelay(Delay.milliseconds(500)));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().isCoalescingRequests(true).build());
+        CompletableFuture<JsonNode> leader = connection.async().sendGET(resource);
+        CompletableFuture<JsonNode> follower = connection.async().sendGET(resource);
+        assertThat(catchThrowableOfType(leader::join, CompletionException.class)).cause()
+                .isInstanceOf(APIException.class);
+        assertThat(catchThrowableOfType(follower::join, CompletionException.class)).cause()
+                .isInstanceOf(APIException.class);
+        client.verify(request(resource), VerificationTimes.once());
+    }
+
+    @Test
+    void sendRequest_withRequestCoalescing_verifyFollowersOutliveLeaderDeadline(MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/coalescedDeadline";
+        client.when(request(resource)).respond(createSuccessResponse().withDelay(Delay.milliseconds(500)));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().isCoalescingRequests(true).build());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<JsonNode> leader = executor.submit(() -> connection.timed(Duration.ofMillis(200)).sendGET(resource));
+            Thread.sleep(50);
+            assertThat(connection.sendGET(resource)).isNotNull();
+            assertThat(catchThrowableOfType(leader::get, ExecutionException.class)).cause()
+                    .isInstanceOf(APITimeoutException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+        CompletableFuture<JsonNode> leader = connection.async(APIRequest.JSON_TREE, Duration.ofMillis(200))
+                .sendGET(resource);
+        Thread.sleep(50);
+        CompletableFuture<JsonNode> follower = connection.async().sendGET(resource);
+        assertThat(catchThrowableOfType(leader::join, CompletionException.class)).cause()
+                .isInstanceOf(APITimeoutException.class);
+        assertThat(follower.join()).isNotNull();
+    }
+
+    @Test
+    void sendRequest_withRequestCoalescing_verifySubsequentRequestsAreSentAgain(MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/coalescedSubsequent";
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().isCoalescingRequests(true).build());
+        assertThat(connection.sendGET(resource)).isNotNull();
+        assertThat(connection.async().sendGET(resource).join()).isNotNull();
+        client.verify(request(resource), VerificationTimes.exactly(2));
+    }
+
+    @ParameterizedTest(name = "[{index}] Failing over requests sent via {0}")
+    @EnumSource(Transport.class)
+    void sendRequest_withEndpointGroup_verifyIdempotentRequestsFailOverToAnotherEndpoint(Transport transport,
+            MockServerClient client, RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/failover" + transport;
+        RemoteAPI unreachable = new RemoteAPI.Builder().protocol("https").host("localhost").port(1).build();
+        EndpointGroup group = new HealthCheckedEndpointGroup(List.of(unreachable, remoteAPI), ROUND_ROBIN, 1,
+                Duration.ofMinutes(1));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .transport(transport).endpointGroup(group).build());
+        assertThat(connection.sendGET(resource)).isNotNull();
+        assertThat(connection.async().sendGET(resource).join()).isNotNull();
+        client.verify(request(resource), VerificationTimes.exactly(2));
+        assertThat(group.getStatistics()).satisfiesExactly(
+                stats -> {
+                    assertThat(stats.getFailureCount()).isEqualTo(1);
+                    assertThat(stats.isAvailable()).isFalse();
+                },
+                stats -> {
+                    assertThat(stats.getRequestCount()).isEqualTo(2);
+                    assertThat(stats.getLatency()).isPresent();
+                });
+    }
+
+    @Test
+    void sendRequest_withEndpointGroup_verifyNonIdempotentRequestsDoNotFailOver(MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String resource = "/test/failoverPost";
+        RemoteAPI unreachable = new RemoteAPI.Builder().protocol("https").host("localhost").port(1).build();
+        EndpointGroup group = new HealthCheckedEndpointGroup(List.of(unreachable, remoteAPI), ROUND_ROBIN, 3,
+                Duration.ofMinutes(1));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().endpointGroup(group).build());
+        assertThat(catchThrowableOfType(() -> connection.sendPOST(resource, JSON_DATA),
+                APICommunicationException.class)).isNotNull();
+        client.verify(request(resource), VerificationTimes.never());
+        assertThat(group.getStatistics().get(0).getFailureCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest(name = "[{index}] Read timeout of requests sent via {0}")
+    @EnumSource(Transport.class)
+    void sendRequest_withReadTimeout_verifySlowResponsesTimeOut(Transport transport, MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String resource = "/test/readTimeout" + transport;
+        client.when(request(resource)).respond(createSuccessResponse().withDelay(Delay.seconds(2)));
+        APIConfiguration config = new APIConfigurationImpl.Builder().transport(transport)
+                .readTimeout(Duration.ofMillis(200)).build();
+        assertThat(catchThrowableOfType(() -> new APIConnection(CONTRACT_APIKEY, remoteAPI, config).sendGET(resource),
+                APITimeoutException.class)).isNotNull();
+        CompletionException exception = catchThrowableOfType(
+                () -> new APIConnection(CONTRACT_APIKEY, remoteAPI, config).async().sendGET(resource).join(),
+                CompletionException.class);
+        assertThat(exception).cause().isInstanceOf(APITimeoutException.class);
+    }
+
+    @ParameterizedTest(name = "[{index}] Call timeout limiting requests sent via {0}")
+    @EnumSource(Transport.class)
+    void sendRequest_withCallTimeout_verifySlowResponsesTimeOut(Transport transport, MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String resource = "/test/callTimeout" + transport;
+        client.when(request(resource)).respond(createSuccessResponse().withDelay(Delay.seconds(2)));
+        APIConfiguration config = new APIConfigurationImpl.Builder().transport(transport)
+                .readTimeout(Duration.ofMinutes(1)).callTimeout(Duration.ofMillis(200)).build();
+        assertThat(catchThrowableOfType(() -> new APIConnection(CONTRACT_APIKEY, remoteAPI, config).sendGET(resource),
+                APITimeoutException.class)).isNotNull();
+        CompletionException exception = catchThrowableOfType(
+                () -> new APIConnection(CONTRACT_APIKEY, remoteAPI, config).async().sendGET(resource).join(),
+                CompletionException.class);
+        assertThat(exception).cause().isInstanceOf(APITimeoutException.class);
+    }
+
+    @Test
+    void sendRequest_withCallTimeout_verifyRetriesExceedingDeadlineAreNotAwaited(MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String resource = "/test/callTimeoutRetried";
+        client.when(request(resource)).respond(createResponse(SERVICE_UNAVAILABLE_503, ""));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .retryPolicy(new FixedDelayRetryPolicy(Duration.ofSeconds(5))).callTimeout(Duration.ofSeconds(2))
+                .build());
+        long start = System.nanoTime();
+        assertThat(catchThrowableOfType(() -> connection.sendGET(resource), APITimeoutException.class)).isNotNull();
+        CompletionException exception = catchThrowableOfType(() -> connection.async().sendGET(resource).join(),
+                CompletionException.class);
+        assertThat(exception).cause().isInstanceOf(APITimeoutException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        client.verify(request(resource), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void sendRequest_withCallTimeoutAndRetryPolicy_verifyExpiredCallsDoNotConsumeRetries(MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String resource = "/test/callTimeoutExpired";
+        client.when(request(resource)).respond(createSuccessResponse().withDelay(Delay.seconds(2)));
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(10), 0.1);
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .retryPolicy(policy).callTimeout(Duration.ofMillis(200)).build());
+        assertThat(catchThrowableOfType(() -> connection.sendGET(resource), APITimeoutException.class)).isNotNull();
+        CompletionException exception = catchThrowableOfType(() -> connection.async().sendGET(resource).join(),
+                CompletionException.class);
+        assertThat(exception).cause().isInstanceOf(APITimeoutException.class);
+        assertThat(policy.getStatistics().getRequestCount()).isEqualTo(2);
+        assertThat(policy.getStatistics().getRetryCount()).isZero();
+    }
+
+    @ParameterizedTest(name = "[{index}] Metrics of requests sent via {0} are recorded per route")
+    @EnumSource(Transport.class)
+    void sendRequest_withMetricsRecorder_verifyMetricsAreRecordedPerRoute(Transport transport,
+            MockServerClient client, RemoteAPI remoteAPI) throws Exception {
+        final String family = "/test/metrics" + transport;
+        client.when(request(family + "/4711")).respond(createSuccessResponse());
+        client.when(request(family + "/missing")).respond(createResponse(NOT_FOUND_404, JSON_DATA));
+        MetricsRecorder recorder = new HistogramMetricsRecorder();
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().transport(transport).metricsRecorder(recorder).build());
+        connection.sendGET(family + "/4711");
+        connection.async().sendGET(family + "/4711").join();
+        assertThat(catchThrowableOfType(() -> connection.sendGET(family + "/missing"), APIException.class))
+                .isNotNull();
+        assertThat(recorder.getStatistics()).extracting(RouteStatistics::getRoute)
+                .containsExactly(family + "/missing", family + "/{id}");
+        RouteStatistics missing = recorder.getStatistics().get(0);
+        assertThat(missing.getStatusCounts()).containsOnly(entry(404, 1L));
+        RouteStatistics found = recorder.getStatistics().get(1);
+        assertThat(found.getMethod()).isEqualTo("GET");
+        assertThat(found.getRequestCount()).isEqualTo(2);
+        assertThat(found.getStatusCounts()).containsOnly(entry(200, 2L));
+        assertThat(found.getFailureCount()).isZero();
+        assertThat(found.getTimeToFirstByte().getCount()).isEqualTo(2);
+        assertThat(found.getParseTime().getCount()).isEqualTo(2);
+        assertThat(found.getCompressedBytes()).isPositive();
+        assertThat(found.getDecompressedBytes()).isGreaterThanOrEqualTo(found.getCompressedBytes());
+    }
+
+    @ParameterizedTest(name = "[{index}] Flight recorder events of calls sent via {0} are recorded per route")
+    @EnumSource(Transport.class)
+    void sendRequest_withFlightRecording_verifyEventsAreRecordedPerRoute(Transport transport,
+            MockServerClient client, RemoteAPI remoteAPI, @TempDir Path directory) throws Exception {
+        final String family = "/auth/jfr" + transport;
+        client.when(request(family + "/missing")).respond(createResponse(NOT_FOUND_404, JSON_DATA));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().transport(transport).build());
+        Path dump = directory.resolve("exchange.jfr");
+        try (Recording recording = new Recording()) {
+            Stream.of("Exchange", "JsonParse", "Decompression", "Login").forEach(name ->
+                    recording.enable("com.github.m0nk3y2k4.thetvdb." + name).withoutThreshold());
+            recording.start();
+            connection.sendGET(family + "/4711");
+            connection.async().sendGET(family + "/4711").join();
+            assertThat(catchThrowableOfType(() -> connection.sendGET(family + "/missing"), APIException.class))
+                    .isNotNull();
+            recording.stop();
+            recording.dump(dump);
+        }
+        Map<String, List<RecordedEvent>> events = RecordingFile.readAllEvents(dump).stream()
+                .collect(Collectors.groupingBy(event -> event.getEventType().getLabel()));
+        assertThat(events.get("TheTVDB Login")).hasSize(1).first().satisfies(login -> {
+            assertThat(login.getString("route")).isEqualTo("/login");
+            assertThat(login.getBoolean("renewal")).isFalse();
+            assertThat(login.getString("outcome")).isEqualTo("success");
+        });
+        assertThat(events.get("TheTVDB Exchange")).filteredOn(event -> !"/login".equals(event.getString("route")))
+                .extracting(event -> event.getString("route") + " " + event.getInt("statusCode") + " "
+                        + event.getString("outcome"))
+                .containsExactlyInAnyOrder(family + "/{id} 401 failure", family + "/{id} 200 success",
+                        family + "/{id} 200 success", family + "/missing 404 failure");
+        assertThat(events.get("TheTVDB Exchange")).filteredOn(event -> event.getInt("statusCode") == 200)
+                .allSatisfy(exchange -> assertThat(exchange.getLong("compressedBytes")).isPositive());
+        assertThat(events.get("TheTVDB JSON Parsing")).filteredOn(event -> "success".equals(event.getString("outcome")))
+                .extracting(event -> event.getString("route")).contains(family + "/{id}")
+                .hasSizeGreaterThanOrEqualTo(2);
+    }
+
+    @ParameterizedTest(name = "[{index}] Lifecycle events of calls sent via {0} including a login")
+    @EnumSource(Transport.class)
+    void sendRequest_withEventListener_verifyLifecycleEventsIncludingLogin(Transport transport,
+            MockServerClient client, RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/auth/events" + transport;
+        RecordingEventListener listener = new RecordingEventListener();
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().transport(transport).eventListener(listener).build());
+        connection.sendGET(resource);
+        connection.async().sendGET(resource).join();
+        assertThat(listener.calls).containsExactly("GET " + resource, "POST /login", "GET " + resource);
+        assertThat(listener.events(0)).containsExactly("connection", "headers 401", "login", "connection",
+                "headers 200", "body", "deserialized");
+        assertThat(listener.events(1)).containsExactly("connection", "headers 200", "body", "deserialized");
+        assertThat(listener.events(2)).containsExactly("connection", "headers 200", "body", "deserialized");
+    }
+
+    @ParameterizedTest(name = "[{index}] Lifecycle events of retried and failed calls sent via {0}")
+    @EnumSource(Transport.class)
+    void sendRequest_withEventListener_verifyLifecycleEventsOfRetriesAndFailures(Transport transport,
+            MockServerClient client, RemoteAPI remoteAPI) throws Exception {
+        final String family = "/test/events" + transport;
+        client.when(request(family + "/retried"), Times.once()).respond(createResponse(SERVICE_UNAVAILABLE_503, ""));
+        client.when(request(family + "/retried")).respond(createSuccessResponse());
+        client.when(request(family + "/missing")).respond(createResponse(NOT_FOUND_404, JSON_DATA));
+        RecordingEventListener listener = new RecordingEventListener();
+        APIConnection retrying = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .transport(transport).eventListener(listener)
+                .retryPolicy(new FixedDelayRetryPolicy(Duration.ofMillis(10))).build());
+        retrying.async().sendGET(family + "/retried").join();
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().transport(transport).eventListener(listener).build());
+        assertThat(catchThrowableOfType(() -> connection.sendGET(family + "/missing"), APIException.class))
+                .isNotNull();
+        assertThat(listener.calls).containsExactly("GET " + family + "/retried", "GET " + family + "/missing");
+        assertThat(listener.events(0)).containsExactly("connection", "headers 503", "retry 1 PT0.01S",
+                "connection", "headers 200", "body", "deserialized");
+        assertThat(listener.events(1)).containsExactly("connection", "headers 404", "failure APIException");
+    }
+
+    @Test
+    void sendRequest_withCallTimeout_verifyPermitsExceedingDeadlineAreNotAwaited(MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String resource = "/test/callTimeoutThrottled";
+        RecordingRateLimiter limiter = new RecordingRateLimiter(Duration.ofSeconds(5));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .rateLimiter(limiter).callTimeout(Duration.ofSeconds(2)).build());
+        assertThat(catchThrowableOfType(() -> connection.sendGET(resource), APITimeoutException.class)).isNotNull();
+        CompletionException exception = catchThrowableOfType(() -> connection.async().sendGET(resource).join(),
+                CompletionException.class);
+        assertThat(exception).cause().isInstanceOf(APITimeoutException.class);
+        assertThat(limiter.reservations).hasValue(2);
+        client.verify(request(resource), VerificationTimes.never());
+    }
+
+    @Test
+    void sendRequest_withCallTimeout_verifyPermitsExceedingDeadlineAreNotReserved(MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String resource = "/test/callTimeoutPermits";
+        RateLimiter limiter = new TokenBucketRateLimiter(1, 1);
+        APIConnection limited = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .rateLimiter(limiter).callTimeout(Duration.ofMillis(200)).build());
+        limiter.reserve();
+        limiter.reserve();      // Bucket is empty, the next permit will be issued in one second
+        for (int call = 0; call < 3; call++) {
+            assertThat(catchThrowableOfType(() -> limited.sendGET(resource), APITimeoutException.class)).isNotNull();
+            CompletionException exception = catchThrowableOfType(() -> limited.async().sendGET(resource).join(),
+                    CompletionException.class);
+            assertThat(exception).cause().isInstanceOf(APITimeoutException.class);
+        }
+        assertThat(limiter.reserve()).isLessThanOrEqualTo(Duration.ofSeconds(1));
+        client.verify(request(resource), VerificationTimes.never());
+    }
+
+    @Test
+    void sendRequest_withCallTimeout_verifyLoginInheritsDeadline(MockServerClient client, RemoteAPI remoteAPI) {
+        final String resource = "/series/callTimeoutLogin";
+        client.when(request("/login"), Times.once()).respond(createJWTResponse().withDelay(Delay.seconds(2)));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .callTimeout(Duration.ofMillis(500)).build());
+        long start = System.nanoTime();
+        assertThat(catchThrowableOfType(() -> connection.sendGET(resource), APITimeoutException.class)).isNotNull();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        client.verify(request("/login"), VerificationTimes.once());
+    }
+
+    @Test
+    void sendRequest_withSenderCallTimeout_verifyConfiguredTimeoutIsOverridden(MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/senderCallTimeout";
+        client.when(request(resource)).respond(createSuccessResponse().withDelay(Delay.milliseconds(500)));
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                .callTimeout(Duration.ofMillis(200)).build());
+        assertThat(connection.timed(Duration.ofSeconds(10)).sendGET(resource)).isNotNull();
+        assertThat(connection.async(APIRequest.JSON_TREE, Duration.ofSeconds(10)).sendGET(resource).join()).isNotNull();
+        assertThat(catchThrowableOfType(() -> connection.sendGET(resource), APITimeoutException.class)).isNotNull();
+        assertThat(catchThrowableOfType(() -> connection.reading(APIRequest.JSON_TREE).sendGET(resource),
+                APITimeoutException.class)).isNotNull();
+    }
+
+    @Test
+    void timed_withInvalidCallTimeout_verifyParameterValidation() {
+        assertThatIllegalArgumentException().isThrownBy(() -> con.timed(Duration.ZERO));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> con.reading(APIRequest.JSON_TREE, Duration.ofSeconds(-1)));
+        assertThatIllegalArgumentException().isThrownBy(() -> con.async(APIRequest.JSON_TREE, null));
+    }
+
+    private static final class RecordingRateLimiter implements RateLimiter {
+
+        private final Duration delay;
+        private final AtomicInteger reservations = new AtomicInteger();
+        private final AtomicInteger successes = new AtomicInteger();
+        private final List<Duration> throttles = Collections.synchronizedList(new ArrayList<>());
+
+        private RecordingRateLimiter(Duration delay) {
+            this.delay = delay;
+        }
+
+        @Override
+        public Duration reserve() {
+            reservations.incrementAndGet();
+            return delay;
+        }
+
+        @Override
+        public void onSuccess() {
+            successes.incrementAndGet();
+        }
+
+        @Override
+        public void onThrottled(Duration retryAfter) {
+            throttles.add(retryAfter);
+        }
+
+        @Override
+        public double getRate() {
+            return 1;
+        }
+    }
+
+    private static final class RecordingHedgingPolicy implements HedgingPolicy {
+
+        private final Duration hedgeDelay;
+        private final List<Map.Entry<Duration, Boolean>> responses = new CopyOnWriteArrayList<>();
+
+        private RecordingHedgingPolicy(Duration hedgeDelay) {
+            this.hedgeDelay = hedgeDelay;
+        }
+
+        @Override
+        public void onRequest() {}
+
+        @Override
+        public Optional<Duration> getHedgeDelay(String family) {
+            return Optional.of(hedgeDelay);
+        }
+
+        @Override
+        public boolean tryHedge() {
+            return true;
+        }
+
+        @Override
+        public void onResponse(String family, Duration latency, boolean hedge) {
+            responses.add(Map.entry(latency, hedge));
+        }
+
+        @Override
+        public HedgingStatistics getStatistics() {
+            return new HedgingStatisticsImpl.Builder().requestCount(0).hedgeCount(0).hedgeWinCount(0)
+                    .budgetExhaustedCount(0).build();
+        }
+    }
+
+    private static final class RecordingEventListener implements APIEventListener {
+
+        private final List<String> calls = new CopyOnWriteArrayList<>();
+        private final Map<Long, List<String>> events = new ConcurrentHashMap<>();
+        private final List<Long> correlationIds = new CopyOnWriteArrayList<>();
+
+        private List<String> events(int call) {
+            return events.get(correlationIds.get(call));
+        }
+
+        private void record(long correlationId, String event) {
+            events.computeIfAbsent(correlationId, id -> new CopyOnWriteArrayList<>()).add(event);
+        }
+
+        @Override
+        public void onRequestStart(long correlationId, @Nonnull String method, @Nonnull String resource) {
+            correlationIds.add(correlationId);
+            calls.add(method + " " + resource);
+        }
+
+        @Override
+        public void onConnectionAcquired(long correlationId, @Nonnull String resource, @Nonnull URL url) {
+            record(correlationId, url.toString().endsWith(resource) ? "connection" : "connection " + url);
+        }
+
+        @Override
+        public void onHeadersReceived(long correlationId, @Nonnull String resource, int statusCode) {
+            record(correlationId, "headers " + statusCode);
+        }
+
+        @Override
+        public void onBodyRead(long correlationId, @Nonnull String resource) {
+            record(correlationId, "body");
+        }
+
+        @Override
+        public void onDeserialized(long correlationId, @Nonnull String resource) {
+            record(correlationId, "deserialized");
+        }
+
+        @Override
+        public void onRetry(long correlationId, @Nonnull String resource, int retry, @Nonnull Duration delay,
+                @Nonnull APIException cause) {
+            record(correlationId, "retry " + retry + " " + delay);
+        }
+
+        @Override
+        public void onLogin(long correlationId, @Nonnull String resource) {
+            record(correlationId, "login");
+        }
+
+        @Override
+        public void onFailure(long correlationId, @Nonnull String resource, @Nonnull Throwable error) {
+            record(correlationId, "failure " + error.getClass().getSimpleName());
+        }
+    }
+
+    private static final class FixedDelayRetryPolicy implements RetryPolicy {
+
+        private final Duration delay;
+
+        private FixedDelayRetryPolicy(Duration delay) {
+            this.delay = delay;
+        }
+
+        @Override
+        public void onRequest() {
+            // No statistics needed
+        }
+
+        @Override
+        public Optional<Duration> nextRetry(int retry, @Nonnull APIException error) {
+            return Optional.of(delay);
+        }
+
+        @Override
+        public RetryStatistics getStatistics() {
+            return new RetryStatisticsImpl.Builder().requestCount(0).retryCount(0).budgetExhaustedCount(0).build();
+        }
+    }
+
     @FunctionalInterface
     private interface Request {
         void send(APIConnection con) throws APIException;
@@ -22,6 +22,7 @@ import static com.github.m0nk3y2k4.thetvdb.api.exception.APIException.API_CONFLI
 import static com.github.m0nk3y2k4.thetvdb.api.exception.APIException.API_NOT_AUTHORIZED_ERROR;
 import static com.github.m0nk3y2k4.thetvdb.api.exception.APIException.API_NOT_FOUND_ERROR;
 import static com.github.m0nk3y2k4.thetvdb.api.exception.APIException.API_SERVICE_UNAVAILABLE;
+import static com.github.m0nk3y2k4.thetvdb.api.exception.APIException.API_TOO_MANY_REQUESTS_ERROR;
 import static com.github.m0nk3y2k4.thetvdb.internal.connection.APIRequest.ERR_SEND;
 import static com.github.m0nk3y2k4.thetvdb.internal.connection.APIRequest.ERR_UNEXPECTED_RESPONSE;
 import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.CONTENT_ENCODING;
@@ -49,6 +50,11 @@ import static org.mockserver.model.HttpRequest.request;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -64,6 +70,7 @@ import com.github.m0nk3y2k4.thetvdb.internal.connection.APISession.Status;
 import com.github.m0nk3y2k4.thetvdb.internal.exception.APICommunicationException;
 import com.github.m0nk3y2k4.thetvdb.internal.exception.APINotAuthorizedException;
 import com.github.m0nk3y2k4.thetvdb.internal.exception.APIPreconditionException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APIThrottledException;
 import com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders;
 import com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpRequestMethod;
 import com.github.m0nk3y2k4.thetvdb.testutils.junit.jupiter.WithHttpsMockServer;
@@ -71,6 +78,7 @@ import com.github.m0nk3y2k4.thetvdb.testutils.parameterized.NullAndEmptyStringSo
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.mockserver.client.MockServerClient;
@@ -94,7 +102,7 @@ class APIRequestTest {
                         String.format(API_BAD_METHOD_ERROR, HttpStatusCode.METHOD_NOT_ALLOWED_405.reasonPhrase())),
                 Arguments.of("/test/conflict", HttpStatusCode.CONFLICT_409, APIException.class,
                         String.format(API_CONFLICT_ERROR, HttpStatusCode.CONFLICT_409.reasonPhrase())),
-                Arguments.of("/test/unavailable", HttpStatusCode.SERVICE_UNAVAILABLE_503, APIException.class,
+                Arguments.of("/test/unavailable", HttpStatusCode.SERVICE_UNAVAILABLE_503, APIThrottledException.class,
                         API_SERVICE_UNAVAILABLE),
                 Arguments.of("/test/badGateway", HttpStatusCode.BAD_GATEWAY_502, APICommunicationException.class,
                         String.format(ERR_UNEXPECTED_RESPONSE, HttpStatusCode.BAD_GATEWAY_502.code(),
@@ -129,6 +137,24 @@ class APIRequestTest {
         assertThatIllegalArgumentException().isThrownBy(() -> new TestAPIRequest("/test/missingMethod", method));
     }
 
+    @ParameterizedTest(name = "[{index}] Resource \"{0}\" belongs to route family \"{1}\"")
+    @CsvSource({"/series,/series", "/series/1234/extended,/series", "/search?query=Dark,/search",
+            "/artwork/statuses?page=1,/artwork"})
+    void getRouteFamily_verifyFirstPathSegmentIsReturned(String resource, String family) {
+        assertThat(new TestAPIRequest(resource, GET).getRouteFamily()).isEqualTo(family);
+    }
+
+    @ParameterizedTest(name = "[{index}] Resource \"{0}\" matches route template \"{1}\"")
+    @CsvSource({"/series,/series", "/series/1234/extended,/series/{id}/extended", "/search?query=Dark,/search",
+            "/awards/categories/12,/awards/categories/{id}",
+            "/movies/95/translations/eng,/movies/{id}/translations/{language}",
+            "/series/73/episodes/default?page=1,/series/{id}/episodes/{season-type}",
+            "/series/73/episodes/dvd/deu,/series/{id}/episodes/{season-type}/{language}",
+            "/episodes/4711,/episodes/{id}", "/user/favorites,/user/favorites"})
+    void getRouteTemplate_verifyResourceSpecificSegmentsAreReplaced(String resource, String template) {
+        assertThat(new TestAPIRequest(resource, GET).getRouteTemplate()).isEqualTo(template);
+    }
+
     @Test
     void send_missingRemoteEndpoint_verifyPreconditionsCheck() {
         final APIRequest request = new TestAPIRequest("/test/missingEndpoint", GET);
@@ -237,6 +263,56 @@ class APIRequestTest {
                 .hasMessageContaining(" - Response Allow header: [DELETE, GET, POST]");
     }
 
+    @Test
+    void getResponse_respondWithHTTP429AndRetryAfterHeader_verifyRetryAfterIsProvided(MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String resource = "/test/tooManyRequestsWithRetryAfter";
+        APIRequest request = createAPIRequestWith(resource, GET, null, remoteAPI);
+        // Mock server does not provide a predefined status code for HTTP-429
+        client.when(request(resource)).respond(HttpResponse.response().withStatusCode(429)
+                .withReasonPhrase("Too Many Requests").withBody(String.format(JSON_ERROR, "Too Many Requests"))
+                .withHeader(HttpHeaders.RETRY_AFTER, "7"));
+        APIThrottledException exception = catchThrowableOfType(request::send, APIThrottledException.class);
+        assertThat(exception).hasMessageContaining(String.format(API_TOO_MANY_REQUESTS_ERROR, "Too Many Requests"));
+        assertThat(exception.getRetryAfter()).contains(Duration.ofSeconds(7));
+    }
+
+    @Test
+    void getResponse_respondWithHTTP503WithoutRetryAfterHeader_verifyNoRetryAfterIsProvided(MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String resource = "/test/unavailableWithoutRetryAfter";
+        APIRequest request = createAPIRequestWith(resource, GET, null, remoteAPI);
+        client.when(request(resource)).respond(createResponse(HttpStatusCode.SERVICE_UNAVAILABLE_503,
+                String.format(JSON_ERROR, HttpStatusCode.SERVICE_UNAVAILABLE_503.reasonPhrase())));
+        APIThrottledException exception = catchThrowableOfType(request::send, APIThrottledException.class);
+        assertThat(exception.getRetryAfter()).isEmpty();
+    }
+
+    @ParameterizedTest(name = "[{index}] Retry-After value \"{0}\" is not valid")
+    @NullAndEmptyStringSource
+    void parseRetryAfter_withoutValue_verifyNullIsReturned(String retryAfter) {
+        assertThat(APIRequest.parseRetryAfter(retryAfter)).isNull();
+    }
+
+    @Test
+    void parseRetryAfter_withInvalidValue_verifyNullIsReturned() {
+        assertThat(APIRequest.parseRetryAfter("soon")).isNull();
+    }
+
+    @Test
+    void parseRetryAfter_withDelaySeconds_verifyDurationIsReturned() {
+        assertThat(APIRequest.parseRetryAfter("120")).isEqualTo(Duration.ofMinutes(2));
+        assertThat(APIRequest.parseRetryAfter("-5")).isZero();
+    }
+
+    @Test
+    void parseRetryAfter_withHttpDate_verifyDurationUntilDateIsReturned() {
+        String future = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().plusMinutes(10));
+        String past = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().minusMinutes(10));
+        assertThat(APIRequest.parseRetryAfter(future)).isBetween(Duration.ofMinutes(9), Duration.ofMinutes(10));
+        assertThat(APIRequest.parseRetryAfter(past)).isZero();
+    }
+
     @Test
     void getResponse_respondWithoutConnectionErrorStream_verifyEmptyJsonNodeIsReturned(MockServerClient client,
             RemoteAPI remoteAPI) {
@@ -295,6 +371,130 @@ class APIRequestTest {
                 .hasMessageContaining(API_NOT_FOUND_ERROR, HttpStatusCode.NOT_FOUND_404.reasonPhrase());
     }
 
+    @Test
+    void sendViaHttpClient_missingRemoteEndpoint_verifyPreconditionsCheck() {
+        final APIRequest request = new TestAPIRequest("/test/missingEndpoint", GET);
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            assertThatExceptionOfType(APIPreconditionException.class).isThrownBy(() -> request.send(httpClient));
+        }
+    }
+
+    @Test
+    void sendViaHttpClient_withFullyInitializedSession_verifyHttpHeadersInAPIRequest(MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/httpClientRequestHeaders";
+        APISession session = new APISession(CONTRACT_APIKEY);
+        session.setStatus(Status.AUTHORIZED);
+        session.setLanguage("en");
+        session.setToken("Some.JSONWeb.Token");
+        APIRequest request = new TestAPIRequest(resource, PUT);
+        request.setRemoteAPI(remoteAPI);
+        request.setSession(session);
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            request.send(httpClient);
+        }
+        client.verify(request().withMethod(PUT.getName()).withPath(resource)
+                        .withHeaders(defaultAPIHttpHeadersWithAuthorization()),
+                VerificationTimes.exactly(1));
+    }
+
+    @Test
+    void sendViaHttpClient_withSomeRequestPreparation_verifyPreparationIsApplied(MockServerClient client,
+            RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/httpClientPrepareRequest";
+        final Header preparation = header("Prepared", "true");
+        APIRequest request = new TestAPIRequest(resource, GET) {
+            @Override
+            void prepareRequest(@Nonnull HttpRequest.Builder builder) {
+                builder.header(preparation.getName().getValue(), preparation.getValues().get(0).getValue());
+            }
+        };
+        request.setRemoteAPI(remoteAPI);
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            request.send(httpClient);
+        }
+        client.verify(request().withMethod(GET.getName()).withPath(resource)
+                        .withHeaders(defaultAPIHttpHeaders().withEntry(preparation)),
+                VerificationTimes.exactly(1));
+    }
+
+    @Test
+    void getResponseViaHttpClient_respondWithHTTP200_verifyJSONContentParsed(RemoteAPI remoteAPI) throws Exception {
+        APIRequest request = createAPIRequestWith("/test/success", GET, Status.NOT_AUTHORIZED, remoteAPI);
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            assertThat(request.send(httpClient)).hasToString(JSON_SUCCESS);
+        }
+    }
+
+    @ParameterizedTest(name = "[{index}] Code {1} is mapped into \"{2}\" with error message \"{3}\"")
+    @MethodSource("getResponse_respondWithHTTPErrorCode_verifyExceptionHandling")
+    void getResponseViaHttpClient_respondWithHTTPErrorCode_verifyExceptionHandling(String resource,
+            HttpStatusCode status, Class<?> expectedException, String expectedErrorMessage, MockServerClient client,
+            RemoteAPI remoteAPI) {
+        APIRequest request = createAPIRequestWith(resource, DELETE, Status.NOT_AUTHORIZED, remoteAPI);
+        client.when(request(resource))
+                .respond(createResponse(status, String.format(JSON_ERROR, status.reasonPhrase())));
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            Throwable exception = catchThrowable(() -> request.send(httpClient));
+            assertThat(exception).isInstanceOf(expectedException).hasMessageContaining(expectedErrorMessage);
+        }
+    }
+
+    @Test
+    void getResponseViaHttpClient_respondWithHTTP405ErrorCode_verifyAllowHeadersArePrependedToErrorMessage(
+            MockServerClient client, RemoteAPI remoteAPI) {
+        final String resource = "/test/httpClientMethodErrorWithAllowHeader";
+        APIRequest request = createAPIRequestWith(resource, PUT, null, remoteAPI);
+        client.when(request(resource)).respond(
+                createResponse(HttpStatusCode.METHOD_NOT_ALLOWED_405, String
+                        .format(JSON_ERROR, HttpStatusCode.METHOD_NOT_ALLOWED_405.reasonPhrase()))
+                        .withHeader(HttpHeaders.ALLOW, "GET", "POST", "DELETE"));
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            Throwable exception = catchThrowable(() -> request.send(httpClient));
+            assertThat(exception).isInstanceOf(APIException.class)
+                    .hasMessageContaining(" - Response Allow header: [DELETE, GET, POST]");
+        }
+    }
+
+    @Test
+    void getResponseViaHttpClient_respondWithoutBody_verifyEmptyJsonNodeIsReturned(MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String resource = "/test/httpClientNoErrorBody";
+        // Unlike the URL connection, the HTTP client provides an empty body stream rather than NULL
+        APIRequest request = createAPIRequestWith(resource, GET, null, remoteAPI);
+        client.when(request(resource)).respond(HttpResponse.response()
+                .withStatusCode(HttpStatusCode.UNAUTHORIZED_401.code()));
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            Throwable exception = catchThrowable(() -> request.send(httpClient));
+            assertThat(exception).isInstanceOf(APINotAuthorizedException.class)
+                    .hasMessageContaining(API_NOT_AUTHORIZED_ERROR, "n/a");
+        }
+    }
+
+    @Test
+    void getResponseViaHttpClient_respondHTTP200WithEncodedData_verifyDataIsDecompressedBeforeParsing(
+            MockServerClient client, RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/httpClientSuccess";
+        APIRequest request = createAPIRequestWith(resource, DELETE, Status.NOT_AUTHORIZED, remoteAPI);
+        withGzipEncodedResponse(resource, HttpStatusCode.OK_200, JSON_SUCCESS, client);
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            assertThat(request.send(httpClient)).hasToString(JSON_SUCCESS);
+        }
+    }
+
+    @Test
+    void getResponseViaHttpClient_terminateConnection_verifyExceptionHandling(MockServerClient client,
+            RemoteAPI remoteAPI) {
+        final String resource = "/test/httpClientTerminated";
+        APIRequest request = createAPIRequestWith(resource, PUT, Status.NOT_AUTHORIZED, remoteAPI);
+        client.when(request(resource)).error(error().withDropConnection(true));
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            APICommunicationException exception = catchThrowableOfType(() -> request.send(httpClient),
+                    APICommunicationException.class);
+            assertThat(exception).hasMessageContaining(ERR_SEND, PUT.getName());
+        }
+    }
+
     private static class TestAPIRequest extends APIRequest {
         private TestAPIRequest(String resource, HttpRequestMethod requestMethod) {super(resource, requestMethod);}
     }
@@ -20,15 +20,26 @@ import static com.github.m0nk3y2k4.thetvdb.internal.connection.APISession.ERR_JW
 import static com.github.m0nk3y2k4.thetvdb.internal.connection.APISession.ERR_JWT_INVALID;
 import static com.github.m0nk3y2k4.thetvdb.testutils.APITestUtil.CONTRACT_APIKEY;
 import static com.github.m0nk3y2k4.thetvdb.testutils.APITestUtil.INVALID_APIKEY;
+import static com.github.m0nk3y2k4.thetvdb.testutils.APITestUtil.SUBSCRIPTION_APIKEY;
+import static com.github.m0nk3y2k4.thetvdb.testutils.APITestUtil.jwt;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.api.token.TokenStore;
 import com.github.m0nk3y2k4.thetvdb.internal.connection.APISession.Status;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.token.FileTokenStore;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -62,6 +73,8 @@ class APISessionTest {
         assertThat(session.getLanguage()).isEqualTo("en");
         assertThat(session.getStatus()).isEqualTo(Status.NOT_AUTHORIZED);
         assertThat(session.getToken()).isEmpty();
+        assertThat(session.getTokenExpiration()).isEmpty();
+        assertThat(session.isTokenExpired()).isFalse();
     }
 
     @Test
@@ -80,6 +93,105 @@ class APISessionTest {
         assertThat(session.getStatus()).isEqualTo(Status.AUTHORIZED);
     }
 
+    @Test
+    void setToken_withExpirationClaim_verifyTokenExpiration() throws Exception {
+        final Instant expiration = Instant.ofEpochSecond(Instant.now().plus(Duration.ofDays(30)).getEpochSecond());
+        APISession session = new APISession(CONTRACT_APIKEY);
+        session.setToken(jwt(expiration));
+        assertThat(session.getTokenExpiration()).contains(expiration);
+        assertThat(session.isTokenExpired()).isFalse();
+    }
+
+    @Test
+    void setToken_withIssuedAtClaim_verifyTokenIssued() throws Exception {
+        final Instant issued = Instant.ofEpochSecond(Instant.now().minus(Duration.ofDays(2)).getEpochSecond());
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        APISession session = new APISession(CONTRACT_APIKEY);
+        assertThat(session.getTokenIssued()).isEmpty();
+        session.setToken(encoder.encodeToString("{\"alg\":\"none\"}".getBytes(UTF_8)) + "."
+                + encoder.encodeToString(("{\"iat\":" + issued.getEpochSecond() + "}").getBytes(UTF_8)) + ".");
+        assertThat(session.getTokenIssued()).contains(issued);
+    }
+
+    @Test
+    void setToken_withoutIssuedAtClaim_verifyTokenIssuedWhenSet() throws Exception {
+        final Instant before = Instant.now();
+        APISession session = new APISession(CONTRACT_APIKEY);
+        session.setToken("Some.JSONWeb.Token");
+        assertThat(session.getTokenIssued()).hasValueSatisfying(issued ->
+                assertThat(issued).isBetween(before, Instant.now()));
+    }
+
+    @Test
+    void setToken_withPastExpirationClaim_verifyTokenExpired() throws Exception {
+        APISession session = new APISession(CONTRACT_APIKEY);
+        session.setToken(jwt(Instant.now().minusSeconds(1)));
+        assertThat(session.isTokenExpired()).isTrue();
+    }
+
+    @Test
+    void setToken_withoutExpirationClaim_verifyTokenExpirationUnknown() throws Exception {
+        APISession session = new APISession(CONTRACT_APIKEY);
+        session.setToken(jwt(Instant.now().minusSeconds(1)));
+        session.setToken("Some.JSONWeb.Token");
+        assertThat(session.getTokenExpiration()).isEmpty();
+        assertThat(session.isTokenExpired()).isFalse();
+    }
+
+    @Test
+    void renewToken_withoutTokenStore_verifyIssuedTokenIsSet() throws Exception {
+        final String token = "Issued.JSONWeb.Token";
+        APISession session = new APISession(CONTRACT_APIKEY);
+        session.renewToken(() -> token);
+        assertThat(session.getToken()).contains(token);
+        assertThat(session.getStatus()).isEqualTo(Status.AUTHORIZED);
+        assertThat(session.isTokenShared()).isFalse();
+    }
+
+    @Test
+    void renewToken_withTokenStore_verifyIssuedTokenIsShared(@TempDir Path directory) throws Exception {
+        final String token = "Issued.JSONWeb.Token";
+        TokenStore store = new FileTokenStore(directory);
+        APISession session = new APISession(CONTRACT_APIKEY, store);
+        session.renewToken(() -> token);
+        APISession otherSession = new APISession(CONTRACT_APIKEY, store);
+        otherSession.renewToken(() -> {
+            throw new APIException("Shared token should have been adopted");
+        });
+        assertThat(session.isTokenShared()).isTrue();
+        assertThat(otherSession.getToken()).contains(token);
+        assertThat(otherSession.getStatus()).isEqualTo(Status.AUTHORIZED);
+    }
+
+    @Test
+    void renewToken_withCurrentTokenInStore_verifyNewTokenIsIssued(@TempDir Path directory) throws Exception {
+        final AtomicInteger issued = new AtomicInteger();
+        APISession session = new APISession(CONTRACT_APIKEY, new FileTokenStore(directory));
+        session.renewToken(() -> "Issued.JSONWeb.Token" + issued.incrementAndGet());
+        session.renewToken(() -> "Issued.JSONWeb.Token" + issued.incrementAndGet());
+        assertThat(session.getToken()).contains("Issued.JSONWeb.Token2");
+    }
+
+    @Test
+    void renewToken_withExpiredTokenInStore_verifyNewTokenIsIssued(@TempDir Path directory) throws Exception {
+        final String token = "Issued.JSONWeb.Token";
+        TokenStore store = new FileTokenStore(directory);
+        new APISession(CONTRACT_APIKEY, store).renewToken(() -> jwt(Instant.now().minusSeconds(1)));
+        APISession session = new APISession(CONTRACT_APIKEY, store);
+        session.renewToken(() -> token);
+        assertThat(session.getToken()).contains(token);
+    }
+
+    @Test
+    void renewToken_withTokenOfOtherApiKeyInStore_verifyNewTokenIsIssued(@TempDir Path directory) throws Exception {
+        final String token = "Issued.JSONWeb.Token";
+        TokenStore store = new FileTokenStore(directory);
+        new APISession(SUBSCRIPTION_APIKEY, store).renewToken(() -> "Subscription.JSONWeb.Token");
+        APISession session = new APISession(CONTRACT_APIKEY, store);
+        session.renewToken(() -> token);
+        assertThat(session.getToken()).contains(token);
+    }
+
     @Test
     void setToken_noToken_verifyParameterValidation() {
         APISession session = new APISession(CONTRACT_APIKEY);
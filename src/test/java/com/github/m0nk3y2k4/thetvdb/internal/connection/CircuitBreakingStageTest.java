@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.github.m0nk3y2k4.thetvdb.api.circuitbreaker.CircuitBreaker;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICircuitOpenException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICommunicationException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APITimeoutException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakingStageTest {
+
+    private static final String FAMILY = "/series";
+
+    private final APIRequest request = new GetRequest("/series/69733");
+
+    @Mock
+    private CircuitBreaker circuitBreaker;
+
+    @Mock
+    private RequestStage next;
+
+    @Test
+    void send_withOpenCircuit_verifyRequestIsRejected() throws Exception {
+        doReturn(false).when(circuitBreaker).tryAcquire(FAMILY);
+        CircuitBreakingStage stage = new CircuitBreakingStage(circuitBreaker, next);
+        assertThat(catchThrowableOfType(() -> stage.send(request, APIRequest.RAW_CONTENT),
+                APICircuitOpenException.class)).isNotNull();
+        verify(next, never()).send(any(), any());
+    }
+
+    @Test
+    void send_withServiceFailure_verifyFailureIsReported() throws Exception {
+        doReturn(true).when(circuitBreaker).tryAcquire(FAMILY);
+        doThrow(new APICommunicationException("Service unavailable", 503)).when(next).send(request,
+                APIRequest.RAW_CONTENT);
+        CircuitBreakingStage stage = new CircuitBreakingStage(circuitBreaker, next);
+        assertThat(catchThrowableOfType(() -> stage.send(request, APIRequest.RAW_CONTENT), APIException.class))
+                .isNotNull();
+        verify(circuitBreaker).onFailure(FAMILY);
+    }
+
+    @Test
+    void send_withClientError_verifySuccessIsReported() throws Exception {
+        doReturn(true).when(circuitBreaker).tryAcquire(FAMILY);
+        doThrow(new APICommunicationException("Bad request", 400)).when(next).send(request, APIRequest.RAW_CONTENT);
+        CircuitBreakingStage stage = new CircuitBreakingStage(circuitBreaker, next);
+        assertThat(catchThrowableOfType(() -> stage.send(request, APIRequest.RAW_CONTENT), APIException.class))
+                .isNotNull();
+        verify(circuitBreaker).onSuccess(FAMILY);
+        verify(circuitBreaker, never()).onFailure(FAMILY);
+    }
+
+    @Test
+    void sendAsync_withDeadlineExceeded_verifyPermitIsReleased() {
+        doReturn(true).when(circuitBreaker).tryAcquire(FAMILY);
+        doReturn(CompletableFuture.failedFuture(new APITimeoutException("Deadline exceeded"))).when(next)
+                .sendAsync(request, APIRequest.RAW_CONTENT);
+        CircuitBreakingStage stage = new CircuitBreakingStage(circuitBreaker, next);
+        assertThat(catchThrowableOfType(() -> stage.sendAsync(request, APIRequest.RAW_CONTENT).join(),
+                CompletionException.class)).hasCauseInstanceOf(APITimeoutException.class);
+        verify(circuitBreaker).release(FAMILY);
+        verify(circuitBreaker, never()).onFailure(FAMILY);
+        verify(circuitBreaker, never()).onSuccess(FAMILY);
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import static com.github.m0nk3y2k4.thetvdb.testutils.APITestUtil.CONTRACT_APIKEY;
+import static com.github.m0nk3y2k4.thetvdb.testutils.MockServerUtil.JSON_DATA;
+import static com.github.m0nk3y2k4.thetvdb.testutils.MockServerUtil.createResponse;
+import static com.github.m0nk3y2k4.thetvdb.testutils.MockServerUtil.createSuccessResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpStatusCode.NOT_FOUND_404;
+import static org.mockserver.model.HttpStatusCode.SERVICE_UNAVAILABLE_503;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import com.github.m0nk3y2k4.thetvdb.api.APIConfiguration;
+import com.github.m0nk3y2k4.thetvdb.api.event.APIEventListener;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.APIConfigurationImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.cache.MemoryResponseCache;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.ratelimit.TokenBucketRateLimiter;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.retry.ExponentialBackoffRetryPolicy;
+import com.github.m0nk3y2k4.thetvdb.testutils.junit.jupiter.WithHttpsMockServer;
+import org.junit.jupiter.api.Test;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.matchers.Times;
+import org.mockserver.verify.VerificationTimes;
+
+@WithHttpsMockServer
+class ConnectionMonitorTest {
+
+    private static final MBeanServer SERVER = ManagementFactory.getPlatformMBeanServer();
+
+    private static Map<String, CompositeData> getRoutes(ObjectName name) throws Exception {
+        return Arrays.stream((CompositeData[])SERVER.getAttribute(name, "Routes"))
+                .collect(Collectors.toMap(route -> (String)route.get("route"), Function.identity()));
+    }
+
+    private static APIConnection open(RemoteAPI remoteAPI, APIConfiguration configuration) {
+        APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, configuration);
+        connection.registerMBeans();
+        return connection;
+    }
+
+    @Test
+    void register_withManagementName_verifyStatisticsPerRoute(MockServerClient client, RemoteAPI remoteAPI)
+            throws Exception {
+        final String family = "/test/monitor";
+        client.when(request(family + "/retried"), Times.once()).respond(createResponse(SERVICE_UNAVAILABLE_503, ""));
+        client.when(request(family + "/retried")).respond(createSuccessResponse());
+        client.when(request(family + "/missing")).respond(createResponse(NOT_FOUND_404, JSON_DATA));
+        try (APIConnection connection = open(remoteAPI, new APIConfigurationImpl.Builder().managementName("statistics")
+                .retryPolicy(new ExponentialBackoffRetryPolicy(2, Duration.ofMillis(1), Duration.ofMillis(10), 1))
+                .build())) {
+            ObjectName name = ConnectionMonitor.objectName("Connection", "statistics");
+            assertThat(SERVER.getAttribute(name, "SessionStatus")).isEqualTo("NOT_AUTHORIZED");
+            assertThat(SERVER.getAttribute(name, "TokenAgeSeconds")).isEqualTo(-1L);
+            connection.sendGET("/auth/monitor/4711");
+            connection.async().sendGET(family + "/retried").join();
+            assertThat(catchThrowableOfType(() -> connection.sendGET(family + "/missing"), APIException.class))
+                    .isNotNull();
+            assertThat(SERVER.getAttribute(name, "SessionStatus")).isEqualTo("AUTHORIZED");
+            assertThat((long)SERVER.getAttribute(name, "TokenAgeSeconds")).isBetween(0L, 5L);
+            assertThat(SERVER.getAttribute(name, "InFlightCount")).isEqualTo(0);
+            assertThat(SERVER.getAttribute(name, "RequestCount")).isEqualTo(4L);
+            assertThat(SERVER.getAttribute(name, "ErrorCount")).isEqualTo(1L);
+            assertThat(SERVER.getAttribute(name, "RetryCount")).isEqualTo(1L);
+            Map<String, CompositeData> routes = getRoutes(name);
+            assertThat(routes).containsOnlyKeys("/auth/monitor/{id}", "/login", family + "/retried",
+                    family + "/missing");
+            assertThat(routes.get("/auth/monitor/{id}").get("requestCount")).isEqualTo(1L);
+            assertThat(routes.get(family + "/retried").get("retryCount")).isEqualTo(1L);
+            assertThat(routes.get(family + "/missing").get("errorCount")).isEqualTo(1L);
+            assertThat(routes.values()).allSatisfy(route -> {
+                assertThat((double)route.get("meanLatencyMillis")).isPositive();
+                assertThat((double)route.get("p99LatencyMillis"))
+                        .isGreaterThanOrEqualTo((double)route.get("p50LatencyMillis"));
+            });
+        }
+    }
+
+    @Test
+    void register_withResponseCacheAndRateLimiter_verifyAdditionalMBeans(RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/monitor/cached";
+        try (APIConnection connection = open(remoteAPI, new APIConfigurationImpl.Builder().managementName("components")
+                .responseCache(new MemoryResponseCache(1024)).cachePolicy(key -> Duration.ofHours(1))
+                .rateLimiter(new TokenBucketRateLimiter(50, 10)).build())) {
+            connection.sendGET(resource);
+            connection.sendGET(resource);
+            ObjectName cache = ConnectionMonitor.objectName("ResponseCache", "components");
+            assertThat(SERVER.getAttribute(cache, "HitCount")).isEqualTo(1L);
+            assertThat(SERVER.getAttribute(cache, "MissCount")).isEqualTo(1L);
+            assertThat(SERVER.getAttribute(cache, "EntryCount")).isEqualTo(1L);
+            assertThat(SERVER.getAttribute(cache, "HitRate")).isEqualTo(0.5);
+            SERVER.invoke(cache, "clear", null, null);
+            assertThat(SERVER.getAttribute(cache, "EntryCount")).isEqualTo(0L);
+            assertThat(SERVER.getAttribute(ConnectionMonitor.objectName("RateLimiter", "components"), "Rate"))
+                    .isEqualTo(50.0);
+            assertThat(SERVER.getAttribute(ConnectionMonitor.objectName("Connection", "components"), "RequestCount"))
+                    .isEqualTo(2L);
+        }
+    }
+
+    @Test
+    void register_withoutResponseCacheAndRateLimiter_verifyConnectionMBeanOnly(RemoteAPI remoteAPI) throws Exception {
+        try (APIConnection ignored = open(remoteAPI,
+                new APIConfigurationImpl.Builder().managementName("connectionOnly").build())) {
+            assertThat(SERVER.isRegistered(ConnectionMonitor.objectName("Connection", "connectionOnly"))).isTrue();
+            assertThat(SERVER.isRegistered(ConnectionMonitor.objectName("ResponseCache", "connectionOnly"))).isFalse();
+            assertThat(SERVER.isRegistered(ConnectionMonitor.objectName("RateLimiter", "connectionOnly"))).isFalse();
+        }
+    }
+
+    @Test
+    void register_beforeRegistration_verifyNoMBeansAreRegistered(RemoteAPI remoteAPI) throws Exception {
+        try (APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI,
+                new APIConfigurationImpl.Builder().managementName("unregistered").build())) {
+            assertThat(SERVER.isRegistered(ConnectionMonitor.objectName("Connection", "unregistered"))).isFalse();
+            connection.registerMBeans();
+            assertThat(SERVER.isRegistered(ConnectionMonitor.objectName("Connection", "unregistered"))).isTrue();
+        }
+    }
+
+    @Test
+    void register_withSameManagementName_verifyRegistrationFails(RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/monitor/duplicate";
+        try (APIConnection former = open(remoteAPI, new APIConfigurationImpl.Builder().managementName("duplicate")
+                .build())) {
+            former.sendGET(resource);
+            APIConnection connection = new APIConnection(CONTRACT_APIKEY, remoteAPI, new APIConfigurationImpl.Builder()
+                    .managementName("duplicate").responseCache(new MemoryResponseCache(1024)).build());
+            assertThat(catchThrowableOfType(connection::registerMBeans, IllegalStateException.class)).isNotNull();
+            assertThat(SERVER.isRegistered(ConnectionMonitor.objectName("ResponseCache", "duplicate"))).isFalse();
+            connection.sendGET(resource);
+            assertThat(SERVER.getAttribute(ConnectionMonitor.objectName("Connection", "duplicate"), "RequestCount"))
+                    .isEqualTo(1L);
+        }
+    }
+
+    @Test
+    void close_withRegisteredMBeans_verifyMBeansAreUnregistered(RemoteAPI remoteAPI) throws Exception {
+        APIConfiguration configuration = new APIConfigurationImpl.Builder().managementName("closed")
+                .responseCache(new MemoryResponseCache(1024)).build();
+        APIConnection connection = open(remoteAPI, configuration);
+        connection.close();
+        assertThat(SERVER.isRegistered(ConnectionMonitor.objectName("Connection", "closed"))).isFalse();
+        assertThat(SERVER.isRegistered(ConnectionMonitor.objectName("ResponseCache", "closed"))).isFalse();
+        connection.close();
+        try (APIConnection successor = open(remoteAPI, configuration)) {
+            assertThat(SERVER.isRegistered(ConnectionMonitor.objectName("Connection", "closed"))).isTrue();
+        }
+    }
+
+    @Test
+    void register_withEventListener_verifyEventsAreForwarded(RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/monitor/forwarded";
+        List<String> events = new CopyOnWriteArrayList<>();
+        APIEventListener listener = new APIEventListener() {
+            @Override
+            public void onRequestStart(long correlationId, @Nonnull String method, @Nonnull String resource) {
+                events.add("start " + resource);
+            }
+
+            @Override
+            public void onDeserialized(long correlationId, @Nonnull String resource) {
+                events.add("deserialized " + resource);
+            }
+        };
+        try (APIConnection connection = open(remoteAPI, new APIConfigurationImpl.Builder().managementName("forwarding")
+                .eventListener(listener).build())) {
+            connection.sendGET(resource);
+            assertThat(events).containsExactly("start " + resource, "deserialized " + resource);
+            assertThat(SERVER.getAttribute(ConnectionMonitor.objectName("Connection", "forwarding"), "RequestCount"))
+                    .isEqualTo(1L);
+        }
+    }
+
+    @Test
+    void forceLogin_verifyNewTokenIsRequested(MockServerClient client, RemoteAPI remoteAPI) throws Exception {
+        try (APIConnection connection = open(remoteAPI,
+                new APIConfigurationImpl.Builder().managementName("login").build())) {
+            ObjectName name = ConnectionMonitor.objectName("Connection", "login");
+            SERVER.invoke(name, "forceLogin", null, null);
+            assertThat(connection.getStatus()).isEqualTo(APISession.Status.AUTHORIZED);
+            assertThat(SERVER.getAttribute(name, "SessionStatus")).isEqualTo("AUTHORIZED");
+            client.verify(request("/login"), VerificationTimes.once());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import static com.github.m0nk3y2k4.thetvdb.internal.connection.Deadline.ERR_DEADLINE_EXCEEDED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APITimeoutException;
+import org.junit.jupiter.api.Test;
+
+class DeadlineTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private Deadline deadline(Duration timeout) {
+        return Deadline.after(timeout, ticker::get);
+    }
+
+    private void advance(Duration duration) {
+        ticker.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    void remaining_verifyTimeIsCountedDownToZero() {
+        Deadline deadline = deadline(Duration.ofSeconds(2));
+        assertThat(deadline.remaining()).isEqualTo(Duration.ofSeconds(2));
+        advance(Duration.ofMillis(1500));
+        assertThat(deadline.remaining()).isEqualTo(Duration.ofMillis(500));
+        advance(Duration.ofSeconds(1));
+        assertThat(deadline.remaining()).isZero();
+    }
+
+    @Test
+    void limit_verifyTimeoutIsLimitedToRemainingTime() {
+        Deadline deadline = deadline(Duration.ofSeconds(2));
+        assertThat(deadline.limit(Duration.ofSeconds(1))).isEqualTo(Duration.ofSeconds(1));
+        assertThat(deadline.limit(Duration.ofSeconds(3))).isEqualTo(Duration.ofSeconds(2));
+        assertThat(deadline.limit(null)).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void check_withDelayWithinDeadline_verifyNoException() {
+        Deadline deadline = deadline(Duration.ofSeconds(2));
+        assertThatNoException().isThrownBy(() -> deadline.check(Duration.ZERO));
+        assertThatNoException().isThrownBy(() -> deadline.check(Duration.ofMillis(1999)));
+    }
+
+    @Test
+    void check_withDelayExceedingDeadline_verifyTimeoutException() {
+        Deadline deadline = deadline(Duration.ofSeconds(2));
+        APITimeoutException exception = catchThrowableOfType(() -> deadline.check(Duration.ofSeconds(2)),
+                APITimeoutException.class);
+        assertThat(exception).hasMessage(String.format(ERR_DEADLINE_EXCEEDED, 2000));
+    }
+
+    @Test
+    void check_afterExpiration_verifyTimeoutException() {
+        Deadline deadline = deadline(Duration.ofSeconds(2));
+        advance(Duration.ofSeconds(2));
+        assertThat(catchThrowableOfType(() -> deadline.check(Duration.ZERO), APITimeoutException.class)).isNotNull();
+    }
+
+    @Test
+    void earliest_verifyDeadlineExpiringFirstIsReturned() {
+        Deadline first = deadline(Duration.ofSeconds(3));
+        advance(Duration.ofSeconds(1));
+        Deadline second = deadline(Duration.ofSeconds(1));
+        assertThat(Deadline.earliest(first, second)).isSameAs(second);
+        assertThat(Deadline.earliest(second, first)).isSameAs(second);
+        assertThat(Deadline.earliest(first, null)).isSameAs(first);
+        assertThat(Deadline.earliest(null, second)).isSameAs(second);
+        assertThat(Deadline.earliest(null, null)).isNull();
+    }
+}
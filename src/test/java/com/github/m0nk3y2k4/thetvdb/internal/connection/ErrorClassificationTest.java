@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICircuitOpenException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICommunicationException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APINotAuthorizedException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APIThrottledException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APITimeoutException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ErrorClassificationTest {
+
+    private static final Throwable CONNECTION_REFUSED = new APICommunicationException("Connection refused",
+            new ConnectException());
+    private static final Throwable READ_TIMEOUT = new APITimeoutException("Read timed out",
+            new SocketTimeoutException());
+    private static final Throwable DEADLINE_EXCEEDED = new APITimeoutException("Deadline exceeded");
+    private static final Throwable INTERRUPTED = new APICommunicationException("Interrupted",
+            new InterruptedException());
+    private static final Throwable PARSING_FAILED = new APICommunicationException("Parsing failed",
+            new JsonParseException(null, "Invalid"));
+    private static final Throwable THROTTLED = new APIThrottledException("Too many requests", Duration.ofSeconds(1));
+
+    private static Stream<Arguments> isConnectionFailure_withError_verifyClassification() {
+        return Stream.of(
+                Arguments.of(CONNECTION_REFUSED, true),
+                Arguments.of(READ_TIMEOUT, true),
+                Arguments.of(DEADLINE_EXCEEDED, false),
+                Arguments.of(INTERRUPTED, false),
+                Arguments.of(PARSING_FAILED, false),
+                Arguments.of(THROTTLED, false),
+                Arguments.of(new APICommunicationException("Bad gateway", 502), false),
+                Arguments.of(new APIException("I/O error", new ConnectException()), false)
+        );
+    }
+
+    private static Stream<Arguments> isServiceFailure_withError_verifyClassification() {
+        return Stream.of(
+                Arguments.of(CONNECTION_REFUSED, true),
+                Arguments.of(READ_TIMEOUT, true),
+                Arguments.of(THROTTLED, true),
+                Arguments.of(new APICommunicationException("Internal server error", 500), true),
+                Arguments.of(new APICommunicationException("Gateway timeout", 504), true),
+                Arguments.of(new APICommunicationException("Bad request", 400), false),
+                Arguments.of(new APICommunicationException("Forbidden", 403), false),
+                Arguments.of(new APICommunicationException("Unknown error"), false),
+                Arguments.of(new APIException("Resource not found"), false),
+                Arguments.of(new APINotAuthorizedException("Missing authorization"), false),
+                Arguments.of(new APICircuitOpenException("/series"), false),
+                Arguments.of(DEADLINE_EXCEEDED, false),
+                Arguments.of(INTERRUPTED, false),
+                Arguments.of(PARSING_FAILED, false)
+        );
+    }
+
+    private static Stream<Arguments> isAbandoned_withError_verifyClassification() {
+        return Stream.of(
+                Arguments.of(DEADLINE_EXCEEDED, true),
+                Arguments.of(INTERRUPTED, true),
+                Arguments.of(READ_TIMEOUT, false),
+                Arguments.of(CONNECTION_REFUSED, false),
+                Arguments.of(THROTTLED, false),
+                Arguments.of(new APICommunicationException("Service unavailable", 503), false)
+        );
+    }
+
+    @ParameterizedTest(name = "[{index}] Error \"{0}\" is connection failure: {1}")
+    @MethodSource
+    void isConnectionFailure_withError_verifyClassification(Throwable error, boolean expected) {
+        assertThat(ErrorClassification.isConnectionFailure(error)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "[{index}] Error \"{0}\" is service failure: {1}")
+    @MethodSource
+    void isServiceFailure_withError_verifyClassification(Throwable error, boolean expected) {
+        assertThat(ErrorClassification.isServiceFailure(error)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "[{index}] Error \"{0}\" is abandoned: {1}")
+    @MethodSource
+    void isAbandoned_withError_verifyClassification(Throwable error, boolean expected) {
+        assertThat(ErrorClassification.isAbandoned(error)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.github.m0nk3y2k4.thetvdb.api.metrics.RequestMetrics;
+import org.junit.jupiter.api.Test;
+
+class ExchangeMeterTest {
+
+    private static final String CONTENT = "{\"data\":{\"id\":4711,\"name\":\"Some series\"}}";
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private void advance(Duration duration) {
+        ticker.addAndGet(duration.toNanos());
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return compressed.toByteArray();
+    }
+
+    @Test
+    void finish_withoutResponse_verifyTransferTimeUntilFailure() {
+        ExchangeMeter meter = ExchangeMeter.start(ticker::get);
+        advance(Duration.ofMillis(300));
+        RequestMetrics metrics = meter.finish("GET", "/series/{id}");
+        assertThat(metrics.getMethod()).isEqualTo("GET");
+        assertThat(metrics.getRoute()).isEqualTo("/series/{id}");
+        assertThat(metrics.getStatusCode()).isEmpty();
+        assertThat(metrics.getTimeToFirstByte()).isEmpty();
+        assertThat(metrics.getTransferTime()).isEqualTo(Duration.ofMillis(300));
+        assertThat(metrics.getParseTime()).isZero();
+        assertThat(metrics.getCompressedBytes()).isZero();
+        assertThat(metrics.getDecompressedBytes()).isZero();
+    }
+
+    @Test
+    void finish_withBufferedResponse_verifyTimeToFirstByteAndTransferTime() {
+        ExchangeMeter meter = ExchangeMeter.start(ticker::get);
+        advance(Duration.ofMillis(100));
+        meter.onResponse(200);
+        advance(Duration.ofMillis(50));
+        meter.onResponse(500);      // Only the first notification counts
+        meter.onReceived();
+        advance(Duration.ofSeconds(1));
+        RequestMetrics metrics = meter.finish("GET", "/series/{id}");
+        assertThat(metrics.getStatusCode()).contains(200);
+        assertThat(metrics.getTimeToFirstByte()).contains(Duration.ofMillis(100));
+        assertThat(metrics.getTransferTime()).isEqualTo(Duration.ofMillis(150));
+    }
+
+    @Test
+    void parse_withCompressedBody_verifyBytesAreCountedAndNetworkTimeIsExcluded() throws Exception {
+        ExchangeMeter meter = ExchangeMeter.start(ticker::get);
+        advance(Duration.ofMillis(100));
+        meter.onResponse(200);
+        byte[] compressed = gzip(CONTENT);
+        InputStream network = new ByteArrayInputStream(compressed) {
+            @Override
+            public synchronized int read(byte[] buffer, int offset, int length) {
+                advance(Duration.ofMillis(20));     // Waiting for the network
+                return super.read(buffer, offset, length);
+            }
+        };
+        InputStream body = meter.decompressed(new GZIPInputStream(meter.transferred(network)));
+        try (JsonParser parser = new JsonFactory().createParser(body)) {
+            meter.parse(json -> {
+                advance(Duration.ofMillis(5));      // Actual parsing
+                while (json.nextToken() != null) {
+                    // Consume the whole content
+                }
+                return null;
+            }, parser);
+        }
+        RequestMetrics metrics = meter.finish("GET", "/series/{id}");
+        assertThat(metrics.getCompressedBytes()).isEqualTo(compressed.length);
+        assertThat(metrics.getDecompressedBytes()).isEqualTo(CONTENT.length());
+        assertThat(metrics.getParseTime()).isEqualTo(Duration.ofMillis(5));
+        assertThat(metrics.getTransferTime()).isGreaterThanOrEqualTo(Duration.ofMillis(120))
+                .isEqualTo(Duration.ofNanos(ticker.get()).minus(metrics.getParseTime()));
+    }
+}
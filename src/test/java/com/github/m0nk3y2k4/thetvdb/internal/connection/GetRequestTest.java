@@ -21,6 +21,8 @@ import static com.github.m0nk3y2k4.thetvdb.testutils.MockServerUtil.JSON_SUCCESS
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockserver.model.HttpRequest.request;
 
+import java.net.http.HttpClient;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.testutils.junit.jupiter.WithHttpsMockServer;
 import org.junit.jupiter.api.Test;
@@ -46,4 +48,15 @@ class GetRequestTest {
         JsonNode response = request.send();
         assertThat(response).hasToString(JSON_SUCCESS);
     }
+
+    @Test
+    void sendViaHttpClient_verifyJSONContentParsed(MockServerClient client, RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/httpClientGetRequestContent";
+        GetRequest request = new GetRequest(resource);
+        request.setRemoteAPI(remoteAPI);
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            assertThat(request.send(httpClient)).hasToString(JSON_SUCCESS);
+        }
+        client.verify(request(resource).withMethod(GET.getName()), VerificationTimes.once());
+    }
 }
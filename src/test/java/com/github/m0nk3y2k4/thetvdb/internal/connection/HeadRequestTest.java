@@ -27,6 +27,7 @@ import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 import static org.mockserver.model.HttpStatusCode.OK_200;
 
+import java.net.http.HttpClient;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -64,7 +65,22 @@ class HeadRequestTest {
     }
 
     @Test
-    void getData_withResponseHeaders_verifyAllTypesOfHeadersAreProperlyParsed() {
+    void sendViaHttpClient_verifyJSONContentParsed(MockServerClient client, RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/httpClientHeadRequestContent";
+        HeadRequest request = new HeadRequest(resource);
+        request.setRemoteAPI(remoteAPI);
+        client.when(request(resource).withMethod(HEAD.getName())).respond(response().withStatusCode(OK_200.code())
+                .withHeaders(header("Some-Header", "singleValue")));
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            JsonNode dataNode = request.send(httpClient).get("data");
+            assertThat(dataNode).isNotNull();
+            assertThat(dataNode.has(":status")).isFalse();
+            assertThat(dataNode.get("some-header").textValue()).isEqualTo("singleValue");
+        }
+    }
+
+    @Test
+    void getData_withResponseHeaders_verifyAllTypesOfHeadersAreProperlyParsed() throws Exception {
         HeadRequest request = new HeadRequest("/test/headRequestParseHeaders");
         HttpsURLConnection connection = mock(HttpsURLConnection.class);
         Map<String, List<String>> headers = new HashMap<>();
@@ -73,7 +89,7 @@ class HeadRequestTest {
         headers.put("Single-Header", singletonList("value"));
         headers.put("List-Header", List.of("X", "Y", "Z"));
         doReturn(headers).when(connection).getHeaderFields();
-        JsonNode dataNode = request.getData(connection).get("data");
+        JsonNode dataNode = request.getData(connection, APIRequest.JSON_TREE).get("data");
         assertThat(dataNode).hasSize(3);
         assertThat(dataNode.get("Empty-Header").isNull()).isTrue();
         assertThat(dataNode.get("Single-Header").textValue()).isEqualTo("value");
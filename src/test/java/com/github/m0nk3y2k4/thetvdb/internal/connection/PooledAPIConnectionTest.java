@@ -0,0 +1,268 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import static com.github.m0nk3y2k4.thetvdb.api.enumeration.FundingModel.CONTRACT;
+import static com.github.m0nk3y2k4.thetvdb.internal.connection.PooledAPIConnection.ERR_NO_KEY_AVAILABLE;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.AUTHORIZATION;
+import static com.github.m0nk3y2k4.thetvdb.internal.util.http.HttpHeaders.RETRY_AFTER;
+import static com.github.m0nk3y2k4.thetvdb.testutils.APITestUtil.CONTRACT_APIKEY;
+import static com.github.m0nk3y2k4.thetvdb.testutils.APITestUtil.SUBSCRIPTION_APIKEY;
+import static com.github.m0nk3y2k4.thetvdb.testutils.APITestUtil.apiKey;
+import static com.github.m0nk3y2k4.thetvdb.testutils.MockServerUtil.JSON_DATA;
+import static com.github.m0nk3y2k4.thetvdb.testutils.MockServerUtil.createJWTResponse;
+import static com.github.m0nk3y2k4.thetvdb.testutils.MockServerUtil.createResponse;
+import static com.github.m0nk3y2k4.thetvdb.testutils.MockServerUtil.createUnauthorizedResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpStatusCode.NOT_FOUND_404;
+import static org.mockserver.model.HttpStatusCode.OK_200;
+import static org.mockserver.model.HttpStatusCode.SERVICE_UNAVAILABLE_503;
+import static org.mockserver.model.StringBody.subString;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.m0nk3y2k4.thetvdb.api.APIKey;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.api.keypool.KeyPool;
+import com.github.m0nk3y2k4.thetvdb.api.keypool.KeyStatistics;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.APIConfigurationImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.keypool.LeastOutstandingKeyPool;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICommunicationException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APINotAuthorizedException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APIThrottledException;
+import com.github.m0nk3y2k4.thetvdb.testutils.junit.jupiter.WithHttpsMockServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.verify.VerificationTimes;
+
+@WithHttpsMockServer
+class PooledAPIConnectionTest {
+
+    private static final APIKey UNAUTHORIZED_APIKEY = apiKey("unauthorized-unit-test-api-key", null, CONTRACT);
+
+    private static final String CONTRACT_TOKEN = "Contract.Payload.Signature";
+    private static final String SUBSCRIPTION_TOKEN = "Subscription.Payload.Signature";
+
+    private final RemoteAPI remoteAPI;
+
+    PooledAPIConnectionTest(MockServerClient client, RemoteAPI remoteAPI) {
+        this.remoteAPI = remoteAPI;
+        client.when(request("/login").withBody(subString(CONTRACT_APIKEY.getApiKey())))
+                .respond(createJWTResponse(CONTRACT_TOKEN));
+        client.when(request("/login").withBody(subString(SUBSCRIPTION_APIKEY.getApiKey())))
+                .respond(createJWTResponse(SUBSCRIPTION_TOKEN));
+        client.when(request("/login").withBody(subString(UNAUTHORIZED_APIKEY.getApiKey())))
+                .respond(createUnauthorizedResponse());
+    }
+
+    private static Stream<Arguments> sendRequest_withThrottledKey_verifyRequestIsSentWithOtherKey() {
+        return Stream.of(
+                Arguments.of("blocking", (Request)(con, resource) -> con.sendGET(resource)),
+                Arguments.of("asynchronous", (Request)(con, resource) -> con.async().sendGET(resource).join())
+        );
+    }
+
+    private PooledAPIConnection connection(APIKey... apiKeys) {
+        return new PooledAPIConnection(new LeastOutstandingKeyPool(List.of(apiKeys)), remoteAPI,
+                APIConfigurationImpl.getDefault());
+    }
+
+    private static KeyStatistics statistics(PooledAPIConnection connection, APIKey apiKey) {
+        return connection.getKeyPool().getStatistics().stream().filter(stats -> stats.getApiKey().equals(apiKey))
+                .findFirst().orElseThrow();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException ? error.getCause() : error;
+    }
+
+    @Test
+    void newPooledAPIConnection_withMissingKeyPool_verifyParameterValidation() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new PooledAPIConnection(null, remoteAPI, APIConfigurationImpl.getDefault()));
+    }
+
+    @Test
+    void newPooledAPIConnection_verifySessionPropertiesOfFirstKey() throws Exception {
+        PooledAPIConnection connection = connection(SUBSCRIPTION_APIKEY, CONTRACT_APIKEY);
+        assertThat(connection.getApiKey()).isEqualTo(SUBSCRIPTION_APIKEY);
+        assertThat(connection.getToken()).isEmpty();
+        connection.setToken(SUBSCRIPTION_TOKEN);
+        assertThat(connection.getToken()).contains(SUBSCRIPTION_TOKEN);
+        assertThat(connection.getSession().getApiKey()).isEqualTo(SUBSCRIPTION_APIKEY);
+    }
+
+    @Test
+    void login_verifySessionsOfAllKeysAreAuthorized(MockServerClient client) throws Exception {
+        PooledAPIConnection connection = connection(CONTRACT_APIKEY, SUBSCRIPTION_APIKEY);
+        connection.login();
+        assertThat(connection.getStatus()).isEqualTo(APISession.Status.AUTHORIZED);
+        assertThat(connection.getToken()).contains(CONTRACT_TOKEN);
+        client.verify(request("/login"), VerificationTimes.exactly(2));
+
+        final String resource = "/pool/login";
+        connection.sendGET(resource);
+        connection.sendGET(resource);
+        client.verify(request(resource).withHeader(AUTHORIZATION, "Bearer " + CONTRACT_TOKEN),
+                VerificationTimes.once());
+        client.verify(request(resource).withHeader(AUTHORIZATION, "Bearer " + SUBSCRIPTION_TOKEN),
+                VerificationTimes.once());
+    }
+
+    @Test
+    void login_withSomeKeysFailingAuthorization_verifyLoginSucceeds() throws Exception {
+        PooledAPIConnection connection = connection(UNAUTHORIZED_APIKEY, CONTRACT_APIKEY);
+        connection.login();
+        assertThat(catchThrowable(connection(UNAUTHORIZED_APIKEY)::login))
+                .isInstanceOf(APINotAuthorizedException.class);
+    }
+
+    @Test
+    void warmUp_withAuthorizedKey_verifyOnlyRemainingSessionsAreAuthorized(MockServerClient client) throws Exception {
+        PooledAPIConnection connection = connection(CONTRACT_APIKEY, SUBSCRIPTION_APIKEY);
+        connection.setToken(CONTRACT_TOKEN);
+        connection.warmUp();
+        client.verify(request("/login").withBody(subString(CONTRACT_APIKEY.getApiKey())), VerificationTimes.never());
+        client.verify(request("/login").withBody(subString(SUBSCRIPTION_APIKEY.getApiKey())), VerificationTimes.once());
+        connection.warmUp();
+        client.verify(request("/login"), VerificationTimes.once());
+    }
+
+    @ParameterizedTest(name = "[{index}] Rerouting throttled {0} requests")
+    @MethodSource
+    void sendRequest_withThrottledKey_verifyRequestIsSentWithOtherKey(String mode, Request request,
+            MockServerClient client) throws Exception {
+        final String resource = "/pool/throttled/" + mode;
+        client.when(request(resource).withHeader(AUTHORIZATION, "Bearer " + CONTRACT_TOKEN))
+                .respond(createResponse(SERVICE_UNAVAILABLE_503, "").withHeader(RETRY_AFTER, "30"));
+        client.when(request(resource).withHeader(AUTHORIZATION, "Bearer " + SUBSCRIPTION_TOKEN))
+                .respond(createResponse(OK_200, JSON_DATA));
+        PooledAPIConnection connection = connection(CONTRACT_APIKEY, SUBSCRIPTION_APIKEY);
+        assertThat(request.send(connection, resource).toString()).isEqualTo(JSON_DATA);
+
+        KeyStatistics contract = statistics(connection, CONTRACT_APIKEY);
+        assertThat(contract.getThrottledCount()).isOne();
+        assertThat(contract.isAvailable()).isFalse();
+        assertThat(statistics(connection, SUBSCRIPTION_APIKEY).getRequestCount()).isOne();
+
+        // Further requests will be routed around the throttled key
+        request.send(connection, resource);
+        assertThat(statistics(connection, CONTRACT_APIKEY).getRequestCount()).isOne();
+        assertThat(statistics(connection, SUBSCRIPTION_APIKEY).getRequestCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest(name = "[{index}] Rerouting {0} requests failing authorization")
+    @MethodSource("sendRequest_withThrottledKey_verifyRequestIsSentWithOtherKey")
+    void sendRequest_withUnauthorizedKey_verifyRequestIsSentWithOtherKey(String mode, Request request,
+            MockServerClient client) throws Exception {
+        final String resource = "/pool/unauthorized/" + mode;
+        PooledAPIConnection connection = connection(UNAUTHORIZED_APIKEY, CONTRACT_APIKEY);
+        assertThat(request.send(connection, resource)).isNotNull();
+
+        KeyStatistics unauthorized = statistics(connection, UNAUTHORIZED_APIKEY);
+        assertThat(unauthorized.getUnauthorizedCount()).isOne();
+        assertThat(unauthorized.getOutstandingCount()).isZero();
+        assertThat(unauthorized.isAvailable()).isFalse();
+        assertThat(statistics(connection, CONTRACT_APIKEY).getRequestCount()).isOne();
+        client.verify(request(resource).withHeader(AUTHORIZATION, "Bearer " + CONTRACT_TOKEN),
+                VerificationTimes.once());
+    }
+
+    @ParameterizedTest(name = "[{index}] Failing {0} requests throttled for all keys")
+    @MethodSource("sendRequest_withThrottledKey_verifyRequestIsSentWithOtherKey")
+    void sendRequest_withAllKeysThrottled_verifyErrorOfLastKeyIsThrown(String mode, Request request,
+            MockServerClient client) {
+        final String resource = "/pool/exhausted/" + mode;
+        client.when(request(resource)).respond(createResponse(SERVICE_UNAVAILABLE_503, ""));
+        PooledAPIConnection connection = connection(CONTRACT_APIKEY, SUBSCRIPTION_APIKEY);
+        assertThat(unwrap(catchThrowable(() -> request.send(connection, resource))))
+                .isInstanceOf(APIThrottledException.class);
+        assertThat(connection.getKeyPool().getStatistics()).extracting(KeyStatistics::getThrottledCount)
+                .containsExactly(1L, 1L);
+        client.verify(request(resource), VerificationTimes.exactly(2));
+    }
+
+    @ParameterizedTest(name = "[{index}] Not rerouting {0} requests failing for other reasons")
+    @MethodSource("sendRequest_withThrottledKey_verifyRequestIsSentWithOtherKey")
+    void sendRequest_withRegularError_verifyRequestIsNotSentWithOtherKey(String mode, Request request,
+            MockServerClient client) {
+        final String resource = "/pool/notfound/" + mode;
+        client.when(request(resource)).respond(createResponse(NOT_FOUND_404, ""));
+        PooledAPIConnection connection = connection(CONTRACT_APIKEY, SUBSCRIPTION_APIKEY);
+        assertThat(unwrap(catchThrowable(() -> request.send(connection, resource))))
+                .isInstanceOf(APIException.class).isNotInstanceOf(APICommunicationException.class);
+        assertThat(connection.getKeyPool().getStatistics()).extracting(KeyStatistics::getFailureCount)
+                .containsExactly(1L, 0L);
+        client.verify(request(resource), VerificationTimes.once());
+    }
+
+    @ParameterizedTest(name = "[{index}] Failing {0} requests if the pool provides no key")
+    @MethodSource("sendRequest_withThrottledKey_verifyRequestIsSentWithOtherKey")
+    void sendRequest_withKeyPoolProvidingNoKey_verifyRequestFails(String mode, Request request) {
+        PooledAPIConnection connection = new PooledAPIConnection(new EmptyKeyPool(), remoteAPI,
+                APIConfigurationImpl.getDefault());
+        assertThat(unwrap(catchThrowable(() -> request.send(connection, "/pool/empty/" + mode))))
+                .isInstanceOf(APIException.class).hasMessageContaining(ERR_NO_KEY_AVAILABLE);
+    }
+
+    private static final class EmptyKeyPool implements KeyPool {
+
+        @Override
+        public List<APIKey> getApiKeys() {
+            return List.of(CONTRACT_APIKEY);
+        }
+
+        @Override
+        public Optional<APIKey> acquire(Collection<APIKey> excluded) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void onSuccess(APIKey apiKey) {}
+
+        @Override
+        public void onThrottled(APIKey apiKey, Duration retryAfter) {}
+
+        @Override
+        public void onUnauthorized(APIKey apiKey) {}
+
+        @Override
+        public void onFailure(APIKey apiKey) {}
+
+        @Override
+        public List<KeyStatistics> getStatistics() {
+            return List.of();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        JsonNode send(APIConnection con, String resource) throws APIException;
+    }
+}
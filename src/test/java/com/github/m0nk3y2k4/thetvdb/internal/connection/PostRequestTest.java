@@ -23,6 +23,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.mockserver.model.HttpRequest.request;
 
+import java.net.http.HttpClient;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.m0nk3y2k4.thetvdb.internal.exception.APIPreconditionException;
 import com.github.m0nk3y2k4.thetvdb.testutils.junit.jupiter.WithHttpsMockServer;
@@ -69,4 +71,27 @@ class PostRequestTest {
         JsonNode response = request.send();
         assertThat(response).hasToString(JSON_SUCCESS);
     }
+
+    @Test
+    void sendViaHttpClient_withData_verifyOutputIsSet(MockServerClient client, RemoteAPI remoteAPI) throws Exception {
+        final String resource = "/test/httpClientPostRequestOutput";
+        final String json = "{\"Value\":\"Some content of the POST-request\"}";
+        PostRequest request = new PostRequest(resource, json);
+        request.setRemoteAPI(remoteAPI);
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            assertThat(request.send(httpClient)).hasToString(JSON_SUCCESS);
+        }
+        client.verify(request(resource).withMethod(POST.getName()).withBody(json), VerificationTimes.once());
+    }
+
+    @Test
+    void sendViaHttpClient_withoutData_verifyPreparationPreconditionCheck(RemoteAPI remoteAPI) {
+        PostRequest request = new PostRequest("/test/httpClientPostRequestNoData", null);
+        request.setRemoteAPI(remoteAPI);
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            APIPreconditionException exception = catchThrowableOfType(() -> request.send(httpClient),
+                    APIPreconditionException.class);
+            assertThat(exception).hasMessageContaining("data is not set");
+        }
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.api.retry.RetryPolicy;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICommunicationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RetryingStageTest {
+
+    private static final Executor EXECUTOR = Runnable::run;
+    private static final APIException SERVICE_UNAVAILABLE = new APICommunicationException("Service unavailable", 503);
+
+    @Mock
+    private RetryPolicy retryPolicy;
+
+    @Mock
+    private RequestStage next;
+
+    @Test
+    void send_withTransientError_verifyRequestIsRetriedWhilePolicyPermits() throws Exception {
+        APIRequest request = new GetRequest("/series/69733");
+        doThrow(SERVICE_UNAVAILABLE).when(next).send(request, APIRequest.RAW_CONTENT);
+        doReturn(Optional.of(Duration.ZERO)).when(retryPolicy).nextRetry(0, SERVICE_UNAVAILABLE);
+        doReturn(Optional.empty()).when(retryPolicy).nextRetry(1, SERVICE_UNAVAILABLE);
+        RetryingStage stage = new RetryingStage(retryPolicy, EXECUTOR, next);
+        assertThat(catchThrowableOfType(() -> stage.send(request, APIRequest.RAW_CONTENT), APIException.class))
+                .isSameAs(SERVICE_UNAVAILABLE);
+        verify(retryPolicy).onRequest();
+        verify(next, times(2)).send(request, APIRequest.RAW_CONTENT);
+    }
+
+    @Test
+    void sendAsync_withTransientError_verifyRequestIsRetriedWhilePolicyPermits() {
+        APIRequest request = new GetRequest("/series/69733");
+        doReturn(CompletableFuture.failedFuture(SERVICE_UNAVAILABLE)).when(next).sendAsync(request,
+                APIRequest.RAW_CONTENT);
+        doReturn(Optional.of(Duration.ofMillis(10))).when(retryPolicy).nextRetry(0, SERVICE_UNAVAILABLE);
+        doReturn(Optional.empty()).when(retryPolicy).nextRetry(1, SERVICE_UNAVAILABLE);
+        RetryingStage stage = new RetryingStage(retryPolicy, EXECUTOR, next);
+        assertThat(catchThrowableOfType(() -> stage.sendAsync(request, APIRequest.RAW_CONTENT).join(),
+                CompletionException.class)).hasCause(SERVICE_UNAVAILABLE);
+        verify(retryPolicy).onRequest();
+        verify(next, times(2)).sendAsync(request, APIRequest.RAW_CONTENT);
+    }
+
+    @Test
+    void send_withNonIdempotentRequest_verifyRequestIsNotRetried() throws Exception {
+        APIRequest request = new PostRequest("/user/favorites", "{}");
+        doThrow(SERVICE_UNAVAILABLE).when(next).send(request, APIRequest.RAW_CONTENT);
+        RetryingStage stage = new RetryingStage(retryPolicy, EXECUTOR, next);
+        assertThat(catchThrowableOfType(() -> stage.send(request, APIRequest.RAW_CONTENT), APIException.class))
+                .isSameAs(SERVICE_UNAVAILABLE);
+        verify(retryPolicy, never()).onRequest();
+        verify(retryPolicy, never()).nextRetry(anyInt(), any());
+        verify(next).send(request, APIRequest.RAW_CONTENT);
+    }
+}
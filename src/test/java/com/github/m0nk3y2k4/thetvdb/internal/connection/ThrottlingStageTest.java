@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection;
+
+import static com.github.m0nk3y2k4.thetvdb.internal.connection.ThrottlingStage.ERR_REQUEST_CANCELLED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import com.github.m0nk3y2k4.thetvdb.api.ratelimit.RateLimiter;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APIThrottledException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APITimeoutException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ThrottlingStageTest {
+
+    private static final Executor EXECUTOR = Runnable::run;
+
+    private final APIRequest request = new GetRequest("/series/69733");
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    @Mock
+    private RequestStage next;
+
+    @Test
+    void send_withThrottledRequest_verifyLimiterIsNotified() throws Exception {
+        doReturn(Duration.ZERO).when(rateLimiter).reserve();
+        doThrow(new APIThrottledException("Too many requests", Duration.ofSeconds(5))).when(next).send(request,
+                APIRequest.RAW_CONTENT);
+        ThrottlingStage stage = new ThrottlingStage(rateLimiter, EXECUTOR, next);
+        assertThat(catchThrowableOfType(() -> stage.send(request, APIRequest.RAW_CONTENT),
+                APIThrottledException.class)).isNotNull();
+        verify(rateLimiter).onThrottled(Duration.ofSeconds(5));
+        verify(rateLimiter, never()).onSuccess();
+    }
+
+    @Test
+    void send_withPermitExceedingDeadline_verifyRequestIsNotSent() throws Exception {
+        request.setDeadline(Deadline.after(Duration.ofMillis(100)));
+        doReturn(Optional.empty()).when(rateLimiter).tryReserve(any());
+        ThrottlingStage stage = new ThrottlingStage(rateLimiter, EXECUTOR, next);
+        assertThat(catchThrowableOfType(() -> stage.send(request, APIRequest.RAW_CONTENT),
+                APITimeoutException.class)).isNotNull();
+        verify(rateLimiter, never()).reserve();
+        verify(next, never()).send(any(), any());
+    }
+
+    @Test
+    void sendAsync_withRequestCancelledWhileWaiting_verifyRequestIsNotSent() {
+        doReturn(Duration.ofMillis(50)).when(rateLimiter).reserve();
+        ThrottlingStage stage = new ThrottlingStage(rateLimiter, EXECUTOR, next);
+        CompletableFuture<byte[]> response = stage.sendAsync(request, APIRequest.RAW_CONTENT);
+        request.cancel();
+        assertThat(catchThrowableOfType(response::join, CompletionException.class))
+                .hasCauseInstanceOf(CancellationException.class).hasRootCauseMessage(ERR_REQUEST_CANCELLED);
+        verify(next, never()).sendAsync(any(), any());
+    }
+}
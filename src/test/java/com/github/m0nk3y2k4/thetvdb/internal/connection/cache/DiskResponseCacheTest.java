@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheKey;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CachedResponse;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIRuntimeException;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.CacheKeyImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.CachedResponseImpl;
+import com.github.m0nk3y2k4.thetvdb.testutils.MutableClock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DiskResponseCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private final MutableClock clock = new MutableClock();
+
+    @TempDir
+    Path directory;
+
+    private static CacheKey key(String path) {
+        return CacheKeyImpl.create("GET", path, "eng");
+    }
+
+    private static byte[] content(String value) {
+        return ("{\"data\":\"" + value + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private CachedResponse response(String value, Duration timeToLive) {
+        return new CachedResponseImpl(content(value), null, null, clock.instant().plus(timeToLive));
+    }
+
+    private DiskResponseCache open(long maximumSize) {
+        return new DiskResponseCache(directory, maximumSize, clock);
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(DiskResponseCacheTest::isSegment).count();
+        }
+    }
+
+    private static boolean isSegment(Path file) {
+        return file.getFileName().toString().startsWith("segment-");
+    }
+
+    @Test
+    void newDiskResponseCache_withInvalidParameters_verifyParameterValidation() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new DiskResponseCache(null, 1024));
+        assertThatIllegalArgumentException().isThrownBy(() -> new DiskResponseCache(directory, 0));
+    }
+
+    @Test
+    void get_withCachedContent_verifyContentIsReturned() {
+        try (DiskResponseCache cache = open(1024)) {
+            cache.put(key("/series/1"), response("Series 1", TTL));
+            assertThat(cache.get(key("/series/1"))).map(CachedResponse::getContent).hasValue(content("Series 1"));
+            assertThat(cache.get(key("/series/2"))).isEmpty();
+            assertThat(cache.getStatistics().getHitCount()).isOne();
+            assertThat(cache.getStatistics().getMissCount()).isOne();
+        }
+    }
+
+    @Test
+    void get_withExpiredContent_verifyContentIsNotReturned() {
+        try (DiskResponseCache cache = open(1024)) {
+            cache.put(key("/series/1"), response("Series 1", TTL));
+            clock.advance(TTL);
+            assertThat(cache.get(key("/series/1"))).isEmpty();
+            assertThat(cache.getStatistics().getEntryCount()).isZero();
+        }
+    }
+
+    @Test
+    void newDiskResponseCache_withExistingSegments_verifyContentSurvivesRestart() {
+        try (DiskResponseCache cache = open(1024)) {
+            cache.put(key("/series/1"), response("Series 1", TTL));
+            cache.put(key("/series/2"), response("Series 2", TTL));
+            cache.put(key("/series/1"), response("Series 1 updated", TTL));
+            cache.put(key("/series/3"), response("Series 3", Duration.ofSeconds(1)));
+        }
+        clock.advance(Duration.ofSeconds(1));
+        try (DiskResponseCache cache = open(1024)) {
+            assertThat(cache.get(key("/series/1"))).map(CachedResponse::getContent)
+                    .hasValue(content("Series 1 updated"));
+            assertThat(cache.get(key("/series/2"))).map(CachedResponse::getContent).hasValue(content("Series 2"));
+            assertThat(cache.get(key("/series/3"))).isEmpty();
+            assertThat(cache.get(CacheKeyImpl.create("GET", "/series/1", null))).isEmpty();
+            assertThat(cache.getStatistics().getEntryCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void newDiskResponseCache_withDirectoryInUse_verifyCacheIsNotOpened() {
+        try (DiskResponseCache cache = open(1024)) {
+            cache.put(key("/series/1"), response("Series 1", TTL));
+            assertThatExceptionOfType(APIRuntimeException.class).isThrownBy(() -> open(1024))
+                    .withMessageContaining("already in use");
+            assertThat(cache.get(key("/series/1"))).isPresent();
+        }
+        try (DiskResponseCache cache = open(1024)) {
+            assertThat(cache.get(key("/series/1"))).isPresent();
+        }
+    }
+
+    @Test
+    void newDiskResponseCache_withCorruptedSegment_verifyValidRecordsAreLoaded() throws Exception {
+        try (DiskResponseCache cache = open(1024)) {
+            cache.put(key("/series/1"), response("Series 1", TTL));
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>)files.filter(DiskResponseCacheTest::isSegment)::iterator) {
+                Files.write(file, new byte[]{0x54, 0x56, 0x44}, StandardOpenOption.APPEND);
+            }
+        }
+        try (DiskResponseCache cache = open(1024)) {
+            assertThat(cache.get(key("/series/1"))).map(CachedResponse::getContent).hasValue(content("Series 1"));
+            cache.put(key("/series/2"), response("Series 2", TTL));
+            assertThat(cache.get(key("/series/2"))).map(CachedResponse::getContent).hasValue(content("Series 2"));
+        }
+    }
+
+    @Test
+    void put_withMaximumSizeExceeded_verifyOldestSegmentsAreEvicted() throws Exception {
+        try (DiskResponseCache cache = open(800)) {
+            for (int i = 0; i < 50; i++) {
+                cache.put(key("/series/" + i), response("Series " + i, TTL));
+            }
+            assertThat(cache.getStatistics().getSize()).isLessThanOrEqualTo(800);
+            assertThat(cache.getStatistics().getEvictionCount()).isPositive();
+            assertThat(cache.get(key("/series/0"))).isEmpty();
+            assertThat(cache.get(key("/series/49"))).map(CachedResponse::getContent).hasValue(content("Series 49"));
+            assertThat(segmentFiles()).isLessThanOrEqualTo(9);
+        }
+    }
+
+    @Test
+    void put_withContentExceedingMaximumSize_verifyContentIsRejected() {
+        try (DiskResponseCache cache = open(16)) {
+            cache.put(key("/series/1"), response("Series 1", TTL));
+            assertThat(cache.get(key("/series/1"))).isEmpty();
+            assertThat(cache.getStatistics().getRejectionCount()).isOne();
+        }
+    }
+
+    @Test
+    void put_withoutTimeToLive_verifyContentIsNotCached() {
+        try (DiskResponseCache cache = open(1024)) {
+            cache.put(key("/series/1"), response("Series 1", Duration.ZERO));
+            assertThat(cache.getStatistics().getEntryCount()).isZero();
+            assertThat(cache.getStatistics().getSize()).isZero();
+        }
+    }
+
+    @Test
+    void put_withExpiredRevalidatableContent_verifyContentIsCached() {
+        try (DiskResponseCache cache = open(1024)) {
+            cache.put(key("/series/1"), new CachedResponseImpl(content("Series 1"), "\"v1\"", null, clock.instant()));
+            assertThat(cache.get(key("/series/1"))).isPresent();
+        }
+    }
+
+    @Test
+    void get_withExpiredRevalidatableContent_verifyStaleContentIsReturned() {
+        try (DiskResponseCache cache = open(1024)) {
+            cache.put(key("/series/1"), new CachedResponseImpl(content("Series 1"), "\"v1\"",
+                    "Sat, 01 Jan 2022 00:00:00 GMT", clock.instant().plus(TTL)));
+        }
+        clock.advance(TTL);
+        try (DiskResponseCache cache = open(1024)) {
+            assertThat(cache.get(key("/series/1"))).hasValueSatisfying(stale -> {
+                assertThat(stale.isExpired(clock.instant())).isTrue();
+                assertThat(stale.getContent()).isEqualTo(content("Series 1"));
+                assertThat(stale.getETag()).contains("\"v1\"");
+                assertThat(stale.getLastModified()).contains("Sat, 01 Jan 2022 00:00:00 GMT");
+            });
+            assertThat(cache.getStatistics().getMissCount()).isOne();
+        }
+    }
+
+    @Test
+    void refresh_withExpiredContent_verifyExpirationTimeIsExtendedPersistently() {
+        try (DiskResponseCache cache = open(1024)) {
+            cache.put(key("/series/1"), new CachedResponseImpl(content("Series 1"), "\"v1\"", null,
+                    clock.instant().plus(TTL)));
+            clock.advance(TTL);
+            cache.refresh(key("/series/1"), clock.instant().plus(TTL));
+            cache.refresh(key("/series/2"), clock.instant().plus(TTL));
+            assertThat(cache.getStatistics().getRevalidationCount()).isOne();
+        }
+        try (DiskResponseCache cache = open(1024)) {
+            assertThat(cache.get(key("/series/1"))).hasValueSatisfying(refreshed -> {
+                assertThat(refreshed.isExpired(clock.instant())).isFalse();
+                assertThat(refreshed.getContent()).isEqualTo(content("Series 1"));
+                assertThat(refreshed.getETag()).contains("\"v1\"");
+            });
+            assertThat(cache.get(key("/series/2"))).isEmpty();
+        }
+    }
+
+    @Test
+    void invalidateAll_verifyAllSegmentsAreDeleted() throws Exception {
+        try (DiskResponseCache cache = open(1024)) {
+            cache.put(key("/series/1"), response("Series 1", TTL));
+            cache.invalidateAll();
+            assertThat(cache.get(key("/series/1"))).isEmpty();
+            assertThat(cache.getStatistics().getSize()).isZero();
+            assertThat(segmentFiles()).isOne();     // The new, empty active segment
+        }
+        try (DiskResponseCache cache = open(1024)) {
+            assertThat(cache.getStatistics().getEntryCount()).isZero();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class FrequencySketchTest {
+
+    @Test
+    void increment_verifyFrequencyIsEstimated() {
+        FrequencySketch sketch = new FrequencySketch(64);
+        sketch.increment(1);
+        sketch.increment(1);
+        sketch.increment(2);
+        assertThat(sketch.frequency(1)).isEqualTo(2);
+        assertThat(sketch.frequency(2)).isOne();
+        assertThat(sketch.frequency(3)).isZero();
+    }
+
+    @Test
+    void increment_withManyAccesses_verifyFrequencyIsSaturated() {
+        FrequencySketch sketch = new FrequencySketch(64);
+        for (int i = 0; i < 20; i++) {
+            sketch.increment(1);
+        }
+        assertThat(sketch.frequency(1)).isEqualTo(15);
+    }
+
+    @Test
+    void increment_withSampleSizeReached_verifyFrequenciesAreHalved() {
+        FrequencySketch sketch = new FrequencySketch(16);   // Sample size of 160 accesses
+        for (int i = 0; i < 8; i++) {
+            sketch.increment(1);
+        }
+        for (int i = 0; i < 152; i++) {
+            sketch.increment(1000 + i);
+        }
+        assertThat(sketch.frequency(1)).isLessThanOrEqualTo(4);
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheKey;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheStatistics;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CachedResponse;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.CacheKeyImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.CachedResponseImpl;
+import com.github.m0nk3y2k4.thetvdb.testutils.MutableClock;
+import org.junit.jupiter.api.Test;
+
+class MemoryResponseCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private final MutableClock clock = new MutableClock();
+
+    private static CacheKey key(String path) {
+        return CacheKeyImpl.create("GET", path, null);
+    }
+
+    private CachedResponse response(int size) {
+        return response(size, TTL, null);
+    }
+
+    private CachedResponse response(int size, Duration timeToLive, String eTag) {
+        return new CachedResponseImpl("x".repeat(size).getBytes(StandardCharsets.UTF_8), eTag, null,
+                clock.instant().plus(timeToLive));
+    }
+
+    @Test
+    void newMemoryResponseCache_withInvalidMaximumSize_verifyParameterValidation() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new MemoryResponseCache(0));
+    }
+
+    @Test
+    void get_withCachedContent_verifyContentIsReturned() {
+        MemoryResponseCache cache = new MemoryResponseCache(100, clock);
+        CachedResponse response = response(10);
+        cache.put(key("/series/1"), response);
+        assertThat(cache.get(key("/series/1"))).containsSame(response);
+        assertThat(cache.get(key("/series/2"))).isEmpty();
+    }
+
+    @Test
+    void get_withExpiredContent_verifyContentIsRemoved() {
+        MemoryResponseCache cache = new MemoryResponseCache(100, clock);
+        cache.put(key("/series/1"), response(10));
+        clock.advance(TTL.minusNanos(1));
+        assertThat(cache.get(key("/series/1"))).isPresent();
+        clock.advance(Duration.ofNanos(1));
+        assertThat(cache.get(key("/series/1"))).isEmpty();
+        assertThat(cache.getStatistics().getEntryCount()).isZero();
+        assertThat(cache.getStatistics().getSize()).isZero();
+    }
+
+    @Test
+    void get_withExpiredRevalidatableContent_verifyStaleContentIsReturned() {
+        MemoryResponseCache cache = new MemoryResponseCache(100, clock);
+        cache.put(key("/series/1"), response(10, TTL, "\"v1\""));
+        clock.advance(TTL);
+        assertThat(cache.get(key("/series/1"))).hasValueSatisfying(stale -> {
+            assertThat(stale.isExpired(clock.instant())).isTrue();
+            assertThat(stale.getETag()).contains("\"v1\"");
+        });
+        assertThat(cache.getStatistics().getMissCount()).isOne();
+        assertThat(cache.getStatistics().getEntryCount()).isOne();
+    }
+
+    @Test
+    void put_withoutTimeToLive_verifyContentIsNotCached() {
+        MemoryResponseCache cache = new MemoryResponseCache(100, clock);
+        cache.put(key("/series/1"), response(10, Duration.ZERO, null));
+        cache.put(key("/series/2"), response(10, Duration.ofSeconds(-1), null));
+        assertThat(cache.getStatistics().getEntryCount()).isZero();
+    }
+
+    @Test
+    void put_withExpiredRevalidatableContent_verifyContentIsCached() {
+        MemoryResponseCache cache = new MemoryResponseCache(100, clock);
+        cache.put(key("/series/1"), response(10, Duration.ZERO, "\"v1\""));
+        assertThat(cache.get(key("/series/1"))).isPresent();
+    }
+
+    @Test
+    void put_withExistingKey_verifyContentIsReplaced() {
+        MemoryResponseCache cache = new MemoryResponseCache(100, clock);
+        cache.put(key("/series/1"), response(10));
+        cache.put(key("/series/1"), response(20));
+        assertThat(cache.get(key("/series/1")))
+                .hasValueSatisfying(response -> assertThat(response.getContent()).hasSize(20));
+        assertThat(cache.getStatistics().getSize()).isEqualTo(20);
+    }
+
+    @Test
+    void put_withContentExceedingMaximumSize_verifyContentIsRejected() {
+        MemoryResponseCache cache = new MemoryResponseCache(100, clock);
+        cache.put(key("/series/1"), response(101));
+        assertThat(cache.get(key("/series/1"))).isEmpty();
+        assertThat(cache.getStatistics().getRejectionCount()).isOne();
+    }
+
+    @Test
+    void put_withMaximumSizeExceeded_verifyLeastRecentlyUsedEntryIsEvicted() {
+        MemoryResponseCache cache = new MemoryResponseCache(100, clock);
+        cache.put(key("/series/1"), response(40));
+        cache.put(key("/series/2"), response(40));
+        cache.get(key("/series/1"));        // Series 2 is now the least recently used entry
+        cache.get(key("/series/3"));        // Series 3 has been requested before
+        cache.get(key("/series/3"));
+        cache.put(key("/series/3"), response(40));
+        assertThat(cache.get(key("/series/1"))).isPresent();
+        assertThat(cache.get(key("/series/2"))).isEmpty();
+        assertThat(cache.get(key("/series/3"))).isPresent();
+        assertThat(cache.getStatistics().getEvictionCount()).isOne();
+        assertThat(cache.getStatistics().getSize()).isEqualTo(80);
+    }
+
+    @Test
+    void put_withLessFrequentlyRequestedCandidate_verifyCandidateIsRejected() {
+        MemoryResponseCache cache = new MemoryResponseCache(100, clock);
+        cache.put(key("/series/1"), response(60));
+        cache.get(key("/series/1"));
+        cache.get(key("/series/1"));
+        cache.put(key("/series/2"), response(60));
+        assertThat(cache.get(key("/series/1"))).isPresent();
+        assertThat(cache.get(key("/series/2"))).isEmpty();
+        assertThat(cache.getStatistics().getRejectionCount()).isOne();
+        assertThat(cache.getStatistics().getEvictionCount()).isZero();
+    }
+
+    @Test
+    void put_withMoreFrequentlyRequestedSecondVictim_verifyNoEntryIsEvicted() {
+        MemoryResponseCache cache = new MemoryResponseCache(100, clock);
+        cache.put(key("/series/1"), response(40));
+        cache.put(key("/series/2"), response(40));
+        cache.get(key("/series/2"));        // Series 1 is the least recently used entry but series 2 is more popular
+        cache.get(key("/series/2"));
+        cache.get(key("/series/2"));
+        cache.get(key("/series/3"));
+        cache.put(key("/series/3"), response(70));       // Requires evicting both entries
+        assertThat(cache.getStatistics().getRejectionCount()).isOne();
+        assertThat(cache.getStatistics().getEvictionCount()).isZero();
+        assertThat(cache.get(key("/series/1"))).isPresent();
+        assertThat(cache.get(key("/series/2"))).isPresent();
+        assertThat(cache.get(key("/series/3"))).isEmpty();
+        assertThat(cache.getStatistics().getSize()).isEqualTo(80);
+    }
+
+    @Test
+    void put_withRejectedReplacement_verifyExistingContentIsKept() {
+        MemoryResponseCache cache = new MemoryResponseCache(100, clock);
+        cache.put(key("/series/1"), response(40));
+        cache.get(key("/series/1"));
+        cache.get(key("/series/1"));
+        cache.put(key("/series/2"), response(40));
+        cache.put(key("/series/2"), response(70));
+        assertThat(cache.getStatistics().getRejectionCount()).isOne();
+        assertThat(cache.get(key("/series/2")))
+                .hasValueSatisfying(response -> assertThat(response.getContent()).hasSize(40));
+        assertThat(cache.get(key("/series/1"))).isPresent();
+        assertThat(cache.getStatistics().getSize()).isEqualTo(80);
+    }
+
+    @Test
+    void put_withExpiredEntries_verifyExpiredEntriesAreEvictedRegardlessOfFrequency() {
+        MemoryResponseCache cache = new MemoryResponseCache(100, clock);
+        cache.put(key("/series/1"), response(60, TTL, "\"v1\""));
+        cache.get(key("/series/1"));
+        cache.get(key("/series/1"));
+        clock.advance(TTL);
+        cache.put(key("/series/2"), response(60));
+        assertThat(cache.get(key("/series/2"))).isPresent();
+        assertThat(cache.getStatistics().getEntryCount()).isOne();
+    }
+
+    @Test
+    void refresh_withExpiredContent_verifyExpirationTimeIsExtended() {
+        MemoryResponseCache cache = new MemoryResponseCache(100, clock);
+        CachedResponse response = response(10, TTL, "\"v1\"");
+        cache.put(key("/series/1"), response);
+        clock.advance(TTL);
+        cache.refresh(key("/series/1"), clock.instant().plus(TTL));
+        cache.refresh(key("/series/2"), clock.instant().plus(TTL));
+        assertThat(cache.get(key("/series/1"))).hasValueSatisfying(refreshed -> {
+            assertThat(refreshed.isExpired(clock.instant())).isFalse();
+            assertThat(refreshed.getContent()).isSameAs(response.getContent());
+            assertThat(refreshed.getETag()).contains("\"v1\"");
+        });
+        assertThat(cache.get(key("/series/2"))).isEmpty();
+        assertThat(cache.getStatistics().getRevalidationCount()).isOne();
+    }
+
+    @Test
+    void invalidateAll_verifyAllEntriesAreRemoved() {
+        MemoryResponseCache cache = new MemoryResponseCache(100, clock);
+        cache.put(key("/series/1"), response(10));
+        cache.put(key("/series/2"), response(10));
+        cache.invalidateAll();
+        assertThat(cache.get(key("/series/1"))).isEmpty();
+        assertThat(cache.getStatistics().getEntryCount()).isZero();
+        assertThat(cache.getStatistics().getSize()).isZero();
+    }
+
+    @Test
+    void getStatistics_verifyHitsAndMissesAreRecorded() {
+        MemoryResponseCache cache = new MemoryResponseCache(100, clock);
+        cache.get(key("/series/1"));
+        cache.put(key("/series/1"), response(10));
+        cache.get(key("/series/1"));
+        cache.get(key("/series/1"));
+        cache.get(key("/series/1"));
+        CacheStatistics statistics = cache.getStatistics();
+        assertThat(statistics.getHitCount()).isEqualTo(3);
+        assertThat(statistics.getMissCount()).isOne();
+        assertThat(statistics.getHitRate()).isEqualTo(0.75);
+        assertThat(statistics.getEntryCount()).isOne();
+        assertThat(statistics.getSize()).isEqualTo(10);
+    }
+}
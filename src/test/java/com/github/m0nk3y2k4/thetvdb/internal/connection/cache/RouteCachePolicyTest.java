@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.CacheKeyImpl;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RouteCachePolicyTest {
+
+    private static Duration timeToLive(String resource) {
+        return RouteCachePolicy.getDefault().getTimeToLive(CacheKeyImpl.create("GET", resource, "eng"));
+    }
+
+    @ParameterizedTest(name = "[{index}] Route {0} is not cached")
+    @ValueSource(strings = {"/login", "/user", "/user/favorites", "/user/4", "/updates?since=16257"})
+    void getTimeToLive_withUncachedRoute_verifyZeroTimeToLive(String resource) {
+        assertThat(timeToLive(resource)).isZero();
+    }
+
+    @ParameterizedTest(name = "[{index}] Route {0} is cached as search result")
+    @ValueSource(strings = {"/search", "/search?query=Simpsons&type=series"})
+    void getTimeToLive_withSearchRoute_verifySearchResultsTimeToLive(String resource) {
+        assertThat(timeToLive(resource)).isEqualTo(RouteCachePolicy.SEARCH_RESULTS);
+    }
+
+    @ParameterizedTest(name = "[{index}] Route {0} is cached as reference data")
+    @ValueSource(strings = {"/genres", "/genres/4", "/genders", "/content/ratings", "/entities", "/awards/7",
+            "/artwork/types", "/series/statuses", "/sources/types", "/inspiration/types"})
+    void getTimeToLive_withReferenceDataRoute_verifyReferenceDataTimeToLive(String resource) {
+        assertThat(timeToLive(resource)).isEqualTo(RouteCachePolicy.REFERENCE_DATA);
+    }
+
+    @ParameterizedTest(name = "[{index}] Route {0} is cached as record")
+    @ValueSource(strings = {"/series/69", "/series/69/extended?meta=translations", "/movies", "/people/3/extended",
+            "/episodes/41/translations/eng", "/series/filter?genre=3"})
+    void getTimeToLive_withRecordRoute_verifyRecordsTimeToLive(String resource) {
+        assertThat(timeToLive(resource)).isEqualTo(RouteCachePolicy.RECORDS);
+    }
+}
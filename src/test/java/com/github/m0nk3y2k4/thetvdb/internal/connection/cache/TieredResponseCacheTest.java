@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheKey;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CacheStatistics;
+import com.github.m0nk3y2k4.thetvdb.api.cache.CachedResponse;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.CacheKeyImpl;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.CachedResponseImpl;
+import com.github.m0nk3y2k4.thetvdb.testutils.MutableClock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TieredResponseCacheTest {
+
+    private static final CacheKey KEY = CacheKeyImpl.create("GET", "/series/69", "eng");
+
+    private static final byte[] CONTENT = "{\"data\":\"Series\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private static final CachedResponse RESPONSE = new CachedResponseImpl(CONTENT, "\"v1\"", null,
+            Instant.now().plus(TTL));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void newTieredResponseCache_withMissingTiers_verifyParameterValidation() {
+        try (DiskResponseCache disk = new DiskResponseCache(directory, 1024)) {
+            assertThatIllegalArgumentException().isThrownBy(() -> new TieredResponseCache(null, disk));
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> new TieredResponseCache(new MemoryResponseCache(1024), null));
+        }
+    }
+
+    @Test
+    void put_verifyContentIsWrittenToBothTiers() {
+        MemoryResponseCache memory = new MemoryResponseCache(1024);
+        try (DiskResponseCache disk = new DiskResponseCache(directory, 1024)) {
+            new TieredResponseCache(memory, disk).put(KEY, RESPONSE);
+            assertThat(memory.get(KEY)).map(CachedResponse::getContent).hasValue(CONTENT);
+            assertThat(disk.get(KEY)).map(CachedResponse::getContent).hasValue(CONTENT);
+        }
+    }
+
+    @Test
+    void get_withContentOnlyOnDisk_verifyContentIsPromotedToMemory() {
+        try (DiskResponseCache disk = new DiskResponseCache(directory, 1024)) {
+            disk.put(KEY, RESPONSE);
+        }
+        MemoryResponseCache memory = new MemoryResponseCache(1024);
+        try (TieredResponseCache cache = new TieredResponseCache(memory, new DiskResponseCache(directory, 1024))) {
+            assertThat(cache.get(KEY)).map(CachedResponse::getContent).hasValue(CONTENT);
+            assertThat(cache.get(KEY)).map(CachedResponse::getContent).hasValue(CONTENT);
+            assertThat(memory.getStatistics().getHitCount()).isOne();
+            assertThat(memory.getStatistics().getEntryCount()).isOne();
+        }
+    }
+
+    @Test
+    void getStatistics_verifyStatisticsOfBothTiersAreCombined() {
+        try (TieredResponseCache cache = new TieredResponseCache(new MemoryResponseCache(1024),
+                new DiskResponseCache(directory, 1024))) {
+            cache.get(KEY);
+            cache.put(KEY, RESPONSE);
+            cache.get(KEY);
+            CacheStatistics statistics = cache.getStatistics();
+            assertThat(statistics.getHitCount()).isOne();
+            assertThat(statistics.getMissCount()).isOne();
+            assertThat(statistics.getEntryCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void refresh_withExpiredContent_verifyBothTiersAreRefreshed() {
+        MutableClock clock = new MutableClock();
+        MemoryResponseCache memory = new MemoryResponseCache(1024, clock);
+        try (DiskResponseCache disk = new DiskResponseCache(directory, 1024, clock)) {
+            TieredResponseCache cache = new TieredResponseCache(memory, disk, clock);
+            cache.put(KEY, new CachedResponseImpl(CONTENT, "\"v1\"", null, clock.instant().plus(TTL)));
+            clock.advance(TTL);
+            assertThat(cache.get(KEY).map(stale -> stale.isExpired(clock.instant()))).contains(true);
+            cache.refresh(KEY, clock.instant().plus(TTL));
+            assertThat(memory.get(KEY).map(response -> response.isExpired(clock.instant()))).contains(false);
+            assertThat(disk.get(KEY).map(response -> response.isExpired(clock.instant()))).contains(false);
+            assertThat(cache.getStatistics().getMissCount()).isOne();
+            assertThat(cache.getStatistics().getRevalidationCount()).isOne();
+        }
+    }
+
+    @Test
+    void invalidateAll_verifyBothTiersAreCleared() {
+        MemoryResponseCache memory = new MemoryResponseCache(1024);
+        try (DiskResponseCache disk = new DiskResponseCache(directory, 1024)) {
+            TieredResponseCache cache = new TieredResponseCache(memory, disk);
+            cache.put(KEY, RESPONSE);
+            cache.invalidateAll();
+            assertThat(memory.getStatistics().getEntryCount()).isZero();
+            assertThat(disk.getStatistics().getEntryCount()).isZero();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.circuitbreaker;
+
+import static com.github.m0nk3y2k4.thetvdb.api.enumeration.CircuitState.CLOSED;
+import static com.github.m0nk3y2k4.thetvdb.api.enumeration.CircuitState.HALF_OPEN;
+import static com.github.m0nk3y2k4.thetvdb.api.enumeration.CircuitState.OPEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import com.github.m0nk3y2k4.thetvdb.api.circuitbreaker.CircuitBreakerListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ConsecutiveFailuresCircuitBreakerTest {
+
+    private static final String SERIES = "/series";
+    private static final String MOVIES = "/movies";
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final AtomicLong ticker = new AtomicLong();
+    private final List<String> transitions = new ArrayList<>();
+    private final CircuitBreakerListener listener =
+            (family, from, to) -> transitions.add(family + ":" + from + "->" + to);
+
+    private static Stream<Arguments> new_withInvalidParameters_verifyParameterValidation() {
+        return Stream.of(
+                Arguments.of(0, OPEN_DURATION, 1),
+                Arguments.of(3, null, 1),
+                Arguments.of(3, Duration.ZERO, 1),
+                Arguments.of(3, OPEN_DURATION.negated(), 1),
+                Arguments.of(3, OPEN_DURATION, 0)
+        );
+    }
+
+    private ConsecutiveFailuresCircuitBreaker breaker(int failureThreshold, int probeCount) {
+        return new ConsecutiveFailuresCircuitBreaker(failureThreshold, OPEN_DURATION, probeCount, listener,
+                ticker::get);
+    }
+
+    private static void fail(ConsecutiveFailuresCircuitBreaker breaker, String family, int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.tryAcquire(family);
+            breaker.onFailure(family);
+        }
+    }
+
+    @ParameterizedTest(name = "[{index}] Circuit breaker is not created with ({0}, {1}, {2})")
+    @MethodSource
+    void new_withInvalidParameters_verifyParameterValidation(int failureThreshold, Duration openDuration,
+            int probeCount) {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new ConsecutiveFailuresCircuitBreaker(failureThreshold, openDuration, probeCount, null));
+    }
+
+    @Test
+    void tryAcquire_withClosedCircuit_verifyRequestIsPermitted() {
+        ConsecutiveFailuresCircuitBreaker breaker = breaker(3, 1);
+        assertThat(breaker.getState(SERIES)).isEqualTo(CLOSED);
+        assertThat(breaker.tryAcquire(SERIES)).isTrue();
+        assertThat(transitions).isEmpty();
+    }
+
+    @Test
+    void onFailure_withThresholdReached_verifyCircuitOpens() {
+        ConsecutiveFailuresCircuitBreaker breaker = breaker(3, 1);
+        fail(breaker, SERIES, 2);
+        assertThat(breaker.getState(SERIES)).isEqualTo(CLOSED);
+        fail(breaker, SERIES, 1);
+        assertThat(breaker.getState(SERIES)).isEqualTo(OPEN);
+        assertThat(breaker.tryAcquire(SERIES)).isFalse();
+        assertThat(transitions).containsExactly("/series:CLOSED->OPEN");
+    }
+
+    @Test
+    void onSuccess_withClosedCircuit_verifyConsecutiveFailuresAreReset() {
+        ConsecutiveFailuresCircuitBreaker breaker = breaker(3, 1);
+        fail(breaker, SERIES, 2);
+        breaker.onSuccess(SERIES);
+        fail(breaker, SERIES, 2);
+        assertThat(breaker.getState(SERIES)).isEqualTo(CLOSED);
+    }
+
+    @Test
+    void onFailure_withOpenCircuit_verifyOtherFamiliesAreNotAffected() {
+        ConsecutiveFailuresCircuitBreaker breaker = breaker(1, 1);
+        fail(breaker, SERIES, 1);
+        assertThat(breaker.tryAcquire(SERIES)).isFalse();
+        assertThat(breaker.tryAcquire(MOVIES)).isTrue();
+        assertThat(breaker.getState(MOVIES)).isEqualTo(CLOSED);
+    }
+
+    @Test
+    void tryAcquire_afterOpenDuration_verifyLimitedNumberOfProbesIsPermitted() {
+        ConsecutiveFailuresCircuitBreaker breaker = breaker(1, 2);
+        fail(breaker, SERIES, 1);
+        ticker.addAndGet(OPEN_DURATION.minusNanos(1).toNanos());
+        assertThat(breaker.tryAcquire(SERIES)).isFalse();
+        ticker.incrementAndGet();
+        assertThat(breaker.tryAcquire(SERIES)).isTrue();
+        assertThat(breaker.tryAcquire(SERIES)).isTrue();
+        assertThat(breaker.tryAcquire(SERIES)).isFalse();
+        assertThat(breaker.getState(SERIES)).isEqualTo(HALF_OPEN);
+        assertThat(transitions).containsExactly("/series:CLOSED->OPEN", "/series:OPEN->HALF_OPEN");
+    }
+
+    @Test
+    void onSuccess_withAllProbesSucceeded_verifyCircuitCloses() {
+        ConsecutiveFailuresCircuitBreaker breaker = breaker(1, 2);
+        fail(breaker, SERIES, 1);
+        ticker.addAndGet(OPEN_DURATION.toNanos());
+        breaker.tryAcquire(SERIES);
+        breaker.tryAcquire(SERIES);
+        breaker.onSuccess(SERIES);
+        assertThat(breaker.getState(SERIES)).isEqualTo(HALF_OPEN);
+        breaker.onSuccess(SERIES);
+        assertThat(breaker.getState(SERIES)).isEqualTo(CLOSED);
+        assertThat(breaker.tryAcquire(SERIES)).isTrue();
+        assertThat(transitions).containsExactly("/series:CLOSED->OPEN", "/series:OPEN->HALF_OPEN",
+                "/series:HALF_OPEN->CLOSED");
+    }
+
+    @Test
+    void onFailure_withFailedProbe_verifyCircuitOpensAgain() {
+        ConsecutiveFailuresCircuitBreaker breaker = breaker(3, 2);
+        fail(breaker, SERIES, 3);
+        ticker.addAndGet(OPEN_DURATION.toNanos());
+        fail(breaker, SERIES, 1);
+        assertThat(breaker.getState(SERIES)).isEqualTo(OPEN);
+        assertThat(breaker.tryAcquire(SERIES)).isFalse();
+        ticker.addAndGet(OPEN_DURATION.toNanos());
+        assertThat(breaker.tryAcquire(SERIES)).isTrue();
+        assertThat(transitions).containsExactly("/series:CLOSED->OPEN", "/series:OPEN->HALF_OPEN",
+                "/series:HALF_OPEN->OPEN", "/series:OPEN->HALF_OPEN");
+    }
+
+    @Test
+    void release_withReleasedProbe_verifyAnotherProbeIsPermitted() {
+        ConsecutiveFailuresCircuitBreaker breaker = breaker(1, 1);
+        fail(breaker, SERIES, 1);
+        ticker.addAndGet(OPEN_DURATION.toNanos());
+        assertThat(breaker.tryAcquire(SERIES)).isTrue();
+        assertThat(breaker.tryAcquire(SERIES)).isFalse();
+        breaker.release(SERIES);
+        assertThat(breaker.getState(SERIES)).isEqualTo(HALF_OPEN);
+        assertThat(breaker.tryAcquire(SERIES)).isTrue();
+        breaker.onSuccess(SERIES);
+        assertThat(breaker.getState(SERIES)).isEqualTo(CLOSED);
+    }
+
+    @Test
+    void release_withClosedCircuit_verifyStateIsUnchanged() {
+        ConsecutiveFailuresCircuitBreaker breaker = breaker(2, 1);
+        fail(breaker, SERIES, 1);
+        breaker.tryAcquire(SERIES);
+        breaker.release(SERIES);
+        fail(breaker, SERIES, 1);
+        assertThat(breaker.getState(SERIES)).isEqualTo(OPEN);
+        assertThat(transitions).containsExactly("/series:CLOSED->OPEN");
+    }
+
+    @Test
+    void onFailure_withoutListener_verifyStateChanges() {
+        ConsecutiveFailuresCircuitBreaker breaker = new ConsecutiveFailuresCircuitBreaker(1, OPEN_DURATION, 1, null,
+                ticker::get);
+        fail(breaker, SERIES, 1);
+        assertThat(breaker.getState(SERIES)).isEqualTo(OPEN);
+    }
+}
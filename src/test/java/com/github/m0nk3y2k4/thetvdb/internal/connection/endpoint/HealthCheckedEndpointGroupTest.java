@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.endpoint;
+
+import static com.github.m0nk3y2k4.thetvdb.api.enumeration.LoadBalancing.LATENCY_WEIGHTED;
+import static com.github.m0nk3y2k4.thetvdb.api.enumeration.LoadBalancing.ROUND_ROBIN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import com.github.m0nk3y2k4.thetvdb.api.Proxy;
+import com.github.m0nk3y2k4.thetvdb.api.endpoint.EndpointStatistics;
+import com.github.m0nk3y2k4.thetvdb.api.enumeration.LoadBalancing;
+import com.github.m0nk3y2k4.thetvdb.internal.connection.RemoteAPI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class HealthCheckedEndpointGroupTest {
+
+    private static final Proxy PRIMARY = new RemoteAPI.Builder().protocol("http").host("primary").port(8080).build();
+    private static final Proxy SECONDARY =
+            new RemoteAPI.Builder().protocol("http").host("secondary").port(8080).build();
+    private static final Duration DOWNTIME = Duration.ofSeconds(30);
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private double randomValue;
+
+    private HealthCheckedEndpointGroup group(LoadBalancing loadBalancing) {
+        return new HealthCheckedEndpointGroup(List.of(PRIMARY, SECONDARY), loadBalancing, 2, DOWNTIME, ticker::get,
+                () -> randomValue);
+    }
+
+    private static EndpointStatistics statistics(HealthCheckedEndpointGroup group, Proxy endpoint) {
+        return group.getStatistics().stream().filter(stats -> stats.getEndpoint().equals(endpoint)).findFirst()
+                .orElseThrow();
+    }
+
+    private static Stream<Arguments> new_withInvalidParameters_verifyParameterValidation() {
+        return Stream.of(
+                Arguments.of(null, ROUND_ROBIN, 1, DOWNTIME),
+                Arguments.of(Collections.<Proxy>emptyList(), ROUND_ROBIN, 1, DOWNTIME),
+                Arguments.of(List.of(PRIMARY, PRIMARY), ROUND_ROBIN, 1, DOWNTIME),
+                Arguments.of(List.of(PRIMARY), null, 1, DOWNTIME),
+                Arguments.of(List.of(PRIMARY), ROUND_ROBIN, 0, DOWNTIME),
+                Arguments.of(List.of(PRIMARY), ROUND_ROBIN, 1, null),
+                Arguments.of(List.of(PRIMARY), ROUND_ROBIN, 1, Duration.ZERO)
+        );
+    }
+
+    @ParameterizedTest(name = "[{index}] Endpoint group is not created with {0}, {1}, {2} and {3}")
+    @MethodSource
+    void new_withInvalidParameters_verifyParameterValidation(Collection<Proxy> endpoints, LoadBalancing loadBalancing,
+            int failureThreshold, Duration downtime) {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new HealthCheckedEndpointGroup(endpoints, loadBalancing, failureThreshold, downtime));
+    }
+
+    @Test
+    void getEndpoints_verifyEndpointsAreReturnedInOrder() {
+        assertThat(group(ROUND_ROBIN).getEndpoints()).containsExactly(PRIMARY, SECONDARY);
+    }
+
+    @Test
+    void select_withRoundRobin_verifyEndpointsAreSelectedInTurn() {
+        HealthCheckedEndpointGroup group = group(ROUND_ROBIN);
+        assertThat(Stream.generate(() -> group.select(Set.of()).orElseThrow()).limit(4))
+                .containsExactly(PRIMARY, SECONDARY, PRIMARY, SECONDARY);
+    }
+
+    @Test
+    void select_withExcludedEndpoint_verifyOtherEndpointIsSelected() {
+        HealthCheckedEndpointGroup group = group(ROUND_ROBIN);
+        assertThat(group.select(Set.of(PRIMARY))).contains(SECONDARY);
+        assertThat(group.select(Set.of(PRIMARY))).contains(SECONDARY);
+    }
+
+    @Test
+    void select_withAllEndpointsExcluded_verifyNoEndpointIsSelected() {
+        assertThat(group(ROUND_ROBIN).select(Set.of(PRIMARY, SECONDARY))).isEmpty();
+    }
+
+    @Test
+    void select_withLatencyWeighting_verifyFasterEndpointIsPreferred() {
+        HealthCheckedEndpointGroup group = group(LATENCY_WEIGHTED);
+        group.onSuccess(PRIMARY, Duration.ofMillis(300));
+        group.onSuccess(SECONDARY, Duration.ofMillis(100));
+        randomValue = 0.2;      // Primary: weight 1/4 of total
+        assertThat(group.select(Set.of())).contains(PRIMARY);
+        randomValue = 0.3;
+        assertThat(group.select(Set.of())).contains(SECONDARY);
+    }
+
+    @Test
+    void select_withLatencyWeightingAndUnknownLatency_verifyEndpointIsWeightedLikeFastestEndpoint() {
+        HealthCheckedEndpointGroup group = group(LATENCY_WEIGHTED);
+        group.onSuccess(SECONDARY, Duration.ofMillis(100));
+        randomValue = 0.49;
+        assertThat(group.select(Set.of())).contains(PRIMARY);
+        randomValue = 0.51;
+        assertThat(group.select(Set.of())).contains(SECONDARY);
+    }
+
+    @Test
+    void onFailure_withThresholdReached_verifyEndpointIsAvoidedForDowntime() {
+        HealthCheckedEndpointGroup group = group(ROUND_ROBIN);
+        group.onFailure(PRIMARY);
+        assertThat(statistics(group, PRIMARY).isAvailable()).isTrue();
+        group.onFailure(PRIMARY);
+        assertThat(statistics(group, PRIMARY).isAvailable()).isFalse();
+        assertThat(Stream.generate(() -> group.select(Set.of()).orElseThrow()).limit(3)).containsOnly(SECONDARY);
+        ticker.addAndGet(DOWNTIME.toNanos());
+        assertThat(statistics(group, PRIMARY).isAvailable()).isTrue();
+        assertThat(Stream.generate(() -> group.select(Set.of()).orElseThrow()).limit(2)).contains(PRIMARY);
+    }
+
+    @Test
+    void onSuccess_withPreviousFailure_verifyConsecutiveFailuresAreReset() {
+        HealthCheckedEndpointGroup group = group(ROUND_ROBIN);
+        group.onFailure(PRIMARY);
+        group.onSuccess(PRIMARY, Duration.ofMillis(50));
+        group.onFailure(PRIMARY);
+        assertThat(statistics(group, PRIMARY).isAvailable()).isTrue();
+        assertThat(statistics(group, PRIMARY).getFailureCount()).isEqualTo(2);
+    }
+
+    @Test
+    void select_withAllEndpointsDown_verifyEndpointRecoveringFirstIsSelected() {
+        HealthCheckedEndpointGroup group = group(ROUND_ROBIN);
+        group.onFailure(SECONDARY);
+        group.onFailure(SECONDARY);
+        ticker.addAndGet(Duration.ofSeconds(5).toNanos());
+        group.onFailure(PRIMARY);
+        group.onFailure(PRIMARY);
+        assertThat(group.select(Set.of())).contains(SECONDARY);
+        assertThat(group.select(Set.of(SECONDARY))).contains(PRIMARY);
+    }
+
+    @Test
+    void onSuccess_withEndpointNotPartOfGroup_verifyParameterValidation() {
+        Proxy other = new RemoteAPI.Builder().protocol("http").host("other").port(8080).build();
+        HealthCheckedEndpointGroup group = group(ROUND_ROBIN);
+        assertThatIllegalArgumentException().isThrownBy(() -> group.onSuccess(other, Duration.ofMillis(10)));
+        assertThatIllegalArgumentException().isThrownBy(() -> group.onFailure(other));
+    }
+
+    @Test
+    void getStatistics_verifyRequestsFailuresAndLatencyAreTracked() {
+        HealthCheckedEndpointGroup group = group(ROUND_ROBIN);
+        group.select(Set.of());
+        group.select(Set.of());
+        group.select(Set.of());
+        group.onSuccess(PRIMARY, Duration.ofMillis(100));
+        group.onSuccess(PRIMARY, Duration.ofMillis(200));
+        group.onFailure(SECONDARY);
+
+        EndpointStatistics primary = statistics(group, PRIMARY);
+        assertThat(primary.getRequestCount()).isEqualTo(2);
+        assertThat(primary.getFailureCount()).isZero();
+        assertThat(primary.getLatency()).contains(Duration.ofMillis(130));
+        assertThat(primary.isAvailable()).isTrue();
+
+        EndpointStatistics secondary = statistics(group, SECONDARY);
+        assertThat(secondary.getRequestCount()).isEqualTo(1);
+        assertThat(secondary.getFailureCount()).isEqualTo(1);
+        assertThat(secondary.getLatency()).isEmpty();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.hedging;
+
+import static com.github.m0nk3y2k4.thetvdb.internal.connection.hedging.PercentileHedgingPolicy.BUDGET_RESERVE;
+import static com.github.m0nk3y2k4.thetvdb.internal.connection.hedging.PercentileHedgingPolicy.MINIMUM_SAMPLES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+
+import com.github.m0nk3y2k4.thetvdb.api.hedging.HedgingStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class PercentileHedgingPolicyTest {
+
+    private static final String FAMILY = "/series";
+
+    private static void recordLatencies(PercentileHedgingPolicy policy, String family, int from, int to) {
+        for (int millis = from; millis <= to; millis++) {
+            policy.onResponse(family, Duration.ofMillis(millis), false);
+        }
+    }
+
+    @ParameterizedTest(name = "[{index}] Hedging policy is not created with ({0}, {1}, {2})")
+    @CsvSource(value = {"0, 100, 0.1", "1, 100, 0.1", "-0.5, 100, 0.1", "0.95, 9, 0.1", "0.95, 100, -0.1",
+            "0.95, 100, 1.1"})
+    void new_withInvalidParameters_verifyParameterValidation(double percentile, int windowSize, double budgetRatio) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new PercentileHedgingPolicy(percentile, windowSize, budgetRatio));
+    }
+
+    @Test
+    void getHedgeDelay_withoutRecordedLatencies_verifyRequestsAreNotHedged() {
+        PercentileHedgingPolicy policy = new PercentileHedgingPolicy(0.95, 100, 0.1);
+        assertThat(policy.getHedgeDelay(FAMILY)).isEmpty();
+        recordLatencies(policy, FAMILY, 1, MINIMUM_SAMPLES - 1);
+        assertThat(policy.getHedgeDelay(FAMILY)).isEmpty();
+        recordLatencies(policy, FAMILY, MINIMUM_SAMPLES, MINIMUM_SAMPLES);
+        assertThat(policy.getHedgeDelay(FAMILY)).isPresent();
+    }
+
+    @Test
+    void getHedgeDelay_withRecordedLatencies_verifyPercentileIsUsed() {
+        PercentileHedgingPolicy policy = new PercentileHedgingPolicy(0.9, 100, 0.1);
+        recordLatencies(policy, FAMILY, 1, 100);
+        assertThat(policy.getHedgeDelay(FAMILY)).contains(Duration.ofMillis(90));
+    }
+
+    @Test
+    void getHedgeDelay_withVerySmallPercentile_verifyFastestLatencyIsUsed() {
+        PercentileHedgingPolicy policy = new PercentileHedgingPolicy(0.001, 100, 0.1);
+        recordLatencies(policy, FAMILY, 1, 100);
+        assertThat(policy.getHedgeDelay(FAMILY)).contains(Duration.ofMillis(1));
+    }
+
+    @Test
+    void getHedgeDelay_withFullWindow_verifyOnlyRecentLatenciesAreUsed() {
+        PercentileHedgingPolicy policy = new PercentileHedgingPolicy(0.5, 10, 0.1);
+        recordLatencies(policy, FAMILY, 1000, 1009);
+        recordLatencies(policy, FAMILY, 1, 10);
+        assertThat(policy.getHedgeDelay(FAMILY)).contains(Duration.ofMillis(5));
+    }
+
+    @Test
+    void getHedgeDelay_withMultipleRouteFamilies_verifyLatenciesAreRecordedPerFamily() {
+        PercentileHedgingPolicy policy = new PercentileHedgingPolicy(0.5, 10, 0.1);
+        recordLatencies(policy, FAMILY, 1, 10);
+        recordLatencies(policy, "/search", 101, 110);
+        assertThat(policy.getHedgeDelay(FAMILY)).contains(Duration.ofMillis(5));
+        assertThat(policy.getHedgeDelay("/search")).contains(Duration.ofMillis(105));
+        assertThat(policy.getHedgeDelay("/episodes")).isEmpty();
+    }
+
+    @Test
+    void tryHedge_withExhaustedBudget_verifyHedgeIsDenied() {
+        PercentileHedgingPolicy policy = new PercentileHedgingPolicy(0.95, 100, 0.1);
+        for (int i = 0; i < BUDGET_RESERVE; i++) {
+            assertThat(policy.tryHedge()).isTrue();
+        }
+        assertThat(policy.tryHedge()).isFalse();
+        assertThat(policy.getStatistics().getBudgetExhaustedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void onRequest_withExhaustedBudget_verifyBudgetIsReplenishedByBudgetRatio() {
+        PercentileHedgingPolicy policy = new PercentileHedgingPolicy(0.95, 100, 0.25);
+        for (int i = 0; i < BUDGET_RESERVE; i++) {
+            policy.tryHedge();
+        }
+        for (int i = 0; i < 3; i++) {
+            policy.onRequest();
+        }
+        assertThat(policy.tryHedge()).isFalse();
+        policy.onRequest();
+        assertThat(policy.tryHedge()).isTrue();
+        assertThat(policy.tryHedge()).isFalse();
+    }
+
+    @Test
+    void onRequest_withFullBudget_verifyBudgetDoesNotExceedReserve() {
+        PercentileHedgingPolicy policy = new PercentileHedgingPolicy(0.95, 100, 0.25);
+        for (int i = 0; i < 1000; i++) {
+            policy.onRequest();
+        }
+        for (int i = 0; i < BUDGET_RESERVE; i++) {
+            assertThat(policy.tryHedge()).isTrue();
+        }
+        assertThat(policy.tryHedge()).isFalse();
+    }
+
+    @Test
+    void getStatistics_verifyCounters() {
+        PercentileHedgingPolicy policy = new PercentileHedgingPolicy(0.95, 100, 0.1);
+        for (int i = 0; i < 4; i++) {
+            policy.onRequest();
+        }
+        policy.tryHedge();
+        policy.tryHedge();
+        policy.onResponse(FAMILY, Duration.ofMillis(20), true);
+        policy.onResponse(FAMILY, Duration.ofMillis(50), false);
+        HedgingStatistics statistics = policy.getStatistics();
+        assertThat(statistics.getRequestCount()).isEqualTo(4);
+        assertThat(statistics.getHedgeCount()).isEqualTo(2);
+        assertThat(statistics.getHedgeWinCount()).isEqualTo(1);
+        assertThat(statistics.getBudgetExhaustedCount()).isZero();
+        assertThat(statistics.getHedgeRatio()).isEqualTo(0.5);
+    }
+}
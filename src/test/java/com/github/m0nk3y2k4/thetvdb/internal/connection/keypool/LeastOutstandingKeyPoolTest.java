@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.keypool;
+
+import static com.github.m0nk3y2k4.thetvdb.internal.connection.keypool.LeastOutstandingKeyPool.MINIMUM_THROTTLE_PENALTY;
+import static com.github.m0nk3y2k4.thetvdb.internal.connection.keypool.LeastOutstandingKeyPool.UNAUTHORIZED_PENALTY;
+import static com.github.m0nk3y2k4.thetvdb.testutils.APITestUtil.CONTRACT_APIKEY;
+import static com.github.m0nk3y2k4.thetvdb.testutils.APITestUtil.INVALID_APIKEY;
+import static com.github.m0nk3y2k4.thetvdb.testutils.APITestUtil.SUBSCRIPTION_APIKEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import com.github.m0nk3y2k4.thetvdb.api.APIKey;
+import com.github.m0nk3y2k4.thetvdb.api.keypool.KeyStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class LeastOutstandingKeyPoolTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private final LeastOutstandingKeyPool pool =
+            new LeastOutstandingKeyPool(List.of(CONTRACT_APIKEY, SUBSCRIPTION_APIKEY), ticker::get);
+
+    private static Stream<Arguments> new_withInvalidParameters_verifyParameterValidation() {
+        return Stream.of(
+                Arguments.of((Collection<APIKey>)null),
+                Arguments.of(Collections.<APIKey>emptyList()),
+                Arguments.of(List.of(CONTRACT_APIKEY, INVALID_APIKEY)),
+                Arguments.of(List.of(CONTRACT_APIKEY, CONTRACT_APIKEY))
+        );
+    }
+
+    private void advance(Duration duration) {
+        ticker.addAndGet(duration.toNanos());
+    }
+
+    private KeyStatistics statistics(APIKey apiKey) {
+        return pool.getStatistics().stream().filter(stats -> stats.getApiKey().equals(apiKey)).findFirst()
+                .orElseThrow();
+    }
+
+    @ParameterizedTest(name = "[{index}] Key pool is not created with {0}")
+    @MethodSource
+    void new_withInvalidParameters_verifyParameterValidation(Collection<APIKey> apiKeys) {
+        assertThatIllegalArgumentException().isThrownBy(() -> new LeastOutstandingKeyPool(apiKeys));
+    }
+
+    @Test
+    void getApiKeys_verifyKeysAreReturnedInOrder() {
+        assertThat(pool.getApiKeys()).containsExactly(CONTRACT_APIKEY, SUBSCRIPTION_APIKEY);
+    }
+
+    @Test
+    void acquire_withEquallyLoadedKeys_verifyKeysAreSelectedInTurn() {
+        APIKey first = pool.acquire(Set.of()).orElseThrow();
+        pool.onSuccess(first);
+        APIKey second = pool.acquire(Set.of()).orElseThrow();
+        assertThat(second).isNotEqualTo(first);
+    }
+
+    @Test
+    void acquire_withOutstandingRequests_verifyLeastLoadedKeyIsSelected() {
+        APIKey busy = pool.acquire(Set.of()).orElseThrow();
+        for (int i = 0; i < 5; i++) {
+            APIKey selected = pool.acquire(Set.of()).orElseThrow();
+            assertThat(selected).isNotEqualTo(busy);
+            pool.onSuccess(selected);
+        }
+        assertThat(statistics(busy).getOutstandingCount()).isOne();
+    }
+
+    @Test
+    void acquire_withExcludedKeys_verifyExcludedKeysAreNotSelected() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(pool.acquire(Set.of(CONTRACT_APIKEY))).contains(SUBSCRIPTION_APIKEY);
+        }
+        assertThat(pool.acquire(Set.of(CONTRACT_APIKEY, SUBSCRIPTION_APIKEY))).isEmpty();
+    }
+
+    @Test
+    void onThrottled_verifyKeyIsAvoidedForRetryAfter() {
+        APIKey throttled = pool.acquire(Set.of()).orElseThrow();
+        pool.onThrottled(throttled, Duration.ofSeconds(10));
+        assertThat(statistics(throttled).isAvailable()).isFalse();
+
+        for (int i = 0; i < 4; i++) {
+            APIKey selected = pool.acquire(Set.of()).orElseThrow();
+            assertThat(selected).isNotEqualTo(throttled);
+            pool.onSuccess(selected);
+        }
+
+        advance(Duration.ofSeconds(10));
+        assertThat(statistics(throttled).isAvailable()).isTrue();
+    }
+
+    @Test
+    void onThrottled_withoutRetryAfter_verifyKeyIsAvoidedForMinimumPenalty() {
+        APIKey throttled = pool.acquire(Set.of()).orElseThrow();
+        pool.onThrottled(throttled, Duration.ZERO);
+        assertThat(statistics(throttled).isAvailable()).isFalse();
+        advance(MINIMUM_THROTTLE_PENALTY);
+        assertThat(statistics(throttled).isAvailable()).isTrue();
+    }
+
+    @Test
+    void onUnauthorized_verifyKeyIsAvoidedForPenalty() {
+        APIKey unauthorized = pool.acquire(Set.of()).orElseThrow();
+        pool.onUnauthorized(unauthorized);
+        advance(UNAUTHORIZED_PENALTY.minusSeconds(1));
+        assertThat(statistics(unauthorized).isAvailable()).isFalse();
+        assertThat(pool.acquire(Set.of())).isPresent().get().isNotEqualTo(unauthorized);
+        advance(Duration.ofSeconds(1));
+        assertThat(statistics(unauthorized).isAvailable()).isTrue();
+    }
+
+    @Test
+    void acquire_withAllKeysBlocked_verifyKeyAvailableFirstIsSelected() {
+        pool.onThrottled(pool.acquire(Set.of(SUBSCRIPTION_APIKEY)).orElseThrow(), Duration.ofSeconds(30));
+        pool.onThrottled(pool.acquire(Set.of(CONTRACT_APIKEY)).orElseThrow(), Duration.ofSeconds(10));
+        assertThat(pool.acquire(Set.of())).contains(SUBSCRIPTION_APIKEY);
+    }
+
+    @Test
+    void onSuccess_withThrottledKey_verifyKeyBecomesAvailable() {
+        pool.onThrottled(pool.acquire(Set.of(SUBSCRIPTION_APIKEY)).orElseThrow(), Duration.ofSeconds(30));
+        pool.onSuccess(pool.acquire(Set.of(SUBSCRIPTION_APIKEY)).orElseThrow());
+        assertThat(statistics(CONTRACT_APIKEY).isAvailable()).isTrue();
+    }
+
+    @Test
+    void onSuccess_withKeyNotAcquired_verifyParameterValidation() {
+        assertThatIllegalArgumentException().isThrownBy(() -> pool.onSuccess(CONTRACT_APIKEY));
+        assertThatIllegalArgumentException().isThrownBy(() -> pool.onFailure(INVALID_APIKEY));
+    }
+
+    @Test
+    void getStatistics_verifyCountersPerKey() {
+        pool.onSuccess(pool.acquire(Set.of(SUBSCRIPTION_APIKEY)).orElseThrow());
+        pool.onThrottled(pool.acquire(Set.of(SUBSCRIPTION_APIKEY)).orElseThrow(), Duration.ZERO);
+        pool.onUnauthorized(pool.acquire(Set.of(CONTRACT_APIKEY)).orElseThrow());
+        pool.onFailure(pool.acquire(Set.of(CONTRACT_APIKEY)).orElseThrow());
+        pool.acquire(Set.of(CONTRACT_APIKEY));
+
+        KeyStatistics contract = statistics(CONTRACT_APIKEY);
+        assertThat(contract.getRequestCount()).isEqualTo(2);
+        assertThat(contract.getOutstandingCount()).isZero();
+        assertThat(contract.getThrottledCount()).isOne();
+        assertThat(contract.getUnauthorizedCount()).isZero();
+        assertThat(contract.getFailureCount()).isZero();
+        assertThat(contract.isAvailable()).isFalse();
+
+        KeyStatistics subscription = statistics(SUBSCRIPTION_APIKEY);
+        assertThat(subscription.getRequestCount()).isEqualTo(3);
+        assertThat(subscription.getOutstandingCount()).isOne();
+        assertThat(subscription.getThrottledCount()).isZero();
+        assertThat(subscription.getUnauthorizedCount()).isOne();
+        assertThat(subscription.getFailureCount()).isOne();
+        assertThat(subscription.isAvailable()).isFalse();
+    }
+}
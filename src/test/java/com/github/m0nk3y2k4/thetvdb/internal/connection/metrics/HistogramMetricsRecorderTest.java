@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import com.github.m0nk3y2k4.thetvdb.api.metrics.RequestMetrics;
+import com.github.m0nk3y2k4.thetvdb.api.metrics.RouteStatistics;
+import com.github.m0nk3y2k4.thetvdb.internal.api.impl.RequestMetricsImpl;
+import org.junit.jupiter.api.Test;
+
+class HistogramMetricsRecorderTest {
+
+    private static RequestMetrics response(String method, String route, int status, Duration transferTime) {
+        return new RequestMetricsImpl.Builder().method(method).route(route).statusCode(status)
+                .timeToFirstByte(transferTime.dividedBy(2)).transferTime(transferTime)
+                .parseTime(Duration.ofMillis(1)).compressedBytes(100).decompressedBytes(400).build();
+    }
+
+    private static RequestMetrics failure(String method, String route) {
+        return new RequestMetricsImpl.Builder().method(method).route(route).transferTime(Duration.ofSeconds(1))
+                .parseTime(Duration.ZERO).compressedBytes(0).decompressedBytes(0).build();
+    }
+
+    @Test
+    void getStatistics_withoutRecordedMetrics_verifyNoStatistics() {
+        assertThat(new HistogramMetricsRecorder().getStatistics()).isEmpty();
+    }
+
+    @Test
+    void getStatistics_withRecordedMetrics_verifyStatisticsPerMethodAndRoute() {
+        HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+        recorder.record(response("GET", "/series/{id}", 200, Duration.ofMillis(100)));
+        recorder.record(response("GET", "/series/{id}", 404, Duration.ofMillis(300)));
+        recorder.record(failure("GET", "/series/{id}"));
+        recorder.record(response("POST", "/user/favorites", 200, Duration.ofMillis(50)));
+        recorder.record(response("GET", "/genres", 200, Duration.ofMillis(20)));
+
+        List<RouteStatistics> statistics = recorder.getStatistics();
+        assertThat(statistics).extracting(RouteStatistics::getRoute, RouteStatistics::getMethod)
+                .containsExactly(tuple("/genres", "GET"), tuple("/series/{id}", "GET"),
+                        tuple("/user/favorites", "POST"));
+
+        RouteStatistics series = statistics.get(1);
+        assertThat(series.getRequestCount()).isEqualTo(3);
+        assertThat(series.getStatusCounts()).isEqualTo(Map.of(200, 1L, 404, 1L));
+        assertThat(series.getFailureCount()).isEqualTo(1);
+        assertThat(series.getTimeToFirstByte().getCount()).isEqualTo(2);
+        assertThat(series.getTransferTime().getCount()).isEqualTo(3);
+        assertThat(series.getTransferTime().getMax()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(series.getParseTime().getCount()).isEqualTo(3);
+        assertThat(series.getCompressedBytes()).isEqualTo(200);
+        assertThat(series.getDecompressedBytes()).isEqualTo(800);
+        assertThat(series.getCompressionRatio()).isEqualTo(0.25);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.metrics;
+
+import static com.github.m0nk3y2k4.thetvdb.internal.connection.metrics.LatencyHistogram.MAX_VALUE;
+import static com.github.m0nk3y2k4.thetvdb.internal.connection.metrics.LatencyHistogram.SUB_BUCKETS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+
+import com.github.m0nk3y2k4.thetvdb.api.metrics.LatencySnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucketOf_withSmallValues_verifyValuesAreRecordedExactly() {
+        for (long value = 0; value < 2 * SUB_BUCKETS; value++) {
+            assertThat(LatencyHistogram.valueOf(LatencyHistogram.bucketOf(value))).isEqualTo(value);
+        }
+    }
+
+    @ParameterizedTest(name = "[{index}] Value {0} is restored with a relative error of less than two percent")
+    @ValueSource(longs = {65, 127, 1000, 4711, 999_999, 1_234_567_890, 60_000_000_000L, MAX_VALUE})
+    void valueOf_withLargeValues_verifyRelativeErrorIsBounded(long value) {
+        int bucket = LatencyHistogram.bucketOf(value);
+        assertThat(LatencyHistogram.valueOf(bucket)).isCloseTo(value, within(value / 50));
+        assertThat(LatencyHistogram.bucketOf(LatencyHistogram.valueOf(bucket))).isEqualTo(bucket);
+    }
+
+    @Test
+    void snapshot_withoutRecordedLatencies_verifyAllValuesAreZero() {
+        LatencySnapshot snapshot = new LatencyHistogram().snapshot();
+        assertThat(snapshot.getCount()).isZero();
+        assertThat(snapshot.getMean()).isZero();
+        assertThat(snapshot.getMax()).isZero();
+        assertThat(snapshot.getP50()).isZero();
+        assertThat(snapshot.getP999()).isZero();
+    }
+
+    @Test
+    void snapshot_withRecordedLatencies_verifyPercentilesAreEstimated() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 1000; millis++) {
+            histogram.record(Duration.ofMillis(millis).toNanos());
+        }
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount()).isEqualTo(1000);
+        assertThat(snapshot.getMean().toNanos()).isCloseTo(Duration.ofNanos(500_500_000).toNanos(), within(1L));
+        assertThat(snapshot.getMax()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(snapshot.getP50().toNanos()).isCloseTo(Duration.ofMillis(500).toNanos(), within(10_000_000L));
+        assertThat(snapshot.getP90().toNanos()).isCloseTo(Duration.ofMillis(900).toNanos(), within(18_000_000L));
+        assertThat(snapshot.getP99().toNanos()).isCloseTo(Duration.ofMillis(990).toNanos(), within(20_000_000L));
+        assertThat(snapshot.getP999()).isLessThanOrEqualTo(snapshot.getMax());
+    }
+
+    @Test
+    void record_withOutOfRangeLatencies_verifyLatenciesAreLimited() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount()).isEqualTo(2);
+        assertThat(snapshot.getMax()).isEqualTo(Duration.ofNanos(MAX_VALUE));
+        assertThat(snapshot.getP50()).isZero();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private TokenBucketRateLimiter limiter(double permitsPerSecond, int burst) {
+        return new TokenBucketRateLimiter(permitsPerSecond, burst, ticker::get);
+    }
+
+    private void advance(Duration duration) {
+        ticker.addAndGet(duration.toNanos());
+    }
+
+    @ParameterizedTest(name = "[{index}] Rate limiter is not created with {0} permits per second")
+    @ValueSource(doubles = {0, -1, Double.NaN, Double.POSITIVE_INFINITY})
+    void new_withInvalidRate_verifyParameterValidation(double permitsPerSecond) {
+        assertThatIllegalArgumentException().isThrownBy(() -> limiter(permitsPerSecond, 1));
+    }
+
+    @ParameterizedTest(name = "[{index}] Rate limiter is not created with burst size {0}")
+    @ValueSource(ints = {0, -1})
+    void new_withInvalidBurst_verifyParameterValidation(int burst) {
+        assertThatIllegalArgumentException().isThrownBy(() -> limiter(10, burst));
+    }
+
+    @Test
+    void new_verifyConfiguredRate() {
+        assertThat(limiter(10, 1).getRate()).isEqualTo(10);
+    }
+
+    @Test
+    void reserve_withFullBucket_verifyBurstIsNotDelayed() {
+        TokenBucketRateLimiter limiter = limiter(10, 3);
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+    }
+
+    @Test
+    void reserve_withEmptyBucket_verifyPermitsAreIssuedAtConfiguredRate() {
+        TokenBucketRateLimiter limiter = limiter(10, 1);
+        limiter.reserve();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(Duration.ofMillis(100));
+        assertThat(limiter.reserve()).isEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    void reserve_afterIdlePeriod_verifyBucketIsRefilledUpToBurstSize() {
+        TokenBucketRateLimiter limiter = limiter(10, 2);
+        limiter.reserve();
+        limiter.reserve();
+        advance(Duration.ofSeconds(10));
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void tryReserve_withPermitAvailableInTime_verifyPermitIsReserved() {
+        TokenBucketRateLimiter limiter = limiter(10, 1);
+        limiter.reserve();
+        limiter.reserve();
+        assertThat(limiter.tryReserve(Duration.ofMillis(150))).contains(Duration.ofMillis(100));
+        assertThat(limiter.reserve()).isEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    void tryReserve_withPermitNotAvailableInTime_verifyNoPermitIsReserved() {
+        TokenBucketRateLimiter limiter = limiter(10, 1);
+        limiter.reserve();
+        limiter.reserve();
+        assertThat(limiter.tryReserve(Duration.ofMillis(100))).isEmpty();
+        assertThat(limiter.tryReserve(Duration.ofMillis(50))).isEmpty();
+        assertThat(limiter.reserve()).isEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void onThrottled_verifyRateIsDecreased() {
+        TokenBucketRateLimiter limiter = limiter(10, 1);
+        limiter.onThrottled(Duration.ZERO);
+        assertThat(limiter.getRate()).isEqualTo(5);
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    void onThrottled_withinDecreaseInterval_verifyRateIsDecreasedOnlyOnce() {
+        TokenBucketRateLimiter limiter = limiter(10, 1);
+        limiter.onThrottled(Duration.ZERO);
+        limiter.onThrottled(Duration.ZERO);
+        assertThat(limiter.getRate()).isEqualTo(5);
+        advance(Duration.ofSeconds(1));
+        limiter.onThrottled(Duration.ZERO);
+        assertThat(limiter.getRate()).isEqualTo(2.5);
+    }
+
+    @Test
+    void onThrottled_repeatedly_verifyRateIsNotDecreasedBelowMinimum() {
+        TokenBucketRateLimiter limiter = limiter(10, 1);
+        for (int i = 0; i < 20; i++) {
+            limiter.onThrottled(Duration.ZERO);
+            advance(Duration.ofSeconds(1));
+        }
+        assertThat(limiter.getRate()).isCloseTo(0.1, within(1e-9));
+    }
+
+    @Test
+    void onThrottled_withRetryAfter_verifyPermitsAreWithheld() {
+        TokenBucketRateLimiter limiter = limiter(10, 5);
+        limiter.onThrottled(Duration.ofSeconds(3));
+        assertThat(limiter.reserve()).isEqualTo(Duration.ofSeconds(3));
+        assertThat(limiter.reserve()).isEqualTo(Duration.ofMillis(3200));
+    }
+
+    @Test
+    void onThrottled_withNegativeRetryAfter_verifyRetryAfterIsIgnored() {
+        TokenBucketRateLimiter limiter = limiter(10, 5);
+        limiter.onThrottled(Duration.ofSeconds(-3));
+        assertThat(limiter.reserve()).isZero();
+    }
+
+    @Test
+    void onSuccess_afterThrottling_verifyRateRecoversUpToConfiguredRate() {
+        TokenBucketRateLimiter limiter = limiter(10, 1);
+        limiter.onThrottled(Duration.ZERO);
+        limiter.onSuccess();
+        assertThat(limiter.getRate()).isCloseTo(5.1, within(1e-9));
+        for (int i = 0; i < 100; i++) {
+            limiter.onSuccess();
+        }
+        assertThat(limiter.getRate()).isEqualTo(10);
+    }
+}
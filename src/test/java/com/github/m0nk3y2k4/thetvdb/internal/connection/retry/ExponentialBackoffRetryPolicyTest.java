@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.retry;
+
+import static com.github.m0nk3y2k4.thetvdb.internal.connection.retry.ExponentialBackoffRetryPolicy.BUDGET_RESERVE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
+import com.github.m0nk3y2k4.thetvdb.api.retry.RetryStatistics;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APICommunicationException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APINotAuthorizedException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APIThrottledException;
+import com.github.m0nk3y2k4.thetvdb.internal.exception.APITimeoutException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ExponentialBackoffRetryPolicyTest {
+
+    private static final Duration BASE_DELAY = Duration.ofMillis(100);
+    private static final Duration MAX_DELAY = Duration.ofSeconds(1);
+    private static final APIException TRANSIENT_ERROR = new APICommunicationException("Connection reset",
+            new SocketException("Connection reset"));
+
+    private static Stream<Arguments> new_withInvalidParameters_verifyParameterValidation() {
+        return Stream.of(
+                Arguments.of(-1, BASE_DELAY, MAX_DELAY, 0.1),
+                Arguments.of(3, null, MAX_DELAY, 0.1),
+                Arguments.of(3, BASE_DELAY, null, 0.1),
+                Arguments.of(3, Duration.ZERO, MAX_DELAY, 0.1),
+                Arguments.of(3, BASE_DELAY.negated(), MAX_DELAY, 0.1),
+                Arguments.of(3, MAX_DELAY, BASE_DELAY, 0.1),
+                Arguments.of(3, BASE_DELAY, MAX_DELAY, -0.1),
+                Arguments.of(3, BASE_DELAY, MAX_DELAY, 1.1)
+        );
+    }
+
+    private static Stream<Arguments> nextRetry_withPermanentError_verifyRequestIsNotRetried() {
+        return Stream.of(
+                Arguments.of(new APIException("Resource not found")),
+                Arguments.of(new APINotAuthorizedException("Missing authorization")),
+                Arguments.of(new APICommunicationException("Bad request", 400)),
+                Arguments.of(new APICommunicationException("Forbidden", 403)),
+                Arguments.of(new APICommunicationException("Unprocessable entity", 422)),
+                Arguments.of(new APICommunicationException("Parsing failed", new JsonParseException(null, "Invalid"))),
+                Arguments.of(new APICommunicationException("Interrupted", new InterruptedException())),
+                Arguments.of(new APITimeoutException("Deadline exceeded"))
+        );
+    }
+
+    private static ExponentialBackoffRetryPolicy policy(int maxRetries, double jitter) {
+        return new ExponentialBackoffRetryPolicy(maxRetries, BASE_DELAY, MAX_DELAY, 0.1, () -> jitter);
+    }
+
+    @ParameterizedTest(name = "[{index}] Retry policy is not created with ({0}, {1}, {2}, {3})")
+    @MethodSource
+    void new_withInvalidParameters_verifyParameterValidation(int maxRetries, Duration baseDelay, Duration maxDelay,
+            double budgetRatio) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ExponentialBackoffRetryPolicy(maxRetries, baseDelay, maxDelay, budgetRatio));
+    }
+
+    @ParameterizedTest(name = "[{index}] Error \"{0}\" is not retried")
+    @MethodSource
+    void nextRetry_withPermanentError_verifyRequestIsNotRetried(APIException error) {
+        assertThat(policy(3, 0.5).nextRetry(0, error)).isEmpty();
+    }
+
+    @Test
+    void nextRetry_withTransientError_verifyDelayGrowsExponentially() {
+        ExponentialBackoffRetryPolicy policy = policy(5, 0.5);
+        assertThat(policy.nextRetry(0, TRANSIENT_ERROR)).contains(Duration.ofMillis(50));
+        assertThat(policy.nextRetry(1, TRANSIENT_ERROR)).contains(Duration.ofMillis(100));
+        assertThat(policy.nextRetry(2, TRANSIENT_ERROR)).contains(Duration.ofMillis(200));
+        assertThat(policy.nextRetry(3, TRANSIENT_ERROR)).contains(Duration.ofMillis(400));
+        assertThat(policy.nextRetry(4, TRANSIENT_ERROR)).contains(Duration.ofMillis(500));
+    }
+
+    @Test
+    void nextRetry_withTransportTimeout_verifyRequestIsRetried() {
+        APIException timeout = new APITimeoutException("Read timed out", new SocketTimeoutException());
+        assertThat(policy(3, 0.5).nextRetry(0, timeout)).contains(Duration.ofMillis(50));
+    }
+
+    @Test
+    void nextRetry_withServerError_verifyRequestIsRetried() {
+        APIException serverError = new APICommunicationException("Bad gateway", 502);
+        assertThat(policy(3, 0.5).nextRetry(0, serverError)).contains(Duration.ofMillis(50));
+    }
+
+    @Test
+    void nextRetry_withManyRetries_verifyDelayDoesNotOverflow() {
+        assertThat(policy(Integer.MAX_VALUE, 0.999).nextRetry(Integer.MAX_VALUE - 1, TRANSIENT_ERROR))
+                .hasValueSatisfying(delay -> assertThat(delay).isPositive().isLessThan(MAX_DELAY));
+    }
+
+    @Test
+    void nextRetry_withMaximumRetriesReached_verifyRequestIsNotRetried() {
+        ExponentialBackoffRetryPolicy policy = policy(2, 0.5);
+        assertThat(policy.nextRetry(1, TRANSIENT_ERROR)).isPresent();
+        assertThat(policy.nextRetry(2, TRANSIENT_ERROR)).isEmpty();
+    }
+
+    @Test
+    void nextRetry_withRetryAfter_verifyRequestedDelayIsHonored() {
+        ExponentialBackoffRetryPolicy policy = policy(3, 0.5);
+        assertThat(policy.nextRetry(0, new APIThrottledException("Throttled", Duration.ofMillis(800))))
+                .contains(Duration.ofMillis(800));
+        assertThat(policy.nextRetry(0, new APIThrottledException("Throttled", Duration.ofMillis(10))))
+                .contains(Duration.ofMillis(50));
+        assertThat(policy.nextRetry(0, new APIThrottledException("Throttled", null)))
+                .contains(Duration.ofMillis(50));
+    }
+
+    @Test
+    void nextRetry_withRetryAfterExceedingMaximumDelay_verifyRequestIsNotRetried() {
+        assertThat(policy(3, 0.5).nextRetry(0, new APIThrottledException("Throttled", Duration.ofMinutes(5))))
+                .isEmpty();
+    }
+
+    @Test
+    void nextRetry_withExhaustedBudget_verifyRequestIsNotRetried() {
+        ExponentialBackoffRetryPolicy policy = policy(3, 0.5);
+        for (int i = 0; i < BUDGET_RESERVE; i++) {
+            assertThat(policy.nextRetry(0, TRANSIENT_ERROR)).isPresent();
+        }
+        assertThat(policy.nextRetry(0, TRANSIENT_ERROR)).isEmpty();
+        assertThat(policy.getStatistics().getBudgetExhaustedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void onRequest_withExhaustedBudget_verifyBudgetIsReplenishedByBudgetRatio() {
+        ExponentialBackoffRetryPolicy policy = policy(3, 0.5);
+        for (int i = 0; i < BUDGET_RESERVE; i++) {
+            policy.nextRetry(0, TRANSIENT_ERROR);
+        }
+        for (int i = 0; i < 9; i++) {
+            policy.onRequest();
+        }
+        assertThat(policy.nextRetry(0, TRANSIENT_ERROR)).isEmpty();
+        policy.onRequest();
+        policy.onRequest();
+        assertThat(policy.nextRetry(0, TRANSIENT_ERROR)).isPresent();
+        assertThat(policy.nextRetry(0, TRANSIENT_ERROR)).isEmpty();
+    }
+
+    @Test
+    void onRequest_withFullBudget_verifyBudgetDoesNotExceedReserve() {
+        ExponentialBackoffRetryPolicy policy = policy(3, 0.5);
+        for (int i = 0; i < 1000; i++) {
+            policy.onRequest();
+        }
+        for (int i = 0; i < BUDGET_RESERVE; i++) {
+            assertThat(policy.nextRetry(0, TRANSIENT_ERROR)).isPresent();
+        }
+        assertThat(policy.nextRetry(0, TRANSIENT_ERROR)).isEmpty();
+    }
+
+    @Test
+    void getStatistics_verifyCounters() {
+        ExponentialBackoffRetryPolicy policy = policy(3, 0.5);
+        for (int i = 0; i < 4; i++) {
+            policy.onRequest();
+        }
+        policy.nextRetry(0, TRANSIENT_ERROR);
+        policy.nextRetry(0, new APIException("Resource not found"));
+        RetryStatistics statistics = policy.getStatistics();
+        assertThat(statistics.getRequestCount()).isEqualTo(4);
+        assertThat(statistics.getRetryCount()).isEqualTo(1);
+        assertThat(statistics.getBudgetExhaustedCount()).isZero();
+        assertThat(statistics.getRetryRatio()).isEqualTo(0.25);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.internal.connection.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileTokenStoreTest {
+
+    private static final String ID = "0123456789abcdef";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void newFileTokenStore_withInvalidParameters_verifyParameterValidation() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new FileTokenStore(null));
+    }
+
+    @Test
+    void newFileTokenStore_withMissingDirectory_verifyDirectoryIsCreated() {
+        Path missing = directory.resolve("tokens");
+        new FileTokenStore(missing);
+        assertThat(missing).isEmptyDirectory();
+    }
+
+    @Test
+    void load_withoutSavedToken_verifyNoTokenIsReturned() {
+        assertThat(new FileTokenStore(directory).load(ID)).isEmpty();
+    }
+
+    @Test
+    void load_withSavedToken_verifyLatestTokenIsReturned() {
+        FileTokenStore store = new FileTokenStore(directory);
+        store.save(ID, "Header.Payload.Signature1");
+        store.save(ID, "Header.Payload.Signature2");
+        assertThat(store.load(ID)).contains("Header.Payload.Signature2");
+        assertThat(store.load("fedcba9876543210")).isEmpty();
+    }
+
+    @Test
+    void load_withTokenSavedByOtherStore_verifyTokenIsReturned() {
+        new FileTokenStore(directory).save(ID, "Header.Payload.Signature");
+        assertThat(new FileTokenStore(directory).load(ID)).contains("Header.Payload.Signature");
+    }
+
+    @Test
+    void save_verifyNoTemporaryFilesAreLeft() throws Exception {
+        new FileTokenStore(directory).save(ID, "Header.Payload.Signature");
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).extracting(file -> file.getFileName().toString()).containsExactly(ID + ".jwt");
+        }
+    }
+
+    @Test
+    void lock_withNestedLocks_verifyLockIsReentrant() throws Exception {
+        FileTokenStore store = new FileTokenStore(directory);
+        store.lock(ID);
+        store.lock(ID);
+        store.unlock(ID);
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() -> {
+            store.lock(ID);
+            store.unlock(ID);
+        });
+        Thread.sleep(200);
+        assertThat(other).isNotDone();      // Still locked by the outer lock
+        store.unlock(ID);
+        other.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void lock_withLockHeldByOtherStore_verifyLockIsAwaited() throws Exception {
+        FileTokenStore store = new FileTokenStore(directory);
+        store.lock(ID);
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() -> {
+            FileTokenStore otherStore = new FileTokenStore(directory);
+            otherStore.lock(ID);
+            otherStore.unlock(ID);
+        });
+        Thread.sleep(200);
+        assertThat(other).isNotDone();
+        store.unlock(ID);
+        other.get(5, TimeUnit.SECONDS);
+        assertThat(directory.resolve(ID + ".lock")).exists();
+    }
+
+    @Test
+    void unlock_withoutLock_verifyExceptionIsThrown() {
+        FileTokenStore store = new FileTokenStore(directory);
+        assertThatThrownBy(() -> store.unlock(ID)).isInstanceOf(IllegalMonitorStateException.class);
+    }
+}
@@ -43,6 +43,15 @@ class APICommunicationExceptionTest {
         final Exception cause = new Exception();
         APICommunicationException exception = new APICommunicationException(message, cause);
         assertThat(exception).hasMessage(message).hasCause(cause);
+        assertThat(exception.getStatusCode()).isEmpty();
+    }
+
+    @Test
+    void newAPICommunicationException_withStatusCode_verifyProperties() {
+        final String message = "Unexpected status code";
+        APICommunicationException exception = new APICommunicationException(message, 502);
+        assertThat(exception).hasMessage(message);
+        assertThat(exception.getStatusCode()).hasValue(502);
     }
 
     @Test
@@ -69,6 +69,18 @@ class LoginAPITest {
         assertThat(con.getSessionStatus()).isEqualTo(Status.AUTHORIZED);
     }
 
+    @Test
+    void refresh_verifyTokenRenewed(MockServerClient client) throws Exception {
+        final String token = "Expiring.JSONWeb.Token";
+        Connection con = new Connection(CONTRACT_APIKEY);
+        con.setToken(token);
+        LoginAPI.refresh(con);
+        client.verify(request("/login").withMethod(POST.getName())
+                .withBody(jsonSchemaFromResource("login_apiKey.json")), VerificationTimes.once());
+        assertThat(con.getToken()).isPresent().get().isNotEqualTo(token);
+        assertThat(con.getSessionStatus()).isEqualTo(Status.AUTHORIZED);
+    }
+
     @Test
     void login_withInvalidApiKey_exceptionThrown() {
         APIConnection con = new ConnectionWithInvalidApiKey();
@@ -18,14 +18,33 @@ package com.github.m0nk3y2k4.thetvdb.internal.util.json;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.m0nk3y2k4.thetvdb.api.exception.APIException;
 import com.github.m0nk3y2k4.thetvdb.api.model.APIResponse;
+import com.github.m0nk3y2k4.thetvdb.api.model.data.Artwork;
 import com.github.m0nk3y2k4.thetvdb.testutils.ResponseData;
 import com.github.m0nk3y2k4.thetvdb.testutils.json.Data;
 import com.github.m0nk3y2k4.thetvdb.testutils.parameterized.ResponseDataSource;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 
 class APIJsonMapperTest {
@@ -56,4 +75,80 @@ class APIJsonMapperTest {
     <T> void readValue_fromResource_verifyJsonIsParsedProperly(ResponseData<APIResponse<T>> resource) throws Exception {
         assertThat(APIJsonMapper.readValue(resource.getJson(), resource.getType())).isEqualTo(resource.getDTO());
     }
+
+    @ParameterizedTest(name = "[{index}] {0} is deserialized properly by concurrent threads")
+    @ResponseDataSource(names = {"ARTWORK", "SERIES_DETAILS"})
+    <T> void readValue_concurrently_verifySharedReaderIsThreadSafe(ResponseData<APIResponse<T>> resource)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<APIResponse<T>>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(() -> APIJsonMapper.readValue(resource.getJson(), resource.getType())));
+            }
+            for (Future<APIResponse<T>> result : results) {
+                assertThat(result.get()).isEqualTo(resource.getDTO());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void prepareReaders_withInvalidTypes_verifyParameterValidation() {
+        assertThatIllegalArgumentException().isThrownBy(() -> APIJsonMapper.prepareReaders(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> APIJsonMapper.prepareReaders(List.of(String.class)));
+        assertThatIllegalArgumentException().isThrownBy(() -> APIJsonMapper.prepareReaders(
+                List.of(new TypeReference<List<String>>() {}.getType())));
+    }
+
+    @ParameterizedTest(name = "[{index}] {0} is deserialized properly by prepared reader")
+    @ResponseDataSource(names = {"ARTWORK", "SERIES_DETAILS"})
+    <T> void readValue_withPreparedReader_verifyJsonIsParsedProperly(ResponseData<APIResponse<T>> resource)
+            throws Exception {
+        APIJsonMapper.prepareReaders(List.of(resource.getType().getType()));
+        assertThat(APIJsonMapper.readValue(resource.getJson(), resource.getType())).isEqualTo(resource.getDTO());
+    }
+
+    @Test
+    void readValue_fromParserWithInvalidJSON_throwsAPIException() {
+        assertThatExceptionOfType(APIException.class).isThrownBy(() ->
+                APIJsonMapper.readValue(new JsonFactory().createParser(
+                                "{\"data\": {\"id\": \"NaN\"}, \"status\": \"success\"}"),
+                        ResponseData.ARTWORK.getType()));
+    }
+
+    @ParameterizedTest(name = "[{index}] {0} is streamed properly")
+    @ResponseDataSource
+    <T> void readValue_fromParser_verifyJsonIsStreamedProperly(ResponseData<APIResponse<T>> resource)
+            throws Exception {
+        try (JsonParser parser = new JsonFactory().createParser(resource.getJson().toString())) {
+            assertThat(APIJsonMapper.readValue(parser, resource.getType())).isEqualTo(resource.getDTO());
+        }
+    }
+
+    @Test
+    void readValue_withFlightRecording_verifyDeserializationEventsAreRecorded(@TempDir Path directory)
+            throws Exception {
+        final ResponseData<APIResponse<Artwork>> resource = ResponseData.ARTWORK;
+        final byte[] json = resource.getJson().toString().getBytes(UTF_8);
+        Path dump = directory.resolve("deserialization.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.github.m0nk3y2k4.thetvdb.Deserialization").withoutThreshold();
+            recording.start();
+            try (JsonParser parser = new JsonFactory().createParser(json)) {
+                APIJsonMapper.readValue(parser, resource.getType());
+            }
+            assertThatExceptionOfType(APIException.class).isThrownBy(() -> APIJsonMapper.readValue(
+                    new JsonFactory().createParser("{\"data\": {\"id\": \"NaN\"}}".getBytes(UTF_8)),
+                    ResponseData.ARTWORK.getType()));
+            recording.stop();
+            recording.dump(dump);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        assertThat(events).extracting(event -> event.getString("outcome")).containsExactly("success", "failure");
+        assertThat(events).extracting(event -> event.getString("responseType"))
+                .containsOnly(resource.getType().getType().getTypeName());
+        assertThat(events.get(0).getLong("bytes")).isEqualTo(json.length);
+    }
 }
@@ -31,6 +31,7 @@ import com.github.m0nk3y2k4.thetvdb.api.model.APIResponse.Links;
 import com.github.m0nk3y2k4.thetvdb.testutils.ResponseData;
 import com.github.m0nk3y2k4.thetvdb.testutils.json.Data;
 import com.github.m0nk3y2k4.thetvdb.testutils.parameterized.ResponseDataSource;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -60,6 +61,12 @@ class APIResponseDeserializerTest {
             "\"status\": \"success\"," +
             "\"links\": null";
 
+    private static final String ADDITIONAL_PROPERTIES =
+            "\"meta\": {\"data\": [1, 2, {\"status\": null}]}," +
+            "\"data\": {\"content\": \"Some content\"}," +
+            "\"total\": 1," +
+            "\"status\": \"success\"";
+
     private static final String EMPTY_LINKS_PROPERTY =
             "\"data\": {\"content\": \"Some content\"}," +
                     "\"status\": \"success\"," +
@@ -67,7 +74,7 @@ class APIResponseDeserializerTest {
     //@EnableFormatting
 
     private final APIResponseDeserializer<Data, IOException> functionalDeserializer =
-            new APIResponseDeserializer<>(dataNode -> new ObjectMapper().readValue(dataNode.toString(), Data.class));
+            new APIResponseDeserializer<>(dataParser -> new ObjectMapper().readValue(dataParser, Data.class));
 
     @ParameterizedTest(name = "[{index}] Parsing JSON [{0}] throws IllegalArgumentException")
     @ValueSource(strings = {MISSING_DATA_PROPERTY, MISSING_STATUS_PROPERTY})
@@ -96,6 +103,22 @@ class APIResponseDeserializerTest {
                 .containsOnly(Optional.empty());
     }
 
+    @Test
+    void deserialize_withAdditionalProperties_verifyAdditionalPropertiesAreSkipped() throws Exception {
+        JsonParser jsonParser = new JsonFactory().createParser("{" + ADDITIONAL_PROPERTIES + "}");
+        APIResponse<Data> result = functionalDeserializer.deserialize(jsonParser, null);
+
+        assertThat(result.getData()).isEqualTo(Data.with("Some content"));
+        assertThat(result.getStatus()).isEqualTo("success");
+    }
+
+    @Test
+    void deserialize_withNonObjectJSON_throwsIllegalArgumentException() throws Exception {
+        JsonParser jsonParser = new JsonFactory().createParser("[{" + MISSING_LINKS_PROPERTY + "}]");
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                functionalDeserializer.deserialize(jsonParser, null));
+    }
+
     @ParameterizedTest(name = "[{index}] {0} is deserialized properly")
     @ResponseDataSource(names = "DATA")
     <T> void deserialize_withFullJSON_verifyJsonIsParsedProperly(ResponseData<T> response) throws Exception {
@@ -18,7 +18,10 @@ package com.github.m0nk3y2k4.thetvdb.testutils;
 
 import static com.github.m0nk3y2k4.thetvdb.api.enumeration.FundingModel.CONTRACT;
 import static com.github.m0nk3y2k4.thetvdb.api.enumeration.FundingModel.SUBSCRIPTION;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Optional;
 
 import com.github.m0nk3y2k4.thetvdb.TheTVDBApiFactory;
@@ -102,6 +105,20 @@ public final class APITestUtil {
         return TheTVDBApiFactory.createFavoriteRecordBuilder().series(seriesId).build();
     }
 
+    /**
+     * Creates a new JSON Web Token whose payload states the given expiration time via its <em>{@code exp}</em> claim.
+     * The token is not signed.
+     *
+     * @param expiration The point in time at which the token expires
+     *
+     * @return New JWT token expiring at the given point in time
+     */
+    public static String jwt(Instant expiration) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"none\"}".getBytes(UTF_8)) + "."
+                + encoder.encodeToString(("{\"exp\":" + expiration.getEpochSecond() + "}").getBytes(UTF_8)) + ".";
+    }
+
     /**
      * Basic APIKey implementation without parameter validation
      */
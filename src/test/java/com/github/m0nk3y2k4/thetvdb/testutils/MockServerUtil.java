@@ -190,6 +190,17 @@ public final class MockServerUtil {
         return createResponse(OK_200, JSON_JWT);
     }
 
+    /**
+     * Creates a simple HTTP-200 <i>"OK"</i> response. The response body contains the given token.
+     *
+     * @param token The token to be issued by the response
+     *
+     * @return New preconfigured HTTP response with an HTTP-200 status
+     */
+    public static HttpResponse createJWTResponse(String token) {
+        return createResponse(OK_200, "{\"token\":\"" + token + "\"}");
+    }
+
     /**
      * Creates a simple HTTP-401 <i>"Unauthorized"</i> response. The response body contains some dummy JSON
      * authorization failure message.
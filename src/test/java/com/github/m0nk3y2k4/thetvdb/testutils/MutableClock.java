@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2019 - 2022 thetvdb-java-api Authors and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.m0nk3y2k4.thetvdb.testutils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Clock which does not tick by itself but has to be advanced manually
+ * <p><br>
+ * This clock allows testing time-dependent behavior like the expiration of cache entries without actually having to
+ * wait. It always starts at a fixed point in time and is using the UTC time zone.
+ */
+public final class MutableClock extends Clock {
+
+    /** The current time of this clock */
+    private Instant now = Instant.parse("2022-01-01T00:00:00Z");
+
+    /**
+     * Advances this clock by the given duration
+     *
+     * @param duration The duration by which the clock should be advanced
+     */
+    public void advance(@Nonnull Duration duration) {
+        now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+        return now;
+    }
+}
@@ -29,6 +29,7 @@ import static com.github.m0nk3y2k4.thetvdb.testutils.junit.jupiter.WithHttpsMock
 import static org.mockserver.model.HttpRequest.request;
 
 import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
 
 import com.github.m0nk3y2k4.thetvdb.api.Proxy;
 import com.github.m0nk3y2k4.thetvdb.internal.connection.RemoteAPI;
@@ -94,8 +95,10 @@ class HttpsMockServerExtension implements ParameterResolver, BeforeAllCallback,
         // Set some HTTPS related stuff
         client.withSecure(true);
         // Ensure all connection using HTTPS will use the SSL context defined by MockServer to allow dynamically generated certificates to be accepted
-        HttpsURLConnection.setDefaultSSLSocketFactory(new KeyStoreFactory(new MockServerLogger()).sslContext()
-                .getSocketFactory());
+        SSLContext sslContext = new KeyStoreFactory(new MockServerLogger()).sslContext();
+        HttpsURLConnection.setDefaultSSLSocketFactory(sslContext.getSocketFactory());
+        // Same for HTTP clients, which will use the default SSL context unless being configured otherwise
+        SSLContext.setDefault(sslContext);
 
         // Simulate the default behavior of the real TheTVDB.com RESTful API: all routes except for /login require authentication
         client.upsert(new Expectation(request("/login").withMethod(POST.getName())